@@ -53,6 +53,7 @@ public final class AlternateConstructorInvocationImpl extends ModelRoot implemen
      *     {@code typeArguments}に{@code null}が指定された場合
      */
     public void setTypeArguments(List<? extends Type> typeArguments) {
+        checkModifiable();
         Util.notNull(typeArguments, "typeArguments"); //$NON-NLS-1$
         Util.notContainNull(typeArguments, "typeArguments"); //$NON-NLS-1$
         this.typeArguments = Util.freeze(typeArguments);
@@ -72,11 +73,32 @@ public final class AlternateConstructorInvocationImpl extends ModelRoot implemen
      *     {@code arguments}に{@code null}が指定された場合
      */
     public void setArguments(List<? extends Expression> arguments) {
+        checkModifiable();
         Util.notNull(arguments, "arguments"); //$NON-NLS-1$
         Util.notContainNull(arguments, "arguments"); //$NON-NLS-1$
         this.arguments = Util.freeze(arguments);
     }
 
+    /**
+     * 引数を検査せずにこの要素を生成する。
+     * <p>
+     * 引数の妥当性は呼び出し側が保証しなければならない。
+     * </p>
+     * @param typeArguments
+     *     型引数の一覧
+     * @param arguments
+     *     実引数の一覧
+     * @return 生成した要素
+     */
+    static AlternateConstructorInvocationImpl newUnchecked(
+            List<? extends Type> typeArguments,
+            List<? extends Expression> arguments) {
+        AlternateConstructorInvocationImpl result = new AlternateConstructorInvocationImpl();
+        result.typeArguments = Util.freeze(typeArguments);
+        result.arguments = Util.freeze(arguments);
+        return result;
+    }
+
     /**
      * この要素の種類を表す{@link ModelKind#ALTERNATE_CONSTRUCTOR_INVOCATION}を返す。
      * @return {@link ModelKind#ALTERNATE_CONSTRUCTOR_INVOCATION}
@@ -92,4 +114,29 @@ public final class AlternateConstructorInvocationImpl extends ModelRoot implemen
         Util.notNull(visitor, "visitor"); //$NON-NLS-1$
         return visitor.visitAlternateConstructorInvocation(this, context);
     }
+
+    @Override
+    public AlternateConstructorInvocation withTypeArguments(List<? extends Type> typeArguments) {
+        AlternateConstructorInvocationImpl result = copy();
+        result.setTypeArguments(typeArguments);
+        return result;
+    }
+
+    @Override
+    public AlternateConstructorInvocation withArguments(List<? extends Expression> arguments) {
+        AlternateConstructorInvocationImpl result = copy();
+        result.setArguments(arguments);
+        return result;
+    }
+
+    /**
+     * このオブジェクトのプロパティを共有する新しいオブジェクトを返す。
+     * @return 生成したオブジェクト
+     */
+    private AlternateConstructorInvocationImpl copy() {
+        AlternateConstructorInvocationImpl result = new AlternateConstructorInvocationImpl();
+        result.typeArguments = this.typeArguments;
+        result.arguments = this.arguments;
+        return result;
+    }
 }
@@ -64,6 +64,7 @@ public final class AnnotationDeclarationImpl extends ModelRoot implements Annota
      *     ただしドキュメンテーションコメントが存在しない場合は{@code null}
      */
     public void setJavadoc(Javadoc javadoc) {
+        checkModifiable();
         this.javadoc = javadoc;
     }
 
@@ -81,6 +82,7 @@ public final class AnnotationDeclarationImpl extends ModelRoot implements Annota
      *     {@code modifiers}に{@code null}が指定された場合
      */
     public void setModifiers(List<? extends Attribute> modifiers) {
+        checkModifiable();
         Util.notNull(modifiers, "modifiers"); //$NON-NLS-1$
         Util.notContainNull(modifiers, "modifiers"); //$NON-NLS-1$
         this.modifiers = Util.freeze(modifiers);
@@ -99,6 +101,7 @@ public final class AnnotationDeclarationImpl extends ModelRoot implements Annota
      *     {@code name}に{@code null}が指定された場合
      */
     public void setName(SimpleName name) {
+        checkModifiable();
         Util.notNull(name, "name"); //$NON-NLS-1$
         this.name = name;
     }
@@ -117,11 +120,41 @@ public final class AnnotationDeclarationImpl extends ModelRoot implements Annota
      *     {@code bodyDeclarations}に{@code null}が指定された場合
      */
     public void setBodyDeclarations(List<? extends TypeBodyDeclaration> bodyDeclarations) {
+        checkModifiable();
         Util.notNull(bodyDeclarations, "bodyDeclarations"); //$NON-NLS-1$
         Util.notContainNull(bodyDeclarations, "bodyDeclarations"); //$NON-NLS-1$
         this.bodyDeclarations = Util.freeze(bodyDeclarations);
     }
 
+    /**
+     * 引数を検査せずにこの要素を生成する。
+     * <p>
+     * 引数の妥当性は呼び出し側が保証しなければならない。
+     * </p>
+     * @param javadoc
+     *     ドキュメンテーションコメント、
+     *     ただしドキュメンテーションコメントが存在しない場合は{@code null}
+     * @param modifiers
+     *     修飾子および注釈の一覧
+     * @param name
+     *     型の単純名
+     * @param bodyDeclarations
+     *     メンバの一覧
+     * @return 生成した要素
+     */
+    static AnnotationDeclarationImpl newUnchecked(
+            Javadoc javadoc,
+            List<? extends Attribute> modifiers,
+            SimpleName name,
+            List<? extends TypeBodyDeclaration> bodyDeclarations) {
+        AnnotationDeclarationImpl result = new AnnotationDeclarationImpl();
+        result.javadoc = javadoc;
+        result.modifiers = Util.freeze(modifiers);
+        result.name = name;
+        result.bodyDeclarations = Util.freeze(bodyDeclarations);
+        return result;
+    }
+
     /**
      * この要素の種類を表す{@link ModelKind#ANNOTATION_DECLARATION}を返す。
      * @return {@link ModelKind#ANNOTATION_DECLARATION}
@@ -137,4 +170,45 @@ public final class AnnotationDeclarationImpl extends ModelRoot implements Annota
         Util.notNull(visitor, "visitor"); //$NON-NLS-1$
         return visitor.visitAnnotationDeclaration(this, context);
     }
+
+    @Override
+    public AnnotationDeclaration withJavadoc(Javadoc javadoc) {
+        AnnotationDeclarationImpl result = copy();
+        result.setJavadoc(javadoc);
+        return result;
+    }
+
+    @Override
+    public AnnotationDeclaration withModifiers(List<? extends Attribute> modifiers) {
+        AnnotationDeclarationImpl result = copy();
+        result.setModifiers(modifiers);
+        return result;
+    }
+
+    @Override
+    public AnnotationDeclaration withName(SimpleName name) {
+        AnnotationDeclarationImpl result = copy();
+        result.setName(name);
+        return result;
+    }
+
+    @Override
+    public AnnotationDeclaration withBodyDeclarations(List<? extends TypeBodyDeclaration> bodyDeclarations) {
+        AnnotationDeclarationImpl result = copy();
+        result.setBodyDeclarations(bodyDeclarations);
+        return result;
+    }
+
+    /**
+     * このオブジェクトのプロパティを共有する新しいオブジェクトを返す。
+     * @return 生成したオブジェクト
+     */
+    private AnnotationDeclarationImpl copy() {
+        AnnotationDeclarationImpl result = new AnnotationDeclarationImpl();
+        result.javadoc = this.javadoc;
+        result.modifiers = this.modifiers;
+        result.name = this.name;
+        result.bodyDeclarations = this.bodyDeclarations;
+        return result;
+    }
 }
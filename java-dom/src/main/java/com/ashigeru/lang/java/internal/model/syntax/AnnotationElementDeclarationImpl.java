@@ -70,6 +70,7 @@ public final class AnnotationElementDeclarationImpl extends ModelRoot implements
      *     ただしドキュメンテーションコメントが存在しない場合は{@code null}
      */
     public void setJavadoc(Javadoc javadoc) {
+        checkModifiable();
         this.javadoc = javadoc;
     }
 
@@ -87,6 +88,7 @@ public final class AnnotationElementDeclarationImpl extends ModelRoot implements
      *     {@code modifiers}に{@code null}が指定された場合
      */
     public void setModifiers(List<? extends Attribute> modifiers) {
+        checkModifiable();
         Util.notNull(modifiers, "modifiers"); //$NON-NLS-1$
         Util.notContainNull(modifiers, "modifiers"); //$NON-NLS-1$
         this.modifiers = Util.freeze(modifiers);
@@ -105,6 +107,7 @@ public final class AnnotationElementDeclarationImpl extends ModelRoot implements
      *     {@code type}に{@code null}が指定された場合
      */
     public void setType(Type type) {
+        checkModifiable();
         Util.notNull(type, "type"); //$NON-NLS-1$
         this.type = type;
     }
@@ -122,6 +125,7 @@ public final class AnnotationElementDeclarationImpl extends ModelRoot implements
      *     {@code name}に{@code null}が指定された場合
      */
     public void setName(SimpleName name) {
+        checkModifiable();
         Util.notNull(name, "name"); //$NON-NLS-1$
         this.name = name;
     }
@@ -139,9 +143,44 @@ public final class AnnotationElementDeclarationImpl extends ModelRoot implements
      *     ただし規定値が存在しない場合は{@code null}
      */
     public void setDefaultExpression(Expression defaultExpression) {
+        checkModifiable();
         this.defaultExpression = defaultExpression;
     }
 
+    /**
+     * 引数を検査せずにこの要素を生成する。
+     * <p>
+     * 引数の妥当性は呼び出し側が保証しなければならない。
+     * </p>
+     * @param javadoc
+     *     ドキュメンテーションコメント、
+     *     ただしドキュメンテーションコメントが存在しない場合は{@code null}
+     * @param modifiers
+     *     修飾子および注釈の一覧
+     * @param type
+     *     注釈要素の型
+     * @param name
+     *     注釈要素の名前
+     * @param defaultExpression
+     *     注釈要素の規定値、
+     *     ただし規定値が存在しない場合は{@code null}
+     * @return 生成した要素
+     */
+    static AnnotationElementDeclarationImpl newUnchecked(
+            Javadoc javadoc,
+            List<? extends Attribute> modifiers,
+            Type type,
+            SimpleName name,
+            Expression defaultExpression) {
+        AnnotationElementDeclarationImpl result = new AnnotationElementDeclarationImpl();
+        result.javadoc = javadoc;
+        result.modifiers = Util.freeze(modifiers);
+        result.type = type;
+        result.name = name;
+        result.defaultExpression = defaultExpression;
+        return result;
+    }
+
     /**
      * この要素の種類を表す{@link ModelKind#ANNOTATION_ELEMENT_DECLARATION}を返す。
      * @return {@link ModelKind#ANNOTATION_ELEMENT_DECLARATION}
@@ -157,4 +196,53 @@ public final class AnnotationElementDeclarationImpl extends ModelRoot implements
         Util.notNull(visitor, "visitor"); //$NON-NLS-1$
         return visitor.visitAnnotationElementDeclaration(this, context);
     }
+
+    @Override
+    public AnnotationElementDeclaration withJavadoc(Javadoc javadoc) {
+        AnnotationElementDeclarationImpl result = copy();
+        result.setJavadoc(javadoc);
+        return result;
+    }
+
+    @Override
+    public AnnotationElementDeclaration withModifiers(List<? extends Attribute> modifiers) {
+        AnnotationElementDeclarationImpl result = copy();
+        result.setModifiers(modifiers);
+        return result;
+    }
+
+    @Override
+    public AnnotationElementDeclaration withType(Type type) {
+        AnnotationElementDeclarationImpl result = copy();
+        result.setType(type);
+        return result;
+    }
+
+    @Override
+    public AnnotationElementDeclaration withName(SimpleName name) {
+        AnnotationElementDeclarationImpl result = copy();
+        result.setName(name);
+        return result;
+    }
+
+    @Override
+    public AnnotationElementDeclaration withDefaultExpression(Expression defaultExpression) {
+        AnnotationElementDeclarationImpl result = copy();
+        result.setDefaultExpression(defaultExpression);
+        return result;
+    }
+
+    /**
+     * このオブジェクトのプロパティを共有する新しいオブジェクトを返す。
+     * @return 生成したオブジェクト
+     */
+    private AnnotationElementDeclarationImpl copy() {
+        AnnotationElementDeclarationImpl result = new AnnotationElementDeclarationImpl();
+        result.javadoc = this.javadoc;
+        result.modifiers = this.modifiers;
+        result.type = this.type;
+        result.name = this.name;
+        result.defaultExpression = this.defaultExpression;
+        return result;
+    }
 }
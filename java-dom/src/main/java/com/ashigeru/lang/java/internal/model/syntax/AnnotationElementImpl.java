@@ -50,6 +50,7 @@ public final class AnnotationElementImpl extends ModelRoot implements Annotation
      *     {@code name}に{@code null}が指定された場合
      */
     public void setName(SimpleName name) {
+        checkModifiable();
         Util.notNull(name, "name"); //$NON-NLS-1$
         this.name = name;
     }
@@ -67,10 +68,31 @@ public final class AnnotationElementImpl extends ModelRoot implements Annotation
      *     {@code expression}に{@code null}が指定された場合
      */
     public void setExpression(Expression expression) {
+        checkModifiable();
         Util.notNull(expression, "expression"); //$NON-NLS-1$
         this.expression = expression;
     }
 
+    /**
+     * 引数を検査せずにこの要素を生成する。
+     * <p>
+     * 引数の妥当性は呼び出し側が保証しなければならない。
+     * </p>
+     * @param name
+     *     注釈要素の名前
+     * @param expression
+     *     注釈要素値の式
+     * @return 生成した要素
+     */
+    static AnnotationElementImpl newUnchecked(
+            SimpleName name,
+            Expression expression) {
+        AnnotationElementImpl result = new AnnotationElementImpl();
+        result.name = name;
+        result.expression = expression;
+        return result;
+    }
+
     /**
      * この要素の種類を表す{@link ModelKind#ANNOTATION_ELEMENT}を返す。
      * @return {@link ModelKind#ANNOTATION_ELEMENT}
@@ -86,4 +108,29 @@ public final class AnnotationElementImpl extends ModelRoot implements Annotation
         Util.notNull(visitor, "visitor"); //$NON-NLS-1$
         return visitor.visitAnnotationElement(this, context);
     }
+
+    @Override
+    public AnnotationElement withName(SimpleName name) {
+        AnnotationElementImpl result = copy();
+        result.setName(name);
+        return result;
+    }
+
+    @Override
+    public AnnotationElement withExpression(Expression expression) {
+        AnnotationElementImpl result = copy();
+        result.setExpression(expression);
+        return result;
+    }
+
+    /**
+     * このオブジェクトのプロパティを共有する新しいオブジェクトを返す。
+     * @return 生成したオブジェクト
+     */
+    private AnnotationElementImpl copy() {
+        AnnotationElementImpl result = new AnnotationElementImpl();
+        result.name = this.name;
+        result.expression = this.expression;
+        return result;
+    }
 }
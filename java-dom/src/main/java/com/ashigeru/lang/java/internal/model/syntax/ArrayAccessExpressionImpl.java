@@ -15,6 +15,8 @@
  */
 package com.ashigeru.lang.java.internal.model.syntax;
 
+import com.ashigeru.lang.java.internal.model.util.ExpressionPriority;
+
 import com.ashigeru.lang.java.model.syntax.ArrayAccessExpression;
 import com.ashigeru.lang.java.model.syntax.Expression;
 import com.ashigeru.lang.java.model.syntax.ModelKind;
@@ -49,6 +51,7 @@ public final class ArrayAccessExpressionImpl extends ModelRoot implements ArrayA
      *     {@code array}に{@code null}が指定された場合
      */
     public void setArray(Expression array) {
+        checkModifiable();
         Util.notNull(array, "array"); //$NON-NLS-1$
         this.array = array;
     }
@@ -66,10 +69,31 @@ public final class ArrayAccessExpressionImpl extends ModelRoot implements ArrayA
      *     {@code index}に{@code null}が指定された場合
      */
     public void setIndex(Expression index) {
+        checkModifiable();
         Util.notNull(index, "index"); //$NON-NLS-1$
         this.index = index;
     }
 
+    /**
+     * 引数を検査せずにこの要素を生成する。
+     * <p>
+     * 引数の妥当性は呼び出し側が保証しなければならない。
+     * </p>
+     * @param array
+     *     配列式
+     * @param index
+     *     添え字式
+     * @return 生成した要素
+     */
+    static ArrayAccessExpressionImpl newUnchecked(
+            Expression array,
+            Expression index) {
+        ArrayAccessExpressionImpl result = new ArrayAccessExpressionImpl();
+        result.array = array;
+        result.index = index;
+        return result;
+    }
+
     /**
      * この要素の種類を表す{@link ModelKind#ARRAY_ACCESS_EXPRESSION}を返す。
      * @return {@link ModelKind#ARRAY_ACCESS_EXPRESSION}
@@ -85,4 +109,29 @@ public final class ArrayAccessExpressionImpl extends ModelRoot implements ArrayA
         Util.notNull(visitor, "visitor"); //$NON-NLS-1$
         return visitor.visitArrayAccessExpression(this, context);
     }
+
+    @Override
+    public ArrayAccessExpression withArray(Expression array) {
+        ArrayAccessExpressionImpl result = copy();
+        result.setArray(Util.parenthesize(array, ExpressionPriority.PRIMARY));
+        return result;
+    }
+
+    @Override
+    public ArrayAccessExpression withIndex(Expression index) {
+        ArrayAccessExpressionImpl result = copy();
+        result.setIndex(index);
+        return result;
+    }
+
+    /**
+     * このオブジェクトのプロパティを共有する新しいオブジェクトを返す。
+     * @return 生成したオブジェクト
+     */
+    private ArrayAccessExpressionImpl copy() {
+        ArrayAccessExpressionImpl result = new ArrayAccessExpressionImpl();
+        result.array = this.array;
+        result.index = this.index;
+        return result;
+    }
 }
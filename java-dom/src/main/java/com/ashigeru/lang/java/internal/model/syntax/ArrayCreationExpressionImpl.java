@@ -58,6 +58,7 @@ public final class ArrayCreationExpressionImpl extends ModelRoot implements Arra
      *     {@code type}に{@code null}が指定された場合
      */
     public void setType(ArrayType type) {
+        checkModifiable();
         Util.notNull(type, "type"); //$NON-NLS-1$
         this.type = type;
     }
@@ -76,6 +77,7 @@ public final class ArrayCreationExpressionImpl extends ModelRoot implements Arra
      *     {@code dimensionExpressions}に{@code null}が指定された場合
      */
     public void setDimensionExpressions(List<? extends Expression> dimensionExpressions) {
+        checkModifiable();
         Util.notNull(dimensionExpressions, "dimensionExpressions"); //$NON-NLS-1$
         Util.notContainNull(dimensionExpressions, "dimensionExpressions"); //$NON-NLS-1$
         this.dimensionExpressions = Util.freeze(dimensionExpressions);
@@ -94,9 +96,35 @@ public final class ArrayCreationExpressionImpl extends ModelRoot implements Arra
      *     ただし配列初期化子が指定されない場合は{@code null}
      */
     public void setArrayInitializer(ArrayInitializer arrayInitializer) {
+        checkModifiable();
         this.arrayInitializer = arrayInitializer;
     }
 
+    /**
+     * 引数を検査せずにこの要素を生成する。
+     * <p>
+     * 引数の妥当性は呼び出し側が保証しなければならない。
+     * </p>
+     * @param type
+     *     生成する配列の型
+     * @param dimensionExpressions
+     *     要素数指定式
+     * @param arrayInitializer
+     *     配列初期化子、
+     *     ただし配列初期化子が指定されない場合は{@code null}
+     * @return 生成した要素
+     */
+    static ArrayCreationExpressionImpl newUnchecked(
+            ArrayType type,
+            List<? extends Expression> dimensionExpressions,
+            ArrayInitializer arrayInitializer) {
+        ArrayCreationExpressionImpl result = new ArrayCreationExpressionImpl();
+        result.type = type;
+        result.dimensionExpressions = Util.freeze(dimensionExpressions);
+        result.arrayInitializer = arrayInitializer;
+        return result;
+    }
+
     /**
      * この要素の種類を表す{@link ModelKind#ARRAY_CREATION_EXPRESSION}を返す。
      * @return {@link ModelKind#ARRAY_CREATION_EXPRESSION}
@@ -112,4 +140,37 @@ public final class ArrayCreationExpressionImpl extends ModelRoot implements Arra
         Util.notNull(visitor, "visitor"); //$NON-NLS-1$
         return visitor.visitArrayCreationExpression(this, context);
     }
+
+    @Override
+    public ArrayCreationExpression withType(ArrayType type) {
+        ArrayCreationExpressionImpl result = copy();
+        result.setType(type);
+        return result;
+    }
+
+    @Override
+    public ArrayCreationExpression withDimensionExpressions(List<? extends Expression> dimensionExpressions) {
+        ArrayCreationExpressionImpl result = copy();
+        result.setDimensionExpressions(dimensionExpressions);
+        return result;
+    }
+
+    @Override
+    public ArrayCreationExpression withArrayInitializer(ArrayInitializer arrayInitializer) {
+        ArrayCreationExpressionImpl result = copy();
+        result.setArrayInitializer(arrayInitializer);
+        return result;
+    }
+
+    /**
+     * このオブジェクトのプロパティを共有する新しいオブジェクトを返す。
+     * @return 生成したオブジェクト
+     */
+    private ArrayCreationExpressionImpl copy() {
+        ArrayCreationExpressionImpl result = new ArrayCreationExpressionImpl();
+        result.type = this.type;
+        result.dimensionExpressions = this.dimensionExpressions;
+        result.arrayInitializer = this.arrayInitializer;
+        return result;
+    }
 }
@@ -47,11 +47,28 @@ public final class ArrayInitializerImpl extends ModelRoot implements ArrayInitia
      *     {@code elements}に{@code null}が指定された場合
      */
     public void setElements(List<? extends Expression> elements) {
+        checkModifiable();
         Util.notNull(elements, "elements"); //$NON-NLS-1$
         Util.notContainNull(elements, "elements"); //$NON-NLS-1$
         this.elements = Util.freeze(elements);
     }
 
+    /**
+     * 引数を検査せずにこの要素を生成する。
+     * <p>
+     * 引数の妥当性は呼び出し側が保証しなければならない。
+     * </p>
+     * @param elements
+     *     要素の一覧
+     * @return 生成した要素
+     */
+    static ArrayInitializerImpl newUnchecked(
+            List<? extends Expression> elements) {
+        ArrayInitializerImpl result = new ArrayInitializerImpl();
+        result.elements = Util.freeze(elements);
+        return result;
+    }
+
     /**
      * この要素の種類を表す{@link ModelKind#ARRAY_INITIALIZER}を返す。
      * @return {@link ModelKind#ARRAY_INITIALIZER}
@@ -67,4 +84,21 @@ public final class ArrayInitializerImpl extends ModelRoot implements ArrayInitia
         Util.notNull(visitor, "visitor"); //$NON-NLS-1$
         return visitor.visitArrayInitializer(this, context);
     }
+
+    @Override
+    public ArrayInitializer withElements(List<? extends Expression> elements) {
+        ArrayInitializerImpl result = copy();
+        result.setElements(elements);
+        return result;
+    }
+
+    /**
+     * このオブジェクトのプロパティを共有する新しいオブジェクトを返す。
+     * @return 生成したオブジェクト
+     */
+    private ArrayInitializerImpl copy() {
+        ArrayInitializerImpl result = new ArrayInitializerImpl();
+        result.elements = this.elements;
+        return result;
+    }
 }
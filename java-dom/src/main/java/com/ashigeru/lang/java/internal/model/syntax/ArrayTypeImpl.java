@@ -44,10 +44,27 @@ public final class ArrayTypeImpl extends ModelRoot implements ArrayType {
      *     {@code componentType}に{@code null}が指定された場合
      */
     public void setComponentType(Type componentType) {
+        checkModifiable();
         Util.notNull(componentType, "componentType"); //$NON-NLS-1$
         this.componentType = componentType;
     }
 
+    /**
+     * 引数を検査せずにこの要素を生成する。
+     * <p>
+     * 引数の妥当性は呼び出し側が保証しなければならない。
+     * </p>
+     * @param componentType
+     *     要素型
+     * @return 生成した要素
+     */
+    static ArrayTypeImpl newUnchecked(
+            Type componentType) {
+        ArrayTypeImpl result = new ArrayTypeImpl();
+        result.componentType = componentType;
+        return result;
+    }
+
     /**
      * この要素の種類を表す{@link ModelKind#ARRAY_TYPE}を返す。
      * @return {@link ModelKind#ARRAY_TYPE}
@@ -63,4 +80,21 @@ public final class ArrayTypeImpl extends ModelRoot implements ArrayType {
         Util.notNull(visitor, "visitor"); //$NON-NLS-1$
         return visitor.visitArrayType(this, context);
     }
+
+    @Override
+    public ArrayType withComponentType(Type componentType) {
+        ArrayTypeImpl result = copy();
+        result.setComponentType(componentType);
+        return result;
+    }
+
+    /**
+     * このオブジェクトのプロパティを共有する新しいオブジェクトを返す。
+     * @return 生成したオブジェクト
+     */
+    private ArrayTypeImpl copy() {
+        ArrayTypeImpl result = new ArrayTypeImpl();
+        result.componentType = this.componentType;
+        return result;
+    }
 }
@@ -49,6 +49,7 @@ public final class AssertStatementImpl extends ModelRoot implements AssertStatem
      *     {@code expression}に{@code null}が指定された場合
      */
     public void setExpression(Expression expression) {
+        checkModifiable();
         Util.notNull(expression, "expression"); //$NON-NLS-1$
         this.expression = expression;
     }
@@ -66,9 +67,31 @@ public final class AssertStatementImpl extends ModelRoot implements AssertStatem
      *     ただしメッセージ式が省略された場合は{@code null}
      */
     public void setMessage(Expression message) {
+        checkModifiable();
         this.message = message;
     }
 
+    /**
+     * 引数を検査せずにこの要素を生成する。
+     * <p>
+     * 引数の妥当性は呼び出し側が保証しなければならない。
+     * </p>
+     * @param expression
+     *     表明式
+     * @param message
+     *     メッセージ式、
+     *     ただしメッセージ式が省略された場合は{@code null}
+     * @return 生成した要素
+     */
+    static AssertStatementImpl newUnchecked(
+            Expression expression,
+            Expression message) {
+        AssertStatementImpl result = new AssertStatementImpl();
+        result.expression = expression;
+        result.message = message;
+        return result;
+    }
+
     /**
      * この要素の種類を表す{@link ModelKind#ASSERT_STATEMENT}を返す。
      * @return {@link ModelKind#ASSERT_STATEMENT}
@@ -84,4 +107,29 @@ public final class AssertStatementImpl extends ModelRoot implements AssertStatem
         Util.notNull(visitor, "visitor"); //$NON-NLS-1$
         return visitor.visitAssertStatement(this, context);
     }
+
+    @Override
+    public AssertStatement withExpression(Expression expression) {
+        AssertStatementImpl result = copy();
+        result.setExpression(expression);
+        return result;
+    }
+
+    @Override
+    public AssertStatement withMessage(Expression message) {
+        AssertStatementImpl result = copy();
+        result.setMessage(message);
+        return result;
+    }
+
+    /**
+     * このオブジェクトのプロパティを共有する新しいオブジェクトを返す。
+     * @return 生成したオブジェクト
+     */
+    private AssertStatementImpl copy() {
+        AssertStatementImpl result = new AssertStatementImpl();
+        result.expression = this.expression;
+        result.message = this.message;
+        return result;
+    }
 }
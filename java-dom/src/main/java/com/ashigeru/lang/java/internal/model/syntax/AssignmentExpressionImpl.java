@@ -15,6 +15,8 @@
  */
 package com.ashigeru.lang.java.internal.model.syntax;
 
+import com.ashigeru.lang.java.internal.model.util.ExpressionPriority;
+
 import com.ashigeru.lang.java.model.syntax.AssignmentExpression;
 import com.ashigeru.lang.java.model.syntax.Expression;
 import com.ashigeru.lang.java.model.syntax.InfixOperator;
@@ -55,6 +57,7 @@ public final class AssignmentExpressionImpl extends ModelRoot implements Assignm
      *     {@code leftHandSide}に{@code null}が指定された場合
      */
     public void setLeftHandSide(Expression leftHandSide) {
+        checkModifiable();
         Util.notNull(leftHandSide, "leftHandSide"); //$NON-NLS-1$
         this.leftHandSide = leftHandSide;
     }
@@ -72,6 +75,7 @@ public final class AssignmentExpressionImpl extends ModelRoot implements Assignm
      *     {@code operator}に{@code null}が指定された場合
      */
     public void setOperator(InfixOperator operator) {
+        checkModifiable();
         Util.notNull(operator, "operator"); //$NON-NLS-1$
         this.operator = operator;
     }
@@ -89,10 +93,35 @@ public final class AssignmentExpressionImpl extends ModelRoot implements Assignm
      *     {@code rightHandSide}に{@code null}が指定された場合
      */
     public void setRightHandSide(Expression rightHandSide) {
+        checkModifiable();
         Util.notNull(rightHandSide, "rightHandSide"); //$NON-NLS-1$
         this.rightHandSide = rightHandSide;
     }
 
+    /**
+     * 引数を検査せずにこの要素を生成する。
+     * <p>
+     * 引数の妥当性は呼び出し側が保証しなければならない。
+     * </p>
+     * @param leftHandSide
+     *     左辺式
+     * @param operator
+     *     単純代入演算子、または複合する演算子
+     * @param rightHandSide
+     *     右辺式
+     * @return 生成した要素
+     */
+    static AssignmentExpressionImpl newUnchecked(
+            Expression leftHandSide,
+            InfixOperator operator,
+            Expression rightHandSide) {
+        AssignmentExpressionImpl result = new AssignmentExpressionImpl();
+        result.leftHandSide = leftHandSide;
+        result.operator = operator;
+        result.rightHandSide = rightHandSide;
+        return result;
+    }
+
     /**
      * この要素の種類を表す{@link ModelKind#ASSIGNMENT_EXPRESSION}を返す。
      * @return {@link ModelKind#ASSIGNMENT_EXPRESSION}
@@ -108,4 +137,37 @@ public final class AssignmentExpressionImpl extends ModelRoot implements Assignm
         Util.notNull(visitor, "visitor"); //$NON-NLS-1$
         return visitor.visitAssignmentExpression(this, context);
     }
+
+    @Override
+    public AssignmentExpression withLeftHandSide(Expression leftHandSide) {
+        AssignmentExpressionImpl result = copy();
+        result.setLeftHandSide(Util.parenthesize(leftHandSide, ExpressionPriority.ASSIGNMENT));
+        return result;
+    }
+
+    @Override
+    public AssignmentExpression withOperator(InfixOperator operator) {
+        AssignmentExpressionImpl result = copy();
+        result.setOperator(operator);
+        return result;
+    }
+
+    @Override
+    public AssignmentExpression withRightHandSide(Expression rightHandSide) {
+        AssignmentExpressionImpl result = copy();
+        result.setRightHandSide(Util.parenthesizeRight(rightHandSide, ExpressionPriority.ASSIGNMENT));
+        return result;
+    }
+
+    /**
+     * このオブジェクトのプロパティを共有する新しいオブジェクトを返す。
+     * @return 生成したオブジェクト
+     */
+    private AssignmentExpressionImpl copy() {
+        AssignmentExpressionImpl result = new AssignmentExpressionImpl();
+        result.leftHandSide = this.leftHandSide;
+        result.operator = this.operator;
+        result.rightHandSide = this.rightHandSide;
+        return result;
+    }
 }
@@ -44,10 +44,27 @@ public final class BasicTypeImpl extends ModelRoot implements BasicType {
      *     {@code typeKind}に{@code null}が指定された場合
      */
     public void setTypeKind(BasicTypeKind typeKind) {
+        checkModifiable();
         Util.notNull(typeKind, "typeKind"); //$NON-NLS-1$
         this.typeKind = typeKind;
     }
 
+    /**
+     * 引数を検査せずにこの要素を生成する。
+     * <p>
+     * 引数の妥当性は呼び出し側が保証しなければならない。
+     * </p>
+     * @param typeKind
+     *     基本型の種類
+     * @return 生成した要素
+     */
+    static BasicTypeImpl newUnchecked(
+            BasicTypeKind typeKind) {
+        BasicTypeImpl result = new BasicTypeImpl();
+        result.typeKind = typeKind;
+        return result;
+    }
+
     /**
      * この要素の種類を表す{@link ModelKind#BASIC_TYPE}を返す。
      * @return {@link ModelKind#BASIC_TYPE}
@@ -63,4 +80,21 @@ public final class BasicTypeImpl extends ModelRoot implements BasicType {
         Util.notNull(visitor, "visitor"); //$NON-NLS-1$
         return visitor.visitBasicType(this, context);
     }
+
+    @Override
+    public BasicType withTypeKind(BasicTypeKind typeKind) {
+        BasicTypeImpl result = copy();
+        result.setTypeKind(typeKind);
+        return result;
+    }
+
+    /**
+     * このオブジェクトのプロパティを共有する新しいオブジェクトを返す。
+     * @return 生成したオブジェクト
+     */
+    private BasicTypeImpl copy() {
+        BasicTypeImpl result = new BasicTypeImpl();
+        result.typeKind = this.typeKind;
+        return result;
+    }
 }
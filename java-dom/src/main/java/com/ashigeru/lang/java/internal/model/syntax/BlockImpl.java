@@ -47,11 +47,28 @@ public final class BlockImpl extends ModelRoot implements Block {
      *     {@code statements}に{@code null}が指定された場合
      */
     public void setStatements(List<? extends Statement> statements) {
+        checkModifiable();
         Util.notNull(statements, "statements"); //$NON-NLS-1$
         Util.notContainNull(statements, "statements"); //$NON-NLS-1$
         this.statements = Util.freeze(statements);
     }
 
+    /**
+     * 引数を検査せずにこの要素を生成する。
+     * <p>
+     * 引数の妥当性は呼び出し側が保証しなければならない。
+     * </p>
+     * @param statements
+     *     文の一覧
+     * @return 生成した要素
+     */
+    static BlockImpl newUnchecked(
+            List<? extends Statement> statements) {
+        BlockImpl result = new BlockImpl();
+        result.statements = Util.freeze(statements);
+        return result;
+    }
+
     /**
      * この要素の種類を表す{@link ModelKind#BLOCK}を返す。
      * @return {@link ModelKind#BLOCK}
@@ -67,4 +84,21 @@ public final class BlockImpl extends ModelRoot implements Block {
         Util.notNull(visitor, "visitor"); //$NON-NLS-1$
         return visitor.visitBlock(this, context);
     }
+
+    @Override
+    public Block withStatements(List<? extends Statement> statements) {
+        BlockImpl result = copy();
+        result.setStatements(statements);
+        return result;
+    }
+
+    /**
+     * このオブジェクトのプロパティを共有する新しいオブジェクトを返す。
+     * @return 生成したオブジェクト
+     */
+    private BlockImpl copy() {
+        BlockImpl result = new BlockImpl();
+        result.statements = this.statements;
+        return result;
+    }
 }
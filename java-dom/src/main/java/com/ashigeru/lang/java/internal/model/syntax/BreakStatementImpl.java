@@ -44,9 +44,27 @@ public final class BreakStatementImpl extends ModelRoot implements BreakStatemen
      *     ただし分岐先ラベルが指定されない場合は{@code null}
      */
     public void setTarget(SimpleName target) {
+        checkModifiable();
         this.target = target;
     }
 
+    /**
+     * 引数を検査せずにこの要素を生成する。
+     * <p>
+     * 引数の妥当性は呼び出し側が保証しなければならない。
+     * </p>
+     * @param target
+     *     分岐先ラベル、
+     *     ただし分岐先ラベルが指定されない場合は{@code null}
+     * @return 生成した要素
+     */
+    static BreakStatementImpl newUnchecked(
+            SimpleName target) {
+        BreakStatementImpl result = new BreakStatementImpl();
+        result.target = target;
+        return result;
+    }
+
     /**
      * この要素の種類を表す{@link ModelKind#BREAK_STATEMENT}を返す。
      * @return {@link ModelKind#BREAK_STATEMENT}
@@ -62,4 +80,21 @@ public final class BreakStatementImpl extends ModelRoot implements BreakStatemen
         Util.notNull(visitor, "visitor"); //$NON-NLS-1$
         return visitor.visitBreakStatement(this, context);
     }
+
+    @Override
+    public BreakStatement withTarget(SimpleName target) {
+        BreakStatementImpl result = copy();
+        result.setTarget(target);
+        return result;
+    }
+
+    /**
+     * このオブジェクトのプロパティを共有する新しいオブジェクトを返す。
+     * @return 生成したオブジェクト
+     */
+    private BreakStatementImpl copy() {
+        BreakStatementImpl result = new BreakStatementImpl();
+        result.target = this.target;
+        return result;
+    }
 }
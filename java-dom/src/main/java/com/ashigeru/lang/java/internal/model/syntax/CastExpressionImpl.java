@@ -15,6 +15,8 @@
  */
 package com.ashigeru.lang.java.internal.model.syntax;
 
+import com.ashigeru.lang.java.internal.model.util.ExpressionPriority;
+
 import com.ashigeru.lang.java.model.syntax.CastExpression;
 import com.ashigeru.lang.java.model.syntax.Expression;
 import com.ashigeru.lang.java.model.syntax.ModelKind;
@@ -50,6 +52,7 @@ public final class CastExpressionImpl extends ModelRoot implements CastExpressio
      *     {@code type}に{@code null}が指定された場合
      */
     public void setType(Type type) {
+        checkModifiable();
         Util.notNull(type, "type"); //$NON-NLS-1$
         this.type = type;
     }
@@ -67,10 +70,31 @@ public final class CastExpressionImpl extends ModelRoot implements CastExpressio
      *     {@code expression}に{@code null}が指定された場合
      */
     public void setExpression(Expression expression) {
+        checkModifiable();
         Util.notNull(expression, "expression"); //$NON-NLS-1$
         this.expression = expression;
     }
 
+    /**
+     * 引数を検査せずにこの要素を生成する。
+     * <p>
+     * 引数の妥当性は呼び出し側が保証しなければならない。
+     * </p>
+     * @param type
+     *     キャスト対象の型
+     * @param expression
+     *     演算項
+     * @return 生成した要素
+     */
+    static CastExpressionImpl newUnchecked(
+            Type type,
+            Expression expression) {
+        CastExpressionImpl result = new CastExpressionImpl();
+        result.type = type;
+        result.expression = expression;
+        return result;
+    }
+
     /**
      * この要素の種類を表す{@link ModelKind#CAST_EXPRESSION}を返す。
      * @return {@link ModelKind#CAST_EXPRESSION}
@@ -86,4 +110,29 @@ public final class CastExpressionImpl extends ModelRoot implements CastExpressio
         Util.notNull(visitor, "visitor"); //$NON-NLS-1$
         return visitor.visitCastExpression(this, context);
     }
+
+    @Override
+    public CastExpression withType(Type type) {
+        CastExpressionImpl result = copy();
+        result.setType(type);
+        return result;
+    }
+
+    @Override
+    public CastExpression withExpression(Expression expression) {
+        CastExpressionImpl result = copy();
+        result.setExpression(Util.parenthesize(expression, ExpressionPriority.CAST));
+        return result;
+    }
+
+    /**
+     * このオブジェクトのプロパティを共有する新しいオブジェクトを返す。
+     * @return 生成したオブジェクト
+     */
+    private CastExpressionImpl copy() {
+        CastExpressionImpl result = new CastExpressionImpl();
+        result.type = this.type;
+        result.expression = this.expression;
+        return result;
+    }
 }
@@ -50,6 +50,7 @@ public final class CatchClauseImpl extends ModelRoot implements CatchClause {
      *     {@code parameter}に{@code null}が指定された場合
      */
     public void setParameter(FormalParameterDeclaration parameter) {
+        checkModifiable();
         Util.notNull(parameter, "parameter"); //$NON-NLS-1$
         this.parameter = parameter;
     }
@@ -67,10 +68,31 @@ public final class CatchClauseImpl extends ModelRoot implements CatchClause {
      *     {@code body}に{@code null}が指定された場合
      */
     public void setBody(Block body) {
+        checkModifiable();
         Util.notNull(body, "body"); //$NON-NLS-1$
         this.body = body;
     }
 
+    /**
+     * 引数を検査せずにこの要素を生成する。
+     * <p>
+     * 引数の妥当性は呼び出し側が保証しなければならない。
+     * </p>
+     * @param parameter
+     *     例外仮引数
+     * @param body
+     *     {@code catch}ブロック
+     * @return 生成した要素
+     */
+    static CatchClauseImpl newUnchecked(
+            FormalParameterDeclaration parameter,
+            Block body) {
+        CatchClauseImpl result = new CatchClauseImpl();
+        result.parameter = parameter;
+        result.body = body;
+        return result;
+    }
+
     /**
      * この要素の種類を表す{@link ModelKind#CATCH_CLAUSE}を返す。
      * @return {@link ModelKind#CATCH_CLAUSE}
@@ -86,4 +108,29 @@ public final class CatchClauseImpl extends ModelRoot implements CatchClause {
         Util.notNull(visitor, "visitor"); //$NON-NLS-1$
         return visitor.visitCatchClause(this, context);
     }
+
+    @Override
+    public CatchClause withParameter(FormalParameterDeclaration parameter) {
+        CatchClauseImpl result = copy();
+        result.setParameter(parameter);
+        return result;
+    }
+
+    @Override
+    public CatchClause withBody(Block body) {
+        CatchClauseImpl result = copy();
+        result.setBody(body);
+        return result;
+    }
+
+    /**
+     * このオブジェクトのプロパティを共有する新しいオブジェクトを返す。
+     * @return 生成したオブジェクト
+     */
+    private CatchClauseImpl copy() {
+        CatchClauseImpl result = new CatchClauseImpl();
+        result.parameter = this.parameter;
+        result.body = this.body;
+        return result;
+    }
 }
@@ -47,11 +47,28 @@ public final class ClassBodyImpl extends ModelRoot implements ClassBody {
      *     {@code bodyDeclarations}に{@code null}が指定された場合
      */
     public void setBodyDeclarations(List<? extends TypeBodyDeclaration> bodyDeclarations) {
+        checkModifiable();
         Util.notNull(bodyDeclarations, "bodyDeclarations"); //$NON-NLS-1$
         Util.notContainNull(bodyDeclarations, "bodyDeclarations"); //$NON-NLS-1$
         this.bodyDeclarations = Util.freeze(bodyDeclarations);
     }
 
+    /**
+     * 引数を検査せずにこの要素を生成する。
+     * <p>
+     * 引数の妥当性は呼び出し側が保証しなければならない。
+     * </p>
+     * @param bodyDeclarations
+     *     メンバの一覧
+     * @return 生成した要素
+     */
+    static ClassBodyImpl newUnchecked(
+            List<? extends TypeBodyDeclaration> bodyDeclarations) {
+        ClassBodyImpl result = new ClassBodyImpl();
+        result.bodyDeclarations = Util.freeze(bodyDeclarations);
+        return result;
+    }
+
     /**
      * この要素の種類を表す{@link ModelKind#CLASS_BODY}を返す。
      * @return {@link ModelKind#CLASS_BODY}
@@ -67,4 +84,21 @@ public final class ClassBodyImpl extends ModelRoot implements ClassBody {
         Util.notNull(visitor, "visitor"); //$NON-NLS-1$
         return visitor.visitClassBody(this, context);
     }
+
+    @Override
+    public ClassBody withBodyDeclarations(List<? extends TypeBodyDeclaration> bodyDeclarations) {
+        ClassBodyImpl result = copy();
+        result.setBodyDeclarations(bodyDeclarations);
+        return result;
+    }
+
+    /**
+     * このオブジェクトのプロパティを共有する新しいオブジェクトを返す。
+     * @return 生成したオブジェクト
+     */
+    private ClassBodyImpl copy() {
+        ClassBodyImpl result = new ClassBodyImpl();
+        result.bodyDeclarations = this.bodyDeclarations;
+        return result;
+    }
 }
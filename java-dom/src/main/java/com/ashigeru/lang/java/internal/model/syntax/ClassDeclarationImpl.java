@@ -81,6 +81,7 @@ public final class ClassDeclarationImpl extends ModelRoot implements ClassDeclar
      *     ただしドキュメンテーションコメントが存在しない場合は{@code null}
      */
     public void setJavadoc(Javadoc javadoc) {
+        checkModifiable();
         this.javadoc = javadoc;
     }
 
@@ -98,6 +99,7 @@ public final class ClassDeclarationImpl extends ModelRoot implements ClassDeclar
      *     {@code modifiers}に{@code null}が指定された場合
      */
     public void setModifiers(List<? extends Attribute> modifiers) {
+        checkModifiable();
         Util.notNull(modifiers, "modifiers"); //$NON-NLS-1$
         Util.notContainNull(modifiers, "modifiers"); //$NON-NLS-1$
         this.modifiers = Util.freeze(modifiers);
@@ -116,6 +118,7 @@ public final class ClassDeclarationImpl extends ModelRoot implements ClassDeclar
      *     {@code name}に{@code null}が指定された場合
      */
     public void setName(SimpleName name) {
+        checkModifiable();
         Util.notNull(name, "name"); //$NON-NLS-1$
         this.name = name;
     }
@@ -134,6 +137,7 @@ public final class ClassDeclarationImpl extends ModelRoot implements ClassDeclar
      *     {@code typeParameters}に{@code null}が指定された場合
      */
     public void setTypeParameters(List<? extends TypeParameterDeclaration> typeParameters) {
+        checkModifiable();
         Util.notNull(typeParameters, "typeParameters"); //$NON-NLS-1$
         Util.notContainNull(typeParameters, "typeParameters"); //$NON-NLS-1$
         this.typeParameters = Util.freeze(typeParameters);
@@ -152,6 +156,7 @@ public final class ClassDeclarationImpl extends ModelRoot implements ClassDeclar
      *     ただし親クラスが明示されない場合は{@code null}
      */
     public void setSuperClass(Type superClass) {
+        checkModifiable();
         this.superClass = superClass;
     }
 
@@ -169,6 +174,7 @@ public final class ClassDeclarationImpl extends ModelRoot implements ClassDeclar
      *     {@code superInterfaceTypes}に{@code null}が指定された場合
      */
     public void setSuperInterfaceTypes(List<? extends Type> superInterfaceTypes) {
+        checkModifiable();
         Util.notNull(superInterfaceTypes, "superInterfaceTypes"); //$NON-NLS-1$
         Util.notContainNull(superInterfaceTypes, "superInterfaceTypes"); //$NON-NLS-1$
         this.superInterfaceTypes = Util.freeze(superInterfaceTypes);
@@ -188,11 +194,54 @@ public final class ClassDeclarationImpl extends ModelRoot implements ClassDeclar
      *     {@code bodyDeclarations}に{@code null}が指定された場合
      */
     public void setBodyDeclarations(List<? extends TypeBodyDeclaration> bodyDeclarations) {
+        checkModifiable();
         Util.notNull(bodyDeclarations, "bodyDeclarations"); //$NON-NLS-1$
         Util.notContainNull(bodyDeclarations, "bodyDeclarations"); //$NON-NLS-1$
         this.bodyDeclarations = Util.freeze(bodyDeclarations);
     }
 
+    /**
+     * 引数を検査せずにこの要素を生成する。
+     * <p>
+     * 引数の妥当性は呼び出し側が保証しなければならない。
+     * </p>
+     * @param javadoc
+     *     ドキュメンテーションコメント、
+     *     ただしドキュメンテーションコメントが存在しない場合は{@code null}
+     * @param modifiers
+     *     修飾子および注釈の一覧
+     * @param name
+     *     型の単純名
+     * @param typeParameters
+     *     仮型引数宣言の一覧
+     * @param superClass
+     *     親クラス、
+     *     ただし親クラスが明示されない場合は{@code null}
+     * @param superInterfaceTypes
+     *     親インターフェースの一覧
+     * @param bodyDeclarations
+     *     メンバの一覧
+     * @return 生成した要素
+     */
+    static ClassDeclarationImpl newUnchecked(
+            Javadoc javadoc,
+            List<? extends Attribute> modifiers,
+            SimpleName name,
+            List<? extends TypeParameterDeclaration> typeParameters,
+            Type superClass,
+            List<? extends Type> superInterfaceTypes,
+            List<? extends TypeBodyDeclaration> bodyDeclarations) {
+        ClassDeclarationImpl result = new ClassDeclarationImpl();
+        result.javadoc = javadoc;
+        result.modifiers = Util.freeze(modifiers);
+        result.name = name;
+        result.typeParameters = Util.freeze(typeParameters);
+        result.superClass = superClass;
+        result.superInterfaceTypes = Util.freeze(superInterfaceTypes);
+        result.bodyDeclarations = Util.freeze(bodyDeclarations);
+        return result;
+    }
+
     /**
      * この要素の種類を表す{@link ModelKind#CLASS_DECLARATION}を返す。
      * @return {@link ModelKind#CLASS_DECLARATION}
@@ -208,4 +257,69 @@ public final class ClassDeclarationImpl extends ModelRoot implements ClassDeclar
         Util.notNull(visitor, "visitor"); //$NON-NLS-1$
         return visitor.visitClassDeclaration(this, context);
     }
+
+    @Override
+    public ClassDeclaration withJavadoc(Javadoc javadoc) {
+        ClassDeclarationImpl result = copy();
+        result.setJavadoc(javadoc);
+        return result;
+    }
+
+    @Override
+    public ClassDeclaration withModifiers(List<? extends Attribute> modifiers) {
+        ClassDeclarationImpl result = copy();
+        result.setModifiers(modifiers);
+        return result;
+    }
+
+    @Override
+    public ClassDeclaration withName(SimpleName name) {
+        ClassDeclarationImpl result = copy();
+        result.setName(name);
+        return result;
+    }
+
+    @Override
+    public ClassDeclaration withTypeParameters(List<? extends TypeParameterDeclaration> typeParameters) {
+        ClassDeclarationImpl result = copy();
+        result.setTypeParameters(typeParameters);
+        return result;
+    }
+
+    @Override
+    public ClassDeclaration withSuperClass(Type superClass) {
+        ClassDeclarationImpl result = copy();
+        result.setSuperClass(superClass);
+        return result;
+    }
+
+    @Override
+    public ClassDeclaration withSuperInterfaceTypes(List<? extends Type> superInterfaceTypes) {
+        ClassDeclarationImpl result = copy();
+        result.setSuperInterfaceTypes(superInterfaceTypes);
+        return result;
+    }
+
+    @Override
+    public ClassDeclaration withBodyDeclarations(List<? extends TypeBodyDeclaration> bodyDeclarations) {
+        ClassDeclarationImpl result = copy();
+        result.setBodyDeclarations(bodyDeclarations);
+        return result;
+    }
+
+    /**
+     * このオブジェクトのプロパティを共有する新しいオブジェクトを返す。
+     * @return 生成したオブジェクト
+     */
+    private ClassDeclarationImpl copy() {
+        ClassDeclarationImpl result = new ClassDeclarationImpl();
+        result.javadoc = this.javadoc;
+        result.modifiers = this.modifiers;
+        result.name = this.name;
+        result.typeParameters = this.typeParameters;
+        result.superClass = this.superClass;
+        result.superInterfaceTypes = this.superInterfaceTypes;
+        result.bodyDeclarations = this.bodyDeclarations;
+        return result;
+    }
 }
@@ -17,6 +17,7 @@ package com.ashigeru.lang.java.internal.model.syntax;
 
 import java.util.List;
 
+import com.ashigeru.lang.java.internal.model.util.ExpressionPriority;
 import com.ashigeru.lang.java.model.syntax.ClassBody;
 import com.ashigeru.lang.java.model.syntax.ClassInstanceCreationExpression;
 import com.ashigeru.lang.java.model.syntax.Expression;
@@ -68,6 +69,7 @@ public final class ClassInstanceCreationExpressionImpl extends ModelRoot impleme
      *     ただし限定式が指定されない場合は{@code null}
      */
     public void setQualifier(Expression qualifier) {
+        checkModifiable();
         this.qualifier = qualifier;
     }
 
@@ -85,6 +87,7 @@ public final class ClassInstanceCreationExpressionImpl extends ModelRoot impleme
      *     {@code typeArguments}に{@code null}が指定された場合
      */
     public void setTypeArguments(List<? extends Type> typeArguments) {
+        checkModifiable();
         Util.notNull(typeArguments, "typeArguments"); //$NON-NLS-1$
         Util.notContainNull(typeArguments, "typeArguments"); //$NON-NLS-1$
         this.typeArguments = Util.freeze(typeArguments);
@@ -103,6 +106,7 @@ public final class ClassInstanceCreationExpressionImpl extends ModelRoot impleme
      *     {@code type}に{@code null}が指定された場合
      */
     public void setType(Type type) {
+        checkModifiable();
         Util.notNull(type, "type"); //$NON-NLS-1$
         this.type = type;
     }
@@ -121,6 +125,7 @@ public final class ClassInstanceCreationExpressionImpl extends ModelRoot impleme
      *     {@code arguments}に{@code null}が指定された場合
      */
     public void setArguments(List<? extends Expression> arguments) {
+        checkModifiable();
         Util.notNull(arguments, "arguments"); //$NON-NLS-1$
         Util.notContainNull(arguments, "arguments"); //$NON-NLS-1$
         this.arguments = Util.freeze(arguments);
@@ -139,9 +144,44 @@ public final class ClassInstanceCreationExpressionImpl extends ModelRoot impleme
      *     ただし匿名クラス本体が指定されない場合は{@code null}
      */
     public void setBody(ClassBody body) {
+        checkModifiable();
         this.body = body;
     }
 
+    /**
+     * 引数を検査せずにこの要素を生成する。
+     * <p>
+     * 引数の妥当性は呼び出し側が保証しなければならない。
+     * </p>
+     * @param qualifier
+     *     限定式、
+     *     ただし限定式が指定されない場合は{@code null}
+     * @param typeArguments
+     *     型引数の一覧
+     * @param type
+     *     インスタンスを生成する型
+     * @param arguments
+     *     実引数の一覧
+     * @param body
+     *     匿名クラス本体、
+     *     ただし匿名クラス本体が指定されない場合は{@code null}
+     * @return 生成した要素
+     */
+    static ClassInstanceCreationExpressionImpl newUnchecked(
+            Expression qualifier,
+            List<? extends Type> typeArguments,
+            Type type,
+            List<? extends Expression> arguments,
+            ClassBody body) {
+        ClassInstanceCreationExpressionImpl result = new ClassInstanceCreationExpressionImpl();
+        result.qualifier = qualifier;
+        result.typeArguments = Util.freeze(typeArguments);
+        result.type = type;
+        result.arguments = Util.freeze(arguments);
+        result.body = body;
+        return result;
+    }
+
     /**
      * この要素の種類を表す{@link ModelKind#CLASS_INSTANCE_CREATION_EXPRESSION}を返す。
      * @return {@link ModelKind#CLASS_INSTANCE_CREATION_EXPRESSION}
@@ -157,4 +197,53 @@ public final class ClassInstanceCreationExpressionImpl extends ModelRoot impleme
         Util.notNull(visitor, "visitor"); //$NON-NLS-1$
         return visitor.visitClassInstanceCreationExpression(this, context);
     }
+
+    @Override
+    public ClassInstanceCreationExpression withQualifier(Expression qualifier) {
+        ClassInstanceCreationExpressionImpl result = copy();
+        result.setQualifier(Util.parenthesize(qualifier, ExpressionPriority.PRIMARY));
+        return result;
+    }
+
+    @Override
+    public ClassInstanceCreationExpression withTypeArguments(List<? extends Type> typeArguments) {
+        ClassInstanceCreationExpressionImpl result = copy();
+        result.setTypeArguments(typeArguments);
+        return result;
+    }
+
+    @Override
+    public ClassInstanceCreationExpression withType(Type type) {
+        ClassInstanceCreationExpressionImpl result = copy();
+        result.setType(type);
+        return result;
+    }
+
+    @Override
+    public ClassInstanceCreationExpression withArguments(List<? extends Expression> arguments) {
+        ClassInstanceCreationExpressionImpl result = copy();
+        result.setArguments(arguments);
+        return result;
+    }
+
+    @Override
+    public ClassInstanceCreationExpression withBody(ClassBody body) {
+        ClassInstanceCreationExpressionImpl result = copy();
+        result.setBody(body);
+        return result;
+    }
+
+    /**
+     * このオブジェクトのプロパティを共有する新しいオブジェクトを返す。
+     * @return 生成したオブジェクト
+     */
+    private ClassInstanceCreationExpressionImpl copy() {
+        ClassInstanceCreationExpressionImpl result = new ClassInstanceCreationExpressionImpl();
+        result.qualifier = this.qualifier;
+        result.typeArguments = this.typeArguments;
+        result.type = this.type;
+        result.arguments = this.arguments;
+        result.body = this.body;
+        return result;
+    }
 }
@@ -44,10 +44,27 @@ public final class ClassLiteralImpl extends ModelRoot implements ClassLiteral {
      *     {@code type}に{@code null}が指定された場合
      */
     public void setType(Type type) {
+        checkModifiable();
         Util.notNull(type, "type"); //$NON-NLS-1$
         this.type = type;
     }
 
+    /**
+     * 引数を検査せずにこの要素を生成する。
+     * <p>
+     * 引数の妥当性は呼び出し側が保証しなければならない。
+     * </p>
+     * @param type
+     *     対象の型
+     * @return 生成した要素
+     */
+    static ClassLiteralImpl newUnchecked(
+            Type type) {
+        ClassLiteralImpl result = new ClassLiteralImpl();
+        result.type = type;
+        return result;
+    }
+
     /**
      * この要素の種類を表す{@link ModelKind#CLASS_LITERAL}を返す。
      * @return {@link ModelKind#CLASS_LITERAL}
@@ -63,4 +80,21 @@ public final class ClassLiteralImpl extends ModelRoot implements ClassLiteral {
         Util.notNull(visitor, "visitor"); //$NON-NLS-1$
         return visitor.visitClassLiteral(this, context);
     }
+
+    @Override
+    public ClassLiteral withType(Type type) {
+        ClassLiteralImpl result = copy();
+        result.setType(type);
+        return result;
+    }
+
+    /**
+     * このオブジェクトのプロパティを共有する新しいオブジェクトを返す。
+     * @return 生成したオブジェクト
+     */
+    private ClassLiteralImpl copy() {
+        ClassLiteralImpl result = new ClassLiteralImpl();
+        result.type = this.type;
+        return result;
+    }
 }
@@ -64,6 +64,7 @@ public final class CompilationUnitImpl extends ModelRoot implements CompilationU
      *     ただし無名パッケージ上に存在するコンパイル単位を表現する場合は{@code null}
      */
     public void setPackageDeclaration(PackageDeclaration packageDeclaration) {
+        checkModifiable();
         this.packageDeclaration = packageDeclaration;
     }
 
@@ -81,6 +82,7 @@ public final class CompilationUnitImpl extends ModelRoot implements CompilationU
      *     {@code importDeclarations}に{@code null}が指定された場合
      */
     public void setImportDeclarations(List<? extends ImportDeclaration> importDeclarations) {
+        checkModifiable();
         Util.notNull(importDeclarations, "importDeclarations"); //$NON-NLS-1$
         Util.notContainNull(importDeclarations, "importDeclarations"); //$NON-NLS-1$
         this.importDeclarations = Util.freeze(importDeclarations);
@@ -100,6 +102,7 @@ public final class CompilationUnitImpl extends ModelRoot implements CompilationU
      *     {@code typeDeclarations}に{@code null}が指定された場合
      */
     public void setTypeDeclarations(List<? extends TypeDeclaration> typeDeclarations) {
+        checkModifiable();
         Util.notNull(typeDeclarations, "typeDeclarations"); //$NON-NLS-1$
         Util.notContainNull(typeDeclarations, "typeDeclarations"); //$NON-NLS-1$
         this.typeDeclarations = Util.freeze(typeDeclarations);
@@ -119,11 +122,41 @@ public final class CompilationUnitImpl extends ModelRoot implements CompilationU
      *     {@code comments}に{@code null}が指定された場合
      */
     public void setComments(List<? extends Comment> comments) {
+        checkModifiable();
         Util.notNull(comments, "comments"); //$NON-NLS-1$
         Util.notContainNull(comments, "comments"); //$NON-NLS-1$
         this.comments = Util.freeze(comments);
     }
 
+    /**
+     * 引数を検査せずにこの要素を生成する。
+     * <p>
+     * 引数の妥当性は呼び出し側が保証しなければならない。
+     * </p>
+     * @param packageDeclaration
+     *     パッケージ宣言、
+     *     ただし無名パッケージ上に存在するコンパイル単位を表現する場合は{@code null}
+     * @param importDeclarations
+     *     このコンパイル単位で宣言されるインポート宣言の一覧
+     * @param typeDeclarations
+     *     このコンパイル単位で宣言される型の一覧
+     * @param comments
+     *     このコンパイル単位に記述されたコメントの一覧
+     * @return 生成した要素
+     */
+    static CompilationUnitImpl newUnchecked(
+            PackageDeclaration packageDeclaration,
+            List<? extends ImportDeclaration> importDeclarations,
+            List<? extends TypeDeclaration> typeDeclarations,
+            List<? extends Comment> comments) {
+        CompilationUnitImpl result = new CompilationUnitImpl();
+        result.packageDeclaration = packageDeclaration;
+        result.importDeclarations = Util.freeze(importDeclarations);
+        result.typeDeclarations = Util.freeze(typeDeclarations);
+        result.comments = Util.freeze(comments);
+        return result;
+    }
+
     /**
      * この要素の種類を表す{@link ModelKind#COMPILATION_UNIT}を返す。
      * @return {@link ModelKind#COMPILATION_UNIT}
@@ -139,4 +172,45 @@ public final class CompilationUnitImpl extends ModelRoot implements CompilationU
         Util.notNull(visitor, "visitor"); //$NON-NLS-1$
         return visitor.visitCompilationUnit(this, context);
     }
+
+    @Override
+    public CompilationUnit withPackageDeclaration(PackageDeclaration packageDeclaration) {
+        CompilationUnitImpl result = copy();
+        result.setPackageDeclaration(packageDeclaration);
+        return result;
+    }
+
+    @Override
+    public CompilationUnit withImportDeclarations(List<? extends ImportDeclaration> importDeclarations) {
+        CompilationUnitImpl result = copy();
+        result.setImportDeclarations(importDeclarations);
+        return result;
+    }
+
+    @Override
+    public CompilationUnit withTypeDeclarations(List<? extends TypeDeclaration> typeDeclarations) {
+        CompilationUnitImpl result = copy();
+        result.setTypeDeclarations(typeDeclarations);
+        return result;
+    }
+
+    @Override
+    public CompilationUnit withComments(List<? extends Comment> comments) {
+        CompilationUnitImpl result = copy();
+        result.setComments(comments);
+        return result;
+    }
+
+    /**
+     * このオブジェクトのプロパティを共有する新しいオブジェクトを返す。
+     * @return 生成したオブジェクト
+     */
+    private CompilationUnitImpl copy() {
+        CompilationUnitImpl result = new CompilationUnitImpl();
+        result.packageDeclaration = this.packageDeclaration;
+        result.importDeclarations = this.importDeclarations;
+        result.typeDeclarations = this.typeDeclarations;
+        result.comments = this.comments;
+        return result;
+    }
 }
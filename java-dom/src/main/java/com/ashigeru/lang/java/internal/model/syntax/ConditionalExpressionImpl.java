@@ -15,6 +15,8 @@
  */
 package com.ashigeru.lang.java.internal.model.syntax;
 
+import com.ashigeru.lang.java.internal.model.util.ExpressionPriority;
+
 import com.ashigeru.lang.java.model.syntax.ConditionalExpression;
 import com.ashigeru.lang.java.model.syntax.Expression;
 import com.ashigeru.lang.java.model.syntax.ModelKind;
@@ -54,6 +56,7 @@ public final class ConditionalExpressionImpl extends ModelRoot implements Condit
      *     {@code condition}に{@code null}が指定された場合
      */
     public void setCondition(Expression condition) {
+        checkModifiable();
         Util.notNull(condition, "condition"); //$NON-NLS-1$
         this.condition = condition;
     }
@@ -71,6 +74,7 @@ public final class ConditionalExpressionImpl extends ModelRoot implements Condit
      *     {@code thenExpression}に{@code null}が指定された場合
      */
     public void setThenExpression(Expression thenExpression) {
+        checkModifiable();
         Util.notNull(thenExpression, "thenExpression"); //$NON-NLS-1$
         this.thenExpression = thenExpression;
     }
@@ -88,10 +92,35 @@ public final class ConditionalExpressionImpl extends ModelRoot implements Condit
      *     {@code elseExpression}に{@code null}が指定された場合
      */
     public void setElseExpression(Expression elseExpression) {
+        checkModifiable();
         Util.notNull(elseExpression, "elseExpression"); //$NON-NLS-1$
         this.elseExpression = elseExpression;
     }
 
+    /**
+     * 引数を検査せずにこの要素を生成する。
+     * <p>
+     * 引数の妥当性は呼び出し側が保証しなければならない。
+     * </p>
+     * @param condition
+     *     条件式
+     * @param thenExpression
+     *     条件成立時に評価される式
+     * @param elseExpression
+     *     条件不成立時に評価される式
+     * @return 生成した要素
+     */
+    static ConditionalExpressionImpl newUnchecked(
+            Expression condition,
+            Expression thenExpression,
+            Expression elseExpression) {
+        ConditionalExpressionImpl result = new ConditionalExpressionImpl();
+        result.condition = condition;
+        result.thenExpression = thenExpression;
+        result.elseExpression = elseExpression;
+        return result;
+    }
+
     /**
      * この要素の種類を表す{@link ModelKind#CONDITIONAL_EXPRESSION}を返す。
      * @return {@link ModelKind#CONDITIONAL_EXPRESSION}
@@ -107,4 +136,37 @@ public final class ConditionalExpressionImpl extends ModelRoot implements Condit
         Util.notNull(visitor, "visitor"); //$NON-NLS-1$
         return visitor.visitConditionalExpression(this, context);
     }
+
+    @Override
+    public ConditionalExpression withCondition(Expression condition) {
+        ConditionalExpressionImpl result = copy();
+        result.setCondition(Util.parenthesize(condition, ExpressionPriority.CONDITIONAL));
+        return result;
+    }
+
+    @Override
+    public ConditionalExpression withThenExpression(Expression thenExpression) {
+        ConditionalExpressionImpl result = copy();
+        result.setThenExpression(Util.parenthesize(thenExpression, ExpressionPriority.CONDITIONAL));
+        return result;
+    }
+
+    @Override
+    public ConditionalExpression withElseExpression(Expression elseExpression) {
+        ConditionalExpressionImpl result = copy();
+        result.setElseExpression(Util.parenthesize(elseExpression, ExpressionPriority.CONDITIONAL));
+        return result;
+    }
+
+    /**
+     * このオブジェクトのプロパティを共有する新しいオブジェクトを返す。
+     * @return 生成したオブジェクト
+     */
+    private ConditionalExpressionImpl copy() {
+        ConditionalExpressionImpl result = new ConditionalExpressionImpl();
+        result.condition = this.condition;
+        result.thenExpression = this.thenExpression;
+        result.elseExpression = this.elseExpression;
+        return result;
+    }
 }
@@ -82,6 +82,7 @@ public final class ConstructorDeclarationImpl extends ModelRoot implements Const
      *     ただしドキュメンテーションコメントが存在しない場合は{@code null}
      */
     public void setJavadoc(Javadoc javadoc) {
+        checkModifiable();
         this.javadoc = javadoc;
     }
 
@@ -99,6 +100,7 @@ public final class ConstructorDeclarationImpl extends ModelRoot implements Const
      *     {@code modifiers}に{@code null}が指定された場合
      */
     public void setModifiers(List<? extends Attribute> modifiers) {
+        checkModifiable();
         Util.notNull(modifiers, "modifiers"); //$NON-NLS-1$
         Util.notContainNull(modifiers, "modifiers"); //$NON-NLS-1$
         this.modifiers = Util.freeze(modifiers);
@@ -118,6 +120,7 @@ public final class ConstructorDeclarationImpl extends ModelRoot implements Const
      *     {@code typeParameters}に{@code null}が指定された場合
      */
     public void setTypeParameters(List<? extends TypeParameterDeclaration> typeParameters) {
+        checkModifiable();
         Util.notNull(typeParameters, "typeParameters"); //$NON-NLS-1$
         Util.notContainNull(typeParameters, "typeParameters"); //$NON-NLS-1$
         this.typeParameters = Util.freeze(typeParameters);
@@ -136,6 +139,7 @@ public final class ConstructorDeclarationImpl extends ModelRoot implements Const
      *     {@code name}に{@code null}が指定された場合
      */
     public void setName(SimpleName name) {
+        checkModifiable();
         Util.notNull(name, "name"); //$NON-NLS-1$
         this.name = name;
     }
@@ -154,6 +158,7 @@ public final class ConstructorDeclarationImpl extends ModelRoot implements Const
      *     {@code formalParameters}に{@code null}が指定された場合
      */
     public void setFormalParameters(List<? extends FormalParameterDeclaration> formalParameters) {
+        checkModifiable();
         Util.notNull(formalParameters, "formalParameters"); //$NON-NLS-1$
         Util.notContainNull(formalParameters, "formalParameters"); //$NON-NLS-1$
         this.formalParameters = Util.freeze(formalParameters);
@@ -173,6 +178,7 @@ public final class ConstructorDeclarationImpl extends ModelRoot implements Const
      *     {@code exceptionTypes}に{@code null}が指定された場合
      */
     public void setExceptionTypes(List<? extends Type> exceptionTypes) {
+        checkModifiable();
         Util.notNull(exceptionTypes, "exceptionTypes"); //$NON-NLS-1$
         Util.notContainNull(exceptionTypes, "exceptionTypes"); //$NON-NLS-1$
         this.exceptionTypes = Util.freeze(exceptionTypes);
@@ -191,10 +197,52 @@ public final class ConstructorDeclarationImpl extends ModelRoot implements Const
      *     {@code body}に{@code null}が指定された場合
      */
     public void setBody(Block body) {
+        checkModifiable();
         Util.notNull(body, "body"); //$NON-NLS-1$
         this.body = body;
     }
 
+    /**
+     * 引数を検査せずにこの要素を生成する。
+     * <p>
+     * 引数の妥当性は呼び出し側が保証しなければならない。
+     * </p>
+     * @param javadoc
+     *     ドキュメンテーションコメント、
+     *     ただしドキュメンテーションコメントが存在しない場合は{@code null}
+     * @param modifiers
+     *     修飾子および注釈の一覧
+     * @param typeParameters
+     *     型引数宣言の一覧
+     * @param name
+     *     メソッドまたはコンストラクタの名前
+     * @param formalParameters
+     *     仮引数宣言の一覧
+     * @param exceptionTypes
+     *     例外型宣言の一覧
+     * @param body
+     *     コンストラクタ本体
+     * @return 生成した要素
+     */
+    static ConstructorDeclarationImpl newUnchecked(
+            Javadoc javadoc,
+            List<? extends Attribute> modifiers,
+            List<? extends TypeParameterDeclaration> typeParameters,
+            SimpleName name,
+            List<? extends FormalParameterDeclaration> formalParameters,
+            List<? extends Type> exceptionTypes,
+            Block body) {
+        ConstructorDeclarationImpl result = new ConstructorDeclarationImpl();
+        result.javadoc = javadoc;
+        result.modifiers = Util.freeze(modifiers);
+        result.typeParameters = Util.freeze(typeParameters);
+        result.name = name;
+        result.formalParameters = Util.freeze(formalParameters);
+        result.exceptionTypes = Util.freeze(exceptionTypes);
+        result.body = body;
+        return result;
+    }
+
     /**
      * この要素の種類を表す{@link ModelKind#CONSTRUCTOR_DECLARATION}を返す。
      * @return {@link ModelKind#CONSTRUCTOR_DECLARATION}
@@ -210,4 +258,69 @@ public final class ConstructorDeclarationImpl extends ModelRoot implements Const
         Util.notNull(visitor, "visitor"); //$NON-NLS-1$
         return visitor.visitConstructorDeclaration(this, context);
     }
+
+    @Override
+    public ConstructorDeclaration withJavadoc(Javadoc javadoc) {
+        ConstructorDeclarationImpl result = copy();
+        result.setJavadoc(javadoc);
+        return result;
+    }
+
+    @Override
+    public ConstructorDeclaration withModifiers(List<? extends Attribute> modifiers) {
+        ConstructorDeclarationImpl result = copy();
+        result.setModifiers(modifiers);
+        return result;
+    }
+
+    @Override
+    public ConstructorDeclaration withTypeParameters(List<? extends TypeParameterDeclaration> typeParameters) {
+        ConstructorDeclarationImpl result = copy();
+        result.setTypeParameters(typeParameters);
+        return result;
+    }
+
+    @Override
+    public ConstructorDeclaration withName(SimpleName name) {
+        ConstructorDeclarationImpl result = copy();
+        result.setName(name);
+        return result;
+    }
+
+    @Override
+    public ConstructorDeclaration withFormalParameters(List<? extends FormalParameterDeclaration> formalParameters) {
+        ConstructorDeclarationImpl result = copy();
+        result.setFormalParameters(formalParameters);
+        return result;
+    }
+
+    @Override
+    public ConstructorDeclaration withExceptionTypes(List<? extends Type> exceptionTypes) {
+        ConstructorDeclarationImpl result = copy();
+        result.setExceptionTypes(exceptionTypes);
+        return result;
+    }
+
+    @Override
+    public ConstructorDeclaration withBody(Block body) {
+        ConstructorDeclarationImpl result = copy();
+        result.setBody(body);
+        return result;
+    }
+
+    /**
+     * このオブジェクトのプロパティを共有する新しいオブジェクトを返す。
+     * @return 生成したオブジェクト
+     */
+    private ConstructorDeclarationImpl copy() {
+        ConstructorDeclarationImpl result = new ConstructorDeclarationImpl();
+        result.javadoc = this.javadoc;
+        result.modifiers = this.modifiers;
+        result.typeParameters = this.typeParameters;
+        result.name = this.name;
+        result.formalParameters = this.formalParameters;
+        result.exceptionTypes = this.exceptionTypes;
+        result.body = this.body;
+        return result;
+    }
 }
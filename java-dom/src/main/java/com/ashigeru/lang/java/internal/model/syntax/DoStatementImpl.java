@@ -50,6 +50,7 @@ public final class DoStatementImpl extends ModelRoot implements DoStatement {
      *     {@code body}に{@code null}が指定された場合
      */
     public void setBody(Statement body) {
+        checkModifiable();
         Util.notNull(body, "body"); //$NON-NLS-1$
         this.body = body;
     }
@@ -67,10 +68,31 @@ public final class DoStatementImpl extends ModelRoot implements DoStatement {
      *     {@code condition}に{@code null}が指定された場合
      */
     public void setCondition(Expression condition) {
+        checkModifiable();
         Util.notNull(condition, "condition"); //$NON-NLS-1$
         this.condition = condition;
     }
 
+    /**
+     * 引数を検査せずにこの要素を生成する。
+     * <p>
+     * 引数の妥当性は呼び出し側が保証しなければならない。
+     * </p>
+     * @param body
+     *     ループ本体
+     * @param condition
+     *     条件式
+     * @return 生成した要素
+     */
+    static DoStatementImpl newUnchecked(
+            Statement body,
+            Expression condition) {
+        DoStatementImpl result = new DoStatementImpl();
+        result.body = body;
+        result.condition = condition;
+        return result;
+    }
+
     /**
      * この要素の種類を表す{@link ModelKind#DO_STATEMENT}を返す。
      * @return {@link ModelKind#DO_STATEMENT}
@@ -86,4 +108,29 @@ public final class DoStatementImpl extends ModelRoot implements DoStatement {
         Util.notNull(visitor, "visitor"); //$NON-NLS-1$
         return visitor.visitDoStatement(this, context);
     }
+
+    @Override
+    public DoStatement withBody(Statement body) {
+        DoStatementImpl result = copy();
+        result.setBody(body);
+        return result;
+    }
+
+    @Override
+    public DoStatement withCondition(Expression condition) {
+        DoStatementImpl result = copy();
+        result.setCondition(condition);
+        return result;
+    }
+
+    /**
+     * このオブジェクトのプロパティを共有する新しいオブジェクトを返す。
+     * @return 生成したオブジェクト
+     */
+    private DoStatementImpl copy() {
+        DoStatementImpl result = new DoStatementImpl();
+        result.body = this.body;
+        result.condition = this.condition;
+        return result;
+    }
 }
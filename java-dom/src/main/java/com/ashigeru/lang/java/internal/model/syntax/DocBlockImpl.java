@@ -52,6 +52,7 @@ public final class DocBlockImpl extends ModelRoot implements DocBlock {
      *     {@code tag}に{@code null}が指定された場合
      */
     public void setTag(String tag) {
+        checkModifiable();
         Util.notNull(tag, "tag"); //$NON-NLS-1$
         this.tag = tag;
     }
@@ -70,11 +71,32 @@ public final class DocBlockImpl extends ModelRoot implements DocBlock {
      *     {@code elements}に{@code null}が指定された場合
      */
     public void setElements(List<? extends DocElement> elements) {
+        checkModifiable();
         Util.notNull(elements, "elements"); //$NON-NLS-1$
         Util.notContainNull(elements, "elements"); //$NON-NLS-1$
         this.elements = Util.freeze(elements);
     }
 
+    /**
+     * 引数を検査せずにこの要素を生成する。
+     * <p>
+     * 引数の妥当性は呼び出し側が保証しなければならない。
+     * </p>
+     * @param tag
+     *     タグ文字列
+     * @param elements
+     *     インライン要素の一覧
+     * @return 生成した要素
+     */
+    static DocBlockImpl newUnchecked(
+            String tag,
+            List<? extends DocElement> elements) {
+        DocBlockImpl result = new DocBlockImpl();
+        result.tag = tag;
+        result.elements = Util.freeze(elements);
+        return result;
+    }
+
     /**
      * この要素の種類を表す{@link ModelKind#DOC_BLOCK}を返す。
      * @return {@link ModelKind#DOC_BLOCK}
@@ -90,4 +112,29 @@ public final class DocBlockImpl extends ModelRoot implements DocBlock {
         Util.notNull(visitor, "visitor"); //$NON-NLS-1$
         return visitor.visitDocBlock(this, context);
     }
+
+    @Override
+    public DocBlock withTag(String tag) {
+        DocBlockImpl result = copy();
+        result.setTag(tag);
+        return result;
+    }
+
+    @Override
+    public DocBlock withElements(List<? extends DocElement> elements) {
+        DocBlockImpl result = copy();
+        result.setElements(elements);
+        return result;
+    }
+
+    /**
+     * このオブジェクトのプロパティを共有する新しいオブジェクトを返す。
+     * @return 生成したオブジェクト
+     */
+    private DocBlockImpl copy() {
+        DocBlockImpl result = new DocBlockImpl();
+        result.tag = this.tag;
+        result.elements = this.elements;
+        return result;
+    }
 }
@@ -50,6 +50,7 @@ public final class DocFieldImpl extends ModelRoot implements DocField {
      *     ただし宣言型が指定されない場合は{@code null}
      */
     public void setType(Type type) {
+        checkModifiable();
         this.type = type;
     }
 
@@ -66,10 +67,32 @@ public final class DocFieldImpl extends ModelRoot implements DocField {
      *     {@code name}に{@code null}が指定された場合
      */
     public void setName(SimpleName name) {
+        checkModifiable();
         Util.notNull(name, "name"); //$NON-NLS-1$
         this.name = name;
     }
 
+    /**
+     * 引数を検査せずにこの要素を生成する。
+     * <p>
+     * 引数の妥当性は呼び出し側が保証しなければならない。
+     * </p>
+     * @param type
+     *     フィールドを宣言した型、
+     *     ただし宣言型が指定されない場合は{@code null}
+     * @param name
+     *     フィールドの名称
+     * @return 生成した要素
+     */
+    static DocFieldImpl newUnchecked(
+            Type type,
+            SimpleName name) {
+        DocFieldImpl result = new DocFieldImpl();
+        result.type = type;
+        result.name = name;
+        return result;
+    }
+
     /**
      * この要素の種類を表す{@link ModelKind#DOC_FIELD}を返す。
      * @return {@link ModelKind#DOC_FIELD}
@@ -85,4 +108,29 @@ public final class DocFieldImpl extends ModelRoot implements DocField {
         Util.notNull(visitor, "visitor"); //$NON-NLS-1$
         return visitor.visitDocField(this, context);
     }
+
+    @Override
+    public DocField withType(Type type) {
+        DocFieldImpl result = copy();
+        result.setType(type);
+        return result;
+    }
+
+    @Override
+    public DocField withName(SimpleName name) {
+        DocFieldImpl result = copy();
+        result.setName(name);
+        return result;
+    }
+
+    /**
+     * このオブジェクトのプロパティを共有する新しいオブジェクトを返す。
+     * @return 生成したオブジェクト
+     */
+    private DocFieldImpl copy() {
+        DocFieldImpl result = new DocFieldImpl();
+        result.type = this.type;
+        result.name = this.name;
+        return result;
+    }
 }
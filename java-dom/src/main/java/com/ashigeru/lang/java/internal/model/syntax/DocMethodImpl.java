@@ -58,6 +58,7 @@ public final class DocMethodImpl extends ModelRoot implements DocMethod {
      *     ただし宣言型が指定されない場合は{@code null}
      */
     public void setType(Type type) {
+        checkModifiable();
         this.type = type;
     }
 
@@ -74,6 +75,7 @@ public final class DocMethodImpl extends ModelRoot implements DocMethod {
      *     {@code name}に{@code null}が指定された場合
      */
     public void setName(SimpleName name) {
+        checkModifiable();
         Util.notNull(name, "name"); //$NON-NLS-1$
         this.name = name;
     }
@@ -92,11 +94,37 @@ public final class DocMethodImpl extends ModelRoot implements DocMethod {
      *     {@code formalParameters}に{@code null}が指定された場合
      */
     public void setFormalParameters(List<? extends DocMethodParameter> formalParameters) {
+        checkModifiable();
         Util.notNull(formalParameters, "formalParameters"); //$NON-NLS-1$
         Util.notContainNull(formalParameters, "formalParameters"); //$NON-NLS-1$
         this.formalParameters = Util.freeze(formalParameters);
     }
 
+    /**
+     * 引数を検査せずにこの要素を生成する。
+     * <p>
+     * 引数の妥当性は呼び出し側が保証しなければならない。
+     * </p>
+     * @param type
+     *     メソッドまたはコンストラクタの宣言型、
+     *     ただし宣言型が指定されない場合は{@code null}
+     * @param name
+     *     メソッドまたはコンストラクタの名前
+     * @param formalParameters
+     *     メソッドまたはコンストラクタの仮引数宣言の一覧
+     * @return 生成した要素
+     */
+    static DocMethodImpl newUnchecked(
+            Type type,
+            SimpleName name,
+            List<? extends DocMethodParameter> formalParameters) {
+        DocMethodImpl result = new DocMethodImpl();
+        result.type = type;
+        result.name = name;
+        result.formalParameters = Util.freeze(formalParameters);
+        return result;
+    }
+
     /**
      * この要素の種類を表す{@link ModelKind#DOC_METHOD}を返す。
      * @return {@link ModelKind#DOC_METHOD}
@@ -112,4 +140,37 @@ public final class DocMethodImpl extends ModelRoot implements DocMethod {
         Util.notNull(visitor, "visitor"); //$NON-NLS-1$
         return visitor.visitDocMethod(this, context);
     }
+
+    @Override
+    public DocMethod withType(Type type) {
+        DocMethodImpl result = copy();
+        result.setType(type);
+        return result;
+    }
+
+    @Override
+    public DocMethod withName(SimpleName name) {
+        DocMethodImpl result = copy();
+        result.setName(name);
+        return result;
+    }
+
+    @Override
+    public DocMethod withFormalParameters(List<? extends DocMethodParameter> formalParameters) {
+        DocMethodImpl result = copy();
+        result.setFormalParameters(formalParameters);
+        return result;
+    }
+
+    /**
+     * このオブジェクトのプロパティを共有する新しいオブジェクトを返す。
+     * @return 生成したオブジェクト
+     */
+    private DocMethodImpl copy() {
+        DocMethodImpl result = new DocMethodImpl();
+        result.type = this.type;
+        result.name = this.name;
+        result.formalParameters = this.formalParameters;
+        return result;
+    }
 }
@@ -55,6 +55,7 @@ public final class DocMethodParameterImpl extends ModelRoot implements DocMethod
      *     {@code type}に{@code null}が指定された場合
      */
     public void setType(Type type) {
+        checkModifiable();
         Util.notNull(type, "type"); //$NON-NLS-1$
         this.type = type;
     }
@@ -72,6 +73,7 @@ public final class DocMethodParameterImpl extends ModelRoot implements DocMethod
      *     ただし仮引数の名前が省略される場合は{@code null}
      */
     public void setName(SimpleName name) {
+        checkModifiable();
         this.name = name;
     }
 
@@ -87,9 +89,35 @@ public final class DocMethodParameterImpl extends ModelRoot implements DocMethod
      *     可変長引数
      */
     public void setVariableArity(boolean variableArity) {
+        checkModifiable();
         this.variableArity = variableArity;
     }
 
+    /**
+     * 引数を検査せずにこの要素を生成する。
+     * <p>
+     * 引数の妥当性は呼び出し側が保証しなければならない。
+     * </p>
+     * @param type
+     *     仮引数の型
+     * @param name
+     *     仮引数の名前、
+     *     ただし仮引数の名前が省略される場合は{@code null}
+     * @param variableArity
+     *     可変長引数
+     * @return 生成した要素
+     */
+    static DocMethodParameterImpl newUnchecked(
+            Type type,
+            SimpleName name,
+            boolean variableArity) {
+        DocMethodParameterImpl result = new DocMethodParameterImpl();
+        result.type = type;
+        result.name = name;
+        result.variableArity = variableArity;
+        return result;
+    }
+
     /**
      * この要素の種類を表す{@link ModelKind#DOC_METHOD_PARAMETER}を返す。
      * @return {@link ModelKind#DOC_METHOD_PARAMETER}
@@ -105,4 +133,37 @@ public final class DocMethodParameterImpl extends ModelRoot implements DocMethod
         Util.notNull(visitor, "visitor"); //$NON-NLS-1$
         return visitor.visitDocMethodParameter(this, context);
     }
+
+    @Override
+    public DocMethodParameter withType(Type type) {
+        DocMethodParameterImpl result = copy();
+        result.setType(type);
+        return result;
+    }
+
+    @Override
+    public DocMethodParameter withName(SimpleName name) {
+        DocMethodParameterImpl result = copy();
+        result.setName(name);
+        return result;
+    }
+
+    @Override
+    public DocMethodParameter withVariableArity(boolean variableArity) {
+        DocMethodParameterImpl result = copy();
+        result.setVariableArity(variableArity);
+        return result;
+    }
+
+    /**
+     * このオブジェクトのプロパティを共有する新しいオブジェクトを返す。
+     * @return 生成したオブジェクト
+     */
+    private DocMethodParameterImpl copy() {
+        DocMethodParameterImpl result = new DocMethodParameterImpl();
+        result.type = this.type;
+        result.name = this.name;
+        result.variableArity = this.variableArity;
+        return result;
+    }
 }
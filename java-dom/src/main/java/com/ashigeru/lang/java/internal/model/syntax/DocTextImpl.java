@@ -43,10 +43,27 @@ public final class DocTextImpl extends ModelRoot implements DocText {
      *     {@code string}に{@code null}が指定された場合
      */
     public void setString(String string) {
+        checkModifiable();
         Util.notNull(string, "string"); //$NON-NLS-1$
         this.string = string;
     }
 
+    /**
+     * 引数を検査せずにこの要素を生成する。
+     * <p>
+     * 引数の妥当性は呼び出し側が保証しなければならない。
+     * </p>
+     * @param string
+     *     テキストを構成する文字列
+     * @return 生成した要素
+     */
+    static DocTextImpl newUnchecked(
+            String string) {
+        DocTextImpl result = new DocTextImpl();
+        result.string = string;
+        return result;
+    }
+
     /**
      * この要素の種類を表す{@link ModelKind#DOC_TEXT}を返す。
      * @return {@link ModelKind#DOC_TEXT}
@@ -62,4 +79,21 @@ public final class DocTextImpl extends ModelRoot implements DocText {
         Util.notNull(visitor, "visitor"); //$NON-NLS-1$
         return visitor.visitDocText(this, context);
     }
+
+    @Override
+    public DocText withString(String string) {
+        DocTextImpl result = copy();
+        result.setString(string);
+        return result;
+    }
+
+    /**
+     * このオブジェクトのプロパティを共有する新しいオブジェクトを返す。
+     * @return 生成したオブジェクト
+     */
+    private DocTextImpl copy() {
+        DocTextImpl result = new DocTextImpl();
+        result.string = this.string;
+        return result;
+    }
 }
@@ -56,6 +56,7 @@ public final class EnhancedForStatementImpl extends ModelRoot implements Enhance
      *     {@code parameter}に{@code null}が指定された場合
      */
     public void setParameter(FormalParameterDeclaration parameter) {
+        checkModifiable();
         Util.notNull(parameter, "parameter"); //$NON-NLS-1$
         this.parameter = parameter;
     }
@@ -73,6 +74,7 @@ public final class EnhancedForStatementImpl extends ModelRoot implements Enhance
      *     {@code expression}に{@code null}が指定された場合
      */
     public void setExpression(Expression expression) {
+        checkModifiable();
         Util.notNull(expression, "expression"); //$NON-NLS-1$
         this.expression = expression;
     }
@@ -90,10 +92,35 @@ public final class EnhancedForStatementImpl extends ModelRoot implements Enhance
      *     {@code body}に{@code null}が指定された場合
      */
     public void setBody(Statement body) {
+        checkModifiable();
         Util.notNull(body, "body"); //$NON-NLS-1$
         this.body = body;
     }
 
+    /**
+     * 引数を検査せずにこの要素を生成する。
+     * <p>
+     * 引数の妥当性は呼び出し側が保証しなければならない。
+     * </p>
+     * @param parameter
+     *     ループ変数
+     * @param expression
+     *     ループ対象式
+     * @param body
+     *     ループ本体
+     * @return 生成した要素
+     */
+    static EnhancedForStatementImpl newUnchecked(
+            FormalParameterDeclaration parameter,
+            Expression expression,
+            Statement body) {
+        EnhancedForStatementImpl result = new EnhancedForStatementImpl();
+        result.parameter = parameter;
+        result.expression = expression;
+        result.body = body;
+        return result;
+    }
+
     /**
      * この要素の種類を表す{@link ModelKind#ENHANCED_FOR_STATEMENT}を返す。
      * @return {@link ModelKind#ENHANCED_FOR_STATEMENT}
@@ -109,4 +136,37 @@ public final class EnhancedForStatementImpl extends ModelRoot implements Enhance
         Util.notNull(visitor, "visitor"); //$NON-NLS-1$
         return visitor.visitEnhancedForStatement(this, context);
     }
+
+    @Override
+    public EnhancedForStatement withParameter(FormalParameterDeclaration parameter) {
+        EnhancedForStatementImpl result = copy();
+        result.setParameter(parameter);
+        return result;
+    }
+
+    @Override
+    public EnhancedForStatement withExpression(Expression expression) {
+        EnhancedForStatementImpl result = copy();
+        result.setExpression(expression);
+        return result;
+    }
+
+    @Override
+    public EnhancedForStatement withBody(Statement body) {
+        EnhancedForStatementImpl result = copy();
+        result.setBody(body);
+        return result;
+    }
+
+    /**
+     * このオブジェクトのプロパティを共有する新しいオブジェクトを返す。
+     * @return 生成したオブジェクト
+     */
+    private EnhancedForStatementImpl copy() {
+        EnhancedForStatementImpl result = new EnhancedForStatementImpl();
+        result.parameter = this.parameter;
+        result.expression = this.expression;
+        result.body = this.body;
+        return result;
+    }
 }
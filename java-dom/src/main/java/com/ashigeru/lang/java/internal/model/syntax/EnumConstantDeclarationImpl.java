@@ -70,6 +70,7 @@ public final class EnumConstantDeclarationImpl extends ModelRoot implements Enum
      *     ただしドキュメンテーションコメントが存在しない場合は{@code null}
      */
     public void setJavadoc(Javadoc javadoc) {
+        checkModifiable();
         this.javadoc = javadoc;
     }
 
@@ -87,6 +88,7 @@ public final class EnumConstantDeclarationImpl extends ModelRoot implements Enum
      *     {@code modifiers}に{@code null}が指定された場合
      */
     public void setModifiers(List<? extends Attribute> modifiers) {
+        checkModifiable();
         Util.notNull(modifiers, "modifiers"); //$NON-NLS-1$
         Util.notContainNull(modifiers, "modifiers"); //$NON-NLS-1$
         this.modifiers = Util.freeze(modifiers);
@@ -105,6 +107,7 @@ public final class EnumConstantDeclarationImpl extends ModelRoot implements Enum
      *     {@code name}に{@code null}が指定された場合
      */
     public void setName(SimpleName name) {
+        checkModifiable();
         Util.notNull(name, "name"); //$NON-NLS-1$
         this.name = name;
     }
@@ -123,6 +126,7 @@ public final class EnumConstantDeclarationImpl extends ModelRoot implements Enum
      *     {@code arguments}に{@code null}が指定された場合
      */
     public void setArguments(List<? extends Expression> arguments) {
+        checkModifiable();
         Util.notNull(arguments, "arguments"); //$NON-NLS-1$
         Util.notContainNull(arguments, "arguments"); //$NON-NLS-1$
         this.arguments = Util.freeze(arguments);
@@ -141,9 +145,44 @@ public final class EnumConstantDeclarationImpl extends ModelRoot implements Enum
      *     ただしクラスの本体が宣言されない場合は{@code null}
      */
     public void setBody(ClassBody body) {
+        checkModifiable();
         this.body = body;
     }
 
+    /**
+     * 引数を検査せずにこの要素を生成する。
+     * <p>
+     * 引数の妥当性は呼び出し側が保証しなければならない。
+     * </p>
+     * @param javadoc
+     *     ドキュメンテーションコメント、
+     *     ただしドキュメンテーションコメントが存在しない場合は{@code null}
+     * @param modifiers
+     *     修飾子および注釈の一覧
+     * @param name
+     *     列挙定数の名前
+     * @param arguments
+     *     コンストラクタ引数の一覧
+     * @param body
+     *     クラス本体の宣言、
+     *     ただしクラスの本体が宣言されない場合は{@code null}
+     * @return 生成した要素
+     */
+    static EnumConstantDeclarationImpl newUnchecked(
+            Javadoc javadoc,
+            List<? extends Attribute> modifiers,
+            SimpleName name,
+            List<? extends Expression> arguments,
+            ClassBody body) {
+        EnumConstantDeclarationImpl result = new EnumConstantDeclarationImpl();
+        result.javadoc = javadoc;
+        result.modifiers = Util.freeze(modifiers);
+        result.name = name;
+        result.arguments = Util.freeze(arguments);
+        result.body = body;
+        return result;
+    }
+
     /**
      * この要素の種類を表す{@link ModelKind#ENUM_CONSTANT_DECLARATION}を返す。
      * @return {@link ModelKind#ENUM_CONSTANT_DECLARATION}
@@ -159,4 +198,53 @@ public final class EnumConstantDeclarationImpl extends ModelRoot implements Enum
         Util.notNull(visitor, "visitor"); //$NON-NLS-1$
         return visitor.visitEnumConstantDeclaration(this, context);
     }
+
+    @Override
+    public EnumConstantDeclaration withJavadoc(Javadoc javadoc) {
+        EnumConstantDeclarationImpl result = copy();
+        result.setJavadoc(javadoc);
+        return result;
+    }
+
+    @Override
+    public EnumConstantDeclaration withModifiers(List<? extends Attribute> modifiers) {
+        EnumConstantDeclarationImpl result = copy();
+        result.setModifiers(modifiers);
+        return result;
+    }
+
+    @Override
+    public EnumConstantDeclaration withName(SimpleName name) {
+        EnumConstantDeclarationImpl result = copy();
+        result.setName(name);
+        return result;
+    }
+
+    @Override
+    public EnumConstantDeclaration withArguments(List<? extends Expression> arguments) {
+        EnumConstantDeclarationImpl result = copy();
+        result.setArguments(arguments);
+        return result;
+    }
+
+    @Override
+    public EnumConstantDeclaration withBody(ClassBody body) {
+        EnumConstantDeclarationImpl result = copy();
+        result.setBody(body);
+        return result;
+    }
+
+    /**
+     * このオブジェクトのプロパティを共有する新しいオブジェクトを返す。
+     * @return 生成したオブジェクト
+     */
+    private EnumConstantDeclarationImpl copy() {
+        EnumConstantDeclarationImpl result = new EnumConstantDeclarationImpl();
+        result.javadoc = this.javadoc;
+        result.modifiers = this.modifiers;
+        result.name = this.name;
+        result.arguments = this.arguments;
+        result.body = this.body;
+        return result;
+    }
 }
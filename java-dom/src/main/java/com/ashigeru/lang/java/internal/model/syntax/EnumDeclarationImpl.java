@@ -76,6 +76,7 @@ public final class EnumDeclarationImpl extends ModelRoot implements EnumDeclarat
      *     ただしドキュメンテーションコメントが存在しない場合は{@code null}
      */
     public void setJavadoc(Javadoc javadoc) {
+        checkModifiable();
         this.javadoc = javadoc;
     }
 
@@ -93,6 +94,7 @@ public final class EnumDeclarationImpl extends ModelRoot implements EnumDeclarat
      *     {@code modifiers}に{@code null}が指定された場合
      */
     public void setModifiers(List<? extends Attribute> modifiers) {
+        checkModifiable();
         Util.notNull(modifiers, "modifiers"); //$NON-NLS-1$
         Util.notContainNull(modifiers, "modifiers"); //$NON-NLS-1$
         this.modifiers = Util.freeze(modifiers);
@@ -111,6 +113,7 @@ public final class EnumDeclarationImpl extends ModelRoot implements EnumDeclarat
      *     {@code name}に{@code null}が指定された場合
      */
     public void setName(SimpleName name) {
+        checkModifiable();
         Util.notNull(name, "name"); //$NON-NLS-1$
         this.name = name;
     }
@@ -129,6 +132,7 @@ public final class EnumDeclarationImpl extends ModelRoot implements EnumDeclarat
      *     {@code superInterfaceTypes}に{@code null}が指定された場合
      */
     public void setSuperInterfaceTypes(List<? extends Type> superInterfaceTypes) {
+        checkModifiable();
         Util.notNull(superInterfaceTypes, "superInterfaceTypes"); //$NON-NLS-1$
         Util.notContainNull(superInterfaceTypes, "superInterfaceTypes"); //$NON-NLS-1$
         this.superInterfaceTypes = Util.freeze(superInterfaceTypes);
@@ -148,6 +152,7 @@ public final class EnumDeclarationImpl extends ModelRoot implements EnumDeclarat
      *     {@code constantDeclarations}に{@code null}が指定された場合
      */
     public void setConstantDeclarations(List<? extends EnumConstantDeclaration> constantDeclarations) {
+        checkModifiable();
         Util.notNull(constantDeclarations, "constantDeclarations"); //$NON-NLS-1$
         Util.notContainNull(constantDeclarations, "constantDeclarations"); //$NON-NLS-1$
         this.constantDeclarations = Util.freeze(constantDeclarations);
@@ -167,11 +172,49 @@ public final class EnumDeclarationImpl extends ModelRoot implements EnumDeclarat
      *     {@code bodyDeclarations}に{@code null}が指定された場合
      */
     public void setBodyDeclarations(List<? extends TypeBodyDeclaration> bodyDeclarations) {
+        checkModifiable();
         Util.notNull(bodyDeclarations, "bodyDeclarations"); //$NON-NLS-1$
         Util.notContainNull(bodyDeclarations, "bodyDeclarations"); //$NON-NLS-1$
         this.bodyDeclarations = Util.freeze(bodyDeclarations);
     }
 
+    /**
+     * 引数を検査せずにこの要素を生成する。
+     * <p>
+     * 引数の妥当性は呼び出し側が保証しなければならない。
+     * </p>
+     * @param javadoc
+     *     ドキュメンテーションコメント、
+     *     ただしドキュメンテーションコメントが存在しない場合は{@code null}
+     * @param modifiers
+     *     修飾子および注釈の一覧
+     * @param name
+     *     型の単純名
+     * @param superInterfaceTypes
+     *     親インターフェースの一覧
+     * @param constantDeclarations
+     *     列挙定数の一覧
+     * @param bodyDeclarations
+     *     メンバの一覧
+     * @return 生成した要素
+     */
+    static EnumDeclarationImpl newUnchecked(
+            Javadoc javadoc,
+            List<? extends Attribute> modifiers,
+            SimpleName name,
+            List<? extends Type> superInterfaceTypes,
+            List<? extends EnumConstantDeclaration> constantDeclarations,
+            List<? extends TypeBodyDeclaration> bodyDeclarations) {
+        EnumDeclarationImpl result = new EnumDeclarationImpl();
+        result.javadoc = javadoc;
+        result.modifiers = Util.freeze(modifiers);
+        result.name = name;
+        result.superInterfaceTypes = Util.freeze(superInterfaceTypes);
+        result.constantDeclarations = Util.freeze(constantDeclarations);
+        result.bodyDeclarations = Util.freeze(bodyDeclarations);
+        return result;
+    }
+
     /**
      * この要素の種類を表す{@link ModelKind#ENUM_DECLARATION}を返す。
      * @return {@link ModelKind#ENUM_DECLARATION}
@@ -187,4 +230,61 @@ public final class EnumDeclarationImpl extends ModelRoot implements EnumDeclarat
         Util.notNull(visitor, "visitor"); //$NON-NLS-1$
         return visitor.visitEnumDeclaration(this, context);
     }
+
+    @Override
+    public EnumDeclaration withJavadoc(Javadoc javadoc) {
+        EnumDeclarationImpl result = copy();
+        result.setJavadoc(javadoc);
+        return result;
+    }
+
+    @Override
+    public EnumDeclaration withModifiers(List<? extends Attribute> modifiers) {
+        EnumDeclarationImpl result = copy();
+        result.setModifiers(modifiers);
+        return result;
+    }
+
+    @Override
+    public EnumDeclaration withName(SimpleName name) {
+        EnumDeclarationImpl result = copy();
+        result.setName(name);
+        return result;
+    }
+
+    @Override
+    public EnumDeclaration withSuperInterfaceTypes(List<? extends Type> superInterfaceTypes) {
+        EnumDeclarationImpl result = copy();
+        result.setSuperInterfaceTypes(superInterfaceTypes);
+        return result;
+    }
+
+    @Override
+    public EnumDeclaration withConstantDeclarations(List<? extends EnumConstantDeclaration> constantDeclarations) {
+        EnumDeclarationImpl result = copy();
+        result.setConstantDeclarations(constantDeclarations);
+        return result;
+    }
+
+    @Override
+    public EnumDeclaration withBodyDeclarations(List<? extends TypeBodyDeclaration> bodyDeclarations) {
+        EnumDeclarationImpl result = copy();
+        result.setBodyDeclarations(bodyDeclarations);
+        return result;
+    }
+
+    /**
+     * このオブジェクトのプロパティを共有する新しいオブジェクトを返す。
+     * @return 生成したオブジェクト
+     */
+    private EnumDeclarationImpl copy() {
+        EnumDeclarationImpl result = new EnumDeclarationImpl();
+        result.javadoc = this.javadoc;
+        result.modifiers = this.modifiers;
+        result.name = this.name;
+        result.superInterfaceTypes = this.superInterfaceTypes;
+        result.constantDeclarations = this.constantDeclarations;
+        result.bodyDeclarations = this.bodyDeclarations;
+        return result;
+    }
 }
@@ -15,6 +15,8 @@
  */
 package com.ashigeru.lang.java.internal.model.syntax;
 
+import com.ashigeru.lang.java.internal.model.util.ExpressionPriority;
+
 import com.ashigeru.lang.java.model.syntax.Expression;
 import com.ashigeru.lang.java.model.syntax.FieldAccessExpression;
 import com.ashigeru.lang.java.model.syntax.ModelKind;
@@ -50,6 +52,7 @@ public final class FieldAccessExpressionImpl extends ModelRoot implements FieldA
      *     {@code qualifier}に{@code null}が指定された場合
      */
     public void setQualifier(Expression qualifier) {
+        checkModifiable();
         Util.notNull(qualifier, "qualifier"); //$NON-NLS-1$
         this.qualifier = qualifier;
     }
@@ -67,10 +70,31 @@ public final class FieldAccessExpressionImpl extends ModelRoot implements FieldA
      *     {@code name}に{@code null}が指定された場合
      */
     public void setName(SimpleName name) {
+        checkModifiable();
         Util.notNull(name, "name"); //$NON-NLS-1$
         this.name = name;
     }
 
+    /**
+     * 引数を検査せずにこの要素を生成する。
+     * <p>
+     * 引数の妥当性は呼び出し側が保証しなければならない。
+     * </p>
+     * @param qualifier
+     *     限定式
+     * @param name
+     *     フィールドの名前
+     * @return 生成した要素
+     */
+    static FieldAccessExpressionImpl newUnchecked(
+            Expression qualifier,
+            SimpleName name) {
+        FieldAccessExpressionImpl result = new FieldAccessExpressionImpl();
+        result.qualifier = qualifier;
+        result.name = name;
+        return result;
+    }
+
     /**
      * この要素の種類を表す{@link ModelKind#FIELD_ACCESS_EXPRESSION}を返す。
      * @return {@link ModelKind#FIELD_ACCESS_EXPRESSION}
@@ -86,4 +110,29 @@ public final class FieldAccessExpressionImpl extends ModelRoot implements FieldA
         Util.notNull(visitor, "visitor"); //$NON-NLS-1$
         return visitor.visitFieldAccessExpression(this, context);
     }
+
+    @Override
+    public FieldAccessExpression withQualifier(Expression qualifier) {
+        FieldAccessExpressionImpl result = copy();
+        result.setQualifier(Util.parenthesize(qualifier, ExpressionPriority.PRIMARY));
+        return result;
+    }
+
+    @Override
+    public FieldAccessExpression withName(SimpleName name) {
+        FieldAccessExpressionImpl result = copy();
+        result.setName(name);
+        return result;
+    }
+
+    /**
+     * このオブジェクトのプロパティを共有する新しいオブジェクトを返す。
+     * @return 生成したオブジェクト
+     */
+    private FieldAccessExpressionImpl copy() {
+        FieldAccessExpressionImpl result = new FieldAccessExpressionImpl();
+        result.qualifier = this.qualifier;
+        result.name = this.name;
+        return result;
+    }
 }
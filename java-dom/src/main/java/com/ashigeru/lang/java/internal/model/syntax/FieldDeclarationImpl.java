@@ -64,6 +64,7 @@ public final class FieldDeclarationImpl extends ModelRoot implements FieldDeclar
      *     ただしドキュメンテーションコメントが存在しない場合は{@code null}
      */
     public void setJavadoc(Javadoc javadoc) {
+        checkModifiable();
         this.javadoc = javadoc;
     }
 
@@ -81,6 +82,7 @@ public final class FieldDeclarationImpl extends ModelRoot implements FieldDeclar
      *     {@code modifiers}に{@code null}が指定された場合
      */
     public void setModifiers(List<? extends Attribute> modifiers) {
+        checkModifiable();
         Util.notNull(modifiers, "modifiers"); //$NON-NLS-1$
         Util.notContainNull(modifiers, "modifiers"); //$NON-NLS-1$
         this.modifiers = Util.freeze(modifiers);
@@ -99,6 +101,7 @@ public final class FieldDeclarationImpl extends ModelRoot implements FieldDeclar
      *     {@code type}に{@code null}が指定された場合
      */
     public void setType(Type type) {
+        checkModifiable();
         Util.notNull(type, "type"); //$NON-NLS-1$
         this.type = type;
     }
@@ -118,12 +121,42 @@ public final class FieldDeclarationImpl extends ModelRoot implements FieldDeclar
      *     {@code variableDeclarators}に空が指定された場合
      */
     public void setVariableDeclarators(List<? extends VariableDeclarator> variableDeclarators) {
+        checkModifiable();
         Util.notNull(variableDeclarators, "variableDeclarators"); //$NON-NLS-1$
         Util.notContainNull(variableDeclarators, "variableDeclarators"); //$NON-NLS-1$
         Util.notEmpty(variableDeclarators, "variableDeclarators"); //$NON-NLS-1$
         this.variableDeclarators = Util.freeze(variableDeclarators);
     }
 
+    /**
+     * 引数を検査せずにこの要素を生成する。
+     * <p>
+     * 引数の妥当性は呼び出し側が保証しなければならない。
+     * </p>
+     * @param javadoc
+     *     ドキュメンテーションコメント、
+     *     ただしドキュメンテーションコメントが存在しない場合は{@code null}
+     * @param modifiers
+     *     修飾子および注釈の一覧
+     * @param type
+     *     フィールドの型
+     * @param variableDeclarators
+     *     宣言するフィールドの一覧
+     * @return 生成した要素
+     */
+    static FieldDeclarationImpl newUnchecked(
+            Javadoc javadoc,
+            List<? extends Attribute> modifiers,
+            Type type,
+            List<? extends VariableDeclarator> variableDeclarators) {
+        FieldDeclarationImpl result = new FieldDeclarationImpl();
+        result.javadoc = javadoc;
+        result.modifiers = Util.freeze(modifiers);
+        result.type = type;
+        result.variableDeclarators = Util.freeze(variableDeclarators);
+        return result;
+    }
+
     /**
      * この要素の種類を表す{@link ModelKind#FIELD_DECLARATION}を返す。
      * @return {@link ModelKind#FIELD_DECLARATION}
@@ -139,4 +172,45 @@ public final class FieldDeclarationImpl extends ModelRoot implements FieldDeclar
         Util.notNull(visitor, "visitor"); //$NON-NLS-1$
         return visitor.visitFieldDeclaration(this, context);
     }
+
+    @Override
+    public FieldDeclaration withJavadoc(Javadoc javadoc) {
+        FieldDeclarationImpl result = copy();
+        result.setJavadoc(javadoc);
+        return result;
+    }
+
+    @Override
+    public FieldDeclaration withModifiers(List<? extends Attribute> modifiers) {
+        FieldDeclarationImpl result = copy();
+        result.setModifiers(modifiers);
+        return result;
+    }
+
+    @Override
+    public FieldDeclaration withType(Type type) {
+        FieldDeclarationImpl result = copy();
+        result.setType(type);
+        return result;
+    }
+
+    @Override
+    public FieldDeclaration withVariableDeclarators(List<? extends VariableDeclarator> variableDeclarators) {
+        FieldDeclarationImpl result = copy();
+        result.setVariableDeclarators(variableDeclarators);
+        return result;
+    }
+
+    /**
+     * このオブジェクトのプロパティを共有する新しいオブジェクトを返す。
+     * @return 生成したオブジェクト
+     */
+    private FieldDeclarationImpl copy() {
+        FieldDeclarationImpl result = new FieldDeclarationImpl();
+        result.javadoc = this.javadoc;
+        result.modifiers = this.modifiers;
+        result.type = this.type;
+        result.variableDeclarators = this.variableDeclarators;
+        return result;
+    }
 }
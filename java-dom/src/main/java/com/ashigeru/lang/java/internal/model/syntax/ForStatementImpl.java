@@ -62,6 +62,7 @@ public final class ForStatementImpl extends ModelRoot implements ForStatement {
      *     ただしループ初期化部が指定されない場合は{@code null}
      */
     public void setInitialization(ForInitializer initialization) {
+        checkModifiable();
         this.initialization = initialization;
     }
 
@@ -78,6 +79,7 @@ public final class ForStatementImpl extends ModelRoot implements ForStatement {
      *     ただしループ条件が指定されない場合は{@code null}
      */
     public void setCondition(Expression condition) {
+        checkModifiable();
         this.condition = condition;
     }
 
@@ -94,6 +96,7 @@ public final class ForStatementImpl extends ModelRoot implements ForStatement {
      *     ただしループ更新部が指定されない場合は{@code null}
      */
     public void setUpdate(StatementExpressionList update) {
+        checkModifiable();
         this.update = update;
     }
 
@@ -110,10 +113,42 @@ public final class ForStatementImpl extends ModelRoot implements ForStatement {
      *     {@code body}に{@code null}が指定された場合
      */
     public void setBody(Statement body) {
+        checkModifiable();
         Util.notNull(body, "body"); //$NON-NLS-1$
         this.body = body;
     }
 
+    /**
+     * 引数を検査せずにこの要素を生成する。
+     * <p>
+     * 引数の妥当性は呼び出し側が保証しなければならない。
+     * </p>
+     * @param initialization
+     *     ループ初期化部、
+     *     ただしループ初期化部が指定されない場合は{@code null}
+     * @param condition
+     *     ループ条件式、
+     *     ただしループ条件が指定されない場合は{@code null}
+     * @param update
+     *     ループ更新部、
+     *     ただしループ更新部が指定されない場合は{@code null}
+     * @param body
+     *     ループ本体
+     * @return 生成した要素
+     */
+    static ForStatementImpl newUnchecked(
+            ForInitializer initialization,
+            Expression condition,
+            StatementExpressionList update,
+            Statement body) {
+        ForStatementImpl result = new ForStatementImpl();
+        result.initialization = initialization;
+        result.condition = condition;
+        result.update = update;
+        result.body = body;
+        return result;
+    }
+
     /**
      * この要素の種類を表す{@link ModelKind#FOR_STATEMENT}を返す。
      * @return {@link ModelKind#FOR_STATEMENT}
@@ -129,4 +164,45 @@ public final class ForStatementImpl extends ModelRoot implements ForStatement {
         Util.notNull(visitor, "visitor"); //$NON-NLS-1$
         return visitor.visitForStatement(this, context);
     }
+
+    @Override
+    public ForStatement withInitialization(ForInitializer initialization) {
+        ForStatementImpl result = copy();
+        result.setInitialization(initialization);
+        return result;
+    }
+
+    @Override
+    public ForStatement withCondition(Expression condition) {
+        ForStatementImpl result = copy();
+        result.setCondition(condition);
+        return result;
+    }
+
+    @Override
+    public ForStatement withUpdate(StatementExpressionList update) {
+        ForStatementImpl result = copy();
+        result.setUpdate(update);
+        return result;
+    }
+
+    @Override
+    public ForStatement withBody(Statement body) {
+        ForStatementImpl result = copy();
+        result.setBody(body);
+        return result;
+    }
+
+    /**
+     * このオブジェクトのプロパティを共有する新しいオブジェクトを返す。
+     * @return 生成したオブジェクト
+     */
+    private ForStatementImpl copy() {
+        ForStatementImpl result = new ForStatementImpl();
+        result.initialization = this.initialization;
+        result.condition = this.condition;
+        result.update = this.update;
+        result.body = this.body;
+        return result;
+    }
 }
@@ -69,6 +69,7 @@ public final class FormalParameterDeclarationImpl extends ModelRoot implements F
      *     {@code modifiers}に{@code null}が指定された場合
      */
     public void setModifiers(List<? extends Attribute> modifiers) {
+        checkModifiable();
         Util.notNull(modifiers, "modifiers"); //$NON-NLS-1$
         Util.notContainNull(modifiers, "modifiers"); //$NON-NLS-1$
         this.modifiers = Util.freeze(modifiers);
@@ -87,6 +88,7 @@ public final class FormalParameterDeclarationImpl extends ModelRoot implements F
      *     {@code type}に{@code null}が指定された場合
      */
     public void setType(Type type) {
+        checkModifiable();
         Util.notNull(type, "type"); //$NON-NLS-1$
         this.type = type;
     }
@@ -103,6 +105,7 @@ public final class FormalParameterDeclarationImpl extends ModelRoot implements F
      *     可変長引数
      */
     public void setVariableArity(boolean variableArity) {
+        checkModifiable();
         this.variableArity = variableArity;
     }
 
@@ -119,6 +122,7 @@ public final class FormalParameterDeclarationImpl extends ModelRoot implements F
      *     {@code name}に{@code null}が指定された場合
      */
     public void setName(SimpleName name) {
+        checkModifiable();
         Util.notNull(name, "name"); //$NON-NLS-1$
         this.name = name;
     }
@@ -136,9 +140,42 @@ public final class FormalParameterDeclarationImpl extends ModelRoot implements F
      *     {@code extraDimensions}に負の値が指定された場合
      */
     public void setExtraDimensions(int extraDimensions) {
+        checkModifiable();
         this.extraDimensions = extraDimensions;
     }
 
+    /**
+     * 引数を検査せずにこの要素を生成する。
+     * <p>
+     * 引数の妥当性は呼び出し側が保証しなければならない。
+     * </p>
+     * @param modifiers
+     *     修飾子および注釈の一覧
+     * @param type
+     *     宣言する変数の型
+     * @param variableArity
+     *     可変長引数
+     * @param name
+     *     仮引数の名前
+     * @param extraDimensions
+     *     追加次元数の宣言
+     * @return 生成した要素
+     */
+    static FormalParameterDeclarationImpl newUnchecked(
+            List<? extends Attribute> modifiers,
+            Type type,
+            boolean variableArity,
+            SimpleName name,
+            int extraDimensions) {
+        FormalParameterDeclarationImpl result = new FormalParameterDeclarationImpl();
+        result.modifiers = Util.freeze(modifiers);
+        result.type = type;
+        result.variableArity = variableArity;
+        result.name = name;
+        result.extraDimensions = extraDimensions;
+        return result;
+    }
+
     /**
      * この要素の種類を表す{@link ModelKind#FORMAL_PARAMETER_DECLARATION}を返す。
      * @return {@link ModelKind#FORMAL_PARAMETER_DECLARATION}
@@ -154,4 +191,53 @@ public final class FormalParameterDeclarationImpl extends ModelRoot implements F
         Util.notNull(visitor, "visitor"); //$NON-NLS-1$
         return visitor.visitFormalParameterDeclaration(this, context);
     }
+
+    @Override
+    public FormalParameterDeclaration withModifiers(List<? extends Attribute> modifiers) {
+        FormalParameterDeclarationImpl result = copy();
+        result.setModifiers(modifiers);
+        return result;
+    }
+
+    @Override
+    public FormalParameterDeclaration withType(Type type) {
+        FormalParameterDeclarationImpl result = copy();
+        result.setType(type);
+        return result;
+    }
+
+    @Override
+    public FormalParameterDeclaration withVariableArity(boolean variableArity) {
+        FormalParameterDeclarationImpl result = copy();
+        result.setVariableArity(variableArity);
+        return result;
+    }
+
+    @Override
+    public FormalParameterDeclaration withName(SimpleName name) {
+        FormalParameterDeclarationImpl result = copy();
+        result.setName(name);
+        return result;
+    }
+
+    @Override
+    public FormalParameterDeclaration withExtraDimensions(int extraDimensions) {
+        FormalParameterDeclarationImpl result = copy();
+        result.setExtraDimensions(extraDimensions);
+        return result;
+    }
+
+    /**
+     * このオブジェクトのプロパティを共有する新しいオブジェクトを返す。
+     * @return 生成したオブジェクト
+     */
+    private FormalParameterDeclarationImpl copy() {
+        FormalParameterDeclarationImpl result = new FormalParameterDeclarationImpl();
+        result.modifiers = this.modifiers;
+        result.type = this.type;
+        result.variableArity = this.variableArity;
+        result.name = this.name;
+        result.extraDimensions = this.extraDimensions;
+        return result;
+    }
 }
@@ -0,0 +1,270 @@
+/*
+ * Copyright 2011 @ashigeru.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package com.ashigeru.lang.java.internal.model.syntax;
+
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.RandomAccess;
+
+/**
+ * モデルの子要素を保持する変更不可能なリスト。
+ * <p>
+ * 要素数が0, 1, 2の場合にはそれぞれ専用の表現を利用し、それ以外の場合は配列を直接保持する。
+ * </p>
+ * @param <E> 要素の型
+ * @author ashigeru
+ */
+public abstract class FrozenList<E> extends AbstractList<E> implements RandomAccess {
+
+    private static final FrozenList<Object> EMPTY = new Empty();
+
+    FrozenList() {
+        return;
+    }
+
+    /**
+     * 空のリストを返す。
+     * @param <E> 要素の型
+     * @return 空のリスト
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> FrozenList<E> of() {
+        return (FrozenList<E>) EMPTY;
+    }
+
+    /**
+     * 指定のコレクションの内容を持つリストを返す。
+     * <p>
+     * 指定のコレクションがすでにこのクラスのインスタンスである場合、コピーせずにそのまま返す。
+     * </p>
+     * @param <E> 要素の型
+     * @param elements 対象のコレクション
+     * @return 指定のコレクションの内容を持つリスト
+     * @throws IllegalArgumentException 引数に{@code null}が含まれる場合
+     */
+    public static <E> FrozenList<E> copyOf(Collection<? extends E> elements) {
+        if (elements == null) {
+            throw new IllegalArgumentException("elements must not be null"); //$NON-NLS-1$
+        }
+        if (elements instanceof FrozenList<?>) {
+            @SuppressWarnings("unchecked")
+            FrozenList<E> result = (FrozenList<E>) elements;
+            return result;
+        }
+        if (elements.isEmpty()) {
+            return of();
+        }
+        return adopt(elements.toArray());
+    }
+
+    /**
+     * 指定の配列の内容を持つリストを返す。
+     * @param <E> 要素の型
+     * @param elements 対象の配列
+     * @return 指定の配列の内容を持つリスト
+     * @throws IllegalArgumentException 引数に{@code null}が含まれる場合
+     */
+    public static <E> FrozenList<E> copyOf(E[] elements) {
+        if (elements == null) {
+            throw new IllegalArgumentException("elements must not be null"); //$NON-NLS-1$
+        }
+        return adopt(elements.clone());
+    }
+
+    /**
+     * 指定の配列をコピーせずに利用するリストを返す。
+     * <p>
+     * 呼び出し元は、この呼び出し以降に配列の内容を変更してはならない。
+     * </p>
+     * @param <E> 要素の型
+     * @param elements 対象の配列
+     * @return 指定の配列を利用するリスト
+     */
+    @SuppressWarnings("unchecked")
+    static <E> FrozenList<E> adopt(Object[] elements) {
+        assert elements != null;
+        switch (elements.length) {
+        case 0:
+            return of();
+        case 1:
+            return new Single<E>((E) elements[0]);
+        case 2:
+            return new Pair<E>((E) elements[0], (E) elements[1]);
+        default:
+            return new Array<E>(elements);
+        }
+    }
+
+    /**
+     * {@link FrozenList}を構築するビルダー。
+     * <p>
+     * {@link #toList()}は内部の配列をコピーせずにリストへ引き渡すため、
+     * その後はこのビルダーを利用できない。
+     * </p>
+     * @param <E> 要素の型
+     */
+    public static final class Builder<E> {
+
+        private Object[] elements;
+
+        private int size;
+
+        /**
+         * インスタンスを生成する。
+         * @param expectedSize 想定する要素数
+         * @throws IllegalArgumentException 引数に負の値が指定された場合
+         */
+        public Builder(int expectedSize) {
+            if (expectedSize < 0) {
+                throw new IllegalArgumentException("expectedSize must not be negative"); //$NON-NLS-1$
+            }
+            this.elements = new Object[expectedSize];
+        }
+
+        /**
+         * 要素を末尾に追加する。
+         * @param element 追加する要素
+         * @return このオブジェクト
+         * @throws IllegalArgumentException 引数に{@code null}が指定された場合
+         * @throws IllegalStateException すでに{@link #toList()}が呼び出されている場合
+         */
+        public Builder<E> add(E element) {
+            Util.notNull(element, "element"); //$NON-NLS-1$
+            if (elements == null) {
+                throw new IllegalStateException();
+            }
+            if (size == elements.length) {
+                Object[] grown = new Object[Math.max(size * 2, 4)];
+                System.arraycopy(elements, 0, grown, 0, size);
+                elements = grown;
+            }
+            elements[size++] = element;
+            return this;
+        }
+
+        /**
+         * これまでに追加した要素を持つリストを返す。
+         * @return これまでに追加した要素を持つリスト
+         * @throws IllegalStateException すでに{@link #toList()}が呼び出されている場合
+         */
+        public FrozenList<E> toList() {
+            if (elements == null) {
+                throw new IllegalStateException();
+            }
+            Object[] results = elements;
+            elements = null;
+            if (results.length != size) {
+                Object[] trimmed = new Object[size];
+                System.arraycopy(results, 0, trimmed, 0, size);
+                results = trimmed;
+            }
+            return adopt(results);
+        }
+    }
+
+    private static final class Empty extends FrozenList<Object> {
+
+        Empty() {
+            return;
+        }
+
+        @Override
+        public Object get(int index) {
+            throw new IndexOutOfBoundsException(String.valueOf(index));
+        }
+
+        @Override
+        public int size() {
+            return 0;
+        }
+    }
+
+    private static final class Single<E> extends FrozenList<E> {
+
+        private final E first;
+
+        Single(E first) {
+            this.first = first;
+        }
+
+        @Override
+        public E get(int index) {
+            if (index != 0) {
+                throw new IndexOutOfBoundsException(String.valueOf(index));
+            }
+            return first;
+        }
+
+        @Override
+        public int size() {
+            return 1;
+        }
+    }
+
+    private static final class Pair<E> extends FrozenList<E> {
+
+        private final E first;
+
+        private final E second;
+
+        Pair(E first, E second) {
+            this.first = first;
+            this.second = second;
+        }
+
+        @Override
+        public E get(int index) {
+            switch (index) {
+            case 0:
+                return first;
+            case 1:
+                return second;
+            default:
+                throw new IndexOutOfBoundsException(String.valueOf(index));
+            }
+        }
+
+        @Override
+        public int size() {
+            return 2;
+        }
+    }
+
+    private static final class Array<E> extends FrozenList<E> {
+
+        private final Object[] elements;
+
+        Array(Object[] elements) {
+            this.elements = elements;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public E get(int index) {
+            return (E) elements[index];
+        }
+
+        @Override
+        public int size() {
+            return elements.length;
+        }
+
+        @Override
+        public Object[] toArray() {
+            return elements.clone();
+        }
+    }
+}
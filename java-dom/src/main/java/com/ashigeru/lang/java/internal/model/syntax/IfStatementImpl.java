@@ -55,6 +55,7 @@ public final class IfStatementImpl extends ModelRoot implements IfStatement {
      *     {@code condition}に{@code null}が指定された場合
      */
     public void setCondition(Expression condition) {
+        checkModifiable();
         Util.notNull(condition, "condition"); //$NON-NLS-1$
         this.condition = condition;
     }
@@ -72,6 +73,7 @@ public final class IfStatementImpl extends ModelRoot implements IfStatement {
      *     {@code thenStatement}に{@code null}が指定された場合
      */
     public void setThenStatement(Statement thenStatement) {
+        checkModifiable();
         Util.notNull(thenStatement, "thenStatement"); //$NON-NLS-1$
         this.thenStatement = thenStatement;
     }
@@ -89,9 +91,35 @@ public final class IfStatementImpl extends ModelRoot implements IfStatement {
      *     ただしこの文が{@code if-then}文である場合は{@code null}
      */
     public void setElseStatement(Statement elseStatement) {
+        checkModifiable();
         this.elseStatement = elseStatement;
     }
 
+    /**
+     * 引数を検査せずにこの要素を生成する。
+     * <p>
+     * 引数の妥当性は呼び出し側が保証しなければならない。
+     * </p>
+     * @param condition
+     *     条件式
+     * @param thenStatement
+     *     条件成立時に実行される文
+     * @param elseStatement
+     *     条件不成立時に実行される文、
+     *     ただしこの文が{@code if-then}文である場合は{@code null}
+     * @return 生成した要素
+     */
+    static IfStatementImpl newUnchecked(
+            Expression condition,
+            Statement thenStatement,
+            Statement elseStatement) {
+        IfStatementImpl result = new IfStatementImpl();
+        result.condition = condition;
+        result.thenStatement = thenStatement;
+        result.elseStatement = elseStatement;
+        return result;
+    }
+
     /**
      * この要素の種類を表す{@link ModelKind#IF_STATEMENT}を返す。
      * @return {@link ModelKind#IF_STATEMENT}
@@ -107,4 +135,37 @@ public final class IfStatementImpl extends ModelRoot implements IfStatement {
         Util.notNull(visitor, "visitor"); //$NON-NLS-1$
         return visitor.visitIfStatement(this, context);
     }
+
+    @Override
+    public IfStatement withCondition(Expression condition) {
+        IfStatementImpl result = copy();
+        result.setCondition(condition);
+        return result;
+    }
+
+    @Override
+    public IfStatement withThenStatement(Statement thenStatement) {
+        IfStatementImpl result = copy();
+        result.setThenStatement(thenStatement);
+        return result;
+    }
+
+    @Override
+    public IfStatement withElseStatement(Statement elseStatement) {
+        IfStatementImpl result = copy();
+        result.setElseStatement(elseStatement);
+        return result;
+    }
+
+    /**
+     * このオブジェクトのプロパティを共有する新しいオブジェクトを返す。
+     * @return 生成したオブジェクト
+     */
+    private IfStatementImpl copy() {
+        IfStatementImpl result = new IfStatementImpl();
+        result.condition = this.condition;
+        result.thenStatement = this.thenStatement;
+        result.elseStatement = this.elseStatement;
+        return result;
+    }
 }
@@ -50,6 +50,7 @@ public final class ImportDeclarationImpl extends ModelRoot implements ImportDecl
      *     {@code importKind}に{@code null}が指定された場合
      */
     public void setImportKind(ImportKind importKind) {
+        checkModifiable();
         Util.notNull(importKind, "importKind"); //$NON-NLS-1$
         this.importKind = importKind;
     }
@@ -67,10 +68,31 @@ public final class ImportDeclarationImpl extends ModelRoot implements ImportDecl
      *     {@code name}に{@code null}が指定された場合
      */
     public void setName(Name name) {
+        checkModifiable();
         Util.notNull(name, "name"); //$NON-NLS-1$
         this.name = name;
     }
 
+    /**
+     * 引数を検査せずにこの要素を生成する。
+     * <p>
+     * 引数の妥当性は呼び出し側が保証しなければならない。
+     * </p>
+     * @param importKind
+     *     インポートの種類
+     * @param name
+     *     インポートする型およびメンバの名前
+     * @return 生成した要素
+     */
+    static ImportDeclarationImpl newUnchecked(
+            ImportKind importKind,
+            Name name) {
+        ImportDeclarationImpl result = new ImportDeclarationImpl();
+        result.importKind = importKind;
+        result.name = name;
+        return result;
+    }
+
     /**
      * この要素の種類を表す{@link ModelKind#IMPORT_DECLARATION}を返す。
      * @return {@link ModelKind#IMPORT_DECLARATION}
@@ -86,4 +108,29 @@ public final class ImportDeclarationImpl extends ModelRoot implements ImportDecl
         Util.notNull(visitor, "visitor"); //$NON-NLS-1$
         return visitor.visitImportDeclaration(this, context);
     }
+
+    @Override
+    public ImportDeclaration withImportKind(ImportKind importKind) {
+        ImportDeclarationImpl result = copy();
+        result.setImportKind(importKind);
+        return result;
+    }
+
+    @Override
+    public ImportDeclaration withName(Name name) {
+        ImportDeclarationImpl result = copy();
+        result.setName(name);
+        return result;
+    }
+
+    /**
+     * このオブジェクトのプロパティを共有する新しいオブジェクトを返す。
+     * @return 生成したオブジェクト
+     */
+    private ImportDeclarationImpl copy() {
+        ImportDeclarationImpl result = new ImportDeclarationImpl();
+        result.importKind = this.importKind;
+        result.name = this.name;
+        return result;
+    }
 }
@@ -15,6 +15,7 @@
  */
 package com.ashigeru.lang.java.internal.model.syntax;
 
+import com.ashigeru.lang.java.internal.model.util.ExpressionPriority;
 import com.ashigeru.lang.java.model.syntax.Expression;
 import com.ashigeru.lang.java.model.syntax.InfixExpression;
 import com.ashigeru.lang.java.model.syntax.InfixOperator;
@@ -55,6 +56,7 @@ public final class InfixExpressionImpl extends ModelRoot implements InfixExpress
      *     {@code leftOperand}に{@code null}が指定された場合
      */
     public void setLeftOperand(Expression leftOperand) {
+        checkModifiable();
         Util.notNull(leftOperand, "leftOperand"); //$NON-NLS-1$
         this.leftOperand = leftOperand;
     }
@@ -72,6 +74,7 @@ public final class InfixExpressionImpl extends ModelRoot implements InfixExpress
      *     {@code operator}に{@code null}が指定された場合
      */
     public void setOperator(InfixOperator operator) {
+        checkModifiable();
         Util.notNull(operator, "operator"); //$NON-NLS-1$
         this.operator = operator;
     }
@@ -89,10 +92,35 @@ public final class InfixExpressionImpl extends ModelRoot implements InfixExpress
      *     {@code rightOperand}に{@code null}が指定された場合
      */
     public void setRightOperand(Expression rightOperand) {
+        checkModifiable();
         Util.notNull(rightOperand, "rightOperand"); //$NON-NLS-1$
         this.rightOperand = rightOperand;
     }
 
+    /**
+     * 引数を検査せずにこの要素を生成する。
+     * <p>
+     * 引数の妥当性は呼び出し側が保証しなければならない。
+     * </p>
+     * @param leftOperand
+     *     第一演算項
+     * @param operator
+     *     二項演算子
+     * @param rightOperand
+     *     第二演算項
+     * @return 生成した要素
+     */
+    static InfixExpressionImpl newUnchecked(
+            Expression leftOperand,
+            InfixOperator operator,
+            Expression rightOperand) {
+        InfixExpressionImpl result = new InfixExpressionImpl();
+        result.leftOperand = leftOperand;
+        result.operator = operator;
+        result.rightOperand = rightOperand;
+        return result;
+    }
+
     /**
      * この要素の種類を表す{@link ModelKind#INFIX_EXPRESSION}を返す。
      * @return {@link ModelKind#INFIX_EXPRESSION}
@@ -108,4 +136,40 @@ public final class InfixExpressionImpl extends ModelRoot implements InfixExpress
         Util.notNull(visitor, "visitor"); //$NON-NLS-1$
         return visitor.visitInfixExpression(this, context);
     }
+
+    @Override
+    public InfixExpression withLeftOperand(Expression leftOperand) {
+        InfixExpressionImpl result = copy();
+        result.setLeftOperand(Util.parenthesize(leftOperand, ExpressionPriority.valueOf(operator)));
+        return result;
+    }
+
+    @Override
+    public InfixExpression withOperator(InfixOperator operator) {
+        InfixExpressionImpl result = copy();
+        result.setOperator(operator);
+        ExpressionPriority priority = ExpressionPriority.valueOf(operator);
+        result.setLeftOperand(Util.parenthesize(leftOperand, priority));
+        result.setRightOperand(Util.parenthesizeRight(rightOperand, priority));
+        return result;
+    }
+
+    @Override
+    public InfixExpression withRightOperand(Expression rightOperand) {
+        InfixExpressionImpl result = copy();
+        result.setRightOperand(Util.parenthesizeRight(rightOperand, ExpressionPriority.valueOf(operator)));
+        return result;
+    }
+
+    /**
+     * このオブジェクトのプロパティを共有する新しいオブジェクトを返す。
+     * @return 生成したオブジェクト
+     */
+    private InfixExpressionImpl copy() {
+        InfixExpressionImpl result = new InfixExpressionImpl();
+        result.leftOperand = this.leftOperand;
+        result.operator = this.operator;
+        result.rightOperand = this.rightOperand;
+        return result;
+    }
 }
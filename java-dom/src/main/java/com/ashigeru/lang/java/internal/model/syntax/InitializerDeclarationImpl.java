@@ -58,6 +58,7 @@ public final class InitializerDeclarationImpl extends ModelRoot implements Initi
      *     ただしドキュメンテーションコメントが存在しない場合は{@code null}
      */
     public void setJavadoc(Javadoc javadoc) {
+        checkModifiable();
         this.javadoc = javadoc;
     }
 
@@ -75,6 +76,7 @@ public final class InitializerDeclarationImpl extends ModelRoot implements Initi
      *     {@code modifiers}に{@code null}が指定された場合
      */
     public void setModifiers(List<? extends Attribute> modifiers) {
+        checkModifiable();
         Util.notNull(modifiers, "modifiers"); //$NON-NLS-1$
         Util.notContainNull(modifiers, "modifiers"); //$NON-NLS-1$
         this.modifiers = Util.freeze(modifiers);
@@ -93,10 +95,36 @@ public final class InitializerDeclarationImpl extends ModelRoot implements Initi
      *     {@code body}に{@code null}が指定された場合
      */
     public void setBody(Block body) {
+        checkModifiable();
         Util.notNull(body, "body"); //$NON-NLS-1$
         this.body = body;
     }
 
+    /**
+     * 引数を検査せずにこの要素を生成する。
+     * <p>
+     * 引数の妥当性は呼び出し側が保証しなければならない。
+     * </p>
+     * @param javadoc
+     *     ドキュメンテーションコメント、
+     *     ただしドキュメンテーションコメントが存在しない場合は{@code null}
+     * @param modifiers
+     *     修飾子および注釈の一覧
+     * @param body
+     *     初期化子の本体
+     * @return 生成した要素
+     */
+    static InitializerDeclarationImpl newUnchecked(
+            Javadoc javadoc,
+            List<? extends Attribute> modifiers,
+            Block body) {
+        InitializerDeclarationImpl result = new InitializerDeclarationImpl();
+        result.javadoc = javadoc;
+        result.modifiers = Util.freeze(modifiers);
+        result.body = body;
+        return result;
+    }
+
     /**
      * この要素の種類を表す{@link ModelKind#INITIALIZER_DECLARATION}を返す。
      * @return {@link ModelKind#INITIALIZER_DECLARATION}
@@ -112,4 +140,37 @@ public final class InitializerDeclarationImpl extends ModelRoot implements Initi
         Util.notNull(visitor, "visitor"); //$NON-NLS-1$
         return visitor.visitInitializerDeclaration(this, context);
     }
+
+    @Override
+    public InitializerDeclaration withJavadoc(Javadoc javadoc) {
+        InitializerDeclarationImpl result = copy();
+        result.setJavadoc(javadoc);
+        return result;
+    }
+
+    @Override
+    public InitializerDeclaration withModifiers(List<? extends Attribute> modifiers) {
+        InitializerDeclarationImpl result = copy();
+        result.setModifiers(modifiers);
+        return result;
+    }
+
+    @Override
+    public InitializerDeclaration withBody(Block body) {
+        InitializerDeclarationImpl result = copy();
+        result.setBody(body);
+        return result;
+    }
+
+    /**
+     * このオブジェクトのプロパティを共有する新しいオブジェクトを返す。
+     * @return 生成したオブジェクト
+     */
+    private InitializerDeclarationImpl copy() {
+        InitializerDeclarationImpl result = new InitializerDeclarationImpl();
+        result.javadoc = this.javadoc;
+        result.modifiers = this.modifiers;
+        result.body = this.body;
+        return result;
+    }
 }
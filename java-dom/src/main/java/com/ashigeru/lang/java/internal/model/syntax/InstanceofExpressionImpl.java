@@ -15,6 +15,7 @@
  */
 package com.ashigeru.lang.java.internal.model.syntax;
 
+import com.ashigeru.lang.java.internal.model.util.ExpressionPriority;
 import com.ashigeru.lang.java.model.syntax.Expression;
 import com.ashigeru.lang.java.model.syntax.InstanceofExpression;
 import com.ashigeru.lang.java.model.syntax.ModelKind;
@@ -50,6 +51,7 @@ public final class InstanceofExpressionImpl extends ModelRoot implements Instanc
      *     {@code expression}に{@code null}が指定された場合
      */
     public void setExpression(Expression expression) {
+        checkModifiable();
         Util.notNull(expression, "expression"); //$NON-NLS-1$
         this.expression = expression;
     }
@@ -67,10 +69,31 @@ public final class InstanceofExpressionImpl extends ModelRoot implements Instanc
      *     {@code type}に{@code null}が指定された場合
      */
     public void setType(Type type) {
+        checkModifiable();
         Util.notNull(type, "type"); //$NON-NLS-1$
         this.type = type;
     }
 
+    /**
+     * 引数を検査せずにこの要素を生成する。
+     * <p>
+     * 引数の妥当性は呼び出し側が保証しなければならない。
+     * </p>
+     * @param expression
+     *     被演算項
+     * @param type
+     *     比較対象型
+     * @return 生成した要素
+     */
+    static InstanceofExpressionImpl newUnchecked(
+            Expression expression,
+            Type type) {
+        InstanceofExpressionImpl result = new InstanceofExpressionImpl();
+        result.expression = expression;
+        result.type = type;
+        return result;
+    }
+
     /**
      * この要素の種類を表す{@link ModelKind#INSTANCEOF_EXPRESSION}を返す。
      * @return {@link ModelKind#INSTANCEOF_EXPRESSION}
@@ -86,4 +109,29 @@ public final class InstanceofExpressionImpl extends ModelRoot implements Instanc
         Util.notNull(visitor, "visitor"); //$NON-NLS-1$
         return visitor.visitInstanceofExpression(this, context);
     }
+
+    @Override
+    public InstanceofExpression withExpression(Expression expression) {
+        InstanceofExpressionImpl result = copy();
+        result.setExpression(Util.parenthesize(expression, ExpressionPriority.RELATIONAL));
+        return result;
+    }
+
+    @Override
+    public InstanceofExpression withType(Type type) {
+        InstanceofExpressionImpl result = copy();
+        result.setType(type);
+        return result;
+    }
+
+    /**
+     * このオブジェクトのプロパティを共有する新しいオブジェクトを返す。
+     * @return 生成したオブジェクト
+     */
+    private InstanceofExpressionImpl copy() {
+        InstanceofExpressionImpl result = new InstanceofExpressionImpl();
+        result.expression = this.expression;
+        result.type = this.type;
+        return result;
+    }
 }
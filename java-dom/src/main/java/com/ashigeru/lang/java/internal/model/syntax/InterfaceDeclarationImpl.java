@@ -76,6 +76,7 @@ public final class InterfaceDeclarationImpl extends ModelRoot implements Interfa
      *     ただしドキュメンテーションコメントが存在しない場合は{@code null}
      */
     public void setJavadoc(Javadoc javadoc) {
+        checkModifiable();
         this.javadoc = javadoc;
     }
 
@@ -93,6 +94,7 @@ public final class InterfaceDeclarationImpl extends ModelRoot implements Interfa
      *     {@code modifiers}に{@code null}が指定された場合
      */
     public void setModifiers(List<? extends Attribute> modifiers) {
+        checkModifiable();
         Util.notNull(modifiers, "modifiers"); //$NON-NLS-1$
         Util.notContainNull(modifiers, "modifiers"); //$NON-NLS-1$
         this.modifiers = Util.freeze(modifiers);
@@ -111,6 +113,7 @@ public final class InterfaceDeclarationImpl extends ModelRoot implements Interfa
      *     {@code name}に{@code null}が指定された場合
      */
     public void setName(SimpleName name) {
+        checkModifiable();
         Util.notNull(name, "name"); //$NON-NLS-1$
         this.name = name;
     }
@@ -129,6 +132,7 @@ public final class InterfaceDeclarationImpl extends ModelRoot implements Interfa
      *     {@code typeParameters}に{@code null}が指定された場合
      */
     public void setTypeParameters(List<? extends TypeParameterDeclaration> typeParameters) {
+        checkModifiable();
         Util.notNull(typeParameters, "typeParameters"); //$NON-NLS-1$
         Util.notContainNull(typeParameters, "typeParameters"); //$NON-NLS-1$
         this.typeParameters = Util.freeze(typeParameters);
@@ -148,6 +152,7 @@ public final class InterfaceDeclarationImpl extends ModelRoot implements Interfa
      *     {@code superInterfaceTypes}に{@code null}が指定された場合
      */
     public void setSuperInterfaceTypes(List<? extends Type> superInterfaceTypes) {
+        checkModifiable();
         Util.notNull(superInterfaceTypes, "superInterfaceTypes"); //$NON-NLS-1$
         Util.notContainNull(superInterfaceTypes, "superInterfaceTypes"); //$NON-NLS-1$
         this.superInterfaceTypes = Util.freeze(superInterfaceTypes);
@@ -167,11 +172,49 @@ public final class InterfaceDeclarationImpl extends ModelRoot implements Interfa
      *     {@code bodyDeclarations}に{@code null}が指定された場合
      */
     public void setBodyDeclarations(List<? extends TypeBodyDeclaration> bodyDeclarations) {
+        checkModifiable();
         Util.notNull(bodyDeclarations, "bodyDeclarations"); //$NON-NLS-1$
         Util.notContainNull(bodyDeclarations, "bodyDeclarations"); //$NON-NLS-1$
         this.bodyDeclarations = Util.freeze(bodyDeclarations);
     }
 
+    /**
+     * 引数を検査せずにこの要素を生成する。
+     * <p>
+     * 引数の妥当性は呼び出し側が保証しなければならない。
+     * </p>
+     * @param javadoc
+     *     ドキュメンテーションコメント、
+     *     ただしドキュメンテーションコメントが存在しない場合は{@code null}
+     * @param modifiers
+     *     修飾子および注釈の一覧
+     * @param name
+     *     型の単純名
+     * @param typeParameters
+     *     仮型引数宣言の一覧
+     * @param superInterfaceTypes
+     *     親インターフェースの一覧
+     * @param bodyDeclarations
+     *     メンバの一覧
+     * @return 生成した要素
+     */
+    static InterfaceDeclarationImpl newUnchecked(
+            Javadoc javadoc,
+            List<? extends Attribute> modifiers,
+            SimpleName name,
+            List<? extends TypeParameterDeclaration> typeParameters,
+            List<? extends Type> superInterfaceTypes,
+            List<? extends TypeBodyDeclaration> bodyDeclarations) {
+        InterfaceDeclarationImpl result = new InterfaceDeclarationImpl();
+        result.javadoc = javadoc;
+        result.modifiers = Util.freeze(modifiers);
+        result.name = name;
+        result.typeParameters = Util.freeze(typeParameters);
+        result.superInterfaceTypes = Util.freeze(superInterfaceTypes);
+        result.bodyDeclarations = Util.freeze(bodyDeclarations);
+        return result;
+    }
+
     /**
      * この要素の種類を表す{@link ModelKind#INTERFACE_DECLARATION}を返す。
      * @return {@link ModelKind#INTERFACE_DECLARATION}
@@ -187,4 +230,61 @@ public final class InterfaceDeclarationImpl extends ModelRoot implements Interfa
         Util.notNull(visitor, "visitor"); //$NON-NLS-1$
         return visitor.visitInterfaceDeclaration(this, context);
     }
+
+    @Override
+    public InterfaceDeclaration withJavadoc(Javadoc javadoc) {
+        InterfaceDeclarationImpl result = copy();
+        result.setJavadoc(javadoc);
+        return result;
+    }
+
+    @Override
+    public InterfaceDeclaration withModifiers(List<? extends Attribute> modifiers) {
+        InterfaceDeclarationImpl result = copy();
+        result.setModifiers(modifiers);
+        return result;
+    }
+
+    @Override
+    public InterfaceDeclaration withName(SimpleName name) {
+        InterfaceDeclarationImpl result = copy();
+        result.setName(name);
+        return result;
+    }
+
+    @Override
+    public InterfaceDeclaration withTypeParameters(List<? extends TypeParameterDeclaration> typeParameters) {
+        InterfaceDeclarationImpl result = copy();
+        result.setTypeParameters(typeParameters);
+        return result;
+    }
+
+    @Override
+    public InterfaceDeclaration withSuperInterfaceTypes(List<? extends Type> superInterfaceTypes) {
+        InterfaceDeclarationImpl result = copy();
+        result.setSuperInterfaceTypes(superInterfaceTypes);
+        return result;
+    }
+
+    @Override
+    public InterfaceDeclaration withBodyDeclarations(List<? extends TypeBodyDeclaration> bodyDeclarations) {
+        InterfaceDeclarationImpl result = copy();
+        result.setBodyDeclarations(bodyDeclarations);
+        return result;
+    }
+
+    /**
+     * このオブジェクトのプロパティを共有する新しいオブジェクトを返す。
+     * @return 生成したオブジェクト
+     */
+    private InterfaceDeclarationImpl copy() {
+        InterfaceDeclarationImpl result = new InterfaceDeclarationImpl();
+        result.javadoc = this.javadoc;
+        result.modifiers = this.modifiers;
+        result.name = this.name;
+        result.typeParameters = this.typeParameters;
+        result.superInterfaceTypes = this.superInterfaceTypes;
+        result.bodyDeclarations = this.bodyDeclarations;
+        return result;
+    }
 }
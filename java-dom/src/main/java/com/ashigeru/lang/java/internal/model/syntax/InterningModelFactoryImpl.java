@@ -0,0 +1,219 @@
+/*
+ * Copyright 2011 @ashigeru.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package com.ashigeru.lang.java.internal.model.syntax;
+
+import com.ashigeru.lang.java.model.syntax.BasicType;
+import com.ashigeru.lang.java.model.syntax.BasicTypeKind;
+import com.ashigeru.lang.java.model.syntax.Model;
+import com.ashigeru.lang.java.model.syntax.ModelFactory;
+import com.ashigeru.lang.java.model.syntax.ModelKind;
+import com.ashigeru.lang.java.model.syntax.Modifier;
+import com.ashigeru.lang.java.model.syntax.ModifierKind;
+import com.ashigeru.lang.java.model.syntax.Name;
+import com.ashigeru.lang.java.model.syntax.NamedType;
+import com.ashigeru.lang.java.model.syntax.QualifiedName;
+import com.ashigeru.lang.java.model.syntax.SimpleName;
+import com.ashigeru.lang.java.model.syntax.Type;
+
+/**
+ * 構造の等しい一部のモデルを共有する{@link ModelFactory}の実装。
+ * <p>
+ * このファクトリは{@link SimpleName}, {@link QualifiedName}, {@link NamedType},
+ * {@link BasicType}, {@link Modifier}について、構造が等しいモデルを要求された場合に
+ * 同一のインスタンスを返す。
+ * また、{@link #newName(String)}はドット区切りの文字列から、
+ * {@link #newType(java.lang.reflect.Type)}はリフレクションAPIの型から、それぞれ共有されたモデルを直接返す。
+ * そのため、これらのモデルに{@link Model#putModelTrait(Class, Object)
+ * トレイトを登録}した場合、その内容は同じモデルを共有するすべての箇所から参照される。
+ * </p>
+ * <p>
+ * 共有されるモデルは{@link Model#freeze() 凍結}された状態で返されるため、
+ * 共有されたモデルのプロパティを変更してほかの利用箇所や共有のための表を壊すことはない。
+ * </p>
+ * @author ashigeru
+ */
+public class InterningModelFactoryImpl extends ModelFactoryImpl {
+
+    /**
+     * 共有するモデルの既定の最大数。
+     */
+    public static final int DEFAULT_CAPACITY = 65536;
+
+    private final ModelInternTable table;
+
+    private final NameTrie names;
+
+    private final ReflectionTypeCache types;
+
+    /**
+     * 既定の設定でインスタンスを生成する。
+     */
+    public InterningModelFactoryImpl() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * インスタンスを生成する。
+     * @param capacity 共有するモデルの最大数
+     * @throws IllegalArgumentException 引数に負の値が指定された場合
+     */
+    public InterningModelFactoryImpl(int capacity) {
+        this.table = new ModelInternTable(capacity);
+        this.names = new NameTrie(this, capacity);
+        this.types = new ReflectionTypeCache(this, capacity);
+    }
+
+    @Override
+    public BasicType newBasicType(BasicTypeKind typeKind) {
+        Util.notNull(typeKind, "typeKind"); //$NON-NLS-1$
+        ModelInternTable.Key key = new ModelInternTable.Key(ModelKind.BASIC_TYPE, typeKind, null);
+        BasicType found = table.find(key);
+        if (found != null) {
+            return found;
+        }
+        return table.intern(key, freeze(super.newBasicType(typeKind)));
+    }
+
+    @Override
+    public Modifier newModifier(ModifierKind modifierKind) {
+        Util.notNull(modifierKind, "modifierKind"); //$NON-NLS-1$
+        ModelInternTable.Key key = new ModelInternTable.Key(ModelKind.MODIFIER, modifierKind, null);
+        Modifier found = table.find(key);
+        if (found != null) {
+            return found;
+        }
+        return table.intern(key, freeze(super.newModifier(modifierKind)));
+    }
+
+    @Override
+    public SimpleName newSimpleName(String string) {
+        Util.notNull(string, "string"); //$NON-NLS-1$
+        ModelInternTable.Key key = new ModelInternTable.Key(ModelKind.SIMPLE_NAME, string, null);
+        SimpleName found = table.find(key);
+        if (found != null) {
+            return found;
+        }
+        return table.intern(key, freeze(super.newSimpleName(string)));
+    }
+
+    @Override
+    public QualifiedName newQualifiedName(Name qualifier, SimpleName simpleName) {
+        Util.notNull(qualifier, "qualifier"); //$NON-NLS-1$
+        Util.notNull(simpleName, "simpleName"); //$NON-NLS-1$
+        ModelInternTable.Key key = new ModelInternTable.Key(
+                ModelKind.QUALIFIED_NAME,
+                qualifier,
+                simpleName);
+        QualifiedName found = table.find(key);
+        if (found != null) {
+            return found;
+        }
+        Name sharedQualifier = intern(qualifier);
+        SimpleName sharedSimpleName = newSimpleName(simpleName.getToken());
+        ModelInternTable.Key sharedKey = new ModelInternTable.Key(
+                ModelKind.QUALIFIED_NAME,
+                sharedQualifier,
+                sharedSimpleName);
+        return table.intern(sharedKey, freeze(super.newQualifiedName(sharedQualifier, sharedSimpleName)));
+    }
+
+    @Override
+    public NamedType newNamedType(Name name) {
+        Util.notNull(name, "name"); //$NON-NLS-1$
+        ModelInternTable.Key key = new ModelInternTable.Key(ModelKind.NAMED_TYPE, name, null);
+        NamedType found = table.find(key);
+        if (found != null) {
+            return found;
+        }
+        Name sharedName = intern(name);
+        ModelInternTable.Key sharedKey = new ModelInternTable.Key(ModelKind.NAMED_TYPE, sharedName, null);
+        return table.intern(sharedKey, freeze(super.newNamedType(sharedName)));
+    }
+
+    /**
+     * ドット区切りの文字列に対応する共有された名前を返す。
+     * <p>
+     * 同じ文字列に対しては同一のインスタンスを返し、
+     * また{@code java.util.List}と{@code java.util.Map}のように接頭辞が等しい名前は、
+     * その接頭辞を表す名前のインスタンスを限定子として共有する。
+     * </p>
+     * @param nameString 空白を含まないドット区切りの名前
+     * @return 対応する名前
+     * @throws IllegalArgumentException 名前として正しくない場合、
+     *     または引数に{@code null}が指定された場合
+     */
+    public Name newName(String nameString) {
+        Util.notNull(nameString, "nameString"); //$NON-NLS-1$
+        return names.get(nameString);
+    }
+
+    /**
+     * リフレクションAPIの型に対応する共有された型を返す。
+     * <p>
+     * 変換結果はクラスごとに保持され、同じクラスに対しては同一のインスタンスを返す。
+     * パラメータ化された型や配列型は、保持された構成要素を利用して組み立てられる。
+     * </p>
+     * @param type 変換する型
+     * @return 対応する型
+     * @throws IllegalArgumentException 引数に{@code null}が指定された場合
+     */
+    public Type newType(java.lang.reflect.Type type) {
+        Util.notNull(type, "type"); //$NON-NLS-1$
+        return types.get(type);
+    }
+
+    /**
+     * {@link #newType(java.lang.reflect.Type)}で、保持された変換結果を利用できた回数を返す。
+     * @return 保持された変換結果を利用できた回数
+     */
+    public long getTypeCacheHitCount() {
+        return types.getHitCount();
+    }
+
+    /**
+     * {@link #newType(java.lang.reflect.Type)}で、変換結果を新たに計算した回数を返す。
+     * @return 変換結果を新たに計算した回数
+     */
+    public long getTypeCacheMissCount() {
+        return types.getMissCount();
+    }
+
+    /**
+     * 現在共有されているモデルの個数を返す。
+     * @return 現在共有されているモデルの個数
+     */
+    public int getInternedCount() {
+        return table.size();
+    }
+
+    private static <T extends Model> T freeze(T model) {
+        assert model != null;
+        model.freeze();
+        return model;
+    }
+
+    private Name intern(Name name) {
+        assert name != null;
+        if (name.getModelKind() == ModelKind.SIMPLE_NAME) {
+            return newSimpleName(((SimpleName) name).getToken());
+        }
+        else {
+            assert name.getModelKind() == ModelKind.QUALIFIED_NAME;
+            QualifiedName qualified = (QualifiedName) name;
+            return newQualifiedName(qualified.getQualifier(), qualified.getSimpleName());
+        }
+    }
+}
@@ -47,11 +47,28 @@ public final class JavadocImpl extends ModelRoot implements Javadoc {
      *     {@code blocks}に{@code null}が指定された場合
      */
     public void setBlocks(List<? extends DocBlock> blocks) {
+        checkModifiable();
         Util.notNull(blocks, "blocks"); //$NON-NLS-1$
         Util.notContainNull(blocks, "blocks"); //$NON-NLS-1$
         this.blocks = Util.freeze(blocks);
     }
 
+    /**
+     * 引数を検査せずにこの要素を生成する。
+     * <p>
+     * 引数の妥当性は呼び出し側が保証しなければならない。
+     * </p>
+     * @param blocks
+     *     ブロックの一覧
+     * @return 生成した要素
+     */
+    static JavadocImpl newUnchecked(
+            List<? extends DocBlock> blocks) {
+        JavadocImpl result = new JavadocImpl();
+        result.blocks = Util.freeze(blocks);
+        return result;
+    }
+
     /**
      * この要素の種類を表す{@link ModelKind#JAVADOC}を返す。
      * @return {@link ModelKind#JAVADOC}
@@ -67,4 +84,21 @@ public final class JavadocImpl extends ModelRoot implements Javadoc {
         Util.notNull(visitor, "visitor"); //$NON-NLS-1$
         return visitor.visitJavadoc(this, context);
     }
+
+    @Override
+    public Javadoc withBlocks(List<? extends DocBlock> blocks) {
+        JavadocImpl result = copy();
+        result.setBlocks(blocks);
+        return result;
+    }
+
+    /**
+     * このオブジェクトのプロパティを共有する新しいオブジェクトを返す。
+     * @return 生成したオブジェクト
+     */
+    private JavadocImpl copy() {
+        JavadocImpl result = new JavadocImpl();
+        result.blocks = this.blocks;
+        return result;
+    }
 }
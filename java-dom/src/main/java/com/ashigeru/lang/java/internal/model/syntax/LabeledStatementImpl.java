@@ -50,6 +50,7 @@ public final class LabeledStatementImpl extends ModelRoot implements LabeledStat
      *     {@code label}に{@code null}が指定された場合
      */
     public void setLabel(SimpleName label) {
+        checkModifiable();
         Util.notNull(label, "label"); //$NON-NLS-1$
         this.label = label;
     }
@@ -67,10 +68,31 @@ public final class LabeledStatementImpl extends ModelRoot implements LabeledStat
      *     {@code body}に{@code null}が指定された場合
      */
     public void setBody(Statement body) {
+        checkModifiable();
         Util.notNull(body, "body"); //$NON-NLS-1$
         this.body = body;
     }
 
+    /**
+     * 引数を検査せずにこの要素を生成する。
+     * <p>
+     * 引数の妥当性は呼び出し側が保証しなければならない。
+     * </p>
+     * @param label
+     *     ラベルの名前
+     * @param body
+     *     対象の文
+     * @return 生成した要素
+     */
+    static LabeledStatementImpl newUnchecked(
+            SimpleName label,
+            Statement body) {
+        LabeledStatementImpl result = new LabeledStatementImpl();
+        result.label = label;
+        result.body = body;
+        return result;
+    }
+
     /**
      * この要素の種類を表す{@link ModelKind#LABELED_STATEMENT}を返す。
      * @return {@link ModelKind#LABELED_STATEMENT}
@@ -86,4 +108,29 @@ public final class LabeledStatementImpl extends ModelRoot implements LabeledStat
         Util.notNull(visitor, "visitor"); //$NON-NLS-1$
         return visitor.visitLabeledStatement(this, context);
     }
+
+    @Override
+    public LabeledStatement withLabel(SimpleName label) {
+        LabeledStatementImpl result = copy();
+        result.setLabel(label);
+        return result;
+    }
+
+    @Override
+    public LabeledStatement withBody(Statement body) {
+        LabeledStatementImpl result = copy();
+        result.setBody(body);
+        return result;
+    }
+
+    /**
+     * このオブジェクトのプロパティを共有する新しいオブジェクトを返す。
+     * @return 生成したオブジェクト
+     */
+    private LabeledStatementImpl copy() {
+        LabeledStatementImpl result = new LabeledStatementImpl();
+        result.label = this.label;
+        result.body = this.body;
+        return result;
+    }
 }
@@ -45,10 +45,27 @@ public final class LineCommentImpl extends ModelRoot implements LineComment {
      *     {@code string}に空が指定された場合
      */
     public void setString(String string) {
+        checkModifiable();
         Util.notNull(string, "string"); //$NON-NLS-1$
         this.string = string;
     }
 
+    /**
+     * 引数を検査せずにこの要素を生成する。
+     * <p>
+     * 引数の妥当性は呼び出し側が保証しなければならない。
+     * </p>
+     * @param string
+     *     コメント文字列
+     * @return 生成した要素
+     */
+    static LineCommentImpl newUnchecked(
+            String string) {
+        LineCommentImpl result = new LineCommentImpl();
+        result.string = string;
+        return result;
+    }
+
     /**
      * この要素の種類を表す{@link ModelKind#LINE_COMMENT}を返す。
      * @return {@link ModelKind#LINE_COMMENT}
@@ -64,4 +81,21 @@ public final class LineCommentImpl extends ModelRoot implements LineComment {
         Util.notNull(visitor, "visitor"); //$NON-NLS-1$
         return visitor.visitLineComment(this, context);
     }
+
+    @Override
+    public LineComment withString(String string) {
+        LineCommentImpl result = copy();
+        result.setString(string);
+        return result;
+    }
+
+    /**
+     * このオブジェクトのプロパティを共有する新しいオブジェクトを返す。
+     * @return 生成したオブジェクト
+     */
+    private LineCommentImpl copy() {
+        LineCommentImpl result = new LineCommentImpl();
+        result.string = this.string;
+        return result;
+    }
 }
@@ -19,6 +19,7 @@ import java.text.MessageFormat;
 
 import com.ashigeru.lang.java.internal.model.util.LiteralAnalyzer;
 import com.ashigeru.lang.java.internal.model.util.LiteralToken;
+import com.ashigeru.lang.java.internal.model.util.LiteralTokenKind;
 import com.ashigeru.lang.java.model.syntax.Literal;
 import com.ashigeru.lang.java.model.syntax.LiteralKind;
 import com.ashigeru.lang.java.model.syntax.ModelKind;
@@ -52,19 +53,37 @@ public final class LiteralImpl extends ModelRoot implements Literal {
      *     {@code token}に空が指定された場合
      */
     public void setToken(String token) {
+        checkModifiable();
+        LiteralKind kind = analyze(token);
+        this.token = token;
+        this.literalKind = kind;
+    }
+
+    /**
+     * 指定の文字列がリテラルを構成する字句として妥当であることを検査する。
+     * @param token 対象の文字列
+     * @throws IllegalArgumentException
+     *     {@code token}に{@code null}が指定された場合、
+     *     または{@code token}がリテラルとして妥当でない場合
+     */
+    public static void checkToken(String token) {
+        analyze(token);
+    }
+
+    private static LiteralKind analyze(String token) {
         Util.notNull(token, "token"); //$NON-NLS-1$
-        LiteralKind kind = computeLiteralKind(token);
+        LiteralToken analyzed = LiteralAnalyzer.parse(token);
+        LiteralKind kind = toLiteralKind(analyzed.getKind());
         if (kind == null) {
             throw new IllegalArgumentException(MessageFormat.format(
                 "Invalid literal token: {0}", //$NON-NLS-1$
                 LiteralAnalyzer.stringLiteralOf(token)));
         }
-        this.token = token;
+        return kind;
     }
 
-    private static LiteralKind computeLiteralKind(String tokenString) {
-        LiteralToken token = LiteralAnalyzer.parse(tokenString);
-        switch (token.getKind()) {
+    private static LiteralKind toLiteralKind(LiteralTokenKind kind) {
+        switch (kind) {
         case INT: return LiteralKind.INT;
         case LONG: return LiteralKind.LONG;
         case FLOAT: return LiteralKind.FLOAT;
@@ -83,6 +102,45 @@ public final class LiteralImpl extends ModelRoot implements Literal {
         return literalKind;
     }
 
+    /**
+     * 引数を検査せずにこの要素を生成する。
+     * <p>
+     * 引数の妥当性は呼び出し側が保証しなければならない。
+     * </p>
+     * @param token
+     *     このリテラルを構成する字句
+     * @return 生成した要素
+     */
+    static LiteralImpl newUnchecked(
+            String token) {
+        LiteralImpl result = new LiteralImpl();
+        result.token = token;
+        if (token != null) {
+            result.literalKind = toLiteralKind(LiteralAnalyzer.kindOf(token));
+        }
+        return result;
+    }
+
+    /**
+     * 字句とその種類を指定して、解析を行わずにこの要素を生成する。
+     * <p>
+     * 字句が指定の種類のリテラルとして妥当であることは呼び出し側が保証しなければならない。
+     * </p>
+     * @param token
+     *     このリテラルを構成する字句
+     * @param literalKind
+     *     このリテラルの種類
+     * @return 生成した要素
+     */
+    static LiteralImpl newUnchecked(
+            String token,
+            LiteralKind literalKind) {
+        LiteralImpl result = new LiteralImpl();
+        result.token = token;
+        result.literalKind = literalKind;
+        return result;
+    }
+
     /**
      * この要素の種類を表す{@link ModelKind#LITERAL}を返す。
      * @return {@link ModelKind#LITERAL}
@@ -98,4 +156,22 @@ public final class LiteralImpl extends ModelRoot implements Literal {
         Util.notNull(visitor, "visitor"); //$NON-NLS-1$
         return visitor.visitLiteral(this, context);
     }
+
+    @Override
+    public Literal withToken(String token) {
+        LiteralImpl result = copy();
+        result.setToken(token);
+        return result;
+    }
+
+    /**
+     * このオブジェクトのプロパティを共有する新しいオブジェクトを返す。
+     * @return 生成したオブジェクト
+     */
+    private LiteralImpl copy() {
+        LiteralImpl result = new LiteralImpl();
+        result.token = this.token;
+        result.literalKind = this.literalKind;
+        return result;
+    }
 }
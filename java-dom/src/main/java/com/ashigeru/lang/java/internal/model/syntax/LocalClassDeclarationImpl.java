@@ -44,10 +44,27 @@ public final class LocalClassDeclarationImpl extends ModelRoot implements LocalC
      *     {@code declaration}に{@code null}が指定された場合
      */
     public void setDeclaration(ClassDeclaration declaration) {
+        checkModifiable();
         Util.notNull(declaration, "declaration"); //$NON-NLS-1$
         this.declaration = declaration;
     }
 
+    /**
+     * 引数を検査せずにこの要素を生成する。
+     * <p>
+     * 引数の妥当性は呼び出し側が保証しなければならない。
+     * </p>
+     * @param declaration
+     *     宣言するクラス
+     * @return 生成した要素
+     */
+    static LocalClassDeclarationImpl newUnchecked(
+            ClassDeclaration declaration) {
+        LocalClassDeclarationImpl result = new LocalClassDeclarationImpl();
+        result.declaration = declaration;
+        return result;
+    }
+
     /**
      * この要素の種類を表す{@link ModelKind#LOCAL_CLASS_DECLARATION}を返す。
      * @return {@link ModelKind#LOCAL_CLASS_DECLARATION}
@@ -63,4 +80,21 @@ public final class LocalClassDeclarationImpl extends ModelRoot implements LocalC
         Util.notNull(visitor, "visitor"); //$NON-NLS-1$
         return visitor.visitLocalClassDeclaration(this, context);
     }
+
+    @Override
+    public LocalClassDeclaration withDeclaration(ClassDeclaration declaration) {
+        LocalClassDeclarationImpl result = copy();
+        result.setDeclaration(declaration);
+        return result;
+    }
+
+    /**
+     * このオブジェクトのプロパティを共有する新しいオブジェクトを返す。
+     * @return 生成したオブジェクト
+     */
+    private LocalClassDeclarationImpl copy() {
+        LocalClassDeclarationImpl result = new LocalClassDeclarationImpl();
+        result.declaration = this.declaration;
+        return result;
+    }
 }
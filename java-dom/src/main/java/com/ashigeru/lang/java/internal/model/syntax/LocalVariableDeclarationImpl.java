@@ -59,6 +59,7 @@ public final class LocalVariableDeclarationImpl extends ModelRoot implements Loc
      *     {@code modifiers}に{@code null}が指定された場合
      */
     public void setModifiers(List<? extends Attribute> modifiers) {
+        checkModifiable();
         Util.notNull(modifiers, "modifiers"); //$NON-NLS-1$
         Util.notContainNull(modifiers, "modifiers"); //$NON-NLS-1$
         this.modifiers = Util.freeze(modifiers);
@@ -77,6 +78,7 @@ public final class LocalVariableDeclarationImpl extends ModelRoot implements Loc
      *     {@code type}に{@code null}が指定された場合
      */
     public void setType(Type type) {
+        checkModifiable();
         Util.notNull(type, "type"); //$NON-NLS-1$
         this.type = type;
     }
@@ -96,12 +98,37 @@ public final class LocalVariableDeclarationImpl extends ModelRoot implements Loc
      *     {@code variableDeclarators}に空が指定された場合
      */
     public void setVariableDeclarators(List<? extends VariableDeclarator> variableDeclarators) {
+        checkModifiable();
         Util.notNull(variableDeclarators, "variableDeclarators"); //$NON-NLS-1$
         Util.notContainNull(variableDeclarators, "variableDeclarators"); //$NON-NLS-1$
         Util.notEmpty(variableDeclarators, "variableDeclarators"); //$NON-NLS-1$
         this.variableDeclarators = Util.freeze(variableDeclarators);
     }
 
+    /**
+     * 引数を検査せずにこの要素を生成する。
+     * <p>
+     * 引数の妥当性は呼び出し側が保証しなければならない。
+     * </p>
+     * @param modifiers
+     *     修飾子および注釈の一覧
+     * @param type
+     *     宣言する変数の型
+     * @param variableDeclarators
+     *     宣言する変数の一覧
+     * @return 生成した要素
+     */
+    static LocalVariableDeclarationImpl newUnchecked(
+            List<? extends Attribute> modifiers,
+            Type type,
+            List<? extends VariableDeclarator> variableDeclarators) {
+        LocalVariableDeclarationImpl result = new LocalVariableDeclarationImpl();
+        result.modifiers = Util.freeze(modifiers);
+        result.type = type;
+        result.variableDeclarators = Util.freeze(variableDeclarators);
+        return result;
+    }
+
     /**
      * この要素の種類を表す{@link ModelKind#LOCAL_VARIABLE_DECLARATION}を返す。
      * @return {@link ModelKind#LOCAL_VARIABLE_DECLARATION}
@@ -117,4 +144,37 @@ public final class LocalVariableDeclarationImpl extends ModelRoot implements Loc
         Util.notNull(visitor, "visitor"); //$NON-NLS-1$
         return visitor.visitLocalVariableDeclaration(this, context);
     }
+
+    @Override
+    public LocalVariableDeclaration withModifiers(List<? extends Attribute> modifiers) {
+        LocalVariableDeclarationImpl result = copy();
+        result.setModifiers(modifiers);
+        return result;
+    }
+
+    @Override
+    public LocalVariableDeclaration withType(Type type) {
+        LocalVariableDeclarationImpl result = copy();
+        result.setType(type);
+        return result;
+    }
+
+    @Override
+    public LocalVariableDeclaration withVariableDeclarators(List<? extends VariableDeclarator> variableDeclarators) {
+        LocalVariableDeclarationImpl result = copy();
+        result.setVariableDeclarators(variableDeclarators);
+        return result;
+    }
+
+    /**
+     * このオブジェクトのプロパティを共有する新しいオブジェクトを返す。
+     * @return 生成したオブジェクト
+     */
+    private LocalVariableDeclarationImpl copy() {
+        LocalVariableDeclarationImpl result = new LocalVariableDeclarationImpl();
+        result.modifiers = this.modifiers;
+        result.type = this.type;
+        result.variableDeclarators = this.variableDeclarators;
+        return result;
+    }
 }
@@ -44,10 +44,27 @@ public final class MarkerAnnotationImpl extends ModelRoot implements MarkerAnnot
      *     {@code type}に{@code null}が指定された場合
      */
     public void setType(NamedType type) {
+        checkModifiable();
         Util.notNull(type, "type"); //$NON-NLS-1$
         this.type = type;
     }
 
+    /**
+     * 引数を検査せずにこの要素を生成する。
+     * <p>
+     * 引数の妥当性は呼び出し側が保証しなければならない。
+     * </p>
+     * @param type
+     *     注釈の型
+     * @return 生成した要素
+     */
+    static MarkerAnnotationImpl newUnchecked(
+            NamedType type) {
+        MarkerAnnotationImpl result = new MarkerAnnotationImpl();
+        result.type = type;
+        return result;
+    }
+
     /**
      * この要素の種類を表す{@link ModelKind#MARKER_ANNOTATION}を返す。
      * @return {@link ModelKind#MARKER_ANNOTATION}
@@ -63,4 +80,21 @@ public final class MarkerAnnotationImpl extends ModelRoot implements MarkerAnnot
         Util.notNull(visitor, "visitor"); //$NON-NLS-1$
         return visitor.visitMarkerAnnotation(this, context);
     }
+
+    @Override
+    public MarkerAnnotation withType(NamedType type) {
+        MarkerAnnotationImpl result = copy();
+        result.setType(type);
+        return result;
+    }
+
+    /**
+     * このオブジェクトのプロパティを共有する新しいオブジェクトを返す。
+     * @return 生成したオブジェクト
+     */
+    private MarkerAnnotationImpl copy() {
+        MarkerAnnotationImpl result = new MarkerAnnotationImpl();
+        result.type = this.type;
+        return result;
+    }
 }
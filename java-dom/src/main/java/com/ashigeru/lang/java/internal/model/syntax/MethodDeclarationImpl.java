@@ -92,6 +92,7 @@ public final class MethodDeclarationImpl extends ModelRoot implements MethodDecl
      *     ただしドキュメンテーションコメントが存在しない場合は{@code null}
      */
     public void setJavadoc(Javadoc javadoc) {
+        checkModifiable();
         this.javadoc = javadoc;
     }
 
@@ -109,6 +110,7 @@ public final class MethodDeclarationImpl extends ModelRoot implements MethodDecl
      *     {@code modifiers}に{@code null}が指定された場合
      */
     public void setModifiers(List<? extends Attribute> modifiers) {
+        checkModifiable();
         Util.notNull(modifiers, "modifiers"); //$NON-NLS-1$
         Util.notContainNull(modifiers, "modifiers"); //$NON-NLS-1$
         this.modifiers = Util.freeze(modifiers);
@@ -128,6 +130,7 @@ public final class MethodDeclarationImpl extends ModelRoot implements MethodDecl
      *     {@code typeParameters}に{@code null}が指定された場合
      */
     public void setTypeParameters(List<? extends TypeParameterDeclaration> typeParameters) {
+        checkModifiable();
         Util.notNull(typeParameters, "typeParameters"); //$NON-NLS-1$
         Util.notContainNull(typeParameters, "typeParameters"); //$NON-NLS-1$
         this.typeParameters = Util.freeze(typeParameters);
@@ -146,6 +149,7 @@ public final class MethodDeclarationImpl extends ModelRoot implements MethodDecl
      *     {@code returnType}に{@code null}が指定された場合
      */
     public void setReturnType(Type returnType) {
+        checkModifiable();
         Util.notNull(returnType, "returnType"); //$NON-NLS-1$
         this.returnType = returnType;
     }
@@ -163,6 +167,7 @@ public final class MethodDeclarationImpl extends ModelRoot implements MethodDecl
      *     {@code name}に{@code null}が指定された場合
      */
     public void setName(SimpleName name) {
+        checkModifiable();
         Util.notNull(name, "name"); //$NON-NLS-1$
         this.name = name;
     }
@@ -181,6 +186,7 @@ public final class MethodDeclarationImpl extends ModelRoot implements MethodDecl
      *     {@code formalParameters}に{@code null}が指定された場合
      */
     public void setFormalParameters(List<? extends FormalParameterDeclaration> formalParameters) {
+        checkModifiable();
         Util.notNull(formalParameters, "formalParameters"); //$NON-NLS-1$
         Util.notContainNull(formalParameters, "formalParameters"); //$NON-NLS-1$
         this.formalParameters = Util.freeze(formalParameters);
@@ -199,6 +205,7 @@ public final class MethodDeclarationImpl extends ModelRoot implements MethodDecl
      *     {@code extraDimensions}に負の値が指定された場合
      */
     public void setExtraDimensions(int extraDimensions) {
+        checkModifiable();
         this.extraDimensions = extraDimensions;
     }
 
@@ -216,6 +223,7 @@ public final class MethodDeclarationImpl extends ModelRoot implements MethodDecl
      *     {@code exceptionTypes}に{@code null}が指定された場合
      */
     public void setExceptionTypes(List<? extends Type> exceptionTypes) {
+        checkModifiable();
         Util.notNull(exceptionTypes, "exceptionTypes"); //$NON-NLS-1$
         Util.notContainNull(exceptionTypes, "exceptionTypes"); //$NON-NLS-1$
         this.exceptionTypes = Util.freeze(exceptionTypes);
@@ -234,9 +242,60 @@ public final class MethodDeclarationImpl extends ModelRoot implements MethodDecl
      *     ただしこのメソッドが本体を提供されない抽象メソッドやインターフェースメソッドである場合は{@code null}
      */
     public void setBody(Block body) {
+        checkModifiable();
         this.body = body;
     }
 
+    /**
+     * 引数を検査せずにこの要素を生成する。
+     * <p>
+     * 引数の妥当性は呼び出し側が保証しなければならない。
+     * </p>
+     * @param javadoc
+     *     ドキュメンテーションコメント、
+     *     ただしドキュメンテーションコメントが存在しない場合は{@code null}
+     * @param modifiers
+     *     修飾子および注釈の一覧
+     * @param typeParameters
+     *     型引数宣言の一覧
+     * @param returnType
+     *     戻り値の型
+     * @param name
+     *     メソッドまたはコンストラクタの名前
+     * @param formalParameters
+     *     仮引数宣言の一覧
+     * @param extraDimensions
+     *     戻り値の次元数
+     * @param exceptionTypes
+     *     例外型宣言の一覧
+     * @param body
+     *     メソッドまたはコンストラクタ本体、
+     *     ただしこのメソッドが本体を提供されない抽象メソッドやインターフェースメソッドである場合は{@code null}
+     * @return 生成した要素
+     */
+    static MethodDeclarationImpl newUnchecked(
+            Javadoc javadoc,
+            List<? extends Attribute> modifiers,
+            List<? extends TypeParameterDeclaration> typeParameters,
+            Type returnType,
+            SimpleName name,
+            List<? extends FormalParameterDeclaration> formalParameters,
+            int extraDimensions,
+            List<? extends Type> exceptionTypes,
+            Block body) {
+        MethodDeclarationImpl result = new MethodDeclarationImpl();
+        result.javadoc = javadoc;
+        result.modifiers = Util.freeze(modifiers);
+        result.typeParameters = Util.freeze(typeParameters);
+        result.returnType = returnType;
+        result.name = name;
+        result.formalParameters = Util.freeze(formalParameters);
+        result.extraDimensions = extraDimensions;
+        result.exceptionTypes = Util.freeze(exceptionTypes);
+        result.body = body;
+        return result;
+    }
+
     /**
      * この要素の種類を表す{@link ModelKind#METHOD_DECLARATION}を返す。
      * @return {@link ModelKind#METHOD_DECLARATION}
@@ -252,4 +311,85 @@ public final class MethodDeclarationImpl extends ModelRoot implements MethodDecl
         Util.notNull(visitor, "visitor"); //$NON-NLS-1$
         return visitor.visitMethodDeclaration(this, context);
     }
+
+    @Override
+    public MethodDeclaration withJavadoc(Javadoc javadoc) {
+        MethodDeclarationImpl result = copy();
+        result.setJavadoc(javadoc);
+        return result;
+    }
+
+    @Override
+    public MethodDeclaration withModifiers(List<? extends Attribute> modifiers) {
+        MethodDeclarationImpl result = copy();
+        result.setModifiers(modifiers);
+        return result;
+    }
+
+    @Override
+    public MethodDeclaration withTypeParameters(List<? extends TypeParameterDeclaration> typeParameters) {
+        MethodDeclarationImpl result = copy();
+        result.setTypeParameters(typeParameters);
+        return result;
+    }
+
+    @Override
+    public MethodDeclaration withReturnType(Type returnType) {
+        MethodDeclarationImpl result = copy();
+        result.setReturnType(returnType);
+        return result;
+    }
+
+    @Override
+    public MethodDeclaration withName(SimpleName name) {
+        MethodDeclarationImpl result = copy();
+        result.setName(name);
+        return result;
+    }
+
+    @Override
+    public MethodDeclaration withFormalParameters(List<? extends FormalParameterDeclaration> formalParameters) {
+        MethodDeclarationImpl result = copy();
+        result.setFormalParameters(formalParameters);
+        return result;
+    }
+
+    @Override
+    public MethodDeclaration withExtraDimensions(int extraDimensions) {
+        MethodDeclarationImpl result = copy();
+        result.setExtraDimensions(extraDimensions);
+        return result;
+    }
+
+    @Override
+    public MethodDeclaration withExceptionTypes(List<? extends Type> exceptionTypes) {
+        MethodDeclarationImpl result = copy();
+        result.setExceptionTypes(exceptionTypes);
+        return result;
+    }
+
+    @Override
+    public MethodDeclaration withBody(Block body) {
+        MethodDeclarationImpl result = copy();
+        result.setBody(body);
+        return result;
+    }
+
+    /**
+     * このオブジェクトのプロパティを共有する新しいオブジェクトを返す。
+     * @return 生成したオブジェクト
+     */
+    private MethodDeclarationImpl copy() {
+        MethodDeclarationImpl result = new MethodDeclarationImpl();
+        result.javadoc = this.javadoc;
+        result.modifiers = this.modifiers;
+        result.typeParameters = this.typeParameters;
+        result.returnType = this.returnType;
+        result.name = this.name;
+        result.formalParameters = this.formalParameters;
+        result.extraDimensions = this.extraDimensions;
+        result.exceptionTypes = this.exceptionTypes;
+        result.body = this.body;
+        return result;
+    }
 }
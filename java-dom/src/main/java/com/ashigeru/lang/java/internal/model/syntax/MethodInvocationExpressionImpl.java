@@ -17,6 +17,7 @@ package com.ashigeru.lang.java.internal.model.syntax;
 
 import java.util.List;
 
+import com.ashigeru.lang.java.internal.model.util.ExpressionPriority;
 import com.ashigeru.lang.java.model.syntax.Expression;
 import com.ashigeru.lang.java.model.syntax.MethodInvocationExpression;
 import com.ashigeru.lang.java.model.syntax.ModelKind;
@@ -63,6 +64,7 @@ public final class MethodInvocationExpressionImpl extends ModelRoot implements M
      *     ただし限定式が指定されない場合(単純メソッド起動)は{@code null}
      */
     public void setQualifier(Expression qualifier) {
+        checkModifiable();
         this.qualifier = qualifier;
     }
 
@@ -80,6 +82,7 @@ public final class MethodInvocationExpressionImpl extends ModelRoot implements M
      *     {@code typeArguments}に{@code null}が指定された場合
      */
     public void setTypeArguments(List<? extends Type> typeArguments) {
+        checkModifiable();
         Util.notNull(typeArguments, "typeArguments"); //$NON-NLS-1$
         Util.notContainNull(typeArguments, "typeArguments"); //$NON-NLS-1$
         this.typeArguments = Util.freeze(typeArguments);
@@ -98,6 +101,7 @@ public final class MethodInvocationExpressionImpl extends ModelRoot implements M
      *     {@code name}に{@code null}が指定された場合
      */
     public void setName(SimpleName name) {
+        checkModifiable();
         Util.notNull(name, "name"); //$NON-NLS-1$
         this.name = name;
     }
@@ -116,11 +120,41 @@ public final class MethodInvocationExpressionImpl extends ModelRoot implements M
      *     {@code arguments}に{@code null}が指定された場合
      */
     public void setArguments(List<? extends Expression> arguments) {
+        checkModifiable();
         Util.notNull(arguments, "arguments"); //$NON-NLS-1$
         Util.notContainNull(arguments, "arguments"); //$NON-NLS-1$
         this.arguments = Util.freeze(arguments);
     }
 
+    /**
+     * 引数を検査せずにこの要素を生成する。
+     * <p>
+     * 引数の妥当性は呼び出し側が保証しなければならない。
+     * </p>
+     * @param qualifier
+     *     限定式、または型限定子、
+     *     ただし限定式が指定されない場合(単純メソッド起動)は{@code null}
+     * @param typeArguments
+     *     型引数の一覧
+     * @param name
+     *     メソッドの名前
+     * @param arguments
+     *     実引数の一覧
+     * @return 生成した要素
+     */
+    static MethodInvocationExpressionImpl newUnchecked(
+            Expression qualifier,
+            List<? extends Type> typeArguments,
+            SimpleName name,
+            List<? extends Expression> arguments) {
+        MethodInvocationExpressionImpl result = new MethodInvocationExpressionImpl();
+        result.qualifier = qualifier;
+        result.typeArguments = Util.freeze(typeArguments);
+        result.name = name;
+        result.arguments = Util.freeze(arguments);
+        return result;
+    }
+
     /**
      * この要素の種類を表す{@link ModelKind#METHOD_INVOCATION_EXPRESSION}を返す。
      * @return {@link ModelKind#METHOD_INVOCATION_EXPRESSION}
@@ -136,4 +170,45 @@ public final class MethodInvocationExpressionImpl extends ModelRoot implements M
         Util.notNull(visitor, "visitor"); //$NON-NLS-1$
         return visitor.visitMethodInvocationExpression(this, context);
     }
+
+    @Override
+    public MethodInvocationExpression withQualifier(Expression qualifier) {
+        MethodInvocationExpressionImpl result = copy();
+        result.setQualifier(Util.parenthesize(qualifier, ExpressionPriority.PRIMARY));
+        return result;
+    }
+
+    @Override
+    public MethodInvocationExpression withTypeArguments(List<? extends Type> typeArguments) {
+        MethodInvocationExpressionImpl result = copy();
+        result.setTypeArguments(typeArguments);
+        return result;
+    }
+
+    @Override
+    public MethodInvocationExpression withName(SimpleName name) {
+        MethodInvocationExpressionImpl result = copy();
+        result.setName(name);
+        return result;
+    }
+
+    @Override
+    public MethodInvocationExpression withArguments(List<? extends Expression> arguments) {
+        MethodInvocationExpressionImpl result = copy();
+        result.setArguments(arguments);
+        return result;
+    }
+
+    /**
+     * このオブジェクトのプロパティを共有する新しいオブジェクトを返す。
+     * @return 生成したオブジェクト
+     */
+    private MethodInvocationExpressionImpl copy() {
+        MethodInvocationExpressionImpl result = new MethodInvocationExpressionImpl();
+        result.qualifier = this.qualifier;
+        result.typeArguments = this.typeArguments;
+        result.name = this.name;
+        result.arguments = this.arguments;
+        return result;
+    }
 }
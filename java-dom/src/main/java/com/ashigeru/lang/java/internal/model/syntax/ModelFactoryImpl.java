@@ -15,26 +15,52 @@
  */
 package com.ashigeru.lang.java.internal.model.syntax;
 
-import java.util.Arrays;
+import java.text.MessageFormat;
 import java.util.Collections;
 import java.util.List;
 
 import com.ashigeru.lang.java.internal.model.util.ExpressionPriority;
+import com.ashigeru.lang.java.internal.model.util.LiteralAnalyzer;
 import com.ashigeru.lang.java.model.syntax.*;
 
 /**
  * {@link ModelFactory}の実装。
+ * <p>
+ * {@link #ModelFactoryImpl(boolean) 信頼されたモード}で生成したファクトリは、
+ * 各要素を生成する際に引数の検査を行わない。
+ * このモードで生成したモデルは、必要に応じて
+ * {@link com.ashigeru.lang.java.model.util.ModelValidator}で一括して検査すること。
+ * </p>
  * @author ashigeru
  */
 public class ModelFactoryImpl implements ModelFactory {
 
+    private final boolean trusted;
+
+    /**
+     * 引数を検査するファクトリを生成する。
+     */
+    public ModelFactoryImpl() {
+        this(false);
+    }
+
+    /**
+     * インスタンスを生成する。
+     * @param trusted
+     *     引数の検査を省略する場合は{@code true}、
+     *     検査する場合は{@code false}
+     */
+    public ModelFactoryImpl(boolean trusted) {
+        this.trusted = trusted;
+    }
+
     @Override
     public AlternateConstructorInvocation newAlternateConstructorInvocation(
             Expression...arguments) {
         Util.notNull(arguments, "arguments"); //$NON-NLS-1$
         return this.newAlternateConstructorInvocation0(
             Collections.<Type>emptyList(),
-            Arrays.asList(arguments)
+            Util.freeze(arguments)
         );
     }
 
@@ -60,6 +86,11 @@ public class ModelFactoryImpl implements ModelFactory {
     private AlternateConstructorInvocationImpl newAlternateConstructorInvocation0(
             List<? extends Type> typeArguments,
             List<? extends Expression> arguments) {
+        if (trusted) {
+            return AlternateConstructorInvocationImpl.newUnchecked(
+                typeArguments,
+                arguments);
+        }
         Util.notNull(typeArguments, "typeArguments"); //$NON-NLS-1$
         Util.notContainNull(typeArguments, "typeArguments"); //$NON-NLS-1$
         Util.notNull(arguments, "arguments"); //$NON-NLS-1$
@@ -89,6 +120,13 @@ public class ModelFactoryImpl implements ModelFactory {
             List<? extends Attribute> modifiers,
             SimpleName name,
             List<? extends TypeBodyDeclaration> bodyDeclarations) {
+        if (trusted) {
+            return AnnotationDeclarationImpl.newUnchecked(
+                javadoc,
+                modifiers,
+                name,
+                bodyDeclarations);
+        }
         Util.notNull(modifiers, "modifiers"); //$NON-NLS-1$
         Util.notContainNull(modifiers, "modifiers"); //$NON-NLS-1$
         Util.notNull(name, "name"); //$NON-NLS-1$
@@ -115,6 +153,11 @@ public class ModelFactoryImpl implements ModelFactory {
     private AnnotationElementImpl newAnnotationElement0(
             SimpleName name,
             Expression expression) {
+        if (trusted) {
+            return AnnotationElementImpl.newUnchecked(
+                name,
+                expression);
+        }
         Util.notNull(name, "name"); //$NON-NLS-1$
         Util.notNull(expression, "expression"); //$NON-NLS-1$
         AnnotationElementImpl result = new AnnotationElementImpl();
@@ -145,6 +188,14 @@ public class ModelFactoryImpl implements ModelFactory {
             Type type,
             SimpleName name,
             Expression defaultExpression) {
+        if (trusted) {
+            return AnnotationElementDeclarationImpl.newUnchecked(
+                javadoc,
+                modifiers,
+                type,
+                name,
+                defaultExpression);
+        }
         Util.notNull(modifiers, "modifiers"); //$NON-NLS-1$
         Util.notContainNull(modifiers, "modifiers"); //$NON-NLS-1$
         Util.notNull(type, "type"); //$NON-NLS-1$
@@ -171,10 +222,15 @@ public class ModelFactoryImpl implements ModelFactory {
     private ArrayAccessExpressionImpl newArrayAccessExpression0(
             Expression array,
             Expression index) {
+        if (trusted) {
+            return ArrayAccessExpressionImpl.newUnchecked(
+                Util.parenthesize(array, ExpressionPriority.PRIMARY),
+                index);
+        }
         Util.notNull(array, "array"); //$NON-NLS-1$
         Util.notNull(index, "index"); //$NON-NLS-1$
         ArrayAccessExpressionImpl result = new ArrayAccessExpressionImpl();
-        result.setArray(parenthesize(array, ExpressionPriority.PRIMARY));
+        result.setArray(Util.parenthesize(array, ExpressionPriority.PRIMARY));
         result.setIndex(index);
         return result;
     }
@@ -206,6 +262,12 @@ public class ModelFactoryImpl implements ModelFactory {
             ArrayType type,
             List<? extends Expression> dimensionExpressions,
             ArrayInitializer arrayInitializer) {
+        if (trusted) {
+            return ArrayCreationExpressionImpl.newUnchecked(
+                type,
+                dimensionExpressions,
+                arrayInitializer);
+        }
         Util.notNull(type, "type"); //$NON-NLS-1$
         Util.notNull(dimensionExpressions, "dimensionExpressions"); //$NON-NLS-1$
         Util.notContainNull(dimensionExpressions, "dimensionExpressions"); //$NON-NLS-1$
@@ -220,7 +282,7 @@ public class ModelFactoryImpl implements ModelFactory {
     public ArrayInitializer newArrayInitializer(Expression...elements) {
         Util.notNull(elements, "elements"); //$NON-NLS-1$
         return this.newArrayInitializer0(
-            Arrays.asList(elements)
+            Util.freeze(elements)
         );
     }
 
@@ -234,6 +296,10 @@ public class ModelFactoryImpl implements ModelFactory {
 
     private ArrayInitializerImpl newArrayInitializer0(
             List<? extends Expression> elements) {
+        if (trusted) {
+            return ArrayInitializerImpl.newUnchecked(
+                elements);
+        }
         Util.notNull(elements, "elements"); //$NON-NLS-1$
         Util.notContainNull(elements, "elements"); //$NON-NLS-1$
         ArrayInitializerImpl result = new ArrayInitializerImpl();
@@ -251,6 +317,10 @@ public class ModelFactoryImpl implements ModelFactory {
 
     private ArrayTypeImpl newArrayType0(
             Type componentType) {
+        if (trusted) {
+            return ArrayTypeImpl.newUnchecked(
+                componentType);
+        }
         Util.notNull(componentType, "componentType"); //$NON-NLS-1$
         ArrayTypeImpl result = new ArrayTypeImpl();
         result.setComponentType(componentType);
@@ -279,6 +349,11 @@ public class ModelFactoryImpl implements ModelFactory {
     private AssertStatementImpl newAssertStatement0(
             Expression expression,
             Expression message) {
+        if (trusted) {
+            return AssertStatementImpl.newUnchecked(
+                expression,
+                message);
+        }
         Util.notNull(expression, "expression"); //$NON-NLS-1$
         AssertStatementImpl result = new AssertStatementImpl();
         result.setExpression(expression);
@@ -313,13 +388,19 @@ public class ModelFactoryImpl implements ModelFactory {
             Expression leftHandSide,
             InfixOperator operator,
             Expression rightHandSide) {
+        if (trusted) {
+            return AssignmentExpressionImpl.newUnchecked(
+                Util.parenthesize(leftHandSide, ExpressionPriority.ASSIGNMENT),
+                operator,
+                Util.parenthesizeRight(rightHandSide, ExpressionPriority.ASSIGNMENT));
+        }
         Util.notNull(leftHandSide, "leftHandSide"); //$NON-NLS-1$
         Util.notNull(operator, "operator"); //$NON-NLS-1$
         Util.notNull(rightHandSide, "rightHandSide"); //$NON-NLS-1$
         AssignmentExpressionImpl result = new AssignmentExpressionImpl();
-        result.setLeftHandSide(parenthesize(leftHandSide, ExpressionPriority.ASSIGNMENT));
+        result.setLeftHandSide(Util.parenthesize(leftHandSide, ExpressionPriority.ASSIGNMENT));
         result.setOperator(operator);
-        result.setRightHandSide(parenthesizeRight(rightHandSide, ExpressionPriority.ASSIGNMENT));
+        result.setRightHandSide(Util.parenthesizeRight(rightHandSide, ExpressionPriority.ASSIGNMENT));
         return result;
     }
 
@@ -333,6 +414,10 @@ public class ModelFactoryImpl implements ModelFactory {
 
     private BasicTypeImpl newBasicType0(
             BasicTypeKind typeKind) {
+        if (trusted) {
+            return BasicTypeImpl.newUnchecked(
+                typeKind);
+        }
         Util.notNull(typeKind, "typeKind"); //$NON-NLS-1$
         BasicTypeImpl result = new BasicTypeImpl();
         result.setTypeKind(typeKind);
@@ -344,7 +429,7 @@ public class ModelFactoryImpl implements ModelFactory {
             Statement... statements) {
         Util.notNull(statements, "statements"); //$NON-NLS-1$
         return this.newBlock0(
-            Arrays.asList(statements)
+            Util.freeze(statements)
         );
     }
 
@@ -358,6 +443,10 @@ public class ModelFactoryImpl implements ModelFactory {
 
     private BlockImpl newBlock0(
             List<? extends Statement> statements) {
+        if (trusted) {
+            return BlockImpl.newUnchecked(
+                statements);
+        }
         Util.notNull(statements, "statements"); //$NON-NLS-1$
         Util.notContainNull(statements, "statements"); //$NON-NLS-1$
         BlockImpl result = new BlockImpl();
@@ -375,6 +464,10 @@ public class ModelFactoryImpl implements ModelFactory {
 
     private BlockCommentImpl newBlockComment0(
             String string) {
+        if (trusted) {
+            return BlockCommentImpl.newUnchecked(
+                string);
+        }
         Util.notNull(string, "string"); //$NON-NLS-1$
         BlockCommentImpl result = new BlockCommentImpl();
         result.setString(string);
@@ -398,6 +491,10 @@ public class ModelFactoryImpl implements ModelFactory {
 
     private BreakStatementImpl newBreakStatement0(
             SimpleName target) {
+        if (trusted) {
+            return BreakStatementImpl.newUnchecked(
+                target);
+        }
         BreakStatementImpl result = new BreakStatementImpl();
         result.setTarget(target);
         return result;
@@ -416,11 +513,16 @@ public class ModelFactoryImpl implements ModelFactory {
     private CastExpressionImpl newCastExpression0(
             Type type,
             Expression expression) {
+        if (trusted) {
+            return CastExpressionImpl.newUnchecked(
+                type,
+                Util.parenthesize(expression, ExpressionPriority.CAST));
+        }
         Util.notNull(type, "type"); //$NON-NLS-1$
         Util.notNull(expression, "expression"); //$NON-NLS-1$
         CastExpressionImpl result = new CastExpressionImpl();
         result.setType(type);
-        result.setExpression(parenthesize(expression, ExpressionPriority.CAST));
+        result.setExpression(Util.parenthesize(expression, ExpressionPriority.CAST));
         return result;
     }
 
@@ -451,6 +553,11 @@ public class ModelFactoryImpl implements ModelFactory {
     private CatchClauseImpl newCatchClause0(
             FormalParameterDeclaration parameter,
             Block body) {
+        if (trusted) {
+            return CatchClauseImpl.newUnchecked(
+                parameter,
+                body);
+        }
         Util.notNull(parameter, "parameter"); //$NON-NLS-1$
         Util.notNull(body, "body"); //$NON-NLS-1$
         CatchClauseImpl result = new CatchClauseImpl();
@@ -479,6 +586,10 @@ public class ModelFactoryImpl implements ModelFactory {
 
     private ClassBodyImpl newClassBody0(
             List<? extends TypeBodyDeclaration> bodyDeclarations) {
+        if (trusted) {
+            return ClassBodyImpl.newUnchecked(
+                bodyDeclarations);
+        }
         Util.notNull(bodyDeclarations, "bodyDeclarations"); //$NON-NLS-1$
         Util.notContainNull(bodyDeclarations, "bodyDeclarations"); //$NON-NLS-1$
         ClassBodyImpl result = new ClassBodyImpl();
@@ -533,6 +644,16 @@ public class ModelFactoryImpl implements ModelFactory {
             Type superClass,
             List<? extends Type> superInterfaceTypes,
             List<? extends TypeBodyDeclaration> bodyDeclarations) {
+        if (trusted) {
+            return ClassDeclarationImpl.newUnchecked(
+                javadoc,
+                modifiers,
+                name,
+                typeParameters,
+                superClass,
+                superInterfaceTypes,
+                bodyDeclarations);
+        }
         Util.notNull(modifiers, "modifiers"); //$NON-NLS-1$
         Util.notContainNull(modifiers, "modifiers"); //$NON-NLS-1$
         Util.notNull(name, "name"); //$NON-NLS-1$
@@ -562,7 +683,7 @@ public class ModelFactoryImpl implements ModelFactory {
             null,
             Collections.<Type>emptyList(),
             type,
-            Arrays.asList(arguments),
+            Util.freeze(arguments),
             null
         );
     }
@@ -602,13 +723,21 @@ public class ModelFactoryImpl implements ModelFactory {
             Type type,
             List<? extends Expression> arguments,
             ClassBody body) {
+        if (trusted) {
+            return ClassInstanceCreationExpressionImpl.newUnchecked(
+                Util.parenthesize(qualifier, ExpressionPriority.PRIMARY),
+                typeArguments,
+                type,
+                arguments,
+                body);
+        }
         Util.notNull(typeArguments, "typeArguments"); //$NON-NLS-1$
         Util.notContainNull(typeArguments, "typeArguments"); //$NON-NLS-1$
         Util.notNull(type, "type"); //$NON-NLS-1$
         Util.notNull(arguments, "arguments"); //$NON-NLS-1$
         Util.notContainNull(arguments, "arguments"); //$NON-NLS-1$
         ClassInstanceCreationExpressionImpl result = new ClassInstanceCreationExpressionImpl();
-        result.setQualifier(parenthesize(qualifier, ExpressionPriority.PRIMARY));
+        result.setQualifier(Util.parenthesize(qualifier, ExpressionPriority.PRIMARY));
         result.setTypeArguments(typeArguments);
         result.setType(type);
         result.setArguments(arguments);
@@ -626,6 +755,10 @@ public class ModelFactoryImpl implements ModelFactory {
 
     private ClassLiteralImpl newClassLiteral0(
             Type type) {
+        if (trusted) {
+            return ClassLiteralImpl.newUnchecked(
+                type);
+        }
         Util.notNull(type, "type"); //$NON-NLS-1$
         ClassLiteralImpl result = new ClassLiteralImpl();
         result.setType(type);
@@ -651,6 +784,13 @@ public class ModelFactoryImpl implements ModelFactory {
             List<? extends ImportDeclaration> importDeclarations,
             List<? extends TypeDeclaration> typeDeclarations,
             List<? extends Comment> comments) {
+        if (trusted) {
+            return CompilationUnitImpl.newUnchecked(
+                packageDeclaration,
+                importDeclarations,
+                typeDeclarations,
+                comments);
+        }
         Util.notNull(importDeclarations, "importDeclarations"); //$NON-NLS-1$
         Util.notContainNull(importDeclarations, "importDeclarations"); //$NON-NLS-1$
         Util.notNull(typeDeclarations, "typeDeclarations"); //$NON-NLS-1$
@@ -681,13 +821,19 @@ public class ModelFactoryImpl implements ModelFactory {
             Expression condition,
             Expression thenExpression,
             Expression elseExpression) {
+        if (trusted) {
+            return ConditionalExpressionImpl.newUnchecked(
+                Util.parenthesize(condition, ExpressionPriority.CONDITIONAL),
+                Util.parenthesize(thenExpression, ExpressionPriority.CONDITIONAL),
+                Util.parenthesize(elseExpression, ExpressionPriority.CONDITIONAL));
+        }
         Util.notNull(condition, "condition"); //$NON-NLS-1$
         Util.notNull(thenExpression, "thenExpression"); //$NON-NLS-1$
         Util.notNull(elseExpression, "elseExpression"); //$NON-NLS-1$
         ConditionalExpressionImpl result = new ConditionalExpressionImpl();
-        result.setCondition(parenthesize(condition, ExpressionPriority.CONDITIONAL));
-        result.setThenExpression(parenthesize(thenExpression, ExpressionPriority.CONDITIONAL));
-        result.setElseExpression(parenthesize(elseExpression, ExpressionPriority.CONDITIONAL));
+        result.setCondition(Util.parenthesize(condition, ExpressionPriority.CONDITIONAL));
+        result.setThenExpression(Util.parenthesize(thenExpression, ExpressionPriority.CONDITIONAL));
+        result.setElseExpression(Util.parenthesize(elseExpression, ExpressionPriority.CONDITIONAL));
         return result;
     }
 
@@ -738,6 +884,16 @@ public class ModelFactoryImpl implements ModelFactory {
             List<? extends FormalParameterDeclaration> formalParameters,
             List<? extends Type> exceptionTypes,
             Block body) {
+        if (trusted) {
+            return ConstructorDeclarationImpl.newUnchecked(
+                javadoc,
+                modifiers,
+                typeParameters,
+                name,
+                formalParameters,
+                exceptionTypes,
+                body);
+        }
         Util.notNull(modifiers, "modifiers"); //$NON-NLS-1$
         Util.notContainNull(modifiers, "modifiers"); //$NON-NLS-1$
         Util.notNull(typeParameters, "typeParameters"); //$NON-NLS-1$
@@ -776,6 +932,10 @@ public class ModelFactoryImpl implements ModelFactory {
 
     private ContinueStatementImpl newContinueStatement0(
             SimpleName target) {
+        if (trusted) {
+            return ContinueStatementImpl.newUnchecked(
+                target);
+        }
         ContinueStatementImpl result = new ContinueStatementImpl();
         result.setTarget(target);
         return result;
@@ -794,6 +954,11 @@ public class ModelFactoryImpl implements ModelFactory {
     private DoStatementImpl newDoStatement0(
             Statement body,
             Expression condition) {
+        if (trusted) {
+            return DoStatementImpl.newUnchecked(
+                body,
+                condition);
+        }
         Util.notNull(body, "body"); //$NON-NLS-1$
         Util.notNull(condition, "condition"); //$NON-NLS-1$
         DoStatementImpl result = new DoStatementImpl();
@@ -815,6 +980,11 @@ public class ModelFactoryImpl implements ModelFactory {
     private DocBlockImpl newDocBlock0(
             String tag,
             List<? extends DocElement> elements) {
+        if (trusted) {
+            return DocBlockImpl.newUnchecked(
+                tag,
+                elements);
+        }
         Util.notNull(tag, "tag"); //$NON-NLS-1$
         Util.notNull(elements, "elements"); //$NON-NLS-1$
         Util.notContainNull(elements, "elements"); //$NON-NLS-1$
@@ -837,6 +1007,11 @@ public class ModelFactoryImpl implements ModelFactory {
     private DocFieldImpl newDocField0(
             Type type,
             SimpleName name) {
+        if (trusted) {
+            return DocFieldImpl.newUnchecked(
+                type,
+                name);
+        }
         Util.notNull(name, "name"); //$NON-NLS-1$
         DocFieldImpl result = new DocFieldImpl();
         result.setType(type);
@@ -860,6 +1035,12 @@ public class ModelFactoryImpl implements ModelFactory {
             Type type,
             SimpleName name,
             List<? extends DocMethodParameter> formalParameters) {
+        if (trusted) {
+            return DocMethodImpl.newUnchecked(
+                type,
+                name,
+                formalParameters);
+        }
         Util.notNull(name, "name"); //$NON-NLS-1$
         Util.notNull(formalParameters, "formalParameters"); //$NON-NLS-1$
         Util.notContainNull(formalParameters, "formalParameters"); //$NON-NLS-1$
@@ -886,6 +1067,12 @@ public class ModelFactoryImpl implements ModelFactory {
             Type type,
             SimpleName name,
             boolean variableArity) {
+        if (trusted) {
+            return DocMethodParameterImpl.newUnchecked(
+                type,
+                name,
+                variableArity);
+        }
         Util.notNull(type, "type"); //$NON-NLS-1$
         DocMethodParameterImpl result = new DocMethodParameterImpl();
         result.setType(type);
@@ -904,6 +1091,10 @@ public class ModelFactoryImpl implements ModelFactory {
 
     private DocTextImpl newDocText0(
             String string) {
+        if (trusted) {
+            return DocTextImpl.newUnchecked(
+                string);
+        }
         Util.notNull(string, "string"); //$NON-NLS-1$
         DocTextImpl result = new DocTextImpl();
         result.setString(string);
@@ -940,6 +1131,12 @@ public class ModelFactoryImpl implements ModelFactory {
             FormalParameterDeclaration parameter,
             Expression expression,
             Statement body) {
+        if (trusted) {
+            return EnhancedForStatementImpl.newUnchecked(
+                parameter,
+                expression,
+                body);
+        }
         Util.notNull(parameter, "parameter"); //$NON-NLS-1$
         Util.notNull(expression, "expression"); //$NON-NLS-1$
         Util.notNull(body, "body"); //$NON-NLS-1$
@@ -960,7 +1157,7 @@ public class ModelFactoryImpl implements ModelFactory {
             javadoc,
             Collections.<Attribute>emptyList(),
             name,
-            Arrays.asList(arguments),
+            Util.freeze(arguments),
             null
         );
     }
@@ -987,6 +1184,14 @@ public class ModelFactoryImpl implements ModelFactory {
             SimpleName name,
             List<? extends Expression> arguments,
             ClassBody body) {
+        if (trusted) {
+            return EnumConstantDeclarationImpl.newUnchecked(
+                javadoc,
+                modifiers,
+                name,
+                arguments,
+                body);
+        }
         Util.notNull(modifiers, "modifiers"); //$NON-NLS-1$
         Util.notContainNull(modifiers, "modifiers"); //$NON-NLS-1$
         Util.notNull(name, "name"); //$NON-NLS-1$
@@ -1015,7 +1220,7 @@ public class ModelFactoryImpl implements ModelFactory {
             name,
             Collections.<Type>emptyList(),
             constantDeclarations,
-            Arrays.asList(bodyDeclarations)
+            Util.freeze(bodyDeclarations)
         );
     }
 
@@ -1044,6 +1249,15 @@ public class ModelFactoryImpl implements ModelFactory {
             List<? extends Type> superInterfaceTypes,
             List<? extends EnumConstantDeclaration> constantDeclarations,
             List<? extends TypeBodyDeclaration> bodyDeclarations) {
+        if (trusted) {
+            return EnumDeclarationImpl.newUnchecked(
+                javadoc,
+                modifiers,
+                name,
+                superInterfaceTypes,
+                constantDeclarations,
+                bodyDeclarations);
+        }
         Util.notNull(modifiers, "modifiers"); //$NON-NLS-1$
         Util.notContainNull(modifiers, "modifiers"); //$NON-NLS-1$
         Util.notNull(name, "name"); //$NON-NLS-1$
@@ -1073,6 +1287,10 @@ public class ModelFactoryImpl implements ModelFactory {
 
     private ExpressionStatementImpl newExpressionStatement0(
             Expression expression) {
+        if (trusted) {
+            return ExpressionStatementImpl.newUnchecked(
+                expression);
+        }
         Util.notNull(expression, "expression"); //$NON-NLS-1$
         ExpressionStatementImpl result = new ExpressionStatementImpl();
         result.setExpression(expression);
@@ -1092,10 +1310,15 @@ public class ModelFactoryImpl implements ModelFactory {
     private FieldAccessExpressionImpl newFieldAccessExpression0(
             Expression qualifier,
             SimpleName name) {
+        if (trusted) {
+            return FieldAccessExpressionImpl.newUnchecked(
+                Util.parenthesize(qualifier, ExpressionPriority.PRIMARY),
+                name);
+        }
         Util.notNull(qualifier, "qualifier"); //$NON-NLS-1$
         Util.notNull(name, "name"); //$NON-NLS-1$
         FieldAccessExpressionImpl result = new FieldAccessExpressionImpl();
-        result.setQualifier(parenthesize(qualifier, ExpressionPriority.PRIMARY));
+        result.setQualifier(Util.parenthesize(qualifier, ExpressionPriority.PRIMARY));
         result.setName(name);
         return result;
     }
@@ -1137,6 +1360,13 @@ public class ModelFactoryImpl implements ModelFactory {
             List<? extends Attribute> modifiers,
             Type type,
             List<? extends VariableDeclarator> variableDeclarators) {
+        if (trusted) {
+            return FieldDeclarationImpl.newUnchecked(
+                javadoc,
+                modifiers,
+                type,
+                variableDeclarators);
+        }
         Util.notNull(modifiers, "modifiers"); //$NON-NLS-1$
         Util.notContainNull(modifiers, "modifiers"); //$NON-NLS-1$
         Util.notNull(type, "type"); //$NON-NLS-1$
@@ -1170,6 +1400,13 @@ public class ModelFactoryImpl implements ModelFactory {
             Expression condition,
             StatementExpressionList update,
             Statement body) {
+        if (trusted) {
+            return ForStatementImpl.newUnchecked(
+                initialization,
+                condition,
+                update,
+                body);
+        }
         Util.notNull(body, "body"); //$NON-NLS-1$
         ForStatementImpl result = new ForStatementImpl();
         result.setInitialization(initialization);
@@ -1214,6 +1451,14 @@ public class ModelFactoryImpl implements ModelFactory {
             boolean variableArity,
             SimpleName name,
             int extraDimensions) {
+        if (trusted) {
+            return FormalParameterDeclarationImpl.newUnchecked(
+                modifiers,
+                type,
+                variableArity,
+                name,
+                extraDimensions);
+        }
         Util.notNull(modifiers, "modifiers"); //$NON-NLS-1$
         Util.notContainNull(modifiers, "modifiers"); //$NON-NLS-1$
         Util.notNull(type, "type"); //$NON-NLS-1$
@@ -1254,6 +1499,12 @@ public class ModelFactoryImpl implements ModelFactory {
             Expression condition,
             Statement thenStatement,
             Statement elseStatement) {
+        if (trusted) {
+            return IfStatementImpl.newUnchecked(
+                condition,
+                thenStatement,
+                elseStatement);
+        }
         Util.notNull(condition, "condition"); //$NON-NLS-1$
         Util.notNull(thenStatement, "thenStatement"); //$NON-NLS-1$
         IfStatementImpl result = new IfStatementImpl();
@@ -1276,6 +1527,11 @@ public class ModelFactoryImpl implements ModelFactory {
     private ImportDeclarationImpl newImportDeclaration0(
             ImportKind importKind,
             Name name) {
+        if (trusted) {
+            return ImportDeclarationImpl.newUnchecked(
+                importKind,
+                name);
+        }
         Util.notNull(importKind, "importKind"); //$NON-NLS-1$
         Util.notNull(name, "name"); //$NON-NLS-1$
         ImportDeclarationImpl result = new ImportDeclarationImpl();
@@ -1300,13 +1556,19 @@ public class ModelFactoryImpl implements ModelFactory {
             Expression leftOperand,
             InfixOperator operator,
             Expression rightOperand) {
+        if (trusted) {
+            return InfixExpressionImpl.newUnchecked(
+                Util.parenthesize(leftOperand, ExpressionPriority.valueOf(operator)),
+                operator,
+                Util.parenthesizeRight(rightOperand, ExpressionPriority.valueOf(operator)));
+        }
         Util.notNull(leftOperand, "leftOperand"); //$NON-NLS-1$
         Util.notNull(operator, "operator"); //$NON-NLS-1$
         Util.notNull(rightOperand, "rightOperand"); //$NON-NLS-1$
         InfixExpressionImpl result = new InfixExpressionImpl();
-        result.setLeftOperand(parenthesize(leftOperand, ExpressionPriority.valueOf(operator)));
+        result.setLeftOperand(Util.parenthesize(leftOperand, ExpressionPriority.valueOf(operator)));
         result.setOperator(operator);
-        result.setRightOperand(parenthesizeRight(rightOperand, ExpressionPriority.valueOf(operator)));
+        result.setRightOperand(Util.parenthesizeRight(rightOperand, ExpressionPriority.valueOf(operator)));
         return result;
     }
 
@@ -1337,6 +1599,12 @@ public class ModelFactoryImpl implements ModelFactory {
             Javadoc javadoc,
             List<? extends Attribute> modifiers,
             Block body) {
+        if (trusted) {
+            return InitializerDeclarationImpl.newUnchecked(
+                javadoc,
+                modifiers,
+                body);
+        }
         Util.notNull(modifiers, "modifiers"); //$NON-NLS-1$
         Util.notContainNull(modifiers, "modifiers"); //$NON-NLS-1$
         Util.notNull(body, "body"); //$NON-NLS-1$
@@ -1360,10 +1628,15 @@ public class ModelFactoryImpl implements ModelFactory {
     private InstanceofExpressionImpl newInstanceofExpression0(
             Expression expression,
             Type type) {
+        if (trusted) {
+            return InstanceofExpressionImpl.newUnchecked(
+                Util.parenthesize(expression, ExpressionPriority.RELATIONAL),
+                type);
+        }
         Util.notNull(expression, "expression"); //$NON-NLS-1$
         Util.notNull(type, "type"); //$NON-NLS-1$
         InstanceofExpressionImpl result = new InstanceofExpressionImpl();
-        result.setExpression(parenthesize(expression, ExpressionPriority.RELATIONAL));
+        result.setExpression(Util.parenthesize(expression, ExpressionPriority.RELATIONAL));
         result.setType(type);
         return result;
     }
@@ -1410,6 +1683,15 @@ public class ModelFactoryImpl implements ModelFactory {
             List<? extends TypeParameterDeclaration> typeParameters,
             List<? extends Type> superInterfaceTypes,
             List<? extends TypeBodyDeclaration> bodyDeclarations) {
+        if (trusted) {
+            return InterfaceDeclarationImpl.newUnchecked(
+                javadoc,
+                modifiers,
+                name,
+                typeParameters,
+                superInterfaceTypes,
+                bodyDeclarations);
+        }
         Util.notNull(modifiers, "modifiers"); //$NON-NLS-1$
         Util.notContainNull(modifiers, "modifiers"); //$NON-NLS-1$
         Util.notNull(name, "name"); //$NON-NLS-1$
@@ -1439,6 +1721,10 @@ public class ModelFactoryImpl implements ModelFactory {
 
     private JavadocImpl newJavadoc0(
             List<? extends DocBlock> blocks) {
+        if (trusted) {
+            return JavadocImpl.newUnchecked(
+                blocks);
+        }
         Util.notNull(blocks, "blocks"); //$NON-NLS-1$
         Util.notContainNull(blocks, "blocks"); //$NON-NLS-1$
         JavadocImpl result = new JavadocImpl();
@@ -1459,6 +1745,11 @@ public class ModelFactoryImpl implements ModelFactory {
     private LabeledStatementImpl newLabeledStatement0(
             SimpleName label,
             Statement body) {
+        if (trusted) {
+            return LabeledStatementImpl.newUnchecked(
+                label,
+                body);
+        }
         Util.notNull(label, "label"); //$NON-NLS-1$
         Util.notNull(body, "body"); //$NON-NLS-1$
         LabeledStatementImpl result = new LabeledStatementImpl();
@@ -1477,6 +1768,10 @@ public class ModelFactoryImpl implements ModelFactory {
 
     private LineCommentImpl newLineComment0(
             String string) {
+        if (trusted) {
+            return LineCommentImpl.newUnchecked(
+                string);
+        }
         Util.notNull(string, "string"); //$NON-NLS-1$
         LineCommentImpl result = new LineCommentImpl();
         result.setString(string);
@@ -1493,12 +1788,75 @@ public class ModelFactoryImpl implements ModelFactory {
 
     private LiteralImpl newLiteral0(
             String token) {
+        if (trusted) {
+            return LiteralImpl.newUnchecked(
+                token);
+        }
         Util.notNull(token, "token"); //$NON-NLS-1$
         LiteralImpl result = new LiteralImpl();
         result.setToken(token);
         return result;
     }
 
+    @Override
+    public Literal newIntLiteral(
+            int value) {
+        return LiteralImpl.newUnchecked(LiteralAnalyzer.intLiteralOf(value), LiteralKind.INT);
+    }
+
+    @Override
+    public Literal newLongLiteral(
+            long value) {
+        return LiteralImpl.newUnchecked(LiteralAnalyzer.longLiteralOf(value), LiteralKind.LONG);
+    }
+
+    @Override
+    public Literal newFloatLiteral(
+            float value) {
+        if (Float.isNaN(value) || Float.isInfinite(value)) {
+            throw new IllegalArgumentException(MessageFormat.format(
+                    "value must be finite ({0})", //$NON-NLS-1$
+                    value));
+        }
+        return LiteralImpl.newUnchecked(LiteralAnalyzer.floatLiteralOf(value), LiteralKind.FLOAT);
+    }
+
+    @Override
+    public Literal newDoubleLiteral(
+            double value) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            throw new IllegalArgumentException(MessageFormat.format(
+                    "value must be finite ({0})", //$NON-NLS-1$
+                    value));
+        }
+        return LiteralImpl.newUnchecked(LiteralAnalyzer.doubleLiteralOf(value), LiteralKind.DOUBLE);
+    }
+
+    @Override
+    public Literal newCharLiteral(
+            char value) {
+        return LiteralImpl.newUnchecked(LiteralAnalyzer.charLiteralOf(value), LiteralKind.CHAR);
+    }
+
+    @Override
+    public Literal newBooleanLiteral(
+            boolean value) {
+        return LiteralImpl.newUnchecked(LiteralAnalyzer.booleanLiteralOf(value), LiteralKind.BOOLEAN);
+    }
+
+    @Override
+    public Literal newStringLiteral(
+            String value) {
+        Util.notNull(value, "value"); //$NON-NLS-1$
+        return LiteralImpl.newUnchecked(LiteralAnalyzer.stringLiteralOf(value), LiteralKind.STRING);
+    }
+
+    @Override
+    public Literal newNullLiteral(
+            ) {
+        return LiteralImpl.newUnchecked(LiteralAnalyzer.nullLiteral(), LiteralKind.NULL);
+    }
+
     @Override
     public LocalClassDeclaration newLocalClassDeclaration(
             ClassDeclaration declaration) {
@@ -1509,6 +1867,10 @@ public class ModelFactoryImpl implements ModelFactory {
 
     private LocalClassDeclarationImpl newLocalClassDeclaration0(
             ClassDeclaration declaration) {
+        if (trusted) {
+            return LocalClassDeclarationImpl.newUnchecked(
+                declaration);
+        }
         Util.notNull(declaration, "declaration"); //$NON-NLS-1$
         LocalClassDeclarationImpl result = new LocalClassDeclarationImpl();
         result.setDeclaration(declaration);
@@ -1546,6 +1908,12 @@ public class ModelFactoryImpl implements ModelFactory {
             List<? extends Attribute> modifiers,
             Type type,
             List<? extends VariableDeclarator> variableDeclarators) {
+        if (trusted) {
+            return LocalVariableDeclarationImpl.newUnchecked(
+                modifiers,
+                type,
+                variableDeclarators);
+        }
         Util.notNull(modifiers, "modifiers"); //$NON-NLS-1$
         Util.notContainNull(modifiers, "modifiers"); //$NON-NLS-1$
         Util.notNull(type, "type"); //$NON-NLS-1$
@@ -1569,6 +1937,10 @@ public class ModelFactoryImpl implements ModelFactory {
 
     private MarkerAnnotationImpl newMarkerAnnotation0(
             NamedType type) {
+        if (trusted) {
+            return MarkerAnnotationImpl.newUnchecked(
+                type);
+        }
         Util.notNull(type, "type"); //$NON-NLS-1$
         MarkerAnnotationImpl result = new MarkerAnnotationImpl();
         result.setType(type);
@@ -1631,6 +2003,18 @@ public class ModelFactoryImpl implements ModelFactory {
             int extraDimensions,
             List<? extends Type> exceptionTypes,
             Block body) {
+        if (trusted) {
+            return MethodDeclarationImpl.newUnchecked(
+                javadoc,
+                modifiers,
+                typeParameters,
+                returnType,
+                name,
+                formalParameters,
+                extraDimensions,
+                exceptionTypes,
+                body);
+        }
         Util.notNull(modifiers, "modifiers"); //$NON-NLS-1$
         Util.notContainNull(modifiers, "modifiers"); //$NON-NLS-1$
         Util.notNull(typeParameters, "typeParameters"); //$NON-NLS-1$
@@ -1664,7 +2048,7 @@ public class ModelFactoryImpl implements ModelFactory {
             qualifier,
             Collections.<Type>emptyList(),
             name,
-            Arrays.asList(arguments)
+            Util.freeze(arguments)
         );
     }
 
@@ -1700,13 +2084,20 @@ public class ModelFactoryImpl implements ModelFactory {
             List<? extends Type> typeArguments,
             SimpleName name,
             List<? extends Expression> arguments) {
+        if (trusted) {
+            return MethodInvocationExpressionImpl.newUnchecked(
+                Util.parenthesize(qualifier, ExpressionPriority.PRIMARY),
+                typeArguments,
+                name,
+                arguments);
+        }
         Util.notNull(typeArguments, "typeArguments"); //$NON-NLS-1$
         Util.notContainNull(typeArguments, "typeArguments"); //$NON-NLS-1$
         Util.notNull(name, "name"); //$NON-NLS-1$
         Util.notNull(arguments, "arguments"); //$NON-NLS-1$
         Util.notContainNull(arguments, "arguments"); //$NON-NLS-1$
         MethodInvocationExpressionImpl result = new MethodInvocationExpressionImpl();
-        result.setQualifier(qualifier);
+        result.setQualifier(Util.parenthesize(qualifier, ExpressionPriority.PRIMARY));
         result.setTypeArguments(typeArguments);
         result.setName(name);
         result.setArguments(arguments);
@@ -1723,6 +2114,10 @@ public class ModelFactoryImpl implements ModelFactory {
 
     private ModifierImpl newModifier0(
             ModifierKind modifierKind) {
+        if (trusted) {
+            return ModifierImpl.newUnchecked(
+                modifierKind);
+        }
         Util.notNull(modifierKind, "modifierKind"); //$NON-NLS-1$
         ModifierImpl result = new ModifierImpl();
         result.setModifierKind(modifierKind);
@@ -1739,6 +2134,10 @@ public class ModelFactoryImpl implements ModelFactory {
 
     private NamedTypeImpl newNamedType0(
             Name name) {
+        if (trusted) {
+            return NamedTypeImpl.newUnchecked(
+                name);
+        }
         Util.notNull(name, "name"); //$NON-NLS-1$
         NamedTypeImpl result = new NamedTypeImpl();
         result.setName(name);
@@ -1758,6 +2157,11 @@ public class ModelFactoryImpl implements ModelFactory {
     private NormalAnnotationImpl newNormalAnnotation0(
             NamedType type,
             List<? extends AnnotationElement> elements) {
+        if (trusted) {
+            return NormalAnnotationImpl.newUnchecked(
+                type,
+                elements);
+        }
         Util.notNull(type, "type"); //$NON-NLS-1$
         Util.notNull(elements, "elements"); //$NON-NLS-1$
         Util.notContainNull(elements, "elements"); //$NON-NLS-1$
@@ -1792,6 +2196,12 @@ public class ModelFactoryImpl implements ModelFactory {
             Javadoc javadoc,
             List<? extends Annotation> annotations,
             Name name) {
+        if (trusted) {
+            return PackageDeclarationImpl.newUnchecked(
+                javadoc,
+                annotations,
+                name);
+        }
         Util.notNull(annotations, "annotations"); //$NON-NLS-1$
         Util.notContainNull(annotations, "annotations"); //$NON-NLS-1$
         Util.notNull(name, "name"); //$NON-NLS-1$
@@ -1809,7 +2219,7 @@ public class ModelFactoryImpl implements ModelFactory {
         Util.notNull(typeArguments, "typeArguments"); //$NON-NLS-1$
         return this.newParameterizedType0(
             type,
-            Arrays.asList(typeArguments)
+            Util.freeze(typeArguments)
         );
     }
 
@@ -1826,6 +2236,11 @@ public class ModelFactoryImpl implements ModelFactory {
     private ParameterizedTypeImpl newParameterizedType0(
             Type type,
             List<? extends Type> typeArguments) {
+        if (trusted) {
+            return ParameterizedTypeImpl.newUnchecked(
+                type,
+                typeArguments);
+        }
         Util.notNull(type, "type"); //$NON-NLS-1$
         Util.notNull(typeArguments, "typeArguments"); //$NON-NLS-1$
         Util.notContainNull(typeArguments, "typeArguments"); //$NON-NLS-1$
@@ -1846,6 +2261,10 @@ public class ModelFactoryImpl implements ModelFactory {
 
     private ParenthesizedExpressionImpl newParenthesizedExpression0(
             Expression expression) {
+        if (trusted) {
+            return ParenthesizedExpressionImpl.newUnchecked(
+                expression);
+        }
         Util.notNull(expression, "expression"); //$NON-NLS-1$
         ParenthesizedExpressionImpl result = new ParenthesizedExpressionImpl();
         result.setExpression(expression);
@@ -1865,10 +2284,15 @@ public class ModelFactoryImpl implements ModelFactory {
     private PostfixExpressionImpl newPostfixExpression0(
             Expression operand,
             PostfixOperator operator) {
+        if (trusted) {
+            return PostfixExpressionImpl.newUnchecked(
+                Util.parenthesize(operand, ExpressionPriority.UNARY),
+                operator);
+        }
         Util.notNull(operand, "operand"); //$NON-NLS-1$
         Util.notNull(operator, "operator"); //$NON-NLS-1$
         PostfixExpressionImpl result = new PostfixExpressionImpl();
-        result.setOperand(parenthesize(operand, ExpressionPriority.UNARY));
+        result.setOperand(Util.parenthesize(operand, ExpressionPriority.UNARY));
         result.setOperator(operator);
         return result;
     }
@@ -1886,6 +2310,11 @@ public class ModelFactoryImpl implements ModelFactory {
     private QualifiedNameImpl newQualifiedName0(
             Name qualifier,
             SimpleName simpleName) {
+        if (trusted) {
+            return QualifiedNameImpl.newUnchecked(
+                qualifier,
+                simpleName);
+        }
         Util.notNull(qualifier, "qualifier"); //$NON-NLS-1$
         Util.notNull(simpleName, "simpleName"); //$NON-NLS-1$
         QualifiedNameImpl result = new QualifiedNameImpl();
@@ -1907,6 +2336,11 @@ public class ModelFactoryImpl implements ModelFactory {
     private QualifiedTypeImpl newQualifiedType0(
             Type qualifier,
             SimpleName simpleName) {
+        if (trusted) {
+            return QualifiedTypeImpl.newUnchecked(
+                qualifier,
+                simpleName);
+        }
         Util.notNull(qualifier, "qualifier"); //$NON-NLS-1$
         Util.notNull(simpleName, "simpleName"); //$NON-NLS-1$
         QualifiedTypeImpl result = new QualifiedTypeImpl();
@@ -1932,6 +2366,10 @@ public class ModelFactoryImpl implements ModelFactory {
 
     private ReturnStatementImpl newReturnStatement0(
             Expression expression) {
+        if (trusted) {
+            return ReturnStatementImpl.newUnchecked(
+                expression);
+        }
         ReturnStatementImpl result = new ReturnStatementImpl();
         result.setExpression(expression);
         return result;
@@ -1947,6 +2385,10 @@ public class ModelFactoryImpl implements ModelFactory {
 
     private SimpleNameImpl newSimpleName0(
             String string) {
+        if (trusted) {
+            return SimpleNameImpl.newUnchecked(
+                string);
+        }
         Util.notNull(string, "string"); //$NON-NLS-1$
         SimpleNameImpl result = new SimpleNameImpl();
         result.setToken(string);
@@ -1966,6 +2408,11 @@ public class ModelFactoryImpl implements ModelFactory {
     private SingleElementAnnotationImpl newSingleElementAnnotation0(
             NamedType type,
             Expression expression) {
+        if (trusted) {
+            return SingleElementAnnotationImpl.newUnchecked(
+                type,
+                expression);
+        }
         Util.notNull(type, "type"); //$NON-NLS-1$
         Util.notNull(expression, "expression"); //$NON-NLS-1$
         SingleElementAnnotationImpl result = new SingleElementAnnotationImpl();
@@ -1979,7 +2426,7 @@ public class ModelFactoryImpl implements ModelFactory {
             Expression...expressions) {
         Util.notNull(expressions, "expressions"); //$NON-NLS-1$
         return this.newStatementExpressionList0(
-            Arrays.asList(expressions)
+            Util.freeze(expressions)
         );
     }
 
@@ -1993,6 +2440,10 @@ public class ModelFactoryImpl implements ModelFactory {
 
     private StatementExpressionListImpl newStatementExpressionList0(
             List<? extends Expression> expressions) {
+        if (trusted) {
+            return StatementExpressionListImpl.newUnchecked(
+                expressions);
+        }
         Util.notNull(expressions, "expressions"); //$NON-NLS-1$
         Util.notContainNull(expressions, "expressions"); //$NON-NLS-1$
         Util.notEmpty(expressions, "expressions"); //$NON-NLS-1$
@@ -2018,6 +2469,10 @@ public class ModelFactoryImpl implements ModelFactory {
 
     private SuperImpl newSuper0(
             NamedType qualifier) {
+        if (trusted) {
+            return SuperImpl.newUnchecked(
+                qualifier);
+        }
         SuperImpl result = new SuperImpl();
         result.setQualifier(qualifier);
         return result;
@@ -2030,7 +2485,7 @@ public class ModelFactoryImpl implements ModelFactory {
         return this.newSuperConstructorInvocation0(
             null,
             Collections.<Type>emptyList(),
-            Arrays.asList(arguments)
+            Util.freeze(arguments)
         );
     }
 
@@ -2060,12 +2515,18 @@ public class ModelFactoryImpl implements ModelFactory {
             Expression qualifier,
             List<? extends Type> typeArguments,
             List<? extends Expression> arguments) {
+        if (trusted) {
+            return SuperConstructorInvocationImpl.newUnchecked(
+                Util.parenthesize(qualifier, ExpressionPriority.PRIMARY),
+                typeArguments,
+                arguments);
+        }
         Util.notNull(typeArguments, "typeArguments"); //$NON-NLS-1$
         Util.notContainNull(typeArguments, "typeArguments"); //$NON-NLS-1$
         Util.notNull(arguments, "arguments"); //$NON-NLS-1$
         Util.notContainNull(arguments, "arguments"); //$NON-NLS-1$
         SuperConstructorInvocationImpl result = new SuperConstructorInvocationImpl();
-        result.setQualifier(parenthesize(qualifier, ExpressionPriority.PRIMARY));
+        result.setQualifier(Util.parenthesize(qualifier, ExpressionPriority.PRIMARY));
         result.setTypeArguments(typeArguments);
         result.setArguments(arguments);
         return result;
@@ -2081,6 +2542,10 @@ public class ModelFactoryImpl implements ModelFactory {
 
     private SwitchCaseLabelImpl newSwitchCaseLabel0(
             Expression expression) {
+        if (trusted) {
+            return SwitchCaseLabelImpl.newUnchecked(
+                expression);
+        }
         Util.notNull(expression, "expression"); //$NON-NLS-1$
         SwitchCaseLabelImpl result = new SwitchCaseLabelImpl();
         result.setExpression(expression);
@@ -2114,6 +2579,11 @@ public class ModelFactoryImpl implements ModelFactory {
     private SwitchStatementImpl newSwitchStatement0(
             Expression expression,
             List<? extends Statement> statements) {
+        if (trusted) {
+            return SwitchStatementImpl.newUnchecked(
+                expression,
+                statements);
+        }
         Util.notNull(expression, "expression"); //$NON-NLS-1$
         Util.notNull(statements, "statements"); //$NON-NLS-1$
         Util.notContainNull(statements, "statements"); //$NON-NLS-1$
@@ -2136,6 +2606,11 @@ public class ModelFactoryImpl implements ModelFactory {
     private SynchronizedStatementImpl newSynchronizedStatement0(
             Expression expression,
             Block body) {
+        if (trusted) {
+            return SynchronizedStatementImpl.newUnchecked(
+                expression,
+                body);
+        }
         Util.notNull(expression, "expression"); //$NON-NLS-1$
         Util.notNull(body, "body"); //$NON-NLS-1$
         SynchronizedStatementImpl result = new SynchronizedStatementImpl();
@@ -2161,6 +2636,10 @@ public class ModelFactoryImpl implements ModelFactory {
 
     private ThisImpl newThis0(
             NamedType qualifier) {
+        if (trusted) {
+            return ThisImpl.newUnchecked(
+                qualifier);
+        }
         ThisImpl result = new ThisImpl();
         result.setQualifier(qualifier);
         return result;
@@ -2176,6 +2655,10 @@ public class ModelFactoryImpl implements ModelFactory {
 
     private ThrowStatementImpl newThrowStatement0(
             Expression expression) {
+        if (trusted) {
+            return ThrowStatementImpl.newUnchecked(
+                expression);
+        }
         Util.notNull(expression, "expression"); //$NON-NLS-1$
         ThrowStatementImpl result = new ThrowStatementImpl();
         result.setExpression(expression);
@@ -2198,6 +2681,12 @@ public class ModelFactoryImpl implements ModelFactory {
             Block tryBlock,
             List<? extends CatchClause> catchClauses,
             Block finallyBlock) {
+        if (trusted) {
+            return TryStatementImpl.newUnchecked(
+                tryBlock,
+                catchClauses,
+                finallyBlock);
+        }
         Util.notNull(tryBlock, "tryBlock"); //$NON-NLS-1$
         Util.notNull(catchClauses, "catchClauses"); //$NON-NLS-1$
         Util.notContainNull(catchClauses, "catchClauses"); //$NON-NLS-1$
@@ -2215,7 +2704,7 @@ public class ModelFactoryImpl implements ModelFactory {
         Util.notNull(typeBounds, "typeBounds"); //$NON-NLS-1$
         return this.newTypeParameterDeclaration0(
             name,
-            Arrays.asList(typeBounds)
+            Util.freeze(typeBounds)
         );
     }
 
@@ -2232,6 +2721,11 @@ public class ModelFactoryImpl implements ModelFactory {
     private TypeParameterDeclarationImpl newTypeParameterDeclaration0(
             SimpleName name,
             List<? extends Type> typeBounds) {
+        if (trusted) {
+            return TypeParameterDeclarationImpl.newUnchecked(
+                name,
+                typeBounds);
+        }
         Util.notNull(name, "name"); //$NON-NLS-1$
         Util.notNull(typeBounds, "typeBounds"); //$NON-NLS-1$
         Util.notContainNull(typeBounds, "typeBounds"); //$NON-NLS-1$
@@ -2254,11 +2748,16 @@ public class ModelFactoryImpl implements ModelFactory {
     private UnaryExpressionImpl newUnaryExpression0(
             UnaryOperator operator,
             Expression operand) {
+        if (trusted) {
+            return UnaryExpressionImpl.newUnchecked(
+                operator,
+                Util.parenthesize(operand, ExpressionPriority.UNARY));
+        }
         Util.notNull(operator, "operator"); //$NON-NLS-1$
         Util.notNull(operand, "operand"); //$NON-NLS-1$
         UnaryExpressionImpl result = new UnaryExpressionImpl();
         result.setOperator(operator);
-        result.setOperand(parenthesize(operand, ExpressionPriority.UNARY));
+        result.setOperand(Util.parenthesize(operand, ExpressionPriority.UNARY));
         return result;
     }
 
@@ -2289,6 +2788,12 @@ public class ModelFactoryImpl implements ModelFactory {
             SimpleName name,
             int extraDimensions,
             Expression initializer) {
+        if (trusted) {
+            return VariableDeclaratorImpl.newUnchecked(
+                name,
+                extraDimensions,
+                initializer);
+        }
         Util.notNull(name, "name"); //$NON-NLS-1$
         VariableDeclaratorImpl result = new VariableDeclaratorImpl();
         result.setName(name);
@@ -2310,6 +2815,11 @@ public class ModelFactoryImpl implements ModelFactory {
     private WhileStatementImpl newWhileStatement0(
             Expression condition,
             Statement body) {
+        if (trusted) {
+            return WhileStatementImpl.newUnchecked(
+                condition,
+                body);
+        }
         Util.notNull(condition, "condition"); //$NON-NLS-1$
         Util.notNull(body, "body"); //$NON-NLS-1$
         WhileStatementImpl result = new WhileStatementImpl();
@@ -2339,36 +2849,15 @@ public class ModelFactoryImpl implements ModelFactory {
     private WildcardImpl newWildcard0(
             WildcardBoundKind boundKind,
             Type typeBound) {
+        if (trusted) {
+            return WildcardImpl.newUnchecked(
+                boundKind,
+                typeBound);
+        }
         Util.notNull(boundKind, "boundKind"); //$NON-NLS-1$
         WildcardImpl result = new WildcardImpl();
         result.setBoundKind(boundKind);
         result.setTypeBound(typeBound);
         return result;
     }
-
-    private Expression parenthesize(Expression expression, ExpressionPriority context) {
-        if (expression == null) {
-            return null;
-        }
-        ExpressionPriority priority = ExpressionPriority.valueOf(expression);
-        if (ExpressionPriority.isParenthesesRequired(context, false, priority)) {
-            return newParenthesizedExpression0(expression);
-        }
-        else {
-            return expression;
-        }
-    }
-
-    private Expression parenthesizeRight(Expression expression, ExpressionPriority context) {
-        if (expression == null) {
-            return null;
-        }
-        ExpressionPriority priority = ExpressionPriority.valueOf(expression);
-        if (ExpressionPriority.isParenthesesRequired(context, true, priority)) {
-            return newParenthesizedExpression0(expression);
-        }
-        else {
-            return expression;
-        }
-    }
 }
@@ -0,0 +1,202 @@
+/*
+ * Copyright 2011 @ashigeru.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package com.ashigeru.lang.java.internal.model.syntax;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.ashigeru.lang.java.model.syntax.Model;
+import com.ashigeru.lang.java.model.syntax.ModelKind;
+
+/**
+ * 構造が等しいモデルを共有するための表。
+ * <p>
+ * 登録されたモデルは弱参照で保持され、どこからも参照されなくなった時点で表から取り除かれる。
+ * また、表に登録される要素の個数は生成時に指定した上限を超えない。
+ * </p>
+ * <p>
+ * このクラスのオブジェクトは、複数のスレッドから同時に利用できる。
+ * </p>
+ * @author ashigeru
+ */
+final class ModelInternTable {
+
+    private final ConcurrentMap<Key, Entry> entries;
+
+    private final ReferenceQueue<Model> queue = new ReferenceQueue<Model>();
+
+    private final int capacity;
+
+    /**
+     * インスタンスを生成する。
+     * @param capacity 登録する要素の最大数
+     * @throws IllegalArgumentException 引数に負の値が指定された場合
+     */
+    ModelInternTable(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("capacity must not be negative"); //$NON-NLS-1$
+        }
+        this.capacity = capacity;
+        this.entries = new ConcurrentHashMap<Key, Entry>(Math.min(capacity, 1024));
+    }
+
+    /**
+     * 指定のキーに対応する登録済みの共有モデルを返す。
+     * @param <T> モデルの種類
+     * @param key 対象のキー
+     * @return キーに対応する共有モデル、登録されていない場合は{@code null}
+     */
+    <T extends Model> T find(Key key) {
+        assert key != null;
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        @SuppressWarnings("unchecked")
+        T result = (T) entry.get();
+        return result;
+    }
+
+    /**
+     * 指定のキーに対応する共有モデルを返す。
+     * <p>
+     * キーに対応するモデルが登録されていない場合、指定のモデルを登録した上でそれを返す。
+     * ただし、表が上限に達している場合には、指定のモデルを登録せずにそのまま返す。
+     * </p>
+     * @param <T> モデルの種類
+     * @param key 対象のキー
+     * @param candidate キーに対応するモデルが存在しない場合に登録するモデル
+     * @return キーに対応する共有モデル
+     */
+    <T extends Model> T intern(Key key, T candidate) {
+        assert key != null;
+        assert candidate != null;
+        expunge();
+        while (true) {
+            Entry entry = entries.get(key);
+            if (entry != null) {
+                Model found = entry.get();
+                if (found != null) {
+                    @SuppressWarnings("unchecked")
+                    T result = (T) found;
+                    return result;
+                }
+                entries.remove(key, entry);
+                continue;
+            }
+            if (entries.size() >= capacity) {
+                return candidate;
+            }
+            if (entries.putIfAbsent(key, new Entry(key, candidate, queue)) == null) {
+                return candidate;
+            }
+        }
+    }
+
+    /**
+     * 登録されている要素の個数を返す。
+     * @return 登録されている要素の個数
+     */
+    int size() {
+        expunge();
+        return entries.size();
+    }
+
+    private void expunge() {
+        while (true) {
+            Reference<? extends Model> ref = queue.poll();
+            if (ref == null) {
+                break;
+            }
+            Entry entry = (Entry) ref;
+            entries.remove(entry.key, entry);
+        }
+    }
+
+    /**
+     * 共有モデルを検索するためのキー。
+     * <p>
+     * モデルの種類と、構造を決定する高々二つの値で構成される。
+     * </p>
+     */
+    static final class Key {
+
+        private final ModelKind kind;
+
+        private final Object first;
+
+        private final Object second;
+
+        private final int hashCode;
+
+        Key(ModelKind kind, Object first, Object second) {
+            assert kind != null;
+            this.kind = kind;
+            this.first = first;
+            this.second = second;
+            int result = kind.ordinal();
+            result = result * 31 + (first == null ? 0 : first.hashCode());
+            result = result * 31 + (second == null ? 0 : second.hashCode());
+            this.hashCode = result;
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null) {
+                return false;
+            }
+            if (getClass() != obj.getClass()) {
+                return false;
+            }
+            Key other = (Key) obj;
+            if (hashCode != other.hashCode || kind != other.kind) {
+                return false;
+            }
+            return equals(first, other.first) && equals(second, other.second);
+        }
+
+        private static boolean equals(Object a, Object b) {
+            if (a == b) {
+                return true;
+            }
+            if (a == null || b == null) {
+                return false;
+            }
+            return a.equals(b);
+        }
+    }
+
+    private static final class Entry extends WeakReference<Model> {
+
+        final Key key;
+
+        Entry(Key key, Model referent, ReferenceQueue<Model> queue) {
+            super(referent, queue);
+            this.key = key;
+        }
+    }
+}
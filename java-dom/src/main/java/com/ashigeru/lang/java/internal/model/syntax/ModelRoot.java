@@ -17,33 +17,98 @@ package com.ashigeru.lang.java.internal.model.syntax;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 import com.ashigeru.lang.java.internal.model.util.ModelDigester;
 import com.ashigeru.lang.java.internal.model.util.ModelEmitter;
-import com.ashigeru.lang.java.internal.model.util.ModelMatcher;
+import com.ashigeru.lang.java.internal.model.util.ModelFingerprinter;
+import com.ashigeru.lang.java.internal.model.util.ModelProperties;
 import com.ashigeru.lang.java.internal.model.util.PrintEmitContext;
 import com.ashigeru.lang.java.model.syntax.Model;
+import com.ashigeru.lang.java.model.syntax.ModelKind;
+import com.ashigeru.lang.java.model.syntax.PropertyKind;
+import com.ashigeru.lang.java.model.util.ModelFingerprint;
+import com.ashigeru.lang.java.model.util.ModelWalker;
+import com.ashigeru.lang.java.model.util.ModelWalker.Event;
 
 /**
  * {@link Model}の基底となるクラス。
+ * <p>
+ * 凍結されていないモデルは自身や子孫のプロパティが変更されうるため、構造ハッシュ値を毎回計算し直す。
+ * 構造ハッシュ値は凍結されたモデルについてのみキャッシュされ、
+ * キャッシュされた値の異なるモデル同士の比較は内側を走査せずに完了する。
+ * つまり、構造ハッシュ値の計算が定数時間で完了するのは{@link #freeze()}で凍結したモデルのみであり、
+ * 凍結されていないモデルでは凍結されていない子孫の個数に比例した時間を要する。
+ * ハッシュ表のキーなどとして繰り返し利用するモデルは、あらかじめ凍結しておくとよい。
+ * </p>
+ * <p>
+ * {@link #freeze()}によって凍結されたモデルは、以降プロパティを変更できない。
+ * 凍結は子から順に行われ、それぞれのモデルの凍結状態は{@code volatile}な変数に書き込まれる。
+ * そのため、あるモデルが凍結されていることを観測したスレッドは、
+ * そのモデルを起点とする部分木のすべてのプロパティを正しく参照できる。
+ * </p>
+ * <p>
+ * トレイトの登録と参照は凍結の有無にかかわらず、複数のスレッドから同時に行える。
+ * </p>
+ * <p>
+ * 構造ハッシュ値の計算と構造の比較は再帰呼び出しを利用せずに行うため、
+ * 木の深さにかかわらずスタックオーバーフローを起こさない。
+ * </p>
  * @author ashigeru
  */
-abstract class ModelRoot implements Model {
+abstract class ModelRoot implements ModelFingerprinter.Cacheable {
 
-    private Map<Class<?>, Object> traits = new WeakHashMap<Class<?>, Object>();
+    private static final AtomicReferenceFieldUpdater<ModelRoot, Object[]> TRAITS =
+        AtomicReferenceFieldUpdater.newUpdater(ModelRoot.class, Object[].class, "traits"); //$NON-NLS-1$
+
+    /**
+     * トレイトの種類とトレイトオブジェクトを交互に並べた配列、
+     * トレイトが一つも登録されていない場合は{@code null}。
+     * <p>
+     * ほとんどのモデルはトレイトを持たないため、最初のトレイトが登録されるまで領域を確保しない。
+     * 配列の内容は変更せず、登録のたびに新しい配列で置き換える。
+     * </p>
+     */
+    private volatile Object[] traits;
+
+    /**
+     * このモデルが凍結されている場合に{@code true}。
+     */
+    private volatile boolean frozen;
+
+    /**
+     * ハッシュ値を走査のためのオブジェクトを生成せずに直接計算する、凍結されていない子孫の深さの上限。
+     */
+    static final int DIRECT_HASH_DEPTH = 64;
+
+    /**
+     * キャッシュされたハッシュ値、まだ計算されていないかこのモデルが凍結されていない場合は{@code 0}。
+     */
+    private int hashCode;
+
+    /**
+     * キャッシュされた指紋、まだ計算されていないかこのモデルが凍結されていない場合は{@code null}。
+     */
+    private ModelFingerprint fingerprint;
 
     @Override
     public <T> T findModelTrait(Class<T> traitClass) {
         if (traitClass == null) {
             throw new IllegalArgumentException("traitClass must not be null"); //$NON-NLS-1$
         }
-        Object adapter = traits.get(traitClass);
-        if (adapter == null) {
+        Object[] entries = traits;
+        if (entries == null) {
+            return null;
+        }
+        int index = indexOf(entries, traitClass);
+        if (index < 0) {
             return null;
         }
-        return traitClass.cast(adapter);
+        return traitClass.cast(entries[index + 1]);
     }
 
     @Override
@@ -51,29 +116,326 @@ abstract class ModelRoot implements Model {
         if (traitClass == null) {
             throw new IllegalArgumentException("traitClass must not be null"); //$NON-NLS-1$
         }
-        if (traitObject == null) {
-            traits.remove(traitClass);
+        assert traitObject == null || traitClass.isInstance(traitObject);
+        while (true) {
+            Object[] entries = traits;
+            int index = entries == null ? -1 : indexOf(entries, traitClass);
+            Object[] next;
+            if (traitObject == null) {
+                if (index < 0) {
+                    return;
+                }
+                next = remove(entries, index);
+            }
+            else if (index >= 0) {
+                next = entries.clone();
+                next[index + 1] = traitObject;
+            }
+            else {
+                next = append(entries, traitClass, traitObject);
+            }
+            if (TRAITS.compareAndSet(this, entries, next)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * このモデルを起点とする部分木のすべてのモデルを凍結する。
+     * <p>
+     * 凍結されたモデルのプロパティを変更しようとした場合、{@link IllegalStateException}がスローされる。
+     * また、凍結の際にそれぞれのモデルの構造ハッシュ値を計算しておく。
+     * すでに凍結されている部分木は再度走査しない。
+     * </p>
+     */
+    @Override
+    public void freeze() {
+        if (frozen) {
+            return;
+        }
+        ModelWalker walker = new ModelWalker(this);
+        for (Event event = walker.next(); event != null; event = walker.next()) {
+            Model model = walker.getModel();
+            if ((model instanceof ModelRoot) == false) {
+                walker.skipChildren();
+                continue;
+            }
+            ModelRoot node = (ModelRoot) model;
+            if (node.frozen) {
+                walker.skipChildren();
+            }
+            else if (event == Event.EXIT) {
+                node.frozen = true;
+                node.hashCode();
+            }
+        }
+    }
+
+    /**
+     * このモデルが凍結されているかどうかを返す。
+     * @return 凍結されている場合は{@code true}、そうでない場合は{@code false}
+     * @see #freeze()
+     */
+    @Override
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    /**
+     * このモデルが凍結されていないことを確認する。
+     * @throws IllegalStateException このモデルが凍結されている場合
+     */
+    final void checkModifiable() {
+        if (frozen) {
+            throw new IllegalStateException("model is frozen"); //$NON-NLS-1$
+        }
+    }
+
+    private static int indexOf(Object[] entries, Class<?> traitClass) {
+        assert entries != null;
+        for (int i = 0; i < entries.length; i += 2) {
+            if (entries[i] == traitClass) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static Object[] append(Object[] entries, Class<?> traitClass, Object traitObject) {
+        if (entries == null) {
+            return new Object[] { traitClass, traitObject };
         }
-        else {
-            assert traitClass.isInstance(traitObject);
-            traits.put(traitClass, traitObject);
+        Object[] results = new Object[entries.length + 2];
+        System.arraycopy(entries, 0, results, 0, entries.length);
+        results[entries.length] = traitClass;
+        results[entries.length + 1] = traitObject;
+        return results;
+    }
+
+    private static Object[] remove(Object[] entries, int index) {
+        assert entries != null;
+        if (entries.length == 2) {
+            return null;
         }
+        Object[] results = new Object[entries.length - 2];
+        System.arraycopy(entries, 0, results, 0, index);
+        System.arraycopy(entries, index + 2, results, index, entries.length - index - 2);
+        return results;
+    }
+
+    @Override
+    public Object getProperty(PropertyKind property) {
+        return ModelProperties.get(this, property);
     }
 
+    /**
+     * このモデルのハッシュ値を返す。
+     * <p>
+     * ハッシュ値はこのモデルが{@link #freeze() 凍結}されている場合のみキャッシュされる。
+     * 凍結されていないモデルは自身や子孫のプロパティが変更されうるため、呼び出しのたびに計算し直す。
+     * </p>
+     */
     @Override
     public int hashCode() {
-        return ModelDigester.compute(this);
+        int result = hashCode;
+        if (result == 0) {
+            result = computeHashCode();
+            if (frozen) {
+                hashCode = result;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * このモデルを起点とする部分木について、子から順にハッシュ値を計算する。
+     * <p>
+     * 凍結されていない子孫の深さが{@link #DIRECT_HASH_DEPTH}以下であれば、
+     * 走査のためのオブジェクトを生成せずに直接計算する。
+     * 葉のモデルや浅い部分木は通常この経路で計算される。
+     * </p>
+     * <p>
+     * キャッシュされたハッシュ値を持つ (凍結された) 部分木は再度走査しない。
+     * それ以外の計算途中のハッシュ値は一時的な表に保持するため、
+     * {@link ModelDigester#compute(Model, Map)}はそれぞれのモデルについて再帰せずに完了する。
+     * </p>
+     * @return このモデルのハッシュ値
+     */
+    private int computeHashCode() {
+        long direct = ModelDigester.computeWithin(this, DIRECT_HASH_DEPTH);
+        if (direct != ModelDigester.EXCEEDED) {
+            return (int) direct;
+        }
+        Map<Model, Integer> hashes = null;
+        ModelWalker walker = new ModelWalker(this);
+        for (Event event = walker.next(); event != null; event = walker.next()) {
+            Model model = walker.getModel();
+            if ((model instanceof ModelRoot) == false) {
+                walker.skipChildren();
+                continue;
+            }
+            ModelRoot node = (ModelRoot) model;
+            if (node != this && node.hashCode != 0) {
+                walker.skipChildren();
+            }
+            else if (event == Event.EXIT) {
+                int result = ModelDigester.compute(node, hashes);
+                if (node == this) {
+                    return result;
+                }
+                if (hashes == null) {
+                    hashes = new IdentityHashMap<Model, Integer>();
+                }
+                hashes.put(node, result);
+            }
+        }
+        throw new AssertionError();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * 指紋はこのモデルが{@link #freeze() 凍結}されている場合のみキャッシュされる。
+     * 凍結されていないモデルは自身や子孫のプロパティが変更されうるため、呼び出しのたびに計算し直す。
+     * </p>
+     */
+    @Override
+    public ModelFingerprint getFingerprint() {
+        ModelFingerprint result = fingerprint;
+        if (result == null) {
+            result = computeFingerprint();
+            if (frozen) {
+                fingerprint = result;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * このモデルを起点とする部分木について、子から順に指紋を計算する。
+     * <p>
+     * キャッシュされた指紋を持つ (凍結された) 部分木は再度走査しない。
+     * それ以外の計算途中の指紋は一時的な表に保持するため、
+     * {@link ModelFingerprinter#compute(Model, Map)}はそれぞれのモデルについて再帰せずに完了する。
+     * </p>
+     * @return このモデルの指紋
+     */
+    private ModelFingerprint computeFingerprint() {
+        Map<Model, ModelFingerprint> fingerprints = null;
+        ModelWalker walker = new ModelWalker(this);
+        for (Event event = walker.next(); event != null; event = walker.next()) {
+            Model model = walker.getModel();
+            if ((model instanceof ModelRoot) == false) {
+                walker.skipChildren();
+                continue;
+            }
+            ModelRoot node = (ModelRoot) model;
+            if (node != this && node.fingerprint != null) {
+                walker.skipChildren();
+            }
+            else if (event == Event.EXIT) {
+                ModelFingerprint result = ModelFingerprinter.compute(node, fingerprints);
+                if (node == this) {
+                    return result;
+                }
+                if (fingerprints == null) {
+                    fingerprints = new IdentityHashMap<Model, ModelFingerprint>();
+                }
+                fingerprints.put(node, result);
+            }
+        }
+        throw new AssertionError();
     }
 
     @Override
     public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
         if (obj == null) {
             return false;
         }
         if ((obj instanceof Model) == false) {
             return false;
         }
-        return accept(ModelMatcher.INSTANCE, (Model) obj) ;
+        return matches(this, (Model) obj);
+    }
+
+    /**
+     * 指定の二つのモデルが同一の構造をとる場合のみ{@code true}を返す。
+     * <p>
+     * 比較すべきモデルの組を明示的なスタックに積みながら、それぞれのプロパティを比較する。
+     * </p>
+     * @param self 比較するモデル
+     * @param other 比較対象のモデル
+     * @return 同一の構造をとる場合に{@code true}、そうでない場合は{@code false}
+     */
+    private static boolean matches(Model self, Model other) {
+        Model[] stack = new Model[32];
+        int size = 0;
+        stack[size++] = self;
+        stack[size++] = other;
+        while (size > 0) {
+            Model b = stack[--size];
+            Model a = stack[--size];
+            stack[size] = null;
+            stack[size + 1] = null;
+            if (a == b) {
+                continue;
+            }
+            if (a == null || b == null) {
+                return false;
+            }
+            ModelKind kind = a.getModelKind();
+            if (kind != b.getModelKind()) {
+                return false;
+            }
+            if (a instanceof ModelRoot && b instanceof ModelRoot) {
+                int thisHash = ((ModelRoot) a).hashCode;
+                int thatHash = ((ModelRoot) b).hashCode;
+                if (thisHash != 0 && thatHash != 0 && thisHash != thatHash) {
+                    return false;
+                }
+            }
+            List<PropertyKind> properties = kind.getProperties();
+            for (int i = properties.size() - 1; i >= 0; i--) {
+                PropertyKind property = properties.get(i);
+                Object x = a.getProperty(property);
+                Object y = b.getProperty(property);
+                if (x instanceof List<?>) {
+                    if ((y instanceof List<?>) == false) {
+                        return false;
+                    }
+                    List<?> xs = (List<?>) x;
+                    List<?> ys = (List<?>) y;
+                    int count = xs.size();
+                    if (count != ys.size()) {
+                        return false;
+                    }
+                    if (xs == ys) {
+                        continue;
+                    }
+                    if (size + count * 2 > stack.length) {
+                        stack = Arrays.copyOf(stack, Math.max(stack.length * 2, size + count * 2));
+                    }
+                    for (int j = count - 1; j >= 0; j--) {
+                        stack[size++] = (Model) xs.get(j);
+                        stack[size++] = (Model) ys.get(j);
+                    }
+                }
+                else if (x instanceof Model || y instanceof Model) {
+                    if (size + 2 > stack.length) {
+                        stack = Arrays.copyOf(stack, stack.length * 2);
+                    }
+                    stack[size++] = (Model) x;
+                    stack[size++] = (Model) y;
+                }
+                else if (x == null ? y != null : x.equals(y) == false) {
+                    return false;
+                }
+            }
+        }
+        return true;
     }
 
     @Override
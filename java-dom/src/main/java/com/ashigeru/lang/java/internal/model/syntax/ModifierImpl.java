@@ -44,10 +44,27 @@ public final class ModifierImpl extends ModelRoot implements Modifier {
      *     {@code modifierKind}に{@code null}が指定された場合
      */
     public void setModifierKind(ModifierKind modifierKind) {
+        checkModifiable();
         Util.notNull(modifierKind, "modifierKind"); //$NON-NLS-1$
         this.modifierKind = modifierKind;
     }
 
+    /**
+     * 引数を検査せずにこの要素を生成する。
+     * <p>
+     * 引数の妥当性は呼び出し側が保証しなければならない。
+     * </p>
+     * @param modifierKind
+     *     修飾子の種類
+     * @return 生成した要素
+     */
+    static ModifierImpl newUnchecked(
+            ModifierKind modifierKind) {
+        ModifierImpl result = new ModifierImpl();
+        result.modifierKind = modifierKind;
+        return result;
+    }
+
     /**
      * この要素の種類を表す{@link ModelKind#MODIFIER}を返す。
      * @return {@link ModelKind#MODIFIER}
@@ -63,4 +80,21 @@ public final class ModifierImpl extends ModelRoot implements Modifier {
         Util.notNull(visitor, "visitor"); //$NON-NLS-1$
         return visitor.visitModifier(this, context);
     }
+
+    @Override
+    public Modifier withModifierKind(ModifierKind modifierKind) {
+        ModifierImpl result = copy();
+        result.setModifierKind(modifierKind);
+        return result;
+    }
+
+    /**
+     * このオブジェクトのプロパティを共有する新しいオブジェクトを返す。
+     * @return 生成したオブジェクト
+     */
+    private ModifierImpl copy() {
+        ModifierImpl result = new ModifierImpl();
+        result.modifierKind = this.modifierKind;
+        return result;
+    }
 }
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2011 @ashigeru.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package com.ashigeru.lang.java.internal.model.syntax;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.ashigeru.lang.java.model.syntax.ModelFactory;
+import com.ashigeru.lang.java.model.syntax.Name;
+
+/**
+ * ドット区切りの文字列をキーとして名前を共有するトライ。
+ * <p>
+ * 各ノードは名前の接頭辞 ({@code java}, {@code java.util}など) をキーとして登録され、
+ * その名前の限定子は接頭辞のノードが保持する名前そのものとなる。
+ * そのため、{@code java.util.List}と{@code java.util.Map}は
+ * 同一の{@code java.util}を限定子として共有する。
+ * </p>
+ * <p>
+ * 登録された名前は弱参照で保持され、どこからも参照されなくなった時点でトライから取り除かれる。
+ * 名前はその限定子を参照しているため、接頭辞のノードが先に取り除かれることはない。
+ * また、登録される名前の個数は生成時に指定した上限を超えない。
+ * </p>
+ * <p>
+ * このクラスのオブジェクトは、複数のスレッドから同時に利用できる。
+ * </p>
+ * @author ashigeru
+ */
+final class NameTrie {
+
+    private final ModelFactory factory;
+
+    private final ConcurrentMap<String, Node> nodes;
+
+    private final ReferenceQueue<Name> queue = new ReferenceQueue<Name>();
+
+    private final int capacity;
+
+    /**
+     * インスタンスを生成する。
+     * @param factory 名前を生成するためのファクトリ
+     * @param capacity 登録する名前の最大数
+     * @throws IllegalArgumentException 引数に負の値が指定された場合
+     */
+    NameTrie(ModelFactory factory, int capacity) {
+        assert factory != null;
+        if (capacity < 0) {
+            throw new IllegalArgumentException("capacity must not be negative"); //$NON-NLS-1$
+        }
+        this.factory = factory;
+        this.capacity = capacity;
+        this.nodes = new ConcurrentHashMap<String, Node>(Math.min(capacity, 1024));
+    }
+
+    /**
+     * 指定の文字列に対応する共有された名前を返す。
+     * <p>
+     * 対応する名前が登録されていない場合、接頭辞に対応する名前を限定子として新しい名前を生成し、
+     * それを登録した上で返す。
+     * ただし、トライが上限に達している場合には、生成した名前を登録せずにそのまま返す。
+     * </p>
+     * @param nameString 空白を含まないドット区切りの名前
+     * @return 対応する名前
+     * @throws IllegalArgumentException 名前として正しくない場合
+     */
+    Name get(String nameString) {
+        assert nameString != null;
+        expunge();
+        Node node = nodes.get(nameString);
+        if (node != null) {
+            Name found = node.get();
+            if (found != null) {
+                return found;
+            }
+        }
+        int lastDot = nameString.lastIndexOf('.');
+        Name name;
+        if (lastDot < 0) {
+            name = factory.newSimpleName(nameString);
+        }
+        else {
+            Name qualifier = get(nameString.substring(0, lastDot));
+            name = factory.newQualifiedName(
+                    qualifier,
+                    factory.newSimpleName(nameString.substring(lastDot + 1)));
+        }
+        return register(nameString, name);
+    }
+
+    /**
+     * 登録されている名前の個数を返す。
+     * @return 登録されている名前の個数
+     */
+    int size() {
+        expunge();
+        return nodes.size();
+    }
+
+    private Name register(String nameString, Name candidate) {
+        while (true) {
+            Node node = nodes.get(nameString);
+            if (node != null) {
+                Name found = node.get();
+                if (found != null) {
+                    return found;
+                }
+                nodes.remove(nameString, node);
+                continue;
+            }
+            if (nodes.size() >= capacity) {
+                return candidate;
+            }
+            if (nodes.putIfAbsent(nameString, new Node(nameString, candidate, queue)) == null) {
+                return candidate;
+            }
+        }
+    }
+
+    private void expunge() {
+        while (true) {
+            Reference<? extends Name> ref = queue.poll();
+            if (ref == null) {
+                break;
+            }
+            Node node = (Node) ref;
+            nodes.remove(node.key, node);
+        }
+    }
+
+    private static final class Node extends WeakReference<Name> {
+
+        final String key;
+
+        Node(String key, Name referent, ReferenceQueue<Name> queue) {
+            super(referent, queue);
+            this.key = key;
+        }
+    }
+}
@@ -44,10 +44,27 @@ public final class NamedTypeImpl extends ModelRoot implements NamedType {
      *     {@code name}に{@code null}が指定された場合
      */
     public void setName(Name name) {
+        checkModifiable();
         Util.notNull(name, "name"); //$NON-NLS-1$
         this.name = name;
     }
 
+    /**
+     * 引数を検査せずにこの要素を生成する。
+     * <p>
+     * 引数の妥当性は呼び出し側が保証しなければならない。
+     * </p>
+     * @param name
+     *     型の名前
+     * @return 生成した要素
+     */
+    static NamedTypeImpl newUnchecked(
+            Name name) {
+        NamedTypeImpl result = new NamedTypeImpl();
+        result.name = name;
+        return result;
+    }
+
     /**
      * この要素の種類を表す{@link ModelKind#NAMED_TYPE}を返す。
      * @return {@link ModelKind#NAMED_TYPE}
@@ -63,4 +80,21 @@ public final class NamedTypeImpl extends ModelRoot implements NamedType {
         Util.notNull(visitor, "visitor"); //$NON-NLS-1$
         return visitor.visitNamedType(this, context);
     }
+
+    @Override
+    public NamedType withName(Name name) {
+        NamedTypeImpl result = copy();
+        result.setName(name);
+        return result;
+    }
+
+    /**
+     * このオブジェクトのプロパティを共有する新しいオブジェクトを返す。
+     * @return 生成したオブジェクト
+     */
+    private NamedTypeImpl copy() {
+        NamedTypeImpl result = new NamedTypeImpl();
+        result.name = this.name;
+        return result;
+    }
 }
@@ -52,6 +52,7 @@ public final class NormalAnnotationImpl extends ModelRoot implements NormalAnnot
      *     {@code type}に{@code null}が指定された場合
      */
     public void setType(NamedType type) {
+        checkModifiable();
         Util.notNull(type, "type"); //$NON-NLS-1$
         this.type = type;
     }
@@ -70,11 +71,32 @@ public final class NormalAnnotationImpl extends ModelRoot implements NormalAnnot
      *     {@code elements}に{@code null}が指定された場合
      */
     public void setElements(List<? extends AnnotationElement> elements) {
+        checkModifiable();
         Util.notNull(elements, "elements"); //$NON-NLS-1$
         Util.notContainNull(elements, "elements"); //$NON-NLS-1$
         this.elements = Util.freeze(elements);
     }
 
+    /**
+     * 引数を検査せずにこの要素を生成する。
+     * <p>
+     * 引数の妥当性は呼び出し側が保証しなければならない。
+     * </p>
+     * @param type
+     *     注釈の型
+     * @param elements
+     *     注釈要素の一覧
+     * @return 生成した要素
+     */
+    static NormalAnnotationImpl newUnchecked(
+            NamedType type,
+            List<? extends AnnotationElement> elements) {
+        NormalAnnotationImpl result = new NormalAnnotationImpl();
+        result.type = type;
+        result.elements = Util.freeze(elements);
+        return result;
+    }
+
     /**
      * この要素の種類を表す{@link ModelKind#NORMAL_ANNOTATION}を返す。
      * @return {@link ModelKind#NORMAL_ANNOTATION}
@@ -90,4 +112,29 @@ public final class NormalAnnotationImpl extends ModelRoot implements NormalAnnot
         Util.notNull(visitor, "visitor"); //$NON-NLS-1$
         return visitor.visitNormalAnnotation(this, context);
     }
+
+    @Override
+    public NormalAnnotation withType(NamedType type) {
+        NormalAnnotationImpl result = copy();
+        result.setType(type);
+        return result;
+    }
+
+    @Override
+    public NormalAnnotation withElements(List<? extends AnnotationElement> elements) {
+        NormalAnnotationImpl result = copy();
+        result.setElements(elements);
+        return result;
+    }
+
+    /**
+     * このオブジェクトのプロパティを共有する新しいオブジェクトを返す。
+     * @return 生成したオブジェクト
+     */
+    private NormalAnnotationImpl copy() {
+        NormalAnnotationImpl result = new NormalAnnotationImpl();
+        result.type = this.type;
+        result.elements = this.elements;
+        return result;
+    }
 }
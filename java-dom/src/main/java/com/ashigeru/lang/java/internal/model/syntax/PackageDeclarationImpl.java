@@ -58,6 +58,7 @@ public final class PackageDeclarationImpl extends ModelRoot implements PackageDe
      *     ただしドキュメンテーションコメントが存在しない場合は{@code null}
      */
     public void setJavadoc(Javadoc javadoc) {
+        checkModifiable();
         this.javadoc = javadoc;
     }
 
@@ -75,6 +76,7 @@ public final class PackageDeclarationImpl extends ModelRoot implements PackageDe
      *     {@code annotations}に{@code null}が指定された場合
      */
     public void setAnnotations(List<? extends Annotation> annotations) {
+        checkModifiable();
         Util.notNull(annotations, "annotations"); //$NON-NLS-1$
         Util.notContainNull(annotations, "annotations"); //$NON-NLS-1$
         this.annotations = Util.freeze(annotations);
@@ -93,10 +95,36 @@ public final class PackageDeclarationImpl extends ModelRoot implements PackageDe
      *     {@code name}に{@code null}が指定された場合
      */
     public void setName(Name name) {
+        checkModifiable();
         Util.notNull(name, "name"); //$NON-NLS-1$
         this.name = name;
     }
 
+    /**
+     * 引数を検査せずにこの要素を生成する。
+     * <p>
+     * 引数の妥当性は呼び出し側が保証しなければならない。
+     * </p>
+     * @param javadoc
+     *     ドキュメンテーションコメント、
+     *     ただしドキュメンテーションコメントが存在しない場合は{@code null}
+     * @param annotations
+     *     注釈の一覧
+     * @param name
+     *     宣言するパッケージの名称
+     * @return 生成した要素
+     */
+    static PackageDeclarationImpl newUnchecked(
+            Javadoc javadoc,
+            List<? extends Annotation> annotations,
+            Name name) {
+        PackageDeclarationImpl result = new PackageDeclarationImpl();
+        result.javadoc = javadoc;
+        result.annotations = Util.freeze(annotations);
+        result.name = name;
+        return result;
+    }
+
     /**
      * この要素の種類を表す{@link ModelKind#PACKAGE_DECLARATION}を返す。
      * @return {@link ModelKind#PACKAGE_DECLARATION}
@@ -112,4 +140,37 @@ public final class PackageDeclarationImpl extends ModelRoot implements PackageDe
         Util.notNull(visitor, "visitor"); //$NON-NLS-1$
         return visitor.visitPackageDeclaration(this, context);
     }
+
+    @Override
+    public PackageDeclaration withJavadoc(Javadoc javadoc) {
+        PackageDeclarationImpl result = copy();
+        result.setJavadoc(javadoc);
+        return result;
+    }
+
+    @Override
+    public PackageDeclaration withAnnotations(List<? extends Annotation> annotations) {
+        PackageDeclarationImpl result = copy();
+        result.setAnnotations(annotations);
+        return result;
+    }
+
+    @Override
+    public PackageDeclaration withName(Name name) {
+        PackageDeclarationImpl result = copy();
+        result.setName(name);
+        return result;
+    }
+
+    /**
+     * このオブジェクトのプロパティを共有する新しいオブジェクトを返す。
+     * @return 生成したオブジェクト
+     */
+    private PackageDeclarationImpl copy() {
+        PackageDeclarationImpl result = new PackageDeclarationImpl();
+        result.javadoc = this.javadoc;
+        result.annotations = this.annotations;
+        result.name = this.name;
+        return result;
+    }
 }
@@ -51,6 +51,7 @@ public final class ParameterizedTypeImpl extends ModelRoot implements Parameteri
      *     {@code type}に{@code null}が指定された場合
      */
     public void setType(Type type) {
+        checkModifiable();
         Util.notNull(type, "type"); //$NON-NLS-1$
         this.type = type;
     }
@@ -70,12 +71,33 @@ public final class ParameterizedTypeImpl extends ModelRoot implements Parameteri
      *     {@code typeArguments}に空が指定された場合
      */
     public void setTypeArguments(List<? extends Type> typeArguments) {
+        checkModifiable();
         Util.notNull(typeArguments, "typeArguments"); //$NON-NLS-1$
         Util.notContainNull(typeArguments, "typeArguments"); //$NON-NLS-1$
         Util.notEmpty(typeArguments, "typeArguments"); //$NON-NLS-1$
         this.typeArguments = Util.freeze(typeArguments);
     }
 
+    /**
+     * 引数を検査せずにこの要素を生成する。
+     * <p>
+     * 引数の妥当性は呼び出し側が保証しなければならない。
+     * </p>
+     * @param type
+     *     パラメータ化されていない型
+     * @param typeArguments
+     *     型引数の一覧
+     * @return 生成した要素
+     */
+    static ParameterizedTypeImpl newUnchecked(
+            Type type,
+            List<? extends Type> typeArguments) {
+        ParameterizedTypeImpl result = new ParameterizedTypeImpl();
+        result.type = type;
+        result.typeArguments = Util.freeze(typeArguments);
+        return result;
+    }
+
     /**
      * この要素の種類を表す{@link ModelKind#PARAMETERIZED_TYPE}を返す。
      * @return {@link ModelKind#PARAMETERIZED_TYPE}
@@ -91,4 +113,29 @@ public final class ParameterizedTypeImpl extends ModelRoot implements Parameteri
         Util.notNull(visitor, "visitor"); //$NON-NLS-1$
         return visitor.visitParameterizedType(this, context);
     }
+
+    @Override
+    public ParameterizedType withType(Type type) {
+        ParameterizedTypeImpl result = copy();
+        result.setType(type);
+        return result;
+    }
+
+    @Override
+    public ParameterizedType withTypeArguments(List<? extends Type> typeArguments) {
+        ParameterizedTypeImpl result = copy();
+        result.setTypeArguments(typeArguments);
+        return result;
+    }
+
+    /**
+     * このオブジェクトのプロパティを共有する新しいオブジェクトを返す。
+     * @return 生成したオブジェクト
+     */
+    private ParameterizedTypeImpl copy() {
+        ParameterizedTypeImpl result = new ParameterizedTypeImpl();
+        result.type = this.type;
+        result.typeArguments = this.typeArguments;
+        return result;
+    }
 }
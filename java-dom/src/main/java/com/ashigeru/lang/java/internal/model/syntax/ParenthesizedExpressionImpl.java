@@ -44,10 +44,27 @@ public final class ParenthesizedExpressionImpl extends ModelRoot implements Pare
      *     {@code expression}に{@code null}が指定された場合
      */
     public void setExpression(Expression expression) {
+        checkModifiable();
         Util.notNull(expression, "expression"); //$NON-NLS-1$
         this.expression = expression;
     }
 
+    /**
+     * 引数を検査せずにこの要素を生成する。
+     * <p>
+     * 引数の妥当性は呼び出し側が保証しなければならない。
+     * </p>
+     * @param expression
+     *     内包する式
+     * @return 生成した要素
+     */
+    static ParenthesizedExpressionImpl newUnchecked(
+            Expression expression) {
+        ParenthesizedExpressionImpl result = new ParenthesizedExpressionImpl();
+        result.expression = expression;
+        return result;
+    }
+
     /**
      * この要素の種類を表す{@link ModelKind#PARENTHESIZED_EXPRESSION}を返す。
      * @return {@link ModelKind#PARENTHESIZED_EXPRESSION}
@@ -63,4 +80,21 @@ public final class ParenthesizedExpressionImpl extends ModelRoot implements Pare
         Util.notNull(visitor, "visitor"); //$NON-NLS-1$
         return visitor.visitParenthesizedExpression(this, context);
     }
+
+    @Override
+    public ParenthesizedExpression withExpression(Expression expression) {
+        ParenthesizedExpressionImpl result = copy();
+        result.setExpression(expression);
+        return result;
+    }
+
+    /**
+     * このオブジェクトのプロパティを共有する新しいオブジェクトを返す。
+     * @return 生成したオブジェクト
+     */
+    private ParenthesizedExpressionImpl copy() {
+        ParenthesizedExpressionImpl result = new ParenthesizedExpressionImpl();
+        result.expression = this.expression;
+        return result;
+    }
 }
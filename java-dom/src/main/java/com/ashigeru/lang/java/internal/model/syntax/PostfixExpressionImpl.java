@@ -15,6 +15,7 @@
  */
 package com.ashigeru.lang.java.internal.model.syntax;
 
+import com.ashigeru.lang.java.internal.model.util.ExpressionPriority;
 import com.ashigeru.lang.java.model.syntax.Expression;
 import com.ashigeru.lang.java.model.syntax.ModelKind;
 import com.ashigeru.lang.java.model.syntax.PostfixExpression;
@@ -50,6 +51,7 @@ public final class PostfixExpressionImpl extends ModelRoot implements PostfixExp
      *     {@code operand}に{@code null}が指定された場合
      */
     public void setOperand(Expression operand) {
+        checkModifiable();
         Util.notNull(operand, "operand"); //$NON-NLS-1$
         this.operand = operand;
     }
@@ -67,10 +69,31 @@ public final class PostfixExpressionImpl extends ModelRoot implements PostfixExp
      *     {@code operator}に{@code null}が指定された場合
      */
     public void setOperator(PostfixOperator operator) {
+        checkModifiable();
         Util.notNull(operator, "operator"); //$NON-NLS-1$
         this.operator = operator;
     }
 
+    /**
+     * 引数を検査せずにこの要素を生成する。
+     * <p>
+     * 引数の妥当性は呼び出し側が保証しなければならない。
+     * </p>
+     * @param operand
+     *     後置演算項
+     * @param operator
+     *     演算子
+     * @return 生成した要素
+     */
+    static PostfixExpressionImpl newUnchecked(
+            Expression operand,
+            PostfixOperator operator) {
+        PostfixExpressionImpl result = new PostfixExpressionImpl();
+        result.operand = operand;
+        result.operator = operator;
+        return result;
+    }
+
     /**
      * この要素の種類を表す{@link ModelKind#POSTFIX_EXPRESSION}を返す。
      * @return {@link ModelKind#POSTFIX_EXPRESSION}
@@ -86,4 +109,29 @@ public final class PostfixExpressionImpl extends ModelRoot implements PostfixExp
         Util.notNull(visitor, "visitor"); //$NON-NLS-1$
         return visitor.visitPostfixExpression(this, context);
     }
+
+    @Override
+    public PostfixExpression withOperand(Expression operand) {
+        PostfixExpressionImpl result = copy();
+        result.setOperand(Util.parenthesize(operand, ExpressionPriority.UNARY));
+        return result;
+    }
+
+    @Override
+    public PostfixExpression withOperator(PostfixOperator operator) {
+        PostfixExpressionImpl result = copy();
+        result.setOperator(operator);
+        return result;
+    }
+
+    /**
+     * このオブジェクトのプロパティを共有する新しいオブジェクトを返す。
+     * @return 生成したオブジェクト
+     */
+    private PostfixExpressionImpl copy() {
+        PostfixExpressionImpl result = new PostfixExpressionImpl();
+        result.operand = this.operand;
+        result.operator = this.operator;
+        return result;
+    }
 }
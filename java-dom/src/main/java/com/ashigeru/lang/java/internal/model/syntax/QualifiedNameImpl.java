@@ -15,8 +15,6 @@
  */
 package com.ashigeru.lang.java.internal.model.syntax;
 
-import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 
 import com.ashigeru.lang.java.model.syntax.ModelKind;
@@ -41,6 +39,16 @@ public final class QualifiedNameImpl extends ModelRoot implements QualifiedName
      */
     private SimpleName simpleName;
 
+    /**
+     * この名前を構成する単純名の一覧、凍結後にまだ計算されていない場合は{@code null}。
+     */
+    private List<SimpleName> nameList;
+
+    /**
+     * この名前に対する正規化された文字列、凍結後にまだ計算されていない場合は{@code null}。
+     */
+    private String nameString;
+
     @Override
     public Name getQualifier() {
         return this.qualifier;
@@ -54,6 +62,7 @@ public final class QualifiedNameImpl extends ModelRoot implements QualifiedName
      *     {@code qualifier}に{@code null}が指定された場合
      */
     public void setQualifier(Name qualifier) {
+        checkModifiable();
         Util.notNull(qualifier, "qualifier"); //$NON-NLS-1$
         this.qualifier = qualifier;
     }
@@ -71,10 +80,31 @@ public final class QualifiedNameImpl extends ModelRoot implements QualifiedName
      *     {@code simpleName}に{@code null}が指定された場合
      */
     public void setSimpleName(SimpleName simpleName) {
+        checkModifiable();
         Util.notNull(simpleName, "simpleName"); //$NON-NLS-1$
         this.simpleName = simpleName;
     }
 
+    /**
+     * 引数を検査せずにこの要素を生成する。
+     * <p>
+     * 引数の妥当性は呼び出し側が保証しなければならない。
+     * </p>
+     * @param qualifier
+     *     限定子
+     * @param simpleName
+     *     この限定名の末尾にある単純名
+     * @return 生成した要素
+     */
+    static QualifiedNameImpl newUnchecked(
+            Name qualifier,
+            SimpleName simpleName) {
+        QualifiedNameImpl result = new QualifiedNameImpl();
+        result.qualifier = qualifier;
+        result.simpleName = simpleName;
+        return result;
+    }
+
     /**
      * この要素の種類を表す{@link ModelKind#QUALIFIED_NAME}を返す。
      * @return {@link ModelKind#QUALIFIED_NAME}
@@ -88,31 +118,68 @@ public final class QualifiedNameImpl extends ModelRoot implements QualifiedName
         return getSimpleName();
     }
 
+    /**
+     * この名前に対する正規化された文字列を返す。
+     * <p>
+     * この名前が凍結されている場合、文字列は最初の呼び出しで計算され、以降はその結果が再利用される。
+     * 凍結されていない場合は限定子の内容が変更されうるため、呼び出しのたびに計算する。
+     * </p>
+     * @return 名前に対する正規化された文字列
+     */
     @Override
     public String toNameString() {
-        Iterator<SimpleName> iter = toNameList().iterator();
-        assert iter.hasNext();
-        StringBuilder buf = new StringBuilder();
-        buf.append(iter.next());
-        while (iter.hasNext()) {
-            buf.append('.');
-            buf.append(iter.next());
+        String result = this.nameString;
+        if (result == null) {
+            List<SimpleName> segments = toNameList();
+            StringBuilder buf = new StringBuilder();
+            buf.append(segments.get(0).getToken());
+            for (int i = 1, n = segments.size(); i < n; i++) {
+                buf.append('.');
+                buf.append(segments.get(i).getToken());
+            }
+            result = buf.toString();
+            if (isFrozen()) {
+                this.nameString = result;
+            }
         }
-        return buf.toString();
+        return result;
     }
 
+    /**
+     * この名前を単純名のリストに変換して返す。
+     * <p>
+     * 返されるリストは変更不可能で、表記と同様の順序に整列される。
+     * この名前が凍結されている場合、リストは最初の呼び出しで計算され、以降は同一のリストが返される。
+     * 凍結されていない場合は呼び出しのたびに計算する。
+     * </p>
+     * @return 変換後の名前
+     */
     @Override
     public List<SimpleName> toNameList() {
-        LinkedList<SimpleName> result = new LinkedList<SimpleName>();
-        result.addFirst(getSimpleName());
-        Name current = getQualifier();
-        while (current.getModelKind() == ModelKind.QUALIFIED_NAME) {
-            QualifiedName qname = (QualifiedName) current;
-            result.addFirst(qname.getSimpleName());
-            current = qname.getQualifier();
+        List<SimpleName> result = this.nameList;
+        if (result == null) {
+            int count = 2;
+            for (Name current = getQualifier();
+                    current.getModelKind() == ModelKind.QUALIFIED_NAME;
+                    current = ((QualifiedName) current).getQualifier()) {
+                count++;
+            }
+            Object[] segments = new Object[count];
+            segments[--count] = getSimpleName();
+            Name current = getQualifier();
+            while (current.getModelKind() == ModelKind.QUALIFIED_NAME) {
+                QualifiedName qname = (QualifiedName) current;
+                segments[--count] = qname.getSimpleName();
+                current = qname.getQualifier();
+            }
+            assert count == 1;
+            assert current.getModelKind() == ModelKind.SIMPLE_NAME;
+            segments[0] = current;
+            result = FrozenList.adopt(segments);
+            if (isFrozen()) {
+                this.nameList = result;
+            }
         }
-        assert current.getModelKind() == ModelKind.SIMPLE_NAME;
-        result.addFirst((SimpleName) current);
         return result;
     }
 
@@ -122,4 +189,29 @@ public final class QualifiedNameImpl extends ModelRoot implements QualifiedName
         Util.notNull(visitor, "visitor"); //$NON-NLS-1$
         return visitor.visitQualifiedName(this, context);
     }
+
+    @Override
+    public QualifiedName withQualifier(Name qualifier) {
+        QualifiedNameImpl result = copy();
+        result.setQualifier(qualifier);
+        return result;
+    }
+
+    @Override
+    public QualifiedName withSimpleName(SimpleName simpleName) {
+        QualifiedNameImpl result = copy();
+        result.setSimpleName(simpleName);
+        return result;
+    }
+
+    /**
+     * このオブジェクトのプロパティを共有する新しいオブジェクトを返す。
+     * @return 生成したオブジェクト
+     */
+    private QualifiedNameImpl copy() {
+        QualifiedNameImpl result = new QualifiedNameImpl();
+        result.qualifier = this.qualifier;
+        result.simpleName = this.simpleName;
+        return result;
+    }
 }
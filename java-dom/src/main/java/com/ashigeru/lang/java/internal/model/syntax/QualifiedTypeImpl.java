@@ -50,6 +50,7 @@ public final class QualifiedTypeImpl extends ModelRoot implements QualifiedType
      *     {@code qualifier}に{@code null}が指定された場合
      */
     public void setQualifier(Type qualifier) {
+        checkModifiable();
         Util.notNull(qualifier, "qualifier"); //$NON-NLS-1$
         this.qualifier = qualifier;
     }
@@ -67,10 +68,31 @@ public final class QualifiedTypeImpl extends ModelRoot implements QualifiedType
      *     {@code simpleName}に{@code null}が指定された場合
      */
     public void setSimpleName(SimpleName simpleName) {
+        checkModifiable();
         Util.notNull(simpleName, "simpleName"); //$NON-NLS-1$
         this.simpleName = simpleName;
     }
 
+    /**
+     * 引数を検査せずにこの要素を生成する。
+     * <p>
+     * 引数の妥当性は呼び出し側が保証しなければならない。
+     * </p>
+     * @param qualifier
+     *     型限定子
+     * @param simpleName
+     *     型の単純名
+     * @return 生成した要素
+     */
+    static QualifiedTypeImpl newUnchecked(
+            Type qualifier,
+            SimpleName simpleName) {
+        QualifiedTypeImpl result = new QualifiedTypeImpl();
+        result.qualifier = qualifier;
+        result.simpleName = simpleName;
+        return result;
+    }
+
     /**
      * この要素の種類を表す{@link ModelKind#QUALIFIED_TYPE}を返す。
      * @return {@link ModelKind#QUALIFIED_TYPE}
@@ -86,4 +108,29 @@ public final class QualifiedTypeImpl extends ModelRoot implements QualifiedType
         Util.notNull(visitor, "visitor"); //$NON-NLS-1$
         return visitor.visitQualifiedType(this, context);
     }
+
+    @Override
+    public QualifiedType withQualifier(Type qualifier) {
+        QualifiedTypeImpl result = copy();
+        result.setQualifier(qualifier);
+        return result;
+    }
+
+    @Override
+    public QualifiedType withSimpleName(SimpleName simpleName) {
+        QualifiedTypeImpl result = copy();
+        result.setSimpleName(simpleName);
+        return result;
+    }
+
+    /**
+     * このオブジェクトのプロパティを共有する新しいオブジェクトを返す。
+     * @return 生成したオブジェクト
+     */
+    private QualifiedTypeImpl copy() {
+        QualifiedTypeImpl result = new QualifiedTypeImpl();
+        result.qualifier = this.qualifier;
+        result.simpleName = this.simpleName;
+        return result;
+    }
 }
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2011 @ashigeru.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package com.ashigeru.lang.java.internal.model.syntax;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.ashigeru.lang.java.internal.model.util.ReflectionTypeMapper;
+import com.ashigeru.lang.java.model.syntax.ModelFactory;
+import com.ashigeru.lang.java.model.syntax.Type;
+
+/**
+ * リフレクションAPIの型をモデルに変換した結果を保持するキャッシュ。
+ * <p>
+ * キャッシュはクラスごとに変換結果を保持し、パラメータ化された型や配列型などは
+ * その構成要素となるクラスの変換結果を再利用して組み立てられる。
+ * キーとなるクラスは弱参照で保持されるため、キャッシュがクラスローダーのアンロードを妨げることはない。
+ * また、登録される要素の個数は生成時に指定した上限を超えない。
+ * 変換結果は複数の箇所から共有されるため、{@link Type#freeze() 凍結}してから登録する。
+ * </p>
+ * <p>
+ * このクラスのオブジェクトは、複数のスレッドから同時に利用できる。
+ * </p>
+ * @author ashigeru
+ */
+final class ReflectionTypeCache {
+
+    private final ModelFactory factory;
+
+    private final ConcurrentMap<Key, Type> entries;
+
+    private final ReferenceQueue<Class<?>> queue = new ReferenceQueue<Class<?>>();
+
+    private final int capacity;
+
+    private final AtomicLong hitCount = new AtomicLong();
+
+    private final AtomicLong missCount = new AtomicLong();
+
+    private final ReflectionTypeMapper mapper = new ReflectionTypeMapper() {
+        @Override
+        protected Type visitClass(Class<?> type, ModelFactory context) {
+            Type cached = find(type);
+            if (cached != null) {
+                return cached;
+            }
+            return register(type, super.visitClass(type, context));
+        }
+    };
+
+    /**
+     * インスタンスを生成する。
+     * @param factory 変換結果を生成するためのファクトリ
+     * @param capacity 登録する要素の最大数
+     * @throws IllegalArgumentException 引数に負の値が指定された場合
+     */
+    ReflectionTypeCache(ModelFactory factory, int capacity) {
+        assert factory != null;
+        if (capacity < 0) {
+            throw new IllegalArgumentException("capacity must not be negative"); //$NON-NLS-1$
+        }
+        this.factory = factory;
+        this.capacity = capacity;
+        this.entries = new ConcurrentHashMap<Key, Type>(Math.min(capacity, 1024));
+    }
+
+    /**
+     * 指定の型をモデルに変換して返す。
+     * @param type 変換する型
+     * @return 変換結果
+     */
+    Type get(java.lang.reflect.Type type) {
+        assert type != null;
+        expunge();
+        return mapper.dispatch(type, factory);
+    }
+
+    /**
+     * キャッシュから変換結果を取得できた回数を返す。
+     * @return キャッシュから変換結果を取得できた回数
+     */
+    long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * キャッシュに変換結果が存在しなかった回数を返す。
+     * @return キャッシュに変換結果が存在しなかった回数
+     */
+    long getMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * 登録されている要素の個数を返す。
+     * @return 登録されている要素の個数
+     */
+    int size() {
+        expunge();
+        return entries.size();
+    }
+
+    private Type find(Class<?> type) {
+        assert type != null;
+        Type cached = entries.get(new Key(type, null));
+        if (cached != null) {
+            hitCount.incrementAndGet();
+        }
+        else {
+            missCount.incrementAndGet();
+        }
+        return cached;
+    }
+
+    private Type register(Class<?> type, Type candidate) {
+        assert type != null;
+        assert candidate != null;
+        candidate.freeze();
+        if (entries.size() >= capacity) {
+            return candidate;
+        }
+        Type found = entries.putIfAbsent(new Key(type, queue), candidate);
+        return found == null ? candidate : found;
+    }
+
+    private void expunge() {
+        while (true) {
+            Reference<? extends Class<?>> ref = queue.poll();
+            if (ref == null) {
+                break;
+            }
+            entries.remove(ref);
+        }
+    }
+
+    private static final class Key extends WeakReference<Class<?>> {
+
+        private final int hashCode;
+
+        Key(Class<?> referent, ReferenceQueue<Class<?>> queue) {
+            super(referent, queue);
+            this.hashCode = System.identityHashCode(referent);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if ((obj instanceof Key) == false) {
+                return false;
+            }
+            Class<?> referent = get();
+            return referent != null && referent == ((Key) obj).get();
+        }
+    }
+}
@@ -44,9 +44,27 @@ public final class ReturnStatementImpl extends ModelRoot implements ReturnStatem
      *     ただし返戻値が指定されない場合は{@code null}
      */
     public void setExpression(Expression expression) {
+        checkModifiable();
         this.expression = expression;
     }
 
+    /**
+     * 引数を検査せずにこの要素を生成する。
+     * <p>
+     * 引数の妥当性は呼び出し側が保証しなければならない。
+     * </p>
+     * @param expression
+     *     返戻値、
+     *     ただし返戻値が指定されない場合は{@code null}
+     * @return 生成した要素
+     */
+    static ReturnStatementImpl newUnchecked(
+            Expression expression) {
+        ReturnStatementImpl result = new ReturnStatementImpl();
+        result.expression = expression;
+        return result;
+    }
+
     /**
      * この要素の種類を表す{@link ModelKind#RETURN_STATEMENT}を返す。
      * @return {@link ModelKind#RETURN_STATEMENT}
@@ -62,4 +80,21 @@ public final class ReturnStatementImpl extends ModelRoot implements ReturnStatem
         Util.notNull(visitor, "visitor"); //$NON-NLS-1$
         return visitor.visitReturnStatement(this, context);
     }
+
+    @Override
+    public ReturnStatement withExpression(Expression expression) {
+        ReturnStatementImpl result = copy();
+        result.setExpression(expression);
+        return result;
+    }
+
+    /**
+     * このオブジェクトのプロパティを共有する新しいオブジェクトを返す。
+     * @return 生成したオブジェクト
+     */
+    private ReturnStatementImpl copy() {
+        ReturnStatementImpl result = new ReturnStatementImpl();
+        result.expression = this.expression;
+        return result;
+    }
 }
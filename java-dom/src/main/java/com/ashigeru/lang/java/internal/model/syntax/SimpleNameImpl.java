@@ -21,6 +21,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
+import com.ashigeru.lang.java.internal.model.util.IdentifierTable;
 import com.ashigeru.lang.java.internal.model.util.LiteralAnalyzer;
 import com.ashigeru.lang.java.model.syntax.ModelKind;
 import com.ashigeru.lang.java.model.syntax.SimpleName;
@@ -109,6 +110,19 @@ public final class SimpleNameImpl extends ModelRoot implements SimpleName {
      *     {@code string}に空が指定された場合
      */
     public void setToken(String string) {
+        checkModifiable();
+        checkToken(string);
+        this.string = IdentifierTable.intern(string);
+    }
+
+    /**
+     * 指定の文字列が単純名を表現する文字列として妥当であることを検査する。
+     * @param string 対象の文字列
+     * @throws IllegalArgumentException
+     *     {@code string}に{@code null}や空が指定された場合、
+     *     または{@code string}が識別子として妥当でない場合
+     */
+    public static void checkToken(String string) {
         Util.notNull(string, "string"); //$NON-NLS-1$
         if (string.isEmpty()) {
             throw new IllegalArgumentException("string must not be null"); //$NON-NLS-1$
@@ -130,7 +144,6 @@ public final class SimpleNameImpl extends ModelRoot implements SimpleName {
                     "string must be a valid Java identifier ({0} is a reserved word)",
                     LiteralAnalyzer.stringLiteralOf(string)));
         }
-        this.string = string;
     }
 
     @Override
@@ -148,6 +161,22 @@ public final class SimpleNameImpl extends ModelRoot implements SimpleName {
         return getToken();
     }
 
+    /**
+     * 引数を検査せずにこの要素を生成する。
+     * <p>
+     * 引数の妥当性は呼び出し側が保証しなければならない。
+     * </p>
+     * @param string
+     *     この単純名を表現する文字列
+     * @return 生成した要素
+     */
+    static SimpleNameImpl newUnchecked(
+            String string) {
+        SimpleNameImpl result = new SimpleNameImpl();
+        result.string = IdentifierTable.intern(string);
+        return result;
+    }
+
     /**
      * この要素の種類を表す{@link ModelKind#SIMPLE_NAME}を返す。
      * @return {@link ModelKind#SIMPLE_NAME}
@@ -163,4 +192,21 @@ public final class SimpleNameImpl extends ModelRoot implements SimpleName {
         Util.notNull(visitor, "visitor"); //$NON-NLS-1$
         return visitor.visitSimpleName(this, context);
     }
+
+    @Override
+    public SimpleName withToken(String string) {
+        SimpleNameImpl result = copy();
+        result.setToken(string);
+        return result;
+    }
+
+    /**
+     * このオブジェクトのプロパティを共有する新しいオブジェクトを返す。
+     * @return 生成したオブジェクト
+     */
+    private SimpleNameImpl copy() {
+        SimpleNameImpl result = new SimpleNameImpl();
+        result.string = this.string;
+        return result;
+    }
 }
@@ -50,6 +50,7 @@ public final class SingleElementAnnotationImpl extends ModelRoot implements Sing
      *     {@code type}に{@code null}が指定された場合
      */
     public void setType(NamedType type) {
+        checkModifiable();
         Util.notNull(type, "type"); //$NON-NLS-1$
         this.type = type;
     }
@@ -67,10 +68,31 @@ public final class SingleElementAnnotationImpl extends ModelRoot implements Sing
      *     {@code expression}に{@code null}が指定された場合
      */
     public void setExpression(Expression expression) {
+        checkModifiable();
         Util.notNull(expression, "expression"); //$NON-NLS-1$
         this.expression = expression;
     }
 
+    /**
+     * 引数を検査せずにこの要素を生成する。
+     * <p>
+     * 引数の妥当性は呼び出し側が保証しなければならない。
+     * </p>
+     * @param type
+     *     注釈の型
+     * @param expression
+     *     {@code value}要素値の式
+     * @return 生成した要素
+     */
+    static SingleElementAnnotationImpl newUnchecked(
+            NamedType type,
+            Expression expression) {
+        SingleElementAnnotationImpl result = new SingleElementAnnotationImpl();
+        result.type = type;
+        result.expression = expression;
+        return result;
+    }
+
     /**
      * この要素の種類を表す{@link ModelKind#SINGLE_ELEMENT_ANNOTATION}を返す。
      * @return {@link ModelKind#SINGLE_ELEMENT_ANNOTATION}
@@ -86,4 +108,29 @@ public final class SingleElementAnnotationImpl extends ModelRoot implements Sing
         Util.notNull(visitor, "visitor"); //$NON-NLS-1$
         return visitor.visitSingleElementAnnotation(this, context);
     }
+
+    @Override
+    public SingleElementAnnotation withType(NamedType type) {
+        SingleElementAnnotationImpl result = copy();
+        result.setType(type);
+        return result;
+    }
+
+    @Override
+    public SingleElementAnnotation withExpression(Expression expression) {
+        SingleElementAnnotationImpl result = copy();
+        result.setExpression(expression);
+        return result;
+    }
+
+    /**
+     * このオブジェクトのプロパティを共有する新しいオブジェクトを返す。
+     * @return 生成したオブジェクト
+     */
+    private SingleElementAnnotationImpl copy() {
+        SingleElementAnnotationImpl result = new SingleElementAnnotationImpl();
+        result.type = this.type;
+        result.expression = this.expression;
+        return result;
+    }
 }
@@ -48,12 +48,29 @@ public final class StatementExpressionListImpl extends ModelRoot implements Stat
      *     {@code expressions}に空が指定された場合
      */
     public void setExpressions(List<? extends Expression> expressions) {
+        checkModifiable();
         Util.notNull(expressions, "expressions"); //$NON-NLS-1$
         Util.notContainNull(expressions, "expressions"); //$NON-NLS-1$
         Util.notEmpty(expressions, "expressions"); //$NON-NLS-1$
         this.expressions = Util.freeze(expressions);
     }
 
+    /**
+     * 引数を検査せずにこの要素を生成する。
+     * <p>
+     * 引数の妥当性は呼び出し側が保証しなければならない。
+     * </p>
+     * @param expressions
+     *     式の一覧
+     * @return 生成した要素
+     */
+    static StatementExpressionListImpl newUnchecked(
+            List<? extends Expression> expressions) {
+        StatementExpressionListImpl result = new StatementExpressionListImpl();
+        result.expressions = Util.freeze(expressions);
+        return result;
+    }
+
     /**
      * この要素の種類を表す{@link ModelKind#STATEMENT_EXPRESSION_LIST}を返す。
      * @return {@link ModelKind#STATEMENT_EXPRESSION_LIST}
@@ -69,4 +86,21 @@ public final class StatementExpressionListImpl extends ModelRoot implements Stat
         Util.notNull(visitor, "visitor"); //$NON-NLS-1$
         return visitor.visitStatementExpressionList(this, context);
     }
+
+    @Override
+    public StatementExpressionList withExpressions(List<? extends Expression> expressions) {
+        StatementExpressionListImpl result = copy();
+        result.setExpressions(expressions);
+        return result;
+    }
+
+    /**
+     * このオブジェクトのプロパティを共有する新しいオブジェクトを返す。
+     * @return 生成したオブジェクト
+     */
+    private StatementExpressionListImpl copy() {
+        StatementExpressionListImpl result = new StatementExpressionListImpl();
+        result.expressions = this.expressions;
+        return result;
+    }
 }
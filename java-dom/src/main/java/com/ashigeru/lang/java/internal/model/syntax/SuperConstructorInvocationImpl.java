@@ -17,6 +17,7 @@ package com.ashigeru.lang.java.internal.model.syntax;
 
 import java.util.List;
 
+import com.ashigeru.lang.java.internal.model.util.ExpressionPriority;
 import com.ashigeru.lang.java.model.syntax.Expression;
 import com.ashigeru.lang.java.model.syntax.ModelKind;
 import com.ashigeru.lang.java.model.syntax.SuperConstructorInvocation;
@@ -57,6 +58,7 @@ public final class SuperConstructorInvocationImpl extends ModelRoot implements S
      *     ただし限定式が指定されない場合は{@code null}
      */
     public void setQualifier(Expression qualifier) {
+        checkModifiable();
         this.qualifier = qualifier;
     }
 
@@ -74,6 +76,7 @@ public final class SuperConstructorInvocationImpl extends ModelRoot implements S
      *     {@code typeArguments}に{@code null}が指定された場合
      */
     public void setTypeArguments(List<? extends Type> typeArguments) {
+        checkModifiable();
         Util.notNull(typeArguments, "typeArguments"); //$NON-NLS-1$
         Util.notContainNull(typeArguments, "typeArguments"); //$NON-NLS-1$
         this.typeArguments = Util.freeze(typeArguments);
@@ -93,11 +96,37 @@ public final class SuperConstructorInvocationImpl extends ModelRoot implements S
      *     {@code arguments}に{@code null}が指定された場合
      */
     public void setArguments(List<? extends Expression> arguments) {
+        checkModifiable();
         Util.notNull(arguments, "arguments"); //$NON-NLS-1$
         Util.notContainNull(arguments, "arguments"); //$NON-NLS-1$
         this.arguments = Util.freeze(arguments);
     }
 
+    /**
+     * 引数を検査せずにこの要素を生成する。
+     * <p>
+     * 引数の妥当性は呼び出し側が保証しなければならない。
+     * </p>
+     * @param qualifier
+     *     限定式、
+     *     ただし限定式が指定されない場合は{@code null}
+     * @param typeArguments
+     *     型引数の一覧
+     * @param arguments
+     *     実引数の一覧
+     * @return 生成した要素
+     */
+    static SuperConstructorInvocationImpl newUnchecked(
+            Expression qualifier,
+            List<? extends Type> typeArguments,
+            List<? extends Expression> arguments) {
+        SuperConstructorInvocationImpl result = new SuperConstructorInvocationImpl();
+        result.qualifier = qualifier;
+        result.typeArguments = Util.freeze(typeArguments);
+        result.arguments = Util.freeze(arguments);
+        return result;
+    }
+
     /**
      * この要素の種類を表す{@link ModelKind#SUPER_CONSTRUCTOR_INVOCATION}を返す。
      * @return {@link ModelKind#SUPER_CONSTRUCTOR_INVOCATION}
@@ -113,4 +142,37 @@ public final class SuperConstructorInvocationImpl extends ModelRoot implements S
         Util.notNull(visitor, "visitor"); //$NON-NLS-1$
         return visitor.visitSuperConstructorInvocation(this, context);
     }
+
+    @Override
+    public SuperConstructorInvocation withQualifier(Expression qualifier) {
+        SuperConstructorInvocationImpl result = copy();
+        result.setQualifier(Util.parenthesize(qualifier, ExpressionPriority.PRIMARY));
+        return result;
+    }
+
+    @Override
+    public SuperConstructorInvocation withTypeArguments(List<? extends Type> typeArguments) {
+        SuperConstructorInvocationImpl result = copy();
+        result.setTypeArguments(typeArguments);
+        return result;
+    }
+
+    @Override
+    public SuperConstructorInvocation withArguments(List<? extends Expression> arguments) {
+        SuperConstructorInvocationImpl result = copy();
+        result.setArguments(arguments);
+        return result;
+    }
+
+    /**
+     * このオブジェクトのプロパティを共有する新しいオブジェクトを返す。
+     * @return 生成したオブジェクト
+     */
+    private SuperConstructorInvocationImpl copy() {
+        SuperConstructorInvocationImpl result = new SuperConstructorInvocationImpl();
+        result.qualifier = this.qualifier;
+        result.typeArguments = this.typeArguments;
+        result.arguments = this.arguments;
+        return result;
+    }
 }
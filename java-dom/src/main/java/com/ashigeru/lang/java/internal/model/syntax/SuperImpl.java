@@ -44,9 +44,27 @@ public final class SuperImpl extends ModelRoot implements Super {
      *     ただし限定子が指定されない場合は{@code null}
      */
     public void setQualifier(NamedType qualifier) {
+        checkModifiable();
         this.qualifier = qualifier;
     }
 
+    /**
+     * 引数を検査せずにこの要素を生成する。
+     * <p>
+     * 引数の妥当性は呼び出し側が保証しなければならない。
+     * </p>
+     * @param qualifier
+     *     型限定子、
+     *     ただし限定子が指定されない場合は{@code null}
+     * @return 生成した要素
+     */
+    static SuperImpl newUnchecked(
+            NamedType qualifier) {
+        SuperImpl result = new SuperImpl();
+        result.qualifier = qualifier;
+        return result;
+    }
+
     /**
      * この要素の種類を表す{@link ModelKind#SUPER}を返す。
      * @return {@link ModelKind#SUPER}
@@ -62,4 +80,21 @@ public final class SuperImpl extends ModelRoot implements Super {
         Util.notNull(visitor, "visitor"); //$NON-NLS-1$
         return visitor.visitSuper(this, context);
     }
+
+    @Override
+    public Super withQualifier(NamedType qualifier) {
+        SuperImpl result = copy();
+        result.setQualifier(qualifier);
+        return result;
+    }
+
+    /**
+     * このオブジェクトのプロパティを共有する新しいオブジェクトを返す。
+     * @return 生成したオブジェクト
+     */
+    private SuperImpl copy() {
+        SuperImpl result = new SuperImpl();
+        result.qualifier = this.qualifier;
+        return result;
+    }
 }
@@ -44,10 +44,27 @@ public final class SwitchCaseLabelImpl extends ModelRoot implements SwitchCaseLa
      *     {@code expression}に{@code null}が指定された場合
      */
     public void setExpression(Expression expression) {
+        checkModifiable();
         Util.notNull(expression, "expression"); //$NON-NLS-1$
         this.expression = expression;
     }
 
+    /**
+     * 引数を検査せずにこの要素を生成する。
+     * <p>
+     * 引数の妥当性は呼び出し側が保証しなければならない。
+     * </p>
+     * @param expression
+     *     {@code case}ラベルの値
+     * @return 生成した要素
+     */
+    static SwitchCaseLabelImpl newUnchecked(
+            Expression expression) {
+        SwitchCaseLabelImpl result = new SwitchCaseLabelImpl();
+        result.expression = expression;
+        return result;
+    }
+
     /**
      * この要素の種類を表す{@link ModelKind#SWITCH_CASE_LABEL}を返す。
      * @return {@link ModelKind#SWITCH_CASE_LABEL}
@@ -63,4 +80,21 @@ public final class SwitchCaseLabelImpl extends ModelRoot implements SwitchCaseLa
         Util.notNull(visitor, "visitor"); //$NON-NLS-1$
         return visitor.visitSwitchCaseLabel(this, context);
     }
+
+    @Override
+    public SwitchCaseLabel withExpression(Expression expression) {
+        SwitchCaseLabelImpl result = copy();
+        result.setExpression(expression);
+        return result;
+    }
+
+    /**
+     * このオブジェクトのプロパティを共有する新しいオブジェクトを返す。
+     * @return 生成したオブジェクト
+     */
+    private SwitchCaseLabelImpl copy() {
+        SwitchCaseLabelImpl result = new SwitchCaseLabelImpl();
+        result.expression = this.expression;
+        return result;
+    }
 }
@@ -52,6 +52,7 @@ public final class SwitchStatementImpl extends ModelRoot implements SwitchStatem
      *     {@code expression}に{@code null}が指定された場合
      */
     public void setExpression(Expression expression) {
+        checkModifiable();
         Util.notNull(expression, "expression"); //$NON-NLS-1$
         this.expression = expression;
     }
@@ -70,11 +71,32 @@ public final class SwitchStatementImpl extends ModelRoot implements SwitchStatem
      *     {@code statements}に{@code null}が指定された場合
      */
     public void setStatements(List<? extends Statement> statements) {
+        checkModifiable();
         Util.notNull(statements, "statements"); //$NON-NLS-1$
         Util.notContainNull(statements, "statements"); //$NON-NLS-1$
         this.statements = Util.freeze(statements);
     }
 
+    /**
+     * 引数を検査せずにこの要素を生成する。
+     * <p>
+     * 引数の妥当性は呼び出し側が保証しなければならない。
+     * </p>
+     * @param expression
+     *     セレクタ式
+     * @param statements
+     *     {@code switch}文の本体
+     * @return 生成した要素
+     */
+    static SwitchStatementImpl newUnchecked(
+            Expression expression,
+            List<? extends Statement> statements) {
+        SwitchStatementImpl result = new SwitchStatementImpl();
+        result.expression = expression;
+        result.statements = Util.freeze(statements);
+        return result;
+    }
+
     /**
      * この要素の種類を表す{@link ModelKind#SWITCH_STATEMENT}を返す。
      * @return {@link ModelKind#SWITCH_STATEMENT}
@@ -90,4 +112,29 @@ public final class SwitchStatementImpl extends ModelRoot implements SwitchStatem
         Util.notNull(visitor, "visitor"); //$NON-NLS-1$
         return visitor.visitSwitchStatement(this, context);
     }
+
+    @Override
+    public SwitchStatement withExpression(Expression expression) {
+        SwitchStatementImpl result = copy();
+        result.setExpression(expression);
+        return result;
+    }
+
+    @Override
+    public SwitchStatement withStatements(List<? extends Statement> statements) {
+        SwitchStatementImpl result = copy();
+        result.setStatements(statements);
+        return result;
+    }
+
+    /**
+     * このオブジェクトのプロパティを共有する新しいオブジェクトを返す。
+     * @return 生成したオブジェクト
+     */
+    private SwitchStatementImpl copy() {
+        SwitchStatementImpl result = new SwitchStatementImpl();
+        result.expression = this.expression;
+        result.statements = this.statements;
+        return result;
+    }
 }
@@ -50,6 +50,7 @@ public final class SynchronizedStatementImpl extends ModelRoot implements Synchr
      *     {@code expression}に{@code null}が指定された場合
      */
     public void setExpression(Expression expression) {
+        checkModifiable();
         Util.notNull(expression, "expression"); //$NON-NLS-1$
         this.expression = expression;
     }
@@ -67,10 +68,31 @@ public final class SynchronizedStatementImpl extends ModelRoot implements Synchr
      *     {@code body}に{@code null}が指定された場合
      */
     public void setBody(Block body) {
+        checkModifiable();
         Util.notNull(body, "body"); //$NON-NLS-1$
         this.body = body;
     }
 
+    /**
+     * 引数を検査せずにこの要素を生成する。
+     * <p>
+     * 引数の妥当性は呼び出し側が保証しなければならない。
+     * </p>
+     * @param expression
+     *     同期オブジェクト
+     * @param body
+     *     本体ブロック
+     * @return 生成した要素
+     */
+    static SynchronizedStatementImpl newUnchecked(
+            Expression expression,
+            Block body) {
+        SynchronizedStatementImpl result = new SynchronizedStatementImpl();
+        result.expression = expression;
+        result.body = body;
+        return result;
+    }
+
     /**
      * この要素の種類を表す{@link ModelKind#SYNCHRONIZED_STATEMENT}を返す。
      * @return {@link ModelKind#SYNCHRONIZED_STATEMENT}
@@ -86,4 +108,29 @@ public final class SynchronizedStatementImpl extends ModelRoot implements Synchr
         Util.notNull(visitor, "visitor"); //$NON-NLS-1$
         return visitor.visitSynchronizedStatement(this, context);
     }
+
+    @Override
+    public SynchronizedStatement withExpression(Expression expression) {
+        SynchronizedStatementImpl result = copy();
+        result.setExpression(expression);
+        return result;
+    }
+
+    @Override
+    public SynchronizedStatement withBody(Block body) {
+        SynchronizedStatementImpl result = copy();
+        result.setBody(body);
+        return result;
+    }
+
+    /**
+     * このオブジェクトのプロパティを共有する新しいオブジェクトを返す。
+     * @return 生成したオブジェクト
+     */
+    private SynchronizedStatementImpl copy() {
+        SynchronizedStatementImpl result = new SynchronizedStatementImpl();
+        result.expression = this.expression;
+        result.body = this.body;
+        return result;
+    }
 }
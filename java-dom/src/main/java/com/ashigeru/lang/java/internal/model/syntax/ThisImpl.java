@@ -44,9 +44,27 @@ public final class ThisImpl extends ModelRoot implements This {
      *     ただし限定子が指定されない場合は{@code null}
      */
     public void setQualifier(NamedType qualifier) {
+        checkModifiable();
         this.qualifier = qualifier;
     }
 
+    /**
+     * 引数を検査せずにこの要素を生成する。
+     * <p>
+     * 引数の妥当性は呼び出し側が保証しなければならない。
+     * </p>
+     * @param qualifier
+     *     型限定子、
+     *     ただし限定子が指定されない場合は{@code null}
+     * @return 生成した要素
+     */
+    static ThisImpl newUnchecked(
+            NamedType qualifier) {
+        ThisImpl result = new ThisImpl();
+        result.qualifier = qualifier;
+        return result;
+    }
+
     /**
      * この要素の種類を表す{@link ModelKind#THIS}を返す。
      * @return {@link ModelKind#THIS}
@@ -62,4 +80,21 @@ public final class ThisImpl extends ModelRoot implements This {
         Util.notNull(visitor, "visitor"); //$NON-NLS-1$
         return visitor.visitThis(this, context);
     }
+
+    @Override
+    public This withQualifier(NamedType qualifier) {
+        ThisImpl result = copy();
+        result.setQualifier(qualifier);
+        return result;
+    }
+
+    /**
+     * このオブジェクトのプロパティを共有する新しいオブジェクトを返す。
+     * @return 生成したオブジェクト
+     */
+    private ThisImpl copy() {
+        ThisImpl result = new ThisImpl();
+        result.qualifier = this.qualifier;
+        return result;
+    }
 }
@@ -44,10 +44,27 @@ public final class ThrowStatementImpl extends ModelRoot implements ThrowStatemen
      *     {@code expression}に{@code null}が指定された場合
      */
     public void setExpression(Expression expression) {
+        checkModifiable();
         Util.notNull(expression, "expression"); //$NON-NLS-1$
         this.expression = expression;
     }
 
+    /**
+     * 引数を検査せずにこの要素を生成する。
+     * <p>
+     * 引数の妥当性は呼び出し側が保証しなければならない。
+     * </p>
+     * @param expression
+     *     例外オブジェクト
+     * @return 生成した要素
+     */
+    static ThrowStatementImpl newUnchecked(
+            Expression expression) {
+        ThrowStatementImpl result = new ThrowStatementImpl();
+        result.expression = expression;
+        return result;
+    }
+
     /**
      * この要素の種類を表す{@link ModelKind#THROW_STATEMENT}を返す。
      * @return {@link ModelKind#THROW_STATEMENT}
@@ -63,4 +80,21 @@ public final class ThrowStatementImpl extends ModelRoot implements ThrowStatemen
         Util.notNull(visitor, "visitor"); //$NON-NLS-1$
         return visitor.visitThrowStatement(this, context);
     }
+
+    @Override
+    public ThrowStatement withExpression(Expression expression) {
+        ThrowStatementImpl result = copy();
+        result.setExpression(expression);
+        return result;
+    }
+
+    /**
+     * このオブジェクトのプロパティを共有する新しいオブジェクトを返す。
+     * @return 生成したオブジェクト
+     */
+    private ThrowStatementImpl copy() {
+        ThrowStatementImpl result = new ThrowStatementImpl();
+        result.expression = this.expression;
+        return result;
+    }
 }
@@ -57,6 +57,7 @@ public final class TryStatementImpl extends ModelRoot implements TryStatement {
      *     {@code tryBlock}に{@code null}が指定された場合
      */
     public void setTryBlock(Block tryBlock) {
+        checkModifiable();
         Util.notNull(tryBlock, "tryBlock"); //$NON-NLS-1$
         this.tryBlock = tryBlock;
     }
@@ -75,6 +76,7 @@ public final class TryStatementImpl extends ModelRoot implements TryStatement {
      *     {@code catchClauses}に{@code null}が指定された場合
      */
     public void setCatchClauses(List<? extends CatchClause> catchClauses) {
+        checkModifiable();
         Util.notNull(catchClauses, "catchClauses"); //$NON-NLS-1$
         Util.notContainNull(catchClauses, "catchClauses"); //$NON-NLS-1$
         this.catchClauses = Util.freeze(catchClauses);
@@ -93,9 +95,35 @@ public final class TryStatementImpl extends ModelRoot implements TryStatement {
      *     ただし{@code finally}節が指定されない場合は{@code null}
      */
     public void setFinallyBlock(Block finallyBlock) {
+        checkModifiable();
         this.finallyBlock = finallyBlock;
     }
 
+    /**
+     * 引数を検査せずにこの要素を生成する。
+     * <p>
+     * 引数の妥当性は呼び出し側が保証しなければならない。
+     * </p>
+     * @param tryBlock
+     *     {@code try}節
+     * @param catchClauses
+     *     {@code catch}節の一覧
+     * @param finallyBlock
+     *     {@code finally}節、
+     *     ただし{@code finally}節が指定されない場合は{@code null}
+     * @return 生成した要素
+     */
+    static TryStatementImpl newUnchecked(
+            Block tryBlock,
+            List<? extends CatchClause> catchClauses,
+            Block finallyBlock) {
+        TryStatementImpl result = new TryStatementImpl();
+        result.tryBlock = tryBlock;
+        result.catchClauses = Util.freeze(catchClauses);
+        result.finallyBlock = finallyBlock;
+        return result;
+    }
+
     /**
      * この要素の種類を表す{@link ModelKind#TRY_STATEMENT}を返す。
      * @return {@link ModelKind#TRY_STATEMENT}
@@ -111,4 +139,37 @@ public final class TryStatementImpl extends ModelRoot implements TryStatement {
         Util.notNull(visitor, "visitor"); //$NON-NLS-1$
         return visitor.visitTryStatement(this, context);
     }
+
+    @Override
+    public TryStatement withTryBlock(Block tryBlock) {
+        TryStatementImpl result = copy();
+        result.setTryBlock(tryBlock);
+        return result;
+    }
+
+    @Override
+    public TryStatement withCatchClauses(List<? extends CatchClause> catchClauses) {
+        TryStatementImpl result = copy();
+        result.setCatchClauses(catchClauses);
+        return result;
+    }
+
+    @Override
+    public TryStatement withFinallyBlock(Block finallyBlock) {
+        TryStatementImpl result = copy();
+        result.setFinallyBlock(finallyBlock);
+        return result;
+    }
+
+    /**
+     * このオブジェクトのプロパティを共有する新しいオブジェクトを返す。
+     * @return 生成したオブジェクト
+     */
+    private TryStatementImpl copy() {
+        TryStatementImpl result = new TryStatementImpl();
+        result.tryBlock = this.tryBlock;
+        result.catchClauses = this.catchClauses;
+        result.finallyBlock = this.finallyBlock;
+        return result;
+    }
 }
@@ -52,6 +52,7 @@ public final class TypeParameterDeclarationImpl extends ModelRoot implements Typ
      *     {@code name}に{@code null}が指定された場合
      */
     public void setName(SimpleName name) {
+        checkModifiable();
         Util.notNull(name, "name"); //$NON-NLS-1$
         this.name = name;
     }
@@ -70,11 +71,32 @@ public final class TypeParameterDeclarationImpl extends ModelRoot implements Typ
      *     {@code typeBounds}に{@code null}が指定された場合
      */
     public void setTypeBounds(List<? extends Type> typeBounds) {
+        checkModifiable();
         Util.notNull(typeBounds, "typeBounds"); //$NON-NLS-1$
         Util.notContainNull(typeBounds, "typeBounds"); //$NON-NLS-1$
         this.typeBounds = Util.freeze(typeBounds);
     }
 
+    /**
+     * 引数を検査せずにこの要素を生成する。
+     * <p>
+     * 引数の妥当性は呼び出し側が保証しなければならない。
+     * </p>
+     * @param name
+     *     型引数の名前
+     * @param typeBounds
+     *     境界型の一覧
+     * @return 生成した要素
+     */
+    static TypeParameterDeclarationImpl newUnchecked(
+            SimpleName name,
+            List<? extends Type> typeBounds) {
+        TypeParameterDeclarationImpl result = new TypeParameterDeclarationImpl();
+        result.name = name;
+        result.typeBounds = Util.freeze(typeBounds);
+        return result;
+    }
+
     /**
      * この要素の種類を表す{@link ModelKind#TYPE_PARAMETER_DECLARATION}を返す。
      * @return {@link ModelKind#TYPE_PARAMETER_DECLARATION}
@@ -90,4 +112,29 @@ public final class TypeParameterDeclarationImpl extends ModelRoot implements Typ
         Util.notNull(visitor, "visitor"); //$NON-NLS-1$
         return visitor.visitTypeParameterDeclaration(this, context);
     }
+
+    @Override
+    public TypeParameterDeclaration withName(SimpleName name) {
+        TypeParameterDeclarationImpl result = copy();
+        result.setName(name);
+        return result;
+    }
+
+    @Override
+    public TypeParameterDeclaration withTypeBounds(List<? extends Type> typeBounds) {
+        TypeParameterDeclarationImpl result = copy();
+        result.setTypeBounds(typeBounds);
+        return result;
+    }
+
+    /**
+     * このオブジェクトのプロパティを共有する新しいオブジェクトを返す。
+     * @return 生成したオブジェクト
+     */
+    private TypeParameterDeclarationImpl copy() {
+        TypeParameterDeclarationImpl result = new TypeParameterDeclarationImpl();
+        result.name = this.name;
+        result.typeBounds = this.typeBounds;
+        return result;
+    }
 }
@@ -15,6 +15,7 @@
  */
 package com.ashigeru.lang.java.internal.model.syntax;
 
+import com.ashigeru.lang.java.internal.model.util.ExpressionPriority;
 import com.ashigeru.lang.java.model.syntax.Expression;
 import com.ashigeru.lang.java.model.syntax.ModelKind;
 import com.ashigeru.lang.java.model.syntax.UnaryExpression;
@@ -50,6 +51,7 @@ public final class UnaryExpressionImpl extends ModelRoot implements UnaryExpress
      *     {@code operator}に{@code null}が指定された場合
      */
     public void setOperator(UnaryOperator operator) {
+        checkModifiable();
         Util.notNull(operator, "operator"); //$NON-NLS-1$
         this.operator = operator;
     }
@@ -67,10 +69,31 @@ public final class UnaryExpressionImpl extends ModelRoot implements UnaryExpress
      *     {@code operand}に{@code null}が指定された場合
      */
     public void setOperand(Expression operand) {
+        checkModifiable();
         Util.notNull(operand, "operand"); //$NON-NLS-1$
         this.operand = operand;
     }
 
+    /**
+     * 引数を検査せずにこの要素を生成する。
+     * <p>
+     * 引数の妥当性は呼び出し側が保証しなければならない。
+     * </p>
+     * @param operator
+     *     単項演算子
+     * @param operand
+     *     演算項
+     * @return 生成した要素
+     */
+    static UnaryExpressionImpl newUnchecked(
+            UnaryOperator operator,
+            Expression operand) {
+        UnaryExpressionImpl result = new UnaryExpressionImpl();
+        result.operator = operator;
+        result.operand = operand;
+        return result;
+    }
+
     /**
      * この要素の種類を表す{@link ModelKind#UNARY_EXPRESSION}を返す。
      * @return {@link ModelKind#UNARY_EXPRESSION}
@@ -86,4 +109,29 @@ public final class UnaryExpressionImpl extends ModelRoot implements UnaryExpress
         Util.notNull(visitor, "visitor"); //$NON-NLS-1$
         return visitor.visitUnaryExpression(this, context);
     }
+
+    @Override
+    public UnaryExpression withOperator(UnaryOperator operator) {
+        UnaryExpressionImpl result = copy();
+        result.setOperator(operator);
+        return result;
+    }
+
+    @Override
+    public UnaryExpression withOperand(Expression operand) {
+        UnaryExpressionImpl result = copy();
+        result.setOperand(Util.parenthesize(operand, ExpressionPriority.UNARY));
+        return result;
+    }
+
+    /**
+     * このオブジェクトのプロパティを共有する新しいオブジェクトを返す。
+     * @return 生成したオブジェクト
+     */
+    private UnaryExpressionImpl copy() {
+        UnaryExpressionImpl result = new UnaryExpressionImpl();
+        result.operator = this.operator;
+        result.operand = this.operand;
+        return result;
+    }
 }
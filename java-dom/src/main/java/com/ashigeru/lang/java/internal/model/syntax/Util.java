@@ -15,10 +15,12 @@
  */
 package com.ashigeru.lang.java.internal.model.syntax;
 
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.List;
+import java.util.RandomAccess;
+
+import com.ashigeru.lang.java.internal.model.util.ExpressionPriority;
+import com.ashigeru.lang.java.model.syntax.Expression;
 
 /**
  * このパッケージ共通のユーティリティ。
@@ -33,13 +35,25 @@ class Util {
     }
 
     static void notContainNull(Iterable<?> references, String name) {
-        for (Object o : references) {
-            notNull(o, name);
+        if (references instanceof List<?> && references instanceof RandomAccess) {
+            List<?> list = (List<?>) references;
+            for (int i = 0, n = list.size(); i < n; i++) {
+                notNull(list.get(i), name);
+            }
+        }
+        else {
+            for (Object o : references) {
+                notNull(o, name);
+            }
         }
     }
 
     static <T> List<T> freeze(List<? extends T> list) {
-        return Collections.unmodifiableList(new ArrayList<T>(list));
+        return FrozenList.copyOf(list);
+    }
+
+    static <T> List<T> freeze(T[] array) {
+        return FrozenList.copyOf(array);
     }
 
     static void notEmpty(Collection<?> collection, String name) {
@@ -47,4 +61,38 @@ class Util {
             throw new IllegalArgumentException(name + " must not be empty"); //$NON-NLS-1$
         }
     }
+
+    /**
+     * 指定の式を左側の演算項として指定の文脈に配置する際、必要であれば括弧で囲んで返す。
+     * @param expression 対象の式、省略する場合は{@code null}
+     * @param context 配置する文脈の優先順位
+     * @return 必要に応じて括弧で囲んだ式、引数が{@code null}の場合は{@code null}
+     */
+    static Expression parenthesize(Expression expression, ExpressionPriority context) {
+        return parenthesize(expression, context, false);
+    }
+
+    /**
+     * 指定の式を右側の演算項として指定の文脈に配置する際、必要であれば括弧で囲んで返す。
+     * @param expression 対象の式、省略する場合は{@code null}
+     * @param context 配置する文脈の優先順位
+     * @return 必要に応じて括弧で囲んだ式、引数が{@code null}の場合は{@code null}
+     */
+    static Expression parenthesizeRight(Expression expression, ExpressionPriority context) {
+        return parenthesize(expression, context, true);
+    }
+
+    private static Expression parenthesize(
+            Expression expression,
+            ExpressionPriority context,
+            boolean right) {
+        if (expression == null) {
+            return null;
+        }
+        ExpressionPriority priority = ExpressionPriority.valueOf(expression);
+        if (ExpressionPriority.isParenthesesRequired(context, right, priority)) {
+            return ParenthesizedExpressionImpl.newUnchecked(expression);
+        }
+        return expression;
+    }
 }
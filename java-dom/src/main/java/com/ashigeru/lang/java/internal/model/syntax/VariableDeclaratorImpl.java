@@ -55,6 +55,7 @@ public final class VariableDeclaratorImpl extends ModelRoot implements VariableD
      *     {@code name}に{@code null}が指定された場合
      */
     public void setName(SimpleName name) {
+        checkModifiable();
         Util.notNull(name, "name"); //$NON-NLS-1$
         this.name = name;
     }
@@ -72,6 +73,7 @@ public final class VariableDeclaratorImpl extends ModelRoot implements VariableD
      *     {@code extraDimensions}に負の値が指定された場合
      */
     public void setExtraDimensions(int extraDimensions) {
+        checkModifiable();
         this.extraDimensions = extraDimensions;
     }
 
@@ -88,9 +90,35 @@ public final class VariableDeclaratorImpl extends ModelRoot implements VariableD
      *     ただし初期化式が指定されない場合は{@code null}
      */
     public void setInitializer(Expression initializer) {
+        checkModifiable();
         this.initializer = initializer;
     }
 
+    /**
+     * 引数を検査せずにこの要素を生成する。
+     * <p>
+     * 引数の妥当性は呼び出し側が保証しなければならない。
+     * </p>
+     * @param name
+     *     変数の名前
+     * @param extraDimensions
+     *     追加次元数の宣言
+     * @param initializer
+     *     初期化式、
+     *     ただし初期化式が指定されない場合は{@code null}
+     * @return 生成した要素
+     */
+    static VariableDeclaratorImpl newUnchecked(
+            SimpleName name,
+            int extraDimensions,
+            Expression initializer) {
+        VariableDeclaratorImpl result = new VariableDeclaratorImpl();
+        result.name = name;
+        result.extraDimensions = extraDimensions;
+        result.initializer = initializer;
+        return result;
+    }
+
     /**
      * この要素の種類を表す{@link ModelKind#VARIABLE_DECLARATOR}を返す。
      * @return {@link ModelKind#VARIABLE_DECLARATOR}
@@ -106,4 +134,37 @@ public final class VariableDeclaratorImpl extends ModelRoot implements VariableD
         Util.notNull(visitor, "visitor"); //$NON-NLS-1$
         return visitor.visitVariableDeclarator(this, context);
     }
+
+    @Override
+    public VariableDeclarator withName(SimpleName name) {
+        VariableDeclaratorImpl result = copy();
+        result.setName(name);
+        return result;
+    }
+
+    @Override
+    public VariableDeclarator withExtraDimensions(int extraDimensions) {
+        VariableDeclaratorImpl result = copy();
+        result.setExtraDimensions(extraDimensions);
+        return result;
+    }
+
+    @Override
+    public VariableDeclarator withInitializer(Expression initializer) {
+        VariableDeclaratorImpl result = copy();
+        result.setInitializer(initializer);
+        return result;
+    }
+
+    /**
+     * このオブジェクトのプロパティを共有する新しいオブジェクトを返す。
+     * @return 生成したオブジェクト
+     */
+    private VariableDeclaratorImpl copy() {
+        VariableDeclaratorImpl result = new VariableDeclaratorImpl();
+        result.name = this.name;
+        result.extraDimensions = this.extraDimensions;
+        result.initializer = this.initializer;
+        return result;
+    }
 }
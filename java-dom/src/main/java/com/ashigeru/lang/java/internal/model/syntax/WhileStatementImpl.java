@@ -50,6 +50,7 @@ public final class WhileStatementImpl extends ModelRoot implements WhileStatemen
      *     {@code condition}に{@code null}が指定された場合
      */
     public void setCondition(Expression condition) {
+        checkModifiable();
         Util.notNull(condition, "condition"); //$NON-NLS-1$
         this.condition = condition;
     }
@@ -67,10 +68,31 @@ public final class WhileStatementImpl extends ModelRoot implements WhileStatemen
      *     {@code body}に{@code null}が指定された場合
      */
     public void setBody(Statement body) {
+        checkModifiable();
         Util.notNull(body, "body"); //$NON-NLS-1$
         this.body = body;
     }
 
+    /**
+     * 引数を検査せずにこの要素を生成する。
+     * <p>
+     * 引数の妥当性は呼び出し側が保証しなければならない。
+     * </p>
+     * @param condition
+     *     条件式
+     * @param body
+     *     ループ文
+     * @return 生成した要素
+     */
+    static WhileStatementImpl newUnchecked(
+            Expression condition,
+            Statement body) {
+        WhileStatementImpl result = new WhileStatementImpl();
+        result.condition = condition;
+        result.body = body;
+        return result;
+    }
+
     /**
      * この要素の種類を表す{@link ModelKind#WHILE_STATEMENT}を返す。
      * @return {@link ModelKind#WHILE_STATEMENT}
@@ -86,4 +108,29 @@ public final class WhileStatementImpl extends ModelRoot implements WhileStatemen
         Util.notNull(visitor, "visitor"); //$NON-NLS-1$
         return visitor.visitWhileStatement(this, context);
     }
+
+    @Override
+    public WhileStatement withCondition(Expression condition) {
+        WhileStatementImpl result = copy();
+        result.setCondition(condition);
+        return result;
+    }
+
+    @Override
+    public WhileStatement withBody(Statement body) {
+        WhileStatementImpl result = copy();
+        result.setBody(body);
+        return result;
+    }
+
+    /**
+     * このオブジェクトのプロパティを共有する新しいオブジェクトを返す。
+     * @return 生成したオブジェクト
+     */
+    private WhileStatementImpl copy() {
+        WhileStatementImpl result = new WhileStatementImpl();
+        result.condition = this.condition;
+        result.body = this.body;
+        return result;
+    }
 }
@@ -50,6 +50,7 @@ public final class WildcardImpl extends ModelRoot implements Wildcard {
      *     {@code boundKind}に{@code null}が指定された場合
      */
     public void setBoundKind(WildcardBoundKind boundKind) {
+        checkModifiable();
         Util.notNull(boundKind, "boundKind"); //$NON-NLS-1$
         this.boundKind = boundKind;
     }
@@ -67,9 +68,31 @@ public final class WildcardImpl extends ModelRoot implements Wildcard {
      *     ただし境界型が指定されない場合は{@code null}
      */
     public void setTypeBound(Type typeBound) {
+        checkModifiable();
         this.typeBound = typeBound;
     }
 
+    /**
+     * 引数を検査せずにこの要素を生成する。
+     * <p>
+     * 引数の妥当性は呼び出し側が保証しなければならない。
+     * </p>
+     * @param boundKind
+     *     型境界の種類
+     * @param typeBound
+     *     境界型、
+     *     ただし境界型が指定されない場合は{@code null}
+     * @return 生成した要素
+     */
+    static WildcardImpl newUnchecked(
+            WildcardBoundKind boundKind,
+            Type typeBound) {
+        WildcardImpl result = new WildcardImpl();
+        result.boundKind = boundKind;
+        result.typeBound = typeBound;
+        return result;
+    }
+
     /**
      * この要素の種類を表す{@link ModelKind#WILDCARD}を返す。
      * @return {@link ModelKind#WILDCARD}
@@ -85,4 +108,29 @@ public final class WildcardImpl extends ModelRoot implements Wildcard {
         Util.notNull(visitor, "visitor"); //$NON-NLS-1$
         return visitor.visitWildcard(this, context);
     }
+
+    @Override
+    public Wildcard withBoundKind(WildcardBoundKind boundKind) {
+        WildcardImpl result = copy();
+        result.setBoundKind(boundKind);
+        return result;
+    }
+
+    @Override
+    public Wildcard withTypeBound(Type typeBound) {
+        WildcardImpl result = copy();
+        result.setTypeBound(typeBound);
+        return result;
+    }
+
+    /**
+     * このオブジェクトのプロパティを共有する新しいオブジェクトを返す。
+     * @return 生成したオブジェクト
+     */
+    private WildcardImpl copy() {
+        WildcardImpl result = new WildcardImpl();
+        result.boundKind = this.boundKind;
+        result.typeBound = this.typeBound;
+        return result;
+    }
 }
@@ -0,0 +1,311 @@
+/*
+ * Copyright 2011 @ashigeru.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package com.ashigeru.lang.java.internal.model.util;
+
+import java.util.Arrays;
+import java.util.List;
+
+import com.ashigeru.lang.java.model.syntax.Model;
+
+/**
+ * {@link EmitContext}への呼び出しを記録し、後から別のコンテキストに再生する。
+ * <p>
+ * {@link EmitEngine}は各モデルについて、このオブジェクトに出力の手順と子要素の位置を記録する。
+ * 子要素はその場で出力されず{@link #child(Model)}として記録されるため、
+ * {@link ModelEmitter#emit(Model, EmitContext)}は記録された手順を明示的なスタックに積み、
+ * 木の深さにかかわらず再帰呼び出しを行わずに出力できる。
+ * </p>
+ * <p>
+ * 記録は呼び出しごとにオブジェクトを生成せず、種類と引数をそれぞれ配列に保持する。
+ * </p>
+ * @author ashigeru
+ */
+final class EmitRecorder implements EmitContext {
+
+    static final int CHILD = 0;
+
+    static final int FLUSH_COMMENTS = 1;
+
+    static final int FLUSH_COMMENTS_AT = 2;
+
+    static final int KEYWORD = 3;
+
+    static final int SYMBOL = 4;
+
+    static final int IMMEDIATE = 5;
+
+    static final int OPERATOR = 6;
+
+    static final int SEPARATOR = 7;
+
+    static final int PADDING = 8;
+
+    static final int COMMENT = 9;
+
+    static final int CLASS_BLOCK = 10;
+
+    static final int ARRAY_INITIALIZER_BLOCK = 11;
+
+    static final int STATEMENT_BLOCK = 12;
+
+    static final int SWITCH_LABEL = 13;
+
+    static final int STATEMENT = 14;
+
+    static final int DECLARATION = 15;
+
+    static final int DOC_COMMENT = 16;
+
+    static final int DOC_BLOCK = 17;
+
+    static final int DOC_INLINE_BLOCK = 18;
+
+    static final int PUT_BLOCK_COMMENT = 19;
+
+    static final int PUT_LINE_COMMENT = 20;
+
+    static final int PUT_INLINE_COMMENT = 21;
+
+    private static final int INITIAL_CAPACITY = 32;
+
+    int[] codes = new int[INITIAL_CAPACITY];
+
+    Object[] values = new Object[INITIAL_CAPACITY];
+
+    int[] locations = new int[INITIAL_CAPACITY];
+
+    int size;
+
+    /**
+     * インスタンスを生成する。
+     */
+    EmitRecorder() {
+        return;
+    }
+
+    /**
+     * 記録した内容をすべて破棄する。
+     */
+    void clear() {
+        Arrays.fill(values, 0, size, null);
+        size = 0;
+    }
+
+    /**
+     * 指定の子要素を出力する手順を記録する。
+     * @param element 出力する子要素
+     */
+    void child(Model element) {
+        assert element != null;
+        add(CHILD, element, 0);
+    }
+
+    /**
+     * 指定の手順を指定のコンテキストに再生する。
+     * @param code 手順の種類
+     * @param value 手順の引数
+     * @param location 手順の位置引数
+     * @param context 再生先のコンテキスト
+     */
+    @SuppressWarnings("unchecked")
+    static void replay(int code, Object value, int location, EmitContext context) {
+        switch (code) {
+        case FLUSH_COMMENTS:
+            context.flushComments();
+            break;
+        case FLUSH_COMMENTS_AT:
+            context.flushComments(location);
+            break;
+        case KEYWORD:
+            context.keyword((String) value);
+            break;
+        case SYMBOL:
+            context.symbol((String) value);
+            break;
+        case IMMEDIATE:
+            context.immediate((String) value);
+            break;
+        case OPERATOR:
+            context.operator((String) value);
+            break;
+        case SEPARATOR:
+            context.separator((String) value);
+            break;
+        case PADDING:
+            context.padding();
+            break;
+        case COMMENT:
+            context.comment(location, (String) value);
+            break;
+        case CLASS_BLOCK:
+            context.classBlock((EmitDirection) value);
+            break;
+        case ARRAY_INITIALIZER_BLOCK:
+            context.arrayInitializerBlock((EmitDirection) value);
+            break;
+        case STATEMENT_BLOCK:
+            context.statementBlock((EmitDirection) value);
+            break;
+        case SWITCH_LABEL:
+            context.switchLabel((EmitDirection) value);
+            break;
+        case STATEMENT:
+            context.statement((EmitDirection) value);
+            break;
+        case DECLARATION:
+            context.declaration((EmitDirection) value);
+            break;
+        case DOC_COMMENT:
+            context.docComment((EmitDirection) value);
+            break;
+        case DOC_BLOCK:
+            context.docBlock((EmitDirection) value);
+            break;
+        case DOC_INLINE_BLOCK:
+            context.docInlineBlock((EmitDirection) value);
+            break;
+        case PUT_BLOCK_COMMENT:
+            context.putBlockComment((List<String>) value);
+            break;
+        case PUT_LINE_COMMENT:
+            context.putLineComment((String) value);
+            break;
+        case PUT_INLINE_COMMENT:
+            context.putInlineComment((String) value);
+            break;
+        default:
+            throw new AssertionError(code);
+        }
+    }
+
+    private void add(int code, Object value, int location) {
+        if (size == codes.length) {
+            int capacity = codes.length * 2;
+            codes = Arrays.copyOf(codes, capacity);
+            values = Arrays.copyOf(values, capacity);
+            locations = Arrays.copyOf(locations, capacity);
+        }
+        codes[size] = code;
+        values[size] = value;
+        locations[size] = location;
+        size++;
+    }
+
+    @Override
+    public void flushComments() {
+        add(FLUSH_COMMENTS, null, 0);
+    }
+
+    @Override
+    public void flushComments(int location) {
+        add(FLUSH_COMMENTS_AT, null, location);
+    }
+
+    @Override
+    public void keyword(String keyword) {
+        add(KEYWORD, keyword, 0);
+    }
+
+    @Override
+    public void symbol(String symbol) {
+        add(SYMBOL, symbol, 0);
+    }
+
+    @Override
+    public void immediate(String immediate) {
+        add(IMMEDIATE, immediate, 0);
+    }
+
+    @Override
+    public void operator(String symbol) {
+        add(OPERATOR, symbol, 0);
+    }
+
+    @Override
+    public void separator(String symbol) {
+        add(SEPARATOR, symbol, 0);
+    }
+
+    @Override
+    public void padding() {
+        add(PADDING, null, 0);
+    }
+
+    @Override
+    public void comment(int location, String content) {
+        add(COMMENT, content, location);
+    }
+
+    @Override
+    public void classBlock(EmitDirection direction) {
+        add(CLASS_BLOCK, direction, 0);
+    }
+
+    @Override
+    public void arrayInitializerBlock(EmitDirection direction) {
+        add(ARRAY_INITIALIZER_BLOCK, direction, 0);
+    }
+
+    @Override
+    public void statementBlock(EmitDirection direction) {
+        add(STATEMENT_BLOCK, direction, 0);
+    }
+
+    @Override
+    public void switchLabel(EmitDirection direction) {
+        add(SWITCH_LABEL, direction, 0);
+    }
+
+    @Override
+    public void statement(EmitDirection direction) {
+        add(STATEMENT, direction, 0);
+    }
+
+    @Override
+    public void declaration(EmitDirection direction) {
+        add(DECLARATION, direction, 0);
+    }
+
+    @Override
+    public void docComment(EmitDirection direction) {
+        add(DOC_COMMENT, direction, 0);
+    }
+
+    @Override
+    public void docBlock(EmitDirection direction) {
+        add(DOC_BLOCK, direction, 0);
+    }
+
+    @Override
+    public void docInlineBlock(EmitDirection direction) {
+        add(DOC_INLINE_BLOCK, direction, 0);
+    }
+
+    @Override
+    public void putBlockComment(List<String> contents) {
+        add(PUT_BLOCK_COMMENT, contents, 0);
+    }
+
+    @Override
+    public void putLineComment(String content) {
+        add(PUT_LINE_COMMENT, content, 0);
+    }
+
+    @Override
+    public void putInlineComment(String content) {
+        add(PUT_INLINE_COMMENT, content, 0);
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2011 @ashigeru.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package com.ashigeru.lang.java.internal.model.util;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 識別子の文字列を共有するための表。
+ * <p>
+ * 同じ識別子を表す文字列に対して、その文字列が利用されている間は常に同一のインスタンスを返すため、
+ * 共有された識別子どうしの多くは参照の比較のみで等価性を判定できる。
+ * 識別子は弱参照で保持され、どこからも参照されなくなった時点で表から取り除かれる。
+ * そのため、表が識別子を永続的に保持することはない。
+ * </p>
+ * <p>
+ * このクラスは、複数のスレッドから同時に利用できる。
+ * 表は{@link ConcurrentHashMap}で保持されるため、すでに共有されている識別子の検索は排他制御を伴わない。
+ * 回収された識別子の項目は、新しい識別子を登録する際にまとめて取り除かれる。
+ * </p>
+ * @author ashigeru
+ */
+public final class IdentifierTable {
+
+    private static final ConcurrentMap<Key, Key> ENTRIES = new ConcurrentHashMap<Key, Key>();
+
+    private static final ReferenceQueue<String> QUEUE = new ReferenceQueue<String>();
+
+    /**
+     * 指定の識別子と等しい、共有された文字列を返す。
+     * @param identifier 対象の識別子
+     * @return 共有された文字列
+     * @throws IllegalArgumentException 引数に{@code null}が指定された場合
+     */
+    public static String intern(String identifier) {
+        if (identifier == null) {
+            throw new IllegalArgumentException("identifier must not be null"); //$NON-NLS-1$
+        }
+        Key found = ENTRIES.get(new Key(identifier, null));
+        if (found != null) {
+            String shared = found.get();
+            if (shared != null) {
+                return shared;
+            }
+        }
+        expunge();
+        // drops any backing char array larger than the identifier itself
+        String candidate = new String(identifier);
+        Key key = new Key(candidate, QUEUE);
+        while (true) {
+            Key existing = ENTRIES.putIfAbsent(key, key);
+            if (existing == null) {
+                return candidate;
+            }
+            String shared = existing.get();
+            if (shared != null) {
+                return shared;
+            }
+            // the existing entry was cleared just after it matched
+            ENTRIES.remove(existing, existing);
+        }
+    }
+
+    /**
+     * 登録されている識別子の個数を返す。
+     * @return 登録されている識別子の個数
+     */
+    static int size() {
+        expunge();
+        return ENTRIES.size();
+    }
+
+    private static void expunge() {
+        while (true) {
+            Reference<? extends String> ref = QUEUE.poll();
+            if (ref == null) {
+                break;
+            }
+            ENTRIES.remove(ref);
+        }
+    }
+
+    private IdentifierTable() {
+        throw new AssertionError();
+    }
+
+    private static final class Key extends WeakReference<String> {
+
+        private final int hashCode;
+
+        Key(String referent, ReferenceQueue<String> queue) {
+            super(referent, queue);
+            this.hashCode = referent.hashCode();
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if ((obj instanceof Key) == false) {
+                return false;
+            }
+            String referent = get();
+            return referent != null && referent.equals(((Key) obj).get());
+        }
+    }
+}
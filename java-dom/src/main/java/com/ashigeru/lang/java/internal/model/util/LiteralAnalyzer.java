@@ -25,6 +25,7 @@ public class LiteralAnalyzer {
 
     private static final BigInteger MAX_INT = BigInteger.valueOf(Integer.MAX_VALUE).add(BigInteger.ONE);
     private static final BigInteger MAX_LONG = BigInteger.valueOf(Long.MAX_VALUE).add(BigInteger.ONE);
+    private static final long MAX_INT_VALUE = Integer.MAX_VALUE + 1L;
 
     /**
      * 指定の文字列をリテラルとして解析し、解析結果のトークンを返す。
@@ -41,6 +42,23 @@ public class LiteralAnalyzer {
         return new LiteralToken(literal, kind, value);
     }
 
+    /**
+     * 指定の文字列をリテラルとして字句解析し、その種類を返す。
+     * <p>
+     * このメソッドはリテラルが表現する値を計算しないため、
+     * 整数リテラルが範囲外の値を表す場合なども対応する種類を返す。
+     * </p>
+     * @param literal 解析する文字列
+     * @return 解析結果の種類
+     * @throws IllegalArgumentException 引数に{@code null}を指定した場合
+     */
+    public static LiteralTokenKind kindOf(String literal) {
+        if (literal == null) {
+            throw new IllegalArgumentException("literal must not be null"); //$NON-NLS-1$
+        }
+        return LiteralParser.scan(literal);
+    }
+
     private static Object valueOf(LiteralTokenKind kind, String literal) {
         switch (kind) {
         case BOOLEAN:
@@ -130,6 +148,21 @@ public class LiteralAnalyzer {
      */
     public static int intValueOf(String literal) {
         IntegerHolder h = parseInteger(literal);
+        if (h.isSmall()) {
+            long value = h.toLong();
+            int bitLength = bitLength(value);
+            if (h.radix != 10) {
+                if (bitLength > 32) {
+                    throw new NumberFormatException(literal);
+                }
+            }
+            else {
+                if (bitLength > 31 && value != MAX_INT_VALUE) {
+                    throw new NumberFormatException(literal);
+                }
+            }
+            return (int) value;
+        }
 
         BigInteger number = h.toBigInteger();
         if (h.radix != 10) {
@@ -160,6 +193,9 @@ public class LiteralAnalyzer {
             target = literal;
         }
         IntegerHolder h = parseInteger(target);
+        if (h.isSmall()) {
+            return h.toLong();
+        }
 
         BigInteger number = h.toBigInteger();
         if (h.radix != 10) {
@@ -331,6 +367,15 @@ public class LiteralAnalyzer {
         }
     }
 
+    private static int bitLength(long value) {
+        if (value >= 0) {
+            return Long.SIZE - Long.numberOfLeadingZeros(value);
+        }
+        else {
+            return Long.SIZE - Long.numberOfLeadingZeros(~value);
+        }
+    }
+
     private static class IntegerHolder {
         private final boolean positive;
         private final String literal;
@@ -342,6 +387,34 @@ public class LiteralAnalyzer {
             this.radix = radix;
         }
 
+        /**
+         * 数字列の長さから、この整数が60ビット以内に収まることが明らかであるかどうかを返す。
+         * @return 60ビット以内に収まる場合は{@code true}
+         */
+        boolean isSmall() {
+            switch (this.radix) {
+            case 8:
+                return this.literal.length() <= 20;
+            case 10:
+                return this.literal.length() <= 18;
+            case 16:
+                return this.literal.length() <= 15;
+            default:
+                return false;
+            }
+        }
+
+        long toLong() {
+            assert isSmall();
+            long value = Long.parseLong(this.literal, this.radix);
+            if (this.positive) {
+                return value;
+            }
+            else {
+                return -value;
+            }
+        }
+
         BigInteger toBigInteger() {
             BigInteger bint = new BigInteger(this.literal, this.radix);
             if (this.positive) {
@@ -16,6 +16,7 @@
 package com.ashigeru.lang.java.internal.model.util;
 
 import java.util.List;
+import java.util.Map;
 
 import com.ashigeru.lang.java.model.syntax.*;
 import com.ashigeru.lang.java.model.util.NoThrow;
@@ -37,6 +38,9 @@ public class ModelDigester extends StrictVisitor<Void, DigestContext, NoThrow> {
 
     /**
      * 指定のモデルのダイジェスト値を返す。
+     * <p>
+     * 子要素のダイジェスト値には、それぞれの{@link Model#hashCode()}の値を利用する。
+     * </p>
      * @param model 対象のモデル
      * @return 対応するダイジェスト値
      * @throws IllegalArgumentException 引数に{@code null}が含まれる場合
@@ -45,11 +49,58 @@ public class ModelDigester extends StrictVisitor<Void, DigestContext, NoThrow> {
         if (model == null) {
             throw new IllegalArgumentException("model is null"); //$NON-NLS-1$
         }
-        DigestContext digest = new DigestContext();
+        return compute(model, null);
+    }
+
+    /**
+     * 子要素のダイジェスト値を指定の表から優先して取り出し、指定のモデルのダイジェスト値を返す。
+     * <p>
+     * 表に含まれない子要素のダイジェスト値には、それぞれの{@link Model#hashCode()}の値を利用する。
+     * 子要素は同一性によって表から検索される。
+     * </p>
+     * @param model 対象のモデル
+     * @param hashes 計算済みの子要素のダイジェスト値の表、利用しない場合は{@code null}
+     * @return 対応するダイジェスト値
+     * @throws IllegalArgumentException 引数{@code model}に{@code null}が指定された場合
+     */
+    public static int compute(Model model, Map<Model, Integer> hashes) {
+        if (model == null) {
+            throw new IllegalArgumentException("model is null"); //$NON-NLS-1$
+        }
+        DigestContext digest = new DigestContext(hashes);
         model.accept(INSTANCE, digest);
         return digest.total;
     }
 
+    /**
+     * {@link #computeWithin(Model, int)}で深さの上限を超えたことを表す値。
+     */
+    public static final long EXCEEDED = -1L;
+
+    /**
+     * 凍結されていない子孫のダイジェスト値を指定の深さまで直接計算し、指定のモデルのダイジェスト値を返す。
+     * <p>
+     * 凍結された子要素のダイジェスト値には、それぞれの{@link Model#hashCode()}の値を利用する。
+     * 計算の途中でオブジェクトを生成しないため、浅い木のダイジェスト値を繰り返し計算する場合に適している。
+     * 凍結されていない子孫が指定の深さよりも深く続く場合、計算を中断して{@link #EXCEEDED}を返す。
+     * </p>
+     * @param model 対象のモデル
+     * @param depthLimit 直接計算する子孫の深さの上限
+     * @return 対応するダイジェスト値を下位32ビットに格納した値、深さの上限を超えた場合は{@link #EXCEEDED}
+     * @throws IllegalArgumentException 引数{@code model}に{@code null}が指定された場合
+     */
+    public static long computeWithin(Model model, int depthLimit) {
+        if (model == null) {
+            throw new IllegalArgumentException("model is null"); //$NON-NLS-1$
+        }
+        DigestContext digest = new DigestContext(null, Math.max(depthLimit, 0));
+        model.accept(INSTANCE, digest);
+        if (digest.exceeded) {
+            return EXCEEDED;
+        }
+        return digest.total & 0xffffffffL;
+    }
+
     @Override
     public Void visitAlternateConstructorInvocation(
             AlternateConstructorInvocation elem,
@@ -896,14 +947,15 @@ public class ModelDigester extends StrictVisitor<Void, DigestContext, NoThrow> {
             context.add(0);
         }
         else {
-            model.accept(this, context);
+            // uses the cached digest of each child
+            context.add(context.hashOf(model));
         }
     }
 
     private void digest(List<? extends Model> models, DigestContext context) {
         context.add(models.size());
         for (int i = 0, n = models.size(); i < n; i++) {
-            models.get(i).accept(this, context);
+            context.add(context.hashOf(models.get(i)));
         }
     }
 
@@ -939,8 +991,49 @@ public class ModelDigester extends StrictVisitor<Void, DigestContext, NoThrow> {
  */
 class DigestContext {
 
+    private final Map<Model, Integer> hashes;
+
+    private int depth;
+
+    boolean exceeded;
+
     int total = 0;
 
+    DigestContext(Map<Model, Integer> hashes) {
+        this(hashes, -1);
+    }
+
+    DigestContext(Map<Model, Integer> hashes, int depth) {
+        this.hashes = hashes;
+        this.depth = depth;
+    }
+
+    int hashOf(Model model) {
+        assert model != null;
+        if (hashes != null) {
+            Integer cached = hashes.get(model);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        if (depth < 0 || model.isFrozen()) {
+            return model.hashCode();
+        }
+        if (depth == 0 || exceeded) {
+            exceeded = true;
+            return 0;
+        }
+        // digests the unfrozen child directly instead of its hashCode()
+        int saved = total;
+        total = 0;
+        depth--;
+        model.accept(ModelDigester.INSTANCE, this);
+        depth++;
+        int result = total;
+        total = saved;
+        return result;
+    }
+
     void add(int digest) {
         total = total * 31 + digest;
     }
@@ -17,6 +17,7 @@ package com.ashigeru.lang.java.internal.model.util;
 
 import java.io.PrintWriter;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
@@ -161,10 +162,13 @@ public class ModelEmitter {
      * @throws IllegalArgumentException 引数に{@code null}が含まれる場合
      */
     public static void emit(Model element, EmitContext context) {
+        if (element == null) {
+            throw new IllegalArgumentException("element must not be null"); //$NON-NLS-1$
+        }
         if (context == null) {
             throw new IllegalArgumentException("context must not be null"); //$NON-NLS-1$
         }
-        element.accept(ENGINE, context);
+        ENGINE.emit(element, context);
     }
 }
 
@@ -172,11 +176,63 @@ public class ModelEmitter {
  * {@link ModelEmitter}のエンジン部分。
  * @author ashigeru
  */
-class EmitEngine extends StrictVisitor<Void, EmitContext, NoThrow> {
+class EmitEngine extends StrictVisitor<Void, EmitRecorder, NoThrow> {
+
+    /**
+     * 指定の要素を指定のコンテキストに出力する。
+     * <p>
+     * 各要素の{@code visit*}メソッドは出力の手順を{@link EmitRecorder}に記録するのみで、
+     * 子要素を直接出力しない。
+     * このメソッドは記録された手順を逆順に明示的なスタックへ積み、
+     * 先頭から順に取り出して、子要素であればその手順をさらに記録して積み、
+     * それ以外であればコンテキストに再生する。
+     * そのため、出力の順序は子要素を再帰的に出力する場合と同一で、
+     * 木の深さにかかわらず再帰呼び出しを行わない。
+     * </p>
+     * @param element 出力する要素
+     * @param context 出力先のコンテキスト
+     */
+    void emit(Model element, EmitContext context) {
+        assert element != null;
+        assert context != null;
+        EmitRecorder recorder = new EmitRecorder();
+        int[] codes = new int[64];
+        Object[] values = new Object[64];
+        int[] locations = new int[64];
+        int size = 0;
+        codes[size] = EmitRecorder.CHILD;
+        values[size] = element;
+        size++;
+        while (size > 0) {
+            size--;
+            int code = codes[size];
+            Object value = values[size];
+            values[size] = null;
+            if (code != EmitRecorder.CHILD) {
+                EmitRecorder.replay(code, value, locations[size], context);
+                continue;
+            }
+            recorder.clear();
+            ((Model) value).accept(this, recorder);
+            int count = recorder.size;
+            if (size + count > codes.length) {
+                int capacity = Math.max(codes.length * 2, size + count);
+                codes = Arrays.copyOf(codes, capacity);
+                values = Arrays.copyOf(values, capacity);
+                locations = Arrays.copyOf(locations, capacity);
+            }
+            for (int i = count - 1; i >= 0; i--) {
+                codes[size] = recorder.codes[i];
+                values[size] = recorder.values[i];
+                locations[size] = recorder.locations[i];
+                size++;
+            }
+        }
+    }
 
     @Override
     public Void visitAlternateConstructorInvocation(
-            AlternateConstructorInvocation elem, EmitContext context) {
+            AlternateConstructorInvocation elem, EmitRecorder context) {
         begin(elem, context);
         processBlockComment(elem, context);
         context.statement(EmitDirection.BEGIN);
@@ -190,7 +246,7 @@ class EmitEngine extends StrictVisitor<Void, EmitContext, NoThrow> {
 
     @Override
     public Void visitAnnotationDeclaration(AnnotationDeclaration elem,
-            EmitContext context) {
+            EmitRecorder context) {
         begin(elem, context);
         context.declaration(EmitDirection.BEGIN);
         process(elem.getJavadoc(), context);
@@ -208,7 +264,7 @@ class EmitEngine extends StrictVisitor<Void, EmitContext, NoThrow> {
 
     @Override
     public Void visitAnnotationElement(AnnotationElement elem,
-            EmitContext context) {
+            EmitRecorder context) {
         begin(elem, context);
         processInlineComment(elem, context);
         process(elem.getName(), context);
@@ -219,7 +275,7 @@ class EmitEngine extends StrictVisitor<Void, EmitContext, NoThrow> {
 
     @Override
     public Void visitAnnotationElementDeclaration(
-            AnnotationElementDeclaration elem, EmitContext context) {
+            AnnotationElementDeclaration elem, EmitRecorder context) {
         begin(elem, context);
         context.declaration(EmitDirection.END);
         process(elem.getJavadoc(), context);
@@ -239,7 +295,7 @@ class EmitEngine extends StrictVisitor<Void, EmitContext, NoThrow> {
 
     @Override
     public Void visitArrayAccessExpression(ArrayAccessExpression elem,
-            EmitContext context) {
+            EmitRecorder context) {
         begin(elem, context);
         processInlineComment(elem, context);
         process(elem.getArray(), context);
@@ -251,7 +307,7 @@ class EmitEngine extends StrictVisitor<Void, EmitContext, NoThrow> {
 
     @Override
     public Void visitArrayCreationExpression(ArrayCreationExpression elem,
-            EmitContext context) {
+            EmitRecorder context) {
         begin(elem, context);
         processInlineComment(elem, context);
         Type scalar;
@@ -283,7 +339,7 @@ class EmitEngine extends StrictVisitor<Void, EmitContext, NoThrow> {
 
     @Override
     public Void visitArrayInitializer(ArrayInitializer elem,
-            EmitContext context) {
+            EmitRecorder context) {
         begin(elem, context);
         processInlineComment(elem, context);
         context.arrayInitializerBlock(EmitDirection.BEGIN);
@@ -293,7 +349,7 @@ class EmitEngine extends StrictVisitor<Void, EmitContext, NoThrow> {
     }
 
     @Override
-    public Void visitArrayType(ArrayType elem, EmitContext context) {
+    public Void visitArrayType(ArrayType elem, EmitRecorder context) {
         begin(elem, context);
         processInlineComment(elem, context);
         process(elem.getComponentType(), context);
@@ -304,7 +360,7 @@ class EmitEngine extends StrictVisitor<Void, EmitContext, NoThrow> {
 
     @Override
     public Void visitAssertStatement(AssertStatement elem,
-            EmitContext context) {
+            EmitRecorder context) {
         begin(elem, context);
         processBlockComment(elem, context);
         context.statement(EmitDirection.BEGIN);
@@ -321,7 +377,7 @@ class EmitEngine extends StrictVisitor<Void, EmitContext, NoThrow> {
 
     @Override
     public Void visitAssignmentExpression(AssignmentExpression elem,
-            EmitContext context) {
+            EmitRecorder context) {
         begin(elem, context);
         processInlineComment(elem, context);
         process(elem.getLeftHandSide(), context);
@@ -331,7 +387,7 @@ class EmitEngine extends StrictVisitor<Void, EmitContext, NoThrow> {
     }
 
     @Override
-    public Void visitBasicType(BasicType elem, EmitContext context) {
+    public Void visitBasicType(BasicType elem, EmitRecorder context) {
         begin(elem, context);
         processInlineComment(elem, context);
         context.keyword(elem.getTypeKind().getKeyword());
@@ -339,7 +395,7 @@ class EmitEngine extends StrictVisitor<Void, EmitContext, NoThrow> {
     }
 
     @Override
-    public Void visitBlock(Block elem, EmitContext context) {
+    public Void visitBlock(Block elem, EmitRecorder context) {
         begin(elem, context);
         processBlockComment(elem, context);
         context.statementBlock(EmitDirection.BEGIN);
@@ -350,7 +406,7 @@ class EmitEngine extends StrictVisitor<Void, EmitContext, NoThrow> {
 
     private static final Pattern HEAD_ASTER = Pattern.compile("^ ?\\* ?");
     @Override
-    public Void visitBlockComment(BlockComment elem, EmitContext context) {
+    public Void visitBlockComment(BlockComment elem, EmitRecorder context) {
         String content = elem.getString();
         if (content.startsWith("/*")) {
             content = content.substring(2);
@@ -377,7 +433,7 @@ class EmitEngine extends StrictVisitor<Void, EmitContext, NoThrow> {
 
     @Override
     public Void visitBreakStatement(BreakStatement elem,
-            EmitContext context) {
+            EmitRecorder context) {
         begin(elem, context);
         processBlockComment(elem, context);
         context.statement(EmitDirection.BEGIN);
@@ -390,7 +446,7 @@ class EmitEngine extends StrictVisitor<Void, EmitContext, NoThrow> {
 
     @Override
     public Void visitCastExpression(CastExpression elem,
-            EmitContext context) {
+            EmitRecorder context) {
         begin(elem, context);
         processInlineComment(elem, context);
         context.symbol("(");
@@ -401,7 +457,7 @@ class EmitEngine extends StrictVisitor<Void, EmitContext, NoThrow> {
     }
 
     @Override
-    public Void visitCatchClause(CatchClause elem, EmitContext context) {
+    public Void visitCatchClause(CatchClause elem, EmitRecorder context) {
         begin(elem, context);
         processBlockComment(elem, context);
         context.keyword("catch");
@@ -413,7 +469,7 @@ class EmitEngine extends StrictVisitor<Void, EmitContext, NoThrow> {
     }
 
     @Override
-    public Void visitClassBody(ClassBody elem, EmitContext context) {
+    public Void visitClassBody(ClassBody elem, EmitRecorder context) {
         begin(elem, context);
         processInlineComment(elem, context);
         context.classBlock(EmitDirection.BEGIN);
@@ -424,7 +480,7 @@ class EmitEngine extends StrictVisitor<Void, EmitContext, NoThrow> {
 
     @Override
     public Void visitClassDeclaration(ClassDeclaration elem,
-            EmitContext context) {
+            EmitRecorder context) {
         begin(elem, context);
         context.declaration(EmitDirection.BEGIN);
         process(elem.getJavadoc(), context);
@@ -450,7 +506,7 @@ class EmitEngine extends StrictVisitor<Void, EmitContext, NoThrow> {
 
     @Override
     public Void visitClassInstanceCreationExpression(
-            ClassInstanceCreationExpression elem, EmitContext context) {
+            ClassInstanceCreationExpression elem, EmitRecorder context) {
         begin(elem, context);
         processInlineComment(elem, context);
         if (process(elem.getQualifier(), context)) {
@@ -465,7 +521,7 @@ class EmitEngine extends StrictVisitor<Void, EmitContext, NoThrow> {
     }
 
     @Override
-    public Void visitClassLiteral(ClassLiteral elem, EmitContext context) {
+    public Void visitClassLiteral(ClassLiteral elem, EmitRecorder context) {
         begin(elem, context);
         processInlineComment(elem, context);
         process(elem.getType(), context);
@@ -476,7 +532,7 @@ class EmitEngine extends StrictVisitor<Void, EmitContext, NoThrow> {
 
     @Override
     public Void visitCompilationUnit(CompilationUnit elem,
-            EmitContext context) {
+            EmitRecorder context) {
         begin(elem, context);
         processCompilationUnitComment(elem, context);
         process(elem.getPackageDeclaration(), context);
@@ -487,7 +543,7 @@ class EmitEngine extends StrictVisitor<Void, EmitContext, NoThrow> {
 
     @Override
     public Void visitConditionalExpression(ConditionalExpression elem,
-            EmitContext context) {
+            EmitRecorder context) {
         begin(elem, context);
         processInlineComment(elem, context);
         process(elem.getCondition(), context);
@@ -500,7 +556,7 @@ class EmitEngine extends StrictVisitor<Void, EmitContext, NoThrow> {
 
     @Override
     public Void visitConstructorDeclaration(ConstructorDeclaration elem,
-            EmitContext context) {
+            EmitRecorder context) {
         begin(elem, context);
         context.declaration(EmitDirection.BEGIN);
         process(elem.getJavadoc(), context);
@@ -520,7 +576,7 @@ class EmitEngine extends StrictVisitor<Void, EmitContext, NoThrow> {
 
     @Override
     public Void visitContinueStatement(ContinueStatement elem,
-            EmitContext context) {
+            EmitRecorder context) {
         begin(elem, context);
         processBlockComment(elem, context);
         context.statement(EmitDirection.BEGIN);
@@ -532,7 +588,7 @@ class EmitEngine extends StrictVisitor<Void, EmitContext, NoThrow> {
     }
 
     @Override
-    public Void visitDoStatement(DoStatement elem, EmitContext context) {
+    public Void visitDoStatement(DoStatement elem, EmitRecorder context) {
         begin(elem, context);
         processBlockComment(elem, context);
         context.statement(EmitDirection.BEGIN);
@@ -549,7 +605,7 @@ class EmitEngine extends StrictVisitor<Void, EmitContext, NoThrow> {
 
     @Override
     public Void visitEmptyStatement(EmptyStatement elem,
-            EmitContext context) {
+            EmitRecorder context) {
         begin(elem, context);
         processBlockComment(elem, context);
         context.statement(EmitDirection.BEGIN);
@@ -560,7 +616,7 @@ class EmitEngine extends StrictVisitor<Void, EmitContext, NoThrow> {
 
     @Override
     public Void visitEnhancedForStatement(EnhancedForStatement elem,
-            EmitContext context) {
+            EmitRecorder context) {
         begin(elem, context);
         processBlockComment(elem, context);
         context.statement(EmitDirection.BEGIN);
@@ -577,7 +633,7 @@ class EmitEngine extends StrictVisitor<Void, EmitContext, NoThrow> {
 
     @Override
     public Void visitEnumConstantDeclaration(EnumConstantDeclaration elem,
-            EmitContext context) {
+            EmitRecorder context) {
         begin(elem, context);
         context.declaration(EmitDirection.BEGIN);
         process(elem.getJavadoc(), context);
@@ -595,7 +651,7 @@ class EmitEngine extends StrictVisitor<Void, EmitContext, NoThrow> {
 
     @Override
     public Void visitEnumDeclaration(EnumDeclaration elem,
-            EmitContext context) {
+            EmitRecorder context) {
         begin(elem, context);
         context.declaration(EmitDirection.BEGIN);
         process(elem.getJavadoc(), context);
@@ -622,7 +678,7 @@ class EmitEngine extends StrictVisitor<Void, EmitContext, NoThrow> {
 
     @Override
     public Void visitExpressionStatement(ExpressionStatement elem,
-            EmitContext context) {
+            EmitRecorder context) {
         begin(elem, context);
         processBlockComment(elem, context);
         context.statement(EmitDirection.BEGIN);
@@ -634,7 +690,7 @@ class EmitEngine extends StrictVisitor<Void, EmitContext, NoThrow> {
 
     @Override
     public Void visitFieldAccessExpression(FieldAccessExpression elem,
-            EmitContext context) {
+            EmitRecorder context) {
         begin(elem, context);
         processInlineComment(elem, context);
         process(elem.getQualifier(), context);
@@ -645,7 +701,7 @@ class EmitEngine extends StrictVisitor<Void, EmitContext, NoThrow> {
 
     @Override
     public Void visitFieldDeclaration(FieldDeclaration elem,
-            EmitContext context) {
+            EmitRecorder context) {
         begin(elem, context);
         context.declaration(EmitDirection.BEGIN);
         process(elem.getJavadoc(), context);
@@ -660,7 +716,7 @@ class EmitEngine extends StrictVisitor<Void, EmitContext, NoThrow> {
 
     @Override
     public Void visitFormalParameterDeclaration(
-            FormalParameterDeclaration elem, EmitContext context) {
+            FormalParameterDeclaration elem, EmitRecorder context) {
         begin(elem, context);
         processInlineComment(elem, context);
         process(elem.getModifiers(), context);
@@ -677,7 +733,7 @@ class EmitEngine extends StrictVisitor<Void, EmitContext, NoThrow> {
     }
 
     @Override
-    public Void visitForStatement(ForStatement elem, EmitContext context) {
+    public Void visitForStatement(ForStatement elem, EmitRecorder context) {
         begin(elem, context);
         processBlockComment(elem, context);
         context.statement(EmitDirection.BEGIN);
@@ -702,7 +758,7 @@ class EmitEngine extends StrictVisitor<Void, EmitContext, NoThrow> {
     }
 
     @Override
-    public Void visitIfStatement(IfStatement elem, EmitContext context) {
+    public Void visitIfStatement(IfStatement elem, EmitRecorder context) {
         begin(elem, context);
         processBlockComment(elem, context);
         context.statement(EmitDirection.BEGIN);
@@ -721,7 +777,7 @@ class EmitEngine extends StrictVisitor<Void, EmitContext, NoThrow> {
 
     @Override
     public Void visitImportDeclaration(ImportDeclaration elem,
-            EmitContext context) {
+            EmitRecorder context) {
         begin(elem, context);
         processBlockComment(elem, context);
         context.declaration(EmitDirection.BEGIN);
@@ -741,7 +797,7 @@ class EmitEngine extends StrictVisitor<Void, EmitContext, NoThrow> {
 
     @Override
     public Void visitInfixExpression(InfixExpression elem,
-            EmitContext context) {
+            EmitRecorder context) {
         begin(elem, context);
         processInlineComment(elem, context);
         process(elem.getLeftOperand(), context);
@@ -752,7 +808,7 @@ class EmitEngine extends StrictVisitor<Void, EmitContext, NoThrow> {
 
     @Override
     public Void visitInitializerDeclaration(InitializerDeclaration elem,
-            EmitContext context) {
+            EmitRecorder context) {
         begin(elem, context);
         context.declaration(EmitDirection.BEGIN);
         processBlockComment(elem, context);
@@ -764,7 +820,7 @@ class EmitEngine extends StrictVisitor<Void, EmitContext, NoThrow> {
 
     @Override
     public Void visitInstanceofExpression(InstanceofExpression elem,
-            EmitContext context) {
+            EmitRecorder context) {
         begin(elem, context);
         processInlineComment(elem, context);
         process(elem.getExpression(), context);
@@ -775,7 +831,7 @@ class EmitEngine extends StrictVisitor<Void, EmitContext, NoThrow> {
 
     @Override
     public Void visitInterfaceDeclaration(InterfaceDeclaration elem,
-            EmitContext context) {
+            EmitRecorder context) {
         begin(elem, context);
         context.declaration(EmitDirection.BEGIN);
         process(elem.getJavadoc(), context);
@@ -797,7 +853,7 @@ class EmitEngine extends StrictVisitor<Void, EmitContext, NoThrow> {
 
     @Override
     public Void visitLabeledStatement(LabeledStatement elem,
-            EmitContext context) {
+            EmitRecorder context) {
         begin(elem, context);
         processBlockComment(elem, context);
         context.statement(EmitDirection.BEGIN);
@@ -809,7 +865,7 @@ class EmitEngine extends StrictVisitor<Void, EmitContext, NoThrow> {
     }
 
     @Override
-    public Void visitLineComment(LineComment elem, EmitContext context) {
+    public Void visitLineComment(LineComment elem, EmitRecorder context) {
         String body = elem.getString();
         if (body.startsWith("//")) {
             body = body.substring(2);
@@ -822,7 +878,7 @@ class EmitEngine extends StrictVisitor<Void, EmitContext, NoThrow> {
     }
 
     @Override
-    public Void visitLiteral(Literal elem, EmitContext context) {
+    public Void visitLiteral(Literal elem, EmitRecorder context) {
         begin(elem, context);
         processInlineComment(elem, context);
         context.immediate(elem.getToken());
@@ -831,7 +887,7 @@ class EmitEngine extends StrictVisitor<Void, EmitContext, NoThrow> {
 
     @Override
     public Void visitLocalClassDeclaration(LocalClassDeclaration elem,
-            EmitContext context) {
+            EmitRecorder context) {
         begin(elem, context);
         processBlockComment(elem, context);
         context.statement(EmitDirection.BEGIN);
@@ -842,7 +898,7 @@ class EmitEngine extends StrictVisitor<Void, EmitContext, NoThrow> {
 
     @Override
     public Void visitLocalVariableDeclaration(LocalVariableDeclaration elem,
-            EmitContext context) {
+            EmitRecorder context) {
         begin(elem, context);
         processBlockComment(elem, context);
         context.statement(EmitDirection.BEGIN);
@@ -853,7 +909,7 @@ class EmitEngine extends StrictVisitor<Void, EmitContext, NoThrow> {
     }
 
     private void processLocalVaribale(LocalVariableDeclaration elem,
-            EmitContext context) {
+            EmitRecorder context) {
         begin(elem, context);
         process(elem.getModifiers(), context);
         process(elem.getType(), context);
@@ -862,7 +918,7 @@ class EmitEngine extends StrictVisitor<Void, EmitContext, NoThrow> {
 
     @Override
     public Void visitMarkerAnnotation(MarkerAnnotation elem,
-            EmitContext context) {
+            EmitRecorder context) {
         begin(elem, context);
         processInlineComment(elem, context);
         context.symbol("@");
@@ -872,7 +928,7 @@ class EmitEngine extends StrictVisitor<Void, EmitContext, NoThrow> {
 
     @Override
     public Void visitMethodDeclaration(MethodDeclaration elem,
-            EmitContext context) {
+            EmitRecorder context) {
         begin(elem, context);
         context.declaration(EmitDirection.BEGIN);
         process(elem.getJavadoc(), context);
@@ -903,7 +959,7 @@ class EmitEngine extends StrictVisitor<Void, EmitContext, NoThrow> {
 
     @Override
     public Void visitMethodInvocationExpression(
-            MethodInvocationExpression elem, EmitContext context) {
+            MethodInvocationExpression elem, EmitRecorder context) {
         begin(elem, context);
         processInlineComment(elem, context);
         if (process(elem.getQualifier(), context)) {
@@ -916,7 +972,7 @@ class EmitEngine extends StrictVisitor<Void, EmitContext, NoThrow> {
     }
 
     @Override
-    public Void visitModifier(Modifier elem, EmitContext context) {
+    public Void visitModifier(Modifier elem, EmitRecorder context) {
         begin(elem, context);
         processInlineComment(elem, context);
         context.keyword(elem.getModifierKind().getKeyword());
@@ -924,7 +980,7 @@ class EmitEngine extends StrictVisitor<Void, EmitContext, NoThrow> {
     }
 
     @Override
-    public Void visitNamedType(NamedType elem, EmitContext context) {
+    public Void visitNamedType(NamedType elem, EmitRecorder context) {
         begin(elem, context);
         processInlineComment(elem, context);
         process(elem.getName(), context);
@@ -933,7 +989,7 @@ class EmitEngine extends StrictVisitor<Void, EmitContext, NoThrow> {
 
     @Override
     public Void visitNormalAnnotation(NormalAnnotation elem,
-            EmitContext context) {
+            EmitRecorder context) {
         begin(elem, context);
         processInlineComment(elem, context);
         context.symbol("@");
@@ -944,7 +1000,7 @@ class EmitEngine extends StrictVisitor<Void, EmitContext, NoThrow> {
 
     @Override
     public Void visitPackageDeclaration(PackageDeclaration elem,
-            EmitContext context) {
+            EmitRecorder context) {
         begin(elem, context);
         context.declaration(EmitDirection.BEGIN);
         process(elem.getJavadoc(), context);
@@ -958,7 +1014,7 @@ class EmitEngine extends StrictVisitor<Void, EmitContext, NoThrow> {
 
     @Override
     public Void visitParameterizedType(ParameterizedType elem,
-            EmitContext context) {
+            EmitRecorder context) {
         begin(elem, context);
         processInlineComment(elem, context);
         process(elem.getType(), context);
@@ -968,7 +1024,7 @@ class EmitEngine extends StrictVisitor<Void, EmitContext, NoThrow> {
 
     @Override
     public Void visitParenthesizedExpression(ParenthesizedExpression elem,
-            EmitContext context) {
+            EmitRecorder context) {
         begin(elem, context);
         processInlineComment(elem, context);
         context.symbol("(");
@@ -979,7 +1035,7 @@ class EmitEngine extends StrictVisitor<Void, EmitContext, NoThrow> {
 
     @Override
     public Void visitPostfixExpression(PostfixExpression elem,
-            EmitContext context) {
+            EmitRecorder context) {
         begin(elem, context);
         processInlineComment(elem, context);
         process(elem.getOperand(), context);
@@ -988,7 +1044,7 @@ class EmitEngine extends StrictVisitor<Void, EmitContext, NoThrow> {
     }
 
     @Override
-    public Void visitQualifiedName(QualifiedName elem, EmitContext context) {
+    public Void visitQualifiedName(QualifiedName elem, EmitRecorder context) {
         begin(elem, context);
         processInlineComment(elem, context);
         process(elem.getQualifier(), context);
@@ -998,7 +1054,7 @@ class EmitEngine extends StrictVisitor<Void, EmitContext, NoThrow> {
     }
 
     @Override
-    public Void visitQualifiedType(QualifiedType elem, EmitContext context) {
+    public Void visitQualifiedType(QualifiedType elem, EmitRecorder context) {
         begin(elem, context);
         processInlineComment(elem, context);
         process(elem.getQualifier(), context);
@@ -1009,7 +1065,7 @@ class EmitEngine extends StrictVisitor<Void, EmitContext, NoThrow> {
 
     @Override
     public Void visitReturnStatement(ReturnStatement elem,
-            EmitContext context) {
+            EmitRecorder context) {
         begin(elem, context);
         processBlockComment(elem, context);
         context.statement(EmitDirection.BEGIN);
@@ -1021,7 +1077,7 @@ class EmitEngine extends StrictVisitor<Void, EmitContext, NoThrow> {
     }
 
     @Override
-    public Void visitSimpleName(SimpleName elem, EmitContext context) {
+    public Void visitSimpleName(SimpleName elem, EmitRecorder context) {
         begin(elem, context);
         processInlineComment(elem, context);
         context.immediate(elem.getToken());
@@ -1030,7 +1086,7 @@ class EmitEngine extends StrictVisitor<Void, EmitContext, NoThrow> {
 
     @Override
     public Void visitSingleElementAnnotation(SingleElementAnnotation elem,
-            EmitContext context) {
+            EmitRecorder context) {
         begin(elem, context);
         processInlineComment(elem, context);
         context.symbol("@");
@@ -1043,7 +1099,7 @@ class EmitEngine extends StrictVisitor<Void, EmitContext, NoThrow> {
 
     @Override
     public Void visitStatementExpressionList(StatementExpressionList elem,
-            EmitContext context) {
+            EmitRecorder context) {
         begin(elem, context);
         processInlineComment(elem, context);
         processJoinWithComma(elem.getExpressions(), context);
@@ -1051,7 +1107,7 @@ class EmitEngine extends StrictVisitor<Void, EmitContext, NoThrow> {
     }
 
     @Override
-    public Void visitSuper(Super elem, EmitContext context) {
+    public Void visitSuper(Super elem, EmitRecorder context) {
         begin(elem, context);
         processInlineComment(elem, context);
         if (process(elem.getQualifier(), context)) {
@@ -1063,7 +1119,7 @@ class EmitEngine extends StrictVisitor<Void, EmitContext, NoThrow> {
 
     @Override
     public Void visitSuperConstructorInvocation(
-            SuperConstructorInvocation elem, EmitContext context) {
+            SuperConstructorInvocation elem, EmitRecorder context) {
         begin(elem, context);
         processBlockComment(elem, context);
         context.statement(EmitDirection.BEGIN);
@@ -1080,7 +1136,7 @@ class EmitEngine extends StrictVisitor<Void, EmitContext, NoThrow> {
 
     @Override
     public Void visitSwitchCaseLabel(SwitchCaseLabel elem,
-            EmitContext context) {
+            EmitRecorder context) {
         begin(elem, context);
         processBlockComment(elem, context);
         context.statement(EmitDirection.BEGIN);
@@ -1093,7 +1149,7 @@ class EmitEngine extends StrictVisitor<Void, EmitContext, NoThrow> {
 
     @Override
     public Void visitSwitchDefaultLabel(SwitchDefaultLabel elem,
-            EmitContext context) {
+            EmitRecorder context) {
         begin(elem, context);
         processBlockComment(elem, context);
         context.statement(EmitDirection.BEGIN);
@@ -1105,7 +1161,7 @@ class EmitEngine extends StrictVisitor<Void, EmitContext, NoThrow> {
 
     @Override
     public Void visitSwitchStatement(SwitchStatement elem,
-            EmitContext context) {
+            EmitRecorder context) {
         begin(elem, context);
         processBlockComment(elem, context);
         context.statement(EmitDirection.BEGIN);
@@ -1120,7 +1176,7 @@ class EmitEngine extends StrictVisitor<Void, EmitContext, NoThrow> {
         return null;
     }
 
-    private void processSwitchBody(SwitchStatement elem, EmitContext context) {
+    private void processSwitchBody(SwitchStatement elem, EmitRecorder context) {
         if (appears(elem.getStatements()) == false) {
             return;
         }
@@ -1145,7 +1201,7 @@ class EmitEngine extends StrictVisitor<Void, EmitContext, NoThrow> {
 
     @Override
     public Void visitSynchronizedStatement(SynchronizedStatement elem,
-            EmitContext context) {
+            EmitRecorder context) {
         begin(elem, context);
         processBlockComment(elem, context);
         context.statement(EmitDirection.BEGIN);
@@ -1159,7 +1215,7 @@ class EmitEngine extends StrictVisitor<Void, EmitContext, NoThrow> {
     }
 
     @Override
-    public Void visitThis(This elem, EmitContext context) {
+    public Void visitThis(This elem, EmitRecorder context) {
         begin(elem, context);
         processInlineComment(elem, context);
         if (process(elem.getQualifier(), context)) {
@@ -1171,7 +1227,7 @@ class EmitEngine extends StrictVisitor<Void, EmitContext, NoThrow> {
 
     @Override
     public Void visitThrowStatement(ThrowStatement elem,
-            EmitContext context) {
+            EmitRecorder context) {
         begin(elem, context);
         processBlockComment(elem, context);
         context.statement(EmitDirection.BEGIN);
@@ -1183,7 +1239,7 @@ class EmitEngine extends StrictVisitor<Void, EmitContext, NoThrow> {
     }
 
     @Override
-    public Void visitTryStatement(TryStatement elem, EmitContext context) {
+    public Void visitTryStatement(TryStatement elem, EmitRecorder context) {
         begin(elem, context);
         processBlockComment(elem, context);
         context.statement(EmitDirection.BEGIN);
@@ -1200,7 +1256,7 @@ class EmitEngine extends StrictVisitor<Void, EmitContext, NoThrow> {
 
     @Override
     public Void visitTypeParameterDeclaration(TypeParameterDeclaration elem,
-            EmitContext context) {
+            EmitRecorder context) {
         begin(elem, context);
         processInlineComment(elem, context);
         process(elem.getName(), context);
@@ -1218,7 +1274,7 @@ class EmitEngine extends StrictVisitor<Void, EmitContext, NoThrow> {
 
     @Override
     public Void visitUnaryExpression(UnaryExpression elem,
-            EmitContext context) {
+            EmitRecorder context) {
         begin(elem, context);
         processInlineComment(elem, context);
         context.operator(elem.getOperator().getSymbol());
@@ -1228,7 +1284,7 @@ class EmitEngine extends StrictVisitor<Void, EmitContext, NoThrow> {
 
     @Override
     public Void visitVariableDeclarator(VariableDeclarator elem,
-            EmitContext context) {
+            EmitRecorder context) {
         begin(elem, context);
         processInlineComment(elem, context);
         process(elem.getName(), context);
@@ -1245,7 +1301,7 @@ class EmitEngine extends StrictVisitor<Void, EmitContext, NoThrow> {
 
     @Override
     public Void visitWhileStatement(WhileStatement elem,
-            EmitContext context) {
+            EmitRecorder context) {
         begin(elem, context);
         processBlockComment(elem, context);
         context.statement(EmitDirection.BEGIN);
@@ -1259,7 +1315,7 @@ class EmitEngine extends StrictVisitor<Void, EmitContext, NoThrow> {
     }
 
     @Override
-    public Void visitWildcard(Wildcard elem, EmitContext context) {
+    public Void visitWildcard(Wildcard elem, EmitRecorder context) {
         begin(elem, context);
         processInlineComment(elem, context);
         context.keyword("?");
@@ -1275,7 +1331,7 @@ class EmitEngine extends StrictVisitor<Void, EmitContext, NoThrow> {
     }
 
     @Override
-    public Void visitJavadoc(Javadoc elem, EmitContext context) {
+    public Void visitJavadoc(Javadoc elem, EmitRecorder context) {
         begin(elem, context);
         processBlockComment(elem, context);
         context.docComment(EmitDirection.BEGIN);
@@ -1289,7 +1345,7 @@ class EmitEngine extends StrictVisitor<Void, EmitContext, NoThrow> {
     }
 
     @Override
-    public Void visitDocBlock(DocBlock elem, EmitContext context) {
+    public Void visitDocBlock(DocBlock elem, EmitRecorder context) {
         begin(elem, context);
         String tag = elem.getTag();
         if (tag.length() != 0) {
@@ -1335,7 +1391,7 @@ class EmitEngine extends StrictVisitor<Void, EmitContext, NoThrow> {
         return true;
     }
 
-    private void processDocInlineElement(DocElement elem, boolean last, EmitContext context) {
+    private void processDocInlineElement(DocElement elem, boolean last, EmitRecorder context) {
         if (elem.getModelKind() == ModelKind.DOC_BLOCK) {
             context.docInlineBlock(EmitDirection.BEGIN);
             process(elem, context);
@@ -1354,7 +1410,7 @@ class EmitEngine extends StrictVisitor<Void, EmitContext, NoThrow> {
     }
 
     @Override
-    public Void visitDocField(DocField elem, EmitContext context) {
+    public Void visitDocField(DocField elem, EmitRecorder context) {
         begin(elem, context);
         process(elem.getType(), context);
         context.symbol("#");
@@ -1363,7 +1419,7 @@ class EmitEngine extends StrictVisitor<Void, EmitContext, NoThrow> {
     }
 
     @Override
-    public Void visitDocMethod(DocMethod elem, EmitContext context) {
+    public Void visitDocMethod(DocMethod elem, EmitRecorder context) {
         begin(elem, context);
         process(elem.getType(), context);
         context.symbol("#");
@@ -1376,7 +1432,7 @@ class EmitEngine extends StrictVisitor<Void, EmitContext, NoThrow> {
 
     @Override
     public Void visitDocMethodParameter(DocMethodParameter elem,
-            EmitContext context) {
+            EmitRecorder context) {
         begin(elem, context);
         process(elem.getType(), context);
         if (elem.isVariableArity()) {
@@ -1387,7 +1443,7 @@ class EmitEngine extends StrictVisitor<Void, EmitContext, NoThrow> {
     }
 
     @Override
-    public Void visitDocText(DocText elem, EmitContext context) {
+    public Void visitDocText(DocText elem, EmitRecorder context) {
         begin(elem, context);
         if (elem.getString().startsWith(" ")) {
             context.symbol(elem.getString());
@@ -1398,7 +1454,7 @@ class EmitEngine extends StrictVisitor<Void, EmitContext, NoThrow> {
         return null;
     }
 
-    private void begin(Model elem, EmitContext context) {
+    private void begin(Model elem, EmitRecorder context) {
         return;
     }
 
@@ -1410,24 +1466,24 @@ class EmitEngine extends StrictVisitor<Void, EmitContext, NoThrow> {
         return elements.isEmpty() == false;
     }
 
-    private boolean process(Model element, EmitContext context) {
+    private boolean process(Model element, EmitRecorder context) {
         if (element == null) {
             return false;
         }
-        element.accept(this, context);
+        context.child(element);
         return true;
     }
 
     private boolean process(List<? extends Model> elements,
-            EmitContext context) {
+            EmitRecorder context) {
         for (Model element : elements) {
-            element.accept(this, context);
+            context.child(element);
         }
         return true;
     }
 
     private void processJoinWithComma(List<? extends Model> elements,
-            EmitContext context) {
+            EmitRecorder context) {
         Iterator<? extends Model> iter = elements.iterator();
         if (iter.hasNext()) {
             process(iter.next(), context);
@@ -1439,7 +1495,7 @@ class EmitEngine extends StrictVisitor<Void, EmitContext, NoThrow> {
     }
 
     private void processParameters(List<? extends Model> elements,
-            EmitContext context) {
+            EmitRecorder context) {
         // TODO indentation
         context.symbol("(");
         processJoinWithComma(elements, context);
@@ -1447,7 +1503,7 @@ class EmitEngine extends StrictVisitor<Void, EmitContext, NoThrow> {
     }
 
     private void processTypeParameters(List<? extends Model> elements,
-            EmitContext context) {
+            EmitRecorder context) {
         if (appears(elements)) {
             context.symbol("<");
             processJoinWithComma(elements, context);
@@ -1457,7 +1513,7 @@ class EmitEngine extends StrictVisitor<Void, EmitContext, NoThrow> {
 
     private void processCompilationUnitComment(
             CompilationUnit elem,
-            EmitContext context) {
+            EmitRecorder context) {
         CommentEmitTrait comment =
             elem.findModelTrait(CommentEmitTrait.class);
         if (comment == null) {
@@ -1466,7 +1522,7 @@ class EmitEngine extends StrictVisitor<Void, EmitContext, NoThrow> {
         context.putBlockComment(comment.getContents());
     }
 
-    private void processBlockComment(Model elem, EmitContext context) {
+    private void processBlockComment(Model elem, EmitRecorder context) {
         CommentEmitTrait comment =
             elem.findModelTrait(CommentEmitTrait.class);
         if (comment == null) {
@@ -1477,7 +1533,7 @@ class EmitEngine extends StrictVisitor<Void, EmitContext, NoThrow> {
         }
     }
 
-    private void processInlineComment(Model elem, EmitContext context) {
+    private void processInlineComment(Model elem, EmitRecorder context) {
         CommentEmitTrait comment =
             elem.findModelTrait(CommentEmitTrait.class);
         if (comment == null) {
@@ -0,0 +1,188 @@
+/*
+ * Copyright 2011 @ashigeru.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package com.ashigeru.lang.java.internal.model.util;
+
+import java.nio.charset.Charset;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.MessageFormat;
+import java.util.List;
+import java.util.Map;
+
+import com.ashigeru.lang.java.model.syntax.Model;
+import com.ashigeru.lang.java.model.syntax.PropertyKind;
+import com.ashigeru.lang.java.model.util.ModelFingerprint;
+
+/**
+ * {@link ModelFingerprint}の正準形式に従って、{@link Model}の指紋を算出する。
+ * @author ashigeru
+ */
+public final class ModelFingerprinter {
+
+    private static final Charset ENCODING = Charset.forName("UTF-8"); //$NON-NLS-1$
+
+    private static final String ALGORITHM = "MD5"; //$NON-NLS-1$
+
+    private static final MessageDigest PROTOTYPE = newDigest();
+
+    private ModelFingerprinter() {
+        throw new AssertionError();
+    }
+
+    /**
+     * 指定のモデルの指紋を返す。
+     * <p>
+     * 子要素の指紋には、それぞれの{@link ModelFingerprint#of(Model)}の値を利用する。
+     * </p>
+     * @param model 対象のモデル
+     * @return 対応する指紋
+     * @throws IllegalArgumentException 引数に{@code null}が含まれる場合
+     */
+    public static ModelFingerprint compute(Model model) {
+        if (model == null) {
+            throw new IllegalArgumentException("model must not be null"); //$NON-NLS-1$
+        }
+        return compute(model, null);
+    }
+
+    /**
+     * 子要素の指紋を指定の表から優先して取り出し、指定のモデルの指紋を返す。
+     * <p>
+     * 表に含まれない子要素の指紋には、それぞれの{@link ModelFingerprint#of(Model)}の値を利用する。
+     * 子要素は同一性によって表から検索される。
+     * </p>
+     * @param model 対象のモデル
+     * @param fingerprints 計算済みの子要素の指紋の表、利用しない場合は{@code null}
+     * @return 対応する指紋
+     * @throws IllegalArgumentException 引数{@code model}に{@code null}が指定された場合
+     */
+    public static ModelFingerprint compute(Model model, Map<Model, ModelFingerprint> fingerprints) {
+        if (model == null) {
+            throw new IllegalArgumentException("model must not be null"); //$NON-NLS-1$
+        }
+        MessageDigest digest = cloneDigest();
+        digestString(digest, model.getModelKind().name());
+        for (PropertyKind property : model.getModelKind().getProperties()) {
+            digestValue(digest, model.getProperty(property), fingerprints);
+        }
+        return ModelFingerprint.valueOf(digest.digest());
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(ALGORITHM);
+        }
+        catch (NoSuchAlgorithmException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    /**
+     * 子要素の指紋を計算する際に再入するため、呼び出しごとに新しいダイジェストを利用する。
+     * @return 初期状態のダイジェスト
+     */
+    private static MessageDigest cloneDigest() {
+        try {
+            return (MessageDigest) PROTOTYPE.clone();
+        }
+        catch (CloneNotSupportedException e) {
+            return newDigest();
+        }
+    }
+
+    private static void digestValue(
+            MessageDigest digest,
+            Object value,
+            Map<Model, ModelFingerprint> fingerprints) {
+        if (value == null) {
+            digest.update((byte) 0x00);
+        }
+        else if (value instanceof Model) {
+            digest.update((byte) 0x01);
+            digest.update(fingerprintOf((Model) value, fingerprints).toByteArray());
+        }
+        else if (value instanceof List<?>) {
+            List<?> list = (List<?>) value;
+            digest.update((byte) 0x02);
+            digestInt(digest, list.size());
+            for (int i = 0, n = list.size(); i < n; i++) {
+                digest.update(fingerprintOf((Model) list.get(i), fingerprints).toByteArray());
+            }
+        }
+        else if (value instanceof String) {
+            digest.update((byte) 0x03);
+            digestString(digest, (String) value);
+        }
+        else if (value instanceof Boolean) {
+            digest.update((byte) 0x04);
+            digest.update((byte) (((Boolean) value).booleanValue() ? 0x01 : 0x00));
+        }
+        else if (value instanceof Integer) {
+            digest.update((byte) 0x05);
+            digestInt(digest, ((Integer) value).intValue());
+        }
+        else if (value instanceof Enum<?>) {
+            digest.update((byte) 0x06);
+            digestString(digest, ((Enum<?>) value).name());
+        }
+        else {
+            throw new IllegalArgumentException(MessageFormat.format(
+                    "unsupported property value: {0}", //$NON-NLS-1$
+                    value.getClass().getName()));
+        }
+    }
+
+    private static ModelFingerprint fingerprintOf(
+            Model model,
+            Map<Model, ModelFingerprint> fingerprints) {
+        if (fingerprints != null) {
+            ModelFingerprint cached = fingerprints.get(model);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        return ModelFingerprint.of(model);
+    }
+
+    private static void digestString(MessageDigest digest, String value) {
+        byte[] bytes = value.getBytes(ENCODING);
+        digestInt(digest, bytes.length);
+        digest.update(bytes);
+    }
+
+    private static void digestInt(MessageDigest digest, int value) {
+        digest.update((byte) (value >>> 24));
+        digest.update((byte) (value >>> 16));
+        digest.update((byte) (value >>> 8));
+        digest.update((byte) value);
+    }
+
+    /**
+     * 自身の指紋をキャッシュするモデル。
+     * @author ashigeru
+     */
+    public interface Cacheable extends Model {
+
+        /**
+         * このモデルの指紋を返す。
+         * <p>
+         * モデルが凍結されている場合、一度計算した指紋はモデル自身にキャッシュされる。
+         * </p>
+         * @return このモデルの指紋
+         */
+        ModelFingerprint getFingerprint();
+    }
+}
@@ -1513,17 +1513,21 @@ public class ModelMatcher extends StrictVisitor<Boolean, Model, NoThrow> {
         if (a.getModelKind() != b.getModelKind()) {
             return Boolean.FALSE;
         }
-        return a.accept(this, b);
+        // Model.equals() may short-circuit by using its cached digest
+        return a.equals(b);
     }
 
     private Boolean match(
             List<? extends Model> a,
             List<? extends Model> b) {
+        if (a == b) {
+            return Boolean.TRUE;
+        }
         if (a.size() != b.size()) {
             return Boolean.FALSE;
         }
         for (int i = 0, n = a.size(); i < n; i++) {
-            if (a.get(i).accept(this, b.get(i)) == Boolean.FALSE) {
+            if (match(a.get(i), b.get(i)) == Boolean.FALSE) {
                 return Boolean.FALSE;
             }
         }
@@ -1539,6 +1543,10 @@ public class ModelMatcher extends StrictVisitor<Boolean, Model, NoThrow> {
     }
 
     private Boolean match(String a, String b) {
+        if (a == b) {
+            // identifiers are shared through IdentifierTable
+            return Boolean.TRUE;
+        }
         if (a == null) {
             return b == null;
         }
@@ -0,0 +1,1311 @@
+/*
+ * Copyright 2011 @ashigeru.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package com.ashigeru.lang.java.internal.model.util;
+
+import java.util.Arrays;
+import java.util.List;
+
+import com.ashigeru.lang.java.model.syntax.*;
+
+/**
+ * {@link PropertyKind}を利用して{@link Model}のプロパティを汎用的に取り扱う。
+ * <p>
+ * リフレクションやビジタを利用せず、プロパティの種類ごとの分岐のみで処理を行う。
+ * </p>
+ * @author ashigeru
+ */
+public final class ModelProperties {
+
+    private static final int[][] CHILD_SLOTS;
+    static {
+        ModelKind[] kinds = ModelKind.values();
+        CHILD_SLOTS = new int[kinds.length][];
+        for (ModelKind kind : kinds) {
+            List<PropertyKind> properties = kind.getProperties();
+            int[] slots = new int[properties.size()];
+            int count = 0;
+            for (int i = 0, n = properties.size(); i < n; i++) {
+                Class<?> type = getType(properties.get(i));
+                if (type == List.class || Model.class.isAssignableFrom(type)) {
+                    slots[count++] = i;
+                }
+            }
+            CHILD_SLOTS[kind.ordinal()] = Arrays.copyOf(slots, count);
+        }
+    }
+
+    /**
+     * 指定のモデルが有するプロパティの値を返す。
+     * <p>
+     * プロパティが{@code int}や{@code boolean}の値を保持する場合、それらはボクシングされて返される。
+     * </p>
+     * @param model 対象のモデル
+     * @param property 対象のプロパティ
+     * @return 対応するプロパティの値、値が存在しない場合は{@code null}
+     * @throws IllegalArgumentException 指定のプロパティを対象のモデルが有していない場合、
+     *     または引数に{@code null}が含まれる場合
+     */
+    public static Object get(Model model, PropertyKind property) {
+        if (model == null) {
+            throw new IllegalArgumentException("model must not be null"); //$NON-NLS-1$
+        }
+        if (property == null) {
+            throw new IllegalArgumentException("property must not be null"); //$NON-NLS-1$
+        }
+        if (property.getOwnerType().isInstance(model) == false) {
+            throw new IllegalArgumentException(java.text.MessageFormat.format(
+                    "{0} does not have {1}", //$NON-NLS-1$
+                    model.getModelKind(),
+                    property));
+        }
+        switch (property) {
+        case ANNOTATION_ELEMENT_DECLARATION_DEFAULT_EXPRESSION:
+            return ((AnnotationElementDeclaration) model).getDefaultExpression();
+        case ANNOTATION_ELEMENT_DECLARATION_NAME:
+            return ((AnnotationElementDeclaration) model).getName();
+        case ANNOTATION_ELEMENT_DECLARATION_TYPE:
+            return ((AnnotationElementDeclaration) model).getType();
+        case ANNOTATION_ELEMENT_EXPRESSION:
+            return ((AnnotationElement) model).getExpression();
+        case ANNOTATION_ELEMENT_NAME:
+            return ((AnnotationElement) model).getName();
+        case ANNOTATION_TYPE:
+            return ((Annotation) model).getType();
+        case ARRAY_ACCESS_EXPRESSION_ARRAY:
+            return ((ArrayAccessExpression) model).getArray();
+        case ARRAY_ACCESS_EXPRESSION_INDEX:
+            return ((ArrayAccessExpression) model).getIndex();
+        case ARRAY_CREATION_EXPRESSION_ARRAY_INITIALIZER:
+            return ((ArrayCreationExpression) model).getArrayInitializer();
+        case ARRAY_CREATION_EXPRESSION_DIMENSION_EXPRESSIONS:
+            return ((ArrayCreationExpression) model).getDimensionExpressions();
+        case ARRAY_CREATION_EXPRESSION_TYPE:
+            return ((ArrayCreationExpression) model).getType();
+        case ARRAY_INITIALIZER_ELEMENTS:
+            return ((ArrayInitializer) model).getElements();
+        case ARRAY_TYPE_COMPONENT_TYPE:
+            return ((ArrayType) model).getComponentType();
+        case ASSERT_STATEMENT_EXPRESSION:
+            return ((AssertStatement) model).getExpression();
+        case ASSERT_STATEMENT_MESSAGE:
+            return ((AssertStatement) model).getMessage();
+        case ASSIGNMENT_EXPRESSION_LEFT_HAND_SIDE:
+            return ((AssignmentExpression) model).getLeftHandSide();
+        case ASSIGNMENT_EXPRESSION_OPERATOR:
+            return ((AssignmentExpression) model).getOperator();
+        case ASSIGNMENT_EXPRESSION_RIGHT_HAND_SIDE:
+            return ((AssignmentExpression) model).getRightHandSide();
+        case BASIC_TYPE_TYPE_KIND:
+            return ((BasicType) model).getTypeKind();
+        case BLOCK_COMMENT_STRING:
+            return ((BlockComment) model).getString();
+        case BLOCK_STATEMENTS:
+            return ((Block) model).getStatements();
+        case BRANCH_STATEMENT_TARGET:
+            return ((BranchStatement) model).getTarget();
+        case CAST_EXPRESSION_EXPRESSION:
+            return ((CastExpression) model).getExpression();
+        case CAST_EXPRESSION_TYPE:
+            return ((CastExpression) model).getType();
+        case CATCH_CLAUSE_BODY:
+            return ((CatchClause) model).getBody();
+        case CATCH_CLAUSE_PARAMETER:
+            return ((CatchClause) model).getParameter();
+        case CLASS_BODY_BODY_DECLARATIONS:
+            return ((ClassBody) model).getBodyDeclarations();
+        case CLASS_DECLARATION_SUPER_CLASS:
+            return ((ClassDeclaration) model).getSuperClass();
+        case CLASS_DECLARATION_SUPER_INTERFACE_TYPES:
+            return ((ClassDeclaration) model).getSuperInterfaceTypes();
+        case CLASS_DECLARATION_TYPE_PARAMETERS:
+            return ((ClassDeclaration) model).getTypeParameters();
+        case CLASS_INSTANCE_CREATION_EXPRESSION_ARGUMENTS:
+            return ((ClassInstanceCreationExpression) model).getArguments();
+        case CLASS_INSTANCE_CREATION_EXPRESSION_BODY:
+            return ((ClassInstanceCreationExpression) model).getBody();
+        case CLASS_INSTANCE_CREATION_EXPRESSION_QUALIFIER:
+            return ((ClassInstanceCreationExpression) model).getQualifier();
+        case CLASS_INSTANCE_CREATION_EXPRESSION_TYPE:
+            return ((ClassInstanceCreationExpression) model).getType();
+        case CLASS_INSTANCE_CREATION_EXPRESSION_TYPE_ARGUMENTS:
+            return ((ClassInstanceCreationExpression) model).getTypeArguments();
+        case CLASS_LITERAL_TYPE:
+            return ((ClassLiteral) model).getType();
+        case COMPILATION_UNIT_COMMENTS:
+            return ((CompilationUnit) model).getComments();
+        case COMPILATION_UNIT_IMPORT_DECLARATIONS:
+            return ((CompilationUnit) model).getImportDeclarations();
+        case COMPILATION_UNIT_PACKAGE_DECLARATION:
+            return ((CompilationUnit) model).getPackageDeclaration();
+        case COMPILATION_UNIT_TYPE_DECLARATIONS:
+            return ((CompilationUnit) model).getTypeDeclarations();
+        case CONDITIONAL_EXPRESSION_CONDITION:
+            return ((ConditionalExpression) model).getCondition();
+        case CONDITIONAL_EXPRESSION_ELSE_EXPRESSION:
+            return ((ConditionalExpression) model).getElseExpression();
+        case CONDITIONAL_EXPRESSION_THEN_EXPRESSION:
+            return ((ConditionalExpression) model).getThenExpression();
+        case CONSTRUCTOR_INVOCATION_ARGUMENTS:
+            return ((ConstructorInvocation) model).getArguments();
+        case CONSTRUCTOR_INVOCATION_TYPE_ARGUMENTS:
+            return ((ConstructorInvocation) model).getTypeArguments();
+        case DOC_BLOCK_ELEMENTS:
+            return ((DocBlock) model).getElements();
+        case DOC_BLOCK_TAG:
+            return ((DocBlock) model).getTag();
+        case DOC_FIELD_NAME:
+            return ((DocField) model).getName();
+        case DOC_FIELD_TYPE:
+            return ((DocField) model).getType();
+        case DOC_METHOD_FORMAL_PARAMETERS:
+            return ((DocMethod) model).getFormalParameters();
+        case DOC_METHOD_NAME:
+            return ((DocMethod) model).getName();
+        case DOC_METHOD_PARAMETER_NAME:
+            return ((DocMethodParameter) model).getName();
+        case DOC_METHOD_PARAMETER_TYPE:
+            return ((DocMethodParameter) model).getType();
+        case DOC_METHOD_PARAMETER_VARIABLE_ARITY:
+            return ((DocMethodParameter) model).isVariableArity();
+        case DOC_METHOD_TYPE:
+            return ((DocMethod) model).getType();
+        case DOC_TEXT_STRING:
+            return ((DocText) model).getString();
+        case DO_STATEMENT_BODY:
+            return ((DoStatement) model).getBody();
+        case DO_STATEMENT_CONDITION:
+            return ((DoStatement) model).getCondition();
+        case ENHANCED_FOR_STATEMENT_BODY:
+            return ((EnhancedForStatement) model).getBody();
+        case ENHANCED_FOR_STATEMENT_EXPRESSION:
+            return ((EnhancedForStatement) model).getExpression();
+        case ENHANCED_FOR_STATEMENT_PARAMETER:
+            return ((EnhancedForStatement) model).getParameter();
+        case ENUM_CONSTANT_DECLARATION_ARGUMENTS:
+            return ((EnumConstantDeclaration) model).getArguments();
+        case ENUM_CONSTANT_DECLARATION_BODY:
+            return ((EnumConstantDeclaration) model).getBody();
+        case ENUM_CONSTANT_DECLARATION_NAME:
+            return ((EnumConstantDeclaration) model).getName();
+        case ENUM_DECLARATION_CONSTANT_DECLARATIONS:
+            return ((EnumDeclaration) model).getConstantDeclarations();
+        case ENUM_DECLARATION_SUPER_INTERFACE_TYPES:
+            return ((EnumDeclaration) model).getSuperInterfaceTypes();
+        case EXPRESSION_STATEMENT_EXPRESSION:
+            return ((ExpressionStatement) model).getExpression();
+        case FIELD_ACCESS_EXPRESSION_NAME:
+            return ((FieldAccessExpression) model).getName();
+        case FIELD_ACCESS_EXPRESSION_QUALIFIER:
+            return ((FieldAccessExpression) model).getQualifier();
+        case FIELD_DECLARATION_TYPE:
+            return ((FieldDeclaration) model).getType();
+        case FIELD_DECLARATION_VARIABLE_DECLARATORS:
+            return ((FieldDeclaration) model).getVariableDeclarators();
+        case FORMAL_PARAMETER_DECLARATION_EXTRA_DIMENSIONS:
+            return ((FormalParameterDeclaration) model).getExtraDimensions();
+        case FORMAL_PARAMETER_DECLARATION_MODIFIERS:
+            return ((FormalParameterDeclaration) model).getModifiers();
+        case FORMAL_PARAMETER_DECLARATION_NAME:
+            return ((FormalParameterDeclaration) model).getName();
+        case FORMAL_PARAMETER_DECLARATION_TYPE:
+            return ((FormalParameterDeclaration) model).getType();
+        case FORMAL_PARAMETER_DECLARATION_VARIABLE_ARITY:
+            return ((FormalParameterDeclaration) model).isVariableArity();
+        case FOR_STATEMENT_BODY:
+            return ((ForStatement) model).getBody();
+        case FOR_STATEMENT_CONDITION:
+            return ((ForStatement) model).getCondition();
+        case FOR_STATEMENT_INITIALIZATION:
+            return ((ForStatement) model).getInitialization();
+        case FOR_STATEMENT_UPDATE:
+            return ((ForStatement) model).getUpdate();
+        case IF_STATEMENT_CONDITION:
+            return ((IfStatement) model).getCondition();
+        case IF_STATEMENT_ELSE_STATEMENT:
+            return ((IfStatement) model).getElseStatement();
+        case IF_STATEMENT_THEN_STATEMENT:
+            return ((IfStatement) model).getThenStatement();
+        case IMPORT_DECLARATION_IMPORT_KIND:
+            return ((ImportDeclaration) model).getImportKind();
+        case IMPORT_DECLARATION_NAME:
+            return ((ImportDeclaration) model).getName();
+        case INFIX_EXPRESSION_LEFT_OPERAND:
+            return ((InfixExpression) model).getLeftOperand();
+        case INFIX_EXPRESSION_OPERATOR:
+            return ((InfixExpression) model).getOperator();
+        case INFIX_EXPRESSION_RIGHT_OPERAND:
+            return ((InfixExpression) model).getRightOperand();
+        case INITIALIZER_DECLARATION_BODY:
+            return ((InitializerDeclaration) model).getBody();
+        case INSTANCEOF_EXPRESSION_EXPRESSION:
+            return ((InstanceofExpression) model).getExpression();
+        case INSTANCEOF_EXPRESSION_TYPE:
+            return ((InstanceofExpression) model).getType();
+        case INTERFACE_DECLARATION_SUPER_INTERFACE_TYPES:
+            return ((InterfaceDeclaration) model).getSuperInterfaceTypes();
+        case INTERFACE_DECLARATION_TYPE_PARAMETERS:
+            return ((InterfaceDeclaration) model).getTypeParameters();
+        case JAVADOC_BLOCKS:
+            return ((Javadoc) model).getBlocks();
+        case KEYWORD_QUALIFIER:
+            return ((Keyword) model).getQualifier();
+        case LABELED_STATEMENT_BODY:
+            return ((LabeledStatement) model).getBody();
+        case LABELED_STATEMENT_LABEL:
+            return ((LabeledStatement) model).getLabel();
+        case LINE_COMMENT_STRING:
+            return ((LineComment) model).getString();
+        case LITERAL_TOKEN:
+            return ((Literal) model).getToken();
+        case LOCAL_CLASS_DECLARATION_DECLARATION:
+            return ((LocalClassDeclaration) model).getDeclaration();
+        case LOCAL_VARIABLE_DECLARATION_MODIFIERS:
+            return ((LocalVariableDeclaration) model).getModifiers();
+        case LOCAL_VARIABLE_DECLARATION_TYPE:
+            return ((LocalVariableDeclaration) model).getType();
+        case LOCAL_VARIABLE_DECLARATION_VARIABLE_DECLARATORS:
+            return ((LocalVariableDeclaration) model).getVariableDeclarators();
+        case METHOD_DECLARATION_EXTRA_DIMENSIONS:
+            return ((MethodDeclaration) model).getExtraDimensions();
+        case METHOD_DECLARATION_RETURN_TYPE:
+            return ((MethodDeclaration) model).getReturnType();
+        case METHOD_INVOCATION_EXPRESSION_ARGUMENTS:
+            return ((MethodInvocationExpression) model).getArguments();
+        case METHOD_INVOCATION_EXPRESSION_NAME:
+            return ((MethodInvocationExpression) model).getName();
+        case METHOD_INVOCATION_EXPRESSION_QUALIFIER:
+            return ((MethodInvocationExpression) model).getQualifier();
+        case METHOD_INVOCATION_EXPRESSION_TYPE_ARGUMENTS:
+            return ((MethodInvocationExpression) model).getTypeArguments();
+        case METHOD_OR_CONSTRUCTOR_DECLARATION_BODY:
+            return ((MethodOrConstructorDeclaration) model).getBody();
+        case METHOD_OR_CONSTRUCTOR_DECLARATION_EXCEPTION_TYPES:
+            return ((MethodOrConstructorDeclaration) model).getExceptionTypes();
+        case METHOD_OR_CONSTRUCTOR_DECLARATION_FORMAL_PARAMETERS:
+            return ((MethodOrConstructorDeclaration) model).getFormalParameters();
+        case METHOD_OR_CONSTRUCTOR_DECLARATION_NAME:
+            return ((MethodOrConstructorDeclaration) model).getName();
+        case METHOD_OR_CONSTRUCTOR_DECLARATION_TYPE_PARAMETERS:
+            return ((MethodOrConstructorDeclaration) model).getTypeParameters();
+        case MODIFIER_MODIFIER_KIND:
+            return ((Modifier) model).getModifierKind();
+        case NAMED_TYPE_NAME:
+            return ((NamedType) model).getName();
+        case NORMAL_ANNOTATION_ELEMENTS:
+            return ((NormalAnnotation) model).getElements();
+        case PACKAGE_DECLARATION_ANNOTATIONS:
+            return ((PackageDeclaration) model).getAnnotations();
+        case PACKAGE_DECLARATION_JAVADOC:
+            return ((PackageDeclaration) model).getJavadoc();
+        case PACKAGE_DECLARATION_NAME:
+            return ((PackageDeclaration) model).getName();
+        case PARAMETERIZED_TYPE_TYPE:
+            return ((ParameterizedType) model).getType();
+        case PARAMETERIZED_TYPE_TYPE_ARGUMENTS:
+            return ((ParameterizedType) model).getTypeArguments();
+        case PARENTHESIZED_EXPRESSION_EXPRESSION:
+            return ((ParenthesizedExpression) model).getExpression();
+        case POSTFIX_EXPRESSION_OPERAND:
+            return ((PostfixExpression) model).getOperand();
+        case POSTFIX_EXPRESSION_OPERATOR:
+            return ((PostfixExpression) model).getOperator();
+        case QUALIFIED_NAME_QUALIFIER:
+            return ((QualifiedName) model).getQualifier();
+        case QUALIFIED_NAME_SIMPLE_NAME:
+            return ((QualifiedName) model).getSimpleName();
+        case QUALIFIED_TYPE_QUALIFIER:
+            return ((QualifiedType) model).getQualifier();
+        case QUALIFIED_TYPE_SIMPLE_NAME:
+            return ((QualifiedType) model).getSimpleName();
+        case RETURN_STATEMENT_EXPRESSION:
+            return ((ReturnStatement) model).getExpression();
+        case SIMPLE_NAME_STRING:
+            return ((SimpleName) model).getToken();
+        case SINGLE_ELEMENT_ANNOTATION_EXPRESSION:
+            return ((SingleElementAnnotation) model).getExpression();
+        case STATEMENT_EXPRESSION_LIST_EXPRESSIONS:
+            return ((StatementExpressionList) model).getExpressions();
+        case SUPER_CONSTRUCTOR_INVOCATION_QUALIFIER:
+            return ((SuperConstructorInvocation) model).getQualifier();
+        case SWITCH_CASE_LABEL_EXPRESSION:
+            return ((SwitchCaseLabel) model).getExpression();
+        case SWITCH_STATEMENT_EXPRESSION:
+            return ((SwitchStatement) model).getExpression();
+        case SWITCH_STATEMENT_STATEMENTS:
+            return ((SwitchStatement) model).getStatements();
+        case SYNCHRONIZED_STATEMENT_BODY:
+            return ((SynchronizedStatement) model).getBody();
+        case SYNCHRONIZED_STATEMENT_EXPRESSION:
+            return ((SynchronizedStatement) model).getExpression();
+        case THROW_STATEMENT_EXPRESSION:
+            return ((ThrowStatement) model).getExpression();
+        case TRY_STATEMENT_CATCH_CLAUSES:
+            return ((TryStatement) model).getCatchClauses();
+        case TRY_STATEMENT_FINALLY_BLOCK:
+            return ((TryStatement) model).getFinallyBlock();
+        case TRY_STATEMENT_TRY_BLOCK:
+            return ((TryStatement) model).getTryBlock();
+        case TYPE_BODY_DECLARATION_JAVADOC:
+            return ((TypeBodyDeclaration) model).getJavadoc();
+        case TYPE_BODY_DECLARATION_MODIFIERS:
+            return ((TypeBodyDeclaration) model).getModifiers();
+        case TYPE_DECLARATION_BODY_DECLARATIONS:
+            return ((TypeDeclaration) model).getBodyDeclarations();
+        case TYPE_DECLARATION_NAME:
+            return ((TypeDeclaration) model).getName();
+        case TYPE_PARAMETER_DECLARATION_NAME:
+            return ((TypeParameterDeclaration) model).getName();
+        case TYPE_PARAMETER_DECLARATION_TYPE_BOUNDS:
+            return ((TypeParameterDeclaration) model).getTypeBounds();
+        case UNARY_EXPRESSION_OPERAND:
+            return ((UnaryExpression) model).getOperand();
+        case UNARY_EXPRESSION_OPERATOR:
+            return ((UnaryExpression) model).getOperator();
+        case VARIABLE_DECLARATOR_EXTRA_DIMENSIONS:
+            return ((VariableDeclarator) model).getExtraDimensions();
+        case VARIABLE_DECLARATOR_INITIALIZER:
+            return ((VariableDeclarator) model).getInitializer();
+        case VARIABLE_DECLARATOR_NAME:
+            return ((VariableDeclarator) model).getName();
+        case WHILE_STATEMENT_BODY:
+            return ((WhileStatement) model).getBody();
+        case WHILE_STATEMENT_CONDITION:
+            return ((WhileStatement) model).getCondition();
+        case WILDCARD_BOUND_KIND:
+            return ((Wildcard) model).getBoundKind();
+        case WILDCARD_TYPE_BOUND:
+            return ((Wildcard) model).getTypeBound();
+        default:
+            throw new AssertionError(property);
+        }
+    }
+
+    /**
+     * 指定のプロパティが保持する値の型を返す。
+     * <p>
+     * プロパティがリストを保持する場合は{@link List}を、
+     * 基本型の値を保持する場合はその基本型を返す。
+     * </p>
+     * @param property 対象のプロパティ
+     * @return 対応する値の型
+     * @throws IllegalArgumentException 引数に{@code null}が指定された場合
+     */
+    public static Class<?> getType(PropertyKind property) {
+        if (property == null) {
+            throw new IllegalArgumentException("property must not be null"); //$NON-NLS-1$
+        }
+        switch (property) {
+        case ANNOTATION_ELEMENT_DECLARATION_DEFAULT_EXPRESSION:
+            return Expression.class;
+        case ANNOTATION_ELEMENT_DECLARATION_NAME:
+            return SimpleName.class;
+        case ANNOTATION_ELEMENT_DECLARATION_TYPE:
+            return Type.class;
+        case ANNOTATION_ELEMENT_EXPRESSION:
+            return Expression.class;
+        case ANNOTATION_ELEMENT_NAME:
+            return SimpleName.class;
+        case ANNOTATION_TYPE:
+            return NamedType.class;
+        case ARRAY_ACCESS_EXPRESSION_ARRAY:
+            return Expression.class;
+        case ARRAY_ACCESS_EXPRESSION_INDEX:
+            return Expression.class;
+        case ARRAY_CREATION_EXPRESSION_ARRAY_INITIALIZER:
+            return ArrayInitializer.class;
+        case ARRAY_CREATION_EXPRESSION_DIMENSION_EXPRESSIONS:
+            return List.class;
+        case ARRAY_CREATION_EXPRESSION_TYPE:
+            return ArrayType.class;
+        case ARRAY_INITIALIZER_ELEMENTS:
+            return List.class;
+        case ARRAY_TYPE_COMPONENT_TYPE:
+            return Type.class;
+        case ASSERT_STATEMENT_EXPRESSION:
+            return Expression.class;
+        case ASSERT_STATEMENT_MESSAGE:
+            return Expression.class;
+        case ASSIGNMENT_EXPRESSION_LEFT_HAND_SIDE:
+            return Expression.class;
+        case ASSIGNMENT_EXPRESSION_OPERATOR:
+            return InfixOperator.class;
+        case ASSIGNMENT_EXPRESSION_RIGHT_HAND_SIDE:
+            return Expression.class;
+        case BASIC_TYPE_TYPE_KIND:
+            return BasicTypeKind.class;
+        case BLOCK_COMMENT_STRING:
+            return String.class;
+        case BLOCK_STATEMENTS:
+            return List.class;
+        case BRANCH_STATEMENT_TARGET:
+            return SimpleName.class;
+        case CAST_EXPRESSION_EXPRESSION:
+            return Expression.class;
+        case CAST_EXPRESSION_TYPE:
+            return Type.class;
+        case CATCH_CLAUSE_BODY:
+            return Block.class;
+        case CATCH_CLAUSE_PARAMETER:
+            return FormalParameterDeclaration.class;
+        case CLASS_BODY_BODY_DECLARATIONS:
+            return List.class;
+        case CLASS_DECLARATION_SUPER_CLASS:
+            return Type.class;
+        case CLASS_DECLARATION_SUPER_INTERFACE_TYPES:
+            return List.class;
+        case CLASS_DECLARATION_TYPE_PARAMETERS:
+            return List.class;
+        case CLASS_INSTANCE_CREATION_EXPRESSION_ARGUMENTS:
+            return List.class;
+        case CLASS_INSTANCE_CREATION_EXPRESSION_BODY:
+            return ClassBody.class;
+        case CLASS_INSTANCE_CREATION_EXPRESSION_QUALIFIER:
+            return Expression.class;
+        case CLASS_INSTANCE_CREATION_EXPRESSION_TYPE:
+            return Type.class;
+        case CLASS_INSTANCE_CREATION_EXPRESSION_TYPE_ARGUMENTS:
+            return List.class;
+        case CLASS_LITERAL_TYPE:
+            return Type.class;
+        case COMPILATION_UNIT_COMMENTS:
+            return List.class;
+        case COMPILATION_UNIT_IMPORT_DECLARATIONS:
+            return List.class;
+        case COMPILATION_UNIT_PACKAGE_DECLARATION:
+            return PackageDeclaration.class;
+        case COMPILATION_UNIT_TYPE_DECLARATIONS:
+            return List.class;
+        case CONDITIONAL_EXPRESSION_CONDITION:
+            return Expression.class;
+        case CONDITIONAL_EXPRESSION_ELSE_EXPRESSION:
+            return Expression.class;
+        case CONDITIONAL_EXPRESSION_THEN_EXPRESSION:
+            return Expression.class;
+        case CONSTRUCTOR_INVOCATION_ARGUMENTS:
+            return List.class;
+        case CONSTRUCTOR_INVOCATION_TYPE_ARGUMENTS:
+            return List.class;
+        case DOC_BLOCK_ELEMENTS:
+            return List.class;
+        case DOC_BLOCK_TAG:
+            return String.class;
+        case DOC_FIELD_NAME:
+            return SimpleName.class;
+        case DOC_FIELD_TYPE:
+            return Type.class;
+        case DOC_METHOD_FORMAL_PARAMETERS:
+            return List.class;
+        case DOC_METHOD_NAME:
+            return SimpleName.class;
+        case DOC_METHOD_PARAMETER_NAME:
+            return SimpleName.class;
+        case DOC_METHOD_PARAMETER_TYPE:
+            return Type.class;
+        case DOC_METHOD_PARAMETER_VARIABLE_ARITY:
+            return boolean.class;
+        case DOC_METHOD_TYPE:
+            return Type.class;
+        case DOC_TEXT_STRING:
+            return String.class;
+        case DO_STATEMENT_BODY:
+            return Statement.class;
+        case DO_STATEMENT_CONDITION:
+            return Expression.class;
+        case ENHANCED_FOR_STATEMENT_BODY:
+            return Statement.class;
+        case ENHANCED_FOR_STATEMENT_EXPRESSION:
+            return Expression.class;
+        case ENHANCED_FOR_STATEMENT_PARAMETER:
+            return FormalParameterDeclaration.class;
+        case ENUM_CONSTANT_DECLARATION_ARGUMENTS:
+            return List.class;
+        case ENUM_CONSTANT_DECLARATION_BODY:
+            return ClassBody.class;
+        case ENUM_CONSTANT_DECLARATION_NAME:
+            return SimpleName.class;
+        case ENUM_DECLARATION_CONSTANT_DECLARATIONS:
+            return List.class;
+        case ENUM_DECLARATION_SUPER_INTERFACE_TYPES:
+            return List.class;
+        case EXPRESSION_STATEMENT_EXPRESSION:
+            return Expression.class;
+        case FIELD_ACCESS_EXPRESSION_NAME:
+            return SimpleName.class;
+        case FIELD_ACCESS_EXPRESSION_QUALIFIER:
+            return Expression.class;
+        case FIELD_DECLARATION_TYPE:
+            return Type.class;
+        case FIELD_DECLARATION_VARIABLE_DECLARATORS:
+            return List.class;
+        case FORMAL_PARAMETER_DECLARATION_EXTRA_DIMENSIONS:
+            return int.class;
+        case FORMAL_PARAMETER_DECLARATION_MODIFIERS:
+            return List.class;
+        case FORMAL_PARAMETER_DECLARATION_NAME:
+            return SimpleName.class;
+        case FORMAL_PARAMETER_DECLARATION_TYPE:
+            return Type.class;
+        case FORMAL_PARAMETER_DECLARATION_VARIABLE_ARITY:
+            return boolean.class;
+        case FOR_STATEMENT_BODY:
+            return Statement.class;
+        case FOR_STATEMENT_CONDITION:
+            return Expression.class;
+        case FOR_STATEMENT_INITIALIZATION:
+            return ForInitializer.class;
+        case FOR_STATEMENT_UPDATE:
+            return StatementExpressionList.class;
+        case IF_STATEMENT_CONDITION:
+            return Expression.class;
+        case IF_STATEMENT_ELSE_STATEMENT:
+            return Statement.class;
+        case IF_STATEMENT_THEN_STATEMENT:
+            return Statement.class;
+        case IMPORT_DECLARATION_IMPORT_KIND:
+            return ImportKind.class;
+        case IMPORT_DECLARATION_NAME:
+            return Name.class;
+        case INFIX_EXPRESSION_LEFT_OPERAND:
+            return Expression.class;
+        case INFIX_EXPRESSION_OPERATOR:
+            return InfixOperator.class;
+        case INFIX_EXPRESSION_RIGHT_OPERAND:
+            return Expression.class;
+        case INITIALIZER_DECLARATION_BODY:
+            return Block.class;
+        case INSTANCEOF_EXPRESSION_EXPRESSION:
+            return Expression.class;
+        case INSTANCEOF_EXPRESSION_TYPE:
+            return Type.class;
+        case INTERFACE_DECLARATION_SUPER_INTERFACE_TYPES:
+            return List.class;
+        case INTERFACE_DECLARATION_TYPE_PARAMETERS:
+            return List.class;
+        case JAVADOC_BLOCKS:
+            return List.class;
+        case KEYWORD_QUALIFIER:
+            return NamedType.class;
+        case LABELED_STATEMENT_BODY:
+            return Statement.class;
+        case LABELED_STATEMENT_LABEL:
+            return SimpleName.class;
+        case LINE_COMMENT_STRING:
+            return String.class;
+        case LITERAL_TOKEN:
+            return String.class;
+        case LOCAL_CLASS_DECLARATION_DECLARATION:
+            return ClassDeclaration.class;
+        case LOCAL_VARIABLE_DECLARATION_MODIFIERS:
+            return List.class;
+        case LOCAL_VARIABLE_DECLARATION_TYPE:
+            return Type.class;
+        case LOCAL_VARIABLE_DECLARATION_VARIABLE_DECLARATORS:
+            return List.class;
+        case METHOD_DECLARATION_EXTRA_DIMENSIONS:
+            return int.class;
+        case METHOD_DECLARATION_RETURN_TYPE:
+            return Type.class;
+        case METHOD_INVOCATION_EXPRESSION_ARGUMENTS:
+            return List.class;
+        case METHOD_INVOCATION_EXPRESSION_NAME:
+            return SimpleName.class;
+        case METHOD_INVOCATION_EXPRESSION_QUALIFIER:
+            return Expression.class;
+        case METHOD_INVOCATION_EXPRESSION_TYPE_ARGUMENTS:
+            return List.class;
+        case METHOD_OR_CONSTRUCTOR_DECLARATION_BODY:
+            return Block.class;
+        case METHOD_OR_CONSTRUCTOR_DECLARATION_EXCEPTION_TYPES:
+            return List.class;
+        case METHOD_OR_CONSTRUCTOR_DECLARATION_FORMAL_PARAMETERS:
+            return List.class;
+        case METHOD_OR_CONSTRUCTOR_DECLARATION_NAME:
+            return SimpleName.class;
+        case METHOD_OR_CONSTRUCTOR_DECLARATION_TYPE_PARAMETERS:
+            return List.class;
+        case MODIFIER_MODIFIER_KIND:
+            return ModifierKind.class;
+        case NAMED_TYPE_NAME:
+            return Name.class;
+        case NORMAL_ANNOTATION_ELEMENTS:
+            return List.class;
+        case PACKAGE_DECLARATION_ANNOTATIONS:
+            return List.class;
+        case PACKAGE_DECLARATION_JAVADOC:
+            return Javadoc.class;
+        case PACKAGE_DECLARATION_NAME:
+            return Name.class;
+        case PARAMETERIZED_TYPE_TYPE:
+            return Type.class;
+        case PARAMETERIZED_TYPE_TYPE_ARGUMENTS:
+            return List.class;
+        case PARENTHESIZED_EXPRESSION_EXPRESSION:
+            return Expression.class;
+        case POSTFIX_EXPRESSION_OPERAND:
+            return Expression.class;
+        case POSTFIX_EXPRESSION_OPERATOR:
+            return PostfixOperator.class;
+        case QUALIFIED_NAME_QUALIFIER:
+            return Name.class;
+        case QUALIFIED_NAME_SIMPLE_NAME:
+            return SimpleName.class;
+        case QUALIFIED_TYPE_QUALIFIER:
+            return Type.class;
+        case QUALIFIED_TYPE_SIMPLE_NAME:
+            return SimpleName.class;
+        case RETURN_STATEMENT_EXPRESSION:
+            return Expression.class;
+        case SIMPLE_NAME_STRING:
+            return String.class;
+        case SINGLE_ELEMENT_ANNOTATION_EXPRESSION:
+            return Expression.class;
+        case STATEMENT_EXPRESSION_LIST_EXPRESSIONS:
+            return List.class;
+        case SUPER_CONSTRUCTOR_INVOCATION_QUALIFIER:
+            return Expression.class;
+        case SWITCH_CASE_LABEL_EXPRESSION:
+            return Expression.class;
+        case SWITCH_STATEMENT_EXPRESSION:
+            return Expression.class;
+        case SWITCH_STATEMENT_STATEMENTS:
+            return List.class;
+        case SYNCHRONIZED_STATEMENT_BODY:
+            return Block.class;
+        case SYNCHRONIZED_STATEMENT_EXPRESSION:
+            return Expression.class;
+        case THROW_STATEMENT_EXPRESSION:
+            return Expression.class;
+        case TRY_STATEMENT_CATCH_CLAUSES:
+            return List.class;
+        case TRY_STATEMENT_FINALLY_BLOCK:
+            return Block.class;
+        case TRY_STATEMENT_TRY_BLOCK:
+            return Block.class;
+        case TYPE_BODY_DECLARATION_JAVADOC:
+            return Javadoc.class;
+        case TYPE_BODY_DECLARATION_MODIFIERS:
+            return List.class;
+        case TYPE_DECLARATION_BODY_DECLARATIONS:
+            return List.class;
+        case TYPE_DECLARATION_NAME:
+            return SimpleName.class;
+        case TYPE_PARAMETER_DECLARATION_NAME:
+            return SimpleName.class;
+        case TYPE_PARAMETER_DECLARATION_TYPE_BOUNDS:
+            return List.class;
+        case UNARY_EXPRESSION_OPERAND:
+            return Expression.class;
+        case UNARY_EXPRESSION_OPERATOR:
+            return UnaryOperator.class;
+        case VARIABLE_DECLARATOR_EXTRA_DIMENSIONS:
+            return int.class;
+        case VARIABLE_DECLARATOR_INITIALIZER:
+            return Expression.class;
+        case VARIABLE_DECLARATOR_NAME:
+            return SimpleName.class;
+        case WHILE_STATEMENT_BODY:
+            return Statement.class;
+        case WHILE_STATEMENT_CONDITION:
+            return Expression.class;
+        case WILDCARD_BOUND_KIND:
+            return WildcardBoundKind.class;
+        case WILDCARD_TYPE_BOUND:
+            return Type.class;
+        default:
+            throw new AssertionError(property);
+        }
+    }
+
+    /**
+     * 指定のプロパティがリストを保持する場合に、その要素の型を返す。
+     * @param property 対象のプロパティ
+     * @return 要素の型、リストを保持しないプロパティの場合は{@code null}
+     * @throws IllegalArgumentException 引数に{@code null}が指定された場合
+     */
+    public static Class<? extends Model> getElementType(PropertyKind property) {
+        if (property == null) {
+            throw new IllegalArgumentException("property must not be null"); //$NON-NLS-1$
+        }
+        switch (property) {
+        case ARRAY_CREATION_EXPRESSION_DIMENSION_EXPRESSIONS:
+            return Expression.class;
+        case ARRAY_INITIALIZER_ELEMENTS:
+            return Expression.class;
+        case BLOCK_STATEMENTS:
+            return Statement.class;
+        case CLASS_BODY_BODY_DECLARATIONS:
+            return TypeBodyDeclaration.class;
+        case CLASS_DECLARATION_SUPER_INTERFACE_TYPES:
+            return Type.class;
+        case CLASS_DECLARATION_TYPE_PARAMETERS:
+            return TypeParameterDeclaration.class;
+        case CLASS_INSTANCE_CREATION_EXPRESSION_ARGUMENTS:
+            return Expression.class;
+        case CLASS_INSTANCE_CREATION_EXPRESSION_TYPE_ARGUMENTS:
+            return Type.class;
+        case COMPILATION_UNIT_COMMENTS:
+            return Comment.class;
+        case COMPILATION_UNIT_IMPORT_DECLARATIONS:
+            return ImportDeclaration.class;
+        case COMPILATION_UNIT_TYPE_DECLARATIONS:
+            return TypeDeclaration.class;
+        case CONSTRUCTOR_INVOCATION_ARGUMENTS:
+            return Expression.class;
+        case CONSTRUCTOR_INVOCATION_TYPE_ARGUMENTS:
+            return Type.class;
+        case DOC_BLOCK_ELEMENTS:
+            return DocElement.class;
+        case DOC_METHOD_FORMAL_PARAMETERS:
+            return DocMethodParameter.class;
+        case ENUM_CONSTANT_DECLARATION_ARGUMENTS:
+            return Expression.class;
+        case ENUM_DECLARATION_CONSTANT_DECLARATIONS:
+            return EnumConstantDeclaration.class;
+        case ENUM_DECLARATION_SUPER_INTERFACE_TYPES:
+            return Type.class;
+        case FIELD_DECLARATION_VARIABLE_DECLARATORS:
+            return VariableDeclarator.class;
+        case FORMAL_PARAMETER_DECLARATION_MODIFIERS:
+            return Attribute.class;
+        case INTERFACE_DECLARATION_SUPER_INTERFACE_TYPES:
+            return Type.class;
+        case INTERFACE_DECLARATION_TYPE_PARAMETERS:
+            return TypeParameterDeclaration.class;
+        case JAVADOC_BLOCKS:
+            return DocBlock.class;
+        case LOCAL_VARIABLE_DECLARATION_MODIFIERS:
+            return Attribute.class;
+        case LOCAL_VARIABLE_DECLARATION_VARIABLE_DECLARATORS:
+            return VariableDeclarator.class;
+        case METHOD_INVOCATION_EXPRESSION_ARGUMENTS:
+            return Expression.class;
+        case METHOD_INVOCATION_EXPRESSION_TYPE_ARGUMENTS:
+            return Type.class;
+        case METHOD_OR_CONSTRUCTOR_DECLARATION_EXCEPTION_TYPES:
+            return Type.class;
+        case METHOD_OR_CONSTRUCTOR_DECLARATION_FORMAL_PARAMETERS:
+            return FormalParameterDeclaration.class;
+        case METHOD_OR_CONSTRUCTOR_DECLARATION_TYPE_PARAMETERS:
+            return TypeParameterDeclaration.class;
+        case NORMAL_ANNOTATION_ELEMENTS:
+            return AnnotationElement.class;
+        case PACKAGE_DECLARATION_ANNOTATIONS:
+            return Annotation.class;
+        case PARAMETERIZED_TYPE_TYPE_ARGUMENTS:
+            return Type.class;
+        case STATEMENT_EXPRESSION_LIST_EXPRESSIONS:
+            return Expression.class;
+        case SWITCH_STATEMENT_STATEMENTS:
+            return Statement.class;
+        case TRY_STATEMENT_CATCH_CLAUSES:
+            return CatchClause.class;
+        case TYPE_BODY_DECLARATION_MODIFIERS:
+            return Attribute.class;
+        case TYPE_DECLARATION_BODY_DECLARATIONS:
+            return TypeBodyDeclaration.class;
+        case TYPE_PARAMETER_DECLARATION_TYPE_BOUNDS:
+            return Type.class;
+        default:
+            return null;
+        }
+    }
+
+    /**
+     * 指定の種類のモデルにおいて、指定のプロパティが{@code null}を値にとりうるかどうかを返す。
+     * <p>
+     * {@code int}や{@code boolean}の値を保持するプロパティについては常に{@code false}を返す。
+     * </p>
+     * @param kind 対象のモデルの種類
+     * @param property 対象のプロパティ
+     * @return {@code null}を値にとりうる場合は{@code true}、そうでない場合は{@code false}
+     * @throws IllegalArgumentException 引数に{@code null}が指定された場合
+     */
+    public static boolean isNullable(ModelKind kind, PropertyKind property) {
+        if (kind == null) {
+            throw new IllegalArgumentException("kind must not be null"); //$NON-NLS-1$
+        }
+        if (property == null) {
+            throw new IllegalArgumentException("property must not be null"); //$NON-NLS-1$
+        }
+        switch (property) {
+        case ANNOTATION_ELEMENT_DECLARATION_DEFAULT_EXPRESSION:
+        case ARRAY_CREATION_EXPRESSION_ARRAY_INITIALIZER:
+        case ASSERT_STATEMENT_MESSAGE:
+        case BRANCH_STATEMENT_TARGET:
+        case CLASS_DECLARATION_SUPER_CLASS:
+        case CLASS_INSTANCE_CREATION_EXPRESSION_BODY:
+        case CLASS_INSTANCE_CREATION_EXPRESSION_QUALIFIER:
+        case COMPILATION_UNIT_PACKAGE_DECLARATION:
+        case DOC_FIELD_TYPE:
+        case DOC_METHOD_PARAMETER_NAME:
+        case DOC_METHOD_TYPE:
+        case ENUM_CONSTANT_DECLARATION_BODY:
+        case FOR_STATEMENT_CONDITION:
+        case FOR_STATEMENT_INITIALIZATION:
+        case FOR_STATEMENT_UPDATE:
+        case IF_STATEMENT_ELSE_STATEMENT:
+        case KEYWORD_QUALIFIER:
+        case METHOD_INVOCATION_EXPRESSION_QUALIFIER:
+        case PACKAGE_DECLARATION_JAVADOC:
+        case RETURN_STATEMENT_EXPRESSION:
+        case SUPER_CONSTRUCTOR_INVOCATION_QUALIFIER:
+        case TRY_STATEMENT_FINALLY_BLOCK:
+        case TYPE_BODY_DECLARATION_JAVADOC:
+        case VARIABLE_DECLARATOR_INITIALIZER:
+        case WILDCARD_TYPE_BOUND:
+            return true;
+        case METHOD_OR_CONSTRUCTOR_DECLARATION_BODY:
+            return kind == ModelKind.METHOD_DECLARATION;
+        default:
+            return false;
+        }
+    }
+
+    /**
+     * 指定のプロパティがリストを保持する場合に、そのリストが1つ以上の要素を必要とするかどうかを返す。
+     * @param property 対象のプロパティ
+     * @return 1つ以上の要素を必要とする場合は{@code true}、そうでない場合は{@code false}
+     * @throws IllegalArgumentException 引数に{@code null}が指定された場合
+     */
+    public static boolean isNotEmpty(PropertyKind property) {
+        if (property == null) {
+            throw new IllegalArgumentException("property must not be null"); //$NON-NLS-1$
+        }
+        switch (property) {
+        case FIELD_DECLARATION_VARIABLE_DECLARATORS:
+        case LOCAL_VARIABLE_DECLARATION_VARIABLE_DECLARATORS:
+        case PARAMETERIZED_TYPE_TYPE_ARGUMENTS:
+        case STATEMENT_EXPRESSION_LIST_EXPRESSIONS:
+            return true;
+        default:
+            return false;
+        }
+    }
+
+    /**
+     * 指定の種類のモデルについて、子要素を保持するプロパティの位置を返す。
+     * <p>
+     * それぞれの位置は{@link ModelKind#getProperties()}上の番号 (0起算) で、
+     * モデルまたはモデルのリストを保持するプロパティのみが昇順に含まれる。
+     * 返される配列は共有されているため、呼び出し側で変更してはならない。
+     * </p>
+     * @param kind 対象のモデルの種類
+     * @return 子要素を保持するプロパティの位置
+     * @throws IllegalArgumentException 引数に{@code null}が指定された場合
+     */
+    public static int[] getChildSlots(ModelKind kind) {
+        if (kind == null) {
+            throw new IllegalArgumentException("kind must not be null"); //$NON-NLS-1$
+        }
+        return CHILD_SLOTS[kind.ordinal()];
+    }
+
+    /**
+     * 指定のプロパティの値を持つモデルを生成する。
+     * <p>
+     * 値は{@link ModelKind#getProperties()}の順序で指定する。
+     * </p>
+     * @param factory 利用するファクトリ
+     * @param kind 生成するモデルの種類
+     * @param values 各プロパティの値
+     * @return 生成したモデル
+     * @throws IllegalArgumentException 値の個数が正しくない場合、
+     *     または引数に{@code null}が含まれる場合
+     * @throws ClassCastException 値の型が正しくない場合
+     */
+    @SuppressWarnings("unchecked")
+    public static Model newModel(ModelFactory factory, ModelKind kind, Object... values) {
+        if (factory == null) {
+            throw new IllegalArgumentException("factory must not be null"); //$NON-NLS-1$
+        }
+        if (kind == null) {
+            throw new IllegalArgumentException("kind must not be null"); //$NON-NLS-1$
+        }
+        if (values == null) {
+            throw new IllegalArgumentException("values must not be null"); //$NON-NLS-1$
+        }
+        if (values.length != kind.getProperties().size()) {
+            throw new IllegalArgumentException(java.text.MessageFormat.format(
+                    "{0} requires {1} values ({2})", //$NON-NLS-1$
+                    kind,
+                    kind.getProperties().size(),
+                    values.length));
+        }
+        switch (kind) {
+        case ALTERNATE_CONSTRUCTOR_INVOCATION:
+            return factory.newAlternateConstructorInvocation(
+                (List<? extends Type>) values[0],
+                (List<? extends Expression>) values[1]);
+        case ANNOTATION_DECLARATION:
+            return factory.newAnnotationDeclaration(
+                (Javadoc) values[0],
+                (List<? extends Attribute>) values[1],
+                (SimpleName) values[2],
+                (List<? extends TypeBodyDeclaration>) values[3]);
+        case ANNOTATION_ELEMENT:
+            return factory.newAnnotationElement(
+                (SimpleName) values[0],
+                (Expression) values[1]);
+        case ANNOTATION_ELEMENT_DECLARATION:
+            return factory.newAnnotationElementDeclaration(
+                (Javadoc) values[0],
+                (List<? extends Attribute>) values[1],
+                (Type) values[2],
+                (SimpleName) values[3],
+                (Expression) values[4]);
+        case ARRAY_ACCESS_EXPRESSION:
+            return factory.newArrayAccessExpression(
+                (Expression) values[0],
+                (Expression) values[1]);
+        case ARRAY_CREATION_EXPRESSION:
+            return factory.newArrayCreationExpression(
+                (ArrayType) values[0],
+                (List<? extends Expression>) values[1],
+                (ArrayInitializer) values[2]);
+        case ARRAY_INITIALIZER:
+            return factory.newArrayInitializer(
+                (List<? extends Expression>) values[0]);
+        case ARRAY_TYPE:
+            return factory.newArrayType(
+                (Type) values[0]);
+        case ASSERT_STATEMENT:
+            return factory.newAssertStatement(
+                (Expression) values[0],
+                (Expression) values[1]);
+        case ASSIGNMENT_EXPRESSION:
+            return factory.newAssignmentExpression(
+                (Expression) values[0],
+                (InfixOperator) values[1],
+                (Expression) values[2]);
+        case BASIC_TYPE:
+            return factory.newBasicType(
+                (BasicTypeKind) values[0]);
+        case BLOCK:
+            return factory.newBlock(
+                (List<? extends Statement>) values[0]);
+        case BLOCK_COMMENT:
+            return factory.newBlockComment(
+                (String) values[0]);
+        case BREAK_STATEMENT:
+            return factory.newBreakStatement(
+                (SimpleName) values[0]);
+        case CAST_EXPRESSION:
+            return factory.newCastExpression(
+                (Type) values[0],
+                (Expression) values[1]);
+        case CATCH_CLAUSE:
+            return factory.newCatchClause(
+                (FormalParameterDeclaration) values[0],
+                (Block) values[1]);
+        case CLASS_BODY:
+            return factory.newClassBody(
+                (List<? extends TypeBodyDeclaration>) values[0]);
+        case CLASS_DECLARATION:
+            return factory.newClassDeclaration(
+                (Javadoc) values[0],
+                (List<? extends Attribute>) values[1],
+                (SimpleName) values[2],
+                (List<? extends TypeParameterDeclaration>) values[3],
+                (Type) values[4],
+                (List<? extends Type>) values[5],
+                (List<? extends TypeBodyDeclaration>) values[6]);
+        case CLASS_INSTANCE_CREATION_EXPRESSION:
+            return factory.newClassInstanceCreationExpression(
+                (Expression) values[0],
+                (List<? extends Type>) values[1],
+                (Type) values[2],
+                (List<? extends Expression>) values[3],
+                (ClassBody) values[4]);
+        case CLASS_LITERAL:
+            return factory.newClassLiteral(
+                (Type) values[0]);
+        case COMPILATION_UNIT:
+            return factory.newCompilationUnit(
+                (PackageDeclaration) values[0],
+                (List<? extends ImportDeclaration>) values[1],
+                (List<? extends TypeDeclaration>) values[2],
+                (List<? extends Comment>) values[3]);
+        case CONDITIONAL_EXPRESSION:
+            return factory.newConditionalExpression(
+                (Expression) values[0],
+                (Expression) values[1],
+                (Expression) values[2]);
+        case CONSTRUCTOR_DECLARATION:
+            return factory.newConstructorDeclaration(
+                (Javadoc) values[0],
+                (List<? extends Attribute>) values[1],
+                (List<? extends TypeParameterDeclaration>) values[2],
+                (SimpleName) values[3],
+                (List<? extends FormalParameterDeclaration>) values[4],
+                (List<? extends Type>) values[5],
+                (Block) values[6]);
+        case CONTINUE_STATEMENT:
+            return factory.newContinueStatement(
+                (SimpleName) values[0]);
+        case DO_STATEMENT:
+            return factory.newDoStatement(
+                (Statement) values[0],
+                (Expression) values[1]);
+        case DOC_BLOCK:
+            return factory.newDocBlock(
+                (String) values[0],
+                (List<? extends DocElement>) values[1]);
+        case DOC_FIELD:
+            return factory.newDocField(
+                (Type) values[0],
+                (SimpleName) values[1]);
+        case DOC_METHOD:
+            return factory.newDocMethod(
+                (Type) values[0],
+                (SimpleName) values[1],
+                (List<? extends DocMethodParameter>) values[2]);
+        case DOC_METHOD_PARAMETER:
+            return factory.newDocMethodParameter(
+                (Type) values[0],
+                (SimpleName) values[1],
+                (Boolean) values[2]);
+        case DOC_TEXT:
+            return factory.newDocText(
+                (String) values[0]);
+        case EMPTY_STATEMENT:
+            return factory.newEmptyStatement();
+        case ENHANCED_FOR_STATEMENT:
+            return factory.newEnhancedForStatement(
+                (FormalParameterDeclaration) values[0],
+                (Expression) values[1],
+                (Statement) values[2]);
+        case ENUM_CONSTANT_DECLARATION:
+            return factory.newEnumConstantDeclaration(
+                (Javadoc) values[0],
+                (List<? extends Attribute>) values[1],
+                (SimpleName) values[2],
+                (List<? extends Expression>) values[3],
+                (ClassBody) values[4]);
+        case ENUM_DECLARATION:
+            return factory.newEnumDeclaration(
+                (Javadoc) values[0],
+                (List<? extends Attribute>) values[1],
+                (SimpleName) values[2],
+                (List<? extends Type>) values[3],
+                (List<? extends EnumConstantDeclaration>) values[4],
+                (List<? extends TypeBodyDeclaration>) values[5]);
+        case EXPRESSION_STATEMENT:
+            return factory.newExpressionStatement(
+                (Expression) values[0]);
+        case FIELD_ACCESS_EXPRESSION:
+            return factory.newFieldAccessExpression(
+                (Expression) values[0],
+                (SimpleName) values[1]);
+        case FIELD_DECLARATION:
+            return factory.newFieldDeclaration(
+                (Javadoc) values[0],
+                (List<? extends Attribute>) values[1],
+                (Type) values[2],
+                (List<? extends VariableDeclarator>) values[3]);
+        case FOR_STATEMENT:
+            return factory.newForStatement(
+                (ForInitializer) values[0],
+                (Expression) values[1],
+                (StatementExpressionList) values[2],
+                (Statement) values[3]);
+        case FORMAL_PARAMETER_DECLARATION:
+            return factory.newFormalParameterDeclaration(
+                (List<? extends Attribute>) values[0],
+                (Type) values[1],
+                (Boolean) values[2],
+                (SimpleName) values[3],
+                (Integer) values[4]);
+        case IF_STATEMENT:
+            return factory.newIfStatement(
+                (Expression) values[0],
+                (Statement) values[1],
+                (Statement) values[2]);
+        case IMPORT_DECLARATION:
+            return factory.newImportDeclaration(
+                (ImportKind) values[0],
+                (Name) values[1]);
+        case INFIX_EXPRESSION:
+            return factory.newInfixExpression(
+                (Expression) values[0],
+                (InfixOperator) values[1],
+                (Expression) values[2]);
+        case INITIALIZER_DECLARATION:
+            return factory.newInitializerDeclaration(
+                (Javadoc) values[0],
+                (List<? extends Attribute>) values[1],
+                (Block) values[2]);
+        case INSTANCEOF_EXPRESSION:
+            return factory.newInstanceofExpression(
+                (Expression) values[0],
+                (Type) values[1]);
+        case INTERFACE_DECLARATION:
+            return factory.newInterfaceDeclaration(
+                (Javadoc) values[0],
+                (List<? extends Attribute>) values[1],
+                (SimpleName) values[2],
+                (List<? extends TypeParameterDeclaration>) values[3],
+                (List<? extends Type>) values[4],
+                (List<? extends TypeBodyDeclaration>) values[5]);
+        case JAVADOC:
+            return factory.newJavadoc(
+                (List<? extends DocBlock>) values[0]);
+        case LABELED_STATEMENT:
+            return factory.newLabeledStatement(
+                (SimpleName) values[0],
+                (Statement) values[1]);
+        case LINE_COMMENT:
+            return factory.newLineComment(
+                (String) values[0]);
+        case LITERAL:
+            return factory.newLiteral(
+                (String) values[0]);
+        case LOCAL_CLASS_DECLARATION:
+            return factory.newLocalClassDeclaration(
+                (ClassDeclaration) values[0]);
+        case LOCAL_VARIABLE_DECLARATION:
+            return factory.newLocalVariableDeclaration(
+                (List<? extends Attribute>) values[0],
+                (Type) values[1],
+                (List<? extends VariableDeclarator>) values[2]);
+        case MARKER_ANNOTATION:
+            return factory.newMarkerAnnotation(
+                (NamedType) values[0]);
+        case METHOD_DECLARATION:
+            return factory.newMethodDeclaration(
+                (Javadoc) values[0],
+                (List<? extends Attribute>) values[1],
+                (List<? extends TypeParameterDeclaration>) values[2],
+                (Type) values[3],
+                (SimpleName) values[4],
+                (List<? extends FormalParameterDeclaration>) values[5],
+                (Integer) values[6],
+                (List<? extends Type>) values[7],
+                (Block) values[8]);
+        case METHOD_INVOCATION_EXPRESSION:
+            return factory.newMethodInvocationExpression(
+                (Expression) values[0],
+                (List<? extends Type>) values[1],
+                (SimpleName) values[2],
+                (List<? extends Expression>) values[3]);
+        case MODIFIER:
+            return factory.newModifier(
+                (ModifierKind) values[0]);
+        case NAMED_TYPE:
+            return factory.newNamedType(
+                (Name) values[0]);
+        case NORMAL_ANNOTATION:
+            return factory.newNormalAnnotation(
+                (NamedType) values[0],
+                (List<? extends AnnotationElement>) values[1]);
+        case PACKAGE_DECLARATION:
+            return factory.newPackageDeclaration(
+                (Javadoc) values[0],
+                (List<? extends Annotation>) values[1],
+                (Name) values[2]);
+        case PARAMETERIZED_TYPE:
+            return factory.newParameterizedType(
+                (Type) values[0],
+                (List<? extends Type>) values[1]);
+        case PARENTHESIZED_EXPRESSION:
+            return factory.newParenthesizedExpression(
+                (Expression) values[0]);
+        case POSTFIX_EXPRESSION:
+            return factory.newPostfixExpression(
+                (Expression) values[0],
+                (PostfixOperator) values[1]);
+        case QUALIFIED_NAME:
+            return factory.newQualifiedName(
+                (Name) values[0],
+                (SimpleName) values[1]);
+        case QUALIFIED_TYPE:
+            return factory.newQualifiedType(
+                (Type) values[0],
+                (SimpleName) values[1]);
+        case RETURN_STATEMENT:
+            return factory.newReturnStatement(
+                (Expression) values[0]);
+        case SIMPLE_NAME:
+            return factory.newSimpleName(
+                (String) values[0]);
+        case SINGLE_ELEMENT_ANNOTATION:
+            return factory.newSingleElementAnnotation(
+                (NamedType) values[0],
+                (Expression) values[1]);
+        case STATEMENT_EXPRESSION_LIST:
+            return factory.newStatementExpressionList(
+                (List<? extends Expression>) values[0]);
+        case SUPER:
+            return factory.newSuper(
+                (NamedType) values[0]);
+        case SUPER_CONSTRUCTOR_INVOCATION:
+            return factory.newSuperConstructorInvocation(
+                (Expression) values[0],
+                (List<? extends Type>) values[1],
+                (List<? extends Expression>) values[2]);
+        case SWITCH_CASE_LABEL:
+            return factory.newSwitchCaseLabel(
+                (Expression) values[0]);
+        case SWITCH_DEFAULT_LABEL:
+            return factory.newSwitchDefaultLabel();
+        case SWITCH_STATEMENT:
+            return factory.newSwitchStatement(
+                (Expression) values[0],
+                (List<? extends Statement>) values[1]);
+        case SYNCHRONIZED_STATEMENT:
+            return factory.newSynchronizedStatement(
+                (Expression) values[0],
+                (Block) values[1]);
+        case THIS:
+            return factory.newThis(
+                (NamedType) values[0]);
+        case THROW_STATEMENT:
+            return factory.newThrowStatement(
+                (Expression) values[0]);
+        case TRY_STATEMENT:
+            return factory.newTryStatement(
+                (Block) values[0],
+                (List<? extends CatchClause>) values[1],
+                (Block) values[2]);
+        case TYPE_PARAMETER_DECLARATION:
+            return factory.newTypeParameterDeclaration(
+                (SimpleName) values[0],
+                (List<? extends Type>) values[1]);
+        case UNARY_EXPRESSION:
+            return factory.newUnaryExpression(
+                (UnaryOperator) values[0],
+                (Expression) values[1]);
+        case VARIABLE_DECLARATOR:
+            return factory.newVariableDeclarator(
+                (SimpleName) values[0],
+                (Integer) values[1],
+                (Expression) values[2]);
+        case WHILE_STATEMENT:
+            return factory.newWhileStatement(
+                (Expression) values[0],
+                (Statement) values[1]);
+        case WILDCARD:
+            return factory.newWildcard(
+                (WildcardBoundKind) values[0],
+                (Type) values[1]);
+        default:
+            throw new AssertionError(kind);
+        }
+    }
+
+    private ModelProperties() {
+        throw new AssertionError();
+    }
+}
@@ -15,6 +15,7 @@
  */
 package com.ashigeru.lang.java.model.syntax;
 
+import java.util.List;
 
 /**
  * 代替コンストラクタ起動文を表現するインターフェース。
@@ -30,4 +31,30 @@ public interface AlternateConstructorInvocation
         extends ConstructorInvocation {
 
     // properties
+
+    // copies
+
+    /**
+     * 型引数の一覧を指定の値に変更したコピーを返す。
+     * <p> 型引数を一つも指定しない場合、引数には空を指定する。 </p>
+     * @param typeArguments
+     *     型引数の一覧
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code typeArguments}に{@code null}が指定された場合
+     */
+    AlternateConstructorInvocation withTypeArguments(List<? extends Type> typeArguments);
+
+    /**
+     * 実引数の一覧を指定の値に変更したコピーを返す。
+     * <p> 実引数を一つも指定しない場合、引数には空を指定する。 </p>
+     * @param arguments
+     *     実引数の一覧
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code arguments}に{@code null}が指定された場合
+     */
+    AlternateConstructorInvocation withArguments(List<? extends Expression> arguments);
 }
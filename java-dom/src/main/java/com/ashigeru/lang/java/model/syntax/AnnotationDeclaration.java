@@ -15,6 +15,7 @@
  */
 package com.ashigeru.lang.java.model.syntax;
 
+import java.util.List;
 
 /**
  * 注釈型の宣言を表現するインターフェース。
@@ -29,4 +30,52 @@ public interface AnnotationDeclaration
         extends TypeDeclaration {
 
     // properties
+
+    // copies
+
+    /**
+     * ドキュメンテーションコメントを指定の値に変更したコピーを返す。
+     * <p> ドキュメンテーションコメントが存在しない場合、引数には{@code null}を指定する。 </p>
+     * @param javadoc
+     *     ドキュメンテーションコメント、
+     *     ただしドキュメンテーションコメントが存在しない場合は{@code null}
+     * @return
+     *     変更後のコピー
+     */
+    AnnotationDeclaration withJavadoc(Javadoc javadoc);
+
+    /**
+     * 修飾子および注釈の一覧を指定の値に変更したコピーを返す。
+     * <p> 修飾子または注釈が一つも宣言されない場合、引数には空を指定する。 </p>
+     * @param modifiers
+     *     修飾子および注釈の一覧
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code modifiers}に{@code null}が指定された場合
+     */
+    AnnotationDeclaration withModifiers(List<? extends Attribute> modifiers);
+
+    /**
+     * 型の単純名を指定の値に変更したコピーを返す。
+     * @param name
+     *     型の単純名
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code name}に{@code null}が指定された場合
+     */
+    AnnotationDeclaration withName(SimpleName name);
+
+    /**
+     * メンバの一覧を指定の値に変更したコピーを返す。
+     * <p> メンバが一つも宣言されない場合、引数には空を指定する。 </p>
+     * @param bodyDeclarations
+     *     メンバの一覧
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code bodyDeclarations}に{@code null}が指定された場合
+     */
+    AnnotationDeclaration withBodyDeclarations(List<? extends TypeBodyDeclaration> bodyDeclarations);
 }
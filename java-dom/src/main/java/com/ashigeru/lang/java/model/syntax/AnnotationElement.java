@@ -43,4 +43,28 @@ public interface AnnotationElement
      *     注釈要素値の式
      */
     Expression getExpression();
+
+    // copies
+
+    /**
+     * 注釈要素の名前を指定の値に変更したコピーを返す。
+     * @param name
+     *     注釈要素の名前
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code name}に{@code null}が指定された場合
+     */
+    AnnotationElement withName(SimpleName name);
+
+    /**
+     * 注釈要素値の式を指定の値に変更したコピーを返す。
+     * @param expression
+     *     注釈要素値の式
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code expression}に{@code null}が指定された場合
+     */
+    AnnotationElement withExpression(Expression expression);
 }
@@ -15,6 +15,7 @@
  */
 package com.ashigeru.lang.java.model.syntax;
 
+import java.util.List;
 
 /**
  * 注釈要素の宣言を表現するインターフェース。
@@ -53,4 +54,62 @@ public interface AnnotationElementDeclaration
      *     ただし規定値が存在しない場合は{@code null}
      */
     Expression getDefaultExpression();
+
+    // copies
+
+    /**
+     * ドキュメンテーションコメントを指定の値に変更したコピーを返す。
+     * <p> ドキュメンテーションコメントが存在しない場合、引数には{@code null}を指定する。 </p>
+     * @param javadoc
+     *     ドキュメンテーションコメント、
+     *     ただしドキュメンテーションコメントが存在しない場合は{@code null}
+     * @return
+     *     変更後のコピー
+     */
+    AnnotationElementDeclaration withJavadoc(Javadoc javadoc);
+
+    /**
+     * 修飾子および注釈の一覧を指定の値に変更したコピーを返す。
+     * <p> 修飾子または注釈が一つも宣言されない場合、引数には空を指定する。 </p>
+     * @param modifiers
+     *     修飾子および注釈の一覧
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code modifiers}に{@code null}が指定された場合
+     */
+    AnnotationElementDeclaration withModifiers(List<? extends Attribute> modifiers);
+
+    /**
+     * 注釈要素の型を指定の値に変更したコピーを返す。
+     * @param type
+     *     注釈要素の型
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code type}に{@code null}が指定された場合
+     */
+    AnnotationElementDeclaration withType(Type type);
+
+    /**
+     * 注釈要素の名前を指定の値に変更したコピーを返す。
+     * @param name
+     *     注釈要素の名前
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code name}に{@code null}が指定された場合
+     */
+    AnnotationElementDeclaration withName(SimpleName name);
+
+    /**
+     * 注釈要素の規定値を指定の値に変更したコピーを返す。
+     * <p> 規定値が存在しない場合、引数には{@code null}を指定する。 </p>
+     * @param defaultExpression
+     *     注釈要素の規定値、
+     *     ただし規定値が存在しない場合は{@code null}
+     * @return
+     *     変更後のコピー
+     */
+    AnnotationElementDeclaration withDefaultExpression(Expression defaultExpression);
 }
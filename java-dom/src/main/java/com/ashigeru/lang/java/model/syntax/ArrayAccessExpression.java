@@ -43,4 +43,31 @@ public interface ArrayAccessExpression
      *     添え字式
      */
     Expression getIndex();
+
+    // copies
+
+    /**
+     * 配列式を指定の値に変更したコピーを返す。
+     * <p>
+     * {@link ModelFactory}で生成する場合と同様に、指定の式は優先順位に応じて必要であれば括弧で囲まれる。
+     * </p>
+     * @param array
+     *     配列式
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code array}に{@code null}が指定された場合
+     */
+    ArrayAccessExpression withArray(Expression array);
+
+    /**
+     * 添え字式を指定の値に変更したコピーを返す。
+     * @param index
+     *     添え字式
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code index}に{@code null}が指定された場合
+     */
+    ArrayAccessExpression withIndex(Expression index);
 }
@@ -54,4 +54,40 @@ public interface ArrayCreationExpression
      *     ただし配列初期化子が指定されない場合は{@code null}
      */
     ArrayInitializer getArrayInitializer();
+
+    // copies
+
+    /**
+     * 生成する配列の型を指定の値に変更したコピーを返す。
+     * @param type
+     *     生成する配列の型
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code type}に{@code null}が指定された場合
+     */
+    ArrayCreationExpression withType(ArrayType type);
+
+    /**
+     * 要素数指定式を指定の値に変更したコピーを返す。
+     * <p> 次元ごとの要素数が一つも指定されない場合、引数には空を指定する。 </p>
+     * @param dimensionExpressions
+     *     要素数指定式
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code dimensionExpressions}に{@code null}が指定された場合
+     */
+    ArrayCreationExpression withDimensionExpressions(List<? extends Expression> dimensionExpressions);
+
+    /**
+     * 配列初期化子を指定の値に変更したコピーを返す。
+     * <p> 配列初期化子が指定されない場合、引数には{@code null}を指定する。 </p>
+     * @param arrayInitializer
+     *     配列初期化子、
+     *     ただし配列初期化子が指定されない場合は{@code null}
+     * @return
+     *     変更後のコピー
+     */
+    ArrayCreationExpression withArrayInitializer(ArrayInitializer arrayInitializer);
 }
@@ -38,4 +38,18 @@ public interface ArrayInitializer
      *     要素の一覧
      */
     List<? extends Expression> getElements();
+
+    // copies
+
+    /**
+     * 要素の一覧を指定の値に変更したコピーを返す。
+     * <p> 要素が一つも指定されない場合、引数には空を指定する。 </p>
+     * @param elements
+     *     要素の一覧
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code elements}に{@code null}が指定された場合
+     */
+    ArrayInitializer withElements(List<? extends Expression> elements);
 }
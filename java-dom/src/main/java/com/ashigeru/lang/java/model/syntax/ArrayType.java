@@ -36,4 +36,17 @@ public interface ArrayType
      *     要素型
      */
     Type getComponentType();
+
+    // copies
+
+    /**
+     * 要素型を指定の値に変更したコピーを返す。
+     * @param componentType
+     *     要素型
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code componentType}に{@code null}が指定された場合
+     */
+    ArrayType withComponentType(Type componentType);
 }
@@ -45,4 +45,28 @@ public interface AssertStatement
      *     ただしメッセージ式が省略された場合は{@code null}
      */
     Expression getMessage();
+
+    // copies
+
+    /**
+     * 表明式を指定の値に変更したコピーを返す。
+     * @param expression
+     *     表明式
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code expression}に{@code null}が指定された場合
+     */
+    AssertStatement withExpression(Expression expression);
+
+    /**
+     * メッセージ式を指定の値に変更したコピーを返す。
+     * <p> メッセージ式が省略された場合、引数には{@code null}を指定する。 </p>
+     * @param message
+     *     メッセージ式、
+     *     ただしメッセージ式が省略された場合は{@code null}
+     * @return
+     *     変更後のコピー
+     */
+    AssertStatement withMessage(Expression message);
 }
@@ -50,4 +50,45 @@ public interface AssignmentExpression
      *     右辺式
      */
     Expression getRightHandSide();
+
+    // copies
+
+    /**
+     * 左辺式を指定の値に変更したコピーを返す。
+     * <p>
+     * {@link ModelFactory}で生成する場合と同様に、指定の式は優先順位に応じて必要であれば括弧で囲まれる。
+     * </p>
+     * @param leftHandSide
+     *     左辺式
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code leftHandSide}に{@code null}が指定された場合
+     */
+    AssignmentExpression withLeftHandSide(Expression leftHandSide);
+
+    /**
+     * 単純代入演算子、または複合する演算子を指定の値に変更したコピーを返す。
+     * @param operator
+     *     単純代入演算子、または複合する演算子
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code operator}に{@code null}が指定された場合
+     */
+    AssignmentExpression withOperator(InfixOperator operator);
+
+    /**
+     * 右辺式を指定の値に変更したコピーを返す。
+     * <p>
+     * {@link ModelFactory}で生成する場合と同様に、指定の式は優先順位に応じて必要であれば括弧で囲まれる。
+     * </p>
+     * @param rightHandSide
+     *     右辺式
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code rightHandSide}に{@code null}が指定された場合
+     */
+    AssignmentExpression withRightHandSide(Expression rightHandSide);
 }
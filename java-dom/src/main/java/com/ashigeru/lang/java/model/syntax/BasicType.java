@@ -37,4 +37,17 @@ public interface BasicType
      *     基本型の種類
      */
     BasicTypeKind getTypeKind();
+
+    // copies
+
+    /**
+     * 基本型の種類を指定の値に変更したコピーを返す。
+     * @param typeKind
+     *     基本型の種類
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code typeKind}に{@code null}が指定された場合
+     */
+    BasicType withTypeKind(BasicTypeKind typeKind);
 }
@@ -38,4 +38,18 @@ public interface Block
      *     文の一覧
      */
     List<? extends Statement> getStatements();
+
+    // copies
+
+    /**
+     * 文の一覧を指定の値に変更したコピーを返す。
+     * <p> 文が一つも宣言されない場合、引数には空を指定する。 </p>
+     * @param statements
+     *     文の一覧
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code statements}に{@code null}が指定された場合
+     */
+    Block withStatements(List<? extends Statement> statements);
 }
@@ -29,4 +29,17 @@ public interface BreakStatement
         extends BranchStatement {
 
     // properties
+
+    // copies
+
+    /**
+     * 分岐先ラベルを指定の値に変更したコピーを返す。
+     * <p> 分岐先ラベルが指定されない場合、引数には{@code null}を指定する。 </p>
+     * @param target
+     *     分岐先ラベル、
+     *     ただし分岐先ラベルが指定されない場合は{@code null}
+     * @return
+     *     変更後のコピー
+     */
+    BreakStatement withTarget(SimpleName target);
 }
@@ -43,4 +43,31 @@ public interface CastExpression
      *     演算項
      */
     Expression getExpression();
+
+    // copies
+
+    /**
+     * キャスト対象の型を指定の値に変更したコピーを返す。
+     * @param type
+     *     キャスト対象の型
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code type}に{@code null}が指定された場合
+     */
+    CastExpression withType(Type type);
+
+    /**
+     * 演算項を指定の値に変更したコピーを返す。
+     * <p>
+     * {@link ModelFactory}で生成する場合と同様に、指定の式は優先順位に応じて必要であれば括弧で囲まれる。
+     * </p>
+     * @param expression
+     *     演算項
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code expression}に{@code null}が指定された場合
+     */
+    CastExpression withExpression(Expression expression);
 }
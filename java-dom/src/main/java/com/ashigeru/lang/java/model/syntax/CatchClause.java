@@ -43,4 +43,28 @@ public interface CatchClause
      *     {@code catch}ブロック
      */
     Block getBody();
+
+    // copies
+
+    /**
+     * 例外仮引数を指定の値に変更したコピーを返す。
+     * @param parameter
+     *     例外仮引数
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code parameter}に{@code null}が指定された場合
+     */
+    CatchClause withParameter(FormalParameterDeclaration parameter);
+
+    /**
+     * {@code catch}ブロックを指定の値に変更したコピーを返す。
+     * @param body
+     *     {@code catch}ブロック
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code body}に{@code null}が指定された場合
+     */
+    CatchClause withBody(Block body);
 }
@@ -38,4 +38,18 @@ public interface ClassBody
      *     メンバの一覧
      */
     List<? extends TypeBodyDeclaration> getBodyDeclarations();
+
+    // copies
+
+    /**
+     * メンバの一覧を指定の値に変更したコピーを返す。
+     * <p> メンバが一つも宣言されない場合、引数には空を指定する。 </p>
+     * @param bodyDeclarations
+     *     メンバの一覧
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code bodyDeclarations}に{@code null}が指定された場合
+     */
+    ClassBody withBodyDeclarations(List<? extends TypeBodyDeclaration> bodyDeclarations);
 }
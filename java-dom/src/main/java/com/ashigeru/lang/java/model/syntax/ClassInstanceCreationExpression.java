@@ -71,4 +71,66 @@ public interface ClassInstanceCreationExpression
      *     ただし匿名クラス本体が指定されない場合は{@code null}
      */
     ClassBody getBody();
+
+    // copies
+
+    /**
+     * 限定式を指定の値に変更したコピーを返す。
+     * <p>
+     * {@link ModelFactory}で生成する場合と同様に、指定の式は優先順位に応じて必要であれば括弧で囲まれる。
+     * </p>
+     * <p> 限定式が指定されない場合、引数には{@code null}を指定する。 </p>
+     * @param qualifier
+     *     限定式、
+     *     ただし限定式が指定されない場合は{@code null}
+     * @return
+     *     変更後のコピー
+     */
+    ClassInstanceCreationExpression withQualifier(Expression qualifier);
+
+    /**
+     * 型引数の一覧を指定の値に変更したコピーを返す。
+     * <p> 型引数が一つも指定されない場合、引数には空を指定する。 </p>
+     * @param typeArguments
+     *     型引数の一覧
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code typeArguments}に{@code null}が指定された場合
+     */
+    ClassInstanceCreationExpression withTypeArguments(List<? extends Type> typeArguments);
+
+    /**
+     * インスタンスを生成する型を指定の値に変更したコピーを返す。
+     * @param type
+     *     インスタンスを生成する型
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code type}に{@code null}が指定された場合
+     */
+    ClassInstanceCreationExpression withType(Type type);
+
+    /**
+     * 実引数の一覧を指定の値に変更したコピーを返す。
+     * <p> 実引数が一つも指定されない場合、引数には空を指定する。 </p>
+     * @param arguments
+     *     実引数の一覧
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code arguments}に{@code null}が指定された場合
+     */
+    ClassInstanceCreationExpression withArguments(List<? extends Expression> arguments);
+
+    /**
+     * 匿名クラス本体を指定の値に変更したコピーを返す。
+     * <p> 匿名クラス本体が指定されない場合、引数には{@code null}を指定する。 </p>
+     * @param body
+     *     匿名クラス本体、
+     *     ただし匿名クラス本体が指定されない場合は{@code null}
+     * @return
+     *     変更後のコピー
+     */
+    ClassInstanceCreationExpression withBody(ClassBody body);
 }
@@ -36,4 +36,17 @@ public interface ClassLiteral
      *     対象の型
      */
     Type getType();
+
+    // copies
+
+    /**
+     * 対象の型を指定の値に変更したコピーを返す。
+     * @param type
+     *     対象の型
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code type}に{@code null}が指定された場合
+     */
+    ClassLiteral withType(Type type);
 }
@@ -63,4 +63,53 @@ public interface CompilationUnit
      *     このコンパイル単位に記述されたコメントの一覧
      */
     List<? extends Comment> getComments();
+
+    // copies
+
+    /**
+     * パッケージ宣言を指定の値に変更したコピーを返す。
+     * <p> 無名パッケージ上に存在するコンパイル単位を表現する場合、引数には{@code null}を指定する。 </p>
+     * @param packageDeclaration
+     *     パッケージ宣言、
+     *     ただし無名パッケージ上に存在するコンパイル単位を表現する場合は{@code null}
+     * @return
+     *     変更後のコピー
+     */
+    CompilationUnit withPackageDeclaration(PackageDeclaration packageDeclaration);
+
+    /**
+     * このコンパイル単位で宣言されるインポート宣言の一覧を指定の値に変更したコピーを返す。
+     * <p> インポート宣言が一つも宣言されない場合、引数には空を指定する。 </p>
+     * @param importDeclarations
+     *     このコンパイル単位で宣言されるインポート宣言の一覧
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code importDeclarations}に{@code null}が指定された場合
+     */
+    CompilationUnit withImportDeclarations(List<? extends ImportDeclaration> importDeclarations);
+
+    /**
+     * このコンパイル単位で宣言される型の一覧を指定の値に変更したコピーを返す。
+     * <p> 型が一つも宣言されない場合、引数には空を指定する。 </p>
+     * @param typeDeclarations
+     *     このコンパイル単位で宣言される型の一覧
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code typeDeclarations}に{@code null}が指定された場合
+     */
+    CompilationUnit withTypeDeclarations(List<? extends TypeDeclaration> typeDeclarations);
+
+    /**
+     * このコンパイル単位に記述されたコメントの一覧を指定の値に変更したコピーを返す。
+     * <p> コメントが一つも記述されない場合、引数には空を指定する。 </p>
+     * @param comments
+     *     このコンパイル単位に記述されたコメントの一覧
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code comments}に{@code null}が指定された場合
+     */
+    CompilationUnit withComments(List<? extends Comment> comments);
 }
@@ -50,4 +50,48 @@ public interface ConditionalExpression
      *     条件不成立時に評価される式
      */
     Expression getElseExpression();
+
+    // copies
+
+    /**
+     * 条件式を指定の値に変更したコピーを返す。
+     * <p>
+     * {@link ModelFactory}で生成する場合と同様に、指定の式は優先順位に応じて必要であれば括弧で囲まれる。
+     * </p>
+     * @param condition
+     *     条件式
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code condition}に{@code null}が指定された場合
+     */
+    ConditionalExpression withCondition(Expression condition);
+
+    /**
+     * 条件成立時に評価される式を指定の値に変更したコピーを返す。
+     * <p>
+     * {@link ModelFactory}で生成する場合と同様に、指定の式は優先順位に応じて必要であれば括弧で囲まれる。
+     * </p>
+     * @param thenExpression
+     *     条件成立時に評価される式
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code thenExpression}に{@code null}が指定された場合
+     */
+    ConditionalExpression withThenExpression(Expression thenExpression);
+
+    /**
+     * 条件不成立時に評価される式を指定の値に変更したコピーを返す。
+     * <p>
+     * {@link ModelFactory}で生成する場合と同様に、指定の式は優先順位に応じて必要であれば括弧で囲まれる。
+     * </p>
+     * @param elseExpression
+     *     条件不成立時に評価される式
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code elseExpression}に{@code null}が指定された場合
+     */
+    ConditionalExpression withElseExpression(Expression elseExpression);
 }
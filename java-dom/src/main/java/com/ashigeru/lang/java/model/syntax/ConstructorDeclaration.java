@@ -15,6 +15,7 @@
  */
 package com.ashigeru.lang.java.model.syntax;
 
+import java.util.List;
 
 /**
  * コンストラクタの宣言を表現するインターフェース。
@@ -37,4 +38,87 @@ public interface ConstructorDeclaration
      */
     @Override
     Block getBody();
+
+    // copies
+
+    /**
+     * ドキュメンテーションコメントを指定の値に変更したコピーを返す。
+     * <p> ドキュメンテーションコメントが存在しない場合、引数には{@code null}を指定する。 </p>
+     * @param javadoc
+     *     ドキュメンテーションコメント、
+     *     ただしドキュメンテーションコメントが存在しない場合は{@code null}
+     * @return
+     *     変更後のコピー
+     */
+    ConstructorDeclaration withJavadoc(Javadoc javadoc);
+
+    /**
+     * 修飾子および注釈の一覧を指定の値に変更したコピーを返す。
+     * <p> 修飾子または注釈が一つも宣言されない場合、引数には空を指定する。 </p>
+     * @param modifiers
+     *     修飾子および注釈の一覧
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code modifiers}に{@code null}が指定された場合
+     */
+    ConstructorDeclaration withModifiers(List<? extends Attribute> modifiers);
+
+    /**
+     * 型引数宣言の一覧を指定の値に変更したコピーを返す。
+     * <p> 型引数が一つも宣言されない場合、引数には空を指定する。 </p>
+     * @param typeParameters
+     *     型引数宣言の一覧
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code typeParameters}に{@code null}が指定された場合
+     */
+    ConstructorDeclaration withTypeParameters(List<? extends TypeParameterDeclaration> typeParameters);
+
+    /**
+     * メソッドまたはコンストラクタの名前を指定の値に変更したコピーを返す。
+     * @param name
+     *     メソッドまたはコンストラクタの名前
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code name}に{@code null}が指定された場合
+     */
+    ConstructorDeclaration withName(SimpleName name);
+
+    /**
+     * 仮引数宣言の一覧を指定の値に変更したコピーを返す。
+     * <p> 仮引数が一つも宣言されない場合、引数には空を指定する。 </p>
+     * @param formalParameters
+     *     仮引数宣言の一覧
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code formalParameters}に{@code null}が指定された場合
+     */
+    ConstructorDeclaration withFormalParameters(List<? extends FormalParameterDeclaration> formalParameters);
+
+    /**
+     * 例外型宣言の一覧を指定の値に変更したコピーを返す。
+     * <p> 例外型が一つも宣言されない場合、引数には空を指定する。 </p>
+     * @param exceptionTypes
+     *     例外型宣言の一覧
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code exceptionTypes}に{@code null}が指定された場合
+     */
+    ConstructorDeclaration withExceptionTypes(List<? extends Type> exceptionTypes);
+
+    /**
+     * コンストラクタ本体を指定の値に変更したコピーを返す。
+     * @param body
+     *     コンストラクタ本体
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code body}に{@code null}が指定された場合
+     */
+    ConstructorDeclaration withBody(Block body);
 }
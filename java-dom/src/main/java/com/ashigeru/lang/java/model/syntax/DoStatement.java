@@ -43,4 +43,28 @@ public interface DoStatement
      *     条件式
      */
     Expression getCondition();
+
+    // copies
+
+    /**
+     * ループ本体を指定の値に変更したコピーを返す。
+     * @param body
+     *     ループ本体
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code body}に{@code null}が指定された場合
+     */
+    DoStatement withBody(Statement body);
+
+    /**
+     * 条件式を指定の値に変更したコピーを返す。
+     * @param condition
+     *     条件式
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code condition}に{@code null}が指定された場合
+     */
+    DoStatement withCondition(Expression condition);
 }
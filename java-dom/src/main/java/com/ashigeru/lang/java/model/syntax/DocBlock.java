@@ -41,4 +41,30 @@ public interface DocBlock
      *     インライン要素の一覧
      */
     List<? extends DocElement> getElements();
+
+    // copies
+
+    /**
+     * タグ文字列を指定の値に変更したコピーを返す。
+     * <p> タグが省略された場合、引数には空を指定する。 </p>
+     * @param tag
+     *     タグ文字列
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code tag}に{@code null}が指定された場合
+     */
+    DocBlock withTag(String tag);
+
+    /**
+     * インライン要素の一覧を指定の値に変更したコピーを返す。
+     * <p> インライン要素が一つも指定されない場合、引数には空を指定する。 </p>
+     * @param elements
+     *     インライン要素の一覧
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code elements}に{@code null}が指定された場合
+     */
+    DocBlock withElements(List<? extends DocElement> elements);
 }
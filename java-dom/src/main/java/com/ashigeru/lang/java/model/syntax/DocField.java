@@ -40,4 +40,28 @@ public interface DocField
      *     フィールドの名称
      */
     SimpleName getName();
+
+    // copies
+
+    /**
+     * フィールドを宣言した型を指定の値に変更したコピーを返す。
+     * <p> 宣言型が指定されない場合、引数には{@code null}を指定する。 </p>
+     * @param type
+     *     フィールドを宣言した型、
+     *     ただし宣言型が指定されない場合は{@code null}
+     * @return
+     *     変更後のコピー
+     */
+    DocField withType(Type type);
+
+    /**
+     * フィールドの名称を指定の値に変更したコピーを返す。
+     * @param name
+     *     フィールドの名称
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code name}に{@code null}が指定された場合
+     */
+    DocField withName(SimpleName name);
 }
@@ -49,4 +49,40 @@ public interface DocMethod
      *     メソッドまたはコンストラクタの仮引数宣言の一覧
      */
     List<? extends DocMethodParameter> getFormalParameters();
+
+    // copies
+
+    /**
+     * メソッドまたはコンストラクタの宣言型を指定の値に変更したコピーを返す。
+     * <p> 宣言型が指定されない場合、引数には{@code null}を指定する。 </p>
+     * @param type
+     *     メソッドまたはコンストラクタの宣言型、
+     *     ただし宣言型が指定されない場合は{@code null}
+     * @return
+     *     変更後のコピー
+     */
+    DocMethod withType(Type type);
+
+    /**
+     * メソッドまたはコンストラクタの名前を指定の値に変更したコピーを返す。
+     * @param name
+     *     メソッドまたはコンストラクタの名前
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code name}に{@code null}が指定された場合
+     */
+    DocMethod withName(SimpleName name);
+
+    /**
+     * メソッドまたはコンストラクタの仮引数宣言の一覧を指定の値に変更したコピーを返す。
+     * <p> 仮引数が一つも宣言されない場合、引数には空を指定する。 </p>
+     * @param formalParameters
+     *     メソッドまたはコンストラクタの仮引数宣言の一覧
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code formalParameters}に{@code null}が指定された場合
+     */
+    DocMethod withFormalParameters(List<? extends DocMethodParameter> formalParameters);
 }
@@ -48,4 +48,38 @@ public interface DocMethodParameter
      *     可変長引数
      */
     boolean isVariableArity();
+
+    // copies
+
+    /**
+     * 仮引数の型を指定の値に変更したコピーを返す。
+     * @param type
+     *     仮引数の型
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code type}に{@code null}が指定された場合
+     */
+    DocMethodParameter withType(Type type);
+
+    /**
+     * 仮引数の名前を指定の値に変更したコピーを返す。
+     * <p> 仮引数の名前が省略される場合、引数には{@code null}を指定する。 </p>
+     * @param name
+     *     仮引数の名前、
+     *     ただし仮引数の名前が省略される場合は{@code null}
+     * @return
+     *     変更後のコピー
+     */
+    DocMethodParameter withName(SimpleName name);
+
+    /**
+     * 可変長引数である場合に{@code true}を指定の値に変更したコピーを返す。
+     * <p> そうでない場合、{@code false}を設定する。 </p>
+     * @param variableArity
+     *     可変長引数
+     * @return
+     *     変更後のコピー
+     */
+    DocMethodParameter withVariableArity(boolean variableArity);
 }
@@ -31,4 +31,17 @@ public interface DocText
      *     テキストを構成する文字列
      */
     String getString();
+
+    // copies
+
+    /**
+     * テキストを構成する文字列を指定の値に変更したコピーを返す。
+     * @param string
+     *     テキストを構成する文字列
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code string}に{@code null}が指定された場合
+     */
+    DocText withString(String string);
 }
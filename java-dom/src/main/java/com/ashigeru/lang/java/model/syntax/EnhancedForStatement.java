@@ -50,4 +50,39 @@ public interface EnhancedForStatement
      *     ループ本体
      */
     Statement getBody();
+
+    // copies
+
+    /**
+     * ループ変数を指定の値に変更したコピーを返す。
+     * @param parameter
+     *     ループ変数
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code parameter}に{@code null}が指定された場合
+     */
+    EnhancedForStatement withParameter(FormalParameterDeclaration parameter);
+
+    /**
+     * ループ対象式を指定の値に変更したコピーを返す。
+     * @param expression
+     *     ループ対象式
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code expression}に{@code null}が指定された場合
+     */
+    EnhancedForStatement withExpression(Expression expression);
+
+    /**
+     * ループ本体を指定の値に変更したコピーを返す。
+     * @param body
+     *     ループ本体
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code body}に{@code null}が指定された場合
+     */
+    EnhancedForStatement withBody(Statement body);
 }
@@ -54,4 +54,63 @@ public interface EnumConstantDeclaration
      *     ただしクラスの本体が宣言されない場合は{@code null}
      */
     ClassBody getBody();
+
+    // copies
+
+    /**
+     * ドキュメンテーションコメントを指定の値に変更したコピーを返す。
+     * <p> ドキュメンテーションコメントが存在しない場合、引数には{@code null}を指定する。 </p>
+     * @param javadoc
+     *     ドキュメンテーションコメント、
+     *     ただしドキュメンテーションコメントが存在しない場合は{@code null}
+     * @return
+     *     変更後のコピー
+     */
+    EnumConstantDeclaration withJavadoc(Javadoc javadoc);
+
+    /**
+     * 修飾子および注釈の一覧を指定の値に変更したコピーを返す。
+     * <p> 修飾子または注釈が一つも宣言されない場合、引数には空を指定する。 </p>
+     * @param modifiers
+     *     修飾子および注釈の一覧
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code modifiers}に{@code null}が指定された場合
+     */
+    EnumConstantDeclaration withModifiers(List<? extends Attribute> modifiers);
+
+    /**
+     * 列挙定数の名前を指定の値に変更したコピーを返す。
+     * @param name
+     *     列挙定数の名前
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code name}に{@code null}が指定された場合
+     */
+    EnumConstantDeclaration withName(SimpleName name);
+
+    /**
+     * コンストラクタ引数の一覧を指定の値に変更したコピーを返す。
+     * <p> コンストラクタ引数が指定されない場合、引数には空を指定する。 </p>
+     * @param arguments
+     *     コンストラクタ引数の一覧
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code arguments}に{@code null}が指定された場合
+     */
+    EnumConstantDeclaration withArguments(List<? extends Expression> arguments);
+
+    /**
+     * クラス本体の宣言を指定の値に変更したコピーを返す。
+     * <p> クラスの本体が宣言されない場合、引数には{@code null}を指定する。 </p>
+     * @param body
+     *     クラス本体の宣言、
+     *     ただしクラスの本体が宣言されない場合は{@code null}
+     * @return
+     *     変更後のコピー
+     */
+    EnumConstantDeclaration withBody(ClassBody body);
 }
@@ -47,4 +47,31 @@ public interface FieldAccessExpression
      *     フィールドの名前
      */
     SimpleName getName();
+
+    // copies
+
+    /**
+     * 限定式を指定の値に変更したコピーを返す。
+     * <p>
+     * {@link ModelFactory}で生成する場合と同様に、指定の式は優先順位に応じて必要であれば括弧で囲まれる。
+     * </p>
+     * @param qualifier
+     *     限定式
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code qualifier}に{@code null}が指定された場合
+     */
+    FieldAccessExpression withQualifier(Expression qualifier);
+
+    /**
+     * フィールドの名前を指定の値に変更したコピーを返す。
+     * @param name
+     *     フィールドの名前
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code name}に{@code null}が指定された場合
+     */
+    FieldAccessExpression withName(SimpleName name);
 }
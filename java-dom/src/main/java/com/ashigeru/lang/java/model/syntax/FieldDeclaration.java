@@ -44,4 +44,53 @@ public interface FieldDeclaration
      *     宣言するフィールドの一覧
      */
     List<? extends VariableDeclarator> getVariableDeclarators();
+
+    // copies
+
+    /**
+     * ドキュメンテーションコメントを指定の値に変更したコピーを返す。
+     * <p> ドキュメンテーションコメントが存在しない場合、引数には{@code null}を指定する。 </p>
+     * @param javadoc
+     *     ドキュメンテーションコメント、
+     *     ただしドキュメンテーションコメントが存在しない場合は{@code null}
+     * @return
+     *     変更後のコピー
+     */
+    FieldDeclaration withJavadoc(Javadoc javadoc);
+
+    /**
+     * 修飾子および注釈の一覧を指定の値に変更したコピーを返す。
+     * <p> 修飾子または注釈が一つも宣言されない場合、引数には空を指定する。 </p>
+     * @param modifiers
+     *     修飾子および注釈の一覧
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code modifiers}に{@code null}が指定された場合
+     */
+    FieldDeclaration withModifiers(List<? extends Attribute> modifiers);
+
+    /**
+     * フィールドの型を指定の値に変更したコピーを返す。
+     * @param type
+     *     フィールドの型
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code type}に{@code null}が指定された場合
+     */
+    FieldDeclaration withType(Type type);
+
+    /**
+     * 宣言するフィールドの一覧を指定の値に変更したコピーを返す。
+     * @param variableDeclarators
+     *     宣言するフィールドの一覧
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code variableDeclarators}に{@code null}が指定された場合
+     * @throws IllegalArgumentException
+     *     {@code variableDeclarators}に空が指定された場合
+     */
+    FieldDeclaration withVariableDeclarators(List<? extends VariableDeclarator> variableDeclarators);
 }
@@ -63,4 +63,50 @@ public interface ForStatement
      *     ループ本体
      */
     Statement getBody();
+
+    // copies
+
+    /**
+     * ループ初期化部を指定の値に変更したコピーを返す。
+     * <p> ループ初期化部が指定されない場合、引数には{@code null}を指定する。 </p>
+     * @param initialization
+     *     ループ初期化部、
+     *     ただしループ初期化部が指定されない場合は{@code null}
+     * @return
+     *     変更後のコピー
+     */
+    ForStatement withInitialization(ForInitializer initialization);
+
+    /**
+     * ループ条件式を指定の値に変更したコピーを返す。
+     * <p> ループ条件が指定されない場合、引数には{@code null}を指定する。 </p>
+     * @param condition
+     *     ループ条件式、
+     *     ただしループ条件が指定されない場合は{@code null}
+     * @return
+     *     変更後のコピー
+     */
+    ForStatement withCondition(Expression condition);
+
+    /**
+     * ループ更新部を指定の値に変更したコピーを返す。
+     * <p> ループ更新部が指定されない場合、引数には{@code null}を指定する。 </p>
+     * @param update
+     *     ループ更新部、
+     *     ただしループ更新部が指定されない場合は{@code null}
+     * @return
+     *     変更後のコピー
+     */
+    ForStatement withUpdate(StatementExpressionList update);
+
+    /**
+     * ループ本体を指定の値に変更したコピーを返す。
+     * @param body
+     *     ループ本体
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code body}に{@code null}が指定された場合
+     */
+    ForStatement withBody(Statement body);
 }
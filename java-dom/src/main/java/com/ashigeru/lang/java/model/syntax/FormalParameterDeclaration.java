@@ -67,4 +67,61 @@ public interface FormalParameterDeclaration
      *     追加次元数の宣言
      */
     int getExtraDimensions();
+
+    // copies
+
+    /**
+     * 修飾子および注釈の一覧を指定の値に変更したコピーを返す。
+     * <p> 修飾子または注釈が一つも宣言されない場合、引数には空を指定する。 </p>
+     * @param modifiers
+     *     修飾子および注釈の一覧
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code modifiers}に{@code null}が指定された場合
+     */
+    FormalParameterDeclaration withModifiers(List<? extends Attribute> modifiers);
+
+    /**
+     * 宣言する変数の型を指定の値に変更したコピーを返す。
+     * @param type
+     *     宣言する変数の型
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code type}に{@code null}が指定された場合
+     */
+    FormalParameterDeclaration withType(Type type);
+
+    /**
+     * 可変長引数である場合に{@code true}を指定の値に変更したコピーを返す。
+     * <p> そうでない場合、{@code false}を設定する。 </p>
+     * @param variableArity
+     *     可変長引数
+     * @return
+     *     変更後のコピー
+     */
+    FormalParameterDeclaration withVariableArity(boolean variableArity);
+
+    /**
+     * 仮引数の名前を指定の値に変更したコピーを返す。
+     * @param name
+     *     仮引数の名前
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code name}に{@code null}が指定された場合
+     */
+    FormalParameterDeclaration withName(SimpleName name);
+
+    /**
+     * 追加次元数の宣言を指定の値に変更したコピーを返す。
+     * @param extraDimensions
+     *     追加次元数の宣言
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code extraDimensions}に負の値が指定された場合
+     */
+    FormalParameterDeclaration withExtraDimensions(int extraDimensions);
 }
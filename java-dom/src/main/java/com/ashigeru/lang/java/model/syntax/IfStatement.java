@@ -52,4 +52,39 @@ public interface IfStatement
      *     ただしこの文が{@code if-then}文である場合は{@code null}
      */
     Statement getElseStatement();
+
+    // copies
+
+    /**
+     * 条件式を指定の値に変更したコピーを返す。
+     * @param condition
+     *     条件式
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code condition}に{@code null}が指定された場合
+     */
+    IfStatement withCondition(Expression condition);
+
+    /**
+     * 条件成立時に実行される文を指定の値に変更したコピーを返す。
+     * @param thenStatement
+     *     条件成立時に実行される文
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code thenStatement}に{@code null}が指定された場合
+     */
+    IfStatement withThenStatement(Statement thenStatement);
+
+    /**
+     * 条件不成立時に実行される文を指定の値に変更したコピーを返す。
+     * <p> この文が{@code if-then}文である場合、引数には{@code null}を指定する。 </p>
+     * @param elseStatement
+     *     条件不成立時に実行される文、
+     *     ただしこの文が{@code if-then}文である場合は{@code null}
+     * @return
+     *     変更後のコピー
+     */
+    IfStatement withElseStatement(Statement elseStatement);
 }
@@ -44,4 +44,28 @@ public interface ImportDeclaration
      *     インポートする型およびメンバの名前
      */
     Name getName();
+
+    // copies
+
+    /**
+     * インポートの種類を指定の値に変更したコピーを返す。
+     * @param importKind
+     *     インポートの種類
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code importKind}に{@code null}が指定された場合
+     */
+    ImportDeclaration withImportKind(ImportKind importKind);
+
+    /**
+     * インポートする型およびメンバの名前を指定の値に変更したコピーを返す。
+     * @param name
+     *     インポートする型およびメンバの名前
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code name}に{@code null}が指定された場合
+     */
+    ImportDeclaration withName(Name name);
 }
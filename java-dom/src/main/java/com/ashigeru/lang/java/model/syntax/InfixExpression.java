@@ -58,4 +58,49 @@ public interface InfixExpression
      *     第二演算項
      */
     Expression getRightOperand();
+
+    // copies
+
+    /**
+     * 第一演算項を指定の値に変更したコピーを返す。
+     * <p>
+     * {@link ModelFactory}で生成する場合と同様に、指定の式は優先順位に応じて必要であれば括弧で囲まれる。
+     * </p>
+     * @param leftOperand
+     *     第一演算項
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code leftOperand}に{@code null}が指定された場合
+     */
+    InfixExpression withLeftOperand(Expression leftOperand);
+
+    /**
+     * 二項演算子を指定の値に変更したコピーを返す。
+     * <p>
+     * {@link ModelFactory}で生成する場合と同様に、それぞれの演算項は
+     * 新しい演算子の優先順位に応じて必要であれば括弧で囲まれる。
+     * </p>
+     * @param operator
+     *     二項演算子
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code operator}に{@code null}が指定された場合
+     */
+    InfixExpression withOperator(InfixOperator operator);
+
+    /**
+     * 第二演算項を指定の値に変更したコピーを返す。
+     * <p>
+     * {@link ModelFactory}で生成する場合と同様に、指定の式は優先順位に応じて必要であれば括弧で囲まれる。
+     * </p>
+     * @param rightOperand
+     *     第二演算項
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code rightOperand}に{@code null}が指定された場合
+     */
+    InfixExpression withRightOperand(Expression rightOperand);
 }
@@ -15,6 +15,7 @@
  */
 package com.ashigeru.lang.java.model.syntax;
 
+import java.util.List;
 
 /**
  * インスタンス初期化子、およびクラス初期化子を表現するインターフェース。
@@ -49,4 +50,40 @@ public interface InitializerDeclaration
      *     初期化子の本体
      */
     Block getBody();
+
+    // copies
+
+    /**
+     * ドキュメンテーションコメントを指定の値に変更したコピーを返す。
+     * <p> ドキュメンテーションコメントが存在しない場合、引数には{@code null}を指定する。 </p>
+     * @param javadoc
+     *     ドキュメンテーションコメント、
+     *     ただしドキュメンテーションコメントが存在しない場合は{@code null}
+     * @return
+     *     変更後のコピー
+     */
+    InitializerDeclaration withJavadoc(Javadoc javadoc);
+
+    /**
+     * 修飾子および注釈の一覧を指定の値に変更したコピーを返す。
+     * <p> 修飾子または注釈が一つも宣言されない場合、引数には空を指定する。 </p>
+     * @param modifiers
+     *     修飾子および注釈の一覧
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code modifiers}に{@code null}が指定された場合
+     */
+    InitializerDeclaration withModifiers(List<? extends Attribute> modifiers);
+
+    /**
+     * 初期化子の本体を指定の値に変更したコピーを返す。
+     * @param body
+     *     初期化子の本体
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code body}に{@code null}が指定された場合
+     */
+    InitializerDeclaration withBody(Block body);
 }
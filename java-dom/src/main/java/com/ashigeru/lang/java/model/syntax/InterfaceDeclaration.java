@@ -46,4 +46,76 @@ public interface InterfaceDeclaration
      *     親インターフェースの一覧
      */
     List<? extends Type> getSuperInterfaceTypes();
+
+    // copies
+
+    /**
+     * ドキュメンテーションコメントを指定の値に変更したコピーを返す。
+     * <p> ドキュメンテーションコメントが存在しない場合、引数には{@code null}を指定する。 </p>
+     * @param javadoc
+     *     ドキュメンテーションコメント、
+     *     ただしドキュメンテーションコメントが存在しない場合は{@code null}
+     * @return
+     *     変更後のコピー
+     */
+    InterfaceDeclaration withJavadoc(Javadoc javadoc);
+
+    /**
+     * 修飾子および注釈の一覧を指定の値に変更したコピーを返す。
+     * <p> 修飾子または注釈が一つも宣言されない場合、引数には空を指定する。 </p>
+     * @param modifiers
+     *     修飾子および注釈の一覧
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code modifiers}に{@code null}が指定された場合
+     */
+    InterfaceDeclaration withModifiers(List<? extends Attribute> modifiers);
+
+    /**
+     * 型の単純名を指定の値に変更したコピーを返す。
+     * @param name
+     *     型の単純名
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code name}に{@code null}が指定された場合
+     */
+    InterfaceDeclaration withName(SimpleName name);
+
+    /**
+     * 仮型引数宣言の一覧を指定の値に変更したコピーを返す。
+     * <p> 仮型引数が一つも宣言されない場合、引数には空を指定する。 </p>
+     * @param typeParameters
+     *     仮型引数宣言の一覧
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code typeParameters}に{@code null}が指定された場合
+     */
+    InterfaceDeclaration withTypeParameters(List<? extends TypeParameterDeclaration> typeParameters);
+
+    /**
+     * 親インターフェースの一覧を指定の値に変更したコピーを返す。
+     * <p> 親インターフェースが一つも宣言されない場合、引数には空を指定する。 </p>
+     * @param superInterfaceTypes
+     *     親インターフェースの一覧
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code superInterfaceTypes}に{@code null}が指定された場合
+     */
+    InterfaceDeclaration withSuperInterfaceTypes(List<? extends Type> superInterfaceTypes);
+
+    /**
+     * メンバの一覧を指定の値に変更したコピーを返す。
+     * <p> メンバが一つも宣言されない場合、引数には空を指定する。 </p>
+     * @param bodyDeclarations
+     *     メンバの一覧
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code bodyDeclarations}に{@code null}が指定された場合
+     */
+    InterfaceDeclaration withBodyDeclarations(List<? extends TypeBodyDeclaration> bodyDeclarations);
 }
@@ -34,4 +34,18 @@ public interface Javadoc
      *     ブロックの一覧
      */
     List<? extends DocBlock> getBlocks();
+
+    // copies
+
+    /**
+     * ブロックの一覧を指定の値に変更したコピーを返す。
+     * <p> ブロックが一つも指定されない場合、引数には空を指定する。 </p>
+     * @param blocks
+     *     ブロックの一覧
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code blocks}に{@code null}が指定された場合
+     */
+    Javadoc withBlocks(List<? extends DocBlock> blocks);
 }
@@ -43,4 +43,28 @@ public interface LabeledStatement
      *     対象の文
      */
     Statement getBody();
+
+    // copies
+
+    /**
+     * ラベルの名前を指定の値に変更したコピーを返す。
+     * @param label
+     *     ラベルの名前
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code label}に{@code null}が指定された場合
+     */
+    LabeledStatement withLabel(SimpleName label);
+
+    /**
+     * 対象の文を指定の値に変更したコピーを返す。
+     * @param body
+     *     対象の文
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code body}に{@code null}が指定された場合
+     */
+    LabeledStatement withBody(Statement body);
 }
@@ -37,4 +37,19 @@ public interface LineComment
      *     コメント文字列
      */
     String getString();
+
+    // copies
+
+    /**
+     * コメント文字列を指定の値に変更したコピーを返す。
+     * @param string
+     *     コメント文字列
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code string}に{@code null}が指定された場合
+     * @throws IllegalArgumentException
+     *     {@code string}に空が指定された場合
+     */
+    LineComment withString(String string);
 }
@@ -46,4 +46,19 @@ public interface Literal
      *     ただしリテラルの種類が不明である場合は{@code null}
      */
     LiteralKind getLiteralKind();
+
+    // copies
+
+    /**
+     * このリテラルを構成する字句を指定の値に変更したコピーを返す。
+     * @param token
+     *     このリテラルを構成する字句
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code token}に{@code null}が指定された場合
+     * @throws IllegalArgumentException
+     *     {@code token}に空が指定された場合
+     */
+    Literal withToken(String token);
 }
@@ -36,4 +36,17 @@ public interface LocalClassDeclaration
      *     宣言するクラス
      */
     ClassDeclaration getDeclaration();
+
+    // copies
+
+    /**
+     * 宣言するクラスを指定の値に変更したコピーを返す。
+     * @param declaration
+     *     宣言するクラス
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code declaration}に{@code null}が指定された場合
+     */
+    LocalClassDeclaration withDeclaration(ClassDeclaration declaration);
 }
@@ -52,4 +52,42 @@ public interface LocalVariableDeclaration
      *     宣言する変数の一覧
      */
     List<? extends VariableDeclarator> getVariableDeclarators();
+
+    // copies
+
+    /**
+     * 修飾子および注釈の一覧を指定の値に変更したコピーを返す。
+     * <p> 修飾子または注釈が一つも宣言されない場合、引数には空を指定する。 </p>
+     * @param modifiers
+     *     修飾子および注釈の一覧
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code modifiers}に{@code null}が指定された場合
+     */
+    LocalVariableDeclaration withModifiers(List<? extends Attribute> modifiers);
+
+    /**
+     * 宣言する変数の型を指定の値に変更したコピーを返す。
+     * @param type
+     *     宣言する変数の型
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code type}に{@code null}が指定された場合
+     */
+    LocalVariableDeclaration withType(Type type);
+
+    /**
+     * 宣言する変数の一覧を指定の値に変更したコピーを返す。
+     * @param variableDeclarators
+     *     宣言する変数の一覧
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code variableDeclarators}に{@code null}が指定された場合
+     * @throws IllegalArgumentException
+     *     {@code variableDeclarators}に空が指定された場合
+     */
+    LocalVariableDeclaration withVariableDeclarators(List<? extends VariableDeclarator> variableDeclarators);
 }
@@ -29,4 +29,17 @@ public interface MarkerAnnotation
         extends Annotation {
 
     // properties
+
+    // copies
+
+    /**
+     * 注釈の型を指定の値に変更したコピーを返す。
+     * @param type
+     *     注釈の型
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code type}に{@code null}が指定された場合
+     */
+    MarkerAnnotation withType(NamedType type);
 }
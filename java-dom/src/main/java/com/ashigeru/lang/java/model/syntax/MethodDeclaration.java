@@ -15,6 +15,7 @@
  */
 package com.ashigeru.lang.java.model.syntax;
 
+import java.util.List;
 
 /**
  * メソッドの宣言を表現するインターフェース。
@@ -44,4 +45,109 @@ public interface MethodDeclaration
      *     戻り値の次元数
      */
     int getExtraDimensions();
+
+    // copies
+
+    /**
+     * ドキュメンテーションコメントを指定の値に変更したコピーを返す。
+     * <p> ドキュメンテーションコメントが存在しない場合、引数には{@code null}を指定する。 </p>
+     * @param javadoc
+     *     ドキュメンテーションコメント、
+     *     ただしドキュメンテーションコメントが存在しない場合は{@code null}
+     * @return
+     *     変更後のコピー
+     */
+    MethodDeclaration withJavadoc(Javadoc javadoc);
+
+    /**
+     * 修飾子および注釈の一覧を指定の値に変更したコピーを返す。
+     * <p> 修飾子または注釈が一つも宣言されない場合、引数には空を指定する。 </p>
+     * @param modifiers
+     *     修飾子および注釈の一覧
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code modifiers}に{@code null}が指定された場合
+     */
+    MethodDeclaration withModifiers(List<? extends Attribute> modifiers);
+
+    /**
+     * 型引数宣言の一覧を指定の値に変更したコピーを返す。
+     * <p> 型引数が一つも宣言されない場合、引数には空を指定する。 </p>
+     * @param typeParameters
+     *     型引数宣言の一覧
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code typeParameters}に{@code null}が指定された場合
+     */
+    MethodDeclaration withTypeParameters(List<? extends TypeParameterDeclaration> typeParameters);
+
+    /**
+     * 戻り値の型を指定の値に変更したコピーを返す。
+     * @param returnType
+     *     戻り値の型
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code returnType}に{@code null}が指定された場合
+     */
+    MethodDeclaration withReturnType(Type returnType);
+
+    /**
+     * メソッドまたはコンストラクタの名前を指定の値に変更したコピーを返す。
+     * @param name
+     *     メソッドまたはコンストラクタの名前
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code name}に{@code null}が指定された場合
+     */
+    MethodDeclaration withName(SimpleName name);
+
+    /**
+     * 仮引数宣言の一覧を指定の値に変更したコピーを返す。
+     * <p> 仮引数が一つも宣言されない場合、引数には空を指定する。 </p>
+     * @param formalParameters
+     *     仮引数宣言の一覧
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code formalParameters}に{@code null}が指定された場合
+     */
+    MethodDeclaration withFormalParameters(List<? extends FormalParameterDeclaration> formalParameters);
+
+    /**
+     * 戻り値の次元数を指定の値に変更したコピーを返す。
+     * @param extraDimensions
+     *     戻り値の次元数
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code extraDimensions}に負の値が指定された場合
+     */
+    MethodDeclaration withExtraDimensions(int extraDimensions);
+
+    /**
+     * 例外型宣言の一覧を指定の値に変更したコピーを返す。
+     * <p> 例外型が一つも宣言されない場合、引数には空を指定する。 </p>
+     * @param exceptionTypes
+     *     例外型宣言の一覧
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code exceptionTypes}に{@code null}が指定された場合
+     */
+    MethodDeclaration withExceptionTypes(List<? extends Type> exceptionTypes);
+
+    /**
+     * メソッドまたはコンストラクタ本体を指定の値に変更したコピーを返す。
+     * <p> このメソッドが本体を提供されない抽象メソッドやインターフェースメソッドである場合、引数には{@code null}を指定する。 </p>
+     * @param body
+     *     メソッドまたはコンストラクタ本体、
+     *     ただしこのメソッドが本体を提供されない抽象メソッドやインターフェースメソッドである場合は{@code null}
+     * @return
+     *     変更後のコピー
+     */
+    MethodDeclaration withBody(Block body);
 }
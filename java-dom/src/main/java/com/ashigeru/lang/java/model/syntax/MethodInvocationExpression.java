@@ -66,4 +66,55 @@ public interface MethodInvocationExpression
      *     実引数の一覧
      */
     List<? extends Expression> getArguments();
+
+    // copies
+
+    /**
+     * 限定式、または型限定子を指定の値に変更したコピーを返す。
+     * <p>
+     * {@link ModelFactory}で生成する場合と同様に、指定の式は優先順位に応じて必要であれば括弧で囲まれる。
+     * </p>
+     * <p> 限定式が指定されない場合(単純メソッド起動)、引数には{@code null}を指定する。 </p>
+     * @param qualifier
+     *     限定式、または型限定子、
+     *     ただし限定式が指定されない場合(単純メソッド起動)は{@code null}
+     * @return
+     *     変更後のコピー
+     */
+    MethodInvocationExpression withQualifier(Expression qualifier);
+
+    /**
+     * 型引数の一覧を指定の値に変更したコピーを返す。
+     * <p> 型引数が一つも指定されない場合、引数には空を指定する。 </p>
+     * @param typeArguments
+     *     型引数の一覧
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code typeArguments}に{@code null}が指定された場合
+     */
+    MethodInvocationExpression withTypeArguments(List<? extends Type> typeArguments);
+
+    /**
+     * メソッドの名前を指定の値に変更したコピーを返す。
+     * @param name
+     *     メソッドの名前
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code name}に{@code null}が指定された場合
+     */
+    MethodInvocationExpression withName(SimpleName name);
+
+    /**
+     * 実引数の一覧を指定の値に変更したコピーを返す。
+     * <p> 実引数が一つも指定されない場合、引数には空を指定する。 </p>
+     * @param arguments
+     *     実引数の一覧
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code arguments}に{@code null}が指定された場合
+     */
+    MethodInvocationExpression withArguments(List<? extends Expression> arguments);
 }
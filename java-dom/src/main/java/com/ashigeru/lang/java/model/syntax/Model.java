@@ -41,11 +41,55 @@ public interface Model {
     <R, C, E extends Throwable> R accept(Visitor<R, C, E> visitor, C context)
         throws E;
 
+    /**
+     * このモデルが公開するプロパティの値を返す。
+     * <p>
+     * 対象のプロパティの値を、ビジタやリフレクションを利用せずに取得する。
+     * {@link ModelKind#getProperties()}と組み合わせることで、
+     * 任意のモデルの子要素を種類ごとのビジタを用意せずに走査できる。
+     * </p>
+     * <p>
+     * プロパティがモデルのリストを保持する場合は変更不可能なリストを、
+     * {@code int}や{@code boolean}の値を保持する場合はそれらをボクシングした値をそれぞれ返す。
+     * </p>
+     * @param property 対象のプロパティ
+     * @return 対応するプロパティの値、値が存在しない場合は{@code null}
+     * @throws IllegalArgumentException このモデルが指定のプロパティを公開しない場合、
+     *     または引数に{@code null}が含まれる場合
+     */
+    Object getProperty(PropertyKind property);
+
+    /**
+     * このモデルを起点とする部分木のすべてのモデルを凍結する。
+     * <p>
+     * 凍結されたモデルのプロパティは以降変更できず、変更しようとした場合は{@link IllegalStateException}がスローされる。
+     * このモデルが凍結されていることを{@link #isFrozen()}で観測したスレッドは、
+     * 部分木のすべてのプロパティを正しく参照できる。
+     * そのため、凍結したモデルは防御的なコピーを行わずに複数のスレッドで共有できる。
+     * </p>
+     * <p>
+     * {@link #putModelTrait(Class, Object) モデルトレイト}は凍結の対象とならず、
+     * 凍結の有無にかかわらず複数のスレッドから同時に登録や参照を行える。
+     * </p>
+     */
+    void freeze();
+
+    /**
+     * このモデルが凍結されているかどうかを返す。
+     * @return 凍結されている場合は{@code true}、そうでない場合は{@code false}
+     * @see #freeze()
+     */
+    boolean isFrozen();
+
     /**
      * このモデルのハッシュ値を返す。
      * <p>
      * なお、{@link #findModelTrait(Class) モデルトレイト}の有無はハッシュ値に影響しない。
      * </p>
+     * <p>
+     * ハッシュ値は{@link #freeze() 凍結}されたモデルでのみキャッシュされ、定数時間で返される。
+     * 凍結されていないモデルでは、呼び出しのたびに凍結されていない子孫をたどって計算し直す。
+     * </p>
      * @return このモデルのハッシュ値
      */
     @Override
@@ -1355,6 +1355,111 @@ public interface ModelFactory {
             String token
     );
 
+    /**
+     * 指定の{@code int}型の値を表す新しい{@link Literal}を生成して返す。
+     * <p>
+     * このメソッドは字句を値から直接構築するため、{@link #newLiteral(String)}と異なり字句の解析を行わない。
+     * </p>
+     * @param value
+     *     リテラルが表す値
+     * @return 生成した要素
+     */
+    Literal newIntLiteral(
+            int value
+    );
+
+    /**
+     * 指定の{@code long}型の値を表す新しい{@link Literal}を生成して返す。
+     * <p>
+     * このメソッドは字句を値から直接構築するため、{@link #newLiteral(String)}と異なり字句の解析を行わない。
+     * </p>
+     * @param value
+     *     リテラルが表す値
+     * @return 生成した要素
+     */
+    Literal newLongLiteral(
+            long value
+    );
+
+    /**
+     * 指定の{@code float}型の値を表す新しい{@link Literal}を生成して返す。
+     * <p>
+     * このメソッドは字句を値から直接構築するため、{@link #newLiteral(String)}と異なり字句の解析を行わない。
+     * </p>
+     * @param value
+     *     リテラルが表す値
+     * @return 生成した要素
+     * @throws IllegalArgumentException
+     *     {@code value}が有限の値でない場合
+     */
+    Literal newFloatLiteral(
+            float value
+    );
+
+    /**
+     * 指定の{@code double}型の値を表す新しい{@link Literal}を生成して返す。
+     * <p>
+     * このメソッドは字句を値から直接構築するため、{@link #newLiteral(String)}と異なり字句の解析を行わない。
+     * </p>
+     * @param value
+     *     リテラルが表す値
+     * @return 生成した要素
+     * @throws IllegalArgumentException
+     *     {@code value}が有限の値でない場合
+     */
+    Literal newDoubleLiteral(
+            double value
+    );
+
+    /**
+     * 指定の{@code char}型の値を表す新しい{@link Literal}を生成して返す。
+     * <p>
+     * このメソッドは字句を値から直接構築するため、{@link #newLiteral(String)}と異なり字句の解析を行わない。
+     * </p>
+     * @param value
+     *     リテラルが表す値
+     * @return 生成した要素
+     */
+    Literal newCharLiteral(
+            char value
+    );
+
+    /**
+     * 指定の{@code boolean}型の値を表す新しい{@link Literal}を生成して返す。
+     * <p>
+     * このメソッドは字句を値から直接構築するため、{@link #newLiteral(String)}と異なり字句の解析を行わない。
+     * </p>
+     * @param value
+     *     リテラルが表す値
+     * @return 生成した要素
+     */
+    Literal newBooleanLiteral(
+            boolean value
+    );
+
+    /**
+     * 指定の文字列の値を表す新しい{@link Literal}を生成して返す。
+     * <p>
+     * このメソッドは字句を値から直接構築するため、{@link #newLiteral(String)}と異なり字句の解析を行わない。
+     * </p>
+     * @param value
+     *     リテラルが表す値
+     * @return 生成した要素
+     * @throws IllegalArgumentException
+     *     {@code value}に{@code null}が指定された場合
+     */
+    Literal newStringLiteral(
+            String value
+    );
+
+    /**
+     * {@code null}を表す新しい{@link Literal}を生成して返す。
+     * @return 生成した要素
+     */
+    Literal newNullLiteral(
+
+    );
+
     /**
      * 新しい{@link LocalClassDeclaration}を生成して返す。
      * @param declaration
@@ -707,6 +707,8 @@ public enum ModelKind {
 
     private Class<? extends Model> interfaceType;
 
+    private PropertyKind[] slots;
+
     private List<PropertyKind> properties;
 
     private ModelKind(
@@ -715,6 +717,7 @@ public enum ModelKind {
         assert interfaceType != null;
         assert properties != null;
         this.interfaceType = interfaceType;
+        this.slots = properties;
         this.properties =
             Collections.unmodifiableList(Arrays.asList(properties));
     }
@@ -734,4 +737,22 @@ public enum ModelKind {
     public List<PropertyKind> getProperties() {
         return properties;
     }
+
+    /**
+     * 指定のプロパティが{@link #getProperties()}の何番目に出現するかを返す。
+     * @param property 対象のプロパティ
+     * @return 対応する位置 (0起算)、この種類の要素が指定のプロパティを公開しない場合は{@code -1}
+     * @throws IllegalArgumentException 引数に{@code null}が指定された場合
+     */
+    public int getSlot(PropertyKind property) {
+        if (property == null) {
+            throw new IllegalArgumentException("property must not be null"); //$NON-NLS-1$
+        }
+        for (int i = 0; i < slots.length; i++) {
+            if (slots[i] == property) {
+                return i;
+            }
+        }
+        return -1;
+    }
 }
@@ -31,4 +31,17 @@ public interface Modifier
      *     修飾子の種類
      */
     ModifierKind getModifierKind();
+
+    // copies
+
+    /**
+     * 修飾子の種類を指定の値に変更したコピーを返す。
+     * @param modifierKind
+     *     修飾子の種類
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code modifierKind}に{@code null}が指定された場合
+     */
+    Modifier withModifierKind(ModifierKind modifierKind);
 }
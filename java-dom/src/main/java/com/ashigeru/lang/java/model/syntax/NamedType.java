@@ -37,4 +37,17 @@ public interface NamedType
      *     型の名前
      */
     Name getName();
+
+    // copies
+
+    /**
+     * 型の名前を指定の値に変更したコピーを返す。
+     * @param name
+     *     型の名前
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code name}に{@code null}が指定された場合
+     */
+    NamedType withName(Name name);
 }
@@ -38,4 +38,29 @@ public interface NormalAnnotation
      *     注釈要素の一覧
      */
     List<? extends AnnotationElement> getElements();
+
+    // copies
+
+    /**
+     * 注釈の型を指定の値に変更したコピーを返す。
+     * @param type
+     *     注釈の型
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code type}に{@code null}が指定された場合
+     */
+    NormalAnnotation withType(NamedType type);
+
+    /**
+     * 注釈要素の一覧を指定の値に変更したコピーを返す。
+     * <p> 注釈要素が一つも指定されない場合、引数には空を指定する。 </p>
+     * @param elements
+     *     注釈要素の一覧
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code elements}に{@code null}が指定された場合
+     */
+    NormalAnnotation withElements(List<? extends AnnotationElement> elements);
 }
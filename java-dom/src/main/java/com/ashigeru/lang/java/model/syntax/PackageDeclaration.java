@@ -56,4 +56,40 @@ public interface PackageDeclaration
      *     宣言するパッケージの名称
      */
     Name getName();
+
+    // copies
+
+    /**
+     * ドキュメンテーションコメントを指定の値に変更したコピーを返す。
+     * <p> ドキュメンテーションコメントが存在しない場合、引数には{@code null}を指定する。 </p>
+     * @param javadoc
+     *     ドキュメンテーションコメント、
+     *     ただしドキュメンテーションコメントが存在しない場合は{@code null}
+     * @return
+     *     変更後のコピー
+     */
+    PackageDeclaration withJavadoc(Javadoc javadoc);
+
+    /**
+     * 注釈の一覧を指定の値に変更したコピーを返す。
+     * <p> 注釈が存在しない場合、引数には空を指定する。 </p>
+     * @param annotations
+     *     注釈の一覧
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code annotations}に{@code null}が指定された場合
+     */
+    PackageDeclaration withAnnotations(List<? extends Annotation> annotations);
+
+    /**
+     * 宣言するパッケージの名称を指定の値に変更したコピーを返す。
+     * @param name
+     *     宣言するパッケージの名称
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code name}に{@code null}が指定された場合
+     */
+    PackageDeclaration withName(Name name);
 }
@@ -44,4 +44,30 @@ public interface ParameterizedType
      *     型引数の一覧
      */
     List<? extends Type> getTypeArguments();
+
+    // copies
+
+    /**
+     * パラメータ化されていない型を指定の値に変更したコピーを返す。
+     * @param type
+     *     パラメータ化されていない型
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code type}に{@code null}が指定された場合
+     */
+    ParameterizedType withType(Type type);
+
+    /**
+     * 型引数の一覧を指定の値に変更したコピーを返す。
+     * @param typeArguments
+     *     型引数の一覧
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code typeArguments}に{@code null}が指定された場合
+     * @throws IllegalArgumentException
+     *     {@code typeArguments}に空が指定された場合
+     */
+    ParameterizedType withTypeArguments(List<? extends Type> typeArguments);
 }
@@ -36,4 +36,17 @@ public interface ParenthesizedExpression
      *     内包する式
      */
     Expression getExpression();
+
+    // copies
+
+    /**
+     * 内包する式を指定の値に変更したコピーを返す。
+     * @param expression
+     *     内包する式
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code expression}に{@code null}が指定された場合
+     */
+    ParenthesizedExpression withExpression(Expression expression);
 }
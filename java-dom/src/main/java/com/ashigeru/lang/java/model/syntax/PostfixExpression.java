@@ -43,4 +43,31 @@ public interface PostfixExpression
      *     演算子
      */
     PostfixOperator getOperator();
+
+    // copies
+
+    /**
+     * 後置演算項を指定の値に変更したコピーを返す。
+     * <p>
+     * {@link ModelFactory}で生成する場合と同様に、指定の式は優先順位に応じて必要であれば括弧で囲まれる。
+     * </p>
+     * @param operand
+     *     後置演算項
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code operand}に{@code null}が指定された場合
+     */
+    PostfixExpression withOperand(Expression operand);
+
+    /**
+     * 演算子を指定の値に変更したコピーを返す。
+     * @param operator
+     *     演算子
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code operator}に{@code null}が指定された場合
+     */
+    PostfixExpression withOperator(PostfixOperator operator);
 }
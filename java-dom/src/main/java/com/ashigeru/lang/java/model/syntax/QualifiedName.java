@@ -43,4 +43,28 @@ public interface QualifiedName
      *     この限定名の末尾にある単純名
      */
     SimpleName getSimpleName();
+
+    // copies
+
+    /**
+     * 限定子を指定の値に変更したコピーを返す。
+     * @param qualifier
+     *     限定子
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code qualifier}に{@code null}が指定された場合
+     */
+    QualifiedName withQualifier(Name qualifier);
+
+    /**
+     * この限定名の末尾にある単純名を指定の値に変更したコピーを返す。
+     * @param simpleName
+     *     この限定名の末尾にある単純名
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code simpleName}に{@code null}が指定された場合
+     */
+    QualifiedName withSimpleName(SimpleName simpleName);
 }
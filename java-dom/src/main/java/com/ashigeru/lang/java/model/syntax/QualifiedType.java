@@ -45,4 +45,28 @@ public interface QualifiedType
      *     型の単純名
      */
     SimpleName getSimpleName();
+
+    // copies
+
+    /**
+     * 型限定子を指定の値に変更したコピーを返す。
+     * @param qualifier
+     *     型限定子
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code qualifier}に{@code null}が指定された場合
+     */
+    QualifiedType withQualifier(Type qualifier);
+
+    /**
+     * 型の単純名を指定の値に変更したコピーを返す。
+     * @param simpleName
+     *     型の単純名
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code simpleName}に{@code null}が指定された場合
+     */
+    QualifiedType withSimpleName(SimpleName simpleName);
 }
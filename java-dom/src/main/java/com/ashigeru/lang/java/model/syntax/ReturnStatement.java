@@ -38,4 +38,17 @@ public interface ReturnStatement
      *     ただし返戻値が指定されない場合は{@code null}
      */
     Expression getExpression();
+
+    // copies
+
+    /**
+     * 返戻値を指定の値に変更したコピーを返す。
+     * <p> 返戻値が指定されない場合、引数には{@code null}を指定する。 </p>
+     * @param expression
+     *     返戻値、
+     *     ただし返戻値が指定されない場合は{@code null}
+     * @return
+     *     変更後のコピー
+     */
+    ReturnStatement withExpression(Expression expression);
 }
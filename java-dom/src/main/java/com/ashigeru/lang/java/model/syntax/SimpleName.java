@@ -36,4 +36,19 @@ public interface SimpleName
      *     この単純名を表現する文字列
      */
     String getToken();
+
+    // copies
+
+    /**
+     * この単純名を表現する文字列を指定の値に変更したコピーを返す。
+     * @param string
+     *     この単純名を表現する文字列
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code string}に{@code null}が指定された場合
+     * @throws IllegalArgumentException
+     *     {@code string}に空が指定された場合
+     */
+    SimpleName withToken(String string);
 }
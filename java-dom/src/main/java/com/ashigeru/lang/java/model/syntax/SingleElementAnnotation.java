@@ -36,4 +36,28 @@ public interface SingleElementAnnotation
      *     {@code value}要素値の式
      */
     Expression getExpression();
+
+    // copies
+
+    /**
+     * 注釈の型を指定の値に変更したコピーを返す。
+     * @param type
+     *     注釈の型
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code type}に{@code null}が指定された場合
+     */
+    SingleElementAnnotation withType(NamedType type);
+
+    /**
+     * {@code value}要素値の式を指定の値に変更したコピーを返す。
+     * @param expression
+     *     {@code value}要素値の式
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code expression}に{@code null}が指定された場合
+     */
+    SingleElementAnnotation withExpression(Expression expression);
 }
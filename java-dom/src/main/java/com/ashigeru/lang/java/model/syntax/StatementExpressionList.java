@@ -38,4 +38,19 @@ public interface StatementExpressionList
      *     式の一覧
      */
     List<? extends Expression> getExpressions();
+
+    // copies
+
+    /**
+     * 式の一覧を指定の値に変更したコピーを返す。
+     * @param expressions
+     *     式の一覧
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code expressions}に{@code null}が指定された場合
+     * @throws IllegalArgumentException
+     *     {@code expressions}に空が指定された場合
+     */
+    StatementExpressionList withExpressions(List<? extends Expression> expressions);
 }
@@ -32,4 +32,17 @@ public interface Super
         extends Keyword {
 
     // properties
+
+    // copies
+
+    /**
+     * 型限定子を指定の値に変更したコピーを返す。
+     * <p> 限定子が指定されない場合、引数には{@code null}を指定する。 </p>
+     * @param qualifier
+     *     型限定子、
+     *     ただし限定子が指定されない場合は{@code null}
+     * @return
+     *     変更後のコピー
+     */
+    Super withQualifier(NamedType qualifier);
 }
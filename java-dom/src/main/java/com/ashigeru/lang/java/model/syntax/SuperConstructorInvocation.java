@@ -15,6 +15,7 @@
  */
 package com.ashigeru.lang.java.model.syntax;
 
+import java.util.List;
 
 /**
  * 親コンストラクタ起動文を表現するインターフェース。
@@ -39,4 +40,44 @@ public interface SuperConstructorInvocation
      *     ただし限定式が指定されない場合は{@code null}
      */
     Expression getQualifier();
+
+    // copies
+
+    /**
+     * 限定式を指定の値に変更したコピーを返す。
+     * <p>
+     * {@link ModelFactory}で生成する場合と同様に、指定の式は優先順位に応じて必要であれば括弧で囲まれる。
+     * </p>
+     * <p> 限定式が指定されない場合、引数には{@code null}を指定する。 </p>
+     * @param qualifier
+     *     限定式、
+     *     ただし限定式が指定されない場合は{@code null}
+     * @return
+     *     変更後のコピー
+     */
+    SuperConstructorInvocation withQualifier(Expression qualifier);
+
+    /**
+     * 型引数の一覧を指定の値に変更したコピーを返す。
+     * <p> 型引数を一つも指定しない場合、引数には空を指定する。 </p>
+     * @param typeArguments
+     *     型引数の一覧
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code typeArguments}に{@code null}が指定された場合
+     */
+    SuperConstructorInvocation withTypeArguments(List<? extends Type> typeArguments);
+
+    /**
+     * 実引数の一覧を指定の値に変更したコピーを返す。
+     * <p> 実引数を一つも指定しない場合、引数には空を指定する。 </p>
+     * @param arguments
+     *     実引数の一覧
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code arguments}に{@code null}が指定された場合
+     */
+    SuperConstructorInvocation withArguments(List<? extends Expression> arguments);
 }
@@ -38,4 +38,17 @@ public interface SwitchCaseLabel
      *     {@code case}ラベルの値
      */
     Expression getExpression();
+
+    // copies
+
+    /**
+     * {@code case}ラベルの値を指定の値に変更したコピーを返す。
+     * @param expression
+     *     {@code case}ラベルの値
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code expression}に{@code null}が指定された場合
+     */
+    SwitchCaseLabel withExpression(Expression expression);
 }
@@ -47,4 +47,29 @@ public interface SwitchStatement
      *     {@code switch}文の本体
      */
     List<? extends Statement> getStatements();
+
+    // copies
+
+    /**
+     * セレクタ式を指定の値に変更したコピーを返す。
+     * @param expression
+     *     セレクタ式
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code expression}に{@code null}が指定された場合
+     */
+    SwitchStatement withExpression(Expression expression);
+
+    /**
+     * {@code switch}文の本体を指定の値に変更したコピーを返す。
+     * <p> 本体に一つもラベルが指定されない場合、引数には空を指定する。 </p>
+     * @param statements
+     *     {@code switch}文の本体
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code statements}に{@code null}が指定された場合
+     */
+    SwitchStatement withStatements(List<? extends Statement> statements);
 }
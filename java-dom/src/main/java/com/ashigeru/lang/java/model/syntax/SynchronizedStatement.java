@@ -43,4 +43,28 @@ public interface SynchronizedStatement
      *     本体ブロック
      */
     Block getBody();
+
+    // copies
+
+    /**
+     * 同期オブジェクトを指定の値に変更したコピーを返す。
+     * @param expression
+     *     同期オブジェクト
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code expression}に{@code null}が指定された場合
+     */
+    SynchronizedStatement withExpression(Expression expression);
+
+    /**
+     * 本体ブロックを指定の値に変更したコピーを返す。
+     * @param body
+     *     本体ブロック
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code body}に{@code null}が指定された場合
+     */
+    SynchronizedStatement withBody(Block body);
 }
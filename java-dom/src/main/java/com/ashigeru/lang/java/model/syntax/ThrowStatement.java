@@ -36,4 +36,17 @@ public interface ThrowStatement
      *     例外オブジェクト
      */
     Expression getExpression();
+
+    // copies
+
+    /**
+     * 例外オブジェクトを指定の値に変更したコピーを返す。
+     * @param expression
+     *     例外オブジェクト
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code expression}に{@code null}が指定された場合
+     */
+    ThrowStatement withExpression(Expression expression);
 }
@@ -54,4 +54,40 @@ public interface TryStatement
      *     ただし{@code finally}節が指定されない場合は{@code null}
      */
     Block getFinallyBlock();
+
+    // copies
+
+    /**
+     * {@code try}節を指定の値に変更したコピーを返す。
+     * @param tryBlock
+     *     {@code try}節
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code tryBlock}に{@code null}が指定された場合
+     */
+    TryStatement withTryBlock(Block tryBlock);
+
+    /**
+     * {@code catch}節の一覧を指定の値に変更したコピーを返す。
+     * <p> {@code catch}節が一つも指定されない場合、引数には空を指定する。 </p>
+     * @param catchClauses
+     *     {@code catch}節の一覧
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code catchClauses}に{@code null}が指定された場合
+     */
+    TryStatement withCatchClauses(List<? extends CatchClause> catchClauses);
+
+    /**
+     * {@code finally}節を指定の値に変更したコピーを返す。
+     * <p> {@code finally}節が指定されない場合、引数には{@code null}を指定する。 </p>
+     * @param finallyBlock
+     *     {@code finally}節、
+     *     ただし{@code finally}節が指定されない場合は{@code null}
+     * @return
+     *     変更後のコピー
+     */
+    TryStatement withFinallyBlock(Block finallyBlock);
 }
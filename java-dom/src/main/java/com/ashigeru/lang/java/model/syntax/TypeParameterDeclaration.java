@@ -45,4 +45,29 @@ public interface TypeParameterDeclaration
      *     境界型の一覧
      */
     List<? extends Type> getTypeBounds();
+
+    // copies
+
+    /**
+     * 型引数の名前を指定の値に変更したコピーを返す。
+     * @param name
+     *     型引数の名前
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code name}に{@code null}が指定された場合
+     */
+    TypeParameterDeclaration withName(SimpleName name);
+
+    /**
+     * 境界型の一覧を指定の値に変更したコピーを返す。
+     * <p> 境界型が一つも指定されない場合、引数には空を指定する。 </p>
+     * @param typeBounds
+     *     境界型の一覧
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code typeBounds}に{@code null}が指定された場合
+     */
+    TypeParameterDeclaration withTypeBounds(List<? extends Type> typeBounds);
 }
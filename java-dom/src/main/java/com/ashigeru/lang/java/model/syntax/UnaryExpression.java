@@ -43,4 +43,31 @@ public interface UnaryExpression
      *     演算項
      */
     Expression getOperand();
+
+    // copies
+
+    /**
+     * 単項演算子を指定の値に変更したコピーを返す。
+     * @param operator
+     *     単項演算子
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code operator}に{@code null}が指定された場合
+     */
+    UnaryExpression withOperator(UnaryOperator operator);
+
+    /**
+     * 演算項を指定の値に変更したコピーを返す。
+     * <p>
+     * {@link ModelFactory}で生成する場合と同様に、指定の式は優先順位に応じて必要であれば括弧で囲まれる。
+     * </p>
+     * @param operand
+     *     演算項
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code operand}に{@code null}が指定された場合
+     */
+    UnaryExpression withOperand(Expression operand);
 }
@@ -52,4 +52,39 @@ public interface VariableDeclarator
      *     ただし初期化式が指定されない場合は{@code null}
      */
     Expression getInitializer();
+
+    // copies
+
+    /**
+     * 変数の名前を指定の値に変更したコピーを返す。
+     * @param name
+     *     変数の名前
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code name}に{@code null}が指定された場合
+     */
+    VariableDeclarator withName(SimpleName name);
+
+    /**
+     * 追加次元数の宣言を指定の値に変更したコピーを返す。
+     * @param extraDimensions
+     *     追加次元数の宣言
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code extraDimensions}に負の値が指定された場合
+     */
+    VariableDeclarator withExtraDimensions(int extraDimensions);
+
+    /**
+     * 初期化式を指定の値に変更したコピーを返す。
+     * <p> 初期化式が指定されない場合、引数には{@code null}を指定する。 </p>
+     * @param initializer
+     *     初期化式、
+     *     ただし初期化式が指定されない場合は{@code null}
+     * @return
+     *     変更後のコピー
+     */
+    VariableDeclarator withInitializer(Expression initializer);
 }
@@ -43,4 +43,28 @@ public interface WhileStatement
      *     ループ文
      */
     Statement getBody();
+
+    // copies
+
+    /**
+     * 条件式を指定の値に変更したコピーを返す。
+     * @param condition
+     *     条件式
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code condition}に{@code null}が指定された場合
+     */
+    WhileStatement withCondition(Expression condition);
+
+    /**
+     * ループ文を指定の値に変更したコピーを返す。
+     * @param body
+     *     ループ文
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code body}に{@code null}が指定された場合
+     */
+    WhileStatement withBody(Statement body);
 }
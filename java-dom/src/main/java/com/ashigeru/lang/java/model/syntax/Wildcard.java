@@ -45,4 +45,28 @@ public interface Wildcard
      *     ただし境界型が指定されない場合は{@code null}
      */
     Type getTypeBound();
+
+    // copies
+
+    /**
+     * 型境界の種類を指定の値に変更したコピーを返す。
+     * @param boundKind
+     *     型境界の種類
+     * @return
+     *     変更後のコピー
+     * @throws IllegalArgumentException
+     *     {@code boundKind}に{@code null}が指定された場合
+     */
+    Wildcard withBoundKind(WildcardBoundKind boundKind);
+
+    /**
+     * 境界型を指定の値に変更したコピーを返す。
+     * <p> 境界型が指定されない場合、引数には{@code null}を指定する。 </p>
+     * @param typeBound
+     *     境界型、
+     *     ただし境界型が指定されない場合は{@code null}
+     * @return
+     *     変更後のコピー
+     */
+    Wildcard withTypeBound(Type typeBound);
 }
@@ -0,0 +1,436 @@
+/*
+ * Copyright 2011 @ashigeru.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package com.ashigeru.lang.java.model.util;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+
+import com.ashigeru.lang.java.model.syntax.PackageDeclaration;
+
+/**
+ * {@link FileChannel}を利用してソースコードを書き出す{@link Filer}。
+ * <p>
+ * {@link #openFor(PackageDeclaration, String)}が返すライターは、
+ * スレッドごとに再利用される文字バッファに出力を蓄積し、
+ * バッファが満ちるかライターが閉じられた時点でまとめて符号化してファイルに書き出す。
+ * 符号化にはスレッドごとにキャッシュした{@link CharsetEncoder}と直接バッファを利用するため、
+ * 多数のファイルを書き出す場合でもファイルごとにエンコーダやバッファを確保しない。
+ * 同じスレッドで複数のライターを同時に開いた場合、二つ目以降のライターは
+ * ファイルごとに小さなヒープ上のバッファを確保して利用する。
+ * </p>
+ * <p>
+ * スレッドごとのバッファは、ライターを閉じた時点か、書き出しに失敗した時点で解放される。
+ * 書き出しに失敗したライターはその時点で閉じられ、以降の書き出しはすべて失敗する。
+ * そのため、書き出しに失敗したライターを閉じずに破棄しても、同じスレッドの以降のライターは共有のバッファを利用できる。
+ * ただし、書き出しに失敗しないまま破棄されたライターはバッファを解放しないため、
+ * ライターは常に{@code finally}節などで閉じること。
+ * </p>
+ * <p>
+ * エンコーディングがASCIIの範囲の文字をそのまま1バイトで表す場合 (UTF-8など)、
+ * ASCIIの範囲の文字のみからなる区間はエンコーダを利用せずにバイト列に変換する。
+ * 文字列リテラルなどをUnicodeエスケープして生成した場合、多くのソースコードはこの経路のみで書き出される。
+ * なお、ASCIIの範囲外の文字が一度出現すると、そのファイルの残りはすべてエンコーダを利用して符号化する。
+ * </p>
+ * <p>
+ * 符号化できない文字は、{@link Filer}と同様にエンコーディングの既定の代替バイト列に置き換えられる。
+ * </p>
+ * @author ashigeru
+ */
+public class ChannelFiler extends Filer {
+
+    static final int CHAR_BUFFER_SIZE = 64 * 1024;
+
+    static final int BYTE_BUFFER_SIZE = CHAR_BUFFER_SIZE * 4;
+
+    static final int NESTED_CHAR_BUFFER_SIZE = 4 * 1024;
+
+    static final int NESTED_BYTE_BUFFER_SIZE = NESTED_CHAR_BUFFER_SIZE * 4;
+
+    private static final ThreadLocal<Buffers> BUFFERS = new ThreadLocal<Buffers>() {
+        @Override
+        protected Buffers initialValue() {
+            return new Buffers(
+                    new char[CHAR_BUFFER_SIZE],
+                    ByteBuffer.allocateDirect(BYTE_BUFFER_SIZE));
+        }
+    };
+
+    private final boolean asciiCompatible;
+
+    /**
+     * 現在のスレッドの共有のバッファを利用中のライターが存在する場合のみ{@code true}を返す。
+     * @return 共有のバッファが利用中であれば{@code true}
+     */
+    static boolean isSharedBufferInUse() {
+        return BUFFERS.get().inUse;
+    }
+
+    /**
+     * インスタンスを生成する。
+     * @param outputPath 出力先のパス
+     * @param encoding エンコーディング
+     * @throws IllegalArgumentException 引数に{@code null}が含まれる場合
+     */
+    public ChannelFiler(File outputPath, Charset encoding) {
+        super(outputPath, encoding);
+        this.asciiCompatible = isAsciiCompatible(encoding);
+    }
+
+    /**
+     * 指定のエンコーディングがASCIIの範囲の文字をそれぞれ同じ値の1バイトで表す場合のみ{@code true}を返す。
+     * @param encoding 対象のエンコーディング
+     * @return ASCIIと互換性がある場合に{@code true}、そうでない場合は{@code false}
+     */
+    static boolean isAsciiCompatible(Charset encoding) {
+        assert encoding != null;
+        if (encoding.canEncode() == false) {
+            return false;
+        }
+        char[] chars = new char[0x80];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = (char) i;
+        }
+        try {
+            ByteBuffer bytes = encoding.newEncoder().encode(CharBuffer.wrap(chars));
+            if (bytes.remaining() != chars.length) {
+                return false;
+            }
+            for (int i = 0; i < chars.length; i++) {
+                if (bytes.get() != i) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        catch (CharacterCodingException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 指定のパッケージに指定のサブパスのファイルを作成するためのライターを返す。
+     * @param packageDeclOrNull 対象のパッケージ宣言、無名パッケージの場合は{@code null}
+     * @param subPath パッケージ下のサブパス
+     * @return 開いたライター
+     * @throws IOException ファイルの作成に失敗した場合
+     * @throws IllegalArgumentException 引数に{@code null}が含まれる場合
+     */
+    @Override
+    public PrintWriter openFor(
+            PackageDeclaration packageDeclOrNull,
+            String subPath) throws IOException {
+        if (subPath == null) {
+            throw new IllegalArgumentException("fileName must not be null"); //$NON-NLS-1$
+        }
+        File folder = getFolderFor(packageDeclOrNull);
+        File file = new File(folder, subPath);
+        File parent = file.getParentFile();
+        if (parent != null) {
+            parent.mkdirs();
+        }
+        FileChannel channel = new FileOutputStream(file).getChannel();
+        return new PrintWriter(new ChannelWriter(channel, getEncoding(), asciiCompatible));
+    }
+
+    /**
+     * スレッドごとに再利用するバッファ。
+     */
+    private static final class Buffers {
+
+        final char[] chars;
+
+        final ByteBuffer bytes;
+
+        CharsetEncoder encoder;
+
+        volatile boolean inUse;
+
+        Buffers(char[] chars, ByteBuffer bytes) {
+            assert chars != null;
+            assert bytes != null;
+            this.chars = chars;
+            this.bytes = bytes;
+        }
+
+        CharsetEncoder getEncoder(Charset encoding) {
+            assert encoding != null;
+            CharsetEncoder result = encoder;
+            if (result == null || result.charset().equals(encoding) == false) {
+                result = encoding.newEncoder()
+                    .onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE);
+                encoder = result;
+            }
+            return result.reset();
+        }
+    }
+
+    /**
+     * バッファに蓄積した文字列を符号化してチャネルに書き出すライター。
+     * <p>
+     * このクラスのメソッドは同期化されない。
+     * {@link PrintWriter}を経由して利用する場合、同期化は{@link PrintWriter}が行う。
+     * </p>
+     */
+    private static final class ChannelWriter extends Writer {
+
+        private final FileChannel channel;
+
+        private final Buffers buffers;
+
+        private final boolean shared;
+
+        private final char[] chars;
+
+        private final ByteBuffer bytes;
+
+        private final CharsetEncoder encoder;
+
+        private final boolean asciiCompatible;
+
+        private boolean encoderUsed;
+
+        private int size;
+
+        private boolean closed;
+
+        ChannelWriter(FileChannel channel, Charset encoding, boolean asciiCompatible) {
+            assert channel != null;
+            assert encoding != null;
+            Buffers local = BUFFERS.get();
+            if (local.inUse) {
+                // nested writers in the same thread use their own small heap buffers
+                local = new Buffers(
+                        new char[NESTED_CHAR_BUFFER_SIZE],
+                        ByteBuffer.allocate(NESTED_BYTE_BUFFER_SIZE));
+                this.shared = false;
+            }
+            else {
+                local.inUse = true;
+                this.shared = true;
+            }
+            this.channel = channel;
+            this.buffers = local;
+            this.chars = local.chars;
+            this.bytes = local.bytes;
+            this.encoder = local.getEncoder(encoding);
+            this.asciiCompatible = asciiCompatible;
+            this.bytes.clear();
+        }
+
+        @Override
+        public void write(int c) throws IOException {
+            ensureOpen();
+            if (size == chars.length) {
+                spill();
+            }
+            chars[size++] = (char) c;
+        }
+
+        @Override
+        public void write(char[] cbuf, int off, int len) throws IOException {
+            ensureOpen();
+            int offset = off;
+            int rest = len;
+            while (rest > 0) {
+                if (size == chars.length) {
+                    spill();
+                }
+                int count = Math.min(rest, chars.length - size);
+                System.arraycopy(cbuf, offset, chars, size, count);
+                size += count;
+                offset += count;
+                rest -= count;
+            }
+        }
+
+        @Override
+        public void write(String str, int off, int len) throws IOException {
+            ensureOpen();
+            int offset = off;
+            int rest = len;
+            while (rest > 0) {
+                if (size == chars.length) {
+                    spill();
+                }
+                int count = Math.min(rest, chars.length - size);
+                str.getChars(offset, offset + count, chars, size);
+                size += count;
+                offset += count;
+                rest -= count;
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            ensureOpen();
+            try {
+                drain(false);
+                writeBytes();
+            }
+            catch (IOException e) {
+                abort();
+                throw e;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                drain(true);
+                writeBytes();
+            }
+            finally {
+                try {
+                    channel.close();
+                }
+                finally {
+                    release();
+                }
+            }
+        }
+
+        /**
+         * 文字バッファの内容を符号化し、失敗した場合はこのライターを閉じる。
+         * @throws IOException 書き出しに失敗した場合
+         */
+        private void spill() throws IOException {
+            try {
+                drain(false);
+            }
+            catch (IOException e) {
+                abort();
+                throw e;
+            }
+        }
+
+        /**
+         * 書き出しに失敗したこのライターを閉じ、バッファを解放する。
+         */
+        private void abort() {
+            closed = true;
+            try {
+                channel.close();
+            }
+            catch (IOException e) {
+                // the original failure is reported to the caller
+            }
+            finally {
+                release();
+            }
+        }
+
+        private void release() {
+            if (shared) {
+                buffers.inUse = false;
+            }
+        }
+
+        private void ensureOpen() throws IOException {
+            if (closed) {
+                throw new IOException("writer is already closed"); //$NON-NLS-1$
+            }
+        }
+
+        /**
+         * 文字バッファの内容を符号化してバイトバッファに移す。
+         * <p>
+         * バイトバッファが満ちた場合はチャネルに書き出す。
+         * サロゲートペアの前半など、単独で符号化できない末尾の文字は文字バッファに残す。
+         * </p>
+         * @param endOfInput 入力の終端である場合に{@code true}
+         * @throws IOException 書き出しに失敗した場合
+         */
+        private void drain(boolean endOfInput) throws IOException {
+            int start = 0;
+            if (asciiCompatible && encoderUsed == false) {
+                start = drainAscii();
+                if (start == size && endOfInput == false) {
+                    size = 0;
+                    return;
+                }
+                encoderUsed = true;
+            }
+            CharBuffer in = CharBuffer.wrap(chars, start, size - start);
+            while (true) {
+                CoderResult result = encoder.encode(in, bytes, endOfInput);
+                if (result.isOverflow()) {
+                    writeBytes();
+                }
+                else if (result.isUnderflow()) {
+                    break;
+                }
+                else {
+                    result.throwException();
+                }
+            }
+            if (endOfInput) {
+                while (encoder.flush(bytes).isOverflow()) {
+                    writeBytes();
+                }
+            }
+            int rest = in.remaining();
+            System.arraycopy(chars, in.position(), chars, 0, rest);
+            size = rest;
+        }
+
+        /**
+         * 文字バッファの先頭からASCIIの範囲の文字をエンコーダを利用せずにバイトバッファに移す。
+         * @return 移した文字数
+         * @throws IOException 書き出しに失敗した場合
+         */
+        private int drainAscii() throws IOException {
+            int index = 0;
+            while (index < size) {
+                if (bytes.hasRemaining() == false) {
+                    writeBytes();
+                }
+                int limit = Math.min(size, index + bytes.remaining());
+                for (; index < limit; index++) {
+                    char c = chars[index];
+                    if (c >= 0x80) {
+                        return index;
+                    }
+                    bytes.put((byte) c);
+                }
+            }
+            return index;
+        }
+
+        private void writeBytes() throws IOException {
+            bytes.flip();
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+            bytes.clear();
+        }
+    }
+}
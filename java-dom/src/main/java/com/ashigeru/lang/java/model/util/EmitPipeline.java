@@ -0,0 +1,275 @@
+/*
+ * Copyright 2011 @ashigeru.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package com.ashigeru.lang.java.model.util;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import com.ashigeru.lang.java.model.syntax.CompilationUnit;
+
+/**
+ * 多数のコンパイル単位の生成、出力、書き出しを複数のスレッドで並列に行う。
+ * <p>
+ * それぞれの入力について、{@link Generator}によるコンパイル単位の生成 (型の解決を含む) と
+ * 文字列への出力を{@link ExecutorService}上の独立したタスクとして実行し、
+ * 出力された文字列を呼び出し元のスレッドで{@link Emitter}に書き出す。
+ * </p>
+ * <p>
+ * 呼び出し元のスレッドは、完了したタスクを最大{@code batchSize}個ずつまとめて取り出してから書き出す。
+ * これはタスクの完了を待つ回数を減らすためのもので、ファイルへの入出力自体はまとめない。
+ * それぞれのコンパイル単位は、これまで通り{@link Emitter#openFor(CompilationUnit)}で個別に開いて書き出し、閉じる。
+ * </p>
+ * <p>
+ * タスクは入力ごとに一つずつ生成され、空いたスレッドが順に次のタスクを取り出すため、
+ * 入力ごとの処理量に大きな偏りがあっても特定のスレッドに処理が集中することはない。
+ * また、実行中または書き出し待ちのタスクの個数は{@code capacity}を超えないように制限されるため、
+ * 書き出しが生成に追いつかない場合でも出力された文字列がメモリ上に際限なく蓄積されることはない。
+ * </p>
+ * <p>
+ * 書き出しはすべて呼び出し元のスレッドで行われるため、{@link Emitter}はスレッド安全でなくてもよい。
+ * 一方、{@link Generator}は複数のスレッドから同時に呼び出される。
+ * {@link ImportBuilder}などのスレッド安全でないオブジェクトは、コンパイル単位ごとに生成すること。
+ * </p>
+ * @author ashigeru
+ */
+public class EmitPipeline {
+
+    /**
+     * 既定の、完了したコンパイル単位を一度に取り出す最大個数。
+     */
+    public static final int DEFAULT_BATCH_SIZE = 64;
+
+    private final ExecutorService executor;
+
+    private final Emitter emitter;
+
+    private final int capacity;
+
+    private final int batchSize;
+
+    /**
+     * インスタンスを生成する。
+     * <p>
+     * 同時に処理するコンパイル単位の上限は、利用可能なプロセッサ数の4倍となる。
+     * </p>
+     * @param executor タスクを実行する{@link ExecutorService}
+     * @param emitter コンパイル単位の書き出し先
+     * @throws IllegalArgumentException 引数に{@code null}が指定された場合
+     */
+    public EmitPipeline(ExecutorService executor, Emitter emitter) {
+        this(executor, emitter, Runtime.getRuntime().availableProcessors() * 4, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * インスタンスを生成する。
+     * @param executor タスクを実行する{@link ExecutorService}
+     * @param emitter コンパイル単位の書き出し先
+     * @param capacity 実行中または書き出し待ちのコンパイル単位の上限
+     * @param batchSize 完了したコンパイル単位を一度に取り出す最大個数
+     * @throws IllegalArgumentException 引数に{@code null}が指定された場合、
+     *     または上限や最大個数が正の整数でない場合
+     */
+    public EmitPipeline(ExecutorService executor, Emitter emitter, int capacity, int batchSize) {
+        if (executor == null) {
+            throw new IllegalArgumentException("executor must not be null"); //$NON-NLS-1$
+        }
+        if (emitter == null) {
+            throw new IllegalArgumentException("emitter must not be null"); //$NON-NLS-1$
+        }
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive"); //$NON-NLS-1$
+        }
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be positive"); //$NON-NLS-1$
+        }
+        this.executor = executor;
+        this.emitter = emitter;
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 指定の入力からそれぞれコンパイル単位を生成し、書き出す。
+     * <p>
+     * いずれかの入力の処理に失敗した場合、以降の入力の処理を開始せず、
+     * すでに開始した処理の完了を待ったのちに最初の失敗を再スローする。
+     * 失敗を検出したあとに完了したコンパイル単位は書き出さない。
+     * </p>
+     * <p>
+     * 処理の完了を待つ間に割り込まれた場合や、書き出しの際に実行時例外が発生した場合は、
+     * 実行中または実行待ちのタスクをすべて取り消してから例外をスローする。
+     * </p>
+     * @param <T> 入力の型
+     * @param sources 入力の一覧
+     * @param generator 入力からコンパイル単位を生成するジェネレータ
+     * @return 書き出したコンパイル単位の個数
+     * @throws IOException コンパイル単位の生成または書き出しに失敗した場合
+     * @throws InterruptedException 処理の完了を待つ間に割り込まれた場合
+     * @throws IllegalArgumentException 引数に{@code null}が含まれる場合
+     */
+    public <T> int emit(
+            Iterable<? extends T> sources,
+            final Generator<? super T> generator) throws IOException, InterruptedException {
+        if (sources == null) {
+            throw new IllegalArgumentException("sources must not be null"); //$NON-NLS-1$
+        }
+        if (generator == null) {
+            throw new IllegalArgumentException("generator must not be null"); //$NON-NLS-1$
+        }
+        CompletionService<Rendered> service = new ExecutorCompletionService<Rendered>(executor);
+        Iterator<? extends T> iterator = sources.iterator();
+        Set<Future<Rendered>> running = new HashSet<Future<Rendered>>();
+        List<Future<Rendered>> batch = new ArrayList<Future<Rendered>>(batchSize);
+        Throwable failure = null;
+        int written = 0;
+        try {
+            while (true) {
+                while (failure == null && running.size() < capacity && iterator.hasNext()) {
+                    final T source = iterator.next();
+                    running.add(service.submit(new Callable<Rendered>() {
+                        @Override
+                        public Rendered call() throws IOException {
+                            return render(generator.generate(source));
+                        }
+                    }));
+                }
+                if (running.isEmpty()) {
+                    break;
+                }
+                batch.add(service.take());
+                while (batch.size() < batchSize) {
+                    Future<Rendered> next = service.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                running.removeAll(batch);
+                for (Future<Rendered> future : batch) {
+                    try {
+                        Rendered rendered = future.get();
+                        if (rendered != null && failure == null) {
+                            write(rendered);
+                            written++;
+                        }
+                    }
+                    catch (ExecutionException e) {
+                        if (failure == null) {
+                            failure = e.getCause();
+                        }
+                    }
+                    catch (IOException e) {
+                        if (failure == null) {
+                            failure = e;
+                        }
+                    }
+                }
+                batch.clear();
+            }
+        }
+        finally {
+            for (Future<Rendered> future : running) {
+                future.cancel(true);
+            }
+        }
+        if (failure != null) {
+            if (failure instanceof IOException) {
+                throw (IOException) failure;
+            }
+            if (failure instanceof RuntimeException) {
+                throw (RuntimeException) failure;
+            }
+            if (failure instanceof Error) {
+                throw (Error) failure;
+            }
+            throw new IllegalStateException(failure);
+        }
+        return written;
+    }
+
+    private static Rendered render(CompilationUnit unit) {
+        if (unit == null) {
+            return null;
+        }
+        StringWriter buffer = new StringWriter();
+        PrintWriter writer = new PrintWriter(buffer);
+        Models.emit(unit, writer);
+        writer.flush();
+        return new Rendered(unit, buffer.toString());
+    }
+
+    private void write(Rendered rendered) throws IOException {
+        assert rendered != null;
+        PrintWriter writer = emitter.openFor(rendered.unit);
+        try {
+            writer.write(rendered.contents);
+        }
+        finally {
+            writer.close();
+        }
+        if (writer.checkError()) {
+            throw new IOException(MessageFormat.format(
+                    "Failed to write {0}", //$NON-NLS-1$
+                    Emitter.findPrimaryType(rendered.unit)));
+        }
+    }
+
+    /**
+     * 入力からコンパイル単位を生成する。
+     * @param <T> 入力の型
+     * @author ashigeru
+     */
+    public abstract static class Generator<T> {
+
+        /**
+         * 指定の入力に対応するコンパイル単位を生成して返す。
+         * <p>
+         * このメソッドは複数のスレッドから同時に呼び出される。
+         * </p>
+         * @param source 入力
+         * @return 生成したコンパイル単位、書き出すべきものがない場合は{@code null}
+         * @throws IOException コンパイル単位の生成に失敗した場合
+         */
+        public abstract CompilationUnit generate(T source) throws IOException;
+    }
+
+    private static final class Rendered {
+
+        final CompilationUnit unit;
+
+        final String contents;
+
+        Rendered(CompilationUnit unit, String contents) {
+            assert unit != null;
+            assert contents != null;
+            this.unit = unit;
+            this.contents = contents;
+        }
+    }
+}
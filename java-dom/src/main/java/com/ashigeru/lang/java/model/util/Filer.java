@@ -50,6 +50,22 @@ public class Filer extends Emitter {
         this.encoding = encoding;
     }
 
+    /**
+     * 出力先のパスを返す。
+     * @return 出力先のパス
+     */
+    public File getOutputPath() {
+        return outputPath;
+    }
+
+    /**
+     * 出力に利用するエンコーディングを返す。
+     * @return エンコーディング
+     */
+    public Charset getEncoding() {
+        return encoding;
+    }
+
     /**
      * 指定のパッケージ宣言に関連するフォルダへのパスを返す。
      * <p>
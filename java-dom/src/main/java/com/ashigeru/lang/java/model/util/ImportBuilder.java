@@ -16,6 +16,7 @@
 package com.ashigeru.lang.java.model.util;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -27,7 +28,6 @@ import java.util.Map;
 import java.util.Set;
 
 import com.ashigeru.lang.java.model.syntax.ArrayType;
-import com.ashigeru.lang.java.model.syntax.BasicType;
 import com.ashigeru.lang.java.model.syntax.ImportDeclaration;
 import com.ashigeru.lang.java.model.syntax.ImportKind;
 import com.ashigeru.lang.java.model.syntax.ModelFactory;
@@ -39,7 +39,6 @@ import com.ashigeru.lang.java.model.syntax.ParameterizedType;
 import com.ashigeru.lang.java.model.syntax.QualifiedName;
 import com.ashigeru.lang.java.model.syntax.QualifiedType;
 import com.ashigeru.lang.java.model.syntax.SimpleName;
-import com.ashigeru.lang.java.model.syntax.StrictVisitor;
 import com.ashigeru.lang.java.model.syntax.Type;
 import com.ashigeru.lang.java.model.syntax.Wildcard;
 import com.ashigeru.lang.java.model.syntax.WildcardBoundKind;
@@ -143,7 +142,7 @@ public class ImportBuilder {
         if (type == null) {
             throw new IllegalArgumentException("type must not be null"); //$NON-NLS-1$
         }
-        return type.accept(resolver, null);
+        return resolver.resolve(type);
     }
 
     /**
@@ -226,7 +225,11 @@ public class ImportBuilder {
         }
     }
 
-    private static class Resolver extends StrictVisitor<Type, Void, NoThrow> {
+    private static class Resolver {
+
+        private static final Type[] NO_OPERANDS = new Type[0];
+
+        private static final int INITIAL_DEPTH = 8;
 
         final Strategy strategy;
 
@@ -238,6 +241,14 @@ public class ImportBuilder {
 
         final ModelFactory factory;
 
+        private Type[] elements = new Type[INITIAL_DEPTH];
+
+        private Type[][] operands = new Type[INITIAL_DEPTH][];
+
+        private Type[][] results = new Type[INITIAL_DEPTH][];
+
+        private int[] positions = new int[INITIAL_DEPTH];
+
         Resolver(
                 ModelFactory factory,
                 Strategy strategy,
@@ -257,22 +268,127 @@ public class ImportBuilder {
             this.reserved = new HashMap<SimpleName, Name>();
         }
 
-        @Override
-        public Type visitArrayType(ArrayType elem, Void _) {
-            Type component = elem.getComponentType().accept(this, _);
-            if (elem.getComponentType().equals(component)) {
-                return elem;
+        /**
+         * 指定の型を可能であればインポートし、インポート後の型表現を返す。
+         * <p>
+         * 型引数や配列の要素型などの部分型を明示的なスタックに積みながら、
+         * 部分型から順に解決して型を再構築する。
+         * 型の入れ子の深さにかかわらず再帰呼び出しを行わない。
+         * 名前付きの型は、再帰的に解決する場合と同じく出現順に解決される。
+         * </p>
+         * @param root 対象の型
+         * @return インポート後の型
+         */
+        Type resolve(Type root) {
+            assert root != null;
+            int depth = 0;
+            push(depth++, root);
+            while (true) {
+                int top = depth - 1;
+                int position = positions[top];
+                if (position < operands[top].length) {
+                    push(depth++, operands[top][position]);
+                    continue;
+                }
+                Type result = rebuild(elements[top], operands[top], results[top]);
+                elements[top] = null;
+                operands[top] = null;
+                results[top] = null;
+                depth--;
+                if (depth == 0) {
+                    return result;
+                }
+                results[depth - 1][positions[depth - 1]++] = result;
             }
-            return factory.newArrayType(component);
         }
 
-        @Override
-        public Type visitBasicType(BasicType elem, Void _) {
-            return elem;
+        private void push(int index, Type elem) {
+            if (index == elements.length) {
+                int size = elements.length * 2;
+                elements = Arrays.copyOf(elements, size);
+                operands = Arrays.copyOf(operands, size);
+                results = Arrays.copyOf(results, size);
+                positions = Arrays.copyOf(positions, size);
+            }
+            Type[] children = operandsOf(elem);
+            elements[index] = elem;
+            operands[index] = children;
+            results[index] = children.length == 0 ? NO_OPERANDS : new Type[children.length];
+            positions[index] = 0;
         }
 
-        @Override
-        public Type visitNamedType(NamedType elem, Void _) {
+        private Type[] operandsOf(Type elem) {
+            switch (elem.getModelKind()) {
+            case ARRAY_TYPE:
+                return new Type[] { ((ArrayType) elem).getComponentType() };
+            case PARAMETERIZED_TYPE: {
+                ParameterizedType parameterized = (ParameterizedType) elem;
+                List<? extends Type> arguments = parameterized.getTypeArguments();
+                Type[] results = new Type[arguments.size() + 1];
+                results[0] = parameterized.getType();
+                for (int i = 0, n = arguments.size(); i < n; i++) {
+                    results[i + 1] = arguments.get(i);
+                }
+                return results;
+            }
+            case QUALIFIED_TYPE:
+                return new Type[] { ((QualifiedType) elem).getQualifier() };
+            case WILDCARD: {
+                Wildcard wildcard = (Wildcard) elem;
+                if (wildcard.getBoundKind() == WildcardBoundKind.UNBOUNDED) {
+                    return NO_OPERANDS;
+                }
+                return new Type[] { wildcard.getTypeBound() };
+            }
+            case BASIC_TYPE:
+            case NAMED_TYPE:
+                return NO_OPERANDS;
+            default:
+                throw new UnsupportedOperationException(elem.getModelKind().toString());
+            }
+        }
+
+        private Type rebuild(Type elem, Type[] operands, Type[] resolved) {
+            switch (elem.getModelKind()) {
+            case ARRAY_TYPE:
+                if (resolved[0] == operands[0]) {
+                    return elem;
+                }
+                return factory.newArrayType(resolved[0]);
+            case PARAMETERIZED_TYPE: {
+                boolean changed = false;
+                for (int i = 0; i < resolved.length; i++) {
+                    changed |= resolved[i] != operands[i];
+                }
+                if (changed == false) {
+                    return elem;
+                }
+                List<Type> arguments = new ArrayList<Type>(resolved.length - 1);
+                for (int i = 1; i < resolved.length; i++) {
+                    arguments.add(resolved[i]);
+                }
+                return factory.newParameterizedType(resolved[0], arguments);
+            }
+            case QUALIFIED_TYPE:
+                if (resolved[0] == operands[0]) {
+                    return elem;
+                }
+                return factory.newQualifiedType(resolved[0], ((QualifiedType) elem).getSimpleName());
+            case WILDCARD:
+                if (resolved.length == 0 || resolved[0] == operands[0]) {
+                    return elem;
+                }
+                return factory.newWildcard(((Wildcard) elem).getBoundKind(), resolved[0]);
+            case BASIC_TYPE:
+                return elem;
+            case NAMED_TYPE:
+                return resolveNamedType((NamedType) elem);
+            default:
+                throw new AssertionError(elem);
+            }
+        }
+
+        private Type resolveNamedType(NamedType elem) {
             Name name = elem.getName();
 
             if (name.getModelKind() == ModelKind.SIMPLE_NAME) {
@@ -350,41 +466,6 @@ public class ImportBuilder {
             char first = name.getToken().charAt(0);
             return Character.isUpperCase(first);
         }
-
-        @Override
-        public Type visitParameterizedType(ParameterizedType elem, Void _) {
-            Type nonparameterized = elem.getType().accept(this, _);
-            List<Type> arguments = new ArrayList<Type>();
-            for (Type t : elem.getTypeArguments()) {
-                arguments.add(t.accept(this, _));
-            }
-            if (nonparameterized.equals(elem.getType()) &&
-                    arguments.equals(elem.getTypeArguments())) {
-                return elem;
-            }
-            return factory.newParameterizedType(nonparameterized, arguments);
-        }
-
-        @Override
-        public Type visitQualifiedType(QualifiedType elem, Void _) {
-            Type qualifier = elem.getQualifier().accept(this, _);
-            if (qualifier.equals(elem.getQualifier())) {
-                return elem;
-            }
-            return factory.newQualifiedType(qualifier, elem.getSimpleName());
-        }
-
-        @Override
-        public Type visitWildcard(Wildcard elem, Void _) throws NoThrow {
-            if (elem.getBoundKind() == WildcardBoundKind.UNBOUNDED) {
-                return elem;
-            }
-            Type bound = elem.getTypeBound().accept(this, _);
-            if (bound.equals(elem.getTypeBound())) {
-                return elem;
-            }
-            return factory.newWildcard(elem.getBoundKind(), bound);
-        }
     }
 
     /**
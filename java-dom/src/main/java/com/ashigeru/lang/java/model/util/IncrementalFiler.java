@@ -0,0 +1,423 @@
+/*
+ * Copyright 2011 @ashigeru.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package com.ashigeru.lang.java.model.util;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.ashigeru.lang.java.model.syntax.PackageDeclaration;
+
+/**
+ * 内容が変化したファイルのみを書き出す{@link Filer}。
+ * <p>
+ * {@link #openFor(PackageDeclaration, String)}が返すライターはいったんメモリ上に出力し、
+ * ライターが閉じられた時点で既存のファイルと内容を比較して、変化した場合のみファイルを書き換える。
+ * 内容が変化しないファイルは更新日時も変化しないため、後続のコンパイラやIDEによる再処理を抑制できる。
+ * </p>
+ * <p>
+ * マニフェストファイルを指定した場合、前回の実行で出力したファイルの内容のダイジェストを
+ * マニフェストから読み出し、既存のファイルを読まずに比較する。
+ * また、{@link #finish(boolean)}で今回の出力をマニフェストに書き出し、
+ * 前回の実行で出力したが今回は出力しなかったファイルを削除できる。
+ * マニフェストを指定しない場合、常に既存のファイルの内容と比較する。
+ * </p>
+ * <p>
+ * このクラスのライターは、複数のスレッドから同時に開いて利用できる。
+ * ただし、同一のファイルを同時に開いた場合の動作は規定されない。
+ * </p>
+ * @author ashigeru
+ */
+public class IncrementalFiler extends Filer {
+
+    private static final Charset MANIFEST_ENCODING = Charset.forName("UTF-8"); //$NON-NLS-1$
+
+    private static final String DIGEST_ALGORITHM = "MD5"; //$NON-NLS-1$
+
+    private static final char SEPARATOR = '\t';
+
+    private final File manifestFile;
+
+    private final Map<String, Entry> previous;
+
+    private final ConcurrentMap<String, Entry> current = new ConcurrentHashMap<String, Entry>();
+
+    private final AtomicInteger writtenCount = new AtomicInteger();
+
+    private final AtomicInteger skippedCount = new AtomicInteger();
+
+    private volatile IOException failure;
+
+    /**
+     * マニフェストを利用せずにインスタンスを生成する。
+     * @param outputPath 出力先のパス
+     * @param encoding エンコーディング
+     * @throws IllegalArgumentException 引数に{@code null}が含まれる場合
+     */
+    public IncrementalFiler(File outputPath, Charset encoding) {
+        super(outputPath, encoding);
+        this.manifestFile = null;
+        this.previous = Collections.emptyMap();
+    }
+
+    /**
+     * インスタンスを生成する。
+     * <p>
+     * 指定のマニフェストファイルが存在する場合、前回の実行結果としてその内容を読み出す。
+     * </p>
+     * @param outputPath 出力先のパス
+     * @param encoding エンコーディング
+     * @param manifestFile 前回と今回の出力を記録するマニフェストファイル
+     * @throws IOException マニフェストファイルの読み出しに失敗した場合
+     * @throws IllegalArgumentException 引数に{@code null}が含まれる場合
+     */
+    public IncrementalFiler(
+            File outputPath,
+            Charset encoding,
+            File manifestFile) throws IOException {
+        super(outputPath, encoding);
+        if (manifestFile == null) {
+            throw new IllegalArgumentException("manifestFile must not be null"); //$NON-NLS-1$
+        }
+        this.manifestFile = manifestFile;
+        this.previous = readManifest(manifestFile);
+    }
+
+    /**
+     * 指定のパッケージに指定のサブパスのファイルを作成するためのライターを返す。
+     * <p>
+     * 返されるライターを閉じた時点で、内容が変化した場合のみファイルを書き出す。
+     * 書き出しに失敗した場合、ライターの{@link PrintWriter#checkError()}が{@code true}を返すほか、
+     * 以降の{@link #finish(boolean)}が例外をスローする。
+     * </p>
+     * @param packageDeclOrNull 対象のパッケージ宣言、無名パッケージの場合は{@code null}
+     * @param subPath パッケージ下のサブパス
+     * @return 開いたライター
+     * @throws IOException ファイルの作成に失敗した場合
+     * @throws IllegalArgumentException 引数に{@code null}が含まれる場合
+     */
+    @Override
+    public PrintWriter openFor(
+            PackageDeclaration packageDeclOrNull,
+            String subPath) throws IOException {
+        if (subPath == null) {
+            throw new IllegalArgumentException("fileName must not be null"); //$NON-NLS-1$
+        }
+        File folder = getFolderFor(packageDeclOrNull);
+        final File file = new File(folder, subPath);
+        final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        return new PrintWriter(new OutputStreamWriter(buffer, getEncoding())) {
+            private boolean closed;
+            @Override
+            public void close() {
+                synchronized (lock) {
+                    if (closed) {
+                        return;
+                    }
+                    closed = true;
+                    super.close();
+                    try {
+                        commit(file, buffer.toByteArray());
+                    }
+                    catch (IOException e) {
+                        if (failure == null) {
+                            failure = e;
+                        }
+                        setError();
+                    }
+                }
+            }
+        };
+    }
+
+    /**
+     * 今回の出力を完了し、マニフェストファイルを更新する。
+     * <p>
+     * マニフェストファイルを指定しなかった場合、マニフェストの更新と孤立したファイルの削除は行わない。
+     * </p>
+     * @param deleteOrphans 前回の実行で出力したが今回は出力しなかったファイルを削除する場合は{@code true}
+     * @return 削除したファイルの一覧、すでに存在しなかったファイルは含まない
+     * @throws IOException 以前のファイルの書き出しに失敗していた場合、
+     *     またはマニフェストの更新やファイルの削除に失敗した場合
+     */
+    public List<File> finish(boolean deleteOrphans) throws IOException {
+        if (failure != null) {
+            throw failure;
+        }
+        if (manifestFile == null) {
+            return Collections.emptyList();
+        }
+        List<File> deleted = new ArrayList<File>();
+        Map<String, Entry> retained = new TreeMap<String, Entry>(current);
+        for (Map.Entry<String, Entry> entry : previous.entrySet()) {
+            String path = entry.getKey();
+            if (current.containsKey(path)) {
+                continue;
+            }
+            if (deleteOrphans) {
+                File file = toFile(path);
+                if (file.delete()) {
+                    deleted.add(file);
+                }
+                else if (file.exists()) {
+                    throw new IOException(MessageFormat.format(
+                            "Failed to delete {0}", //$NON-NLS-1$
+                            file));
+                }
+            }
+            else {
+                retained.put(path, entry.getValue());
+            }
+        }
+        writeManifest(manifestFile, retained);
+        return deleted;
+    }
+
+    /**
+     * このインスタンスで実際に書き出したファイルの個数を返す。
+     * @return 書き出したファイルの個数
+     */
+    public int getWrittenCount() {
+        return writtenCount.get();
+    }
+
+    /**
+     * このインスタンスで内容が変化しなかったために書き出さなかったファイルの個数を返す。
+     * @return 書き出さなかったファイルの個数
+     */
+    public int getSkippedCount() {
+        return skippedCount.get();
+    }
+
+    void commit(File file, byte[] contents) throws IOException {
+        assert file != null;
+        assert contents != null;
+        String path = toRelativePath(file);
+        Entry entry = new Entry(digest(contents), contents.length);
+        current.put(path, entry);
+        if (isUnchanged(file, path, entry, contents)) {
+            skippedCount.incrementAndGet();
+            return;
+        }
+        File parent = file.getParentFile();
+        if (parent != null) {
+            parent.mkdirs();
+        }
+        OutputStream output = new FileOutputStream(file);
+        try {
+            output.write(contents);
+        }
+        finally {
+            output.close();
+        }
+        writtenCount.incrementAndGet();
+    }
+
+    private boolean isUnchanged(File file, String path, Entry entry, byte[] contents) throws IOException {
+        assert file != null;
+        assert path != null;
+        assert entry != null;
+        assert contents != null;
+        if (file.length() != contents.length || file.isFile() == false) {
+            return false;
+        }
+        Entry last = previous.get(path);
+        if (last != null) {
+            return last.equals(entry);
+        }
+        byte[] existing = new byte[contents.length];
+        InputStream input;
+        try {
+            input = new FileInputStream(file);
+        }
+        catch (FileNotFoundException e) {
+            return false;
+        }
+        try {
+            int offset = 0;
+            while (offset < existing.length) {
+                int read = input.read(existing, offset, existing.length - offset);
+                if (read < 0) {
+                    return false;
+                }
+                offset += read;
+            }
+            return input.read() < 0 && Arrays.equals(existing, contents);
+        }
+        finally {
+            input.close();
+        }
+    }
+
+    private String toRelativePath(File file) {
+        assert file != null;
+        String base = getOutputPath().getAbsoluteFile().toURI().normalize().getPath();
+        String target = file.getAbsoluteFile().toURI().normalize().getPath();
+        if (target.startsWith(base)) {
+            return target.substring(base.length());
+        }
+        return target;
+    }
+
+    private File toFile(String path) {
+        assert path != null;
+        File file = new File(path);
+        if (file.isAbsolute()) {
+            return file;
+        }
+        return new File(getOutputPath(), path);
+    }
+
+    private static String digest(byte[] contents) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance(DIGEST_ALGORITHM);
+        }
+        catch (NoSuchAlgorithmException e) {
+            throw new AssertionError(e);
+        }
+        byte[] bytes = digest.digest(contents);
+        char[] results = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            results[i * 2] = Character.forDigit((bytes[i] >> 4) & 0xf, 16);
+            results[i * 2 + 1] = Character.forDigit(bytes[i] & 0xf, 16);
+        }
+        return String.valueOf(results);
+    }
+
+    private static Map<String, Entry> readManifest(File file) throws IOException {
+        assert file != null;
+        if (file.isFile() == false) {
+            return Collections.emptyMap();
+        }
+        Map<String, Entry> results = new HashMap<String, Entry>();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new FileInputStream(file),
+                MANIFEST_ENCODING));
+        try {
+            while (true) {
+                String line = reader.readLine();
+                if (line == null) {
+                    break;
+                }
+                int first = line.indexOf(SEPARATOR);
+                int second = first < 0 ? -1 : line.indexOf(SEPARATOR, first + 1);
+                if (second < 0) {
+                    // ignores broken lines; those files are compared with the existing contents
+                    continue;
+                }
+                try {
+                    String digest = line.substring(0, first);
+                    long size = Long.parseLong(line.substring(first + 1, second));
+                    results.put(line.substring(second + 1), new Entry(digest, size));
+                }
+                catch (NumberFormatException e) {
+                    continue;
+                }
+            }
+        }
+        finally {
+            reader.close();
+        }
+        return results;
+    }
+
+    private static void writeManifest(File file, Map<String, Entry> entries) throws IOException {
+        assert file != null;
+        assert entries != null;
+        File parent = file.getParentFile();
+        if (parent != null) {
+            parent.mkdirs();
+        }
+        PrintWriter writer = new PrintWriter(new OutputStreamWriter(
+                new FileOutputStream(file),
+                MANIFEST_ENCODING));
+        try {
+            for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+                writer.print(entry.getValue().digest);
+                writer.print(SEPARATOR);
+                writer.print(entry.getValue().size);
+                writer.print(SEPARATOR);
+                writer.print(entry.getKey());
+                writer.print('\n');
+            }
+        }
+        finally {
+            writer.close();
+        }
+        if (writer.checkError()) {
+            throw new IOException(MessageFormat.format(
+                    "Failed to write {0}", //$NON-NLS-1$
+                    file));
+        }
+    }
+
+    /**
+     * マニフェストに記録する個々のファイルの情報。
+     */
+    private static final class Entry {
+
+        final String digest;
+
+        final long size;
+
+        Entry(String digest, long size) {
+            assert digest != null;
+            this.digest = digest;
+            this.size = size;
+        }
+
+        @Override
+        public int hashCode() {
+            return digest.hashCode() * 31 + (int) (size ^ (size >>> 32));
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null || getClass() != obj.getClass()) {
+                return false;
+            }
+            Entry other = (Entry) obj;
+            return size == other.size && digest.equals(other.digest);
+        }
+    }
+}
@@ -0,0 +1,231 @@
+/*
+ * Copyright 2011 @ashigeru.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package com.ashigeru.lang.java.model.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.text.MessageFormat;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+import com.ashigeru.lang.java.model.syntax.Model;
+import com.ashigeru.lang.java.model.syntax.ModelKind;
+import com.ashigeru.lang.java.model.syntax.PropertyKind;
+
+/**
+ * {@link ModelArchiveWriter}が書き出したアーカイブ上のモデルを参照する。
+ * <p>
+ * このクラスが返すモデルはアーカイブの内容を直接参照する読み出し専用のビューで、
+ * それぞれのプロパティはメソッドが呼び出されるたびにアーカイブから復元される。
+ * そのため、{@link #open(File)}でメモリマップしたアーカイブであれば、
+ * 全体を読み込むことなく巨大なアーカイブ上のモデルを走査できる。
+ * </p>
+ * <p>
+ * ビューは次の点で通常のモデルと異なる。
+ * </p>
+ * <ul>
+ *   <li> 同じビューから同じプロパティを二度取得すると同一のオブジェクトが返されるが、
+ *        {@link #get(int)}などで取得しなおしたビューからは構造が同一の別のオブジェクトが返される </li>
+ *   <li> ビューは常に凍結されており、{@link Model#hashCode()}は最初に計算した時点でキャッシュされる </li>
+ *   <li> トレイトを登録できず、{@link Model#findModelTrait(Class)}は常に{@code null}を返す </li>
+ *   <li> {@code with}で始まるメソッドは、{@link Models#getModelFactory()}で生成した通常のモデルを返す
+ *        (変更しなかったプロパティはビューをそのまま共有する) </li>
+ * </ul>
+ * <p>
+ * このクラスのオブジェクトおよびビューは、複数のスレッドから同時に利用できる。
+ * </p>
+ * @author ashigeru
+ * @see ModelArchiveWriter
+ */
+public class ModelArchive {
+
+    private final ByteBuffer buffer;
+
+    private final int rootsOffset;
+
+    private final int size;
+
+    /**
+     * 指定のバッファの内容をアーカイブとして利用するインスタンスを生成する。
+     * <p>
+     * バッファの内容は複製されないため、生成後にバッファの内容を変更してはならない。
+     * バッファの位置やリミットは変更されない。
+     * </p>
+     * @param buffer アーカイブの内容を保持するバッファ
+     * @throws IOException アーカイブの形式が正しくない場合
+     * @throws IllegalArgumentException 引数に{@code null}が指定された場合
+     */
+    public ModelArchive(ByteBuffer buffer) throws IOException {
+        if (buffer == null) {
+            throw new IllegalArgumentException("buffer must not be null"); //$NON-NLS-1$
+        }
+        this.buffer = buffer.slice().order(ByteOrder.BIG_ENDIAN);
+        int limit = this.buffer.limit();
+        if (limit < ModelCodec.ARCHIVE_HEADER_SIZE + 8) {
+            throw new IOException("Archive is too short"); //$NON-NLS-1$
+        }
+        if (this.buffer.getInt(0) != ModelCodec.ARCHIVE_MAGIC) {
+            throw new IOException("Invalid magic number"); //$NON-NLS-1$
+        }
+        int version = this.buffer.getInt(4);
+        if (version != ModelCodec.ARCHIVE_VERSION) {
+            throw new IOException(MessageFormat.format(
+                    "Unsupported archive version: {0}", //$NON-NLS-1$
+                    version));
+        }
+        if (this.buffer.getInt(8) != ModelKind.values().length
+                || this.buffer.getInt(12) != PropertyKind.values().length
+                || this.buffer.getInt(16) != ModelCodec.SCHEMA_HASH) {
+            throw new IOException("Incompatible model definitions"); //$NON-NLS-1$
+        }
+        this.rootsOffset = this.buffer.getInt(limit - 4);
+        if (rootsOffset < ModelCodec.ARCHIVE_HEADER_SIZE || rootsOffset > limit - 8) {
+            throw new IOException("Invalid archive index"); //$NON-NLS-1$
+        }
+        this.size = this.buffer.getInt(rootsOffset);
+        if (size < 0 || (long) rootsOffset + 8 + size * 4L != limit) {
+            throw new IOException("Invalid archive index"); //$NON-NLS-1$
+        }
+    }
+
+    /**
+     * 指定のファイルをメモリマップしてアーカイブとして開く。
+     * <p>
+     * マップされた領域はこのオブジェクトが利用されなくなるまで保持される。
+     * </p>
+     * @param file 対象のファイル
+     * @return 開いたアーカイブ
+     * @throws IOException ファイルを開けない場合、またはアーカイブの形式が正しくない場合
+     * @throws IllegalArgumentException 引数に{@code null}が指定された場合
+     */
+    public static ModelArchive open(File file) throws IOException {
+        if (file == null) {
+            throw new IllegalArgumentException("file must not be null"); //$NON-NLS-1$
+        }
+        RandomAccessFile input = new RandomAccessFile(file, "r"); //$NON-NLS-1$
+        try {
+            FileChannel channel = input.getChannel();
+            long length = channel.size();
+            if (length > Integer.MAX_VALUE) {
+                throw new IOException(MessageFormat.format(
+                        "Archive is too large: {0}", //$NON-NLS-1$
+                        file));
+            }
+            return new ModelArchive(channel.map(FileChannel.MapMode.READ_ONLY, 0, length));
+        }
+        finally {
+            input.close();
+        }
+    }
+
+    /**
+     * アーカイブ上の指定の番号のモデルを返す。
+     * @param index {@link ModelArchiveWriter#write(Model)}で追加した順序の番号 (0起算)
+     * @return 対応するモデルのビュー
+     * @throws IndexOutOfBoundsException 番号が範囲外である場合
+     */
+    public Model get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(String.valueOf(index));
+        }
+        return getModel(buffer.getInt(rootsOffset + 4 + index * 4));
+    }
+
+    /**
+     * アーカイブ上のモデルの個数を返す。
+     * @return アーカイブ上のモデルの個数
+     */
+    public int size() {
+        return size;
+    }
+
+    Model getModel(int offset) {
+        if (offset == 0) {
+            return null;
+        }
+        int ordinal = buffer.getInt(offset);
+        if (ordinal < 0 || ordinal >= ModelCodec.MODEL_KINDS.length) {
+            throw new IllegalStateException(MessageFormat.format(
+                    "Broken archive: invalid model kind at {0}", //$NON-NLS-1$
+                    offset));
+        }
+        return ModelArchiveViews.create(this, ModelCodec.MODEL_KINDS[ordinal], offset);
+    }
+
+    int getSlot(int offset, int index) {
+        return buffer.getInt(offset + 4 + index * 4);
+    }
+
+    List<Model> getList(int offset) {
+        int listSize = buffer.getInt(offset);
+        if (listSize < 0 || offset + 4 + listSize * 4L > buffer.limit()) {
+            throw new IllegalStateException(MessageFormat.format(
+                    "Broken archive: invalid list at {0}", //$NON-NLS-1$
+                    offset));
+        }
+        return new ListView(offset, listSize);
+    }
+
+    String getString(int offset) {
+        if (offset == 0) {
+            return null;
+        }
+        int length = buffer.getInt(offset);
+        byte[] bytes = new byte[length];
+        ByteBuffer source = buffer.duplicate();
+        source.position(offset + 4);
+        source.get(bytes);
+        return new String(bytes, ModelCodec.ENCODING);
+    }
+
+    private class ListView extends AbstractList<Model> implements RandomAccess {
+
+        private final int offset;
+
+        private final int listSize;
+
+        private final Model[] elements;
+
+        ListView(int offset, int listSize) {
+            this.offset = offset;
+            this.listSize = listSize;
+            this.elements = new Model[listSize];
+        }
+
+        @Override
+        public Model get(int index) {
+            if (index < 0 || index >= listSize) {
+                throw new IndexOutOfBoundsException(String.valueOf(index));
+            }
+            Model result = elements[index];
+            if (result == null) {
+                result = getModel(buffer.getInt(offset + 4 + index * 4));
+                elements[index] = result;
+            }
+            return result;
+        }
+
+        @Override
+        public int size() {
+            return listSize;
+        }
+    }
+}
@@ -0,0 +1,311 @@
+/*
+ * Copyright 2011 @ashigeru.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package com.ashigeru.lang.java.model.util;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.text.MessageFormat;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+import com.ashigeru.lang.java.internal.model.util.LiteralAnalyzer;
+import com.ashigeru.lang.java.internal.model.util.ModelDigester;
+import com.ashigeru.lang.java.internal.model.util.ModelEmitter;
+import com.ashigeru.lang.java.internal.model.util.ModelMatcher;
+import com.ashigeru.lang.java.internal.model.util.ModelProperties;
+import com.ashigeru.lang.java.internal.model.util.PrintEmitContext;
+import com.ashigeru.lang.java.model.syntax.LiteralKind;
+import com.ashigeru.lang.java.model.syntax.Model;
+import com.ashigeru.lang.java.model.syntax.ModelKind;
+import com.ashigeru.lang.java.model.syntax.Name;
+import com.ashigeru.lang.java.model.syntax.PropertyKind;
+import com.ashigeru.lang.java.model.syntax.QualifiedName;
+import com.ashigeru.lang.java.model.syntax.SimpleName;
+import com.ashigeru.lang.java.model.util.ModelWalker.Event;
+
+/**
+ * {@link ModelArchive}上のモデルを表すビューの基底クラス。
+ * <p>
+ * ビューはアーカイブとレコードのオフセットのみを保持し、
+ * モデルの種類ごとのサブクラス ({@link ModelArchiveViews}) が対応するインターフェースを実装する。
+ * アーカイブの内容は変更されないため、ビューは常に凍結されたモデルとして振る舞い、
+ * ハッシュ値は最初に計算した時点でキャッシュされる。
+ * </p>
+ * <p>
+ * キャッシュはいずれも同期化せずに更新される。
+ * 複数のスレッドが同時に計算した場合でも、いずれのスレッドも同じ構造の値を得る。
+ * </p>
+ * @author ashigeru
+ */
+abstract class ModelArchiveView implements Model {
+
+    private final ModelArchive archive;
+
+    private final int offset;
+
+    private int hashCode;
+
+    /**
+     * インスタンスを生成する。
+     * @param archive 対象のアーカイブ
+     * @param offset モデルのレコードのオフセット
+     */
+    ModelArchiveView(ModelArchive archive, int offset) {
+        assert archive != null;
+        this.archive = archive;
+        this.offset = offset;
+    }
+
+    /**
+     * 指定の位置のプロパティの値を返す。
+     * @param slot {@link ModelKind#getProperties()}上の位置
+     * @return 対応するプロパティの値
+     */
+    abstract Object getPropertyAt(int slot);
+
+    @Override
+    public final Object getProperty(PropertyKind property) {
+        if (property == null) {
+            throw new IllegalArgumentException("property must not be null"); //$NON-NLS-1$
+        }
+        ModelKind kind = getModelKind();
+        int slot = kind.getSlot(property);
+        if (slot < 0) {
+            throw new IllegalArgumentException(MessageFormat.format(
+                    "{0} does not have {1}", //$NON-NLS-1$
+                    kind,
+                    property));
+        }
+        return getPropertyAt(slot);
+    }
+
+    final Model getModel(int slot) {
+        return archive.getModel(archive.getSlot(offset, slot));
+    }
+
+    @SuppressWarnings("unchecked")
+    final <T extends Model> List<T> getList(int slot) {
+        return (List<T>) archive.getList(archive.getSlot(offset, slot));
+    }
+
+    final String getString(int slot) {
+        return archive.getString(archive.getSlot(offset, slot));
+    }
+
+    final Object getEnum(int slot, PropertyKind property) {
+        int value = archive.getSlot(offset, slot);
+        return value == 0 ? null : ModelCodec.getEnumConstants(property)[value - 1];
+    }
+
+    final int getInt(int slot) {
+        return archive.getSlot(offset, slot);
+    }
+
+    final boolean getBoolean(int slot) {
+        return archive.getSlot(offset, slot) != 0;
+    }
+
+    /**
+     * 指定の位置のプロパティのみを変更したコピーを返す。
+     * <p>
+     * コピーは{@link Models#getModelFactory()}を利用して通常のモデルとして生成され、
+     * 変更しなかったプロパティはこのビューの値をそのまま共有する。
+     * </p>
+     * @param slot {@link ModelKind#getProperties()}上の位置
+     * @param value 変更後の値
+     * @return 生成したコピー
+     * @throws IllegalArgumentException 変更後の値が不正である場合
+     */
+    final Model copyWith(int slot, Object value) {
+        ModelKind kind = getModelKind();
+        Object[] values = new Object[kind.getProperties().size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i == slot ? value : getPropertyAt(i);
+        }
+        return ModelProperties.newModel(Models.getModelFactory(), kind, values);
+    }
+
+    /**
+     * 読み出し専用のモデルを変更しようとした際にスローする例外を返す。
+     * @return スローする例外
+     */
+    static UnsupportedOperationException readOnly() {
+        return new UnsupportedOperationException("archived models are read-only"); //$NON-NLS-1$
+    }
+
+    /**
+     * アーカイブ上のモデルは変更できないため、何も行わない。
+     */
+    @Override
+    public final void freeze() {
+        return;
+    }
+
+    @Override
+    public final boolean isFrozen() {
+        return true;
+    }
+
+    @Override
+    public final <T> T findModelTrait(Class<T> traitClass) {
+        if (traitClass == null) {
+            throw new IllegalArgumentException("traitClass must not be null"); //$NON-NLS-1$
+        }
+        return null;
+    }
+
+    @Override
+    public final <T> void putModelTrait(Class<T> traitClass, T traitObject) {
+        throw readOnly();
+    }
+
+    @Override
+    public final int hashCode() {
+        int result = hashCode;
+        if (result == 0) {
+            result = computeHashCode();
+        }
+        return result;
+    }
+
+    /**
+     * このビューを起点とする部分木のうち、ハッシュ値がまだ計算されていないビューについて
+     * 子から順にハッシュ値を計算してキャッシュする。
+     * <p>
+     * 計算途中のハッシュ値は一時的な表にも保持するため、
+     * {@link ModelDigester#compute(Model, Map)}はそれぞれのモデルについて再帰せずに完了する。
+     * </p>
+     * @return このビューのハッシュ値
+     */
+    private int computeHashCode() {
+        Map<Model, Integer> hashes = null;
+        ModelWalker walker = new ModelWalker(this);
+        for (Event event = walker.next(); event != null; event = walker.next()) {
+            Model model = walker.getModel();
+            if ((model instanceof ModelArchiveView) == false) {
+                walker.skipChildren();
+                continue;
+            }
+            ModelArchiveView node = (ModelArchiveView) model;
+            if (node.hashCode != 0) {
+                walker.skipChildren();
+            }
+            else if (event == Event.EXIT) {
+                int result = ModelDigester.compute(node, hashes);
+                node.hashCode = result;
+                if (node == this) {
+                    return result;
+                }
+                if (hashes == null) {
+                    hashes = new IdentityHashMap<Model, Integer>();
+                }
+                hashes.put(node, result);
+            }
+        }
+        return hashCode;
+    }
+
+    @Override
+    public final boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if ((obj instanceof Model) == false) {
+            return false;
+        }
+        if (obj instanceof ModelArchiveView) {
+            int thisHash = hashCode;
+            int thatHash = ((ModelArchiveView) obj).hashCode;
+            if (thisHash != 0 && thatHash != 0 && thisHash != thatHash) {
+                return false;
+            }
+        }
+        return accept(ModelMatcher.INSTANCE, (Model) obj);
+    }
+
+    @Override
+    public final String toString() {
+        StringWriter buffer = new StringWriter();
+        PrintWriter output = new PrintWriter(buffer);
+        try {
+            ModelEmitter.emit(this, new PrintEmitContext(output));
+        }
+        catch (RuntimeException e) {
+            e.printStackTrace(output);
+        }
+        output.flush();
+        return buffer.toString();
+    }
+
+    /**
+     * 指定の字句が表すリテラルの種類を返す。
+     * @param token 対象の字句
+     * @return 対応するリテラルの種類、不明な場合は{@code null}
+     */
+    static LiteralKind toLiteralKind(String token) {
+        if (token == null) {
+            return null;
+        }
+        switch (LiteralAnalyzer.kindOf(token)) {
+        case INT: return LiteralKind.INT;
+        case LONG: return LiteralKind.LONG;
+        case FLOAT: return LiteralKind.FLOAT;
+        case DOUBLE: return LiteralKind.DOUBLE;
+        case CHAR: return LiteralKind.CHAR;
+        case STRING: return LiteralKind.STRING;
+        case BOOLEAN: return LiteralKind.BOOLEAN;
+        case NULL: return LiteralKind.NULL;
+        default:
+            return null;
+        }
+    }
+
+    /**
+     * 指定の限定名を構成する単純名の一覧を返す。
+     * @param self 対象の限定名
+     * @return 単純名の一覧
+     */
+    static List<SimpleName> toNameList(QualifiedName self) {
+        LinkedList<SimpleName> result = new LinkedList<SimpleName>();
+        Name current = self;
+        while (current.getModelKind() == ModelKind.QUALIFIED_NAME) {
+            QualifiedName qname = (QualifiedName) current;
+            result.addFirst(qname.getSimpleName());
+            current = qname.getQualifier();
+        }
+        result.addFirst((SimpleName) current);
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * 指定の限定名を{@code .}で区切った文字列を返す。
+     * @param self 対象の限定名
+     * @return 対応する文字列
+     */
+    static String toNameString(QualifiedName self) {
+        StringBuilder buf = new StringBuilder();
+        for (SimpleName segment : toNameList(self)) {
+            if (buf.length() > 0) {
+                buf.append('.');
+            }
+            buf.append(segment.getToken());
+        }
+        return buf.toString();
+    }
+}
@@ -0,0 +1,7064 @@
+/*
+ * Copyright 2011 @ashigeru.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package com.ashigeru.lang.java.model.util;
+
+import java.util.Collections;
+import java.util.List;
+
+import com.ashigeru.lang.java.model.syntax.AlternateConstructorInvocation;
+import com.ashigeru.lang.java.model.syntax.Annotation;
+import com.ashigeru.lang.java.model.syntax.AnnotationDeclaration;
+import com.ashigeru.lang.java.model.syntax.AnnotationElement;
+import com.ashigeru.lang.java.model.syntax.AnnotationElementDeclaration;
+import com.ashigeru.lang.java.model.syntax.ArrayAccessExpression;
+import com.ashigeru.lang.java.model.syntax.ArrayCreationExpression;
+import com.ashigeru.lang.java.model.syntax.ArrayInitializer;
+import com.ashigeru.lang.java.model.syntax.ArrayType;
+import com.ashigeru.lang.java.model.syntax.AssertStatement;
+import com.ashigeru.lang.java.model.syntax.AssignmentExpression;
+import com.ashigeru.lang.java.model.syntax.Attribute;
+import com.ashigeru.lang.java.model.syntax.BasicType;
+import com.ashigeru.lang.java.model.syntax.BasicTypeKind;
+import com.ashigeru.lang.java.model.syntax.Block;
+import com.ashigeru.lang.java.model.syntax.BlockComment;
+import com.ashigeru.lang.java.model.syntax.BreakStatement;
+import com.ashigeru.lang.java.model.syntax.CastExpression;
+import com.ashigeru.lang.java.model.syntax.CatchClause;
+import com.ashigeru.lang.java.model.syntax.ClassBody;
+import com.ashigeru.lang.java.model.syntax.ClassDeclaration;
+import com.ashigeru.lang.java.model.syntax.ClassInstanceCreationExpression;
+import com.ashigeru.lang.java.model.syntax.ClassLiteral;
+import com.ashigeru.lang.java.model.syntax.Comment;
+import com.ashigeru.lang.java.model.syntax.CompilationUnit;
+import com.ashigeru.lang.java.model.syntax.ConditionalExpression;
+import com.ashigeru.lang.java.model.syntax.ConstructorDeclaration;
+import com.ashigeru.lang.java.model.syntax.ContinueStatement;
+import com.ashigeru.lang.java.model.syntax.DoStatement;
+import com.ashigeru.lang.java.model.syntax.DocBlock;
+import com.ashigeru.lang.java.model.syntax.DocElement;
+import com.ashigeru.lang.java.model.syntax.DocField;
+import com.ashigeru.lang.java.model.syntax.DocMethod;
+import com.ashigeru.lang.java.model.syntax.DocMethodParameter;
+import com.ashigeru.lang.java.model.syntax.DocText;
+import com.ashigeru.lang.java.model.syntax.EmptyStatement;
+import com.ashigeru.lang.java.model.syntax.EnhancedForStatement;
+import com.ashigeru.lang.java.model.syntax.EnumConstantDeclaration;
+import com.ashigeru.lang.java.model.syntax.EnumDeclaration;
+import com.ashigeru.lang.java.model.syntax.Expression;
+import com.ashigeru.lang.java.model.syntax.ExpressionStatement;
+import com.ashigeru.lang.java.model.syntax.FieldAccessExpression;
+import com.ashigeru.lang.java.model.syntax.FieldDeclaration;
+import com.ashigeru.lang.java.model.syntax.ForInitializer;
+import com.ashigeru.lang.java.model.syntax.ForStatement;
+import com.ashigeru.lang.java.model.syntax.FormalParameterDeclaration;
+import com.ashigeru.lang.java.model.syntax.IfStatement;
+import com.ashigeru.lang.java.model.syntax.ImportDeclaration;
+import com.ashigeru.lang.java.model.syntax.ImportKind;
+import com.ashigeru.lang.java.model.syntax.InfixExpression;
+import com.ashigeru.lang.java.model.syntax.InfixOperator;
+import com.ashigeru.lang.java.model.syntax.InitializerDeclaration;
+import com.ashigeru.lang.java.model.syntax.InstanceofExpression;
+import com.ashigeru.lang.java.model.syntax.InterfaceDeclaration;
+import com.ashigeru.lang.java.model.syntax.Javadoc;
+import com.ashigeru.lang.java.model.syntax.LabeledStatement;
+import com.ashigeru.lang.java.model.syntax.LineComment;
+import com.ashigeru.lang.java.model.syntax.Literal;
+import com.ashigeru.lang.java.model.syntax.LiteralKind;
+import com.ashigeru.lang.java.model.syntax.LocalClassDeclaration;
+import com.ashigeru.lang.java.model.syntax.LocalVariableDeclaration;
+import com.ashigeru.lang.java.model.syntax.MarkerAnnotation;
+import com.ashigeru.lang.java.model.syntax.MethodDeclaration;
+import com.ashigeru.lang.java.model.syntax.MethodInvocationExpression;
+import com.ashigeru.lang.java.model.syntax.ModelKind;
+import com.ashigeru.lang.java.model.syntax.Modifier;
+import com.ashigeru.lang.java.model.syntax.ModifierKind;
+import com.ashigeru.lang.java.model.syntax.Name;
+import com.ashigeru.lang.java.model.syntax.NamedType;
+import com.ashigeru.lang.java.model.syntax.NormalAnnotation;
+import com.ashigeru.lang.java.model.syntax.PackageDeclaration;
+import com.ashigeru.lang.java.model.syntax.ParameterizedType;
+import com.ashigeru.lang.java.model.syntax.ParenthesizedExpression;
+import com.ashigeru.lang.java.model.syntax.PostfixExpression;
+import com.ashigeru.lang.java.model.syntax.PostfixOperator;
+import com.ashigeru.lang.java.model.syntax.PropertyKind;
+import com.ashigeru.lang.java.model.syntax.QualifiedName;
+import com.ashigeru.lang.java.model.syntax.QualifiedType;
+import com.ashigeru.lang.java.model.syntax.ReturnStatement;
+import com.ashigeru.lang.java.model.syntax.SimpleName;
+import com.ashigeru.lang.java.model.syntax.SingleElementAnnotation;
+import com.ashigeru.lang.java.model.syntax.Statement;
+import com.ashigeru.lang.java.model.syntax.StatementExpressionList;
+import com.ashigeru.lang.java.model.syntax.Super;
+import com.ashigeru.lang.java.model.syntax.SuperConstructorInvocation;
+import com.ashigeru.lang.java.model.syntax.SwitchCaseLabel;
+import com.ashigeru.lang.java.model.syntax.SwitchDefaultLabel;
+import com.ashigeru.lang.java.model.syntax.SwitchStatement;
+import com.ashigeru.lang.java.model.syntax.SynchronizedStatement;
+import com.ashigeru.lang.java.model.syntax.This;
+import com.ashigeru.lang.java.model.syntax.ThrowStatement;
+import com.ashigeru.lang.java.model.syntax.TryStatement;
+import com.ashigeru.lang.java.model.syntax.Type;
+import com.ashigeru.lang.java.model.syntax.TypeBodyDeclaration;
+import com.ashigeru.lang.java.model.syntax.TypeDeclaration;
+import com.ashigeru.lang.java.model.syntax.TypeParameterDeclaration;
+import com.ashigeru.lang.java.model.syntax.UnaryExpression;
+import com.ashigeru.lang.java.model.syntax.UnaryOperator;
+import com.ashigeru.lang.java.model.syntax.VariableDeclarator;
+import com.ashigeru.lang.java.model.syntax.Visitor;
+import com.ashigeru.lang.java.model.syntax.WhileStatement;
+import com.ashigeru.lang.java.model.syntax.Wildcard;
+import com.ashigeru.lang.java.model.syntax.WildcardBoundKind;
+
+/**
+ * {@link ModelArchive}上のモデルを表す、モデルの種類ごとのビューの一覧。
+ * <p>
+ * それぞれのビューは{@link ModelArchiveView}のサブクラスで、対応するモデルのインターフェースを直接実装する。
+ * プロパティは各メソッドからアーカイブ上のスロットを直接参照して復元され、
+ * 子要素や文字列は最初に参照された時点でビューにキャッシュされる。
+ * </p>
+ * @author ashigeru
+ */
+final class ModelArchiveViews {
+
+    /**
+     * 指定の種類のモデルを表すビューを生成して返す。
+     * @param archive 対象のアーカイブ
+     * @param kind モデルの種類
+     * @param offset モデルのレコードのオフセット
+     * @return 生成したビュー
+     */
+    static ModelArchiveView create(ModelArchive archive, ModelKind kind, int offset) {
+        assert archive != null;
+        assert kind != null;
+        switch (kind) {
+        case ALTERNATE_CONSTRUCTOR_INVOCATION:
+            return new AlternateConstructorInvocationView(archive, offset);
+        case ANNOTATION_DECLARATION:
+            return new AnnotationDeclarationView(archive, offset);
+        case ANNOTATION_ELEMENT:
+            return new AnnotationElementView(archive, offset);
+        case ANNOTATION_ELEMENT_DECLARATION:
+            return new AnnotationElementDeclarationView(archive, offset);
+        case ARRAY_ACCESS_EXPRESSION:
+            return new ArrayAccessExpressionView(archive, offset);
+        case ARRAY_CREATION_EXPRESSION:
+            return new ArrayCreationExpressionView(archive, offset);
+        case ARRAY_INITIALIZER:
+            return new ArrayInitializerView(archive, offset);
+        case ARRAY_TYPE:
+            return new ArrayTypeView(archive, offset);
+        case ASSERT_STATEMENT:
+            return new AssertStatementView(archive, offset);
+        case ASSIGNMENT_EXPRESSION:
+            return new AssignmentExpressionView(archive, offset);
+        case BASIC_TYPE:
+            return new BasicTypeView(archive, offset);
+        case BLOCK:
+            return new BlockView(archive, offset);
+        case BLOCK_COMMENT:
+            return new BlockCommentView(archive, offset);
+        case BREAK_STATEMENT:
+            return new BreakStatementView(archive, offset);
+        case CAST_EXPRESSION:
+            return new CastExpressionView(archive, offset);
+        case CATCH_CLAUSE:
+            return new CatchClauseView(archive, offset);
+        case CLASS_BODY:
+            return new ClassBodyView(archive, offset);
+        case CLASS_DECLARATION:
+            return new ClassDeclarationView(archive, offset);
+        case CLASS_INSTANCE_CREATION_EXPRESSION:
+            return new ClassInstanceCreationExpressionView(archive, offset);
+        case CLASS_LITERAL:
+            return new ClassLiteralView(archive, offset);
+        case COMPILATION_UNIT:
+            return new CompilationUnitView(archive, offset);
+        case CONDITIONAL_EXPRESSION:
+            return new ConditionalExpressionView(archive, offset);
+        case CONSTRUCTOR_DECLARATION:
+            return new ConstructorDeclarationView(archive, offset);
+        case CONTINUE_STATEMENT:
+            return new ContinueStatementView(archive, offset);
+        case DO_STATEMENT:
+            return new DoStatementView(archive, offset);
+        case DOC_BLOCK:
+            return new DocBlockView(archive, offset);
+        case DOC_FIELD:
+            return new DocFieldView(archive, offset);
+        case DOC_METHOD:
+            return new DocMethodView(archive, offset);
+        case DOC_METHOD_PARAMETER:
+            return new DocMethodParameterView(archive, offset);
+        case DOC_TEXT:
+            return new DocTextView(archive, offset);
+        case EMPTY_STATEMENT:
+            return new EmptyStatementView(archive, offset);
+        case ENHANCED_FOR_STATEMENT:
+            return new EnhancedForStatementView(archive, offset);
+        case ENUM_CONSTANT_DECLARATION:
+            return new EnumConstantDeclarationView(archive, offset);
+        case ENUM_DECLARATION:
+            return new EnumDeclarationView(archive, offset);
+        case EXPRESSION_STATEMENT:
+            return new ExpressionStatementView(archive, offset);
+        case FIELD_ACCESS_EXPRESSION:
+            return new FieldAccessExpressionView(archive, offset);
+        case FIELD_DECLARATION:
+            return new FieldDeclarationView(archive, offset);
+        case FOR_STATEMENT:
+            return new ForStatementView(archive, offset);
+        case FORMAL_PARAMETER_DECLARATION:
+            return new FormalParameterDeclarationView(archive, offset);
+        case IF_STATEMENT:
+            return new IfStatementView(archive, offset);
+        case IMPORT_DECLARATION:
+            return new ImportDeclarationView(archive, offset);
+        case INFIX_EXPRESSION:
+            return new InfixExpressionView(archive, offset);
+        case INITIALIZER_DECLARATION:
+            return new InitializerDeclarationView(archive, offset);
+        case INSTANCEOF_EXPRESSION:
+            return new InstanceofExpressionView(archive, offset);
+        case INTERFACE_DECLARATION:
+            return new InterfaceDeclarationView(archive, offset);
+        case JAVADOC:
+            return new JavadocView(archive, offset);
+        case LABELED_STATEMENT:
+            return new LabeledStatementView(archive, offset);
+        case LINE_COMMENT:
+            return new LineCommentView(archive, offset);
+        case LITERAL:
+            return new LiteralView(archive, offset);
+        case LOCAL_CLASS_DECLARATION:
+            return new LocalClassDeclarationView(archive, offset);
+        case LOCAL_VARIABLE_DECLARATION:
+            return new LocalVariableDeclarationView(archive, offset);
+        case MARKER_ANNOTATION:
+            return new MarkerAnnotationView(archive, offset);
+        case METHOD_DECLARATION:
+            return new MethodDeclarationView(archive, offset);
+        case METHOD_INVOCATION_EXPRESSION:
+            return new MethodInvocationExpressionView(archive, offset);
+        case MODIFIER:
+            return new ModifierView(archive, offset);
+        case NAMED_TYPE:
+            return new NamedTypeView(archive, offset);
+        case NORMAL_ANNOTATION:
+            return new NormalAnnotationView(archive, offset);
+        case PACKAGE_DECLARATION:
+            return new PackageDeclarationView(archive, offset);
+        case PARAMETERIZED_TYPE:
+            return new ParameterizedTypeView(archive, offset);
+        case PARENTHESIZED_EXPRESSION:
+            return new ParenthesizedExpressionView(archive, offset);
+        case POSTFIX_EXPRESSION:
+            return new PostfixExpressionView(archive, offset);
+        case QUALIFIED_NAME:
+            return new QualifiedNameView(archive, offset);
+        case QUALIFIED_TYPE:
+            return new QualifiedTypeView(archive, offset);
+        case RETURN_STATEMENT:
+            return new ReturnStatementView(archive, offset);
+        case SIMPLE_NAME:
+            return new SimpleNameView(archive, offset);
+        case SINGLE_ELEMENT_ANNOTATION:
+            return new SingleElementAnnotationView(archive, offset);
+        case STATEMENT_EXPRESSION_LIST:
+            return new StatementExpressionListView(archive, offset);
+        case SUPER:
+            return new SuperView(archive, offset);
+        case SUPER_CONSTRUCTOR_INVOCATION:
+            return new SuperConstructorInvocationView(archive, offset);
+        case SWITCH_CASE_LABEL:
+            return new SwitchCaseLabelView(archive, offset);
+        case SWITCH_DEFAULT_LABEL:
+            return new SwitchDefaultLabelView(archive, offset);
+        case SWITCH_STATEMENT:
+            return new SwitchStatementView(archive, offset);
+        case SYNCHRONIZED_STATEMENT:
+            return new SynchronizedStatementView(archive, offset);
+        case THIS:
+            return new ThisView(archive, offset);
+        case THROW_STATEMENT:
+            return new ThrowStatementView(archive, offset);
+        case TRY_STATEMENT:
+            return new TryStatementView(archive, offset);
+        case TYPE_PARAMETER_DECLARATION:
+            return new TypeParameterDeclarationView(archive, offset);
+        case UNARY_EXPRESSION:
+            return new UnaryExpressionView(archive, offset);
+        case VARIABLE_DECLARATOR:
+            return new VariableDeclaratorView(archive, offset);
+        case WHILE_STATEMENT:
+            return new WhileStatementView(archive, offset);
+        case WILDCARD:
+            return new WildcardView(archive, offset);
+        default:
+            throw new AssertionError(kind);
+        }
+    }
+
+    private ModelArchiveViews() {
+        throw new AssertionError();
+    }
+
+    /**
+     * アーカイブ上の{@link AlternateConstructorInvocation}。
+     */
+    static final class AlternateConstructorInvocationView extends ModelArchiveView implements AlternateConstructorInvocation {
+
+        /**
+         * 型引数の一覧。
+         */
+        private List<Type> typeArguments;
+
+        /**
+         * 実引数の一覧。
+         */
+        private List<Expression> arguments;
+
+        AlternateConstructorInvocationView(ModelArchive archive, int offset) {
+            super(archive, offset);
+        }
+
+        @Override
+        public ModelKind getModelKind() {
+            return ModelKind.ALTERNATE_CONSTRUCTOR_INVOCATION;
+        }
+
+        @Override
+        public <R, C, E extends Throwable> R accept(
+                Visitor<R, C, E> visitor, C context) throws E {
+            if (visitor == null) {
+                throw new IllegalArgumentException("visitor must not be null"); //$NON-NLS-1$
+            }
+            return visitor.visitAlternateConstructorInvocation(this, context);
+        }
+
+        @Override
+        public List<? extends Type> getTypeArguments() {
+            List<Type> result = typeArguments;
+            if (result == null) {
+                result = getList(0);
+                typeArguments = result;
+            }
+            return result;
+        }
+
+        @Override
+        public List<? extends Expression> getArguments() {
+            List<Expression> result = arguments;
+            if (result == null) {
+                result = getList(1);
+                arguments = result;
+            }
+            return result;
+        }
+
+        @Override
+        public AlternateConstructorInvocation withTypeArguments(List<? extends Type> typeArguments) {
+            return (AlternateConstructorInvocation) copyWith(0, typeArguments);
+        }
+
+        @Override
+        public AlternateConstructorInvocation withArguments(List<? extends Expression> arguments) {
+            return (AlternateConstructorInvocation) copyWith(1, arguments);
+        }
+
+        @Override
+        Object getPropertyAt(int slot) {
+            switch (slot) {
+            case 0:
+                return getTypeArguments();
+            case 1:
+                return getArguments();
+            default:
+                throw new AssertionError(slot);
+            }
+        }
+    }
+
+    /**
+     * アーカイブ上の{@link AnnotationDeclaration}。
+     */
+    static final class AnnotationDeclarationView extends ModelArchiveView implements AnnotationDeclaration {
+
+        /**
+         * ドキュメンテーションコメント。
+         */
+        private Javadoc javadoc;
+
+        /**
+         * 修飾子および注釈の一覧。
+         */
+        private List<Attribute> modifiers;
+
+        /**
+         * 型の単純名。
+         */
+        private SimpleName name;
+
+        /**
+         * メンバの一覧。
+         */
+        private List<TypeBodyDeclaration> bodyDeclarations;
+
+        AnnotationDeclarationView(ModelArchive archive, int offset) {
+            super(archive, offset);
+        }
+
+        @Override
+        public ModelKind getModelKind() {
+            return ModelKind.ANNOTATION_DECLARATION;
+        }
+
+        @Override
+        public <R, C, E extends Throwable> R accept(
+                Visitor<R, C, E> visitor, C context) throws E {
+            if (visitor == null) {
+                throw new IllegalArgumentException("visitor must not be null"); //$NON-NLS-1$
+            }
+            return visitor.visitAnnotationDeclaration(this, context);
+        }
+
+        @Override
+        public Javadoc getJavadoc() {
+            Javadoc result = javadoc;
+            if (result == null) {
+                result = (Javadoc) getModel(0);
+                javadoc = result;
+            }
+            return result;
+        }
+
+        @Override
+        public List<? extends Attribute> getModifiers() {
+            List<Attribute> result = modifiers;
+            if (result == null) {
+                result = getList(1);
+                modifiers = result;
+            }
+            return result;
+        }
+
+        @Override
+        public SimpleName getName() {
+            SimpleName result = name;
+            if (result == null) {
+                result = (SimpleName) getModel(2);
+                name = result;
+            }
+            return result;
+        }
+
+        @Override
+        public List<? extends TypeBodyDeclaration> getBodyDeclarations() {
+            List<TypeBodyDeclaration> result = bodyDeclarations;
+            if (result == null) {
+                result = getList(3);
+                bodyDeclarations = result;
+            }
+            return result;
+        }
+
+        @Override
+        public AnnotationDeclaration withJavadoc(Javadoc javadoc) {
+            return (AnnotationDeclaration) copyWith(0, javadoc);
+        }
+
+        @Override
+        public AnnotationDeclaration withModifiers(List<? extends Attribute> modifiers) {
+            return (AnnotationDeclaration) copyWith(1, modifiers);
+        }
+
+        @Override
+        public AnnotationDeclaration withName(SimpleName name) {
+            return (AnnotationDeclaration) copyWith(2, name);
+        }
+
+        @Override
+        public AnnotationDeclaration withBodyDeclarations(List<? extends TypeBodyDeclaration> bodyDeclarations) {
+            return (AnnotationDeclaration) copyWith(3, bodyDeclarations);
+        }
+
+        @Override
+        Object getPropertyAt(int slot) {
+            switch (slot) {
+            case 0:
+                return getJavadoc();
+            case 1:
+                return getModifiers();
+            case 2:
+                return getName();
+            case 3:
+                return getBodyDeclarations();
+            default:
+                throw new AssertionError(slot);
+            }
+        }
+    }
+
+    /**
+     * アーカイブ上の{@link AnnotationElement}。
+     */
+    static final class AnnotationElementView extends ModelArchiveView implements AnnotationElement {
+
+        /**
+         * 注釈要素の名前。
+         */
+        private SimpleName name;
+
+        /**
+         * 注釈要素値の式。
+         */
+        private Expression expression;
+
+        AnnotationElementView(ModelArchive archive, int offset) {
+            super(archive, offset);
+        }
+
+        @Override
+        public ModelKind getModelKind() {
+            return ModelKind.ANNOTATION_ELEMENT;
+        }
+
+        @Override
+        public <R, C, E extends Throwable> R accept(
+                Visitor<R, C, E> visitor, C context) throws E {
+            if (visitor == null) {
+                throw new IllegalArgumentException("visitor must not be null"); //$NON-NLS-1$
+            }
+            return visitor.visitAnnotationElement(this, context);
+        }
+
+        @Override
+        public SimpleName getName() {
+            SimpleName result = name;
+            if (result == null) {
+                result = (SimpleName) getModel(0);
+                name = result;
+            }
+            return result;
+        }
+
+        @Override
+        public Expression getExpression() {
+            Expression result = expression;
+            if (result == null) {
+                result = (Expression) getModel(1);
+                expression = result;
+            }
+            return result;
+        }
+
+        @Override
+        public AnnotationElement withName(SimpleName name) {
+            return (AnnotationElement) copyWith(0, name);
+        }
+
+        @Override
+        public AnnotationElement withExpression(Expression expression) {
+            return (AnnotationElement) copyWith(1, expression);
+        }
+
+        @Override
+        Object getPropertyAt(int slot) {
+            switch (slot) {
+            case 0:
+                return getName();
+            case 1:
+                return getExpression();
+            default:
+                throw new AssertionError(slot);
+            }
+        }
+    }
+
+    /**
+     * アーカイブ上の{@link AnnotationElementDeclaration}。
+     */
+    static final class AnnotationElementDeclarationView extends ModelArchiveView implements AnnotationElementDeclaration {
+
+        /**
+         * ドキュメンテーションコメント。
+         */
+        private Javadoc javadoc;
+
+        /**
+         * 修飾子および注釈の一覧。
+         */
+        private List<Attribute> modifiers;
+
+        /**
+         * 注釈要素の型。
+         */
+        private Type type;
+
+        /**
+         * 注釈要素の名前。
+         */
+        private SimpleName name;
+
+        /**
+         * 注釈要素の規定値。
+         */
+        private Expression defaultExpression;
+
+        AnnotationElementDeclarationView(ModelArchive archive, int offset) {
+            super(archive, offset);
+        }
+
+        @Override
+        public ModelKind getModelKind() {
+            return ModelKind.ANNOTATION_ELEMENT_DECLARATION;
+        }
+
+        @Override
+        public <R, C, E extends Throwable> R accept(
+                Visitor<R, C, E> visitor, C context) throws E {
+            if (visitor == null) {
+                throw new IllegalArgumentException("visitor must not be null"); //$NON-NLS-1$
+            }
+            return visitor.visitAnnotationElementDeclaration(this, context);
+        }
+
+        @Override
+        public Javadoc getJavadoc() {
+            Javadoc result = javadoc;
+            if (result == null) {
+                result = (Javadoc) getModel(0);
+                javadoc = result;
+            }
+            return result;
+        }
+
+        @Override
+        public List<? extends Attribute> getModifiers() {
+            List<Attribute> result = modifiers;
+            if (result == null) {
+                result = getList(1);
+                modifiers = result;
+            }
+            return result;
+        }
+
+        @Override
+        public Type getType() {
+            Type result = type;
+            if (result == null) {
+                result = (Type) getModel(2);
+                type = result;
+            }
+            return result;
+        }
+
+        @Override
+        public SimpleName getName() {
+            SimpleName result = name;
+            if (result == null) {
+                result = (SimpleName) getModel(3);
+                name = result;
+            }
+            return result;
+        }
+
+        @Override
+        public Expression getDefaultExpression() {
+            Expression result = defaultExpression;
+            if (result == null) {
+                result = (Expression) getModel(4);
+                defaultExpression = result;
+            }
+            return result;
+        }
+
+        @Override
+        public AnnotationElementDeclaration withJavadoc(Javadoc javadoc) {
+            return (AnnotationElementDeclaration) copyWith(0, javadoc);
+        }
+
+        @Override
+        public AnnotationElementDeclaration withModifiers(List<? extends Attribute> modifiers) {
+            return (AnnotationElementDeclaration) copyWith(1, modifiers);
+        }
+
+        @Override
+        public AnnotationElementDeclaration withType(Type type) {
+            return (AnnotationElementDeclaration) copyWith(2, type);
+        }
+
+        @Override
+        public AnnotationElementDeclaration withName(SimpleName name) {
+            return (AnnotationElementDeclaration) copyWith(3, name);
+        }
+
+        @Override
+        public AnnotationElementDeclaration withDefaultExpression(Expression defaultExpression) {
+            return (AnnotationElementDeclaration) copyWith(4, defaultExpression);
+        }
+
+        @Override
+        Object getPropertyAt(int slot) {
+            switch (slot) {
+            case 0:
+                return getJavadoc();
+            case 1:
+                return getModifiers();
+            case 2:
+                return getType();
+            case 3:
+                return getName();
+            case 4:
+                return getDefaultExpression();
+            default:
+                throw new AssertionError(slot);
+            }
+        }
+    }
+
+    /**
+     * アーカイブ上の{@link ArrayAccessExpression}。
+     */
+    static final class ArrayAccessExpressionView extends ModelArchiveView implements ArrayAccessExpression {
+
+        /**
+         * 配列式。
+         */
+        private Expression array;
+
+        /**
+         * 添え字式。
+         */
+        private Expression index;
+
+        ArrayAccessExpressionView(ModelArchive archive, int offset) {
+            super(archive, offset);
+        }
+
+        @Override
+        public ModelKind getModelKind() {
+            return ModelKind.ARRAY_ACCESS_EXPRESSION;
+        }
+
+        @Override
+        public <R, C, E extends Throwable> R accept(
+                Visitor<R, C, E> visitor, C context) throws E {
+            if (visitor == null) {
+                throw new IllegalArgumentException("visitor must not be null"); //$NON-NLS-1$
+            }
+            return visitor.visitArrayAccessExpression(this, context);
+        }
+
+        @Override
+        public Expression getArray() {
+            Expression result = array;
+            if (result == null) {
+                result = (Expression) getModel(0);
+                array = result;
+            }
+            return result;
+        }
+
+        @Override
+        public Expression getIndex() {
+            Expression result = index;
+            if (result == null) {
+                result = (Expression) getModel(1);
+                index = result;
+            }
+            return result;
+        }
+
+        @Override
+        public ArrayAccessExpression withArray(Expression array) {
+            return (ArrayAccessExpression) copyWith(0, array);
+        }
+
+        @Override
+        public ArrayAccessExpression withIndex(Expression index) {
+            return (ArrayAccessExpression) copyWith(1, index);
+        }
+
+        @Override
+        Object getPropertyAt(int slot) {
+            switch (slot) {
+            case 0:
+                return getArray();
+            case 1:
+                return getIndex();
+            default:
+                throw new AssertionError(slot);
+            }
+        }
+    }
+
+    /**
+     * アーカイブ上の{@link ArrayCreationExpression}。
+     */
+    static final class ArrayCreationExpressionView extends ModelArchiveView implements ArrayCreationExpression {
+
+        /**
+         * 生成する配列の型。
+         */
+        private ArrayType type;
+
+        /**
+         * 要素数指定式。
+         */
+        private List<Expression> dimensionExpressions;
+
+        /**
+         * 配列初期化子。
+         */
+        private ArrayInitializer arrayInitializer;
+
+        ArrayCreationExpressionView(ModelArchive archive, int offset) {
+            super(archive, offset);
+        }
+
+        @Override
+        public ModelKind getModelKind() {
+            return ModelKind.ARRAY_CREATION_EXPRESSION;
+        }
+
+        @Override
+        public <R, C, E extends Throwable> R accept(
+                Visitor<R, C, E> visitor, C context) throws E {
+            if (visitor == null) {
+                throw new IllegalArgumentException("visitor must not be null"); //$NON-NLS-1$
+            }
+            return visitor.visitArrayCreationExpression(this, context);
+        }
+
+        @Override
+        public ArrayType getType() {
+            ArrayType result = type;
+            if (result == null) {
+                result = (ArrayType) getModel(0);
+                type = result;
+            }
+            return result;
+        }
+
+        @Override
+        public List<? extends Expression> getDimensionExpressions() {
+            List<Expression> result = dimensionExpressions;
+            if (result == null) {
+                result = getList(1);
+                dimensionExpressions = result;
+            }
+            return result;
+        }
+
+        @Override
+        public ArrayInitializer getArrayInitializer() {
+            ArrayInitializer result = arrayInitializer;
+            if (result == null) {
+                result = (ArrayInitializer) getModel(2);
+                arrayInitializer = result;
+            }
+            return result;
+        }
+
+        @Override
+        public ArrayCreationExpression withType(ArrayType type) {
+            return (ArrayCreationExpression) copyWith(0, type);
+        }
+
+        @Override
+        public ArrayCreationExpression withDimensionExpressions(List<? extends Expression> dimensionExpressions) {
+            return (ArrayCreationExpression) copyWith(1, dimensionExpressions);
+        }
+
+        @Override
+        public ArrayCreationExpression withArrayInitializer(ArrayInitializer arrayInitializer) {
+            return (ArrayCreationExpression) copyWith(2, arrayInitializer);
+        }
+
+        @Override
+        Object getPropertyAt(int slot) {
+            switch (slot) {
+            case 0:
+                return getType();
+            case 1:
+                return getDimensionExpressions();
+            case 2:
+                return getArrayInitializer();
+            default:
+                throw new AssertionError(slot);
+            }
+        }
+    }
+
+    /**
+     * アーカイブ上の{@link ArrayInitializer}。
+     */
+    static final class ArrayInitializerView extends ModelArchiveView implements ArrayInitializer {
+
+        /**
+         * 要素の一覧。
+         */
+        private List<Expression> elements;
+
+        ArrayInitializerView(ModelArchive archive, int offset) {
+            super(archive, offset);
+        }
+
+        @Override
+        public ModelKind getModelKind() {
+            return ModelKind.ARRAY_INITIALIZER;
+        }
+
+        @Override
+        public <R, C, E extends Throwable> R accept(
+                Visitor<R, C, E> visitor, C context) throws E {
+            if (visitor == null) {
+                throw new IllegalArgumentException("visitor must not be null"); //$NON-NLS-1$
+            }
+            return visitor.visitArrayInitializer(this, context);
+        }
+
+        @Override
+        public List<? extends Expression> getElements() {
+            List<Expression> result = elements;
+            if (result == null) {
+                result = getList(0);
+                elements = result;
+            }
+            return result;
+        }
+
+        @Override
+        public ArrayInitializer withElements(List<? extends Expression> elements) {
+            return (ArrayInitializer) copyWith(0, elements);
+        }
+
+        @Override
+        Object getPropertyAt(int slot) {
+            switch (slot) {
+            case 0:
+                return getElements();
+            default:
+                throw new AssertionError(slot);
+            }
+        }
+    }
+
+    /**
+     * アーカイブ上の{@link ArrayType}。
+     */
+    static final class ArrayTypeView extends ModelArchiveView implements ArrayType {
+
+        /**
+         * 要素型。
+         */
+        private Type componentType;
+
+        ArrayTypeView(ModelArchive archive, int offset) {
+            super(archive, offset);
+        }
+
+        @Override
+        public ModelKind getModelKind() {
+            return ModelKind.ARRAY_TYPE;
+        }
+
+        @Override
+        public <R, C, E extends Throwable> R accept(
+                Visitor<R, C, E> visitor, C context) throws E {
+            if (visitor == null) {
+                throw new IllegalArgumentException("visitor must not be null"); //$NON-NLS-1$
+            }
+            return visitor.visitArrayType(this, context);
+        }
+
+        @Override
+        public Type getComponentType() {
+            Type result = componentType;
+            if (result == null) {
+                result = (Type) getModel(0);
+                componentType = result;
+            }
+            return result;
+        }
+
+        @Override
+        public ArrayType withComponentType(Type componentType) {
+            return (ArrayType) copyWith(0, componentType);
+        }
+
+        @Override
+        Object getPropertyAt(int slot) {
+            switch (slot) {
+            case 0:
+                return getComponentType();
+            default:
+                throw new AssertionError(slot);
+            }
+        }
+    }
+
+    /**
+     * アーカイブ上の{@link AssertStatement}。
+     */
+    static final class AssertStatementView extends ModelArchiveView implements AssertStatement {
+
+        /**
+         * 表明式。
+         */
+        private Expression expression;
+
+        /**
+         * メッセージ式。
+         */
+        private Expression message;
+
+        AssertStatementView(ModelArchive archive, int offset) {
+            super(archive, offset);
+        }
+
+        @Override
+        public ModelKind getModelKind() {
+            return ModelKind.ASSERT_STATEMENT;
+        }
+
+        @Override
+        public <R, C, E extends Throwable> R accept(
+                Visitor<R, C, E> visitor, C context) throws E {
+            if (visitor == null) {
+                throw new IllegalArgumentException("visitor must not be null"); //$NON-NLS-1$
+            }
+            return visitor.visitAssertStatement(this, context);
+        }
+
+        @Override
+        public Expression getExpression() {
+            Expression result = expression;
+            if (result == null) {
+                result = (Expression) getModel(0);
+                expression = result;
+            }
+            return result;
+        }
+
+        @Override
+        public Expression getMessage() {
+            Expression result = message;
+            if (result == null) {
+                result = (Expression) getModel(1);
+                message = result;
+            }
+            return result;
+        }
+
+        @Override
+        public AssertStatement withExpression(Expression expression) {
+            return (AssertStatement) copyWith(0, expression);
+        }
+
+        @Override
+        public AssertStatement withMessage(Expression message) {
+            return (AssertStatement) copyWith(1, message);
+        }
+
+        @Override
+        Object getPropertyAt(int slot) {
+            switch (slot) {
+            case 0:
+                return getExpression();
+            case 1:
+                return getMessage();
+            default:
+                throw new AssertionError(slot);
+            }
+        }
+    }
+
+    /**
+     * アーカイブ上の{@link AssignmentExpression}。
+     */
+    static final class AssignmentExpressionView extends ModelArchiveView implements AssignmentExpression {
+
+        /**
+         * 左辺式。
+         */
+        private Expression leftHandSide;
+
+        /**
+         * 右辺式。
+         */
+        private Expression rightHandSide;
+
+        AssignmentExpressionView(ModelArchive archive, int offset) {
+            super(archive, offset);
+        }
+
+        @Override
+        public ModelKind getModelKind() {
+            return ModelKind.ASSIGNMENT_EXPRESSION;
+        }
+
+        @Override
+        public <R, C, E extends Throwable> R accept(
+                Visitor<R, C, E> visitor, C context) throws E {
+            if (visitor == null) {
+                throw new IllegalArgumentException("visitor must not be null"); //$NON-NLS-1$
+            }
+            return visitor.visitAssignmentExpression(this, context);
+        }
+
+        @Override
+        public Expression getLeftHandSide() {
+            Expression result = leftHandSide;
+            if (result == null) {
+                result = (Expression) getModel(0);
+                leftHandSide = result;
+            }
+            return result;
+        }
+
+        @Override
+        public InfixOperator getOperator() {
+            return (InfixOperator) getEnum(1, PropertyKind.ASSIGNMENT_EXPRESSION_OPERATOR);
+        }
+
+        @Override
+        public Expression getRightHandSide() {
+            Expression result = rightHandSide;
+            if (result == null) {
+                result = (Expression) getModel(2);
+                rightHandSide = result;
+            }
+            return result;
+        }
+
+        @Override
+        public AssignmentExpression withLeftHandSide(Expression leftHandSide) {
+            return (AssignmentExpression) copyWith(0, leftHandSide);
+        }
+
+        @Override
+        public AssignmentExpression withOperator(InfixOperator operator) {
+            return (AssignmentExpression) copyWith(1, operator);
+        }
+
+        @Override
+        public AssignmentExpression withRightHandSide(Expression rightHandSide) {
+            return (AssignmentExpression) copyWith(2, rightHandSide);
+        }
+
+        @Override
+        Object getPropertyAt(int slot) {
+            switch (slot) {
+            case 0:
+                return getLeftHandSide();
+            case 1:
+                return getOperator();
+            case 2:
+                return getRightHandSide();
+            default:
+                throw new AssertionError(slot);
+            }
+        }
+    }
+
+    /**
+     * アーカイブ上の{@link BasicType}。
+     */
+    static final class BasicTypeView extends ModelArchiveView implements BasicType {
+
+        BasicTypeView(ModelArchive archive, int offset) {
+            super(archive, offset);
+        }
+
+        @Override
+        public ModelKind getModelKind() {
+            return ModelKind.BASIC_TYPE;
+        }
+
+        @Override
+        public <R, C, E extends Throwable> R accept(
+                Visitor<R, C, E> visitor, C context) throws E {
+            if (visitor == null) {
+                throw new IllegalArgumentException("visitor must not be null"); //$NON-NLS-1$
+            }
+            return visitor.visitBasicType(this, context);
+        }
+
+        @Override
+        public BasicTypeKind getTypeKind() {
+            return (BasicTypeKind) getEnum(0, PropertyKind.BASIC_TYPE_TYPE_KIND);
+        }
+
+        @Override
+        public BasicType withTypeKind(BasicTypeKind typeKind) {
+            return (BasicType) copyWith(0, typeKind);
+        }
+
+        @Override
+        Object getPropertyAt(int slot) {
+            switch (slot) {
+            case 0:
+                return getTypeKind();
+            default:
+                throw new AssertionError(slot);
+            }
+        }
+    }
+
+    /**
+     * アーカイブ上の{@link Block}。
+     */
+    static final class BlockView extends ModelArchiveView implements Block {
+
+        /**
+         * 文の一覧。
+         */
+        private List<Statement> statements;
+
+        BlockView(ModelArchive archive, int offset) {
+            super(archive, offset);
+        }
+
+        @Override
+        public ModelKind getModelKind() {
+            return ModelKind.BLOCK;
+        }
+
+        @Override
+        public <R, C, E extends Throwable> R accept(
+                Visitor<R, C, E> visitor, C context) throws E {
+            if (visitor == null) {
+                throw new IllegalArgumentException("visitor must not be null"); //$NON-NLS-1$
+            }
+            return visitor.visitBlock(this, context);
+        }
+
+        @Override
+        public List<? extends Statement> getStatements() {
+            List<Statement> result = statements;
+            if (result == null) {
+                result = getList(0);
+                statements = result;
+            }
+            return result;
+        }
+
+        @Override
+        public Block withStatements(List<? extends Statement> statements) {
+            return (Block) copyWith(0, statements);
+        }
+
+        @Override
+        Object getPropertyAt(int slot) {
+            switch (slot) {
+            case 0:
+                return getStatements();
+            default:
+                throw new AssertionError(slot);
+            }
+        }
+    }
+
+    /**
+     * アーカイブ上の{@link BlockComment}。
+     */
+    static final class BlockCommentView extends ModelArchiveView implements BlockComment {
+
+        /**
+         * コメント文字列。
+         */
+        private String string;
+
+        BlockCommentView(ModelArchive archive, int offset) {
+            super(archive, offset);
+        }
+
+        @Override
+        public ModelKind getModelKind() {
+            return ModelKind.BLOCK_COMMENT;
+        }
+
+        @Override
+        public <R, C, E extends Throwable> R accept(
+                Visitor<R, C, E> visitor, C context) throws E {
+            if (visitor == null) {
+                throw new IllegalArgumentException("visitor must not be null"); //$NON-NLS-1$
+            }
+            return visitor.visitBlockComment(this, context);
+        }
+
+        @Override
+        public String getString() {
+            String result = string;
+            if (result == null) {
+                result = getString(0);
+                string = result;
+            }
+            return result;
+        }
+
+        @Override
+        public BlockComment withString(String string) {
+            return (BlockComment) copyWith(0, string);
+        }
+
+        @Override
+        Object getPropertyAt(int slot) {
+            switch (slot) {
+            case 0:
+                return getString();
+            default:
+                throw new AssertionError(slot);
+            }
+        }
+    }
+
+    /**
+     * アーカイブ上の{@link BreakStatement}。
+     */
+    static final class BreakStatementView extends ModelArchiveView implements BreakStatement {
+
+        /**
+         * 分岐先ラベル。
+         */
+        private SimpleName target;
+
+        BreakStatementView(ModelArchive archive, int offset) {
+            super(archive, offset);
+        }
+
+        @Override
+        public ModelKind getModelKind() {
+            return ModelKind.BREAK_STATEMENT;
+        }
+
+        @Override
+        public <R, C, E extends Throwable> R accept(
+                Visitor<R, C, E> visitor, C context) throws E {
+            if (visitor == null) {
+                throw new IllegalArgumentException("visitor must not be null"); //$NON-NLS-1$
+            }
+            return visitor.visitBreakStatement(this, context);
+        }
+
+        @Override
+        public SimpleName getTarget() {
+            SimpleName result = target;
+            if (result == null) {
+                result = (SimpleName) getModel(0);
+                target = result;
+            }
+            return result;
+        }
+
+        @Override
+        public BreakStatement withTarget(SimpleName target) {
+            return (BreakStatement) copyWith(0, target);
+        }
+
+        @Override
+        Object getPropertyAt(int slot) {
+            switch (slot) {
+            case 0:
+                return getTarget();
+            default:
+                throw new AssertionError(slot);
+            }
+        }
+    }
+
+    /**
+     * アーカイブ上の{@link CastExpression}。
+     */
+    static final class CastExpressionView extends ModelArchiveView implements CastExpression {
+
+        /**
+         * キャスト対象の型。
+         */
+        private Type type;
+
+        /**
+         * 演算項。
+         */
+        private Expression expression;
+
+        CastExpressionView(ModelArchive archive, int offset) {
+            super(archive, offset);
+        }
+
+        @Override
+        public ModelKind getModelKind() {
+            return ModelKind.CAST_EXPRESSION;
+        }
+
+        @Override
+        public <R, C, E extends Throwable> R accept(
+                Visitor<R, C, E> visitor, C context) throws E {
+            if (visitor == null) {
+                throw new IllegalArgumentException("visitor must not be null"); //$NON-NLS-1$
+            }
+            return visitor.visitCastExpression(this, context);
+        }
+
+        @Override
+        public Type getType() {
+            Type result = type;
+            if (result == null) {
+                result = (Type) getModel(0);
+                type = result;
+            }
+            return result;
+        }
+
+        @Override
+        public Expression getExpression() {
+            Expression result = expression;
+            if (result == null) {
+                result = (Expression) getModel(1);
+                expression = result;
+            }
+            return result;
+        }
+
+        @Override
+        public CastExpression withType(Type type) {
+            return (CastExpression) copyWith(0, type);
+        }
+
+        @Override
+        public CastExpression withExpression(Expression expression) {
+            return (CastExpression) copyWith(1, expression);
+        }
+
+        @Override
+        Object getPropertyAt(int slot) {
+            switch (slot) {
+            case 0:
+                return getType();
+            case 1:
+                return getExpression();
+            default:
+                throw new AssertionError(slot);
+            }
+        }
+    }
+
+    /**
+     * アーカイブ上の{@link CatchClause}。
+     */
+    static final class CatchClauseView extends ModelArchiveView implements CatchClause {
+
+        /**
+         * 例外仮引数。
+         */
+        private FormalParameterDeclaration parameter;
+
+        /**
+         * {@code catch}ブロック。
+         */
+        private Block body;
+
+        CatchClauseView(ModelArchive archive, int offset) {
+            super(archive, offset);
+        }
+
+        @Override
+        public ModelKind getModelKind() {
+            return ModelKind.CATCH_CLAUSE;
+        }
+
+        @Override
+        public <R, C, E extends Throwable> R accept(
+                Visitor<R, C, E> visitor, C context) throws E {
+            if (visitor == null) {
+                throw new IllegalArgumentException("visitor must not be null"); //$NON-NLS-1$
+            }
+            return visitor.visitCatchClause(this, context);
+        }
+
+        @Override
+        public FormalParameterDeclaration getParameter() {
+            FormalParameterDeclaration result = parameter;
+            if (result == null) {
+                result = (FormalParameterDeclaration) getModel(0);
+                parameter = result;
+            }
+            return result;
+        }
+
+        @Override
+        public Block getBody() {
+            Block result = body;
+            if (result == null) {
+                result = (Block) getModel(1);
+                body = result;
+            }
+            return result;
+        }
+
+        @Override
+        public CatchClause withParameter(FormalParameterDeclaration parameter) {
+            return (CatchClause) copyWith(0, parameter);
+        }
+
+        @Override
+        public CatchClause withBody(Block body) {
+            return (CatchClause) copyWith(1, body);
+        }
+
+        @Override
+        Object getPropertyAt(int slot) {
+            switch (slot) {
+            case 0:
+                return getParameter();
+            case 1:
+                return getBody();
+            default:
+                throw new AssertionError(slot);
+            }
+        }
+    }
+
+    /**
+     * アーカイブ上の{@link ClassBody}。
+     */
+    static final class ClassBodyView extends ModelArchiveView implements ClassBody {
+
+        /**
+         * メンバの一覧。
+         */
+        private List<TypeBodyDeclaration> bodyDeclarations;
+
+        ClassBodyView(ModelArchive archive, int offset) {
+            super(archive, offset);
+        }
+
+        @Override
+        public ModelKind getModelKind() {
+            return ModelKind.CLASS_BODY;
+        }
+
+        @Override
+        public <R, C, E extends Throwable> R accept(
+                Visitor<R, C, E> visitor, C context) throws E {
+            if (visitor == null) {
+                throw new IllegalArgumentException("visitor must not be null"); //$NON-NLS-1$
+            }
+            return visitor.visitClassBody(this, context);
+        }
+
+        @Override
+        public List<? extends TypeBodyDeclaration> getBodyDeclarations() {
+            List<TypeBodyDeclaration> result = bodyDeclarations;
+            if (result == null) {
+                result = getList(0);
+                bodyDeclarations = result;
+            }
+            return result;
+        }
+
+        @Override
+        public ClassBody withBodyDeclarations(List<? extends TypeBodyDeclaration> bodyDeclarations) {
+            return (ClassBody) copyWith(0, bodyDeclarations);
+        }
+
+        @Override
+        Object getPropertyAt(int slot) {
+            switch (slot) {
+            case 0:
+                return getBodyDeclarations();
+            default:
+                throw new AssertionError(slot);
+            }
+        }
+    }
+
+    /**
+     * アーカイブ上の{@link ClassDeclaration}。
+     */
+    static final class ClassDeclarationView extends ModelArchiveView implements ClassDeclaration {
+
+        /**
+         * ドキュメンテーションコメント。
+         */
+        private Javadoc javadoc;
+
+        /**
+         * 修飾子および注釈の一覧。
+         */
+        private List<Attribute> modifiers;
+
+        /**
+         * 型の単純名。
+         */
+        private SimpleName name;
+
+        /**
+         * 仮型引数宣言の一覧。
+         */
+        private List<TypeParameterDeclaration> typeParameters;
+
+        /**
+         * 親クラス。
+         */
+        private Type superClass;
+
+        /**
+         * 親インターフェースの一覧。
+         */
+        private List<Type> superInterfaceTypes;
+
+        /**
+         * メンバの一覧。
+         */
+        private List<TypeBodyDeclaration> bodyDeclarations;
+
+        ClassDeclarationView(ModelArchive archive, int offset) {
+            super(archive, offset);
+        }
+
+        @Override
+        public ModelKind getModelKind() {
+            return ModelKind.CLASS_DECLARATION;
+        }
+
+        @Override
+        public <R, C, E extends Throwable> R accept(
+                Visitor<R, C, E> visitor, C context) throws E {
+            if (visitor == null) {
+                throw new IllegalArgumentException("visitor must not be null"); //$NON-NLS-1$
+            }
+            return visitor.visitClassDeclaration(this, context);
+        }
+
+        @Override
+        public Javadoc getJavadoc() {
+            Javadoc result = javadoc;
+            if (result == null) {
+                result = (Javadoc) getModel(0);
+                javadoc = result;
+            }
+            return result;
+        }
+
+        @Override
+        public List<? extends Attribute> getModifiers() {
+            List<Attribute> result = modifiers;
+            if (result == null) {
+                result = getList(1);
+                modifiers = result;
+            }
+            return result;
+        }
+
+        @Override
+        public SimpleName getName() {
+            SimpleName result = name;
+            if (result == null) {
+                result = (SimpleName) getModel(2);
+                name = result;
+            }
+            return result;
+        }
+
+        @Override
+        public List<? extends TypeParameterDeclaration> getTypeParameters() {
+            List<TypeParameterDeclaration> result = typeParameters;
+            if (result == null) {
+                result = getList(3);
+                typeParameters = result;
+            }
+            return result;
+        }
+
+        @Override
+        public Type getSuperClass() {
+            Type result = superClass;
+            if (result == null) {
+                result = (Type) getModel(4);
+                superClass = result;
+            }
+            return result;
+        }
+
+        @Override
+        public List<? extends Type> getSuperInterfaceTypes() {
+            List<Type> result = superInterfaceTypes;
+            if (result == null) {
+                result = getList(5);
+                superInterfaceTypes = result;
+            }
+            return result;
+        }
+
+        @Override
+        public List<? extends TypeBodyDeclaration> getBodyDeclarations() {
+            List<TypeBodyDeclaration> result = bodyDeclarations;
+            if (result == null) {
+                result = getList(6);
+                bodyDeclarations = result;
+            }
+            return result;
+        }
+
+        @Override
+        public ClassDeclaration withJavadoc(Javadoc javadoc) {
+            return (ClassDeclaration) copyWith(0, javadoc);
+        }
+
+        @Override
+        public ClassDeclaration withModifiers(List<? extends Attribute> modifiers) {
+            return (ClassDeclaration) copyWith(1, modifiers);
+        }
+
+        @Override
+        public ClassDeclaration withName(SimpleName name) {
+            return (ClassDeclaration) copyWith(2, name);
+        }
+
+        @Override
+        public ClassDeclaration withTypeParameters(List<? extends TypeParameterDeclaration> typeParameters) {
+            return (ClassDeclaration) copyWith(3, typeParameters);
+        }
+
+        @Override
+        public ClassDeclaration withSuperClass(Type superClass) {
+            return (ClassDeclaration) copyWith(4, superClass);
+        }
+
+        @Override
+        public ClassDeclaration withSuperInterfaceTypes(List<? extends Type> superInterfaceTypes) {
+            return (ClassDeclaration) copyWith(5, superInterfaceTypes);
+        }
+
+        @Override
+        public ClassDeclaration withBodyDeclarations(List<? extends TypeBodyDeclaration> bodyDeclarations) {
+            return (ClassDeclaration) copyWith(6, bodyDeclarations);
+        }
+
+        @Override
+        Object getPropertyAt(int slot) {
+            switch (slot) {
+            case 0:
+                return getJavadoc();
+            case 1:
+                return getModifiers();
+            case 2:
+                return getName();
+            case 3:
+                return getTypeParameters();
+            case 4:
+                return getSuperClass();
+            case 5:
+                return getSuperInterfaceTypes();
+            case 6:
+                return getBodyDeclarations();
+            default:
+                throw new AssertionError(slot);
+            }
+        }
+    }
+
+    /**
+     * アーカイブ上の{@link ClassInstanceCreationExpression}。
+     */
+    static final class ClassInstanceCreationExpressionView extends ModelArchiveView implements ClassInstanceCreationExpression {
+
+        /**
+         * 限定式。
+         */
+        private Expression qualifier;
+
+        /**
+         * 型引数の一覧。
+         */
+        private List<Type> typeArguments;
+
+        /**
+         * インスタンスを生成する型。
+         */
+        private Type type;
+
+        /**
+         * 実引数の一覧。
+         */
+        private List<Expression> arguments;
+
+        /**
+         * 匿名クラス本体。
+         */
+        private ClassBody body;
+
+        ClassInstanceCreationExpressionView(ModelArchive archive, int offset) {
+            super(archive, offset);
+        }
+
+        @Override
+        public ModelKind getModelKind() {
+            return ModelKind.CLASS_INSTANCE_CREATION_EXPRESSION;
+        }
+
+        @Override
+        public <R, C, E extends Throwable> R accept(
+                Visitor<R, C, E> visitor, C context) throws E {
+            if (visitor == null) {
+                throw new IllegalArgumentException("visitor must not be null"); //$NON-NLS-1$
+            }
+            return visitor.visitClassInstanceCreationExpression(this, context);
+        }
+
+        @Override
+        public Expression getQualifier() {
+            Expression result = qualifier;
+            if (result == null) {
+                result = (Expression) getModel(0);
+                qualifier = result;
+            }
+            return result;
+        }
+
+        @Override
+        public List<? extends Type> getTypeArguments() {
+            List<Type> result = typeArguments;
+            if (result == null) {
+                result = getList(1);
+                typeArguments = result;
+            }
+            return result;
+        }
+
+        @Override
+        public Type getType() {
+            Type result = type;
+            if (result == null) {
+                result = (Type) getModel(2);
+                type = result;
+            }
+            return result;
+        }
+
+        @Override
+        public List<? extends Expression> getArguments() {
+            List<Expression> result = arguments;
+            if (result == null) {
+                result = getList(3);
+                arguments = result;
+            }
+            return result;
+        }
+
+        @Override
+        public ClassBody getBody() {
+            ClassBody result = body;
+            if (result == null) {
+                result = (ClassBody) getModel(4);
+                body = result;
+            }
+            return result;
+        }
+
+        @Override
+        public ClassInstanceCreationExpression withQualifier(Expression qualifier) {
+            return (ClassInstanceCreationExpression) copyWith(0, qualifier);
+        }
+
+        @Override
+        public ClassInstanceCreationExpression withTypeArguments(List<? extends Type> typeArguments) {
+            return (ClassInstanceCreationExpression) copyWith(1, typeArguments);
+        }
+
+        @Override
+        public ClassInstanceCreationExpression withType(Type type) {
+            return (ClassInstanceCreationExpression) copyWith(2, type);
+        }
+
+        @Override
+        public ClassInstanceCreationExpression withArguments(List<? extends Expression> arguments) {
+            return (ClassInstanceCreationExpression) copyWith(3, arguments);
+        }
+
+        @Override
+        public ClassInstanceCreationExpression withBody(ClassBody body) {
+            return (ClassInstanceCreationExpression) copyWith(4, body);
+        }
+
+        @Override
+        Object getPropertyAt(int slot) {
+            switch (slot) {
+            case 0:
+                return getQualifier();
+            case 1:
+                return getTypeArguments();
+            case 2:
+                return getType();
+            case 3:
+                return getArguments();
+            case 4:
+                return getBody();
+            default:
+                throw new AssertionError(slot);
+            }
+        }
+    }
+
+    /**
+     * アーカイブ上の{@link ClassLiteral}。
+     */
+    static final class ClassLiteralView extends ModelArchiveView implements ClassLiteral {
+
+        /**
+         * 対象の型。
+         */
+        private Type type;
+
+        ClassLiteralView(ModelArchive archive, int offset) {
+            super(archive, offset);
+        }
+
+        @Override
+        public ModelKind getModelKind() {
+            return ModelKind.CLASS_LITERAL;
+        }
+
+        @Override
+        public <R, C, E extends Throwable> R accept(
+                Visitor<R, C, E> visitor, C context) throws E {
+            if (visitor == null) {
+                throw new IllegalArgumentException("visitor must not be null"); //$NON-NLS-1$
+            }
+            return visitor.visitClassLiteral(this, context);
+        }
+
+        @Override
+        public Type getType() {
+            Type result = type;
+            if (result == null) {
+                result = (Type) getModel(0);
+                type = result;
+            }
+            return result;
+        }
+
+        @Override
+        public ClassLiteral withType(Type type) {
+            return (ClassLiteral) copyWith(0, type);
+        }
+
+        @Override
+        Object getPropertyAt(int slot) {
+            switch (slot) {
+            case 0:
+                return getType();
+            default:
+                throw new AssertionError(slot);
+            }
+        }
+    }
+
+    /**
+     * アーカイブ上の{@link CompilationUnit}。
+     */
+    static final class CompilationUnitView extends ModelArchiveView implements CompilationUnit {
+
+        /**
+         * パッケージ宣言。
+         */
+        private PackageDeclaration packageDeclaration;
+
+        /**
+         * このコンパイル単位で宣言されるインポート宣言の一覧。
+         */
+        private List<ImportDeclaration> importDeclarations;
+
+        /**
+         * このコンパイル単位で宣言される型の一覧。
+         */
+        private List<TypeDeclaration> typeDeclarations;
+
+        /**
+         * このコンパイル単位に記述されたコメントの一覧。
+         */
+        private List<Comment> comments;
+
+        CompilationUnitView(ModelArchive archive, int offset) {
+            super(archive, offset);
+        }
+
+        @Override
+        public ModelKind getModelKind() {
+            return ModelKind.COMPILATION_UNIT;
+        }
+
+        @Override
+        public <R, C, E extends Throwable> R accept(
+                Visitor<R, C, E> visitor, C context) throws E {
+            if (visitor == null) {
+                throw new IllegalArgumentException("visitor must not be null"); //$NON-NLS-1$
+            }
+            return visitor.visitCompilationUnit(this, context);
+        }
+
+        @Override
+        public PackageDeclaration getPackageDeclaration() {
+            PackageDeclaration result = packageDeclaration;
+            if (result == null) {
+                result = (PackageDeclaration) getModel(0);
+                packageDeclaration = result;
+            }
+            return result;
+        }
+
+        @Override
+        public List<? extends ImportDeclaration> getImportDeclarations() {
+            List<ImportDeclaration> result = importDeclarations;
+            if (result == null) {
+                result = getList(1);
+                importDeclarations = result;
+            }
+            return result;
+        }
+
+        @Override
+        public List<? extends TypeDeclaration> getTypeDeclarations() {
+            List<TypeDeclaration> result = typeDeclarations;
+            if (result == null) {
+                result = getList(2);
+                typeDeclarations = result;
+            }
+            return result;
+        }
+
+        @Override
+        public List<? extends Comment> getComments() {
+            List<Comment> result = comments;
+            if (result == null) {
+                result = getList(3);
+                comments = result;
+            }
+            return result;
+        }
+
+        @Override
+        public CompilationUnit withPackageDeclaration(PackageDeclaration packageDeclaration) {
+            return (CompilationUnit) copyWith(0, packageDeclaration);
+        }
+
+        @Override
+        public CompilationUnit withImportDeclarations(List<? extends ImportDeclaration> importDeclarations) {
+            return (CompilationUnit) copyWith(1, importDeclarations);
+        }
+
+        @Override
+        public CompilationUnit withTypeDeclarations(List<? extends TypeDeclaration> typeDeclarations) {
+            return (CompilationUnit) copyWith(2, typeDeclarations);
+        }
+
+        @Override
+        public CompilationUnit withComments(List<? extends Comment> comments) {
+            return (CompilationUnit) copyWith(3, comments);
+        }
+
+        @Override
+        Object getPropertyAt(int slot) {
+            switch (slot) {
+            case 0:
+                return getPackageDeclaration();
+            case 1:
+                return getImportDeclarations();
+            case 2:
+                return getTypeDeclarations();
+            case 3:
+                return getComments();
+            default:
+                throw new AssertionError(slot);
+            }
+        }
+    }
+
+    /**
+     * アーカイブ上の{@link ConditionalExpression}。
+     */
+    static final class ConditionalExpressionView extends ModelArchiveView implements ConditionalExpression {
+
+        /**
+         * 条件式。
+         */
+        private Expression condition;
+
+        /**
+         * 条件成立時に評価される式。
+         */
+        private Expression thenExpression;
+
+        /**
+         * 条件不成立時に評価される式。
+         */
+        private Expression elseExpression;
+
+        ConditionalExpressionView(ModelArchive archive, int offset) {
+            super(archive, offset);
+        }
+
+        @Override
+        public ModelKind getModelKind() {
+            return ModelKind.CONDITIONAL_EXPRESSION;
+        }
+
+        @Override
+        public <R, C, E extends Throwable> R accept(
+                Visitor<R, C, E> visitor, C context) throws E {
+            if (visitor == null) {
+                throw new IllegalArgumentException("visitor must not be null"); //$NON-NLS-1$
+            }
+            return visitor.visitConditionalExpression(this, context);
+        }
+
+        @Override
+        public Expression getCondition() {
+            Expression result = condition;
+            if (result == null) {
+                result = (Expression) getModel(0);
+                condition = result;
+            }
+            return result;
+        }
+
+        @Override
+        public Expression getThenExpression() {
+            Expression result = thenExpression;
+            if (result == null) {
+                result = (Expression) getModel(1);
+                thenExpression = result;
+            }
+            return result;
+        }
+
+        @Override
+        public Expression getElseExpression() {
+            Expression result = elseExpression;
+            if (result == null) {
+                result = (Expression) getModel(2);
+                elseExpression = result;
+            }
+            return result;
+        }
+
+        @Override
+        public ConditionalExpression withCondition(Expression condition) {
+            return (ConditionalExpression) copyWith(0, condition);
+        }
+
+        @Override
+        public ConditionalExpression withThenExpression(Expression thenExpression) {
+            return (ConditionalExpression) copyWith(1, thenExpression);
+        }
+
+        @Override
+        public ConditionalExpression withElseExpression(Expression elseExpression) {
+            return (ConditionalExpression) copyWith(2, elseExpression);
+        }
+
+        @Override
+        Object getPropertyAt(int slot) {
+            switch (slot) {
+            case 0:
+                return getCondition();
+            case 1:
+                return getThenExpression();
+            case 2:
+                return getElseExpression();
+            default:
+                throw new AssertionError(slot);
+            }
+        }
+    }
+
+    /**
+     * アーカイブ上の{@link ConstructorDeclaration}。
+     */
+    static final class ConstructorDeclarationView extends ModelArchiveView implements ConstructorDeclaration {
+
+        /**
+         * ドキュメンテーションコメント。
+         */
+        private Javadoc javadoc;
+
+        /**
+         * 修飾子および注釈の一覧。
+         */
+        private List<Attribute> modifiers;
+
+        /**
+         * 型引数宣言の一覧。
+         */
+        private List<TypeParameterDeclaration> typeParameters;
+
+        /**
+         * メソッドまたはコンストラクタの名前。
+         */
+        private SimpleName name;
+
+        /**
+         * 仮引数宣言の一覧。
+         */
+        private List<FormalParameterDeclaration> formalParameters;
+
+        /**
+         * 例外型宣言の一覧。
+         */
+        private List<Type> exceptionTypes;
+
+        /**
+         * コンストラクタ本体。
+         */
+        private Block body;
+
+        ConstructorDeclarationView(ModelArchive archive, int offset) {
+            super(archive, offset);
+        }
+
+        @Override
+        public ModelKind getModelKind() {
+            return ModelKind.CONSTRUCTOR_DECLARATION;
+        }
+
+        @Override
+        public <R, C, E extends Throwable> R accept(
+                Visitor<R, C, E> visitor, C context) throws E {
+            if (visitor == null) {
+                throw new IllegalArgumentException("visitor must not be null"); //$NON-NLS-1$
+            }
+            return visitor.visitConstructorDeclaration(this, context);
+        }
+
+        @Override
+        public Javadoc getJavadoc() {
+            Javadoc result = javadoc;
+            if (result == null) {
+                result = (Javadoc) getModel(0);
+                javadoc = result;
+            }
+            return result;
+        }
+
+        @Override
+        public List<? extends Attribute> getModifiers() {
+            List<Attribute> result = modifiers;
+            if (result == null) {
+                result = getList(1);
+                modifiers = result;
+            }
+            return result;
+        }
+
+        @Override
+        public List<? extends TypeParameterDeclaration> getTypeParameters() {
+            List<TypeParameterDeclaration> result = typeParameters;
+            if (result == null) {
+                result = getList(2);
+                typeParameters = result;
+            }
+            return result;
+        }
+
+        @Override
+        public SimpleName getName() {
+            SimpleName result = name;
+            if (result == null) {
+                result = (SimpleName) getModel(3);
+                name = result;
+            }
+            return result;
+        }
+
+        @Override
+        public List<? extends FormalParameterDeclaration> getFormalParameters() {
+            List<FormalParameterDeclaration> result = formalParameters;
+            if (result == null) {
+                result = getList(4);
+                formalParameters = result;
+            }
+            return result;
+        }
+
+        @Override
+        public List<? extends Type> getExceptionTypes() {
+            List<Type> result = exceptionTypes;
+            if (result == null) {
+                result = getList(5);
+                exceptionTypes = result;
+            }
+            return result;
+        }
+
+        @Override
+        public Block getBody() {
+            Block result = body;
+            if (result == null) {
+                result = (Block) getModel(6);
+                body = result;
+            }
+            return result;
+        }
+
+        @Override
+        public ConstructorDeclaration withJavadoc(Javadoc javadoc) {
+            return (ConstructorDeclaration) copyWith(0, javadoc);
+        }
+
+        @Override
+        public ConstructorDeclaration withModifiers(List<? extends Attribute> modifiers) {
+            return (ConstructorDeclaration) copyWith(1, modifiers);
+        }
+
+        @Override
+        public ConstructorDeclaration withTypeParameters(List<? extends TypeParameterDeclaration> typeParameters) {
+            return (ConstructorDeclaration) copyWith(2, typeParameters);
+        }
+
+        @Override
+        public ConstructorDeclaration withName(SimpleName name) {
+            return (ConstructorDeclaration) copyWith(3, name);
+        }
+
+        @Override
+        public ConstructorDeclaration withFormalParameters(List<? extends FormalParameterDeclaration> formalParameters) {
+            return (ConstructorDeclaration) copyWith(4, formalParameters);
+        }
+
+        @Override
+        public ConstructorDeclaration withExceptionTypes(List<? extends Type> exceptionTypes) {
+            return (ConstructorDeclaration) copyWith(5, exceptionTypes);
+        }
+
+        @Override
+        public ConstructorDeclaration withBody(Block body) {
+            return (ConstructorDeclaration) copyWith(6, body);
+        }
+
+        @Override
+        Object getPropertyAt(int slot) {
+            switch (slot) {
+            case 0:
+                return getJavadoc();
+            case 1:
+                return getModifiers();
+            case 2:
+                return getTypeParameters();
+            case 3:
+                return getName();
+            case 4:
+                return getFormalParameters();
+            case 5:
+                return getExceptionTypes();
+            case 6:
+                return getBody();
+            default:
+                throw new AssertionError(slot);
+            }
+        }
+    }
+
+    /**
+     * アーカイブ上の{@link ContinueStatement}。
+     */
+    static final class ContinueStatementView extends ModelArchiveView implements ContinueStatement {
+
+        /**
+         * 分岐先ラベル。
+         */
+        private SimpleName target;
+
+        ContinueStatementView(ModelArchive archive, int offset) {
+            super(archive, offset);
+        }
+
+        @Override
+        public ModelKind getModelKind() {
+            return ModelKind.CONTINUE_STATEMENT;
+        }
+
+        @Override
+        public <R, C, E extends Throwable> R accept(
+                Visitor<R, C, E> visitor, C context) throws E {
+            if (visitor == null) {
+                throw new IllegalArgumentException("visitor must not be null"); //$NON-NLS-1$
+            }
+            return visitor.visitContinueStatement(this, context);
+        }
+
+        @Override
+        public SimpleName getTarget() {
+            SimpleName result = target;
+            if (result == null) {
+                result = (SimpleName) getModel(0);
+                target = result;
+            }
+            return result;
+        }
+
+        @Override
+        public ContinueStatement withTarget(SimpleName target) {
+            return (ContinueStatement) copyWith(0, target);
+        }
+
+        @Override
+        Object getPropertyAt(int slot) {
+            switch (slot) {
+            case 0:
+                return getTarget();
+            default:
+                throw new AssertionError(slot);
+            }
+        }
+    }
+
+    /**
+     * アーカイブ上の{@link DoStatement}。
+     */
+    static final class DoStatementView extends ModelArchiveView implements DoStatement {
+
+        /**
+         * ループ本体。
+         */
+        private Statement body;
+
+        /**
+         * 条件式。
+         */
+        private Expression condition;
+
+        DoStatementView(ModelArchive archive, int offset) {
+            super(archive, offset);
+        }
+
+        @Override
+        public ModelKind getModelKind() {
+            return ModelKind.DO_STATEMENT;
+        }
+
+        @Override
+        public <R, C, E extends Throwable> R accept(
+                Visitor<R, C, E> visitor, C context) throws E {
+            if (visitor == null) {
+                throw new IllegalArgumentException("visitor must not be null"); //$NON-NLS-1$
+            }
+            return visitor.visitDoStatement(this, context);
+        }
+
+        @Override
+        public Statement getBody() {
+            Statement result = body;
+            if (result == null) {
+                result = (Statement) getModel(0);
+                body = result;
+            }
+            return result;
+        }
+
+        @Override
+        public Expression getCondition() {
+            Expression result = condition;
+            if (result == null) {
+                result = (Expression) getModel(1);
+                condition = result;
+            }
+            return result;
+        }
+
+        @Override
+        public DoStatement withBody(Statement body) {
+            return (DoStatement) copyWith(0, body);
+        }
+
+        @Override
+        public DoStatement withCondition(Expression condition) {
+            return (DoStatement) copyWith(1, condition);
+        }
+
+        @Override
+        Object getPropertyAt(int slot) {
+            switch (slot) {
+            case 0:
+                return getBody();
+            case 1:
+                return getCondition();
+            default:
+                throw new AssertionError(slot);
+            }
+        }
+    }
+
+    /**
+     * アーカイブ上の{@link DocBlock}。
+     */
+    static final class DocBlockView extends ModelArchiveView implements DocBlock {
+
+        /**
+         * タグ文字列。
+         */
+        private String tag;
+
+        /**
+         * インライン要素の一覧。
+         */
+        private List<DocElement> elements;
+
+        DocBlockView(ModelArchive archive, int offset) {
+            super(archive, offset);
+        }
+
+        @Override
+        public ModelKind getModelKind() {
+            return ModelKind.DOC_BLOCK;
+        }
+
+        @Override
+        public <R, C, E extends Throwable> R accept(
+                Visitor<R, C, E> visitor, C context) throws E {
+            if (visitor == null) {
+                throw new IllegalArgumentException("visitor must not be null"); //$NON-NLS-1$
+            }
+            return visitor.visitDocBlock(this, context);
+        }
+
+        @Override
+        public String getTag() {
+            String result = tag;
+            if (result == null) {
+                result = getString(0);
+                tag = result;
+            }
+            return result;
+        }
+
+        @Override
+        public List<? extends DocElement> getElements() {
+            List<DocElement> result = elements;
+            if (result == null) {
+                result = getList(1);
+                elements = result;
+            }
+            return result;
+        }
+
+        @Override
+        public DocBlock withTag(String tag) {
+            return (DocBlock) copyWith(0, tag);
+        }
+
+        @Override
+        public DocBlock withElements(List<? extends DocElement> elements) {
+            return (DocBlock) copyWith(1, elements);
+        }
+
+        @Override
+        Object getPropertyAt(int slot) {
+            switch (slot) {
+            case 0:
+                return getTag();
+            case 1:
+                return getElements();
+            default:
+                throw new AssertionError(slot);
+            }
+        }
+    }
+
+    /**
+     * アーカイブ上の{@link DocField}。
+     */
+    static final class DocFieldView extends ModelArchiveView implements DocField {
+
+        /**
+         * フィールドを宣言した型。
+         */
+        private Type type;
+
+        /**
+         * フィールドの名称。
+         */
+        private SimpleName name;
+
+        DocFieldView(ModelArchive archive, int offset) {
+            super(archive, offset);
+        }
+
+        @Override
+        public ModelKind getModelKind() {
+            return ModelKind.DOC_FIELD;
+        }
+
+        @Override
+        public <R, C, E extends Throwable> R accept(
+                Visitor<R, C, E> visitor, C context) throws E {
+            if (visitor == null) {
+                throw new IllegalArgumentException("visitor must not be null"); //$NON-NLS-1$
+            }
+            return visitor.visitDocField(this, context);
+        }
+
+        @Override
+        public Type getType() {
+            Type result = type;
+            if (result == null) {
+                result = (Type) getModel(0);
+                type = result;
+            }
+            return result;
+        }
+
+        @Override
+        public SimpleName getName() {
+            SimpleName result = name;
+            if (result == null) {
+                result = (SimpleName) getModel(1);
+                name = result;
+            }
+            return result;
+        }
+
+        @Override
+        public DocField withType(Type type) {
+            return (DocField) copyWith(0, type);
+        }
+
+        @Override
+        public DocField withName(SimpleName name) {
+            return (DocField) copyWith(1, name);
+        }
+
+        @Override
+        Object getPropertyAt(int slot) {
+            switch (slot) {
+            case 0:
+                return getType();
+            case 1:
+                return getName();
+            default:
+                throw new AssertionError(slot);
+            }
+        }
+    }
+
+    /**
+     * アーカイブ上の{@link DocMethod}。
+     */
+    static final class DocMethodView extends ModelArchiveView implements DocMethod {
+
+        /**
+         * メソッドまたはコンストラクタの宣言型。
+         */
+        private Type type;
+
+        /**
+         * メソッドまたはコンストラクタの名前。
+         */
+        private SimpleName name;
+
+        /**
+         * メソッドまたはコンストラクタの仮引数宣言の一覧。
+         */
+        private List<DocMethodParameter> formalParameters;
+
+        DocMethodView(ModelArchive archive, int offset) {
+            super(archive, offset);
+        }
+
+        @Override
+        public ModelKind getModelKind() {
+            return ModelKind.DOC_METHOD;
+        }
+
+        @Override
+        public <R, C, E extends Throwable> R accept(
+                Visitor<R, C, E> visitor, C context) throws E {
+            if (visitor == null) {
+                throw new IllegalArgumentException("visitor must not be null"); //$NON-NLS-1$
+            }
+            return visitor.visitDocMethod(this, context);
+        }
+
+        @Override
+        public Type getType() {
+            Type result = type;
+            if (result == null) {
+                result = (Type) getModel(0);
+                type = result;
+            }
+            return result;
+        }
+
+        @Override
+        public SimpleName getName() {
+            SimpleName result = name;
+            if (result == null) {
+                result = (SimpleName) getModel(1);
+                name = result;
+            }
+            return result;
+        }
+
+        @Override
+        public List<? extends DocMethodParameter> getFormalParameters() {
+            List<DocMethodParameter> result = formalParameters;
+            if (result == null) {
+                result = getList(2);
+                formalParameters = result;
+            }
+            return result;
+        }
+
+        @Override
+        public DocMethod withType(Type type) {
+            return (DocMethod) copyWith(0, type);
+        }
+
+        @Override
+        public DocMethod withName(SimpleName name) {
+            return (DocMethod) copyWith(1, name);
+        }
+
+        @Override
+        public DocMethod withFormalParameters(List<? extends DocMethodParameter> formalParameters) {
+            return (DocMethod) copyWith(2, formalParameters);
+        }
+
+        @Override
+        Object getPropertyAt(int slot) {
+            switch (slot) {
+            case 0:
+                return getType();
+            case 1:
+                return getName();
+            case 2:
+                return getFormalParameters();
+            default:
+                throw new AssertionError(slot);
+            }
+        }
+    }
+
+    /**
+     * アーカイブ上の{@link DocMethodParameter}。
+     */
+    static final class DocMethodParameterView extends ModelArchiveView implements DocMethodParameter {
+
+        /**
+         * 仮引数の型。
+         */
+        private Type type;
+
+        /**
+         * 仮引数の名前。
+         */
+        private SimpleName name;
+
+        DocMethodParameterView(ModelArchive archive, int offset) {
+            super(archive, offset);
+        }
+
+        @Override
+        public ModelKind getModelKind() {
+            return ModelKind.DOC_METHOD_PARAMETER;
+        }
+
+        @Override
+        public <R, C, E extends Throwable> R accept(
+                Visitor<R, C, E> visitor, C context) throws E {
+            if (visitor == null) {
+                throw new IllegalArgumentException("visitor must not be null"); //$NON-NLS-1$
+            }
+            return visitor.visitDocMethodParameter(this, context);
+        }
+
+        @Override
+        public Type getType() {
+            Type result = type;
+            if (result == null) {
+                result = (Type) getModel(0);
+                type = result;
+            }
+            return result;
+        }
+
+        @Override
+        public SimpleName getName() {
+            SimpleName result = name;
+            if (result == null) {
+                result = (SimpleName) getModel(1);
+                name = result;
+            }
+            return result;
+        }
+
+        @Override
+        public boolean isVariableArity() {
+            return getBoolean(2);
+        }
+
+        @Override
+        public DocMethodParameter withType(Type type) {
+            return (DocMethodParameter) copyWith(0, type);
+        }
+
+        @Override
+        public DocMethodParameter withName(SimpleName name) {
+            return (DocMethodParameter) copyWith(1, name);
+        }
+
+        @Override
+        public DocMethodParameter withVariableArity(boolean variableArity) {
+            return (DocMethodParameter) copyWith(2, variableArity);
+        }
+
+        @Override
+        Object getPropertyAt(int slot) {
+            switch (slot) {
+            case 0:
+                return getType();
+            case 1:
+                return getName();
+            case 2:
+                return isVariableArity();
+            default:
+                throw new AssertionError(slot);
+            }
+        }
+    }
+
+    /**
+     * アーカイブ上の{@link DocText}。
+     */
+    static final class DocTextView extends ModelArchiveView implements DocText {
+
+        /**
+         * テキストを構成する文字列。
+         */
+        private String string;
+
+        DocTextView(ModelArchive archive, int offset) {
+            super(archive, offset);
+        }
+
+        @Override
+        public ModelKind getModelKind() {
+            return ModelKind.DOC_TEXT;
+        }
+
+        @Override
+        public <R, C, E extends Throwable> R accept(
+                Visitor<R, C, E> visitor, C context) throws E {
+            if (visitor == null) {
+                throw new IllegalArgumentException("visitor must not be null"); //$NON-NLS-1$
+            }
+            return visitor.visitDocText(this, context);
+        }
+
+        @Override
+        public String getString() {
+            String result = string;
+            if (result == null) {
+                result = getString(0);
+                string = result;
+            }
+            return result;
+        }
+
+        @Override
+        public DocText withString(String string) {
+            return (DocText) copyWith(0, string);
+        }
+
+        @Override
+        Object getPropertyAt(int slot) {
+            switch (slot) {
+            case 0:
+                return getString();
+            default:
+                throw new AssertionError(slot);
+            }
+        }
+    }
+
+    /**
+     * アーカイブ上の{@link EmptyStatement}。
+     */
+    static final class EmptyStatementView extends ModelArchiveView implements EmptyStatement {
+
+        EmptyStatementView(ModelArchive archive, int offset) {
+            super(archive, offset);
+        }
+
+        @Override
+        public ModelKind getModelKind() {
+            return ModelKind.EMPTY_STATEMENT;
+        }
+
+        @Override
+        public <R, C, E extends Throwable> R accept(
+                Visitor<R, C, E> visitor, C context) throws E {
+            if (visitor == null) {
+                throw new IllegalArgumentException("visitor must not be null"); //$NON-NLS-1$
+            }
+            return visitor.visitEmptyStatement(this, context);
+        }
+
+        @Override
+        Object getPropertyAt(int slot) {
+            throw new AssertionError(slot);
+        }
+    }
+
+    /**
+     * アーカイブ上の{@link EnhancedForStatement}。
+     */
+    static final class EnhancedForStatementView extends ModelArchiveView implements EnhancedForStatement {
+
+        /**
+         * ループ変数。
+         */
+        private FormalParameterDeclaration parameter;
+
+        /**
+         * ループ対象式。
+         */
+        private Expression expression;
+
+        /**
+         * ループ本体。
+         */
+        private Statement body;
+
+        EnhancedForStatementView(ModelArchive archive, int offset) {
+            super(archive, offset);
+        }
+
+        @Override
+        public ModelKind getModelKind() {
+            return ModelKind.ENHANCED_FOR_STATEMENT;
+        }
+
+        @Override
+        public <R, C, E extends Throwable> R accept(
+                Visitor<R, C, E> visitor, C context) throws E {
+            if (visitor == null) {
+                throw new IllegalArgumentException("visitor must not be null"); //$NON-NLS-1$
+            }
+            return visitor.visitEnhancedForStatement(this, context);
+        }
+
+        @Override
+        public FormalParameterDeclaration getParameter() {
+            FormalParameterDeclaration result = parameter;
+            if (result == null) {
+                result = (FormalParameterDeclaration) getModel(0);
+                parameter = result;
+            }
+            return result;
+        }
+
+        @Override
+        public Expression getExpression() {
+            Expression result = expression;
+            if (result == null) {
+                result = (Expression) getModel(1);
+                expression = result;
+            }
+            return result;
+        }
+
+        @Override
+        public Statement getBody() {
+            Statement result = body;
+            if (result == null) {
+                result = (Statement) getModel(2);
+                body = result;
+            }
+            return result;
+        }
+
+        @Override
+        public EnhancedForStatement withParameter(FormalParameterDeclaration parameter) {
+            return (EnhancedForStatement) copyWith(0, parameter);
+        }
+
+        @Override
+        public EnhancedForStatement withExpression(Expression expression) {
+            return (EnhancedForStatement) copyWith(1, expression);
+        }
+
+        @Override
+        public EnhancedForStatement withBody(Statement body) {
+            return (EnhancedForStatement) copyWith(2, body);
+        }
+
+        @Override
+        Object getPropertyAt(int slot) {
+            switch (slot) {
+            case 0:
+                return getParameter();
+            case 1:
+                return getExpression();
+            case 2:
+                return getBody();
+            default:
+                throw new AssertionError(slot);
+            }
+        }
+    }
+
+    /**
+     * アーカイブ上の{@link EnumConstantDeclaration}。
+     */
+    static final class EnumConstantDeclarationView extends ModelArchiveView implements EnumConstantDeclaration {
+
+        /**
+         * ドキュメンテーションコメント。
+         */
+        private Javadoc javadoc;
+
+        /**
+         * 修飾子および注釈の一覧。
+         */
+        private List<Attribute> modifiers;
+
+        /**
+         * 列挙定数の名前。
+         */
+        private SimpleName name;
+
+        /**
+         * コンストラクタ引数の一覧。
+         */
+        private List<Expression> arguments;
+
+        /**
+         * クラス本体の宣言。
+         */
+        private ClassBody body;
+
+        EnumConstantDeclarationView(ModelArchive archive, int offset) {
+            super(archive, offset);
+        }
+
+        @Override
+        public ModelKind getModelKind() {
+            return ModelKind.ENUM_CONSTANT_DECLARATION;
+        }
+
+        @Override
+        public <R, C, E extends Throwable> R accept(
+                Visitor<R, C, E> visitor, C context) throws E {
+            if (visitor == null) {
+                throw new IllegalArgumentException("visitor must not be null"); //$NON-NLS-1$
+            }
+            return visitor.visitEnumConstantDeclaration(this, context);
+        }
+
+        @Override
+        public Javadoc getJavadoc() {
+            Javadoc result = javadoc;
+            if (result == null) {
+                result = (Javadoc) getModel(0);
+                javadoc = result;
+            }
+            return result;
+        }
+
+        @Override
+        public List<? extends Attribute> getModifiers() {
+            List<Attribute> result = modifiers;
+            if (result == null) {
+                result = getList(1);
+                modifiers = result;
+            }
+            return result;
+        }
+
+        @Override
+        public SimpleName getName() {
+            SimpleName result = name;
+            if (result == null) {
+                result = (SimpleName) getModel(2);
+                name = result;
+            }
+            return result;
+        }
+
+        @Override
+        public List<? extends Expression> getArguments() {
+            List<Expression> result = arguments;
+            if (result == null) {
+                result = getList(3);
+                arguments = result;
+            }
+            return result;
+        }
+
+        @Override
+        public ClassBody getBody() {
+            ClassBody result = body;
+            if (result == null) {
+                result = (ClassBody) getModel(4);
+                body = result;
+            }
+            return result;
+        }
+
+        @Override
+        public EnumConstantDeclaration withJavadoc(Javadoc javadoc) {
+            return (EnumConstantDeclaration) copyWith(0, javadoc);
+        }
+
+        @Override
+        public EnumConstantDeclaration withModifiers(List<? extends Attribute> modifiers) {
+            return (EnumConstantDeclaration) copyWith(1, modifiers);
+        }
+
+        @Override
+        public EnumConstantDeclaration withName(SimpleName name) {
+            return (EnumConstantDeclaration) copyWith(2, name);
+        }
+
+        @Override
+        public EnumConstantDeclaration withArguments(List<? extends Expression> arguments) {
+            return (EnumConstantDeclaration) copyWith(3, arguments);
+        }
+
+        @Override
+        public EnumConstantDeclaration withBody(ClassBody body) {
+            return (EnumConstantDeclaration) copyWith(4, body);
+        }
+
+        @Override
+        Object getPropertyAt(int slot) {
+            switch (slot) {
+            case 0:
+                return getJavadoc();
+            case 1:
+                return getModifiers();
+            case 2:
+                return getName();
+            case 3:
+                return getArguments();
+            case 4:
+                return getBody();
+            default:
+                throw new AssertionError(slot);
+            }
+        }
+    }
+
+    /**
+     * アーカイブ上の{@link EnumDeclaration}。
+     */
+    static final class EnumDeclarationView extends ModelArchiveView implements EnumDeclaration {
+
+        /**
+         * ドキュメンテーションコメント。
+         */
+        private Javadoc javadoc;
+
+        /**
+         * 修飾子および注釈の一覧。
+         */
+        private List<Attribute> modifiers;
+
+        /**
+         * 型の単純名。
+         */
+        private SimpleName name;
+
+        /**
+         * 親インターフェースの一覧。
+         */
+        private List<Type> superInterfaceTypes;
+
+        /**
+         * 列挙定数の一覧。
+         */
+        private List<EnumConstantDeclaration> constantDeclarations;
+
+        /**
+         * メンバの一覧。
+         */
+        private List<TypeBodyDeclaration> bodyDeclarations;
+
+        EnumDeclarationView(ModelArchive archive, int offset) {
+            super(archive, offset);
+        }
+
+        @Override
+        public ModelKind getModelKind() {
+            return ModelKind.ENUM_DECLARATION;
+        }
+
+        @Override
+        public <R, C, E extends Throwable> R accept(
+                Visitor<R, C, E> visitor, C context) throws E {
+            if (visitor == null) {
+                throw new IllegalArgumentException("visitor must not be null"); //$NON-NLS-1$
+            }
+            return visitor.visitEnumDeclaration(this, context);
+        }
+
+        @Override
+        public Javadoc getJavadoc() {
+            Javadoc result = javadoc;
+            if (result == null) {
+                result = (Javadoc) getModel(0);
+                javadoc = result;
+            }
+            return result;
+        }
+
+        @Override
+        public List<? extends Attribute> getModifiers() {
+            List<Attribute> result = modifiers;
+            if (result == null) {
+                result = getList(1);
+                modifiers = result;
+            }
+            return result;
+        }
+
+        @Override
+        public SimpleName getName() {
+            SimpleName result = name;
+            if (result == null) {
+                result = (SimpleName) getModel(2);
+                name = result;
+            }
+            return result;
+        }
+
+        @Override
+        public List<? extends Type> getSuperInterfaceTypes() {
+            List<Type> result = superInterfaceTypes;
+            if (result == null) {
+                result = getList(3);
+                superInterfaceTypes = result;
+            }
+            return result;
+        }
+
+        @Override
+        public List<? extends EnumConstantDeclaration> getConstantDeclarations() {
+            List<EnumConstantDeclaration> result = constantDeclarations;
+            if (result == null) {
+                result = getList(4);
+                constantDeclarations = result;
+            }
+            return result;
+        }
+
+        @Override
+        public List<? extends TypeBodyDeclaration> getBodyDeclarations() {
+            List<TypeBodyDeclaration> result = bodyDeclarations;
+            if (result == null) {
+                result = getList(5);
+                bodyDeclarations = result;
+            }
+            return result;
+        }
+
+        @Override
+        public EnumDeclaration withJavadoc(Javadoc javadoc) {
+            return (EnumDeclaration) copyWith(0, javadoc);
+        }
+
+        @Override
+        public EnumDeclaration withModifiers(List<? extends Attribute> modifiers) {
+            return (EnumDeclaration) copyWith(1, modifiers);
+        }
+
+        @Override
+        public EnumDeclaration withName(SimpleName name) {
+            return (EnumDeclaration) copyWith(2, name);
+        }
+
+        @Override
+        public EnumDeclaration withSuperInterfaceTypes(List<? extends Type> superInterfaceTypes) {
+            return (EnumDeclaration) copyWith(3, superInterfaceTypes);
+        }
+
+        @Override
+        public EnumDeclaration withConstantDeclarations(List<? extends EnumConstantDeclaration> constantDeclarations) {
+            return (EnumDeclaration) copyWith(4, constantDeclarations);
+        }
+
+        @Override
+        public EnumDeclaration withBodyDeclarations(List<? extends TypeBodyDeclaration> bodyDeclarations) {
+            return (EnumDeclaration) copyWith(5, bodyDeclarations);
+        }
+
+        @Override
+        Object getPropertyAt(int slot) {
+            switch (slot) {
+            case 0:
+                return getJavadoc();
+            case 1:
+                return getModifiers();
+            case 2:
+                return getName();
+            case 3:
+                return getSuperInterfaceTypes();
+            case 4:
+                return getConstantDeclarations();
+            case 5:
+                return getBodyDeclarations();
+            default:
+                throw new AssertionError(slot);
+            }
+        }
+    }
+
+    /**
+     * アーカイブ上の{@link ExpressionStatement}。
+     */
+    static final class ExpressionStatementView extends ModelArchiveView implements ExpressionStatement {
+
+        /**
+         * 内包する式。
+         */
+        private Expression expression;
+
+        ExpressionStatementView(ModelArchive archive, int offset) {
+            super(archive, offset);
+        }
+
+        @Override
+        public ModelKind getModelKind() {
+            return ModelKind.EXPRESSION_STATEMENT;
+        }
+
+        @Override
+        public <R, C, E extends Throwable> R accept(
+                Visitor<R, C, E> visitor, C context) throws E {
+            if (visitor == null) {
+                throw new IllegalArgumentException("visitor must not be null"); //$NON-NLS-1$
+            }
+            return visitor.visitExpressionStatement(this, context);
+        }
+
+        @Override
+        public Expression getExpression() {
+            Expression result = expression;
+            if (result == null) {
+                result = (Expression) getModel(0);
+                expression = result;
+            }
+            return result;
+        }
+
+        @Override
+        public ExpressionStatement withExpression(Expression expression) {
+            return (ExpressionStatement) copyWith(0, expression);
+        }
+
+        @Override
+        Object getPropertyAt(int slot) {
+            switch (slot) {
+            case 0:
+                return getExpression();
+            default:
+                throw new AssertionError(slot);
+            }
+        }
+    }
+
+    /**
+     * アーカイブ上の{@link FieldAccessExpression}。
+     */
+    static final class FieldAccessExpressionView extends ModelArchiveView implements FieldAccessExpression {
+
+        /**
+         * 限定式。
+         */
+        private Expression qualifier;
+
+        /**
+         * フィールドの名前。
+         */
+        private SimpleName name;
+
+        FieldAccessExpressionView(ModelArchive archive, int offset) {
+            super(archive, offset);
+        }
+
+        @Override
+        public ModelKind getModelKind() {
+            return ModelKind.FIELD_ACCESS_EXPRESSION;
+        }
+
+        @Override
+        public <R, C, E extends Throwable> R accept(
+                Visitor<R, C, E> visitor, C context) throws E {
+            if (visitor == null) {
+                throw new IllegalArgumentException("visitor must not be null"); //$NON-NLS-1$
+            }
+            return visitor.visitFieldAccessExpression(this, context);
+        }
+
+        @Override
+        public Expression getQualifier() {
+            Expression result = qualifier;
+            if (result == null) {
+                result = (Expression) getModel(0);
+                qualifier = result;
+            }
+            return result;
+        }
+
+        @Override
+        public SimpleName getName() {
+            SimpleName result = name;
+            if (result == null) {
+                result = (SimpleName) getModel(1);
+                name = result;
+            }
+            return result;
+        }
+
+        @Override
+        public FieldAccessExpression withQualifier(Expression qualifier) {
+            return (FieldAccessExpression) copyWith(0, qualifier);
+        }
+
+        @Override
+        public FieldAccessExpression withName(SimpleName name) {
+            return (FieldAccessExpression) copyWith(1, name);
+        }
+
+        @Override
+        Object getPropertyAt(int slot) {
+            switch (slot) {
+            case 0:
+                return getQualifier();
+            case 1:
+                return getName();
+            default:
+                throw new AssertionError(slot);
+            }
+        }
+    }
+
+    /**
+     * アーカイブ上の{@link FieldDeclaration}。
+     */
+    static final class FieldDeclarationView extends ModelArchiveView implements FieldDeclaration {
+
+        /**
+         * ドキュメンテーションコメント。
+         */
+        private Javadoc javadoc;
+
+        /**
+         * 修飾子および注釈の一覧。
+         */
+        private List<Attribute> modifiers;
+
+        /**
+         * フィールドの型。
+         */
+        private Type type;
+
+        /**
+         * 宣言するフィールドの一覧。
+         */
+        private List<VariableDeclarator> variableDeclarators;
+
+        FieldDeclarationView(ModelArchive archive, int offset) {
+            super(archive, offset);
+        }
+
+        @Override
+        public ModelKind getModelKind() {
+            return ModelKind.FIELD_DECLARATION;
+        }
+
+        @Override
+        public <R, C, E extends Throwable> R accept(
+                Visitor<R, C, E> visitor, C context) throws E {
+            if (visitor == null) {
+                throw new IllegalArgumentException("visitor must not be null"); //$NON-NLS-1$
+            }
+            return visitor.visitFieldDeclaration(this, context);
+        }
+
+        @Override
+        public Javadoc getJavadoc() {
+            Javadoc result = javadoc;
+            if (result == null) {
+                result = (Javadoc) getModel(0);
+                javadoc = result;
+            }
+            return result;
+        }
+
+        @Override
+        public List<? extends Attribute> getModifiers() {
+            List<Attribute> result = modifiers;
+            if (result == null) {
+                result = getList(1);
+                modifiers = result;
+            }
+            return result;
+        }
+
+        @Override
+        public Type getType() {
+            Type result = type;
+            if (result == null) {
+                result = (Type) getModel(2);
+                type = result;
+            }
+            return result;
+        }
+
+        @Override
+        public List<? extends VariableDeclarator> getVariableDeclarators() {
+            List<VariableDeclarator> result = variableDeclarators;
+            if (result == null) {
+                result = getList(3);
+                variableDeclarators = result;
+            }
+            return result;
+        }
+
+        @Override
+        public FieldDeclaration withJavadoc(Javadoc javadoc) {
+            return (FieldDeclaration) copyWith(0, javadoc);
+        }
+
+        @Override
+        public FieldDeclaration withModifiers(List<? extends Attribute> modifiers) {
+            return (FieldDeclaration) copyWith(1, modifiers);
+        }
+
+        @Override
+        public FieldDeclaration withType(Type type) {
+            return (FieldDeclaration) copyWith(2, type);
+        }
+
+        @Override
+        public FieldDeclaration withVariableDeclarators(List<? extends VariableDeclarator> variableDeclarators) {
+            return (FieldDeclaration) copyWith(3, variableDeclarators);
+        }
+
+        @Override
+        Object getPropertyAt(int slot) {
+            switch (slot) {
+            case 0:
+                return getJavadoc();
+            case 1:
+                return getModifiers();
+            case 2:
+                return getType();
+            case 3:
+                return getVariableDeclarators();
+            default:
+                throw new AssertionError(slot);
+            }
+        }
+    }
+
+    /**
+     * アーカイブ上の{@link ForStatement}。
+     */
+    static final class ForStatementView extends ModelArchiveView implements ForStatement {
+
+        /**
+         * ループ初期化部。
+         */
+        private ForInitializer initialization;
+
+        /**
+         * ループ条件式。
+         */
+        private Expression condition;
+
+        /**
+         * ループ更新部。
+         */
+        private StatementExpressionList update;
+
+        /**
+         * ループ本体。
+         */
+        private Statement body;
+
+        ForStatementView(ModelArchive archive, int offset) {
+            super(archive, offset);
+        }
+
+        @Override
+        public ModelKind getModelKind() {
+            return ModelKind.FOR_STATEMENT;
+        }
+
+        @Override
+        public <R, C, E extends Throwable> R accept(
+                Visitor<R, C, E> visitor, C context) throws E {
+            if (visitor == null) {
+                throw new IllegalArgumentException("visitor must not be null"); //$NON-NLS-1$
+            }
+            return visitor.visitForStatement(this, context);
+        }
+
+        @Override
+        public ForInitializer getInitialization() {
+            ForInitializer result = initialization;
+            if (result == null) {
+                result = (ForInitializer) getModel(0);
+                initialization = result;
+            }
+            return result;
+        }
+
+        @Override
+        public Expression getCondition() {
+            Expression result = condition;
+            if (result == null) {
+                result = (Expression) getModel(1);
+                condition = result;
+            }
+            return result;
+        }
+
+        @Override
+        public StatementExpressionList getUpdate() {
+            StatementExpressionList result = update;
+            if (result == null) {
+                result = (StatementExpressionList) getModel(2);
+                update = result;
+            }
+            return result;
+        }
+
+        @Override
+        public Statement getBody() {
+            Statement result = body;
+            if (result == null) {
+                result = (Statement) getModel(3);
+                body = result;
+            }
+            return result;
+        }
+
+        @Override
+        public ForStatement withInitialization(ForInitializer initialization) {
+            return (ForStatement) copyWith(0, initialization);
+        }
+
+        @Override
+        public ForStatement withCondition(Expression condition) {
+            return (ForStatement) copyWith(1, condition);
+        }
+
+        @Override
+        public ForStatement withUpdate(StatementExpressionList update) {
+            return (ForStatement) copyWith(2, update);
+        }
+
+        @Override
+        public ForStatement withBody(Statement body) {
+            return (ForStatement) copyWith(3, body);
+        }
+
+        @Override
+        Object getPropertyAt(int slot) {
+            switch (slot) {
+            case 0:
+                return getInitialization();
+            case 1:
+                return getCondition();
+            case 2:
+                return getUpdate();
+            case 3:
+                return getBody();
+            default:
+                throw new AssertionError(slot);
+            }
+        }
+    }
+
+    /**
+     * アーカイブ上の{@link FormalParameterDeclaration}。
+     */
+    static final class FormalParameterDeclarationView extends ModelArchiveView implements FormalParameterDeclaration {
+
+        /**
+         * 修飾子および注釈の一覧。
+         */
+        private List<Attribute> modifiers;
+
+        /**
+         * 宣言する変数の型。
+         */
+        private Type type;
+
+        /**
+         * 仮引数の名前。
+         */
+        private SimpleName name;
+
+        FormalParameterDeclarationView(ModelArchive archive, int offset) {
+            super(archive, offset);
+        }
+
+        @Override
+        public ModelKind getModelKind() {
+            return ModelKind.FORMAL_PARAMETER_DECLARATION;
+        }
+
+        @Override
+        public <R, C, E extends Throwable> R accept(
+                Visitor<R, C, E> visitor, C context) throws E {
+            if (visitor == null) {
+                throw new IllegalArgumentException("visitor must not be null"); //$NON-NLS-1$
+            }
+            return visitor.visitFormalParameterDeclaration(this, context);
+        }
+
+        @Override
+        public List<? extends Attribute> getModifiers() {
+            List<Attribute> result = modifiers;
+            if (result == null) {
+                result = getList(0);
+                modifiers = result;
+            }
+            return result;
+        }
+
+        @Override
+        public Type getType() {
+            Type result = type;
+            if (result == null) {
+                result = (Type) getModel(1);
+                type = result;
+            }
+            return result;
+        }
+
+        @Override
+        public boolean isVariableArity() {
+            return getBoolean(2);
+        }
+
+        @Override
+        public SimpleName getName() {
+            SimpleName result = name;
+            if (result == null) {
+                result = (SimpleName) getModel(3);
+                name = result;
+            }
+            return result;
+        }
+
+        @Override
+        public int getExtraDimensions() {
+            return getInt(4);
+        }
+
+        @Override
+        public FormalParameterDeclaration withModifiers(List<? extends Attribute> modifiers) {
+            return (FormalParameterDeclaration) copyWith(0, modifiers);
+        }
+
+        @Override
+        public FormalParameterDeclaration withType(Type type) {
+            return (FormalParameterDeclaration) copyWith(1, type);
+        }
+
+        @Override
+        public FormalParameterDeclaration withVariableArity(boolean variableArity) {
+            return (FormalParameterDeclaration) copyWith(2, variableArity);
+        }
+
+        @Override
+        public FormalParameterDeclaration withName(SimpleName name) {
+            return (FormalParameterDeclaration) copyWith(3, name);
+        }
+
+        @Override
+        public FormalParameterDeclaration withExtraDimensions(int extraDimensions) {
+            return (FormalParameterDeclaration) copyWith(4, extraDimensions);
+        }
+
+        @Override
+        Object getPropertyAt(int slot) {
+            switch (slot) {
+            case 0:
+                return getModifiers();
+            case 1:
+                return getType();
+            case 2:
+                return isVariableArity();
+            case 3:
+                return getName();
+            case 4:
+                return getExtraDimensions();
+            default:
+                throw new AssertionError(slot);
+            }
+        }
+    }
+
+    /**
+     * アーカイブ上の{@link IfStatement}。
+     */
+    static final class IfStatementView extends ModelArchiveView implements IfStatement {
+
+        /**
+         * 条件式。
+         */
+        private Expression condition;
+
+        /**
+         * 条件成立時に実行される文。
+         */
+        private Statement thenStatement;
+
+        /**
+         * 条件不成立時に実行される文。
+         */
+        private Statement elseStatement;
+
+        IfStatementView(ModelArchive archive, int offset) {
+            super(archive, offset);
+        }
+
+        @Override
+        public ModelKind getModelKind() {
+            return ModelKind.IF_STATEMENT;
+        }
+
+        @Override
+        public <R, C, E extends Throwable> R accept(
+                Visitor<R, C, E> visitor, C context) throws E {
+            if (visitor == null) {
+                throw new IllegalArgumentException("visitor must not be null"); //$NON-NLS-1$
+            }
+            return visitor.visitIfStatement(this, context);
+        }
+
+        @Override
+        public Expression getCondition() {
+            Expression result = condition;
+            if (result == null) {
+                result = (Expression) getModel(0);
+                condition = result;
+            }
+            return result;
+        }
+
+        @Override
+        public Statement getThenStatement() {
+            Statement result = thenStatement;
+            if (result == null) {
+                result = (Statement) getModel(1);
+                thenStatement = result;
+            }
+            return result;
+        }
+
+        @Override
+        public Statement getElseStatement() {
+            Statement result = elseStatement;
+            if (result == null) {
+                result = (Statement) getModel(2);
+                elseStatement = result;
+            }
+            return result;
+        }
+
+        @Override
+        public IfStatement withCondition(Expression condition) {
+            return (IfStatement) copyWith(0, condition);
+        }
+
+        @Override
+        public IfStatement withThenStatement(Statement thenStatement) {
+            return (IfStatement) copyWith(1, thenStatement);
+        }
+
+        @Override
+        public IfStatement withElseStatement(Statement elseStatement) {
+            return (IfStatement) copyWith(2, elseStatement);
+        }
+
+        @Override
+        Object getPropertyAt(int slot) {
+            switch (slot) {
+            case 0:
+                return getCondition();
+            case 1:
+                return getThenStatement();
+            case 2:
+                return getElseStatement();
+            default:
+                throw new AssertionError(slot);
+            }
+        }
+    }
+
+    /**
+     * アーカイブ上の{@link ImportDeclaration}。
+     */
+    static final class ImportDeclarationView extends ModelArchiveView implements ImportDeclaration {
+
+        /**
+         * インポートする型およびメンバの名前。
+         */
+        private Name name;
+
+        ImportDeclarationView(ModelArchive archive, int offset) {
+            super(archive, offset);
+        }
+
+        @Override
+        public ModelKind getModelKind() {
+            return ModelKind.IMPORT_DECLARATION;
+        }
+
+        @Override
+        public <R, C, E extends Throwable> R accept(
+                Visitor<R, C, E> visitor, C context) throws E {
+            if (visitor == null) {
+                throw new IllegalArgumentException("visitor must not be null"); //$NON-NLS-1$
+            }
+            return visitor.visitImportDeclaration(this, context);
+        }
+
+        @Override
+        public ImportKind getImportKind() {
+            return (ImportKind) getEnum(0, PropertyKind.IMPORT_DECLARATION_IMPORT_KIND);
+        }
+
+        @Override
+        public Name getName() {
+            Name result = name;
+            if (result == null) {
+                result = (Name) getModel(1);
+                name = result;
+            }
+            return result;
+        }
+
+        @Override
+        public ImportDeclaration withImportKind(ImportKind importKind) {
+            return (ImportDeclaration) copyWith(0, importKind);
+        }
+
+        @Override
+        public ImportDeclaration withName(Name name) {
+            return (ImportDeclaration) copyWith(1, name);
+        }
+
+        @Override
+        Object getPropertyAt(int slot) {
+            switch (slot) {
+            case 0:
+                return getImportKind();
+            case 1:
+                return getName();
+            default:
+                throw new AssertionError(slot);
+            }
+        }
+    }
+
+    /**
+     * アーカイブ上の{@link InfixExpression}。
+     */
+    static final class InfixExpressionView extends ModelArchiveView implements InfixExpression {
+
+        /**
+         * 第一演算項。
+         */
+        private Expression leftOperand;
+
+        /**
+         * 第二演算項。
+         */
+        private Expression rightOperand;
+
+        InfixExpressionView(ModelArchive archive, int offset) {
+            super(archive, offset);
+        }
+
+        @Override
+        public ModelKind getModelKind() {
+            return ModelKind.INFIX_EXPRESSION;
+        }
+
+        @Override
+        public <R, C, E extends Throwable> R accept(
+                Visitor<R, C, E> visitor, C context) throws E {
+            if (visitor == null) {
+                throw new IllegalArgumentException("visitor must not be null"); //$NON-NLS-1$
+            }
+            return visitor.visitInfixExpression(this, context);
+        }
+
+        @Override
+        public Expression getLeftOperand() {
+            Expression result = leftOperand;
+            if (result == null) {
+                result = (Expression) getModel(0);
+                leftOperand = result;
+            }
+            return result;
+        }
+
+        @Override
+        public InfixOperator getOperator() {
+            return (InfixOperator) getEnum(1, PropertyKind.INFIX_EXPRESSION_OPERATOR);
+        }
+
+        @Override
+        public Expression getRightOperand() {
+            Expression result = rightOperand;
+            if (result == null) {
+                result = (Expression) getModel(2);
+                rightOperand = result;
+            }
+            return result;
+        }
+
+        @Override
+        public InfixExpression withLeftOperand(Expression leftOperand) {
+            return (InfixExpression) copyWith(0, leftOperand);
+        }
+
+        @Override
+        public InfixExpression withOperator(InfixOperator operator) {
+            return (InfixExpression) copyWith(1, operator);
+        }
+
+        @Override
+        public InfixExpression withRightOperand(Expression rightOperand) {
+            return (InfixExpression) copyWith(2, rightOperand);
+        }
+
+        @Override
+        Object getPropertyAt(int slot) {
+            switch (slot) {
+            case 0:
+                return getLeftOperand();
+            case 1:
+                return getOperator();
+            case 2:
+                return getRightOperand();
+            default:
+                throw new AssertionError(slot);
+            }
+        }
+    }
+
+    /**
+     * アーカイブ上の{@link InitializerDeclaration}。
+     */
+    static final class InitializerDeclarationView extends ModelArchiveView implements InitializerDeclaration {
+
+        /**
+         * ドキュメンテーションコメント。
+         */
+        private Javadoc javadoc;
+
+        /**
+         * 修飾子および注釈の一覧。
+         */
+        private List<Attribute> modifiers;
+
+        /**
+         * 初期化子の本体。
+         */
+        private Block body;
+
+        InitializerDeclarationView(ModelArchive archive, int offset) {
+            super(archive, offset);
+        }
+
+        @Override
+        public ModelKind getModelKind() {
+            return ModelKind.INITIALIZER_DECLARATION;
+        }
+
+        @Override
+        public <R, C, E extends Throwable> R accept(
+                Visitor<R, C, E> visitor, C context) throws E {
+            if (visitor == null) {
+                throw new IllegalArgumentException("visitor must not be null"); //$NON-NLS-1$
+            }
+            return visitor.visitInitializerDeclaration(this, context);
+        }
+
+        @Override
+        public Javadoc getJavadoc() {
+            Javadoc result = javadoc;
+            if (result == null) {
+                result = (Javadoc) getModel(0);
+                javadoc = result;
+            }
+            return result;
+        }
+
+        @Override
+        public List<? extends Attribute> getModifiers() {
+            List<Attribute> result = modifiers;
+            if (result == null) {
+                result = getList(1);
+                modifiers = result;
+            }
+            return result;
+        }
+
+        @Override
+        public Block getBody() {
+            Block result = body;
+            if (result == null) {
+                result = (Block) getModel(2);
+                body = result;
+            }
+            return result;
+        }
+
+        @Override
+        public InitializerDeclaration withJavadoc(Javadoc javadoc) {
+            return (InitializerDeclaration) copyWith(0, javadoc);
+        }
+
+        @Override
+        public InitializerDeclaration withModifiers(List<? extends Attribute> modifiers) {
+            return (InitializerDeclaration) copyWith(1, modifiers);
+        }
+
+        @Override
+        public InitializerDeclaration withBody(Block body) {
+            return (InitializerDeclaration) copyWith(2, body);
+        }
+
+        @Override
+        Object getPropertyAt(int slot) {
+            switch (slot) {
+            case 0:
+                return getJavadoc();
+            case 1:
+                return getModifiers();
+            case 2:
+                return getBody();
+            default:
+                throw new AssertionError(slot);
+            }
+        }
+    }
+
+    /**
+     * アーカイブ上の{@link InstanceofExpression}。
+     */
+    static final class InstanceofExpressionView extends ModelArchiveView implements InstanceofExpression {
+
+        /**
+         * 被演算項。
+         */
+        private Expression expression;
+
+        /**
+         * 比較対象型。
+         */
+        private Type type;
+
+        InstanceofExpressionView(ModelArchive archive, int offset) {
+            super(archive, offset);
+        }
+
+        @Override
+        public ModelKind getModelKind() {
+            return ModelKind.INSTANCEOF_EXPRESSION;
+        }
+
+        @Override
+        public <R, C, E extends Throwable> R accept(
+                Visitor<R, C, E> visitor, C context) throws E {
+            if (visitor == null) {
+                throw new IllegalArgumentException("visitor must not be null"); //$NON-NLS-1$
+            }
+            return visitor.visitInstanceofExpression(this, context);
+        }
+
+        @Override
+        public Expression getExpression() {
+            Expression result = expression;
+            if (result == null) {
+                result = (Expression) getModel(0);
+                expression = result;
+            }
+            return result;
+        }
+
+        @Override
+        public Type getType() {
+            Type result = type;
+            if (result == null) {
+                result = (Type) getModel(1);
+                type = result;
+            }
+            return result;
+        }
+
+        @Override
+        public InstanceofExpression withExpression(Expression expression) {
+            return (InstanceofExpression) copyWith(0, expression);
+        }
+
+        @Override
+        public InstanceofExpression withType(Type type) {
+            return (InstanceofExpression) copyWith(1, type);
+        }
+
+        @Override
+        Object getPropertyAt(int slot) {
+            switch (slot) {
+            case 0:
+                return getExpression();
+            case 1:
+                return getType();
+            default:
+                throw new AssertionError(slot);
+            }
+        }
+    }
+
+    /**
+     * アーカイブ上の{@link InterfaceDeclaration}。
+     */
+    static final class InterfaceDeclarationView extends ModelArchiveView implements InterfaceDeclaration {
+
+        /**
+         * ドキュメンテーションコメント。
+         */
+        private Javadoc javadoc;
+
+        /**
+         * 修飾子および注釈の一覧。
+         */
+        private List<Attribute> modifiers;
+
+        /**
+         * 型の単純名。
+         */
+        private SimpleName name;
+
+        /**
+         * 仮型引数宣言の一覧。
+         */
+        private List<TypeParameterDeclaration> typeParameters;
+
+        /**
+         * 親インターフェースの一覧。
+         */
+        private List<Type> superInterfaceTypes;
+
+        /**
+         * メンバの一覧。
+         */
+        private List<TypeBodyDeclaration> bodyDeclarations;
+
+        InterfaceDeclarationView(ModelArchive archive, int offset) {
+            super(archive, offset);
+        }
+
+        @Override
+        public ModelKind getModelKind() {
+            return ModelKind.INTERFACE_DECLARATION;
+        }
+
+        @Override
+        public <R, C, E extends Throwable> R accept(
+                Visitor<R, C, E> visitor, C context) throws E {
+            if (visitor == null) {
+                throw new IllegalArgumentException("visitor must not be null"); //$NON-NLS-1$
+            }
+            return visitor.visitInterfaceDeclaration(this, context);
+        }
+
+        @Override
+        public Javadoc getJavadoc() {
+            Javadoc result = javadoc;
+            if (result == null) {
+                result = (Javadoc) getModel(0);
+                javadoc = result;
+            }
+            return result;
+        }
+
+        @Override
+        public List<? extends Attribute> getModifiers() {
+            List<Attribute> result = modifiers;
+            if (result == null) {
+                result = getList(1);
+                modifiers = result;
+            }
+            return result;
+        }
+
+        @Override
+        public SimpleName getName() {
+            SimpleName result = name;
+            if (result == null) {
+                result = (SimpleName) getModel(2);
+                name = result;
+            }
+            return result;
+        }
+
+        @Override
+        public List<? extends TypeParameterDeclaration> getTypeParameters() {
+            List<TypeParameterDeclaration> result = typeParameters;
+            if (result == null) {
+                result = getList(3);
+                typeParameters = result;
+            }
+            return result;
+        }
+
+        @Override
+        public List<? extends Type> getSuperInterfaceTypes() {
+            List<Type> result = superInterfaceTypes;
+            if (result == null) {
+                result = getList(4);
+                superInterfaceTypes = result;
+            }
+            return result;
+        }
+
+        @Override
+        public List<? extends TypeBodyDeclaration> getBodyDeclarations() {
+            List<TypeBodyDeclaration> result = bodyDeclarations;
+            if (result == null) {
+                result = getList(5);
+                bodyDeclarations = result;
+            }
+            return result;
+        }
+
+        @Override
+        public InterfaceDeclaration withJavadoc(Javadoc javadoc) {
+            return (InterfaceDeclaration) copyWith(0, javadoc);
+        }
+
+        @Override
+        public InterfaceDeclaration withModifiers(List<? extends Attribute> modifiers) {
+            return (InterfaceDeclaration) copyWith(1, modifiers);
+        }
+
+        @Override
+        public InterfaceDeclaration withName(SimpleName name) {
+            return (InterfaceDeclaration) copyWith(2, name);
+        }
+
+        @Override
+        public InterfaceDeclaration withTypeParameters(List<? extends TypeParameterDeclaration> typeParameters) {
+            return (InterfaceDeclaration) copyWith(3, typeParameters);
+        }
+
+        @Override
+        public InterfaceDeclaration withSuperInterfaceTypes(List<? extends Type> superInterfaceTypes) {
+            return (InterfaceDeclaration) copyWith(4, superInterfaceTypes);
+        }
+
+        @Override
+        public InterfaceDeclaration withBodyDeclarations(List<? extends TypeBodyDeclaration> bodyDeclarations) {
+            return (InterfaceDeclaration) copyWith(5, bodyDeclarations);
+        }
+
+        @Override
+        Object getPropertyAt(int slot) {
+            switch (slot) {
+            case 0:
+                return getJavadoc();
+            case 1:
+                return getModifiers();
+            case 2:
+                return getName();
+            case 3:
+                return getTypeParameters();
+            case 4:
+                return getSuperInterfaceTypes();
+            case 5:
+                return getBodyDeclarations();
+            default:
+                throw new AssertionError(slot);
+            }
+        }
+    }
+
+    /**
+     * アーカイブ上の{@link Javadoc}。
+     */
+    static final class JavadocView extends ModelArchiveView implements Javadoc {
+
+        /**
+         * ブロックの一覧。
+         */
+        private List<DocBlock> blocks;
+
+        JavadocView(ModelArchive archive, int offset) {
+            super(archive, offset);
+        }
+
+        @Override
+        public ModelKind getModelKind() {
+            return ModelKind.JAVADOC;
+        }
+
+        @Override
+        public <R, C, E extends Throwable> R accept(
+                Visitor<R, C, E> visitor, C context) throws E {
+            if (visitor == null) {
+                throw new IllegalArgumentException("visitor must not be null"); //$NON-NLS-1$
+            }
+            return visitor.visitJavadoc(this, context);
+        }
+
+        @Override
+        public List<? extends DocBlock> getBlocks() {
+            List<DocBlock> result = blocks;
+            if (result == null) {
+                result = getList(0);
+                blocks = result;
+            }
+            return result;
+        }
+
+        @Override
+        public Javadoc withBlocks(List<? extends DocBlock> blocks) {
+            return (Javadoc) copyWith(0, blocks);
+        }
+
+        @Override
+        Object getPropertyAt(int slot) {
+            switch (slot) {
+            case 0:
+                return getBlocks();
+            default:
+                throw new AssertionError(slot);
+            }
+        }
+    }
+
+    /**
+     * アーカイブ上の{@link LabeledStatement}。
+     */
+    static final class LabeledStatementView extends ModelArchiveView implements LabeledStatement {
+
+        /**
+         * ラベルの名前。
+         */
+        private SimpleName label;
+
+        /**
+         * 対象の文。
+         */
+        private Statement body;
+
+        LabeledStatementView(ModelArchive archive, int offset) {
+            super(archive, offset);
+        }
+
+        @Override
+        public ModelKind getModelKind() {
+            return ModelKind.LABELED_STATEMENT;
+        }
+
+        @Override
+        public <R, C, E extends Throwable> R accept(
+                Visitor<R, C, E> visitor, C context) throws E {
+            if (visitor == null) {
+                throw new IllegalArgumentException("visitor must not be null"); //$NON-NLS-1$
+            }
+            return visitor.visitLabeledStatement(this, context);
+        }
+
+        @Override
+        public SimpleName getLabel() {
+            SimpleName result = label;
+            if (result == null) {
+                result = (SimpleName) getModel(0);
+                label = result;
+            }
+            return result;
+        }
+
+        @Override
+        public Statement getBody() {
+            Statement result = body;
+            if (result == null) {
+                result = (Statement) getModel(1);
+                body = result;
+            }
+            return result;
+        }
+
+        @Override
+        public LabeledStatement withLabel(SimpleName label) {
+            return (LabeledStatement) copyWith(0, label);
+        }
+
+        @Override
+        public LabeledStatement withBody(Statement body) {
+            return (LabeledStatement) copyWith(1, body);
+        }
+
+        @Override
+        Object getPropertyAt(int slot) {
+            switch (slot) {
+            case 0:
+                return getLabel();
+            case 1:
+                return getBody();
+            default:
+                throw new AssertionError(slot);
+            }
+        }
+    }
+
+    /**
+     * アーカイブ上の{@link LineComment}。
+     */
+    static final class LineCommentView extends ModelArchiveView implements LineComment {
+
+        /**
+         * コメント文字列。
+         */
+        private String string;
+
+        LineCommentView(ModelArchive archive, int offset) {
+            super(archive, offset);
+        }
+
+        @Override
+        public ModelKind getModelKind() {
+            return ModelKind.LINE_COMMENT;
+        }
+
+        @Override
+        public <R, C, E extends Throwable> R accept(
+                Visitor<R, C, E> visitor, C context) throws E {
+            if (visitor == null) {
+                throw new IllegalArgumentException("visitor must not be null"); //$NON-NLS-1$
+            }
+            return visitor.visitLineComment(this, context);
+        }
+
+        @Override
+        public String getString() {
+            String result = string;
+            if (result == null) {
+                result = getString(0);
+                string = result;
+            }
+            return result;
+        }
+
+        @Override
+        public LineComment withString(String string) {
+            return (LineComment) copyWith(0, string);
+        }
+
+        @Override
+        Object getPropertyAt(int slot) {
+            switch (slot) {
+            case 0:
+                return getString();
+            default:
+                throw new AssertionError(slot);
+            }
+        }
+    }
+
+    /**
+     * アーカイブ上の{@link Literal}。
+     */
+    static final class LiteralView extends ModelArchiveView implements Literal {
+
+        /**
+         * このリテラルを構成する字句。
+         */
+        private String token;
+
+        /**
+         * リテラルの種類。
+         */
+        private LiteralKind literalKind;
+
+        LiteralView(ModelArchive archive, int offset) {
+            super(archive, offset);
+        }
+
+        @Override
+        public ModelKind getModelKind() {
+            return ModelKind.LITERAL;
+        }
+
+        @Override
+        public <R, C, E extends Throwable> R accept(
+                Visitor<R, C, E> visitor, C context) throws E {
+            if (visitor == null) {
+                throw new IllegalArgumentException("visitor must not be null"); //$NON-NLS-1$
+            }
+            return visitor.visitLiteral(this, context);
+        }
+
+        @Override
+        public String getToken() {
+            String result = token;
+            if (result == null) {
+                result = getString(0);
+                token = result;
+            }
+            return result;
+        }
+
+        @Override
+        public LiteralKind getLiteralKind() {
+            LiteralKind result = literalKind;
+            if (result == null) {
+                result = toLiteralKind(getToken());
+                literalKind = result;
+            }
+            return result;
+        }
+
+        @Override
+        public Literal withToken(String token) {
+            return (Literal) copyWith(0, token);
+        }
+
+        @Override
+        Object getPropertyAt(int slot) {
+            switch (slot) {
+            case 0:
+                return getToken();
+            default:
+                throw new AssertionError(slot);
+            }
+        }
+    }
+
+    /**
+     * アーカイブ上の{@link LocalClassDeclaration}。
+     */
+    static final class LocalClassDeclarationView extends ModelArchiveView implements LocalClassDeclaration {
+
+        /**
+         * 宣言するクラス。
+         */
+        private ClassDeclaration declaration;
+
+        LocalClassDeclarationView(ModelArchive archive, int offset) {
+            super(archive, offset);
+        }
+
+        @Override
+        public ModelKind getModelKind() {
+            return ModelKind.LOCAL_CLASS_DECLARATION;
+        }
+
+        @Override
+        public <R, C, E extends Throwable> R accept(
+                Visitor<R, C, E> visitor, C context) throws E {
+            if (visitor == null) {
+                throw new IllegalArgumentException("visitor must not be null"); //$NON-NLS-1$
+            }
+            return visitor.visitLocalClassDeclaration(this, context);
+        }
+
+        @Override
+        public ClassDeclaration getDeclaration() {
+            ClassDeclaration result = declaration;
+            if (result == null) {
+                result = (ClassDeclaration) getModel(0);
+                declaration = result;
+            }
+            return result;
+        }
+
+        @Override
+        public LocalClassDeclaration withDeclaration(ClassDeclaration declaration) {
+            return (LocalClassDeclaration) copyWith(0, declaration);
+        }
+
+        @Override
+        Object getPropertyAt(int slot) {
+            switch (slot) {
+            case 0:
+                return getDeclaration();
+            default:
+                throw new AssertionError(slot);
+            }
+        }
+    }
+
+    /**
+     * アーカイブ上の{@link LocalVariableDeclaration}。
+     */
+    static final class LocalVariableDeclarationView extends ModelArchiveView implements LocalVariableDeclaration {
+
+        /**
+         * 修飾子および注釈の一覧。
+         */
+        private List<Attribute> modifiers;
+
+        /**
+         * 宣言する変数の型。
+         */
+        private Type type;
+
+        /**
+         * 宣言する変数の一覧。
+         */
+        private List<VariableDeclarator> variableDeclarators;
+
+        LocalVariableDeclarationView(ModelArchive archive, int offset) {
+            super(archive, offset);
+        }
+
+        @Override
+        public ModelKind getModelKind() {
+            return ModelKind.LOCAL_VARIABLE_DECLARATION;
+        }
+
+        @Override
+        public <R, C, E extends Throwable> R accept(
+                Visitor<R, C, E> visitor, C context) throws E {
+            if (visitor == null) {
+                throw new IllegalArgumentException("visitor must not be null"); //$NON-NLS-1$
+            }
+            return visitor.visitLocalVariableDeclaration(this, context);
+        }
+
+        @Override
+        public List<? extends Attribute> getModifiers() {
+            List<Attribute> result = modifiers;
+            if (result == null) {
+                result = getList(0);
+                modifiers = result;
+            }
+            return result;
+        }
+
+        @Override
+        public Type getType() {
+            Type result = type;
+            if (result == null) {
+                result = (Type) getModel(1);
+                type = result;
+            }
+            return result;
+        }
+
+        @Override
+        public List<? extends VariableDeclarator> getVariableDeclarators() {
+            List<VariableDeclarator> result = variableDeclarators;
+            if (result == null) {
+                result = getList(2);
+                variableDeclarators = result;
+            }
+            return result;
+        }
+
+        @Override
+        public LocalVariableDeclaration withModifiers(List<? extends Attribute> modifiers) {
+            return (LocalVariableDeclaration) copyWith(0, modifiers);
+        }
+
+        @Override
+        public LocalVariableDeclaration withType(Type type) {
+            return (LocalVariableDeclaration) copyWith(1, type);
+        }
+
+        @Override
+        public LocalVariableDeclaration withVariableDeclarators(List<? extends VariableDeclarator> variableDeclarators) {
+            return (LocalVariableDeclaration) copyWith(2, variableDeclarators);
+        }
+
+        @Override
+        Object getPropertyAt(int slot) {
+            switch (slot) {
+            case 0:
+                return getModifiers();
+            case 1:
+                return getType();
+            case 2:
+                return getVariableDeclarators();
+            default:
+                throw new AssertionError(slot);
+            }
+        }
+    }
+
+    /**
+     * アーカイブ上の{@link MarkerAnnotation}。
+     */
+    static final class MarkerAnnotationView extends ModelArchiveView implements MarkerAnnotation {
+
+        /**
+         * 注釈の型。
+         */
+        private NamedType type;
+
+        MarkerAnnotationView(ModelArchive archive, int offset) {
+            super(archive, offset);
+        }
+
+        @Override
+        public ModelKind getModelKind() {
+            return ModelKind.MARKER_ANNOTATION;
+        }
+
+        @Override
+        public <R, C, E extends Throwable> R accept(
+                Visitor<R, C, E> visitor, C context) throws E {
+            if (visitor == null) {
+                throw new IllegalArgumentException("visitor must not be null"); //$NON-NLS-1$
+            }
+            return visitor.visitMarkerAnnotation(this, context);
+        }
+
+        @Override
+        public NamedType getType() {
+            NamedType result = type;
+            if (result == null) {
+                result = (NamedType) getModel(0);
+                type = result;
+            }
+            return result;
+        }
+
+        @Override
+        public MarkerAnnotation withType(NamedType type) {
+            return (MarkerAnnotation) copyWith(0, type);
+        }
+
+        @Override
+        Object getPropertyAt(int slot) {
+            switch (slot) {
+            case 0:
+                return getType();
+            default:
+                throw new AssertionError(slot);
+            }
+        }
+    }
+
+    /**
+     * アーカイブ上の{@link MethodDeclaration}。
+     */
+    static final class MethodDeclarationView extends ModelArchiveView implements MethodDeclaration {
+
+        /**
+         * ドキュメンテーションコメント。
+         */
+        private Javadoc javadoc;
+
+        /**
+         * 修飾子および注釈の一覧。
+         */
+        private List<Attribute> modifiers;
+
+        /**
+         * 型引数宣言の一覧。
+         */
+        private List<TypeParameterDeclaration> typeParameters;
+
+        /**
+         * 戻り値の型。
+         */
+        private Type returnType;
+
+        /**
+         * メソッドまたはコンストラクタの名前。
+         */
+        private SimpleName name;
+
+        /**
+         * 仮引数宣言の一覧。
+         */
+        private List<FormalParameterDeclaration> formalParameters;
+
+        /**
+         * 例外型宣言の一覧。
+         */
+        private List<Type> exceptionTypes;
+
+        /**
+         * メソッドまたはコンストラクタ本体。
+         */
+        private Block body;
+
+        MethodDeclarationView(ModelArchive archive, int offset) {
+            super(archive, offset);
+        }
+
+        @Override
+        public ModelKind getModelKind() {
+            return ModelKind.METHOD_DECLARATION;
+        }
+
+        @Override
+        public <R, C, E extends Throwable> R accept(
+                Visitor<R, C, E> visitor, C context) throws E {
+            if (visitor == null) {
+                throw new IllegalArgumentException("visitor must not be null"); //$NON-NLS-1$
+            }
+            return visitor.visitMethodDeclaration(this, context);
+        }
+
+        @Override
+        public Javadoc getJavadoc() {
+            Javadoc result = javadoc;
+            if (result == null) {
+                result = (Javadoc) getModel(0);
+                javadoc = result;
+            }
+            return result;
+        }
+
+        @Override
+        public List<? extends Attribute> getModifiers() {
+            List<Attribute> result = modifiers;
+            if (result == null) {
+                result = getList(1);
+                modifiers = result;
+            }
+            return result;
+        }
+
+        @Override
+        public List<? extends TypeParameterDeclaration> getTypeParameters() {
+            List<TypeParameterDeclaration> result = typeParameters;
+            if (result == null) {
+                result = getList(2);
+                typeParameters = result;
+            }
+            return result;
+        }
+
+        @Override
+        public Type getReturnType() {
+            Type result = returnType;
+            if (result == null) {
+                result = (Type) getModel(3);
+                returnType = result;
+            }
+            return result;
+        }
+
+        @Override
+        public SimpleName getName() {
+            SimpleName result = name;
+            if (result == null) {
+                result = (SimpleName) getModel(4);
+                name = result;
+            }
+            return result;
+        }
+
+        @Override
+        public List<? extends FormalParameterDeclaration> getFormalParameters() {
+            List<FormalParameterDeclaration> result = formalParameters;
+            if (result == null) {
+                result = getList(5);
+                formalParameters = result;
+            }
+            return result;
+        }
+
+        @Override
+        public int getExtraDimensions() {
+            return getInt(6);
+        }
+
+        @Override
+        public List<? extends Type> getExceptionTypes() {
+            List<Type> result = exceptionTypes;
+            if (result == null) {
+                result = getList(7);
+                exceptionTypes = result;
+            }
+            return result;
+        }
+
+        @Override
+        public Block getBody() {
+            Block result = body;
+            if (result == null) {
+                result = (Block) getModel(8);
+                body = result;
+            }
+            return result;
+        }
+
+        @Override
+        public MethodDeclaration withJavadoc(Javadoc javadoc) {
+            return (MethodDeclaration) copyWith(0, javadoc);
+        }
+
+        @Override
+        public MethodDeclaration withModifiers(List<? extends Attribute> modifiers) {
+            return (MethodDeclaration) copyWith(1, modifiers);
+        }
+
+        @Override
+        public MethodDeclaration withTypeParameters(List<? extends TypeParameterDeclaration> typeParameters) {
+            return (MethodDeclaration) copyWith(2, typeParameters);
+        }
+
+        @Override
+        public MethodDeclaration withReturnType(Type returnType) {
+            return (MethodDeclaration) copyWith(3, returnType);
+        }
+
+        @Override
+        public MethodDeclaration withName(SimpleName name) {
+            return (MethodDeclaration) copyWith(4, name);
+        }
+
+        @Override
+        public MethodDeclaration withFormalParameters(List<? extends FormalParameterDeclaration> formalParameters) {
+            return (MethodDeclaration) copyWith(5, formalParameters);
+        }
+
+        @Override
+        public MethodDeclaration withExtraDimensions(int extraDimensions) {
+            return (MethodDeclaration) copyWith(6, extraDimensions);
+        }
+
+        @Override
+        public MethodDeclaration withExceptionTypes(List<? extends Type> exceptionTypes) {
+            return (MethodDeclaration) copyWith(7, exceptionTypes);
+        }
+
+        @Override
+        public MethodDeclaration withBody(Block body) {
+            return (MethodDeclaration) copyWith(8, body);
+        }
+
+        @Override
+        Object getPropertyAt(int slot) {
+            switch (slot) {
+            case 0:
+                return getJavadoc();
+            case 1:
+                return getModifiers();
+            case 2:
+                return getTypeParameters();
+            case 3:
+                return getReturnType();
+            case 4:
+                return getName();
+            case 5:
+                return getFormalParameters();
+            case 6:
+                return getExtraDimensions();
+            case 7:
+                return getExceptionTypes();
+            case 8:
+                return getBody();
+            default:
+                throw new AssertionError(slot);
+            }
+        }
+    }
+
+    /**
+     * アーカイブ上の{@link MethodInvocationExpression}。
+     */
+    static final class MethodInvocationExpressionView extends ModelArchiveView implements MethodInvocationExpression {
+
+        /**
+         * 限定式、または型限定子。
+         */
+        private Expression qualifier;
+
+        /**
+         * 型引数の一覧。
+         */
+        private List<Type> typeArguments;
+
+        /**
+         * メソッドの名前。
+         */
+        private SimpleName name;
+
+        /**
+         * 実引数の一覧。
+         */
+        private List<Expression> arguments;
+
+        MethodInvocationExpressionView(ModelArchive archive, int offset) {
+            super(archive, offset);
+        }
+
+        @Override
+        public ModelKind getModelKind() {
+            return ModelKind.METHOD_INVOCATION_EXPRESSION;
+        }
+
+        @Override
+        public <R, C, E extends Throwable> R accept(
+                Visitor<R, C, E> visitor, C context) throws E {
+            if (visitor == null) {
+                throw new IllegalArgumentException("visitor must not be null"); //$NON-NLS-1$
+            }
+            return visitor.visitMethodInvocationExpression(this, context);
+        }
+
+        @Override
+        public Expression getQualifier() {
+            Expression result = qualifier;
+            if (result == null) {
+                result = (Expression) getModel(0);
+                qualifier = result;
+            }
+            return result;
+        }
+
+        @Override
+        public List<? extends Type> getTypeArguments() {
+            List<Type> result = typeArguments;
+            if (result == null) {
+                result = getList(1);
+                typeArguments = result;
+            }
+            return result;
+        }
+
+        @Override
+        public SimpleName getName() {
+            SimpleName result = name;
+            if (result == null) {
+                result = (SimpleName) getModel(2);
+                name = result;
+            }
+            return result;
+        }
+
+        @Override
+        public List<? extends Expression> getArguments() {
+            List<Expression> result = arguments;
+            if (result == null) {
+                result = getList(3);
+                arguments = result;
+            }
+            return result;
+        }
+
+        @Override
+        public MethodInvocationExpression withQualifier(Expression qualifier) {
+            return (MethodInvocationExpression) copyWith(0, qualifier);
+        }
+
+        @Override
+        public MethodInvocationExpression withTypeArguments(List<? extends Type> typeArguments) {
+            return (MethodInvocationExpression) copyWith(1, typeArguments);
+        }
+
+        @Override
+        public MethodInvocationExpression withName(SimpleName name) {
+            return (MethodInvocationExpression) copyWith(2, name);
+        }
+
+        @Override
+        public MethodInvocationExpression withArguments(List<? extends Expression> arguments) {
+            return (MethodInvocationExpression) copyWith(3, arguments);
+        }
+
+        @Override
+        Object getPropertyAt(int slot) {
+            switch (slot) {
+            case 0:
+                return getQualifier();
+            case 1:
+                return getTypeArguments();
+            case 2:
+                return getName();
+            case 3:
+                return getArguments();
+            default:
+                throw new AssertionError(slot);
+            }
+        }
+    }
+
+    /**
+     * アーカイブ上の{@link Modifier}。
+     */
+    static final class ModifierView extends ModelArchiveView implements Modifier {
+
+        ModifierView(ModelArchive archive, int offset) {
+            super(archive, offset);
+        }
+
+        @Override
+        public ModelKind getModelKind() {
+            return ModelKind.MODIFIER;
+        }
+
+        @Override
+        public <R, C, E extends Throwable> R accept(
+                Visitor<R, C, E> visitor, C context) throws E {
+            if (visitor == null) {
+                throw new IllegalArgumentException("visitor must not be null"); //$NON-NLS-1$
+            }
+            return visitor.visitModifier(this, context);
+        }
+
+        @Override
+        public ModifierKind getModifierKind() {
+            return (ModifierKind) getEnum(0, PropertyKind.MODIFIER_MODIFIER_KIND);
+        }
+
+        @Override
+        public Modifier withModifierKind(ModifierKind modifierKind) {
+            return (Modifier) copyWith(0, modifierKind);
+        }
+
+        @Override
+        Object getPropertyAt(int slot) {
+            switch (slot) {
+            case 0:
+                return getModifierKind();
+            default:
+                throw new AssertionError(slot);
+            }
+        }
+    }
+
+    /**
+     * アーカイブ上の{@link NamedType}。
+     */
+    static final class NamedTypeView extends ModelArchiveView implements NamedType {
+
+        /**
+         * 型の名前。
+         */
+        private Name name;
+
+        NamedTypeView(ModelArchive archive, int offset) {
+            super(archive, offset);
+        }
+
+        @Override
+        public ModelKind getModelKind() {
+            return ModelKind.NAMED_TYPE;
+        }
+
+        @Override
+        public <R, C, E extends Throwable> R accept(
+                Visitor<R, C, E> visitor, C context) throws E {
+            if (visitor == null) {
+                throw new IllegalArgumentException("visitor must not be null"); //$NON-NLS-1$
+            }
+            return visitor.visitNamedType(this, context);
+        }
+
+        @Override
+        public Name getName() {
+            Name result = name;
+            if (result == null) {
+                result = (Name) getModel(0);
+                name = result;
+            }
+            return result;
+        }
+
+        @Override
+        public NamedType withName(Name name) {
+            return (NamedType) copyWith(0, name);
+        }
+
+        @Override
+        Object getPropertyAt(int slot) {
+            switch (slot) {
+            case 0:
+                return getName();
+            default:
+                throw new AssertionError(slot);
+            }
+        }
+    }
+
+    /**
+     * アーカイブ上の{@link NormalAnnotation}。
+     */
+    static final class NormalAnnotationView extends ModelArchiveView implements NormalAnnotation {
+
+        /**
+         * 注釈の型。
+         */
+        private NamedType type;
+
+        /**
+         * 注釈要素の一覧。
+         */
+        private List<AnnotationElement> elements;
+
+        NormalAnnotationView(ModelArchive archive, int offset) {
+            super(archive, offset);
+        }
+
+        @Override
+        public ModelKind getModelKind() {
+            return ModelKind.NORMAL_ANNOTATION;
+        }
+
+        @Override
+        public <R, C, E extends Throwable> R accept(
+                Visitor<R, C, E> visitor, C context) throws E {
+            if (visitor == null) {
+                throw new IllegalArgumentException("visitor must not be null"); //$NON-NLS-1$
+            }
+            return visitor.visitNormalAnnotation(this, context);
+        }
+
+        @Override
+        public NamedType getType() {
+            NamedType result = type;
+            if (result == null) {
+                result = (NamedType) getModel(0);
+                type = result;
+            }
+            return result;
+        }
+
+        @Override
+        public List<? extends AnnotationElement> getElements() {
+            List<AnnotationElement> result = elements;
+            if (result == null) {
+                result = getList(1);
+                elements = result;
+            }
+            return result;
+        }
+
+        @Override
+        public NormalAnnotation withType(NamedType type) {
+            return (NormalAnnotation) copyWith(0, type);
+        }
+
+        @Override
+        public NormalAnnotation withElements(List<? extends AnnotationElement> elements) {
+            return (NormalAnnotation) copyWith(1, elements);
+        }
+
+        @Override
+        Object getPropertyAt(int slot) {
+            switch (slot) {
+            case 0:
+                return getType();
+            case 1:
+                return getElements();
+            default:
+                throw new AssertionError(slot);
+            }
+        }
+    }
+
+    /**
+     * アーカイブ上の{@link PackageDeclaration}。
+     */
+    static final class PackageDeclarationView extends ModelArchiveView implements PackageDeclaration {
+
+        /**
+         * ドキュメンテーションコメント。
+         */
+        private Javadoc javadoc;
+
+        /**
+         * 注釈の一覧。
+         */
+        private List<Annotation> annotations;
+
+        /**
+         * 宣言するパッケージの名称。
+         */
+        private Name name;
+
+        PackageDeclarationView(ModelArchive archive, int offset) {
+            super(archive, offset);
+        }
+
+        @Override
+        public ModelKind getModelKind() {
+            return ModelKind.PACKAGE_DECLARATION;
+        }
+
+        @Override
+        public <R, C, E extends Throwable> R accept(
+                Visitor<R, C, E> visitor, C context) throws E {
+            if (visitor == null) {
+                throw new IllegalArgumentException("visitor must not be null"); //$NON-NLS-1$
+            }
+            return visitor.visitPackageDeclaration(this, context);
+        }
+
+        @Override
+        public Javadoc getJavadoc() {
+            Javadoc result = javadoc;
+            if (result == null) {
+                result = (Javadoc) getModel(0);
+                javadoc = result;
+            }
+            return result;
+        }
+
+        @Override
+        public List<? extends Annotation> getAnnotations() {
+            List<Annotation> result = annotations;
+            if (result == null) {
+                result = getList(1);
+                annotations = result;
+            }
+            return result;
+        }
+
+        @Override
+        public Name getName() {
+            Name result = name;
+            if (result == null) {
+                result = (Name) getModel(2);
+                name = result;
+            }
+            return result;
+        }
+
+        @Override
+        public PackageDeclaration withJavadoc(Javadoc javadoc) {
+            return (PackageDeclaration) copyWith(0, javadoc);
+        }
+
+        @Override
+        public PackageDeclaration withAnnotations(List<? extends Annotation> annotations) {
+            return (PackageDeclaration) copyWith(1, annotations);
+        }
+
+        @Override
+        public PackageDeclaration withName(Name name) {
+            return (PackageDeclaration) copyWith(2, name);
+        }
+
+        @Override
+        Object getPropertyAt(int slot) {
+            switch (slot) {
+            case 0:
+                return getJavadoc();
+            case 1:
+                return getAnnotations();
+            case 2:
+                return getName();
+            default:
+                throw new AssertionError(slot);
+            }
+        }
+    }
+
+    /**
+     * アーカイブ上の{@link ParameterizedType}。
+     */
+    static final class ParameterizedTypeView extends ModelArchiveView implements ParameterizedType {
+
+        /**
+         * パラメータ化されていない型。
+         */
+        private Type type;
+
+        /**
+         * 型引数の一覧。
+         */
+        private List<Type> typeArguments;
+
+        ParameterizedTypeView(ModelArchive archive, int offset) {
+            super(archive, offset);
+        }
+
+        @Override
+        public ModelKind getModelKind() {
+            return ModelKind.PARAMETERIZED_TYPE;
+        }
+
+        @Override
+        public <R, C, E extends Throwable> R accept(
+                Visitor<R, C, E> visitor, C context) throws E {
+            if (visitor == null) {
+                throw new IllegalArgumentException("visitor must not be null"); //$NON-NLS-1$
+            }
+            return visitor.visitParameterizedType(this, context);
+        }
+
+        @Override
+        public Type getType() {
+            Type result = type;
+            if (result == null) {
+                result = (Type) getModel(0);
+                type = result;
+            }
+            return result;
+        }
+
+        @Override
+        public List<? extends Type> getTypeArguments() {
+            List<Type> result = typeArguments;
+            if (result == null) {
+                result = getList(1);
+                typeArguments = result;
+            }
+            return result;
+        }
+
+        @Override
+        public ParameterizedType withType(Type type) {
+            return (ParameterizedType) copyWith(0, type);
+        }
+
+        @Override
+        public ParameterizedType withTypeArguments(List<? extends Type> typeArguments) {
+            return (ParameterizedType) copyWith(1, typeArguments);
+        }
+
+        @Override
+        Object getPropertyAt(int slot) {
+            switch (slot) {
+            case 0:
+                return getType();
+            case 1:
+                return getTypeArguments();
+            default:
+                throw new AssertionError(slot);
+            }
+        }
+    }
+
+    /**
+     * アーカイブ上の{@link ParenthesizedExpression}。
+     */
+    static final class ParenthesizedExpressionView extends ModelArchiveView implements ParenthesizedExpression {
+
+        /**
+         * 内包する式。
+         */
+        private Expression expression;
+
+        ParenthesizedExpressionView(ModelArchive archive, int offset) {
+            super(archive, offset);
+        }
+
+        @Override
+        public ModelKind getModelKind() {
+            return ModelKind.PARENTHESIZED_EXPRESSION;
+        }
+
+        @Override
+        public <R, C, E extends Throwable> R accept(
+                Visitor<R, C, E> visitor, C context) throws E {
+            if (visitor == null) {
+                throw new IllegalArgumentException("visitor must not be null"); //$NON-NLS-1$
+            }
+            return visitor.visitParenthesizedExpression(this, context);
+        }
+
+        @Override
+        public Expression getExpression() {
+            Expression result = expression;
+            if (result == null) {
+                result = (Expression) getModel(0);
+                expression = result;
+            }
+            return result;
+        }
+
+        @Override
+        public ParenthesizedExpression withExpression(Expression expression) {
+            return (ParenthesizedExpression) copyWith(0, expression);
+        }
+
+        @Override
+        Object getPropertyAt(int slot) {
+            switch (slot) {
+            case 0:
+                return getExpression();
+            default:
+                throw new AssertionError(slot);
+            }
+        }
+    }
+
+    /**
+     * アーカイブ上の{@link PostfixExpression}。
+     */
+    static final class PostfixExpressionView extends ModelArchiveView implements PostfixExpression {
+
+        /**
+         * 後置演算項。
+         */
+        private Expression operand;
+
+        PostfixExpressionView(ModelArchive archive, int offset) {
+            super(archive, offset);
+        }
+
+        @Override
+        public ModelKind getModelKind() {
+            return ModelKind.POSTFIX_EXPRESSION;
+        }
+
+        @Override
+        public <R, C, E extends Throwable> R accept(
+                Visitor<R, C, E> visitor, C context) throws E {
+            if (visitor == null) {
+                throw new IllegalArgumentException("visitor must not be null"); //$NON-NLS-1$
+            }
+            return visitor.visitPostfixExpression(this, context);
+        }
+
+        @Override
+        public Expression getOperand() {
+            Expression result = operand;
+            if (result == null) {
+                result = (Expression) getModel(0);
+                operand = result;
+            }
+            return result;
+        }
+
+        @Override
+        public PostfixOperator getOperator() {
+            return (PostfixOperator) getEnum(1, PropertyKind.POSTFIX_EXPRESSION_OPERATOR);
+        }
+
+        @Override
+        public PostfixExpression withOperand(Expression operand) {
+            return (PostfixExpression) copyWith(0, operand);
+        }
+
+        @Override
+        public PostfixExpression withOperator(PostfixOperator operator) {
+            return (PostfixExpression) copyWith(1, operator);
+        }
+
+        @Override
+        Object getPropertyAt(int slot) {
+            switch (slot) {
+            case 0:
+                return getOperand();
+            case 1:
+                return getOperator();
+            default:
+                throw new AssertionError(slot);
+            }
+        }
+    }
+
+    /**
+     * アーカイブ上の{@link QualifiedName}。
+     */
+    static final class QualifiedNameView extends ModelArchiveView implements QualifiedName {
+
+        /**
+         * 限定子。
+         */
+        private Name qualifier;
+
+        /**
+         * この限定名の末尾にある単純名。
+         */
+        private SimpleName simpleName;
+
+        QualifiedNameView(ModelArchive archive, int offset) {
+            super(archive, offset);
+        }
+
+        @Override
+        public ModelKind getModelKind() {
+            return ModelKind.QUALIFIED_NAME;
+        }
+
+        @Override
+        public <R, C, E extends Throwable> R accept(
+                Visitor<R, C, E> visitor, C context) throws E {
+            if (visitor == null) {
+                throw new IllegalArgumentException("visitor must not be null"); //$NON-NLS-1$
+            }
+            return visitor.visitQualifiedName(this, context);
+        }
+
+        @Override
+        public Name getQualifier() {
+            Name result = qualifier;
+            if (result == null) {
+                result = (Name) getModel(0);
+                qualifier = result;
+            }
+            return result;
+        }
+
+        @Override
+        public SimpleName getSimpleName() {
+            SimpleName result = simpleName;
+            if (result == null) {
+                result = (SimpleName) getModel(1);
+                simpleName = result;
+            }
+            return result;
+        }
+
+        @Override
+        public SimpleName getLastSegment() {
+            return getSimpleName();
+        }
+
+        @Override
+        public List<SimpleName> toNameList() {
+            return ModelArchiveView.toNameList(this);
+        }
+
+        @Override
+        public String toNameString() {
+            return ModelArchiveView.toNameString(this);
+        }
+
+        @Override
+        public QualifiedName withQualifier(Name qualifier) {
+            return (QualifiedName) copyWith(0, qualifier);
+        }
+
+        @Override
+        public QualifiedName withSimpleName(SimpleName simpleName) {
+            return (QualifiedName) copyWith(1, simpleName);
+        }
+
+        @Override
+        Object getPropertyAt(int slot) {
+            switch (slot) {
+            case 0:
+                return getQualifier();
+            case 1:
+                return getSimpleName();
+            default:
+                throw new AssertionError(slot);
+            }
+        }
+    }
+
+    /**
+     * アーカイブ上の{@link QualifiedType}。
+     */
+    static final class QualifiedTypeView extends ModelArchiveView implements QualifiedType {
+
+        /**
+         * 型限定子。
+         */
+        private Type qualifier;
+
+        /**
+         * 型の単純名。
+         */
+        private SimpleName simpleName;
+
+        QualifiedTypeView(ModelArchive archive, int offset) {
+            super(archive, offset);
+        }
+
+        @Override
+        public ModelKind getModelKind() {
+            return ModelKind.QUALIFIED_TYPE;
+        }
+
+        @Override
+        public <R, C, E extends Throwable> R accept(
+                Visitor<R, C, E> visitor, C context) throws E {
+            if (visitor == null) {
+                throw new IllegalArgumentException("visitor must not be null"); //$NON-NLS-1$
+            }
+            return visitor.visitQualifiedType(this, context);
+        }
+
+        @Override
+        public Type getQualifier() {
+            Type result = qualifier;
+            if (result == null) {
+                result = (Type) getModel(0);
+                qualifier = result;
+            }
+            return result;
+        }
+
+        @Override
+        public SimpleName getSimpleName() {
+            SimpleName result = simpleName;
+            if (result == null) {
+                result = (SimpleName) getModel(1);
+                simpleName = result;
+            }
+            return result;
+        }
+
+        @Override
+        public QualifiedType withQualifier(Type qualifier) {
+            return (QualifiedType) copyWith(0, qualifier);
+        }
+
+        @Override
+        public QualifiedType withSimpleName(SimpleName simpleName) {
+            return (QualifiedType) copyWith(1, simpleName);
+        }
+
+        @Override
+        Object getPropertyAt(int slot) {
+            switch (slot) {
+            case 0:
+                return getQualifier();
+            case 1:
+                return getSimpleName();
+            default:
+                throw new AssertionError(slot);
+            }
+        }
+    }
+
+    /**
+     * アーカイブ上の{@link ReturnStatement}。
+     */
+    static final class ReturnStatementView extends ModelArchiveView implements ReturnStatement {
+
+        /**
+         * 返戻値。
+         */
+        private Expression expression;
+
+        ReturnStatementView(ModelArchive archive, int offset) {
+            super(archive, offset);
+        }
+
+        @Override
+        public ModelKind getModelKind() {
+            return ModelKind.RETURN_STATEMENT;
+        }
+
+        @Override
+        public <R, C, E extends Throwable> R accept(
+                Visitor<R, C, E> visitor, C context) throws E {
+            if (visitor == null) {
+                throw new IllegalArgumentException("visitor must not be null"); //$NON-NLS-1$
+            }
+            return visitor.visitReturnStatement(this, context);
+        }
+
+        @Override
+        public Expression getExpression() {
+            Expression result = expression;
+            if (result == null) {
+                result = (Expression) getModel(0);
+                expression = result;
+            }
+            return result;
+        }
+
+        @Override
+        public ReturnStatement withExpression(Expression expression) {
+            return (ReturnStatement) copyWith(0, expression);
+        }
+
+        @Override
+        Object getPropertyAt(int slot) {
+            switch (slot) {
+            case 0:
+                return getExpression();
+            default:
+                throw new AssertionError(slot);
+            }
+        }
+    }
+
+    /**
+     * アーカイブ上の{@link SimpleName}。
+     */
+    static final class SimpleNameView extends ModelArchiveView implements SimpleName {
+
+        /**
+         * この単純名を表現する文字列。
+         */
+        private String token;
+
+        SimpleNameView(ModelArchive archive, int offset) {
+            super(archive, offset);
+        }
+
+        @Override
+        public ModelKind getModelKind() {
+            return ModelKind.SIMPLE_NAME;
+        }
+
+        @Override
+        public <R, C, E extends Throwable> R accept(
+                Visitor<R, C, E> visitor, C context) throws E {
+            if (visitor == null) {
+                throw new IllegalArgumentException("visitor must not be null"); //$NON-NLS-1$
+            }
+            return visitor.visitSimpleName(this, context);
+        }
+
+        @Override
+        public String getToken() {
+            String result = token;
+            if (result == null) {
+                result = getString(0);
+                token = result;
+            }
+            return result;
+        }
+
+        @Override
+        public SimpleName getLastSegment() {
+            return this;
+        }
+
+        @Override
+        public List<SimpleName> toNameList() {
+            return Collections.<SimpleName>singletonList(this);
+        }
+
+        @Override
+        public String toNameString() {
+            return getToken();
+        }
+
+        @Override
+        public SimpleName withToken(String string) {
+            return (SimpleName) copyWith(0, string);
+        }
+
+        @Override
+        Object getPropertyAt(int slot) {
+            switch (slot) {
+            case 0:
+                return getToken();
+            default:
+                throw new AssertionError(slot);
+            }
+        }
+    }
+
+    /**
+     * アーカイブ上の{@link SingleElementAnnotation}。
+     */
+    static final class SingleElementAnnotationView extends ModelArchiveView implements SingleElementAnnotation {
+
+        /**
+         * 注釈の型。
+         */
+        private NamedType type;
+
+        /**
+         * {@code value}要素値の式。
+         */
+        private Expression expression;
+
+        SingleElementAnnotationView(ModelArchive archive, int offset) {
+            super(archive, offset);
+        }
+
+        @Override
+        public ModelKind getModelKind() {
+            return ModelKind.SINGLE_ELEMENT_ANNOTATION;
+        }
+
+        @Override
+        public <R, C, E extends Throwable> R accept(
+                Visitor<R, C, E> visitor, C context) throws E {
+            if (visitor == null) {
+                throw new IllegalArgumentException("visitor must not be null"); //$NON-NLS-1$
+            }
+            return visitor.visitSingleElementAnnotation(this, context);
+        }
+
+        @Override
+        public NamedType getType() {
+            NamedType result = type;
+            if (result == null) {
+                result = (NamedType) getModel(0);
+                type = result;
+            }
+            return result;
+        }
+
+        @Override
+        public Expression getExpression() {
+            Expression result = expression;
+            if (result == null) {
+                result = (Expression) getModel(1);
+                expression = result;
+            }
+            return result;
+        }
+
+        @Override
+        public SingleElementAnnotation withType(NamedType type) {
+            return (SingleElementAnnotation) copyWith(0, type);
+        }
+
+        @Override
+        public SingleElementAnnotation withExpression(Expression expression) {
+            return (SingleElementAnnotation) copyWith(1, expression);
+        }
+
+        @Override
+        Object getPropertyAt(int slot) {
+            switch (slot) {
+            case 0:
+                return getType();
+            case 1:
+                return getExpression();
+            default:
+                throw new AssertionError(slot);
+            }
+        }
+    }
+
+    /**
+     * アーカイブ上の{@link StatementExpressionList}。
+     */
+    static final class StatementExpressionListView extends ModelArchiveView implements StatementExpressionList {
+
+        /**
+         * 式の一覧。
+         */
+        private List<Expression> expressions;
+
+        StatementExpressionListView(ModelArchive archive, int offset) {
+            super(archive, offset);
+        }
+
+        @Override
+        public ModelKind getModelKind() {
+            return ModelKind.STATEMENT_EXPRESSION_LIST;
+        }
+
+        @Override
+        public <R, C, E extends Throwable> R accept(
+                Visitor<R, C, E> visitor, C context) throws E {
+            if (visitor == null) {
+                throw new IllegalArgumentException("visitor must not be null"); //$NON-NLS-1$
+            }
+            return visitor.visitStatementExpressionList(this, context);
+        }
+
+        @Override
+        public List<? extends Expression> getExpressions() {
+            List<Expression> result = expressions;
+            if (result == null) {
+                result = getList(0);
+                expressions = result;
+            }
+            return result;
+        }
+
+        @Override
+        public StatementExpressionList withExpressions(List<? extends Expression> expressions) {
+            return (StatementExpressionList) copyWith(0, expressions);
+        }
+
+        @Override
+        Object getPropertyAt(int slot) {
+            switch (slot) {
+            case 0:
+                return getExpressions();
+            default:
+                throw new AssertionError(slot);
+            }
+        }
+    }
+
+    /**
+     * アーカイブ上の{@link Super}。
+     */
+    static final class SuperView extends ModelArchiveView implements Super {
+
+        /**
+         * 型限定子。
+         */
+        private NamedType qualifier;
+
+        SuperView(ModelArchive archive, int offset) {
+            super(archive, offset);
+        }
+
+        @Override
+        public ModelKind getModelKind() {
+            return ModelKind.SUPER;
+        }
+
+        @Override
+        public <R, C, E extends Throwable> R accept(
+                Visitor<R, C, E> visitor, C context) throws E {
+            if (visitor == null) {
+                throw new IllegalArgumentException("visitor must not be null"); //$NON-NLS-1$
+            }
+            return visitor.visitSuper(this, context);
+        }
+
+        @Override
+        public NamedType getQualifier() {
+            NamedType result = qualifier;
+            if (result == null) {
+                result = (NamedType) getModel(0);
+                qualifier = result;
+            }
+            return result;
+        }
+
+        @Override
+        public Super withQualifier(NamedType qualifier) {
+            return (Super) copyWith(0, qualifier);
+        }
+
+        @Override
+        Object getPropertyAt(int slot) {
+            switch (slot) {
+            case 0:
+                return getQualifier();
+            default:
+                throw new AssertionError(slot);
+            }
+        }
+    }
+
+    /**
+     * アーカイブ上の{@link SuperConstructorInvocation}。
+     */
+    static final class SuperConstructorInvocationView extends ModelArchiveView implements SuperConstructorInvocation {
+
+        /**
+         * 限定式。
+         */
+        private Expression qualifier;
+
+        /**
+         * 型引数の一覧。
+         */
+        private List<Type> typeArguments;
+
+        /**
+         * 実引数の一覧。
+         */
+        private List<Expression> arguments;
+
+        SuperConstructorInvocationView(ModelArchive archive, int offset) {
+            super(archive, offset);
+        }
+
+        @Override
+        public ModelKind getModelKind() {
+            return ModelKind.SUPER_CONSTRUCTOR_INVOCATION;
+        }
+
+        @Override
+        public <R, C, E extends Throwable> R accept(
+                Visitor<R, C, E> visitor, C context) throws E {
+            if (visitor == null) {
+                throw new IllegalArgumentException("visitor must not be null"); //$NON-NLS-1$
+            }
+            return visitor.visitSuperConstructorInvocation(this, context);
+        }
+
+        @Override
+        public Expression getQualifier() {
+            Expression result = qualifier;
+            if (result == null) {
+                result = (Expression) getModel(0);
+                qualifier = result;
+            }
+            return result;
+        }
+
+        @Override
+        public List<? extends Type> getTypeArguments() {
+            List<Type> result = typeArguments;
+            if (result == null) {
+                result = getList(1);
+                typeArguments = result;
+            }
+            return result;
+        }
+
+        @Override
+        public List<? extends Expression> getArguments() {
+            List<Expression> result = arguments;
+            if (result == null) {
+                result = getList(2);
+                arguments = result;
+            }
+            return result;
+        }
+
+        @Override
+        public SuperConstructorInvocation withQualifier(Expression qualifier) {
+            return (SuperConstructorInvocation) copyWith(0, qualifier);
+        }
+
+        @Override
+        public SuperConstructorInvocation withTypeArguments(List<? extends Type> typeArguments) {
+            return (SuperConstructorInvocation) copyWith(1, typeArguments);
+        }
+
+        @Override
+        public SuperConstructorInvocation withArguments(List<? extends Expression> arguments) {
+            return (SuperConstructorInvocation) copyWith(2, arguments);
+        }
+
+        @Override
+        Object getPropertyAt(int slot) {
+            switch (slot) {
+            case 0:
+                return getQualifier();
+            case 1:
+                return getTypeArguments();
+            case 2:
+                return getArguments();
+            default:
+                throw new AssertionError(slot);
+            }
+        }
+    }
+
+    /**
+     * アーカイブ上の{@link SwitchCaseLabel}。
+     */
+    static final class SwitchCaseLabelView extends ModelArchiveView implements SwitchCaseLabel {
+
+        /**
+         * {@code case}ラベルの値。
+         */
+        private Expression expression;
+
+        SwitchCaseLabelView(ModelArchive archive, int offset) {
+            super(archive, offset);
+        }
+
+        @Override
+        public ModelKind getModelKind() {
+            return ModelKind.SWITCH_CASE_LABEL;
+        }
+
+        @Override
+        public <R, C, E extends Throwable> R accept(
+                Visitor<R, C, E> visitor, C context) throws E {
+            if (visitor == null) {
+                throw new IllegalArgumentException("visitor must not be null"); //$NON-NLS-1$
+            }
+            return visitor.visitSwitchCaseLabel(this, context);
+        }
+
+        @Override
+        public Expression getExpression() {
+            Expression result = expression;
+            if (result == null) {
+                result = (Expression) getModel(0);
+                expression = result;
+            }
+            return result;
+        }
+
+        @Override
+        public SwitchCaseLabel withExpression(Expression expression) {
+            return (SwitchCaseLabel) copyWith(0, expression);
+        }
+
+        @Override
+        Object getPropertyAt(int slot) {
+            switch (slot) {
+            case 0:
+                return getExpression();
+            default:
+                throw new AssertionError(slot);
+            }
+        }
+    }
+
+    /**
+     * アーカイブ上の{@link SwitchDefaultLabel}。
+     */
+    static final class SwitchDefaultLabelView extends ModelArchiveView implements SwitchDefaultLabel {
+
+        SwitchDefaultLabelView(ModelArchive archive, int offset) {
+            super(archive, offset);
+        }
+
+        @Override
+        public ModelKind getModelKind() {
+            return ModelKind.SWITCH_DEFAULT_LABEL;
+        }
+
+        @Override
+        public <R, C, E extends Throwable> R accept(
+                Visitor<R, C, E> visitor, C context) throws E {
+            if (visitor == null) {
+                throw new IllegalArgumentException("visitor must not be null"); //$NON-NLS-1$
+            }
+            return visitor.visitSwitchDefaultLabel(this, context);
+        }
+
+        @Override
+        Object getPropertyAt(int slot) {
+            throw new AssertionError(slot);
+        }
+    }
+
+    /**
+     * アーカイブ上の{@link SwitchStatement}。
+     */
+    static final class SwitchStatementView extends ModelArchiveView implements SwitchStatement {
+
+        /**
+         * セレクタ式。
+         */
+        private Expression expression;
+
+        /**
+         * {@code switch}文の本体。
+         */
+        private List<Statement> statements;
+
+        SwitchStatementView(ModelArchive archive, int offset) {
+            super(archive, offset);
+        }
+
+        @Override
+        public ModelKind getModelKind() {
+            return ModelKind.SWITCH_STATEMENT;
+        }
+
+        @Override
+        public <R, C, E extends Throwable> R accept(
+                Visitor<R, C, E> visitor, C context) throws E {
+            if (visitor == null) {
+                throw new IllegalArgumentException("visitor must not be null"); //$NON-NLS-1$
+            }
+            return visitor.visitSwitchStatement(this, context);
+        }
+
+        @Override
+        public Expression getExpression() {
+            Expression result = expression;
+            if (result == null) {
+                result = (Expression) getModel(0);
+                expression = result;
+            }
+            return result;
+        }
+
+        @Override
+        public List<? extends Statement> getStatements() {
+            List<Statement> result = statements;
+            if (result == null) {
+                result = getList(1);
+                statements = result;
+            }
+            return result;
+        }
+
+        @Override
+        public SwitchStatement withExpression(Expression expression) {
+            return (SwitchStatement) copyWith(0, expression);
+        }
+
+        @Override
+        public SwitchStatement withStatements(List<? extends Statement> statements) {
+            return (SwitchStatement) copyWith(1, statements);
+        }
+
+        @Override
+        Object getPropertyAt(int slot) {
+            switch (slot) {
+            case 0:
+                return getExpression();
+            case 1:
+                return getStatements();
+            default:
+                throw new AssertionError(slot);
+            }
+        }
+    }
+
+    /**
+     * アーカイブ上の{@link SynchronizedStatement}。
+     */
+    static final class SynchronizedStatementView extends ModelArchiveView implements SynchronizedStatement {
+
+        /**
+         * 同期オブジェクト。
+         */
+        private Expression expression;
+
+        /**
+         * 本体ブロック。
+         */
+        private Block body;
+
+        SynchronizedStatementView(ModelArchive archive, int offset) {
+            super(archive, offset);
+        }
+
+        @Override
+        public ModelKind getModelKind() {
+            return ModelKind.SYNCHRONIZED_STATEMENT;
+        }
+
+        @Override
+        public <R, C, E extends Throwable> R accept(
+                Visitor<R, C, E> visitor, C context) throws E {
+            if (visitor == null) {
+                throw new IllegalArgumentException("visitor must not be null"); //$NON-NLS-1$
+            }
+            return visitor.visitSynchronizedStatement(this, context);
+        }
+
+        @Override
+        public Expression getExpression() {
+            Expression result = expression;
+            if (result == null) {
+                result = (Expression) getModel(0);
+                expression = result;
+            }
+            return result;
+        }
+
+        @Override
+        public Block getBody() {
+            Block result = body;
+            if (result == null) {
+                result = (Block) getModel(1);
+                body = result;
+            }
+            return result;
+        }
+
+        @Override
+        public SynchronizedStatement withExpression(Expression expression) {
+            return (SynchronizedStatement) copyWith(0, expression);
+        }
+
+        @Override
+        public SynchronizedStatement withBody(Block body) {
+            return (SynchronizedStatement) copyWith(1, body);
+        }
+
+        @Override
+        Object getPropertyAt(int slot) {
+            switch (slot) {
+            case 0:
+                return getExpression();
+            case 1:
+                return getBody();
+            default:
+                throw new AssertionError(slot);
+            }
+        }
+    }
+
+    /**
+     * アーカイブ上の{@link This}。
+     */
+    static final class ThisView extends ModelArchiveView implements This {
+
+        /**
+         * 型限定子。
+         */
+        private NamedType qualifier;
+
+        ThisView(ModelArchive archive, int offset) {
+            super(archive, offset);
+        }
+
+        @Override
+        public ModelKind getModelKind() {
+            return ModelKind.THIS;
+        }
+
+        @Override
+        public <R, C, E extends Throwable> R accept(
+                Visitor<R, C, E> visitor, C context) throws E {
+            if (visitor == null) {
+                throw new IllegalArgumentException("visitor must not be null"); //$NON-NLS-1$
+            }
+            return visitor.visitThis(this, context);
+        }
+
+        @Override
+        public NamedType getQualifier() {
+            NamedType result = qualifier;
+            if (result == null) {
+                result = (NamedType) getModel(0);
+                qualifier = result;
+            }
+            return result;
+        }
+
+        @Override
+        public This withQualifier(NamedType qualifier) {
+            return (This) copyWith(0, qualifier);
+        }
+
+        @Override
+        Object getPropertyAt(int slot) {
+            switch (slot) {
+            case 0:
+                return getQualifier();
+            default:
+                throw new AssertionError(slot);
+            }
+        }
+    }
+
+    /**
+     * アーカイブ上の{@link ThrowStatement}。
+     */
+    static final class ThrowStatementView extends ModelArchiveView implements ThrowStatement {
+
+        /**
+         * 例外オブジェクト。
+         */
+        private Expression expression;
+
+        ThrowStatementView(ModelArchive archive, int offset) {
+            super(archive, offset);
+        }
+
+        @Override
+        public ModelKind getModelKind() {
+            return ModelKind.THROW_STATEMENT;
+        }
+
+        @Override
+        public <R, C, E extends Throwable> R accept(
+                Visitor<R, C, E> visitor, C context) throws E {
+            if (visitor == null) {
+                throw new IllegalArgumentException("visitor must not be null"); //$NON-NLS-1$
+            }
+            return visitor.visitThrowStatement(this, context);
+        }
+
+        @Override
+        public Expression getExpression() {
+            Expression result = expression;
+            if (result == null) {
+                result = (Expression) getModel(0);
+                expression = result;
+            }
+            return result;
+        }
+
+        @Override
+        public ThrowStatement withExpression(Expression expression) {
+            return (ThrowStatement) copyWith(0, expression);
+        }
+
+        @Override
+        Object getPropertyAt(int slot) {
+            switch (slot) {
+            case 0:
+                return getExpression();
+            default:
+                throw new AssertionError(slot);
+            }
+        }
+    }
+
+    /**
+     * アーカイブ上の{@link TryStatement}。
+     */
+    static final class TryStatementView extends ModelArchiveView implements TryStatement {
+
+        /**
+         * {@code try}節。
+         */
+        private Block tryBlock;
+
+        /**
+         * {@code catch}節の一覧。
+         */
+        private List<CatchClause> catchClauses;
+
+        /**
+         * {@code finally}節。
+         */
+        private Block finallyBlock;
+
+        TryStatementView(ModelArchive archive, int offset) {
+            super(archive, offset);
+        }
+
+        @Override
+        public ModelKind getModelKind() {
+            return ModelKind.TRY_STATEMENT;
+        }
+
+        @Override
+        public <R, C, E extends Throwable> R accept(
+                Visitor<R, C, E> visitor, C context) throws E {
+            if (visitor == null) {
+                throw new IllegalArgumentException("visitor must not be null"); //$NON-NLS-1$
+            }
+            return visitor.visitTryStatement(this, context);
+        }
+
+        @Override
+        public Block getTryBlock() {
+            Block result = tryBlock;
+            if (result == null) {
+                result = (Block) getModel(0);
+                tryBlock = result;
+            }
+            return result;
+        }
+
+        @Override
+        public List<? extends CatchClause> getCatchClauses() {
+            List<CatchClause> result = catchClauses;
+            if (result == null) {
+                result = getList(1);
+                catchClauses = result;
+            }
+            return result;
+        }
+
+        @Override
+        public Block getFinallyBlock() {
+            Block result = finallyBlock;
+            if (result == null) {
+                result = (Block) getModel(2);
+                finallyBlock = result;
+            }
+            return result;
+        }
+
+        @Override
+        public TryStatement withTryBlock(Block tryBlock) {
+            return (TryStatement) copyWith(0, tryBlock);
+        }
+
+        @Override
+        public TryStatement withCatchClauses(List<? extends CatchClause> catchClauses) {
+            return (TryStatement) copyWith(1, catchClauses);
+        }
+
+        @Override
+        public TryStatement withFinallyBlock(Block finallyBlock) {
+            return (TryStatement) copyWith(2, finallyBlock);
+        }
+
+        @Override
+        Object getPropertyAt(int slot) {
+            switch (slot) {
+            case 0:
+                return getTryBlock();
+            case 1:
+                return getCatchClauses();
+            case 2:
+                return getFinallyBlock();
+            default:
+                throw new AssertionError(slot);
+            }
+        }
+    }
+
+    /**
+     * アーカイブ上の{@link TypeParameterDeclaration}。
+     */
+    static final class TypeParameterDeclarationView extends ModelArchiveView implements TypeParameterDeclaration {
+
+        /**
+         * 型引数の名前。
+         */
+        private SimpleName name;
+
+        /**
+         * 境界型の一覧。
+         */
+        private List<Type> typeBounds;
+
+        TypeParameterDeclarationView(ModelArchive archive, int offset) {
+            super(archive, offset);
+        }
+
+        @Override
+        public ModelKind getModelKind() {
+            return ModelKind.TYPE_PARAMETER_DECLARATION;
+        }
+
+        @Override
+        public <R, C, E extends Throwable> R accept(
+                Visitor<R, C, E> visitor, C context) throws E {
+            if (visitor == null) {
+                throw new IllegalArgumentException("visitor must not be null"); //$NON-NLS-1$
+            }
+            return visitor.visitTypeParameterDeclaration(this, context);
+        }
+
+        @Override
+        public SimpleName getName() {
+            SimpleName result = name;
+            if (result == null) {
+                result = (SimpleName) getModel(0);
+                name = result;
+            }
+            return result;
+        }
+
+        @Override
+        public List<? extends Type> getTypeBounds() {
+            List<Type> result = typeBounds;
+            if (result == null) {
+                result = getList(1);
+                typeBounds = result;
+            }
+            return result;
+        }
+
+        @Override
+        public TypeParameterDeclaration withName(SimpleName name) {
+            return (TypeParameterDeclaration) copyWith(0, name);
+        }
+
+        @Override
+        public TypeParameterDeclaration withTypeBounds(List<? extends Type> typeBounds) {
+            return (TypeParameterDeclaration) copyWith(1, typeBounds);
+        }
+
+        @Override
+        Object getPropertyAt(int slot) {
+            switch (slot) {
+            case 0:
+                return getName();
+            case 1:
+                return getTypeBounds();
+            default:
+                throw new AssertionError(slot);
+            }
+        }
+    }
+
+    /**
+     * アーカイブ上の{@link UnaryExpression}。
+     */
+    static final class UnaryExpressionView extends ModelArchiveView implements UnaryExpression {
+
+        /**
+         * 演算項。
+         */
+        private Expression operand;
+
+        UnaryExpressionView(ModelArchive archive, int offset) {
+            super(archive, offset);
+        }
+
+        @Override
+        public ModelKind getModelKind() {
+            return ModelKind.UNARY_EXPRESSION;
+        }
+
+        @Override
+        public <R, C, E extends Throwable> R accept(
+                Visitor<R, C, E> visitor, C context) throws E {
+            if (visitor == null) {
+                throw new IllegalArgumentException("visitor must not be null"); //$NON-NLS-1$
+            }
+            return visitor.visitUnaryExpression(this, context);
+        }
+
+        @Override
+        public UnaryOperator getOperator() {
+            return (UnaryOperator) getEnum(0, PropertyKind.UNARY_EXPRESSION_OPERATOR);
+        }
+
+        @Override
+        public Expression getOperand() {
+            Expression result = operand;
+            if (result == null) {
+                result = (Expression) getModel(1);
+                operand = result;
+            }
+            return result;
+        }
+
+        @Override
+        public UnaryExpression withOperator(UnaryOperator operator) {
+            return (UnaryExpression) copyWith(0, operator);
+        }
+
+        @Override
+        public UnaryExpression withOperand(Expression operand) {
+            return (UnaryExpression) copyWith(1, operand);
+        }
+
+        @Override
+        Object getPropertyAt(int slot) {
+            switch (slot) {
+            case 0:
+                return getOperator();
+            case 1:
+                return getOperand();
+            default:
+                throw new AssertionError(slot);
+            }
+        }
+    }
+
+    /**
+     * アーカイブ上の{@link VariableDeclarator}。
+     */
+    static final class VariableDeclaratorView extends ModelArchiveView implements VariableDeclarator {
+
+        /**
+         * 変数の名前。
+         */
+        private SimpleName name;
+
+        /**
+         * 初期化式。
+         */
+        private Expression initializer;
+
+        VariableDeclaratorView(ModelArchive archive, int offset) {
+            super(archive, offset);
+        }
+
+        @Override
+        public ModelKind getModelKind() {
+            return ModelKind.VARIABLE_DECLARATOR;
+        }
+
+        @Override
+        public <R, C, E extends Throwable> R accept(
+                Visitor<R, C, E> visitor, C context) throws E {
+            if (visitor == null) {
+                throw new IllegalArgumentException("visitor must not be null"); //$NON-NLS-1$
+            }
+            return visitor.visitVariableDeclarator(this, context);
+        }
+
+        @Override
+        public SimpleName getName() {
+            SimpleName result = name;
+            if (result == null) {
+                result = (SimpleName) getModel(0);
+                name = result;
+            }
+            return result;
+        }
+
+        @Override
+        public int getExtraDimensions() {
+            return getInt(1);
+        }
+
+        @Override
+        public Expression getInitializer() {
+            Expression result = initializer;
+            if (result == null) {
+                result = (Expression) getModel(2);
+                initializer = result;
+            }
+            return result;
+        }
+
+        @Override
+        public VariableDeclarator withName(SimpleName name) {
+            return (VariableDeclarator) copyWith(0, name);
+        }
+
+        @Override
+        public VariableDeclarator withExtraDimensions(int extraDimensions) {
+            return (VariableDeclarator) copyWith(1, extraDimensions);
+        }
+
+        @Override
+        public VariableDeclarator withInitializer(Expression initializer) {
+            return (VariableDeclarator) copyWith(2, initializer);
+        }
+
+        @Override
+        Object getPropertyAt(int slot) {
+            switch (slot) {
+            case 0:
+                return getName();
+            case 1:
+                return getExtraDimensions();
+            case 2:
+                return getInitializer();
+            default:
+                throw new AssertionError(slot);
+            }
+        }
+    }
+
+    /**
+     * アーカイブ上の{@link WhileStatement}。
+     */
+    static final class WhileStatementView extends ModelArchiveView implements WhileStatement {
+
+        /**
+         * 条件式。
+         */
+        private Expression condition;
+
+        /**
+         * ループ文。
+         */
+        private Statement body;
+
+        WhileStatementView(ModelArchive archive, int offset) {
+            super(archive, offset);
+        }
+
+        @Override
+        public ModelKind getModelKind() {
+            return ModelKind.WHILE_STATEMENT;
+        }
+
+        @Override
+        public <R, C, E extends Throwable> R accept(
+                Visitor<R, C, E> visitor, C context) throws E {
+            if (visitor == null) {
+                throw new IllegalArgumentException("visitor must not be null"); //$NON-NLS-1$
+            }
+            return visitor.visitWhileStatement(this, context);
+        }
+
+        @Override
+        public Expression getCondition() {
+            Expression result = condition;
+            if (result == null) {
+                result = (Expression) getModel(0);
+                condition = result;
+            }
+            return result;
+        }
+
+        @Override
+        public Statement getBody() {
+            Statement result = body;
+            if (result == null) {
+                result = (Statement) getModel(1);
+                body = result;
+            }
+            return result;
+        }
+
+        @Override
+        public WhileStatement withCondition(Expression condition) {
+            return (WhileStatement) copyWith(0, condition);
+        }
+
+        @Override
+        public WhileStatement withBody(Statement body) {
+            return (WhileStatement) copyWith(1, body);
+        }
+
+        @Override
+        Object getPropertyAt(int slot) {
+            switch (slot) {
+            case 0:
+                return getCondition();
+            case 1:
+                return getBody();
+            default:
+                throw new AssertionError(slot);
+            }
+        }
+    }
+
+    /**
+     * アーカイブ上の{@link Wildcard}。
+     */
+    static final class WildcardView extends ModelArchiveView implements Wildcard {
+
+        /**
+         * 境界型。
+         */
+        private Type typeBound;
+
+        WildcardView(ModelArchive archive, int offset) {
+            super(archive, offset);
+        }
+
+        @Override
+        public ModelKind getModelKind() {
+            return ModelKind.WILDCARD;
+        }
+
+        @Override
+        public <R, C, E extends Throwable> R accept(
+                Visitor<R, C, E> visitor, C context) throws E {
+            if (visitor == null) {
+                throw new IllegalArgumentException("visitor must not be null"); //$NON-NLS-1$
+            }
+            return visitor.visitWildcard(this, context);
+        }
+
+        @Override
+        public WildcardBoundKind getBoundKind() {
+            return (WildcardBoundKind) getEnum(0, PropertyKind.WILDCARD_BOUND_KIND);
+        }
+
+        @Override
+        public Type getTypeBound() {
+            Type result = typeBound;
+            if (result == null) {
+                result = (Type) getModel(1);
+                typeBound = result;
+            }
+            return result;
+        }
+
+        @Override
+        public Wildcard withBoundKind(WildcardBoundKind boundKind) {
+            return (Wildcard) copyWith(0, boundKind);
+        }
+
+        @Override
+        public Wildcard withTypeBound(Type typeBound) {
+            return (Wildcard) copyWith(1, typeBound);
+        }
+
+        @Override
+        Object getPropertyAt(int slot) {
+            switch (slot) {
+            case 0:
+                return getBoundKind();
+            case 1:
+                return getTypeBound();
+            default:
+                throw new AssertionError(slot);
+            }
+        }
+    }
+}
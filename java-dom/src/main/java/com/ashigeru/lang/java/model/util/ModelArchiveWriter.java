@@ -0,0 +1,382 @@
+/*
+ * Copyright 2011 @ashigeru.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package com.ashigeru.lang.java.model.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.ashigeru.lang.java.model.syntax.Model;
+import com.ashigeru.lang.java.model.syntax.ModelKind;
+import com.ashigeru.lang.java.model.syntax.PropertyKind;
+
+/**
+ * {@link ModelArchive}で読み出せる形式でモデルを書き出す。
+ * <p>
+ * {@link ModelWriter}の形式とは異なり、各モデルは固定長のレコードとして書き出され、
+ * 子要素はアーカイブ先頭からのオフセットで参照される。
+ * これにより、アーカイブ上の任意のモデルを先頭から読み進めることなく参照できる。
+ * </p>
+ * <p>
+ * 形式の概要は次の通りである。すべての整数は4バイトのビッグエンディアンで表す。
+ * </p>
+ * <ul>
+ *   <li> 先頭にマジックナンバー、形式のバージョン、モデルとプロパティの種類数、
+ *        およびモデルとプロパティの定義から計算したハッシュ値 </li>
+ *   <li> 各モデルは{@code ModelKind.ordinal()}に続けて、
+ *        {@link ModelKind#getProperties()}の順に各プロパティのスロットを並べる。
+ *        子要素は常に親よりも前に書き出される </li>
+ *   <li> スロットの値は、モデルやリストや文字列であればそのレコードのオフセット({@code null}は{@code 0})、
+ *        列挙定数であれば{@code ordinal() + 1}({@code null}は{@code 0})、整数や真偽値であればその値 </li>
+ *   <li> リストは要素数に続けて各要素のオフセットを並べる </li>
+ *   <li> 文字列はUTF-8のバイト数に続けてその内容を並べ、4バイト境界まで詰める。
+ *        同じ文字列は一度だけ書き出される </li>
+ *   <li> 末尾には書き出したモデルの個数とそれぞれのオフセットを並べ、最後にその表のオフセットを置く </li>
+ * </ul>
+ * <p>
+ * オフセットを32ビットで表すため、一つのアーカイブは2GB未満でなければならない。
+ * </p>
+ * @author ashigeru
+ * @see ModelArchive
+ */
+public class ModelArchiveWriter implements Closeable {
+
+    private static final int INITIAL_DEPTH = 32;
+
+    private final WritableByteChannel channel;
+
+    private final ByteBuffer buffer;
+
+    private final Map<String, Integer> strings = new HashMap<String, Integer>();
+
+    private long position;
+
+    private int emptyList;
+
+    private Model[] models = new Model[INITIAL_DEPTH];
+
+    private int[][] values = new int[INITIAL_DEPTH][];
+
+    private int[] slots = new int[INITIAL_DEPTH];
+
+    private List<?>[] lists = new List<?>[INITIAL_DEPTH];
+
+    private int[] elements = new int[INITIAL_DEPTH];
+
+    private int[][] elementOffsets = new int[INITIAL_DEPTH][];
+
+    private int[] roots = new int[16];
+
+    private int rootCount;
+
+    private boolean started;
+
+    private boolean closed;
+
+    /**
+     * インスタンスを生成する。
+     * @param channel 出力先のチャネル
+     * @throws IllegalArgumentException 引数に{@code null}が指定された場合
+     */
+    public ModelArchiveWriter(WritableByteChannel channel) {
+        this(channel, ModelCodec.DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * インスタンスを生成する。
+     * @param channel 出力先のチャネル
+     * @param bufferSize バッファのバイト数
+     * @throws IllegalArgumentException 引数に{@code null}が指定された場合、
+     *     またはバッファのサイズが小さすぎる場合
+     */
+    public ModelArchiveWriter(WritableByteChannel channel, int bufferSize) {
+        if (channel == null) {
+            throw new IllegalArgumentException("channel must not be null"); //$NON-NLS-1$
+        }
+        if (bufferSize < ModelCodec.ARCHIVE_HEADER_SIZE) {
+            throw new IllegalArgumentException("bufferSize is too small"); //$NON-NLS-1$
+        }
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocate(bufferSize);
+    }
+
+    /**
+     * 指定のモデルをアーカイブに追加する。
+     * <p>
+     * 追加したモデルは、{@link ModelArchive#get(int)}に追加した順序の番号を指定して取り出せる。
+     * </p>
+     * @param model 追加するモデル
+     * @throws IOException 書き出しに失敗した場合
+     * @throws IllegalArgumentException 引数に{@code null}が指定された場合
+     * @throws IllegalStateException すでに{@link #close()}が呼び出されている場合
+     */
+    public void write(Model model) throws IOException {
+        if (model == null) {
+            throw new IllegalArgumentException("model must not be null"); //$NON-NLS-1$
+        }
+        if (closed) {
+            throw new IllegalStateException("already closed"); //$NON-NLS-1$
+        }
+        start();
+        int offset = writeModel(model);
+        if (rootCount == roots.length) {
+            roots = Arrays.copyOf(roots, roots.length * 2);
+        }
+        roots[rootCount++] = offset;
+    }
+
+    private void start() throws IOException {
+        if (started) {
+            return;
+        }
+        started = true;
+        putInt(ModelCodec.ARCHIVE_MAGIC);
+        putInt(ModelCodec.ARCHIVE_VERSION);
+        putInt(ModelKind.values().length);
+        putInt(PropertyKind.values().length);
+        putInt(ModelCodec.SCHEMA_HASH);
+        assert position == ModelCodec.ARCHIVE_HEADER_SIZE;
+    }
+
+    /**
+     * 指定のモデルを起点とする木を、子要素から順に書き出す。
+     * <p>
+     * 書き出し途中のモデルを明示的なスタックに積むため、木の深さにかかわらず再帰呼び出しを行わない。
+     * スタックの各段は、書き出し中のモデルと書き出し済みのスロットの値、次に書き出すプロパティの位置、
+     * および書き出し中のリストと書き出し済みの要素のオフセットを保持する。
+     * </p>
+     * @param root 書き出すモデル
+     * @return 書き出したモデルのオフセット
+     * @throws IOException 書き出しに失敗した場合
+     */
+    private int writeModel(Model root) throws IOException {
+        assert root != null;
+        int depth = 0;
+        push(depth++, root);
+        while (true) {
+            int top = depth - 1;
+            List<?> list = lists[top];
+            if (list != null) {
+                int element = elements[top];
+                if (element < list.size()) {
+                    Model child = (Model) list.get(element);
+                    if (child == null) {
+                        elementOffsets[top][element] = 0;
+                        elements[top] = element + 1;
+                    }
+                    else {
+                        push(depth++, child);
+                    }
+                    continue;
+                }
+                lists[top] = null;
+                values[top][slots[top]++] = writeList(elementOffsets[top], element);
+                elementOffsets[top] = null;
+                continue;
+            }
+            Model model = models[top];
+            ModelKind kind = model.getModelKind();
+            List<PropertyKind> properties = kind.getProperties();
+            int slot = slots[top];
+            if (slot < properties.size()) {
+                PropertyKind property = properties.get(slot);
+                Object value = model.getProperty(property);
+                switch (ModelCodec.getValueKind(property)) {
+                case MODEL:
+                    if (value == null) {
+                        values[top][slot] = 0;
+                        slots[top] = slot + 1;
+                    }
+                    else {
+                        push(depth++, (Model) value);
+                    }
+                    break;
+                case LIST: {
+                    List<?> children = (List<?>) value;
+                    if (children.isEmpty() && emptyList != 0) {
+                        values[top][slot] = emptyList;
+                        slots[top] = slot + 1;
+                    }
+                    else {
+                        lists[top] = children;
+                        elements[top] = 0;
+                        elementOffsets[top] = new int[children.size()];
+                    }
+                    break;
+                }
+                default:
+                    values[top][slot] = writeValue(property, value);
+                    slots[top] = slot + 1;
+                    break;
+                }
+                continue;
+            }
+            int offset = offset();
+            putInt(kind.ordinal());
+            int[] slotValues = values[top];
+            for (int i = 0; i < slotValues.length; i++) {
+                putInt(slotValues[i]);
+            }
+            models[top] = null;
+            values[top] = null;
+            depth--;
+            if (depth == 0) {
+                return offset;
+            }
+            int parent = depth - 1;
+            if (lists[parent] != null) {
+                elementOffsets[parent][elements[parent]++] = offset;
+            }
+            else {
+                values[parent][slots[parent]++] = offset;
+            }
+        }
+    }
+
+    private void push(int index, Model model) {
+        if (index == models.length) {
+            int size = models.length * 2;
+            models = Arrays.copyOf(models, size);
+            values = Arrays.copyOf(values, size);
+            slots = Arrays.copyOf(slots, size);
+            lists = Arrays.copyOf(lists, size);
+            elements = Arrays.copyOf(elements, size);
+            elementOffsets = Arrays.copyOf(elementOffsets, size);
+        }
+        models[index] = model;
+        values[index] = new int[model.getModelKind().getProperties().size()];
+        slots[index] = 0;
+        lists[index] = null;
+        elements[index] = 0;
+        elementOffsets[index] = null;
+    }
+
+    private int writeValue(PropertyKind property, Object value) throws IOException {
+        switch (ModelCodec.getValueKind(property)) {
+        case ENUM:
+            return value == null ? 0 : ((Enum<?>) value).ordinal() + 1;
+        case INT:
+            return (Integer) value;
+        case BOOLEAN:
+            return (Boolean) value ? 1 : 0;
+        case STRING:
+            return writeString((String) value);
+        default:
+            throw new AssertionError(property);
+        }
+    }
+
+    private int writeList(int[] offsets, int size) throws IOException {
+        assert offsets.length == size;
+        int offset = offset();
+        putInt(size);
+        for (int i = 0; i < size; i++) {
+            putInt(offsets[i]);
+        }
+        if (size == 0) {
+            emptyList = offset;
+        }
+        return offset;
+    }
+
+    private int writeString(String value) throws IOException {
+        if (value == null) {
+            return 0;
+        }
+        Integer cached = strings.get(value);
+        if (cached != null) {
+            return cached;
+        }
+        int offset = offset();
+        byte[] bytes = value.getBytes(ModelCodec.ENCODING);
+        putInt(bytes.length);
+        if (bytes.length <= buffer.capacity()) {
+            ensure(bytes.length);
+            buffer.put(bytes);
+        }
+        else {
+            drain();
+            ByteBuffer direct = ByteBuffer.wrap(bytes);
+            while (direct.hasRemaining()) {
+                channel.write(direct);
+            }
+        }
+        position += bytes.length;
+        for (int i = bytes.length; (i & 3) != 0; i++) {
+            ensure(1);
+            buffer.put((byte) 0);
+            position++;
+        }
+        strings.put(value, offset);
+        return offset;
+    }
+
+    private int offset() throws IOException {
+        if (position > Integer.MAX_VALUE - 4) {
+            throw new IOException("Archive is too large"); //$NON-NLS-1$
+        }
+        return (int) position;
+    }
+
+    private void putInt(int value) throws IOException {
+        ensure(4);
+        buffer.putInt(value);
+        position += 4;
+    }
+
+    private void ensure(int size) throws IOException {
+        if (buffer.remaining() < size) {
+            drain();
+        }
+    }
+
+    private void drain() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * 追加したモデルの目録を書き出した後に、出力先のチャネルを閉じる。
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            start();
+            int offset = offset();
+            putInt(rootCount);
+            for (int i = 0; i < rootCount; i++) {
+                putInt(roots[i]);
+            }
+            putInt(offset);
+            drain();
+        }
+        finally {
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2011 @ashigeru.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package com.ashigeru.lang.java.model.util;
+
+import java.nio.charset.Charset;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import com.ashigeru.lang.java.internal.model.util.ModelProperties;
+import com.ashigeru.lang.java.model.syntax.Model;
+import com.ashigeru.lang.java.model.syntax.ModelKind;
+import com.ashigeru.lang.java.model.syntax.PropertyKind;
+
+/**
+ * {@link ModelWriter}, {@link ModelReader}, {@link ModelArchive}が共有するバイナリ形式の定義。
+ * @author ashigeru
+ */
+final class ModelCodec {
+
+    static final int MAGIC = 0x4A444F4D; // JDOM
+
+    static final int VERSION = 2;
+
+    static final int ARCHIVE_MAGIC = 0x4A444F41; // JDOA
+
+    static final int ARCHIVE_VERSION = 2;
+
+    static final int ARCHIVE_HEADER_SIZE = 20;
+
+    static final Charset ENCODING = Charset.forName("UTF-8"); //$NON-NLS-1$
+
+    static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    static final int MAX_VARINT_SIZE = 5;
+
+    static final ModelKind[] MODEL_KINDS = ModelKind.values();
+
+    static final int SCHEMA_HASH;
+
+    private static final ValueKind[] VALUE_KINDS;
+
+    private static final Object[][] ENUM_CONSTANTS;
+    static {
+        PropertyKind[] properties = PropertyKind.values();
+        VALUE_KINDS = new ValueKind[properties.length];
+        ENUM_CONSTANTS = new Object[properties.length][];
+        for (PropertyKind property : properties) {
+            Class<?> type = ModelProperties.getType(property);
+            ValueKind kind;
+            if (type == List.class) {
+                kind = ValueKind.LIST;
+            }
+            else if (Model.class.isAssignableFrom(type)) {
+                kind = ValueKind.MODEL;
+            }
+            else if (type.isEnum()) {
+                kind = ValueKind.ENUM;
+                ENUM_CONSTANTS[property.ordinal()] = type.getEnumConstants();
+            }
+            else if (type == int.class) {
+                kind = ValueKind.INT;
+            }
+            else if (type == boolean.class) {
+                kind = ValueKind.BOOLEAN;
+            }
+            else if (type == String.class) {
+                kind = ValueKind.STRING;
+            }
+            else {
+                throw new AssertionError(property);
+            }
+            VALUE_KINDS[property.ordinal()] = kind;
+        }
+        SCHEMA_HASH = computeSchemaHash();
+    }
+
+    /**
+     * 形式が依存するモデルとプロパティの定義のハッシュ値を計算する。
+     * <p>
+     * モデルの種類、各モデルのプロパティの並び、列挙型のプロパティが取りうる定数の名前を
+     * それぞれ定義順に連結し、そのCRC32を返す。
+     * 種類数が同じでも、名前や順序が異なる定義で書き出された入力を検出するために利用する。
+     * </p>
+     * @return 計算したハッシュ値
+     */
+    private static int computeSchemaHash() {
+        StringBuilder buf = new StringBuilder();
+        for (ModelKind kind : MODEL_KINDS) {
+            buf.append(kind.name());
+            buf.append('(');
+            for (PropertyKind property : kind.getProperties()) {
+                buf.append(property.name());
+                buf.append(',');
+            }
+            buf.append(')');
+        }
+        for (PropertyKind property : PropertyKind.values()) {
+            buf.append(property.name());
+            buf.append('[');
+            Object[] constants = ENUM_CONSTANTS[property.ordinal()];
+            if (constants != null) {
+                for (Object constant : constants) {
+                    buf.append(((Enum<?>) constant).name());
+                    buf.append(',');
+                }
+            }
+            buf.append(']');
+        }
+        CRC32 crc = new CRC32();
+        crc.update(buf.toString().getBytes(ENCODING));
+        return (int) crc.getValue();
+    }
+
+    /**
+     * 指定のプロパティが取る値の種類を返す。
+     * @param property 対象のプロパティ
+     * @return 値の種類
+     */
+    static ValueKind getValueKind(PropertyKind property) {
+        assert property != null;
+        return VALUE_KINDS[property.ordinal()];
+    }
+
+    /**
+     * 列挙型のプロパティが取りうる定数の一覧を序数の順に返す。
+     * @param property 対象のプロパティ
+     * @return 定数の一覧、列挙型のプロパティでない場合は{@code null}
+     */
+    static Object[] getEnumConstants(PropertyKind property) {
+        assert property != null;
+        return ENUM_CONSTANTS[property.ordinal()];
+    }
+
+    private ModelCodec() {
+        throw new AssertionError();
+    }
+
+    /**
+     * プロパティが取る値の種類。
+     * @author ashigeru
+     */
+    enum ValueKind {
+
+        /**
+         * 単一のモデル。
+         */
+        MODEL,
+
+        /**
+         * モデルのリスト。
+         */
+        LIST,
+
+        /**
+         * 列挙定数。
+         */
+        ENUM,
+
+        /**
+         * 整数。
+         */
+        INT,
+
+        /**
+         * 真偽値。
+         */
+        BOOLEAN,
+
+        /**
+         * 文字列。
+         */
+        STRING,
+    }
+}
@@ -0,0 +1,480 @@
+/*
+ * Copyright 2011 @ashigeru.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package com.ashigeru.lang.java.model.util;
+
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.ashigeru.lang.java.internal.model.util.ModelDigester;
+import com.ashigeru.lang.java.model.syntax.Model;
+import com.ashigeru.lang.java.model.syntax.ModelKind;
+import com.ashigeru.lang.java.model.syntax.PropertyKind;
+import com.ashigeru.lang.java.model.util.ModelWalker.Event;
+
+/**
+ * 二つのモデルの木の差分を計算する。
+ * <p>
+ * 差分は木の上から順に計算される。
+ * 構造の等しい部分木は内側の差分を計算しない。
+ * 差分の計算に先立って、二つの木のそれぞれの部分木の構造ハッシュ値を子から順に一度だけ計算しておき、
+ * 部分木の比較にはまずその値を利用する。
+ * {@link Model#freeze() 凍結}された部分木はキャッシュされた構造ハッシュ値をそのまま利用し、内側を走査しない。
+ * そのため、凍結されていない木であっても、部分木の比較のたびにその内側を走査し直すことはない。
+ * 種類の等しいモデルはプロパティごとに比較され、種類の異なるモデルは部分木ごと置き換えられる。
+ * </p>
+ * <p>
+ * モデルのリストを保持するプロパティは、構造の等しい要素の最長共通部分列によって対応付けられる。
+ * 対応付けられなかった要素のうち、同じ区間の同じ位置にある要素の組は変更されたものとみなし、
+ * 種類が等しければその内側の差分を計算し、異なれば要素ごと置き換える。残りの要素は削除または挿入として扱う。
+ * そのため、一部のメソッドだけが変更されたクラス宣言の差分は、変更されたメソッドの内側の編集のみで表される。
+ * </p>
+ * <p>
+ * 比較する二つの木は、差分の計算中に変更してはならない。
+ * </p>
+ * @author ashigeru
+ */
+public final class ModelDiff {
+
+    /**
+     * 最長共通部分列を計算するリストの組の大きさ (要素数の積) の上限。
+     * これを超える場合は先頭と末尾の共通部分のみを対応付ける。
+     */
+    static final int LCS_LIMIT = 1 << 22;
+
+    private final List<Edit> edits = new ArrayList<Edit>();
+
+    private final Map<Model, Integer> digests = new IdentityHashMap<Model, Integer>();
+
+    private ModelDiff() {
+        return;
+    }
+
+    /**
+     * 二つのモデルの木の差分を計算し、変更前の木を変更後の木に変換する編集の一覧を返す。
+     * <p>
+     * 返される一覧は、変更前の木の行きがけ順に整列される。
+     * 二つの木が同一の構造をとる場合は空の一覧を返す。
+     * </p>
+     * @param before 変更前の木
+     * @param after 変更後の木
+     * @return 編集の一覧
+     * @throws IllegalArgumentException 引数に{@code null}が含まれる場合
+     */
+    public static List<Edit> compute(Model before, Model after) {
+        if (before == null) {
+            throw new IllegalArgumentException("before must not be null"); //$NON-NLS-1$
+        }
+        if (after == null) {
+            throw new IllegalArgumentException("after must not be null"); //$NON-NLS-1$
+        }
+        ModelDiff diff = new ModelDiff();
+        diff.digest(before);
+        diff.digest(after);
+        diff.run(before, after);
+        return Collections.unmodifiableList(diff.edits);
+    }
+
+    /**
+     * 指定の木に含まれるそれぞれの部分木の構造ハッシュ値を子から順に計算し、表に記録する。
+     * @param root 対象の木
+     */
+    private void digest(Model root) {
+        ModelWalker walker = new ModelWalker(root);
+        for (Event event = walker.next(); event != null; event = walker.next()) {
+            Model model = walker.getModel();
+            if (event == Event.ENTER) {
+                if (digests.containsKey(model)) {
+                    walker.skipChildren();
+                }
+                else if (model.isFrozen()) {
+                    digests.put(model, model.hashCode());
+                    walker.skipChildren();
+                }
+            }
+            else if (digests.containsKey(model) == false) {
+                digests.put(model, ModelDigester.compute(model, digests));
+            }
+        }
+    }
+
+    private int digestOf(Model model) {
+        Integer cached = digests.get(model);
+        if (cached != null) {
+            return cached;
+        }
+        return model.hashCode();
+    }
+
+    private boolean same(Model a, Model b) {
+        return a == b || (digestOf(a) == digestOf(b) && a.equals(b));
+    }
+
+    private void run(Model before, Model after) {
+        List<Object> stack = new ArrayList<Object>();
+        if (before.getModelKind() != after.getModelKind()) {
+            edits.add(new Edit(EditKind.REPLACE, null, null, null, -1, before, after));
+            return;
+        }
+        stack.add(new Pair(before, after));
+        while (stack.isEmpty() == false) {
+            Object next = stack.remove(stack.size() - 1);
+            if (next instanceof Edit) {
+                edits.add((Edit) next);
+                continue;
+            }
+            Pair pair = (Pair) next;
+            if (same(pair.before, pair.after)) {
+                continue;
+            }
+            List<Object> work = new ArrayList<Object>();
+            compareProperties(pair.before, pair.after, work);
+            for (int i = work.size() - 1; i >= 0; i--) {
+                stack.add(work.get(i));
+            }
+        }
+    }
+
+    private void compareProperties(Model before, Model after, List<Object> work) {
+        assert before.getModelKind() == after.getModelKind();
+        for (PropertyKind property : before.getModelKind().getProperties()) {
+            Object a = before.getProperty(property);
+            Object b = after.getProperty(property);
+            if (a instanceof List<?> && b instanceof List<?>) {
+                compareLists(before, after, property, (List<?>) a, (List<?>) b, work);
+            }
+            else if (a instanceof Model && b instanceof Model) {
+                compareChildren(before, after, property, -1, (Model) a, (Model) b, work);
+            }
+            else if (a == null ? b != null : a.equals(b) == false) {
+                work.add(new Edit(EditKind.REPLACE, before, after, property, -1, a, b));
+            }
+        }
+    }
+
+    private void compareChildren(
+            Model beforeParent,
+            Model afterParent,
+            PropertyKind property,
+            int index,
+            Model a,
+            Model b,
+            List<Object> work) {
+        if (a.getModelKind() == b.getModelKind()) {
+            work.add(new Pair(a, b));
+        }
+        else {
+            work.add(new Edit(EditKind.REPLACE, beforeParent, afterParent, property, index, a, b));
+        }
+    }
+
+    private void compareLists(
+            Model beforeParent,
+            Model afterParent,
+            PropertyKind property,
+            List<?> a,
+            List<?> b,
+            List<Object> work) {
+        int[] matches = align(a, b);
+        int i = 0;
+        int j = 0;
+        while (i < a.size() || j < b.size()) {
+            int nextI = i;
+            while (nextI < a.size() && matches[nextI] < 0) {
+                nextI++;
+            }
+            int nextJ = nextI < a.size() ? matches[nextI] : b.size();
+            for (; i < nextI && j < nextJ; i++, j++) {
+                Model x = (Model) a.get(i);
+                Model y = (Model) b.get(j);
+                compareChildren(beforeParent, afterParent, property, i, x, y, work);
+            }
+            for (; i < nextI; i++) {
+                work.add(new Edit(EditKind.DELETE, beforeParent, afterParent, property, i, a.get(i), null));
+            }
+            for (; j < nextJ; j++) {
+                work.add(new Edit(EditKind.INSERT, beforeParent, afterParent, property, j, null, b.get(j)));
+            }
+            if (nextI < a.size()) {
+                i = nextI + 1;
+                j = nextJ + 1;
+            }
+        }
+    }
+
+    /**
+     * 二つのリストの要素を対応付ける。
+     * <p>
+     * それぞれの要素には構造の等しい要素同士で共通の番号を割り当て、その番号の列を対応付ける。
+     * そのため、要素同士の構造の比較は要素ごとに高々一度ずつしか行わない。
+     * </p>
+     * @param a 変更前のリスト
+     * @param b 変更後のリスト
+     * @return 変更前のリストの各要素に対応する変更後のリストの位置、対応しない場合は{@code -1}
+     */
+    private int[] align(List<?> a, List<?> b) {
+        int n = a.size();
+        int m = b.size();
+        int[] matches = new int[n];
+        Arrays.fill(matches, -1);
+        int[] idsA = new int[n];
+        int[] idsB = new int[m];
+        classify(a, b, idsA, idsB);
+        int prefix = 0;
+        while (prefix < n && prefix < m && idsA[prefix] == idsB[prefix]) {
+            matches[prefix] = prefix;
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < n - prefix && suffix < m - prefix
+                && idsA[n - suffix - 1] == idsB[m - suffix - 1]) {
+            matches[n - suffix - 1] = m - suffix - 1;
+            suffix++;
+        }
+        int rows = n - prefix - suffix;
+        int columns = m - prefix - suffix;
+        if (rows == 0 || columns == 0 || (long) rows * columns > LCS_LIMIT) {
+            return matches;
+        }
+        int[][] table = new int[rows + 1][columns + 1];
+        for (int i = rows - 1; i >= 0; i--) {
+            for (int j = columns - 1; j >= 0; j--) {
+                if (idsA[prefix + i] == idsB[prefix + j]) {
+                    table[i][j] = table[i + 1][j + 1] + 1;
+                }
+                else {
+                    table[i][j] = Math.max(table[i + 1][j], table[i][j + 1]);
+                }
+            }
+        }
+        int i = 0;
+        int j = 0;
+        while (i < rows && j < columns) {
+            if (idsA[prefix + i] == idsB[prefix + j]) {
+                matches[prefix + i] = prefix + j;
+                i++;
+                j++;
+            }
+            else if (table[i + 1][j] >= table[i][j + 1]) {
+                i++;
+            }
+            else {
+                j++;
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * 二つのリストの要素に、構造の等しい要素同士で共通の番号を割り当てる。
+     * @param a 変更前のリスト
+     * @param b 変更後のリスト
+     * @param idsA 変更前のリストの各要素の番号を格納する配列
+     * @param idsB 変更後のリストの各要素の番号を格納する配列
+     */
+    private void classify(List<?> a, List<?> b, int[] idsA, int[] idsB) {
+        Map<Integer, List<Model>> buckets = new HashMap<Integer, List<Model>>();
+        Map<Model, Integer> ids = new IdentityHashMap<Model, Integer>();
+        for (int i = 0, n = a.size(); i < n; i++) {
+            idsA[i] = classify((Model) a.get(i), buckets, ids);
+        }
+        for (int i = 0, n = b.size(); i < n; i++) {
+            idsB[i] = classify((Model) b.get(i), buckets, ids);
+        }
+    }
+
+    private int classify(Model model, Map<Integer, List<Model>> buckets, Map<Model, Integer> ids) {
+        Integer known = ids.get(model);
+        if (known != null) {
+            return known;
+        }
+        Integer digest = digestOf(model);
+        List<Model> bucket = buckets.get(digest);
+        if (bucket == null) {
+            bucket = new ArrayList<Model>(1);
+            buckets.put(digest, bucket);
+        }
+        for (Model representative : bucket) {
+            if (representative.equals(model)) {
+                Integer id = ids.get(representative);
+                ids.put(model, id);
+                return id;
+            }
+        }
+        Integer id = ids.size();
+        bucket.add(model);
+        ids.put(model, id);
+        return id;
+    }
+
+    /**
+     * 編集の種類。
+     * @author ashigeru
+     */
+    public enum EditKind {
+
+        /**
+         * プロパティの値またはモデルを置き換える。
+         */
+        REPLACE,
+
+        /**
+         * リストに要素を挿入する。
+         */
+        INSERT,
+
+        /**
+         * リストから要素を削除する。
+         */
+        DELETE,
+    }
+
+    /**
+     * 差分を構成する個々の編集。
+     * @author ashigeru
+     */
+    public static final class Edit {
+
+        private final EditKind kind;
+
+        private final Model beforeParent;
+
+        private final Model afterParent;
+
+        private final PropertyKind property;
+
+        private final int index;
+
+        private final Object before;
+
+        private final Object after;
+
+        Edit(
+                EditKind kind,
+                Model beforeParent,
+                Model afterParent,
+                PropertyKind property,
+                int index,
+                Object before,
+                Object after) {
+            this.kind = kind;
+            this.beforeParent = beforeParent;
+            this.afterParent = afterParent;
+            this.property = property;
+            this.index = index;
+            this.before = before;
+            this.after = after;
+        }
+
+        /**
+         * この編集の種類を返す。
+         * @return この編集の種類
+         */
+        public EditKind getKind() {
+            return kind;
+        }
+
+        /**
+         * 変更前の木で、編集の対象となるプロパティを有するモデルを返す。
+         * @return 対象のプロパティを有するモデル、木全体を置き換える場合は{@code null}
+         */
+        public Model getBeforeParent() {
+            return beforeParent;
+        }
+
+        /**
+         * 変更後の木で、{@link #getBeforeParent()}に対応するモデルを返す。
+         * @return 対応するモデル、木全体を置き換える場合は{@code null}
+         */
+        public Model getAfterParent() {
+            return afterParent;
+        }
+
+        /**
+         * 編集の対象となるプロパティを返す。
+         * @return 対象のプロパティ、木全体を置き換える場合は{@code null}
+         */
+        public PropertyKind getProperty() {
+            return property;
+        }
+
+        /**
+         * 編集の対象となるリスト上の位置 (0起算) を返す。
+         * <p>
+         * {@link EditKind#INSERT 挿入}の場合は変更後のリスト上の位置を、
+         * それ以外の場合は変更前のリスト上の位置をそれぞれ返す。
+         * </p>
+         * @return リスト上の位置、リストに対する編集でない場合は{@code -1}
+         */
+        public int getIndex() {
+            return index;
+        }
+
+        /**
+         * 変更前の値を返す。
+         * @return 変更前の値、挿入の場合は{@code null}
+         */
+        public Object getBefore() {
+            return before;
+        }
+
+        /**
+         * 変更後の値を返す。
+         * @return 変更後の値、削除の場合は{@code null}
+         */
+        public Object getAfter() {
+            return after;
+        }
+
+        @Override
+        public String toString() {
+            String location;
+            if (property == null) {
+                location = "/"; //$NON-NLS-1$
+            }
+            else if (index < 0) {
+                location = property.toString();
+            }
+            else {
+                location = MessageFormat.format(
+                        "{0}[{1}]", //$NON-NLS-1$
+                        property,
+                        String.valueOf(index));
+            }
+            return MessageFormat.format(
+                    "{0} {1}", //$NON-NLS-1$
+                    kind,
+                    location);
+        }
+    }
+
+    private static final class Pair {
+
+        final Model before;
+
+        final Model after;
+
+        Pair(Model before, Model after) {
+            this.before = before;
+            this.after = after;
+        }
+    }
+}
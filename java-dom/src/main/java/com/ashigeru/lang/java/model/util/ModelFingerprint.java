@@ -0,0 +1,213 @@
+/*
+ * Copyright 2011 @ashigeru.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package com.ashigeru.lang.java.model.util;
+
+import java.io.Serializable;
+
+import com.ashigeru.lang.java.internal.model.util.ModelFingerprinter;
+import com.ashigeru.lang.java.model.syntax.Model;
+import com.ashigeru.lang.java.model.syntax.ModelKind;
+
+/**
+ * モデルの構造から計算される128ビットの指紋。
+ * <p>
+ * 指紋は{@link Model#equals(Object) 同一の構造をとる}モデルについて常に等しく、
+ * JVMの実装や実行環境、モデルの生成に利用したファクトリに依存しない。
+ * そのため、ビルドやマシンをまたいで永続化するキャッシュのキーとして利用できる。
+ * ただし、{@link ModelKind}の定義が変更された場合には指紋も変化しうる。
+ * </p>
+ * <p>
+ * 指紋は、以下の正準形式でモデルを符号化したバイト列のMD5ダイジェストである。
+ * 子要素は指紋によって符号化されるため、部分木の指紋を再計算せずに親の指紋を計算できる。
+ * 以下、整数はすべてビッグエンディアンの符号付き32ビット整数で、
+ * 文字列はUTF-8で符号化したバイト数を整数で表したのちにそのバイト列を並べる。
+ * </p>
+ * <ol>
+ * <li> モデルの種類 ({@link ModelKind#name()}) を文字列で表す </li>
+ * <li> {@link ModelKind#getProperties()}の順に、それぞれのプロパティの値を以下の形式で表す
+ *   <ul>
+ *   <li> {@code null}: {@code 0x00} </li>
+ *   <li> モデル: {@code 0x01}に続けて、そのモデルの指紋 (16バイト) </li>
+ *   <li> モデルのリスト: {@code 0x02}に続けて要素数を整数で表し、各要素の指紋を順に並べる </li>
+ *   <li> 文字列: {@code 0x03}に続けて文字列を表す </li>
+ *   <li> 論理値: {@code 0x04}に続けて、真ならば{@code 0x01}、偽ならば{@code 0x00} </li>
+ *   <li> 整数: {@code 0x05}に続けて整数を表す </li>
+ *   <li> 列挙定数: {@code 0x06}に続けて、その定数の名前を文字列で表す </li>
+ *   </ul>
+ * </li>
+ * </ol>
+ * <p>
+ * 指紋は{@link Model#freeze() 凍結}されたモデルにのみキャッシュされ、同じ部分木について二度計算されることはない。
+ * 凍結されていないモデルの指紋は呼び出しのたびに計算し直すため、子孫を変更した場合にもその変更が反映される。
+ * 多数の指紋を計算する場合や指紋を永続化する場合には、あらかじめ凍結したモデルを利用するべきである。
+ * </p>
+ * @author ashigeru
+ */
+public final class ModelFingerprint implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 指紋のバイト数。
+     */
+    public static final int SIZE = 16;
+
+    private final long high;
+
+    private final long low;
+
+    /**
+     * インスタンスを生成する。
+     * @param high 上位64ビット
+     * @param low 下位64ビット
+     */
+    public ModelFingerprint(long high, long low) {
+        this.high = high;
+        this.low = low;
+    }
+
+    /**
+     * 指定のモデルの指紋を返す。
+     * @param model 対象のモデル
+     * @return 対応する指紋
+     * @throws IllegalArgumentException 引数に{@code null}が含まれる場合
+     */
+    public static ModelFingerprint of(Model model) {
+        if (model == null) {
+            throw new IllegalArgumentException("model must not be null"); //$NON-NLS-1$
+        }
+        if (model instanceof ModelFingerprinter.Cacheable) {
+            return ((ModelFingerprinter.Cacheable) model).getFingerprint();
+        }
+        return ModelFingerprinter.compute(model);
+    }
+
+    /**
+     * {@link #toByteArray()}の形式で表された指紋を復元する。
+     * @param bytes 対象のバイト列
+     * @return 対応する指紋
+     * @throws IllegalArgumentException 引数のバイト数が{@link #SIZE}でない場合、
+     *     または引数に{@code null}が含まれる場合
+     */
+    public static ModelFingerprint valueOf(byte[] bytes) {
+        if (bytes == null) {
+            throw new IllegalArgumentException("bytes must not be null"); //$NON-NLS-1$
+        }
+        if (bytes.length != SIZE) {
+            throw new IllegalArgumentException("bytes must be 16 bytes"); //$NON-NLS-1$
+        }
+        return new ModelFingerprint(toLong(bytes, 0), toLong(bytes, 8));
+    }
+
+    /**
+     * {@link #toString()}の形式で表された指紋を復元する。
+     * @param string 対象の文字列
+     * @return 対応する指紋
+     * @throws IllegalArgumentException 引数が32桁の16進数でない場合、
+     *     または引数に{@code null}が含まれる場合
+     */
+    public static ModelFingerprint valueOf(String string) {
+        if (string == null) {
+            throw new IllegalArgumentException("string must not be null"); //$NON-NLS-1$
+        }
+        if (string.length() != SIZE * 2) {
+            throw new IllegalArgumentException(string);
+        }
+        byte[] bytes = new byte[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            int upper = Character.digit(string.charAt(i * 2), 16);
+            int lower = Character.digit(string.charAt(i * 2 + 1), 16);
+            if (upper < 0 || lower < 0) {
+                throw new IllegalArgumentException(string);
+            }
+            bytes[i] = (byte) (upper << 4 | lower);
+        }
+        return valueOf(bytes);
+    }
+
+    /**
+     * この指紋の上位64ビットを返す。
+     * @return 上位64ビット
+     */
+    public long getHigh() {
+        return high;
+    }
+
+    /**
+     * この指紋の下位64ビットを返す。
+     * @return 下位64ビット
+     */
+    public long getLow() {
+        return low;
+    }
+
+    /**
+     * この指紋をビッグエンディアンのバイト列に変換して返す。
+     * @return 長さ{@link #SIZE}のバイト列
+     */
+    public byte[] toByteArray() {
+        byte[] results = new byte[SIZE];
+        for (int i = 0; i < 8; i++) {
+            results[i] = (byte) (high >>> (56 - i * 8));
+            results[i + 8] = (byte) (low >>> (56 - i * 8));
+        }
+        return results;
+    }
+
+    private static long toLong(byte[] bytes, int offset) {
+        long result = 0;
+        for (int i = 0; i < 8; i++) {
+            result = result << 8 | (bytes[offset + i] & 0xff);
+        }
+        return result;
+    }
+
+    @Override
+    public int hashCode() {
+        return (int) (high ^ (high >>> 32) ^ low ^ (low >>> 32));
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null) {
+            return false;
+        }
+        if (getClass() != obj.getClass()) {
+            return false;
+        }
+        ModelFingerprint other = (ModelFingerprint) obj;
+        return high == other.high && low == other.low;
+    }
+
+    /**
+     * この指紋を32桁の小文字の16進数で表した文字列を返す。
+     * @return この指紋の文字列表現
+     */
+    @Override
+    public String toString() {
+        char[] results = new char[SIZE * 2];
+        for (int i = 0; i < 16; i++) {
+            long word = i < 8 ? high : low;
+            int shift = 60 - (i % 8) * 8;
+            results[i * 2] = Character.forDigit((int) (word >>> shift) & 0xf, 16);
+            results[i * 2 + 1] = Character.forDigit((int) (word >>> (shift - 4)) & 0xf, 16);
+        }
+        return String.valueOf(results);
+    }
+}
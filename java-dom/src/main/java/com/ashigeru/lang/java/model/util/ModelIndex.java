@@ -0,0 +1,371 @@
+/*
+ * Copyright 2011 @ashigeru.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package com.ashigeru.lang.java.model.util;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+import com.ashigeru.lang.java.model.syntax.Model;
+import com.ashigeru.lang.java.model.syntax.ModelKind;
+import com.ashigeru.lang.java.model.syntax.PropertyKind;
+import com.ashigeru.lang.java.model.syntax.SimpleName;
+import com.ashigeru.lang.java.model.util.ModelWalker.Event;
+
+/**
+ * モデルの木に対する索引。
+ * <p>
+ * 木を一度だけ走査して構築し、その後は親や祖先の検索、種類ごとのモデルの列挙、
+ * 単純名の検索を木を走査せずに行う。
+ * </p>
+ * <p>
+ * 索引は木の上の各出現に、行きがけ順の位置 (0起算) を割り当てて管理する。
+ * 同一のモデルオブジェクトが木の複数の場所に出現する場合
+ * ({@link Models#getInterningModelFactory()}で生成した名前など)、
+ * モデルオブジェクトを引数にとるメソッドは最初の出現を対象とする。
+ * すべての出現を区別する場合には位置を引数にとるメソッドを利用する。
+ * </p>
+ * <p>
+ * 索引は構築後に変更されず、複数のスレッドから同時に利用できる。
+ * ただし、対象の木は索引を利用する間に変更してはならない。
+ * </p>
+ * @author ashigeru
+ */
+public final class ModelIndex {
+
+    private static final int[] EMPTY = new int[0];
+
+    private final Model[] models;
+
+    private final int[] parents;
+
+    private final int[] ends;
+
+    private final PropertyKind[] properties;
+
+    private final Map<Model, Integer> positions;
+
+    private final int[][] kinds;
+
+    private final Map<String, int[]> names;
+
+    private ModelIndex(
+            Model[] models,
+            int[] parents,
+            int[] ends,
+            PropertyKind[] properties,
+            Map<Model, Integer> positions,
+            int[][] kinds,
+            Map<String, int[]> names) {
+        this.models = models;
+        this.parents = parents;
+        this.ends = ends;
+        this.properties = properties;
+        this.positions = positions;
+        this.kinds = kinds;
+        this.names = names;
+    }
+
+    /**
+     * 指定のモデルを起点とする木の索引を構築する。
+     * @param root 索引を構築する木の起点
+     * @return 構築した索引
+     * @throws IllegalArgumentException 引数に{@code null}が指定された場合
+     */
+    public static ModelIndex build(Model root) {
+        if (root == null) {
+            throw new IllegalArgumentException("root must not be null"); //$NON-NLS-1$
+        }
+        Builder builder = new Builder();
+        ModelWalker walker = new ModelWalker(root);
+        for (Event event = walker.next(); event != null; event = walker.next()) {
+            if (event == Event.ENTER) {
+                builder.enter(walker.getModel(), walker.getProperty());
+            }
+            else {
+                builder.exit();
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * 索引の対象となった木の起点を返す。
+     * @return 木の起点
+     */
+    public Model getRoot() {
+        return models[0];
+    }
+
+    /**
+     * 木に含まれるモデルの出現の個数を返す。
+     * @return 出現の個数
+     */
+    public int size() {
+        return models.length;
+    }
+
+    /**
+     * 指定の位置に出現するモデルを返す。
+     * @param position 対象の位置
+     * @return 対応するモデル
+     * @throws IndexOutOfBoundsException 位置が範囲外である場合
+     */
+    public Model getModel(int position) {
+        return models[position];
+    }
+
+    /**
+     * 指定のモデルが最初に出現する位置を返す。
+     * @param model 対象のモデル
+     * @return 対応する位置、木に含まれない場合は{@code -1}
+     * @throws IllegalArgumentException 引数に{@code null}が指定された場合
+     */
+    public int getPosition(Model model) {
+        if (model == null) {
+            throw new IllegalArgumentException("model must not be null"); //$NON-NLS-1$
+        }
+        Integer position = positions.get(model);
+        return position == null ? -1 : position;
+    }
+
+    /**
+     * 指定の位置に出現するモデルの、親の位置を返す。
+     * @param position 対象の位置
+     * @return 親の位置、起点であれば{@code -1}
+     * @throws IndexOutOfBoundsException 位置が範囲外である場合
+     */
+    public int getParentPosition(int position) {
+        return parents[position];
+    }
+
+    /**
+     * 指定の位置に出現するモデルを保持する、親のプロパティを返す。
+     * @param position 対象の位置
+     * @return 親のプロパティ、起点であれば{@code null}
+     * @throws IndexOutOfBoundsException 位置が範囲外である場合
+     */
+    public PropertyKind getProperty(int position) {
+        return properties[position];
+    }
+
+    /**
+     * 指定の位置のモデルが、別の位置のモデルの祖先である場合のみ{@code true}を返す。
+     * <p>
+     * モデル自身は自身の祖先とみなさない。
+     * </p>
+     * @param ancestor 祖先の候補となる位置
+     * @param descendant 子孫の候補となる位置
+     * @return 祖先である場合は{@code true}、そうでない場合は{@code false}
+     * @throws IndexOutOfBoundsException 位置が範囲外である場合
+     */
+    public boolean isAncestor(int ancestor, int descendant) {
+        if (descendant < 0 || descendant >= models.length) {
+            throw new IndexOutOfBoundsException(String.valueOf(descendant));
+        }
+        return ancestor < descendant && descendant < ends[ancestor];
+    }
+
+    /**
+     * 指定のモデルの親を返す。
+     * @param model 対象のモデル
+     * @return 親のモデル、起点であるか木に含まれない場合は{@code null}
+     * @throws IllegalArgumentException 引数に{@code null}が指定された場合
+     */
+    public Model getParent(Model model) {
+        int position = getPosition(model);
+        if (position < 0) {
+            return null;
+        }
+        int parent = parents[position];
+        return parent < 0 ? null : models[parent];
+    }
+
+    /**
+     * 指定のモデルの祖先のうち、指定の型を持つ最も近いものを返す。
+     * @param <T> 祖先の型
+     * @param model 対象のモデル
+     * @param type 祖先の型
+     * @return 該当する祖先、存在しない場合は{@code null}
+     * @throws IllegalArgumentException 引数に{@code null}が含まれる場合
+     */
+    public <T extends Model> T findAncestor(Model model, Class<T> type) {
+        if (type == null) {
+            throw new IllegalArgumentException("type must not be null"); //$NON-NLS-1$
+        }
+        int position = getPosition(model);
+        if (position < 0) {
+            return null;
+        }
+        for (int current = parents[position]; current >= 0; current = parents[current]) {
+            if (type.isInstance(models[current])) {
+                return type.cast(models[current]);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 指定の種類のモデルの一覧を、出現順に返す。
+     * @param kind 対象の種類
+     * @return 該当するモデルの一覧 (変更不可能)
+     * @throws IllegalArgumentException 引数に{@code null}が指定された場合
+     */
+    public List<Model> getModels(ModelKind kind) {
+        if (kind == null) {
+            throw new IllegalArgumentException("kind must not be null"); //$NON-NLS-1$
+        }
+        return new Postings<Model>(kinds[kind.ordinal()]);
+    }
+
+    /**
+     * 指定の字句を持つ単純名の一覧を、出現順に返す。
+     * @param token 対象の字句
+     * @return 該当する単純名の一覧 (変更不可能)
+     * @throws IllegalArgumentException 引数に{@code null}が指定された場合
+     */
+    public List<SimpleName> findSimpleNames(String token) {
+        if (token == null) {
+            throw new IllegalArgumentException("token must not be null"); //$NON-NLS-1$
+        }
+        int[] found = names.get(token);
+        if (found == null) {
+            return Collections.emptyList();
+        }
+        return new Postings<SimpleName>(found);
+    }
+
+    private class Postings<T extends Model> extends AbstractList<T> implements RandomAccess {
+
+        private final int[] entries;
+
+        Postings(int[] entries) {
+            this.entries = entries;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public T get(int index) {
+            return (T) models[entries[index]];
+        }
+
+        @Override
+        public int size() {
+            return entries.length;
+        }
+    }
+
+    private static class Builder {
+
+        private Model[] models = new Model[256];
+
+        private int[] parents = new int[256];
+
+        private int[] ends = new int[256];
+
+        private PropertyKind[] properties = new PropertyKind[256];
+
+        private int size;
+
+        private int current = -1;
+
+        private final Map<Model, Integer> positions = new IdentityHashMap<Model, Integer>();
+
+        private final int[][] kinds = new int[ModelKind.values().length][];
+
+        private final int[] kindCounts = new int[kinds.length];
+
+        private final Map<String, int[]> names = new HashMap<String, int[]>();
+
+        private final Map<String, Integer> nameCounts = new HashMap<String, Integer>();
+
+        void enter(Model model, PropertyKind property) {
+            if (size == models.length) {
+                int newSize = size * 2;
+                models = Arrays.copyOf(models, newSize);
+                parents = Arrays.copyOf(parents, newSize);
+                ends = Arrays.copyOf(ends, newSize);
+                properties = Arrays.copyOf(properties, newSize);
+            }
+            int position = size++;
+            models[position] = model;
+            parents[position] = current;
+            properties[position] = property;
+            current = position;
+            if (positions.containsKey(model) == false) {
+                positions.put(model, position);
+            }
+            ModelKind kind = model.getModelKind();
+            kindCounts[kind.ordinal()] = add(kinds, kind.ordinal(), kindCounts[kind.ordinal()], position);
+            if (kind == ModelKind.SIMPLE_NAME) {
+                String token = ((SimpleName) model).getToken();
+                int[] entries = names.get(token);
+                Integer count = nameCounts.get(token);
+                int n = count == null ? 0 : count;
+                if (entries == null) {
+                    entries = new int[4];
+                }
+                else if (n == entries.length) {
+                    entries = Arrays.copyOf(entries, n * 2);
+                }
+                entries[n] = position;
+                names.put(token, entries);
+                nameCounts.put(token, n + 1);
+            }
+        }
+
+        void exit() {
+            ends[current] = size;
+            current = parents[current];
+        }
+
+        private static int add(int[][] table, int index, int count, int position) {
+            int[] entries = table[index];
+            if (entries == null) {
+                entries = new int[4];
+                table[index] = entries;
+            }
+            else if (count == entries.length) {
+                entries = Arrays.copyOf(entries, count * 2);
+                table[index] = entries;
+            }
+            entries[count] = position;
+            return count + 1;
+        }
+
+        ModelIndex build() {
+            for (int i = 0; i < kinds.length; i++) {
+                kinds[i] = kinds[i] == null ? EMPTY : Arrays.copyOf(kinds[i], kindCounts[i]);
+            }
+            for (Map.Entry<String, int[]> entry : names.entrySet()) {
+                entry.setValue(Arrays.copyOf(entry.getValue(), nameCounts.get(entry.getKey())));
+            }
+            return new ModelIndex(
+                    Arrays.copyOf(models, size),
+                    Arrays.copyOf(parents, size),
+                    Arrays.copyOf(ends, size),
+                    Arrays.copyOf(properties, size),
+                    positions,
+                    kinds,
+                    names);
+        }
+    }
+}
@@ -0,0 +1,549 @@
+/*
+ * Copyright 2011 @ashigeru.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package com.ashigeru.lang.java.model.util;
+
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.ashigeru.lang.java.model.syntax.Model;
+import com.ashigeru.lang.java.model.syntax.ModelKind;
+import com.ashigeru.lang.java.model.syntax.PropertyKind;
+import com.ashigeru.lang.java.model.syntax.QualifiedName;
+import com.ashigeru.lang.java.model.syntax.SimpleName;
+import com.ashigeru.lang.java.model.util.ModelWalker.Event;
+
+/**
+ * モデルの木の構造に対する問い合わせ。
+ * <p>
+ * 問い合わせは{@link ModelKind}の名前を{@code /} (子) または{@code //} (子孫) で区切った経路で表し、
+ * 各段階には{@code [...]}でプロパティに関する条件を付与できる。
+ * 先頭が{@code /}で始まる場合は最初の段階が木の起点に一致しなければならず、
+ * そうでない場合は木の任意の位置から一致する。種類の代わりに{@code *}を指定すると任意の種類に一致する。
+ * </p>
+ * <p>
+ * 条件には次のものを指定できる。プロパティは{@link PropertyKind#getPropertyName()}の名前で指定する。
+ * </p>
+ * <ul>
+ *   <li> {@code [name]} - プロパティが{@code null}でも空のリストでも{@code false}でもない </li>
+ *   <li> {@code [name = value]}, {@code [name != value]} - プロパティの値が指定の値に一致する (しない) </li>
+ *   <li> {@code [name contains value]} - リストのいずれかの要素が指定の値に一致する、
+ *        または文字列が指定の値を含む </li>
+ * </ul>
+ * <p>
+ * 値は引用符で囲んだ文字列、または引用符のない語として記述する。
+ * 値がモデルの場合、単純名や限定名であれば名前の表記と、そうでなければそのモデルの
+ * モデル以外のプロパティ (修飾子の種類やリテラルの字句など) と比較する。
+ * 列挙定数は定数名と比較する。
+ * </p>
+ * <p>
+ * たとえば{@code METHOD_DECLARATION[modifiers contains STATIC]//METHOD_INVOCATION_EXPRESSION[name = 'x']}は、
+ * {@code static}メソッドの内側にある名前が{@code x}のメソッド呼び出しに一致する。
+ * </p>
+ * <p>
+ * 問い合わせは{@link #compile(String)}で一度だけ解析され、以降は木を一度走査する間に
+ * 各段階の一致状態をビット集合として受け渡すことで評価される。
+ * 評価中にモデルごとのオブジェクトは生成されない。
+ * このクラスのオブジェクトは変更されず、複数のスレッドから同時に利用できる。
+ * </p>
+ * @author ashigeru
+ */
+public final class ModelQuery {
+
+    private static final int MAX_STEPS = 62;
+
+    private final String expression;
+
+    private final Step[] steps;
+
+    private final long descendantMask;
+
+    private ModelQuery(String expression, Step[] steps) {
+        this.expression = expression;
+        this.steps = steps;
+        long mask = 0;
+        for (int i = 0; i < steps.length; i++) {
+            if (steps[i].descendant) {
+                mask |= 1L << i;
+            }
+        }
+        this.descendantMask = mask;
+    }
+
+    /**
+     * 指定の問い合わせを解析する。
+     * @param expression 問い合わせの文字列
+     * @return 解析した問い合わせ
+     * @throws IllegalArgumentException 問い合わせの形式が正しくない場合、
+     *     または引数に{@code null}が指定された場合
+     */
+    public static ModelQuery compile(String expression) {
+        if (expression == null) {
+            throw new IllegalArgumentException("expression must not be null"); //$NON-NLS-1$
+        }
+        return new Parser(expression).parse();
+    }
+
+    /**
+     * 指定の木のうち、この問い合わせに一致するモデルを出現順にすべて返す。
+     * @param root 対象の木の起点
+     * @return 一致したモデルの一覧
+     * @throws IllegalArgumentException 引数に{@code null}が指定された場合
+     */
+    public List<Model> findAll(Model root) {
+        if (root == null) {
+            throw new IllegalArgumentException("root must not be null"); //$NON-NLS-1$
+        }
+        List<Model> results = new ArrayList<Model>();
+        evaluate(root, results, false);
+        return results;
+    }
+
+    /**
+     * 指定の木のうち、この問い合わせに最初に一致するモデルを返す。
+     * @param root 対象の木の起点
+     * @return 一致したモデル、存在しない場合は{@code null}
+     * @throws IllegalArgumentException 引数に{@code null}が指定された場合
+     */
+    public Model findFirst(Model root) {
+        if (root == null) {
+            throw new IllegalArgumentException("root must not be null"); //$NON-NLS-1$
+        }
+        List<Model> results = new ArrayList<Model>(1);
+        evaluate(root, results, true);
+        return results.isEmpty() ? null : results.get(0);
+    }
+
+    private void evaluate(Model root, List<Model> results, boolean firstOnly) {
+        long accept = 1L << steps.length;
+        long[] reached = new long[32];
+        long[] pending = new long[32];
+        ModelWalker walker = new ModelWalker(root);
+        for (Event event = walker.next(); event != null; event = walker.next()) {
+            if (event != Event.ENTER) {
+                continue;
+            }
+            int depth = walker.getDepth();
+            if (depth == reached.length) {
+                reached = Arrays.copyOf(reached, depth * 2);
+                pending = Arrays.copyOf(pending, depth * 2);
+            }
+            long parentReached = depth == 0 ? 1L : reached[depth - 1];
+            long parentPending = depth == 0 ? 1L & descendantMask : pending[depth - 1];
+            long testable = parentReached | parentPending;
+            Model model = walker.getModel();
+            long current = 0;
+            for (long rest = testable; rest != 0; rest &= rest - 1) {
+                int index = Long.numberOfTrailingZeros(rest);
+                if (index < steps.length && steps[index].matches(model)) {
+                    current |= 1L << (index + 1);
+                }
+            }
+            long nextPending = parentPending | (current & descendantMask);
+            reached[depth] = current;
+            pending[depth] = nextPending;
+            if ((current & accept) != 0) {
+                results.add(model);
+                if (firstOnly) {
+                    return;
+                }
+            }
+            if (current == 0 && nextPending == 0) {
+                walker.skipChildren();
+            }
+        }
+    }
+
+    /**
+     * この問い合わせの文字列を返す。
+     */
+    @Override
+    public String toString() {
+        return expression;
+    }
+
+    static final class Step {
+
+        final boolean descendant;
+
+        final ModelKind kind;
+
+        final Predicate[] predicates;
+
+        Step(boolean descendant, ModelKind kind, Predicate[] predicates) {
+            this.descendant = descendant;
+            this.kind = kind;
+            this.predicates = predicates;
+        }
+
+        boolean matches(Model model) {
+            if (kind != null && model.getModelKind() != kind) {
+                return false;
+            }
+            for (Predicate predicate : predicates) {
+                if (predicate.matches(model) == false) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    enum Operator {
+
+        EXISTS,
+
+        EQUAL,
+
+        NOT_EQUAL,
+
+        CONTAINS,
+    }
+
+    static final class Predicate {
+
+        /**
+         * モデルの種類ごとの対象プロパティ、種類がプロパティを持たない場合は{@code null}。
+         */
+        final PropertyKind[] properties;
+
+        final Operator operator;
+
+        final String value;
+
+        /**
+         * 値を整数として解釈したもの、整数でない場合は{@code null}。
+         */
+        final Integer intValue;
+
+        Predicate(PropertyKind[] properties, Operator operator, String value) {
+            this.properties = properties;
+            this.operator = operator;
+            this.value = value;
+            this.intValue = parseInt(value);
+        }
+
+        private static Integer parseInt(String value) {
+            if (value == null) {
+                return null;
+            }
+            try {
+                return Integer.valueOf(value);
+            }
+            catch (NumberFormatException e) {
+                return null;
+            }
+        }
+
+        boolean matches(Model model) {
+            PropertyKind property = properties[model.getModelKind().ordinal()];
+            if (property == null) {
+                return false;
+            }
+            Object target = model.getProperty(property);
+            switch (operator) {
+            case EXISTS:
+                return exists(target);
+            case EQUAL:
+                return equal(target);
+            case NOT_EQUAL:
+                return equal(target) == false;
+            case CONTAINS:
+                return contains(target);
+            default:
+                throw new AssertionError(operator);
+            }
+        }
+
+        private static boolean exists(Object target) {
+            if (target == null) {
+                return false;
+            }
+            if (target instanceof List<?>) {
+                return ((List<?>) target).isEmpty() == false;
+            }
+            if (target instanceof Boolean) {
+                return (Boolean) target;
+            }
+            return true;
+        }
+
+        private boolean contains(Object target) {
+            if (target instanceof List<?>) {
+                List<?> list = (List<?>) target;
+                for (int i = 0, n = list.size(); i < n; i++) {
+                    if (equal(list.get(i))) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+            if (target instanceof String) {
+                return ((String) target).indexOf(value) >= 0;
+            }
+            return false;
+        }
+
+        private boolean equal(Object target) {
+            if (target == null || target instanceof List<?>) {
+                return false;
+            }
+            if (target instanceof String) {
+                return target.equals(value);
+            }
+            if (target instanceof Enum<?>) {
+                return ((Enum<?>) target).name().equals(value);
+            }
+            if (target instanceof Integer) {
+                return target.equals(intValue);
+            }
+            if (target instanceof Boolean) {
+                return value.equals((Boolean) target ? "true" : "false"); //$NON-NLS-1$ //$NON-NLS-2$
+            }
+            return equalModel((Model) target);
+        }
+
+        private boolean equalModel(Model model) {
+            ModelKind kind = model.getModelKind();
+            if (kind == ModelKind.SIMPLE_NAME || kind == ModelKind.QUALIFIED_NAME) {
+                return equalName(model, value);
+            }
+            List<PropertyKind> properties = kind.getProperties();
+            Model single = null;
+            int models = 0;
+            boolean hasValue = false;
+            for (int i = 0, n = properties.size(); i < n; i++) {
+                Object property = model.getProperty(properties.get(i));
+                if (property instanceof Model) {
+                    single = (Model) property;
+                    models++;
+                }
+                else if (property instanceof List<?>) {
+                    models++;
+                }
+                else if (property != null) {
+                    hasValue = true;
+                    if (equal(property)) {
+                        return true;
+                    }
+                }
+            }
+            if (hasValue == false && models == 1 && single != null) {
+                return equalModel(single);
+            }
+            return false;
+        }
+
+        private static boolean equalName(Model name, String value) {
+            Model current = name;
+            int end = value.length();
+            while (current.getModelKind() == ModelKind.QUALIFIED_NAME) {
+                QualifiedName qualified = (QualifiedName) current;
+                String token = qualified.getSimpleName().getToken();
+                int start = end - token.length();
+                if (start <= 0
+                        || value.charAt(start - 1) != '.'
+                        || value.regionMatches(start, token, 0, token.length()) == false) {
+                    return false;
+                }
+                end = start - 1;
+                current = qualified.getQualifier();
+            }
+            String token = ((SimpleName) current).getToken();
+            return end == token.length() && value.regionMatches(0, token, 0, end);
+        }
+    }
+
+    private static final class Parser {
+
+        private final String text;
+
+        private int position;
+
+        Parser(String text) {
+            this.text = text;
+        }
+
+        ModelQuery parse() {
+            List<Step> steps = new ArrayList<Step>();
+            skipSpaces();
+            boolean descendant = true;
+            if (consume("//")) { //$NON-NLS-1$
+                descendant = true;
+            }
+            else if (consume("/")) { //$NON-NLS-1$
+                descendant = false;
+            }
+            while (true) {
+                steps.add(parseStep(descendant));
+                skipSpaces();
+                if (position == text.length()) {
+                    break;
+                }
+                if (consume("//")) { //$NON-NLS-1$
+                    descendant = true;
+                }
+                else if (consume("/")) { //$NON-NLS-1$
+                    descendant = false;
+                }
+                else {
+                    throw error("'/' or '//' is expected"); //$NON-NLS-1$
+                }
+            }
+            if (steps.size() > MAX_STEPS) {
+                throw error("too many steps"); //$NON-NLS-1$
+            }
+            return new ModelQuery(text, steps.toArray(new Step[steps.size()]));
+        }
+
+        private Step parseStep(boolean descendant) {
+            skipSpaces();
+            ModelKind kind;
+            if (consume("*")) { //$NON-NLS-1$
+                kind = null;
+            }
+            else {
+                String name = parseWord();
+                try {
+                    kind = ModelKind.valueOf(name);
+                }
+                catch (IllegalArgumentException e) {
+                    throw error(MessageFormat.format("unknown model kind \"{0}\"", name)); //$NON-NLS-1$
+                }
+            }
+            List<Predicate> predicates = new ArrayList<Predicate>();
+            skipSpaces();
+            while (consume("[")) { //$NON-NLS-1$
+                predicates.add(parsePredicate(kind));
+                skipSpaces();
+            }
+            return new Step(descendant, kind, predicates.toArray(new Predicate[predicates.size()]));
+        }
+
+        private Predicate parsePredicate(ModelKind kind) {
+            skipSpaces();
+            String name = parseWord();
+            PropertyKind[] properties = resolve(kind, name);
+            skipSpaces();
+            Operator operator;
+            if (consume("]")) { //$NON-NLS-1$
+                return new Predicate(properties, Operator.EXISTS, null);
+            }
+            else if (consume("!=")) { //$NON-NLS-1$
+                operator = Operator.NOT_EQUAL;
+            }
+            else if (consume("=")) { //$NON-NLS-1$
+                operator = Operator.EQUAL;
+            }
+            else if (consume("contains")) { //$NON-NLS-1$
+                operator = Operator.CONTAINS;
+            }
+            else {
+                throw error("operator is expected"); //$NON-NLS-1$
+            }
+            skipSpaces();
+            String value = parseValue();
+            skipSpaces();
+            if (consume("]") == false) { //$NON-NLS-1$
+                throw error("']' is expected"); //$NON-NLS-1$
+            }
+            return new Predicate(properties, operator, value);
+        }
+
+        private PropertyKind[] resolve(ModelKind kind, String name) {
+            ModelKind[] kinds = ModelKind.values();
+            PropertyKind[] results = new PropertyKind[kinds.length];
+            boolean found = false;
+            for (ModelKind candidate : kinds) {
+                if (kind != null && candidate != kind) {
+                    continue;
+                }
+                for (PropertyKind property : candidate.getProperties()) {
+                    if (property.getPropertyName().equals(name)) {
+                        results[candidate.ordinal()] = property;
+                        found = true;
+                    }
+                }
+            }
+            if (found == false) {
+                throw error(MessageFormat.format("unknown property \"{0}\"", name)); //$NON-NLS-1$
+            }
+            return results;
+        }
+
+        private String parseValue() {
+            if (position < text.length()) {
+                char quote = text.charAt(position);
+                if (quote == '\'' || quote == '"') {
+                    int end = text.indexOf(quote, position + 1);
+                    if (end < 0) {
+                        throw error("unterminated string"); //$NON-NLS-1$
+                    }
+                    String value = text.substring(position + 1, end);
+                    position = end + 1;
+                    return value;
+                }
+            }
+            int start = position;
+            while (position < text.length()) {
+                char c = text.charAt(position);
+                if (Character.isJavaIdentifierPart(c) == false && c != '.' && c != '-') {
+                    break;
+                }
+                position++;
+            }
+            if (start == position) {
+                throw error("value is expected"); //$NON-NLS-1$
+            }
+            return text.substring(start, position);
+        }
+
+        private String parseWord() {
+            int start = position;
+            while (position < text.length()
+                    && Character.isJavaIdentifierPart(text.charAt(position))) {
+                position++;
+            }
+            if (start == position) {
+                throw error("name is expected"); //$NON-NLS-1$
+            }
+            return text.substring(start, position);
+        }
+
+        private boolean consume(String token) {
+            if (text.startsWith(token, position)) {
+                position += token.length();
+                return true;
+            }
+            return false;
+        }
+
+        private void skipSpaces() {
+            while (position < text.length() && Character.isWhitespace(text.charAt(position))) {
+                position++;
+            }
+        }
+
+        private IllegalArgumentException error(String message) {
+            return new IllegalArgumentException(MessageFormat.format(
+                    "Invalid query \"{0}\" at {1}: {2}", //$NON-NLS-1$
+                    text,
+                    position,
+                    message));
+        }
+    }
+}
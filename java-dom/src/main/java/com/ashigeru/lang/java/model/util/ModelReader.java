@@ -0,0 +1,392 @@
+/*
+ * Copyright 2011 @ashigeru.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package com.ashigeru.lang.java.model.util;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.ashigeru.lang.java.internal.model.util.ModelProperties;
+import com.ashigeru.lang.java.model.syntax.Model;
+import com.ashigeru.lang.java.model.syntax.ModelFactory;
+import com.ashigeru.lang.java.model.syntax.ModelKind;
+import com.ashigeru.lang.java.model.syntax.PropertyKind;
+
+/**
+ * {@link ModelWriter}が書き出したモデルをチャネルから読み出す。
+ * @author ashigeru
+ * @see ModelWriter
+ */
+public class ModelReader implements Closeable {
+
+    private static final int INITIAL_DEPTH = 32;
+
+    private static final int MAX_INITIAL_LIST_CAPACITY = 1024;
+
+    private final ModelFactory factory;
+
+    private final ReadableByteChannel channel;
+
+    private final ByteBuffer buffer;
+
+    private final List<String> strings = new ArrayList<String>();
+
+    private ModelKind[] kinds = new ModelKind[INITIAL_DEPTH];
+
+    private Object[][] values = new Object[INITIAL_DEPTH][];
+
+    private int[] slots = new int[INITIAL_DEPTH];
+
+    private List<Model>[] lists = newListArray(INITIAL_DEPTH);
+
+    private int[] rests = new int[INITIAL_DEPTH];
+
+    private boolean started;
+
+    private boolean eof;
+
+    /**
+     * インスタンスを生成する。
+     * @param factory 読み出したモデルの生成に利用するファクトリ
+     * @param channel 入力元のチャネル
+     * @throws IllegalArgumentException 引数に{@code null}が指定された場合
+     */
+    public ModelReader(ModelFactory factory, ReadableByteChannel channel) {
+        this(factory, channel, ModelCodec.DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * インスタンスを生成する。
+     * @param factory 読み出したモデルの生成に利用するファクトリ
+     * @param channel 入力元のチャネル
+     * @param bufferSize バッファのバイト数
+     * @throws IllegalArgumentException 引数に{@code null}が指定された場合、
+     *     またはバッファのサイズが小さすぎる場合
+     */
+    public ModelReader(ModelFactory factory, ReadableByteChannel channel, int bufferSize) {
+        if (factory == null) {
+            throw new IllegalArgumentException("factory must not be null"); //$NON-NLS-1$
+        }
+        if (channel == null) {
+            throw new IllegalArgumentException("channel must not be null"); //$NON-NLS-1$
+        }
+        if (bufferSize < 16) {
+            throw new IllegalArgumentException("bufferSize is too small"); //$NON-NLS-1$
+        }
+        this.factory = factory;
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocate(bufferSize);
+        this.buffer.flip();
+    }
+
+    /**
+     * 次のモデルを読み出して返す。
+     * @return 読み出したモデル、すでにすべてのモデルを読み出した場合は{@code null}
+     * @throws IOException 読み出しに失敗した場合、または入力の形式が正しくない場合
+     */
+    public Model read() throws IOException {
+        if (started == false) {
+            if (fill(1) == false) {
+                return null;
+            }
+            readHeader();
+            started = true;
+        }
+        if (fill(1) == false) {
+            return null;
+        }
+        Model model = readModel();
+        if (model == null) {
+            throw new IOException("Unexpected null model"); //$NON-NLS-1$
+        }
+        return model;
+    }
+
+    private void readHeader() throws IOException {
+        require(4);
+        int magic = buffer.getInt();
+        if (magic != ModelCodec.MAGIC) {
+            throw new IOException("Invalid magic number"); //$NON-NLS-1$
+        }
+        int version = readVarint();
+        if (version != ModelCodec.VERSION) {
+            throw new IOException(MessageFormat.format(
+                    "Unsupported format version: {0}", //$NON-NLS-1$
+                    version));
+        }
+        int kindCount = readVarint();
+        int propertyCount = readVarint();
+        if (kindCount != ModelCodec.MODEL_KINDS.length
+                || propertyCount != PropertyKind.values().length) {
+            throw new IOException("Incompatible model definitions"); //$NON-NLS-1$
+        }
+        require(4);
+        if (buffer.getInt() != ModelCodec.SCHEMA_HASH) {
+            throw new IOException("Incompatible model definitions"); //$NON-NLS-1$
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Model>[] newListArray(int size) {
+        return (List<Model>[]) new List<?>[size];
+    }
+
+    /**
+     * 次のモデルを起点とする木を読み出す。
+     * <p>
+     * 読み出し途中のモデルを明示的なスタックに積むため、木の深さにかかわらず再帰呼び出しを行わない。
+     * スタックの各段は、読み出し中のモデルの種類とプロパティの値、次に読み出すプロパティの位置、
+     * および読み出し中のリストとその残りの要素数を保持する。
+     * </p>
+     * @return 読み出したモデル、{@code null}を表す場合は{@code null}
+     * @throws IOException 読み出しに失敗した場合、または入力の形式が正しくない場合
+     */
+    private Model readModel() throws IOException {
+        ModelKind rootKind = readKind();
+        if (rootKind == null) {
+            return null;
+        }
+        int depth = 0;
+        push(depth++, rootKind);
+        while (true) {
+            int top = depth - 1;
+            List<Model> list = lists[top];
+            if (list != null) {
+                if (rests[top] > 0) {
+                    rests[top]--;
+                    ModelKind kind = readKind();
+                    if (kind == null) {
+                        list.add(null);
+                    }
+                    else {
+                        push(depth++, kind);
+                    }
+                    continue;
+                }
+                lists[top] = null;
+                values[top][slots[top]++] = list;
+                continue;
+            }
+            ModelKind kind = kinds[top];
+            List<PropertyKind> properties = kind.getProperties();
+            int slot = slots[top];
+            if (slot < properties.size()) {
+                PropertyKind property = properties.get(slot);
+                switch (ModelCodec.getValueKind(property)) {
+                case MODEL: {
+                    ModelKind childKind = readKind();
+                    if (childKind == null) {
+                        slots[top] = slot + 1;
+                    }
+                    else {
+                        push(depth++, childKind);
+                    }
+                    break;
+                }
+                case LIST: {
+                    int size = readVarint();
+                    if (size < 0) {
+                        throw new IOException("Invalid list size"); //$NON-NLS-1$
+                    }
+                    // each element takes at least one byte, so grow along with the actual input
+                    lists[top] = new ArrayList<Model>(Math.min(size, MAX_INITIAL_LIST_CAPACITY));
+                    rests[top] = size;
+                    break;
+                }
+                default:
+                    values[top][slot] = readValue(property);
+                    slots[top] = slot + 1;
+                    break;
+                }
+                continue;
+            }
+            Model model = newModel(kind, values[top]);
+            kinds[top] = null;
+            values[top] = null;
+            depth--;
+            if (depth == 0) {
+                return model;
+            }
+            int parent = depth - 1;
+            if (lists[parent] != null) {
+                lists[parent].add(model);
+            }
+            else {
+                values[parent][slots[parent]++] = model;
+            }
+        }
+    }
+
+    private ModelKind readKind() throws IOException {
+        int tag = readVarint();
+        if (tag == 0) {
+            return null;
+        }
+        if (tag < 0 || tag > ModelCodec.MODEL_KINDS.length) {
+            throw new IOException(MessageFormat.format(
+                    "Invalid model kind: {0}", //$NON-NLS-1$
+                    tag - 1));
+        }
+        return ModelCodec.MODEL_KINDS[tag - 1];
+    }
+
+    private void push(int index, ModelKind kind) {
+        if (index == kinds.length) {
+            int size = kinds.length * 2;
+            kinds = Arrays.copyOf(kinds, size);
+            values = Arrays.copyOf(values, size);
+            slots = Arrays.copyOf(slots, size);
+            lists = Arrays.copyOf(lists, size);
+            rests = Arrays.copyOf(rests, size);
+        }
+        kinds[index] = kind;
+        values[index] = new Object[kind.getProperties().size()];
+        slots[index] = 0;
+        lists[index] = null;
+        rests[index] = 0;
+    }
+
+    private Model newModel(ModelKind kind, Object[] properties) throws IOException {
+        try {
+            return ModelProperties.newModel(factory, kind, properties);
+        }
+        catch (RuntimeException e) {
+            throw (IOException) new IOException(MessageFormat.format(
+                    "Invalid {0}", //$NON-NLS-1$
+                    kind)).initCause(e);
+        }
+    }
+
+    private Object readValue(PropertyKind property) throws IOException {
+        switch (ModelCodec.getValueKind(property)) {
+        case ENUM: {
+            Object[] constants = ModelCodec.getEnumConstants(property);
+            int tag = readVarint();
+            if (tag == 0) {
+                return null;
+            }
+            int ordinal = tag - 1;
+            if (ordinal < 0 || ordinal >= constants.length) {
+                throw new IOException(MessageFormat.format(
+                        "Invalid constant of {0}: {1}", //$NON-NLS-1$
+                        property,
+                        ordinal));
+            }
+            return constants[ordinal];
+        }
+        case INT: {
+            int value = readVarint();
+            return (value >>> 1) ^ -(value & 1);
+        }
+        case BOOLEAN:
+            return readVarint() != 0;
+        case STRING:
+            return readString();
+        default:
+            throw new AssertionError(property);
+        }
+    }
+
+    private String readString() throws IOException {
+        int tag = readVarint();
+        if (tag == 0) {
+            return null;
+        }
+        if ((tag & 1) == 0) {
+            int index = (tag >>> 1) - 1;
+            if (index >= strings.size()) {
+                throw new IOException("Invalid string reference"); //$NON-NLS-1$
+            }
+            return strings.get(index);
+        }
+        int length = tag >>> 1;
+        // grow along with the actual input instead of trusting the declared length
+        byte[] bytes = new byte[Math.min(length, buffer.capacity())];
+        int offset = 0;
+        while (offset < length) {
+            if (buffer.hasRemaining() == false) {
+                require(1);
+            }
+            if (offset == bytes.length) {
+                bytes = Arrays.copyOf(bytes, (int) Math.min(length, bytes.length * 2L));
+            }
+            int count = Math.min(buffer.remaining(), bytes.length - offset);
+            buffer.get(bytes, offset, count);
+            offset += count;
+        }
+        String value = new String(bytes, ModelCodec.ENCODING);
+        strings.add(value);
+        return value;
+    }
+
+    private int readVarint() throws IOException {
+        int result = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            if (buffer.hasRemaining() == false) {
+                require(1);
+            }
+            byte b = buffer.get();
+            result |= (b & 0x7f) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+        }
+        throw new IOException("Malformed variable length integer"); //$NON-NLS-1$
+    }
+
+    private void require(int size) throws IOException {
+        if (fill(size) == false) {
+            throw new EOFException();
+        }
+    }
+
+    private boolean fill(int size) throws IOException {
+        assert size <= buffer.capacity();
+        if (buffer.remaining() >= size) {
+            return true;
+        }
+        if (eof) {
+            return false;
+        }
+        buffer.compact();
+        try {
+            while (buffer.position() < size) {
+                if (channel.read(buffer) < 0) {
+                    eof = true;
+                    break;
+                }
+            }
+        }
+        finally {
+            buffer.flip();
+        }
+        return buffer.remaining() >= size;
+    }
+
+    /**
+     * 入力元のチャネルを閉じる。
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
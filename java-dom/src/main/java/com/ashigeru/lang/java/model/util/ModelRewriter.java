@@ -0,0 +1,218 @@
+/*
+ * Copyright 2011 @ashigeru.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package com.ashigeru.lang.java.model.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.ashigeru.lang.java.internal.model.util.ModelProperties;
+import com.ashigeru.lang.java.model.syntax.Model;
+import com.ashigeru.lang.java.model.syntax.ModelFactory;
+import com.ashigeru.lang.java.model.syntax.ModelKind;
+import com.ashigeru.lang.java.model.syntax.PropertyKind;
+import com.ashigeru.lang.java.model.util.ModelWalker.Event;
+
+/**
+ * 書き換え規則に従ってモデルの木を書き換える。
+ * <p>
+ * 木は子から順に書き換えられ、それぞれのモデルには子を書き換えた後のモデルが規則に渡される。
+ * 子がいずれも書き換えられなかったモデルは同一のオブジェクトのまま規則に渡され、
+ * そうでないモデルのみが{@link ModelFactory}によって再構築される。
+ * そのため、一つのモデルを書き換えた場合に新しく生成されるモデルは、
+ * 木の起点からそのモデルまでの経路上のものに限られる。
+ * </p>
+ * <p>
+ * 複数の規則を指定した場合、それぞれのモデルについて指定した順に規則を適用する。
+ * すべての規則は木を一度走査する間に適用される。
+ * </p>
+ * <p>
+ * 走査には{@link ModelWalker}を利用するため、木の深さにかかわらずスタックオーバーフローを起こさない。
+ * なお、再構築されたモデルにはもとのモデルの{@link Model#findModelTrait(Class) トレイト}は引き継がれない。
+ * </p>
+ * @author ashigeru
+ */
+public class ModelRewriter {
+
+    private final ModelFactory factory;
+
+    private final Rule[] rules;
+
+    /**
+     * インスタンスを生成する。
+     * @param factory モデルの再構築に利用するファクトリ
+     * @param rules 適用する書き換え規則の一覧
+     * @throws IllegalArgumentException 引数に{@code null}が含まれる場合
+     */
+    public ModelRewriter(ModelFactory factory, Rule... rules) {
+        this(factory, Arrays.asList(rules));
+    }
+
+    /**
+     * インスタンスを生成する。
+     * @param factory モデルの再構築に利用するファクトリ
+     * @param rules 適用する書き換え規則の一覧
+     * @throws IllegalArgumentException 引数に{@code null}が含まれる場合
+     */
+    public ModelRewriter(ModelFactory factory, List<? extends Rule> rules) {
+        if (factory == null) {
+            throw new IllegalArgumentException("factory must not be null"); //$NON-NLS-1$
+        }
+        if (rules == null) {
+            throw new IllegalArgumentException("rules must not be null"); //$NON-NLS-1$
+        }
+        for (Rule rule : rules) {
+            if (rule == null) {
+                throw new IllegalArgumentException("rules must not contain null"); //$NON-NLS-1$
+            }
+        }
+        this.factory = factory;
+        this.rules = rules.toArray(new Rule[rules.size()]);
+    }
+
+    /**
+     * 指定のモデルを起点とする木を書き換える。
+     * @param <T> モデルの型
+     * @param model 書き換える木の起点
+     * @return 書き換えた結果、何も書き換えられなかった場合は引数と同一のオブジェクト、
+     *     起点のモデルが規則によって除去された場合は{@code null}
+     * @throws IllegalArgumentException 引数に{@code null}が指定された場合
+     * @throws ClassCastException 規則が起点のモデルを異なる型のモデルに書き換えた場合
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends Model> T rewrite(T model) {
+        if (model == null) {
+            throw new IllegalArgumentException("model must not be null"); //$NON-NLS-1$
+        }
+        List<List<Model>> results = new ArrayList<List<Model>>();
+        ModelWalker walker = new ModelWalker(model);
+        Model rewritten = null;
+        for (Event event = walker.next(); event != null; event = walker.next()) {
+            int depth = walker.getDepth();
+            if (event == Event.ENTER) {
+                while (results.size() <= depth + 1) {
+                    results.add(new ArrayList<Model>());
+                }
+                results.get(depth + 1).clear();
+                continue;
+            }
+            Model original = walker.getModel();
+            List<Model> children = results.get(depth + 1);
+            rewritten = rewriteNode(original, children);
+            children.clear();
+            if (depth > 0) {
+                results.get(depth).add(rewritten);
+            }
+        }
+        return (T) rewritten;
+    }
+
+    private Model rewriteNode(Model original, List<Model> children) {
+        Model current = rebuild(original, children);
+        for (Rule rule : rules) {
+            if (current == null) {
+                break;
+            }
+            current = rule.rewrite(current);
+        }
+        return current;
+    }
+
+    /**
+     * 書き換えた子を利用してモデルを再構築する。
+     * @param original もとのモデル
+     * @param children 書き換えた子の一覧 ({@link ModelWalker}が走査した順序)
+     * @return 再構築したモデル、子が一つも書き換えられていない場合は{@code original}
+     */
+    private Model rebuild(Model original, List<Model> children) {
+        ModelKind kind = original.getModelKind();
+        int[] slots = ModelProperties.getChildSlots(kind);
+        if (slots.length == 0 || unchanged(original, kind, slots, children)) {
+            return original;
+        }
+        List<PropertyKind> properties = kind.getProperties();
+        Object[] values = new Object[properties.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = original.getProperty(properties.get(i));
+        }
+        int index = 0;
+        for (int slot : slots) {
+            Object value = values[slot];
+            if (value instanceof List<?>) {
+                List<?> list = (List<?>) value;
+                List<Model> elements = new ArrayList<Model>(list.size());
+                for (Object element : list) {
+                    if (element == null) {
+                        continue;
+                    }
+                    Model replacement = children.get(index++);
+                    if (replacement != null) {
+                        elements.add(replacement);
+                    }
+                }
+                values[slot] = elements;
+            }
+            else if (value != null) {
+                values[slot] = children.get(index++);
+            }
+        }
+        assert index == children.size();
+        return ModelProperties.newModel(factory, kind, values);
+    }
+
+    private boolean unchanged(Model original, ModelKind kind, int[] slots, List<Model> children) {
+        List<PropertyKind> properties = kind.getProperties();
+        int index = 0;
+        for (int slot : slots) {
+            Object value = original.getProperty(properties.get(slot));
+            if (value instanceof List<?>) {
+                for (Object element : (List<?>) value) {
+                    if (element != null && element != children.get(index++)) {
+                        return false;
+                    }
+                }
+            }
+            else if (value != null) {
+                if (value != children.get(index++)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * モデルの書き換え規則。
+     * @author ashigeru
+     */
+    public abstract static class Rule {
+
+        /**
+         * 指定のモデルを書き換えて返す。
+         * <p>
+         * 引数のモデルは、子をすでに書き換えた後のものである。
+         * モデルを書き換えない場合は、引数と同一のオブジェクトを返すこと。
+         * </p>
+         * <p>
+         * {@code null}を返した場合、そのモデルは除去される。
+         * リストの要素であればリストから取り除かれ、そうでなければ親のプロパティが{@code null}となる。
+         * </p>
+         * @param model 対象のモデル
+         * @return 書き換えた結果
+         */
+        public abstract Model rewrite(Model model);
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2011 @ashigeru.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package com.ashigeru.lang.java.model.util;
+
+import java.text.MessageFormat;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+import com.ashigeru.lang.java.internal.model.syntax.LiteralImpl;
+import com.ashigeru.lang.java.internal.model.syntax.SimpleNameImpl;
+import com.ashigeru.lang.java.internal.model.util.ModelProperties;
+import com.ashigeru.lang.java.model.syntax.Literal;
+import com.ashigeru.lang.java.model.syntax.Model;
+import com.ashigeru.lang.java.model.syntax.ModelKind;
+import com.ashigeru.lang.java.model.syntax.PropertyKind;
+import com.ashigeru.lang.java.model.syntax.SimpleName;
+import com.ashigeru.lang.java.model.util.ModelWalker.Event;
+
+/**
+ * モデルの木全体が{@link com.ashigeru.lang.java.model.syntax.ModelFactory}の制約を満たすことを検査する。
+ * <p>
+ * {@link Models#getTrustedModelFactory()}で生成したモデルは引数の検査を経ていないため、
+ * 出力などの前にこのクラスを利用して一括して検査できる。
+ * 検査する内容は通常のファクトリが要素ごとに行う検査と同等で、
+ * 必須のプロパティが{@code null}でないこと、リストが{@code null}を含まないこと、
+ * 空であってはならないリストが空でないこと、および単純名やリテラルの字句が妥当であることである。
+ * </p>
+ * @author ashigeru
+ * @see ParallelModelWalker
+ */
+public class ModelValidator {
+
+    private ModelValidator() {
+        throw new AssertionError();
+    }
+
+    /**
+     * 指定のモデルを起点とする木を検査する。
+     * @param model 検査するモデル
+     * @throws IllegalArgumentException 木が制約を満たさない場合、
+     *     または引数に{@code null}が指定された場合
+     */
+    public static void validate(Model model) {
+        if (model == null) {
+            throw new IllegalArgumentException("model must not be null"); //$NON-NLS-1$
+        }
+        ModelWalker walker = new ModelWalker(model);
+        for (Event event = walker.next(); event != null; event = walker.next()) {
+            if (event == Event.ENTER) {
+                check(walker.getModel());
+            }
+        }
+    }
+
+    /**
+     * 指定のモデルを起点とする木を、{@link ParallelModelWalker}を利用して並列に検査する。
+     * <p>
+     * 複数の箇所が制約を満たさない場合、どの箇所についての例外がスローされるかは規定されない。
+     * </p>
+     * @param model 検査するモデル
+     * @param executor タスクを実行する{@link ExecutorService}
+     * @throws InterruptedException 検査の完了を待つ間に割り込まれた場合
+     * @throws IllegalArgumentException 木が制約を満たさない場合、
+     *     または引数に{@code null}が含まれる場合
+     */
+    public static void validate(Model model, ExecutorService executor) throws InterruptedException {
+        if (model == null) {
+            throw new IllegalArgumentException("model must not be null"); //$NON-NLS-1$
+        }
+        if (executor == null) {
+            throw new IllegalArgumentException("executor must not be null"); //$NON-NLS-1$
+        }
+        new ParallelModelWalker(executor).walk(model, new ParallelModelWalker.Reduction<Void>() {
+            @Override
+            public Void newResult() {
+                return null;
+            }
+            @Override
+            public Void accumulate(Void result, Model element) {
+                check(element);
+                return null;
+            }
+            @Override
+            public Void combine(Void left, Void right) {
+                return null;
+            }
+        });
+    }
+
+    private static void check(Model model) {
+        assert model != null;
+        ModelKind kind = model.getModelKind();
+        List<PropertyKind> properties = kind.getProperties();
+        for (int i = 0, n = properties.size(); i < n; i++) {
+            PropertyKind property = properties.get(i);
+            Object value = model.getProperty(property);
+            if (value == null) {
+                if (ModelProperties.isNullable(kind, property) == false) {
+                    throw new IllegalArgumentException(MessageFormat.format(
+                            "{0} must not be null ({1})", //$NON-NLS-1$
+                            property,
+                            kind));
+                }
+            }
+            else if (value instanceof List<?>) {
+                List<?> list = (List<?>) value;
+                if (list.isEmpty() && ModelProperties.isNotEmpty(property)) {
+                    throw new IllegalArgumentException(MessageFormat.format(
+                            "{0} must not be empty ({1})", //$NON-NLS-1$
+                            property,
+                            kind));
+                }
+                for (int j = 0, m = list.size(); j < m; j++) {
+                    if (list.get(j) == null) {
+                        throw new IllegalArgumentException(MessageFormat.format(
+                                "{0} must not contain null ({1})", //$NON-NLS-1$
+                                property,
+                                kind));
+                    }
+                }
+            }
+        }
+        switch (kind) {
+        case SIMPLE_NAME:
+            SimpleNameImpl.checkToken(((SimpleName) model).getToken());
+            break;
+        case LITERAL:
+            LiteralImpl.checkToken(((Literal) model).getToken());
+            break;
+        default:
+            break;
+        }
+    }
+}
@@ -0,0 +1,344 @@
+/*
+ * Copyright 2011 @ashigeru.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package com.ashigeru.lang.java.model.util;
+
+import java.util.Arrays;
+import java.util.List;
+
+import com.ashigeru.lang.java.internal.model.util.ModelProperties;
+import com.ashigeru.lang.java.model.syntax.Model;
+import com.ashigeru.lang.java.model.syntax.ModelKind;
+import com.ashigeru.lang.java.model.syntax.PropertyKind;
+
+/**
+ * 再帰呼び出しを利用せずにモデルの木を走査する。
+ * <p>
+ * 走査の状態は呼び出しスタックではなくこのオブジェクトが保持するため、
+ * 木の深さにかかわらずスタックオーバーフローを起こさない。
+ * </p>
+ * <p>
+ * {@link #next()}を繰り返し呼び出すと、各モデルについて子要素の走査前に{@link Event#ENTER}を、
+ * 走査後に{@link Event#EXIT}をそれぞれ返す。子要素は{@link ModelKind#getProperties()}の順序で、
+ * リストの要素はリスト上の順序でそれぞれ走査され、{@code null}の要素は無視される。
+ * 走査中に個々のイベントを表すオブジェクトは生成されない。
+ * </p>
+ * <p>
+ * コールバックを利用して走査する場合には{@link #walk(Model, Callback)}を利用する。
+ * </p>
+ * @author ashigeru
+ */
+public class ModelWalker {
+
+    private static final int INITIAL_DEPTH = 32;
+
+    private final Model root;
+
+    private Model[] models = new Model[INITIAL_DEPTH];
+
+    private PropertyKind[] properties = new PropertyKind[INITIAL_DEPTH];
+
+    private int[] slots = new int[INITIAL_DEPTH];
+
+    private List<?>[] lists = new List<?>[INITIAL_DEPTH];
+
+    private int[] elements = new int[INITIAL_DEPTH];
+
+    private int depth;
+
+    private PropertyKind nextProperty;
+
+    private Event current;
+
+    private boolean started;
+
+    /**
+     * インスタンスを生成する。
+     * @param root 走査の起点となるモデル
+     * @throws IllegalArgumentException 引数に{@code null}が指定された場合
+     */
+    public ModelWalker(Model root) {
+        if (root == null) {
+            throw new IllegalArgumentException("root must not be null"); //$NON-NLS-1$
+        }
+        this.root = root;
+    }
+
+    /**
+     * 指定のモデルを起点とする木を走査し、それぞれのモデルについてコールバックを呼び出す。
+     * @param <E> コールバックで発生する例外の型
+     * @param root 走査の起点となるモデル
+     * @param callback 呼び出すコールバック
+     * @return 最後まで走査した場合は{@code true}、
+     *     コールバックが{@link Control#ABORT}を返して走査を中断した場合は{@code false}
+     * @throws E コールバックで例外が発生した場合
+     * @throws IllegalArgumentException 引数に{@code null}が含まれる場合
+     */
+    public static <E extends Throwable> boolean walk(
+            Model root,
+            Callback<E> callback) throws E {
+        if (root == null) {
+            throw new IllegalArgumentException("root must not be null"); //$NON-NLS-1$
+        }
+        if (callback == null) {
+            throw new IllegalArgumentException("callback must not be null"); //$NON-NLS-1$
+        }
+        ModelWalker walker = new ModelWalker(root);
+        for (Event event = walker.next(); event != null; event = walker.next()) {
+            Control control;
+            if (event == Event.ENTER) {
+                control = callback.enter(walker.getModel(), walker);
+            }
+            else {
+                control = callback.exit(walker.getModel(), walker);
+            }
+            if (control == Control.ABORT) {
+                return false;
+            }
+            else if (control == Control.SKIP && event == Event.ENTER) {
+                walker.skipChildren();
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 次のイベントに進む。
+     * @return 次のイベント、すでにすべてのモデルを走査した場合は{@code null}
+     */
+    public Event next() {
+        if (started == false) {
+            started = true;
+            push(root, null);
+            return current = Event.ENTER;
+        }
+        if (current == null) {
+            return null;
+        }
+        if (current == Event.EXIT) {
+            pop();
+            if (depth == 0) {
+                return current = null;
+            }
+        }
+        Model child = nextChild();
+        if (child != null) {
+            push(child, nextProperty);
+            return current = Event.ENTER;
+        }
+        return current = Event.EXIT;
+    }
+
+    /**
+     * 現在のモデルの子要素の走査を省略する。
+     * <p>
+     * 直前の{@link #next()}が{@link Event#ENTER}を返していた場合、
+     * 次の{@link #next()}は同じモデルについての{@link Event#EXIT}を返す。
+     * そうでない場合、このメソッドは何も行わない。
+     * </p>
+     */
+    public void skipChildren() {
+        if (current != Event.ENTER) {
+            return;
+        }
+        int top = depth - 1;
+        slots[top] = Integer.MAX_VALUE;
+        lists[top] = null;
+    }
+
+    /**
+     * 直前のイベントの対象となったモデルを返す。
+     * @return 対象のモデル
+     * @throws IllegalStateException 走査が開始されていない場合、または終了している場合
+     */
+    public Model getModel() {
+        checkRunning();
+        return models[depth - 1];
+    }
+
+    /**
+     * 直前のイベントの対象となったモデルの親を返す。
+     * @return 親のモデル、対象のモデルが走査の起点である場合は{@code null}
+     * @throws IllegalStateException 走査が開始されていない場合、または終了している場合
+     */
+    public Model getParent() {
+        checkRunning();
+        return depth >= 2 ? models[depth - 2] : null;
+    }
+
+    /**
+     * 直前のイベントの対象となったモデルを保持する、親のプロパティを返す。
+     * @return 親のプロパティ、対象のモデルが走査の起点である場合は{@code null}
+     * @throws IllegalStateException 走査が開始されていない場合、または終了している場合
+     */
+    public PropertyKind getProperty() {
+        checkRunning();
+        return properties[depth - 1];
+    }
+
+    /**
+     * 直前のイベントの対象となったモデルの深さを返す。
+     * @return 対象のモデルの深さ、走査の起点であれば{@code 0}
+     * @throws IllegalStateException 走査が開始されていない場合、または終了している場合
+     */
+    public int getDepth() {
+        checkRunning();
+        return depth - 1;
+    }
+
+    private void checkRunning() {
+        if (current == null) {
+            throw new IllegalStateException();
+        }
+    }
+
+    private Model nextChild() {
+        int top = depth - 1;
+        Model model = models[top];
+        ModelKind kind = model.getModelKind();
+        int[] childSlots = ModelProperties.getChildSlots(kind);
+        while (slots[top] < childSlots.length) {
+            List<?> list = lists[top];
+            if (list == null) {
+                PropertyKind property = kind.getProperties().get(childSlots[slots[top]]);
+                Object value = model.getProperty(property);
+                if (value instanceof List<?>) {
+                    list = (List<?>) value;
+                    lists[top] = list;
+                    elements[top] = 0;
+                }
+                else {
+                    slots[top]++;
+                    if (value != null) {
+                        nextProperty = property;
+                        return (Model) value;
+                    }
+                    continue;
+                }
+            }
+            while (elements[top] < list.size()) {
+                Object element = list.get(elements[top]++);
+                if (element != null) {
+                    nextProperty = kind.getProperties().get(childSlots[slots[top]]);
+                    return (Model) element;
+                }
+            }
+            lists[top] = null;
+            slots[top]++;
+        }
+        return null;
+    }
+
+    private void push(Model model, PropertyKind property) {
+        if (depth == models.length) {
+            int size = depth * 2;
+            models = Arrays.copyOf(models, size);
+            properties = Arrays.copyOf(properties, size);
+            slots = Arrays.copyOf(slots, size);
+            lists = Arrays.copyOf(lists, size);
+            elements = Arrays.copyOf(elements, size);
+        }
+        models[depth] = model;
+        properties[depth] = property;
+        slots[depth] = 0;
+        lists[depth] = null;
+        elements[depth] = 0;
+        depth++;
+    }
+
+    private void pop() {
+        depth--;
+        models[depth] = null;
+        lists[depth] = null;
+    }
+
+    /**
+     * 走査中のイベント。
+     * @author ashigeru
+     */
+    public enum Event {
+
+        /**
+         * モデルの子要素を走査する前。
+         */
+        ENTER,
+
+        /**
+         * モデルの子要素を走査した後。
+         */
+        EXIT,
+    }
+
+    /**
+     * コールバックが走査の続行方法を指示する。
+     * @author ashigeru
+     */
+    public enum Control {
+
+        /**
+         * 走査を続行する。
+         */
+        CONTINUE,
+
+        /**
+         * 現在のモデルの子要素の走査を省略する。
+         * <p>
+         * {@link Callback#exit(Model, ModelWalker)}から返した場合は{@link #CONTINUE}と同様に扱う。
+         * </p>
+         */
+        SKIP,
+
+        /**
+         * 走査を中断する。
+         */
+        ABORT,
+    }
+
+    /**
+     * {@link ModelWalker#walk(Model, Callback)}から呼び出されるコールバック。
+     * @param <E> コールバックで発生する例外の型
+     * @author ashigeru
+     */
+    public abstract static class Callback<E extends Throwable> {
+
+        /**
+         * モデルの子要素を走査する前に呼び出される。
+         * <p>
+         * 既定の実装では何も行わずに{@link Control#CONTINUE}を返す。
+         * </p>
+         * @param model 対象のモデル
+         * @param walker 走査中の状態
+         * @return 走査の続行方法
+         * @throws E 処理中に例外が発生した場合
+         */
+        public Control enter(Model model, ModelWalker walker) throws E {
+            return Control.CONTINUE;
+        }
+
+        /**
+         * モデルの子要素を走査した後に呼び出される。
+         * <p>
+         * 既定の実装では何も行わずに{@link Control#CONTINUE}を返す。
+         * </p>
+         * @param model 対象のモデル
+         * @param walker 走査中の状態
+         * @return 走査の続行方法
+         * @throws E 処理中に例外が発生した場合
+         */
+        public Control exit(Model model, ModelWalker walker) throws E {
+            return Control.CONTINUE;
+        }
+    }
+}
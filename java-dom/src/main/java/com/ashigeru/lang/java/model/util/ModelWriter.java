@@ -0,0 +1,302 @@
+/*
+ * Copyright 2011 @ashigeru.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package com.ashigeru.lang.java.model.util;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.ashigeru.lang.java.model.syntax.Model;
+import com.ashigeru.lang.java.model.syntax.ModelKind;
+import com.ashigeru.lang.java.model.syntax.PropertyKind;
+
+/**
+ * {@link Model}をバイナリ形式でチャネルに書き出す。
+ * <p>
+ * 書き出したモデルは{@link ModelReader}で読み出せる。
+ * 形式は{@link ModelKind}と{@link PropertyKind}の定義順序に依存するため、
+ * 同じバージョンのライブラリ間でのみ互換性がある。
+ * </p>
+ * <p>
+ * 形式の概要は次の通りである。
+ * </p>
+ * <ul>
+ *   <li> 先頭にマジックナンバー、形式のバージョン、モデルとプロパティの種類数、
+ *        およびモデルとプロパティの定義から計算したハッシュ値 </li>
+ *   <li> 各モデルは{@code ModelKind.ordinal() + 1}を可変長整数で表し({@code null}は{@code 0})、
+ *        続けて{@link ModelKind#getProperties()}の順に各プロパティの値を並べる </li>
+ *   <li> リストは要素数に続けて各要素を並べ、列挙定数は{@code ordinal() + 1}、
+ *        整数はジグザグ符号化した可変長整数で表す </li>
+ *   <li> 文字列はストリーム全体で共有される表に登録され、二回目以降は表の番号のみで表す </li>
+ *   <li> モデル、列挙定数、文字列の{@code null}はいずれも{@code 0}で表す </li>
+ * </ul>
+ * @author ashigeru
+ * @see ModelReader
+ */
+public class ModelWriter implements Flushable, Closeable {
+
+    private static final int INITIAL_DEPTH = 32;
+
+    private final WritableByteChannel channel;
+
+    private final ByteBuffer buffer;
+
+    private final Map<String, Integer> strings = new HashMap<String, Integer>();
+
+    private Model[] models = new Model[INITIAL_DEPTH];
+
+    private int[] slots = new int[INITIAL_DEPTH];
+
+    private List<?>[] lists = new List<?>[INITIAL_DEPTH];
+
+    private int[] elements = new int[INITIAL_DEPTH];
+
+    private boolean started;
+
+    /**
+     * インスタンスを生成する。
+     * @param channel 出力先のチャネル
+     * @throws IllegalArgumentException 引数に{@code null}が指定された場合
+     */
+    public ModelWriter(WritableByteChannel channel) {
+        this(channel, ModelCodec.DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * インスタンスを生成する。
+     * @param channel 出力先のチャネル
+     * @param bufferSize バッファのバイト数
+     * @throws IllegalArgumentException 引数に{@code null}が指定された場合、
+     *     またはバッファのサイズが小さすぎる場合
+     */
+    public ModelWriter(WritableByteChannel channel, int bufferSize) {
+        if (channel == null) {
+            throw new IllegalArgumentException("channel must not be null"); //$NON-NLS-1$
+        }
+        if (bufferSize < 8 + ModelCodec.MAX_VARINT_SIZE * 3) {
+            throw new IllegalArgumentException("bufferSize is too small"); //$NON-NLS-1$
+        }
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocate(bufferSize);
+    }
+
+    /**
+     * 指定のモデルを書き出す。
+     * <p>
+     * 書き出された内容は、{@link #flush()}または{@link #close()}を呼び出すまで
+     * チャネルに反映されない場合がある。
+     * </p>
+     * @param model 書き出すモデル
+     * @throws IOException 書き出しに失敗した場合
+     * @throws IllegalArgumentException 引数に{@code null}が指定された場合
+     */
+    public void write(Model model) throws IOException {
+        if (model == null) {
+            throw new IllegalArgumentException("model must not be null"); //$NON-NLS-1$
+        }
+        if (started == false) {
+            writeHeader();
+            started = true;
+        }
+        writeModel(model);
+    }
+
+    private void writeHeader() throws IOException {
+        ensure(8 + ModelCodec.MAX_VARINT_SIZE * 3);
+        buffer.putInt(ModelCodec.MAGIC);
+        writeVarint(ModelCodec.VERSION);
+        writeVarint(ModelKind.values().length);
+        writeVarint(PropertyKind.values().length);
+        buffer.putInt(ModelCodec.SCHEMA_HASH);
+    }
+
+    /**
+     * 指定のモデルを起点とする木を書き出す。
+     * <p>
+     * 書き出し途中のモデルを明示的なスタックに積むため、木の深さにかかわらず再帰呼び出しを行わない。
+     * スタックの各段は、書き出し中のモデル、次に書き出すプロパティの位置、
+     * および書き出し中のリストとその次の要素の位置を保持する。
+     * </p>
+     * @param root 書き出すモデル
+     * @throws IOException 書き出しに失敗した場合
+     */
+    private void writeModel(Model root) throws IOException {
+        assert root != null;
+        writeTag(root);
+        int depth = 0;
+        push(depth++, root);
+        while (depth > 0) {
+            int top = depth - 1;
+            List<?> list = lists[top];
+            if (list != null) {
+                int element = elements[top];
+                if (element < list.size()) {
+                    elements[top] = element + 1;
+                    Model child = (Model) list.get(element);
+                    if (writeTag(child)) {
+                        push(depth++, child);
+                    }
+                    continue;
+                }
+                lists[top] = null;
+            }
+            Model model = models[top];
+            List<PropertyKind> properties = model.getModelKind().getProperties();
+            int slot = slots[top];
+            if (slot == properties.size()) {
+                models[top] = null;
+                depth--;
+                continue;
+            }
+            slots[top] = slot + 1;
+            PropertyKind property = properties.get(slot);
+            Object value = model.getProperty(property);
+            switch (ModelCodec.getValueKind(property)) {
+            case MODEL:
+                if (writeTag((Model) value)) {
+                    push(depth++, (Model) value);
+                }
+                break;
+            case LIST:
+                writeVarint(((List<?>) value).size());
+                lists[top] = (List<?>) value;
+                elements[top] = 0;
+                break;
+            default:
+                writeValue(property, value);
+                break;
+            }
+        }
+    }
+
+    private boolean writeTag(Model model) throws IOException {
+        if (model == null) {
+            writeVarint(0);
+            return false;
+        }
+        writeVarint(model.getModelKind().ordinal() + 1);
+        return true;
+    }
+
+    private void push(int index, Model model) {
+        if (index == models.length) {
+            int size = models.length * 2;
+            models = Arrays.copyOf(models, size);
+            slots = Arrays.copyOf(slots, size);
+            lists = Arrays.copyOf(lists, size);
+            elements = Arrays.copyOf(elements, size);
+        }
+        models[index] = model;
+        slots[index] = 0;
+        lists[index] = null;
+        elements[index] = 0;
+    }
+
+    private void writeValue(PropertyKind property, Object value) throws IOException {
+        switch (ModelCodec.getValueKind(property)) {
+        case ENUM:
+            writeVarint(value == null ? 0 : ((Enum<?>) value).ordinal() + 1);
+            break;
+        case INT: {
+            int intValue = (Integer) value;
+            writeVarint((intValue << 1) ^ (intValue >> 31));
+            break;
+        }
+        case BOOLEAN:
+            writeVarint((Boolean) value ? 1 : 0);
+            break;
+        case STRING:
+            writeString((String) value);
+            break;
+        default:
+            throw new AssertionError(property);
+        }
+    }
+
+    private void writeString(String value) throws IOException {
+        if (value == null) {
+            writeVarint(0);
+            return;
+        }
+        Integer index = strings.get(value);
+        if (index != null) {
+            writeVarint((index + 1) << 1);
+            return;
+        }
+        strings.put(value, strings.size());
+        byte[] bytes = value.getBytes(ModelCodec.ENCODING);
+        writeVarint((bytes.length << 1) | 1);
+        if (bytes.length <= buffer.capacity()) {
+            ensure(bytes.length);
+            buffer.put(bytes);
+        }
+        else {
+            drain();
+            ByteBuffer direct = ByteBuffer.wrap(bytes);
+            while (direct.hasRemaining()) {
+                channel.write(direct);
+            }
+        }
+    }
+
+    private void writeVarint(int value) throws IOException {
+        ensure(ModelCodec.MAX_VARINT_SIZE);
+        int rest = value;
+        while ((rest & ~0x7f) != 0) {
+            buffer.put((byte) ((rest & 0x7f) | 0x80));
+            rest >>>= 7;
+        }
+        buffer.put((byte) rest);
+    }
+
+    private void ensure(int size) throws IOException {
+        if (buffer.remaining() < size) {
+            drain();
+        }
+    }
+
+    private void drain() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    @Override
+    public void flush() throws IOException {
+        drain();
+    }
+
+    /**
+     * 残りの内容を書き出した後に、出力先のチャネルを閉じる。
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            drain();
+        }
+        finally {
+            channel.close();
+        }
+    }
+}
@@ -17,15 +17,13 @@ package com.ashigeru.lang.java.model.util;
 
 import java.io.PrintWriter;
 import java.text.MessageFormat;
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 
+import com.ashigeru.lang.java.internal.model.syntax.FrozenList;
+import com.ashigeru.lang.java.internal.model.syntax.InterningModelFactoryImpl;
 import com.ashigeru.lang.java.internal.model.syntax.ModelFactoryImpl;
-import com.ashigeru.lang.java.internal.model.util.LiteralAnalyzer;
 import com.ashigeru.lang.java.internal.model.util.ModelEmitter;
 import com.ashigeru.lang.java.internal.model.util.ReflectionTypeMapper;
 import com.ashigeru.lang.java.model.syntax.ArrayInitializer;
@@ -35,9 +33,7 @@ import com.ashigeru.lang.java.model.syntax.Expression;
 import com.ashigeru.lang.java.model.syntax.Literal;
 import com.ashigeru.lang.java.model.syntax.Model;
 import com.ashigeru.lang.java.model.syntax.ModelFactory;
-import com.ashigeru.lang.java.model.syntax.ModelKind;
 import com.ashigeru.lang.java.model.syntax.Name;
-import com.ashigeru.lang.java.model.syntax.QualifiedName;
 import com.ashigeru.lang.java.model.syntax.SimpleName;
 import com.ashigeru.lang.java.model.syntax.Type;
 
@@ -47,6 +43,8 @@ import com.ashigeru.lang.java.model.syntax.Type;
  */
 public class Models {
 
+    private static final ReflectionTypeMapper TYPE_MAPPER = new ReflectionTypeMapper();
+
     private static final Map<Class<?>, BasicTypeKind> WRAPPER_TYPE_KINDS;
     static {
         Map<Class<?>, BasicTypeKind> map = new HashMap<Class<?>, BasicTypeKind>();
@@ -69,10 +67,53 @@ public class Models {
         return new ModelFactoryImpl();
     }
 
+    /**
+     * 引数の検査を行わずに{@link Model}の実装を生成するファクトリを返す。
+     * <p>
+     * 返されるファクトリは、不正な引数が指定された場合でも例外をスローせずにモデルを生成する。
+     * 生成したモデルは、必要に応じて{@link ModelValidator}を利用して一括して検査すること。
+     * </p>
+     * @return 生成したファクトリ
+     */
+    public static ModelFactory getTrustedModelFactory() {
+        return new ModelFactoryImpl(true);
+    }
+
+    /**
+     * 構造の等しい名前や型などのモデルを共有するファクトリを返す。
+     * <p>
+     * 返されるファクトリは、単純名、限定名、名前付きの型、基本型、修飾子について、
+     * 構造が等しいモデルを要求された場合に同一のインスタンスを返す。
+     * 共有されたモデルに登録したトレイトは、そのモデルを共有するすべての箇所から参照される点に注意が必要である。
+     * </p>
+     * <p>
+     * 共有されるモデルは弱参照で管理されるため、利用されなくなったモデルは通常通り回収される。
+     * </p>
+     * @return 生成したファクトリ
+     */
+    public static ModelFactory getInterningModelFactory() {
+        return new InterningModelFactoryImpl();
+    }
+
+    /**
+     * 構造の等しい名前や型などのモデルを共有するファクトリを返す。
+     * @param capacity 共有するモデルの最大数
+     * @return 生成したファクトリ
+     * @throws IllegalArgumentException 引数に負の値が指定された場合
+     * @see #getInterningModelFactory()
+     */
+    public static ModelFactory getInterningModelFactory(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("capacity must not be negative"); //$NON-NLS-1$
+        }
+        return new InterningModelFactoryImpl(capacity);
+    }
+
     /**
      * 指定の名前を単純名のリストに変換して返す。
      * <p>
      * 返されるリストは、表記と同様の順序に整列される。
+     * これは{@link Name#toNameList()}と同等である。
      * </p>
      * @param name 変換する名前
      * @return 変換後の名前
@@ -82,24 +123,7 @@ public class Models {
         if (name == null) {
             throw new IllegalArgumentException("name must not be null"); //$NON-NLS-1$
         }
-        ModelKind kind = name.getModelKind();
-        if (kind == ModelKind.SIMPLE_NAME) {
-            return Collections.singletonList((SimpleName) name);
-        }
-        else {
-            LinkedList<SimpleName> result = new LinkedList<SimpleName>();
-            Name current = name;
-            do {
-                QualifiedName qname = (QualifiedName) current;
-                result.addFirst(qname.getSimpleName());
-                current = qname.getQualifier();
-            } while (current.getModelKind() == ModelKind.QUALIFIED_NAME);
-
-            assert current.getModelKind() == ModelKind.SIMPLE_NAME;
-            result.addFirst((SimpleName) current);
-
-            return result;
-        }
+        return name.toNameList();
     }
 
     /**
@@ -182,6 +206,10 @@ public class Models {
 
     /**
      * リフレクションAPIの型の表現を、モデルの型の表現に変換して返す。
+     * <p>
+     * {@link #getInterningModelFactory()}で生成したファクトリを指定した場合、
+     * 変換結果はファクトリごとにクラス単位で保持され、同じクラスに対しては同一のモデルを返す。
+     * </p>
      * @param factory 利用するファクトリ
      * @param type 変換対象の型
      * @return 変換後のモデル
@@ -194,7 +222,10 @@ public class Models {
         if (type == null) {
             throw new IllegalArgumentException("type must not be null"); //$NON-NLS-1$
         }
-        return new ReflectionTypeMapper().dispatch(type, factory);
+        if (factory instanceof InterningModelFactoryImpl) {
+            return ((InterningModelFactoryImpl) factory).newType(type);
+        }
+        return TYPE_MAPPER.dispatch(type, factory);
     }
 
     /**
@@ -202,6 +233,10 @@ public class Models {
      * <p>
      * 名前として正しいかどうかについては検証を行わない。
      * </p>
+     * <p>
+     * {@link #getInterningModelFactory()}で生成したファクトリを指定した場合、
+     * 同じ文字列に対しては共有された同一の名前を返す。
+     * </p>
      * @param factory 利用するファクトリ
      * @param nameString 変換対象の文字列
      * @return 変換後の名前
@@ -214,18 +249,72 @@ public class Models {
         if (nameString == null) {
             throw new IllegalArgumentException("nameString must not be null"); //$NON-NLS-1$
         }
-        String[] segments = nameString.trim().split("\\s*\\.\\s*"); //$NON-NLS-1$
-        if (segments.length == 0 || segments[0].length() == 0) {
-            throw new IllegalArgumentException("nameString is empty"); //$NON-NLS-1$
-        }
-        Name left = factory.newSimpleName(segments[0]);
-        for (int i = 1; i < segments.length; i++) {
-            SimpleName right = factory.newSimpleName(segments[i]);
+        String normalized = normalizeName(nameString);
+        if (factory instanceof InterningModelFactoryImpl) {
+            return ((InterningModelFactoryImpl) factory).newName(normalized);
+        }
+        int start = 0;
+        int end = normalized.indexOf('.');
+        if (end < 0) {
+            return factory.newSimpleName(normalized);
+        }
+        Name left = factory.newSimpleName(normalized.substring(start, end));
+        while (end >= 0) {
+            start = end + 1;
+            end = normalized.indexOf('.', start);
+            SimpleName right = factory.newSimpleName(end < 0
+                    ? normalized.substring(start)
+                    : normalized.substring(start, end));
             left = factory.newQualifiedName(left, right);
         }
         return left;
     }
 
+    /**
+     * 名前を表す文字列から、区切りの前後の空白と末尾の区切りを取り除く。
+     * @param nameString 対象の文字列
+     * @return 空白を含まないドット区切りの文字列、取り除くものがない場合は引数そのもの
+     * @throws IllegalArgumentException 名前が空である場合
+     */
+    private static String normalizeName(String nameString) {
+        assert nameString != null;
+        String trimmed = nameString.trim();
+        boolean plain = true;
+        for (int i = 0, n = trimmed.length(); i < n; i++) {
+            if (Character.isWhitespace(trimmed.charAt(i))) {
+                plain = false;
+                break;
+            }
+        }
+        String result;
+        if (plain) {
+            result = trimmed;
+        }
+        else {
+            StringBuilder buf = new StringBuilder(trimmed.length());
+            int start = 0;
+            while (true) {
+                int end = trimmed.indexOf('.', start);
+                if (end < 0) {
+                    buf.append(trimmed.substring(start).trim());
+                    break;
+                }
+                buf.append(trimmed.substring(start, end).trim());
+                buf.append('.');
+                start = end + 1;
+            }
+            result = buf.toString();
+        }
+        int length = result.length();
+        while (length > 0 && result.charAt(length - 1) == '.') {
+            length--;
+        }
+        if (length == 0 || result.charAt(0) == '.') {
+            throw new IllegalArgumentException("nameString is empty"); //$NON-NLS-1$
+        }
+        return length == result.length() ? result : result.substring(0, length);
+    }
+
     /**
      * 指定の定数を完全限定名に変換する。
      * @param factory 利用するファクトリ
@@ -257,10 +346,9 @@ public class Models {
         if (factory == null) {
             throw new IllegalArgumentException("factory must not be null"); //$NON-NLS-1$
         }
-        String token = LiteralAnalyzer.intLiteralOf(value);
         return factory.newCastExpression(
             factory.newBasicType(BasicTypeKind.BYTE),
-            factory.newLiteral(token));
+            factory.newIntLiteral(value));
     }
 
     /**
@@ -274,10 +362,9 @@ public class Models {
         if (factory == null) {
             throw new IllegalArgumentException("factory must not be null"); //$NON-NLS-1$
         }
-        String token = LiteralAnalyzer.intLiteralOf(value);
         return factory.newCastExpression(
             factory.newBasicType(BasicTypeKind.SHORT),
-            factory.newLiteral(token));
+            factory.newIntLiteral(value));
     }
 
     /**
@@ -291,8 +378,7 @@ public class Models {
         if (factory == null) {
             throw new IllegalArgumentException("factory must not be null"); //$NON-NLS-1$
         }
-        String token = LiteralAnalyzer.intLiteralOf(value);
-        return factory.newLiteral(token);
+        return factory.newIntLiteral(value);
     }
 
     /**
@@ -306,8 +392,7 @@ public class Models {
         if (factory == null) {
             throw new IllegalArgumentException("factory must not be null"); //$NON-NLS-1$
         }
-        String token = LiteralAnalyzer.longLiteralOf(value);
-        return factory.newLiteral(token);
+        return factory.newLongLiteral(value);
     }
 
     /**
@@ -321,8 +406,7 @@ public class Models {
         if (factory == null) {
             throw new IllegalArgumentException("factory must not be null"); //$NON-NLS-1$
         }
-        String token = LiteralAnalyzer.floatLiteralOf(value);
-        return factory.newLiteral(token);
+        return factory.newFloatLiteral(value);
     }
 
     /**
@@ -336,8 +420,7 @@ public class Models {
         if (factory == null) {
             throw new IllegalArgumentException("factory must not be null"); //$NON-NLS-1$
         }
-        String token = LiteralAnalyzer.doubleLiteralOf(value);
-        return factory.newLiteral(token);
+        return factory.newDoubleLiteral(value);
     }
 
     /**
@@ -351,8 +434,7 @@ public class Models {
         if (factory == null) {
             throw new IllegalArgumentException("factory must not be null"); //$NON-NLS-1$
         }
-        String token = LiteralAnalyzer.booleanLiteralOf(value);
-        return factory.newLiteral(token);
+        return factory.newBooleanLiteral(value);
     }
 
     /**
@@ -366,8 +448,7 @@ public class Models {
         if (factory == null) {
             throw new IllegalArgumentException("factory must not be null"); //$NON-NLS-1$
         }
-        String token = LiteralAnalyzer.charLiteralOf(value);
-        return factory.newLiteral(token);
+        return factory.newCharLiteral(value);
     }
 
     /**
@@ -384,8 +465,7 @@ public class Models {
         if (value == null) {
             throw new IllegalArgumentException("value must not be null"); //$NON-NLS-1$
         }
-        String token = LiteralAnalyzer.stringLiteralOf(value);
-        return factory.newLiteral(token);
+        return factory.newStringLiteral(value);
     }
 
     /**
@@ -469,8 +549,7 @@ public class Models {
         if (factory == null) {
             throw new IllegalArgumentException("factory must not be null"); //$NON-NLS-1$
         }
-        String token = LiteralAnalyzer.nullLiteral();
-        return factory.newLiteral(token);
+        return factory.newNullLiteral();
     }
 
     /**
@@ -489,11 +568,11 @@ public class Models {
         if (array == null) {
             throw new IllegalArgumentException("array must not be null"); //$NON-NLS-1$
         }
-        List<Expression> literals = new ArrayList<Expression>();
+        FrozenList.Builder<Expression> literals = new FrozenList.Builder<Expression>(array.length);
         for (int value : array) {
             literals.add(Models.toLiteral(factory, value));
         }
-        return factory.newArrayInitializer(literals);
+        return factory.newArrayInitializer(literals.toList());
     }
 
     /**
@@ -512,11 +591,11 @@ public class Models {
         if (array == null) {
             throw new IllegalArgumentException("array must not be null"); //$NON-NLS-1$
         }
-        List<Expression> literals = new ArrayList<Expression>();
+        FrozenList.Builder<Expression> literals = new FrozenList.Builder<Expression>(array.length);
         for (float value : array) {
             literals.add(Models.toLiteral(factory, value));
         }
-        return factory.newArrayInitializer(literals);
+        return factory.newArrayInitializer(literals.toList());
     }
 
     /**
@@ -535,11 +614,11 @@ public class Models {
         if (array == null) {
             throw new IllegalArgumentException("array must not be null"); //$NON-NLS-1$
         }
-        List<Expression> literals = new ArrayList<Expression>();
+        FrozenList.Builder<Expression> literals = new FrozenList.Builder<Expression>(array.length);
         for (long value : array) {
             literals.add(Models.toLiteral(factory, value));
         }
-        return factory.newArrayInitializer(literals);
+        return factory.newArrayInitializer(literals.toList());
     }
 
     /**
@@ -558,11 +637,11 @@ public class Models {
         if (array == null) {
             throw new IllegalArgumentException("array must not be null"); //$NON-NLS-1$
         }
-        List<Expression> literals = new ArrayList<Expression>();
+        FrozenList.Builder<Expression> literals = new FrozenList.Builder<Expression>(array.length);
         for (double value : array) {
             literals.add(Models.toLiteral(factory, value));
         }
-        return factory.newArrayInitializer(literals);
+        return factory.newArrayInitializer(literals.toList());
     }
 
     /**
@@ -581,11 +660,11 @@ public class Models {
         if (array == null) {
             throw new IllegalArgumentException("array must not be null"); //$NON-NLS-1$
         }
-        List<Expression> literals = new ArrayList<Expression>();
+        FrozenList.Builder<Expression> literals = new FrozenList.Builder<Expression>(array.length);
         for (char value : array) {
             literals.add(Models.toLiteral(factory, value));
         }
-        return factory.newArrayInitializer(literals);
+        return factory.newArrayInitializer(literals.toList());
     }
 
     /**
@@ -604,11 +683,11 @@ public class Models {
         if (array == null) {
             throw new IllegalArgumentException("array must not be null"); //$NON-NLS-1$
         }
-        List<Expression> literals = new ArrayList<Expression>();
+        FrozenList.Builder<Expression> literals = new FrozenList.Builder<Expression>(array.length);
         for (boolean value : array) {
             literals.add(Models.toLiteral(factory, value));
         }
-        return factory.newArrayInitializer(literals);
+        return factory.newArrayInitializer(literals.toList());
     }
 
     /**
@@ -627,11 +706,11 @@ public class Models {
         if (array == null) {
             throw new IllegalArgumentException("array must not be null"); //$NON-NLS-1$
         }
-        List<Expression> literals = new ArrayList<Expression>();
+        FrozenList.Builder<Expression> literals = new FrozenList.Builder<Expression>(array.length);
         for (byte value : array) {
             literals.add(Models.toLiteral(factory, value));
         }
-        return factory.newArrayInitializer(literals);
+        return factory.newArrayInitializer(literals.toList());
     }
 
     /**
@@ -650,11 +729,11 @@ public class Models {
         if (array == null) {
             throw new IllegalArgumentException("array must not be null"); //$NON-NLS-1$
         }
-        List<Expression> literals = new ArrayList<Expression>();
+        FrozenList.Builder<Expression> literals = new FrozenList.Builder<Expression>(array.length);
         for (short value : array) {
             literals.add(Models.toLiteral(factory, value));
         }
-        return factory.newArrayInitializer(literals);
+        return factory.newArrayInitializer(literals.toList());
     }
 
     /**
@@ -673,7 +752,7 @@ public class Models {
         if (array == null) {
             throw new IllegalArgumentException("array must not be null"); //$NON-NLS-1$
         }
-        List<Expression> literals = new ArrayList<Expression>();
+        FrozenList.Builder<Expression> literals = new FrozenList.Builder<Expression>(array.length);
         for (String value : array) {
             if (value == null) {
                 literals.add(Models.toNullLiteral(factory));
@@ -682,7 +761,7 @@ public class Models {
                 literals.add(Models.toLiteral(factory, value));
             }
         }
-        return factory.newArrayInitializer(literals);
+        return factory.newArrayInitializer(literals.toList());
     }
 
     /**
@@ -701,7 +780,7 @@ public class Models {
         if (array == null) {
             throw new IllegalArgumentException("array must not be null"); //$NON-NLS-1$
         }
-        List<Expression> literals = new ArrayList<Expression>();
+        FrozenList.Builder<Expression> literals = new FrozenList.Builder<Expression>(array.length);
         for (java.lang.reflect.Type value : array) {
             if (value == null) {
                 literals.add(Models.toNullLiteral(factory));
@@ -710,7 +789,7 @@ public class Models {
                 literals.add(Models.toClassLiteral(factory, value));
             }
         }
-        return factory.newArrayInitializer(literals);
+        return factory.newArrayInitializer(literals.toList());
     }
 
     private Models() {
@@ -0,0 +1,243 @@
+/*
+ * Copyright 2011 @ashigeru.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package com.ashigeru.lang.java.model.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import com.ashigeru.lang.java.model.syntax.Model;
+import com.ashigeru.lang.java.model.syntax.TypeBodyDeclaration;
+import com.ashigeru.lang.java.model.syntax.TypeDeclaration;
+import com.ashigeru.lang.java.model.util.ModelWalker.Event;
+
+/**
+ * モデルの木を複数のスレッドで並列に走査し、各モデルに対する処理の結果を集約する。
+ * <p>
+ * 木は{@link TypeDeclaration}や{@link TypeBodyDeclaration}を境界とする領域に分割され、
+ * それぞれの領域は{@link ExecutorService}上の独立したタスクとして処理される。
+ * 境界のうち、その内側に分割されずに残るモデルの個数が閾値未満のものは親の領域にまとめられるため、
+ * 小さな宣言ごとにタスクが生成されることはない。
+ * </p>
+ * <p>
+ * 分割は呼び出し元のスレッドで先に行われ、各タスクは互いの完了を待たない。
+ * そのため、スレッド数に上限のある{@link ExecutorService}を利用してもデッドロックは起こらない。
+ * </p>
+ * <p>
+ * 走査の対象となる木は、走査中に変更してはならない。
+ * </p>
+ * @author ashigeru
+ */
+public class ParallelModelWalker {
+
+    /**
+     * 既定の分割の閾値。
+     */
+    public static final int DEFAULT_THRESHOLD = 1000;
+
+    private final ExecutorService executor;
+
+    private final int threshold;
+
+    /**
+     * インスタンスを生成する。
+     * @param executor タスクを実行する{@link ExecutorService}
+     * @throws IllegalArgumentException 引数に{@code null}が指定された場合
+     */
+    public ParallelModelWalker(ExecutorService executor) {
+        this(executor, DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * インスタンスを生成する。
+     * @param executor タスクを実行する{@link ExecutorService}
+     * @param threshold 領域を分割する閾値 (モデルの個数)
+     * @throws IllegalArgumentException 引数に{@code null}が指定された場合、
+     *     または閾値が正の整数でない場合
+     */
+    public ParallelModelWalker(ExecutorService executor, int threshold) {
+        if (executor == null) {
+            throw new IllegalArgumentException("executor must not be null"); //$NON-NLS-1$
+        }
+        if (threshold <= 0) {
+            throw new IllegalArgumentException("threshold must be positive"); //$NON-NLS-1$
+        }
+        this.executor = executor;
+        this.threshold = threshold;
+    }
+
+    /**
+     * 指定のモデルを起点とする木のすべてのモデルについて処理を行い、その結果を集約して返す。
+     * <p>
+     * {@link Reduction}の各メソッドは複数のスレッドから同時に呼び出される。
+     * ただし、同一の結果オブジェクトが複数のスレッドから同時に操作されることはない。
+     * </p>
+     * @param <R> 結果の型
+     * @param root 走査の起点となるモデル
+     * @param reduction 各モデルに対する処理と結果の集約方法
+     * @return 集約した結果
+     * @throws InterruptedException 処理の完了を待つ間に割り込まれた場合
+     * @throws IllegalArgumentException 引数に{@code null}が含まれる場合
+     */
+    public <R> R walk(Model root, final Reduction<R> reduction) throws InterruptedException {
+        if (root == null) {
+            throw new IllegalArgumentException("root must not be null"); //$NON-NLS-1$
+        }
+        if (reduction == null) {
+            throw new IllegalArgumentException("reduction must not be null"); //$NON-NLS-1$
+        }
+        final Map<Model, Boolean> boundaries = new IdentityHashMap<Model, Boolean>();
+        List<Model> regions = partition(root, boundaries);
+        if (regions.size() == 1) {
+            return process(root, boundaries, reduction);
+        }
+        List<Future<R>> futures = new ArrayList<Future<R>>(regions.size());
+        try {
+            for (final Model region : regions) {
+                futures.add(executor.submit(new Callable<R>() {
+                    @Override
+                    public R call() {
+                        return process(region, boundaries, reduction);
+                    }
+                }));
+            }
+            R result = get(futures.get(0));
+            for (int i = 1, n = futures.size(); i < n; i++) {
+                result = reduction.combine(result, get(futures.get(i)));
+            }
+            return result;
+        }
+        finally {
+            for (Future<R> future : futures) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    private static <R> R get(Future<R> future) throws InterruptedException {
+        try {
+            return future.get();
+        }
+        catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    /**
+     * 指定の木を領域に分割する。
+     * @param root 木の起点
+     * @param boundaries 起点以外の各領域の起点を格納するマップ
+     * @return 各領域の起点の一覧 (先頭は{@code root})
+     */
+    private List<Model> partition(Model root, Map<Model, Boolean> boundaries) {
+        List<Model> regions = new ArrayList<Model>();
+        regions.add(root);
+        int[] sizes = new int[32];
+        ModelWalker walker = new ModelWalker(root);
+        for (Event event = walker.next(); event != null; event = walker.next()) {
+            int depth = walker.getDepth();
+            if (event == Event.ENTER) {
+                if (depth == sizes.length) {
+                    sizes = Arrays.copyOf(sizes, sizes.length * 2);
+                }
+                sizes[depth] = 1;
+                continue;
+            }
+            int size = sizes[depth];
+            Model model = walker.getModel();
+            if (depth > 0
+                    && size >= threshold
+                    && model instanceof TypeBodyDeclaration) {
+                boundaries.put(model, Boolean.TRUE);
+                regions.add(model);
+            }
+            else if (depth > 0) {
+                sizes[depth - 1] += size;
+            }
+        }
+        return regions;
+    }
+
+    private static <R> R process(Model region, Map<Model, Boolean> boundaries, Reduction<R> reduction) {
+        R result = reduction.newResult();
+        ModelWalker walker = new ModelWalker(region);
+        for (Event event = walker.next(); event != null; event = walker.next()) {
+            if (event != Event.ENTER) {
+                continue;
+            }
+            Model model = walker.getModel();
+            if (model != region && boundaries.containsKey(model)) {
+                walker.skipChildren();
+                continue;
+            }
+            result = reduction.accumulate(result, model);
+        }
+        return result;
+    }
+
+    /**
+     * 各モデルに対する処理と、その結果の集約方法。
+     * <p>
+     * 結果を結合する順序は木の上の順序と一致しないため、
+     * {@link #combine(Object, Object)}は結合的かつ可換でなければならない。
+     * </p>
+     * @param <R> 結果の型
+     * @author ashigeru
+     */
+    public abstract static class Reduction<R> {
+
+        /**
+         * 一つの領域の処理を開始する際に、空の結果を生成して返す。
+         * @return 空の結果
+         */
+        public abstract R newResult();
+
+        /**
+         * 指定のモデルを処理し、その結果を指定の結果に加えて返す。
+         * <p>
+         * 引数に指定された結果オブジェクトを変更して返してもよい。
+         * </p>
+         * @param result これまでの結果
+         * @param model 処理対象のモデル
+         * @return 処理後の結果
+         */
+        public abstract R accumulate(R result, Model model);
+
+        /**
+         * 二つの領域の結果を結合して返す。
+         * <p>
+         * 引数に指定された結果オブジェクトを変更して返してもよい。
+         * </p>
+         * @param left 一方の結果
+         * @param right もう一方の結果
+         * @return 結合した結果
+         */
+        public abstract R combine(R left, R right);
+    }
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright 2011 @ashigeru.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package com.ashigeru.lang.java.internal.model.syntax;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+
+import org.junit.Test;
+
+/**
+ * {@link FrozenList}のテスト。
+ */
+public class FrozenListTest {
+
+    /**
+     * それぞれの要素数のリストが{@link ArrayList}と等価にふるまう。
+     */
+    @Test
+    public void equivalence() {
+        for (int size = 0; size <= 5; size++) {
+            List<String> expected = elements(size);
+            check(FrozenList.copyOf(expected), expected);
+            check(FrozenList.copyOf(expected.toArray(new String[size])), expected);
+            check(FrozenList.<String>adopt(expected.toArray()), expected);
+
+            FrozenList.Builder<String> builder = new FrozenList.Builder<String>(2);
+            for (String element : expected) {
+                builder.add(element);
+            }
+            check(builder.toList(), expected);
+        }
+    }
+
+    /**
+     * 要素数に応じて共有の空リストやコピーの省略が行われる。
+     */
+    @Test
+    public void copyOf() {
+        assertThat(FrozenList.copyOf(new ArrayList<String>()), sameInstance(FrozenList.<String>of()));
+        FrozenList<String> list = FrozenList.copyOf(elements(3));
+        assertThat(FrozenList.copyOf(list), sameInstance(list));
+
+        String[] array = { "a", "b", "c" };
+        FrozenList<String> copy = FrozenList.copyOf(array);
+        array[0] = "x";
+        assertThat(copy.get(0), is("a"));
+
+        Object[] raw = copy.toArray();
+        raw[0] = "x";
+        assertThat(copy.get(0), is("a"));
+    }
+
+    /**
+     * リストを変更できない。
+     */
+    @Test
+    public void immutable() {
+        for (int size = 0; size <= 3; size++) {
+            List<String> list = FrozenList.copyOf(elements(size));
+            try {
+                list.add("x");
+                fail();
+            }
+            catch (UnsupportedOperationException e) {
+                // ok.
+            }
+            if (size == 0) {
+                continue;
+            }
+            try {
+                list.set(0, "x");
+                fail();
+            }
+            catch (UnsupportedOperationException e) {
+                // ok.
+            }
+            try {
+                list.remove(0);
+                fail();
+            }
+            catch (UnsupportedOperationException e) {
+                // ok.
+            }
+            try {
+                list.clear();
+                fail();
+            }
+            catch (UnsupportedOperationException e) {
+                // ok.
+            }
+            Iterator<String> iter = list.iterator();
+            iter.next();
+            try {
+                iter.remove();
+                fail();
+            }
+            catch (UnsupportedOperationException e) {
+                // ok.
+            }
+        }
+    }
+
+    /**
+     * 範囲外の要素を参照する。
+     */
+    @Test
+    public void outOfBounds() {
+        for (int size = 0; size <= 3; size++) {
+            List<String> list = FrozenList.copyOf(elements(size));
+            try {
+                list.get(size);
+                fail();
+            }
+            catch (IndexOutOfBoundsException e) {
+                // ok.
+            }
+            try {
+                list.get(-1);
+                fail();
+            }
+            catch (IndexOutOfBoundsException e) {
+                // ok.
+            }
+        }
+    }
+
+    /**
+     * 部分リストと反復子。
+     */
+    @Test
+    public void views() {
+        List<String> expected = elements(5);
+        List<String> list = FrozenList.copyOf(expected);
+        assertThat(list.subList(1, 4), is(expected.subList(1, 4)));
+        assertThat(list.subList(2, 2).isEmpty(), is(true));
+        try {
+            list.subList(1, 4).set(0, "x");
+            fail();
+        }
+        catch (UnsupportedOperationException e) {
+            // ok.
+        }
+
+        ListIterator<String> iter = list.listIterator(5);
+        List<String> reversed = new ArrayList<String>();
+        while (iter.hasPrevious()) {
+            reversed.add(iter.previous());
+        }
+        assertThat(reversed, is(Arrays.asList("e4", "e3", "e2", "e1", "e0")));
+        assertThat(list.indexOf("e3"), is(3));
+        assertThat(list.contains("x"), is(false));
+    }
+
+    /**
+     * {@link FrozenList.Builder#toList()}以降はビルダーを利用できない。
+     */
+    @Test
+    public void builder_reuse() {
+        FrozenList.Builder<String> builder = new FrozenList.Builder<String>(0);
+        builder.add("a").add("b").add("c");
+        List<String> list = builder.toList();
+        try {
+            builder.add("d");
+            fail();
+        }
+        catch (IllegalStateException e) {
+            // ok.
+        }
+        try {
+            builder.toList();
+            fail();
+        }
+        catch (IllegalStateException e) {
+            // ok.
+        }
+        assertThat(list, is(Arrays.asList("a", "b", "c")));
+    }
+
+    private void check(List<String> actual, List<String> expected) {
+        assertThat(actual, is(expected));
+        assertThat(expected, is(actual));
+        assertThat(actual.hashCode(), is(expected.hashCode()));
+        assertThat(actual.size(), is(expected.size()));
+        assertThat(actual.toString(), is(expected.toString()));
+        assertThat(Arrays.asList(actual.toArray()), is(Arrays.<Object>asList(expected.toArray())));
+        List<String> iterated = new ArrayList<String>();
+        for (String element : actual) {
+            iterated.add(element);
+        }
+        assertThat(iterated, is(expected));
+    }
+
+    private List<String> elements(int size) {
+        List<String> results = new ArrayList<String>();
+        for (int i = 0; i < size; i++) {
+            results.add("e" + i);
+        }
+        return results;
+    }
+}
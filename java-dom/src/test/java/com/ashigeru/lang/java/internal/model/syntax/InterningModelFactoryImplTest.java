@@ -0,0 +1,171 @@
+/*
+ * Copyright 2011 @ashigeru.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package com.ashigeru.lang.java.internal.model.syntax;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import com.ashigeru.lang.java.model.syntax.BasicTypeKind;
+import com.ashigeru.lang.java.model.syntax.ModifierKind;
+import com.ashigeru.lang.java.model.syntax.Name;
+import com.ashigeru.lang.java.model.syntax.NamedType;
+import com.ashigeru.lang.java.model.syntax.ParameterizedType;
+import com.ashigeru.lang.java.model.syntax.QualifiedName;
+import com.ashigeru.lang.java.model.syntax.Type;
+import com.ashigeru.lang.java.model.util.Models;
+
+/**
+ * {@link InterningModelFactoryImpl}のテスト。
+ */
+public class InterningModelFactoryImplTest {
+
+    /**
+     * 単純名。
+     */
+    @Test
+    public void simpleName() {
+        InterningModelFactoryImpl f = new InterningModelFactoryImpl();
+        assertThat(f.newSimpleName("a"), sameInstance(f.newSimpleName("a")));
+        assertThat(f.newSimpleName("a"), not(sameInstance(f.newSimpleName("b"))));
+    }
+
+    /**
+     * 限定名。
+     */
+    @Test
+    public void qualifiedName() {
+        InterningModelFactoryImpl f = new InterningModelFactoryImpl();
+        QualifiedName a = f.newQualifiedName(f.newSimpleName("java"), f.newSimpleName("util"));
+        QualifiedName b = f.newQualifiedName(f.newSimpleName("java"), f.newSimpleName("util"));
+        assertThat(a, sameInstance(b));
+        assertThat(a.getQualifier(), sameInstance((Name) f.newSimpleName("java")));
+    }
+
+    /**
+     * 共有されたモデルは凍結されている。
+     */
+    @Test
+    public void frozen() {
+        InterningModelFactoryImpl f = new InterningModelFactoryImpl();
+        QualifiedName name = f.newQualifiedName(f.newSimpleName("java"), f.newSimpleName("util"));
+        assertThat(name.isFrozen(), is(true));
+        assertThat(name.getSimpleName().isFrozen(), is(true));
+        assertThat(f.newNamedType(name).isFrozen(), is(true));
+        assertThat(f.newModifier(ModifierKind.PUBLIC).isFrozen(), is(true));
+        assertThat(f.newBasicType(BasicTypeKind.INT).isFrozen(), is(true));
+        try {
+            ((SimpleNameImpl) f.newSimpleName("java")).setToken("other");
+            fail();
+        }
+        catch (IllegalStateException e) {
+            // ok.
+        }
+        assertThat(f.newSimpleName("java").getToken(), is("java"));
+    }
+
+    /**
+     * 異なるファクトリで生成した名前を含む限定名。
+     */
+    @Test
+    public void qualifiedName_foreign() {
+        ModelFactoryImpl plain = new ModelFactoryImpl();
+        InterningModelFactoryImpl f = new InterningModelFactoryImpl();
+        QualifiedName foreign = plain.newQualifiedName(plain.newSimpleName("java"), plain.newSimpleName("util"));
+        QualifiedName a = f.newQualifiedName(foreign, f.newSimpleName("List"));
+        QualifiedName b = f.newQualifiedName(
+                f.newQualifiedName(f.newSimpleName("java"), f.newSimpleName("util")),
+                f.newSimpleName("List"));
+        assertThat(a, sameInstance(b));
+        assertThat(a.getQualifier(), not(sameInstance((Name) foreign)));
+    }
+
+    /**
+     * ドット区切りの文字列から生成した名前。
+     */
+    @Test
+    public void newName() {
+        InterningModelFactoryImpl f = new InterningModelFactoryImpl();
+        QualifiedName list = (QualifiedName) f.newName("java.util.List");
+        QualifiedName map = (QualifiedName) f.newName("java.util.Map");
+        assertThat(f.newName("java.util.List"), sameInstance((Name) list));
+        assertThat(list.getQualifier(), sameInstance(map.getQualifier()));
+        assertThat(list.getQualifier(), sameInstance(f.newName("java.util")));
+        assertThat(list, sameInstance(f.newQualifiedName(
+                f.newQualifiedName(f.newSimpleName("java"), f.newSimpleName("util")),
+                f.newSimpleName("List"))));
+        assertThat(Models.toName(f, " java . util . List "), sameInstance((Name) list));
+        assertThat(Models.toName(new ModelFactoryImpl(), "java.util.List"), is((Name) list));
+    }
+
+    /**
+     * リフレクションAPIの型から生成した型。
+     * @throws Exception if occur
+     */
+    @Test
+    public void newType() throws Exception {
+        InterningModelFactoryImpl f = new InterningModelFactoryImpl();
+        Type string = f.newType(String.class);
+        assertThat(f.newType(String.class), sameInstance(string));
+        assertThat(f.getTypeCacheMissCount(), is(1L));
+        assertThat(f.getTypeCacheHitCount(), is(1L));
+
+        java.lang.reflect.Type generic = getClass().getDeclaredField("sample").getGenericType();
+        ParameterizedType list = (ParameterizedType) f.newType(generic);
+        assertThat(list, is(Models.toType(new ModelFactoryImpl(), generic)));
+        assertThat(list.getTypeArguments().get(0), sameInstance(string));
+        assertThat(Models.toType(f, String[].class), is(Models.toType(new ModelFactoryImpl(), String[].class)));
+    }
+
+    List<String> sample;
+
+    /**
+     * 名前付きの型。
+     */
+    @Test
+    public void namedType() {
+        InterningModelFactoryImpl f = new InterningModelFactoryImpl();
+        NamedType a = f.newNamedType(f.newSimpleName("String"));
+        NamedType b = f.newNamedType(f.newSimpleName("String"));
+        assertThat(a, sameInstance(b));
+    }
+
+    /**
+     * 基本型と修飾子。
+     */
+    @Test
+    public void enums() {
+        InterningModelFactoryImpl f = new InterningModelFactoryImpl();
+        assertThat(f.newBasicType(BasicTypeKind.INT), sameInstance(f.newBasicType(BasicTypeKind.INT)));
+        assertThat(f.newModifier(ModifierKind.PUBLIC), sameInstance(f.newModifier(ModifierKind.PUBLIC)));
+        assertThat(f.newModifier(ModifierKind.PUBLIC), not(sameInstance(f.newModifier(ModifierKind.STATIC))));
+    }
+
+    /**
+     * 上限を超える場合。
+     */
+    @Test
+    public void capacity() {
+        InterningModelFactoryImpl f = new InterningModelFactoryImpl(1);
+        assertThat(f.newSimpleName("a"), sameInstance(f.newSimpleName("a")));
+        assertThat(f.newSimpleName("b"), not(sameInstance(f.newSimpleName("b"))));
+        assertThat(f.newSimpleName("b"), is(f.newSimpleName("b")));
+        assertThat(f.getInternedCount(), is(1));
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2011 @ashigeru.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package com.ashigeru.lang.java.internal.model.syntax;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import com.ashigeru.lang.java.model.syntax.Literal;
+import com.ashigeru.lang.java.model.syntax.LiteralKind;
+import com.ashigeru.lang.java.model.syntax.ModelFactory;
+
+/**
+ * {@link LiteralImpl}のテスト。
+ */
+public class LiteralImplTest {
+
+    ModelFactory f = new ModelFactoryImpl();
+
+    /**
+     * 字句から生成したリテラルの種類。
+     */
+    @Test
+    public void literalKind() {
+        assertThat(f.newLiteral("1").getLiteralKind(), is(LiteralKind.INT));
+        assertThat(f.newLiteral("0x7fffffffffffffffL").getLiteralKind(), is(LiteralKind.LONG));
+        assertThat(f.newLiteral("1.5f").getLiteralKind(), is(LiteralKind.FLOAT));
+        assertThat(f.newLiteral("1.5").getLiteralKind(), is(LiteralKind.DOUBLE));
+        assertThat(f.newLiteral("'a'").getLiteralKind(), is(LiteralKind.CHAR));
+        assertThat(f.newLiteral("\"a\"").getLiteralKind(), is(LiteralKind.STRING));
+        assertThat(f.newLiteral("true").getLiteralKind(), is(LiteralKind.BOOLEAN));
+        assertThat(f.newLiteral("null").getLiteralKind(), is(LiteralKind.NULL));
+        assertThat(f.newLiteral("1").withToken("'a'").getLiteralKind(), is(LiteralKind.CHAR));
+    }
+
+    /**
+     * 値から直接生成したリテラル。
+     */
+    @Test
+    public void typed() {
+        check(f.newIntLiteral(Integer.MIN_VALUE), LiteralKind.INT);
+        check(f.newLongLiteral(Long.MAX_VALUE), LiteralKind.LONG);
+        check(f.newFloatLiteral(0.1f), LiteralKind.FLOAT);
+        check(f.newDoubleLiteral(1e100), LiteralKind.DOUBLE);
+        check(f.newCharLiteral('\n'), LiteralKind.CHAR);
+        check(f.newStringLiteral("Hello, \"world\"!"), LiteralKind.STRING);
+        check(f.newBooleanLiteral(false), LiteralKind.BOOLEAN);
+        check(f.newNullLiteral(), LiteralKind.NULL);
+    }
+
+    /**
+     * 有限でない浮動小数点数。
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void typed_nan() {
+        f.newDoubleLiteral(Double.NaN);
+    }
+
+    private void check(Literal literal, LiteralKind kind) {
+        assertThat(literal.getLiteralKind(), is(kind));
+        assertThat(literal, is(f.newLiteral(literal.getToken())));
+        assertThat(f.newLiteral(literal.getToken()).getLiteralKind(), is(kind));
+    }
+}
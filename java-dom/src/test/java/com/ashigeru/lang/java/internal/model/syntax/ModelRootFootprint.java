@@ -0,0 +1,108 @@
+/*
+ * Copyright 2011 @ashigeru.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package com.ashigeru.lang.java.internal.model.syntax;
+
+import java.text.MessageFormat;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * {@link ModelRoot}のメモリ使用量を計測する。
+ * <p>
+ * 以前の実装はモデルごとに空の{@link WeakHashMap}を保持していたため、
+ * その分のメモリ使用量も合わせて計測し、変更前後の比較を出力する。
+ * </p>
+ * <p>
+ * 計測結果は実行環境に依存するため、このクラスはテストとしては実行されない。
+ * テストクラスパス上で{@link #main(String...)}を直接実行し、
+ * 必要であれば第一引数に生成するモデルの個数を指定する。
+ * トレイトの領域が遅延して確保されること自体は{@link ModelRootTest#traitStorage()}で検査している。
+ * </p>
+ */
+public final class ModelRootFootprint {
+
+    private static final int COUNT = 1000000;
+
+    /**
+     * プログラムエントリ。
+     * @param args 生成するモデルの個数(省略可)
+     */
+    public static void main(String... args) {
+        int count = args.length == 0 ? COUNT : Integer.parseInt(args[0]);
+
+        // warm up
+        measureModels(count / 10);
+        measureTraitMaps(count / 10);
+
+        double models = measureModels(count);
+        double traitMaps = measureTraitMaps(count);
+        System.out.println(MessageFormat.format(
+                "nodes: {0}", count));
+        System.out.println(MessageFormat.format(
+                "before (node + WeakHashMap): {0,number,0.0} bytes/node",
+                models + traitMaps));
+        System.out.println(MessageFormat.format(
+                "after (node): {0,number,0.0} bytes/node",
+                models));
+    }
+
+    private static double measureModels(int count) {
+        Object[] holder = new Object[count];
+        long base = usedMemory();
+        for (int i = 0; i < count; i++) {
+            holder[i] = new ThisImpl();
+        }
+        long used = usedMemory() - base;
+        keep(holder);
+        return (double) used / count;
+    }
+
+    private static double measureTraitMaps(int count) {
+        Object[] holder = new Object[count];
+        long base = usedMemory();
+        for (int i = 0; i < count; i++) {
+            Map<Class<?>, Object> map = new WeakHashMap<Class<?>, Object>();
+            holder[i] = map;
+        }
+        long used = usedMemory() - base;
+        keep(holder);
+        return (double) used / count;
+    }
+
+    private static long usedMemory() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+            try {
+                Thread.sleep(50);
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static void keep(Object[] holder) {
+        if (holder.length > 0 && holder[holder.length - 1] == null) {
+            throw new AssertionError();
+        }
+    }
+
+    private ModelRootFootprint() {
+        throw new AssertionError();
+    }
+}
@@ -0,0 +1,394 @@
+/*
+ * Copyright 2011 @ashigeru.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package com.ashigeru.lang.java.internal.model.syntax;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.lang.reflect.Field;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import com.ashigeru.lang.java.model.syntax.AssignmentExpression;
+import com.ashigeru.lang.java.model.syntax.CastExpression;
+import com.ashigeru.lang.java.model.syntax.Expression;
+import com.ashigeru.lang.java.model.syntax.FieldAccessExpression;
+import com.ashigeru.lang.java.model.syntax.InfixExpression;
+import com.ashigeru.lang.java.model.syntax.InfixOperator;
+import com.ashigeru.lang.java.model.syntax.Literal;
+import com.ashigeru.lang.java.model.syntax.MethodInvocationExpression;
+import com.ashigeru.lang.java.model.syntax.ModelKind;
+import com.ashigeru.lang.java.model.syntax.PropertyKind;
+import com.ashigeru.lang.java.model.syntax.Type;
+import com.ashigeru.lang.java.model.syntax.UnaryExpression;
+import com.ashigeru.lang.java.model.syntax.UnaryOperator;
+import com.ashigeru.lang.java.model.syntax.VariableDeclarator;
+
+/**
+ * {@link ModelRoot}のテスト。
+ */
+public class ModelRootTest {
+
+    /**
+     * トレイトを持たない場合。
+     */
+    @Test
+    public void noTraits() {
+        SimpleNameImpl name = new SimpleNameImpl();
+        name.setToken("a");
+        assertThat(name.findModelTrait(String.class), is(nullValue()));
+    }
+
+    /**
+     * トレイトを登録する。
+     */
+    @Test
+    public void putTrait() {
+        SimpleNameImpl name = new SimpleNameImpl();
+        name.setToken("a");
+        name.putModelTrait(String.class, "hello");
+        assertThat(name.findModelTrait(String.class), is("hello"));
+        assertThat(name.findModelTrait(Integer.class), is(nullValue()));
+
+        name.putModelTrait(String.class, "world");
+        assertThat(name.findModelTrait(String.class), is("world"));
+    }
+
+    /**
+     * 複数のトレイトを登録する。
+     */
+    @Test
+    public void putTraits() {
+        SimpleNameImpl name = new SimpleNameImpl();
+        name.setToken("a");
+        name.putModelTrait(String.class, "hello");
+        name.putModelTrait(Integer.class, 100);
+        name.putModelTrait(Long.class, 200L);
+        assertThat(name.findModelTrait(String.class), is("hello"));
+        assertThat(name.findModelTrait(Integer.class), is(100));
+        assertThat(name.findModelTrait(Long.class), is(200L));
+    }
+
+    /**
+     * トレイトの登録を解除する。
+     */
+    @Test
+    public void removeTrait() {
+        SimpleNameImpl name = new SimpleNameImpl();
+        name.setToken("a");
+        name.putModelTrait(String.class, "hello");
+        name.putModelTrait(Integer.class, 100);
+        name.putModelTrait(Long.class, 200L);
+
+        name.putModelTrait(Integer.class, null);
+        assertThat(name.findModelTrait(String.class), is("hello"));
+        assertThat(name.findModelTrait(Integer.class), is(nullValue()));
+        assertThat(name.findModelTrait(Long.class), is(200L));
+
+        name.putModelTrait(String.class, null);
+        name.putModelTrait(Long.class, null);
+        assertThat(name.findModelTrait(String.class), is(nullValue()));
+        assertThat(name.findModelTrait(Long.class), is(nullValue()));
+
+        name.putModelTrait(Long.class, null);
+        name.putModelTrait(Long.class, 300L);
+        assertThat(name.findModelTrait(Long.class), is(300L));
+    }
+
+    /**
+     * トレイトの領域は最初のトレイトが登録されるまで確保されず、すべて解除されると解放される。
+     * @throws Exception if occur
+     */
+    @Test
+    public void traitStorage() throws Exception {
+        Field field = ModelRoot.class.getDeclaredField("traits");
+        field.setAccessible(true);
+        SimpleNameImpl name = new SimpleNameImpl();
+        name.setToken("a");
+        assertThat(field.get(name), is(nullValue()));
+
+        name.findModelTrait(String.class);
+        name.putModelTrait(String.class, null);
+        assertThat(field.get(name), is(nullValue()));
+
+        name.putModelTrait(String.class, "hello");
+        name.putModelTrait(Integer.class, 100);
+        assertThat(((Object[]) field.get(name)).length, is(4));
+
+        name.putModelTrait(String.class, null);
+        assertThat(((Object[]) field.get(name)).length, is(2));
+        name.putModelTrait(Integer.class, null);
+        assertThat(field.get(name), is(nullValue()));
+    }
+
+    /**
+     * トレイトはハッシュ値と等価性に影響しない。
+     */
+    @Test
+    public void traitsDoNotAffectEquality() {
+        SimpleNameImpl a = new SimpleNameImpl();
+        a.setToken("a");
+        SimpleNameImpl b = new SimpleNameImpl();
+        b.setToken("a");
+        b.putModelTrait(String.class, "hello");
+        assertThat(a, is(b));
+        assertThat(a.hashCode(), is(b.hashCode()));
+    }
+
+    /**
+     * プロパティの値を取得する。
+     */
+    @Test
+    public void getProperty() {
+        SimpleNameImpl name = new SimpleNameImpl();
+        name.setToken("a");
+        VariableDeclaratorImpl decl = new VariableDeclaratorImpl();
+        decl.setName(name);
+        decl.setExtraDimensions(2);
+        assertThat(decl.getProperty(PropertyKind.VARIABLE_DECLARATOR_NAME), is((Object) name));
+        assertThat(decl.getProperty(PropertyKind.VARIABLE_DECLARATOR_EXTRA_DIMENSIONS), is((Object) 2));
+        assertThat(decl.getProperty(PropertyKind.VARIABLE_DECLARATOR_INITIALIZER), is(nullValue()));
+        assertThat(ModelKind.VARIABLE_DECLARATOR.getSlot(PropertyKind.VARIABLE_DECLARATOR_EXTRA_DIMENSIONS), is(1));
+        assertThat(ModelKind.VARIABLE_DECLARATOR.getSlot(PropertyKind.SIMPLE_NAME_STRING), is(-1));
+    }
+
+    /**
+     * 公開していないプロパティの値を取得する。
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void getProperty_unknown() {
+        SimpleNameImpl name = new SimpleNameImpl();
+        name.setToken("a");
+        name.getProperty(PropertyKind.VARIABLE_DECLARATOR_NAME);
+    }
+
+    /**
+     * 一部のプロパティを変更したコピーを作成する。
+     */
+    @Test
+    public void with() {
+        ModelFactoryImpl f = new ModelFactoryImpl();
+        Literal one = f.newLiteral("1");
+        VariableDeclarator decl = f.newVariableDeclarator(f.newSimpleName("a"), 1, one);
+        VariableDeclarator copy = decl.withName(f.newSimpleName("b"));
+        assertThat(copy.getName().getToken(), is("b"));
+        assertThat(copy.getExtraDimensions(), is(1));
+        assertThat(copy.getInitializer(), sameInstance((Expression) one));
+        assertThat(decl.getName().getToken(), is("a"));
+        assertThat(copy, not(decl));
+        assertThat(copy.withName(f.newSimpleName("a")), is(decl));
+    }
+
+    /**
+     * 二項演算子を変更したコピーは、演算項を新しい優先順位に応じて括弧で囲む。
+     */
+    @Test
+    public void with_operator() {
+        ModelFactoryImpl f = new ModelFactoryImpl();
+        InfixExpression e = (InfixExpression) f.newInfixExpression(
+                f.newInfixExpression(f.newSimpleName("x"), InfixOperator.PLUS, f.newSimpleName("y")),
+                InfixOperator.PLUS,
+                f.newSimpleName("z"));
+        InfixExpression copy = e.withOperator(InfixOperator.TIMES);
+        assertThat(copy.toString().trim(), is("(x + y) * z"));
+        assertThat(copy, is(f.newInfixExpression(
+                f.newInfixExpression(f.newSimpleName("x"), InfixOperator.PLUS, f.newSimpleName("y")),
+                InfixOperator.TIMES,
+                f.newSimpleName("z"))));
+        assertThat(e.toString().trim(), is("x + y + z"));
+    }
+
+    /**
+     * 演算項を変更したコピーは、必要であれば演算項を括弧で囲む。
+     */
+    @Test
+    public void with_operand() {
+        ModelFactoryImpl f = new ModelFactoryImpl();
+        InfixExpression e = (InfixExpression) f.newInfixExpression(
+                f.newSimpleName("x"), InfixOperator.MINUS, f.newSimpleName("y"));
+        Expression yz = f.newInfixExpression(
+                f.newSimpleName("y"), InfixOperator.MINUS, f.newSimpleName("z"));
+        assertThat(e.withRightOperand(yz).toString().trim(), is("x - (y - z)"));
+        assertThat(e.withLeftOperand(yz).toString().trim(), is("y - z - y"));
+        assertThat(e.withRightOperand(f.newSimpleName("w")).toString().trim(), is("x - w"));
+
+        Expression plus = f.newInfixExpression(
+                f.newSimpleName("a"), InfixOperator.PLUS, f.newSimpleName("b"));
+        UnaryExpression unary = f.newUnaryExpression(UnaryOperator.MINUS, f.newSimpleName("c"));
+        assertThat(unary.withOperand(plus).toString().trim(), is("- (a + b)"));
+        CastExpression cast = f.newCastExpression(f.newNamedType(f.newSimpleName("T")), f.newSimpleName("c"));
+        assertThat(cast.withExpression(plus).toString().trim(), is("(T)(a + b)"));
+        FieldAccessExpression field = f.newFieldAccessExpression(f.newSimpleName("c"), f.newSimpleName("d"));
+        assertThat(field.withQualifier(plus).toString().trim(), is("(a + b).d"));
+        MethodInvocationExpression method = f.newMethodInvocationExpression(
+                f.newSimpleName("c"), Collections.<Type>emptyList(), f.newSimpleName("d"),
+                Collections.<Expression>emptyList());
+        assertThat(method.withQualifier(plus).toString().trim(), is("(a + b).d()"));
+        AssignmentExpression assign = f.newAssignmentExpression(
+                f.newSimpleName("c"), InfixOperator.ASSIGN, f.newSimpleName("d"));
+        Expression nested = f.newAssignmentExpression(
+                f.newSimpleName("a"), InfixOperator.ASSIGN, f.newSimpleName("b"));
+        assertThat(assign.withLeftHandSide(nested), is(f.newAssignmentExpression(
+                nested, InfixOperator.ASSIGN, f.newSimpleName("d"))));
+        assertThat(assign.withRightHandSide(nested), is(f.newAssignmentExpression(
+                f.newSimpleName("c"), InfixOperator.ASSIGN, nested)));
+    }
+
+    /**
+     * 凍結する。
+     */
+    @Test
+    public void freeze() {
+        ModelFactoryImpl f = new ModelFactoryImpl();
+        VariableDeclaratorImpl decl = (VariableDeclaratorImpl) f.newVariableDeclarator(
+                f.newSimpleName("a"), 0, f.newLiteral("1"));
+        assertThat(decl.isFrozen(), is(false));
+        decl.freeze();
+        assertThat(decl.isFrozen(), is(true));
+        assertThat(decl.getName().isFrozen(), is(true));
+        assertThat(decl.getInitializer().isFrozen(), is(true));
+        try {
+            decl.setExtraDimensions(1);
+            fail();
+        }
+        catch (IllegalStateException e) {
+            // ok.
+        }
+        try {
+            ((SimpleNameImpl) decl.getName()).setToken("b");
+            fail();
+        }
+        catch (IllegalStateException e) {
+            // ok.
+        }
+        VariableDeclarator copy = decl.withExtraDimensions(1);
+        assertThat(copy.isFrozen(), is(false));
+        assertThat(copy.getExtraDimensions(), is(1));
+
+        decl.putModelTrait(String.class, "ok");
+        assertThat(decl.findModelTrait(String.class), is("ok"));
+    }
+
+    /**
+     * 凍結されていないモデルの子孫を変更した場合にも、ハッシュ値と比較の結果が一致する。
+     */
+    @Test
+    public void hashCode_mutable() {
+        ModelFactoryImpl f = new ModelFactoryImpl();
+        QualifiedNameImpl q = (QualifiedNameImpl) f.newQualifiedName(
+                f.newSimpleName("x"), f.newSimpleName("a"));
+        QualifiedNameImpl q2 = (QualifiedNameImpl) f.newQualifiedName(
+                f.newSimpleName("x"), f.newSimpleName("b"));
+        int before = q.hashCode();
+        assertThat(q, not(q2));
+
+        ((SimpleNameImpl) q.getSimpleName()).setToken("b");
+        assertThat(q, is(q2));
+        assertThat(q.hashCode(), is(q2.hashCode()));
+        assertThat(q.hashCode(), not(before));
+    }
+
+    /**
+     * 凍結されたモデルのハッシュ値を比較に利用する。
+     */
+    @Test
+    public void hashCode_frozen() {
+        ModelFactoryImpl f = new ModelFactoryImpl();
+        Expression a = f.newInfixExpression(
+                f.newLiteral("1"), InfixOperator.PLUS, f.newLiteral("2"));
+        Expression b = f.newInfixExpression(
+                f.newLiteral("1"), InfixOperator.PLUS, f.newLiteral("3"));
+        int hash = a.hashCode();
+        a.freeze();
+        b.freeze();
+        assertThat(a.hashCode(), is(hash));
+        assertThat(a, not(b));
+        assertThat(a, is((Object) f.newInfixExpression(
+                f.newLiteral("1"), InfixOperator.PLUS, f.newLiteral("2"))));
+    }
+
+    /**
+     * 直接計算できる深さを超える木でも、凍結の有無や部分的な凍結によらず同じハッシュ値となる。
+     */
+    @Test
+    public void hashCode_deep() {
+        ModelFactoryImpl f = new ModelFactoryImpl();
+        for (int depth : new int[] { 0, 1, ModelRoot.DIRECT_HASH_DEPTH, ModelRoot.DIRECT_HASH_DEPTH * 3 }) {
+            Expression a = chain(f, depth);
+            Expression b = chain(f, depth);
+            Expression partial = chain(f, depth);
+            Expression inner = partial;
+            for (int i = 0; i < depth / 2; i++) {
+                inner = ((InfixExpression) inner).getLeftOperand();
+            }
+            inner.freeze();
+            int hash = a.hashCode();
+            assertThat(b.hashCode(), is(hash));
+            assertThat(partial.hashCode(), is(hash));
+            b.freeze();
+            assertThat(b.hashCode(), is(hash));
+            assertThat(a, is((Object) b));
+            assertThat(partial, is((Object) b));
+        }
+    }
+
+    private Expression chain(ModelFactoryImpl f, int depth) {
+        Expression current = f.newLiteral("0");
+        for (int i = 1; i <= depth; i++) {
+            current = f.newInfixExpression(current, InfixOperator.PLUS, f.newLiteral(String.valueOf(i)));
+        }
+        return current;
+    }
+
+    /**
+     * 複数のスレッドからトレイトを登録する。
+     * @throws Exception if occur
+     */
+    @Test
+    public void putTrait_concurrent() throws Exception {
+        final SimpleNameImpl name = new SimpleNameImpl();
+        name.setToken("a");
+        name.freeze();
+        final Object[] traits = { "a", 1, 2L, 3.0, 'c', true, (byte) 4, (short) 5 };
+        Thread[] threads = new Thread[traits.length];
+        for (int i = 0; i < threads.length; i++) {
+            final Object trait = traits[i];
+            threads[i] = new Thread() {
+                @Override
+                public void run() {
+                    for (int j = 0; j < 1000; j++) {
+                        put(name, trait);
+                    }
+                }
+            };
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        for (Object trait : traits) {
+            assertThat(name.findModelTrait(trait.getClass()), is(trait));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> void put(ModelRoot model, T trait) {
+        model.putModelTrait((Class<T>) trait.getClass(), trait);
+    }
+}
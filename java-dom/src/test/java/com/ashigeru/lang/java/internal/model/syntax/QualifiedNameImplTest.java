@@ -0,0 +1,92 @@
+/*
+ * Copyright 2011 @ashigeru.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package com.ashigeru.lang.java.internal.model.syntax;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.ashigeru.lang.java.model.syntax.QualifiedName;
+import com.ashigeru.lang.java.model.syntax.SimpleName;
+
+/**
+ * {@link QualifiedNameImpl}のテスト。
+ */
+public class QualifiedNameImplTest {
+
+    ModelFactoryImpl f = new ModelFactoryImpl();
+
+    /**
+     * 単純名のリストと文字列。
+     */
+    @Test
+    public void segments() {
+        QualifiedName name = f.newQualifiedName(
+                f.newQualifiedName(f.newSimpleName("java"), f.newSimpleName("util")),
+                f.newSimpleName("List"));
+        assertThat(name.toNameString(), is("java.util.List"));
+        name.freeze();
+        List<SimpleName> list = name.toNameList();
+        assertThat(list, is(Arrays.asList(
+                f.newSimpleName("java"),
+                f.newSimpleName("util"),
+                f.newSimpleName("List"))));
+        assertThat(name.toNameList(), sameInstance(list));
+        assertThat(name.toNameString(), is("java.util.List"));
+        assertThat(name.toNameString(), sameInstance(name.toNameString()));
+    }
+
+    /**
+     * 要素を変更した場合。
+     */
+    @Test
+    public void segments_modified() {
+        QualifiedNameImpl name = (QualifiedNameImpl) f.newQualifiedName(
+                f.newSimpleName("java"),
+                f.newSimpleName("util"));
+        assertThat(name.toNameString(), is("java.util"));
+        name.setSimpleName(f.newSimpleName("lang"));
+        assertThat(name.toNameString(), is("java.lang"));
+        assertThat(name.toNameList().size(), is(2));
+        assertThat(name.withQualifier(f.newSimpleName("javax")).toNameString(), is("javax.lang"));
+    }
+
+    /**
+     * 子孫の要素を変更した場合。
+     */
+    @Test
+    public void segments_descendantModified() {
+        SimpleNameImpl first = (SimpleNameImpl) f.newSimpleName("java");
+        QualifiedNameImpl qualifier = (QualifiedNameImpl) f.newQualifiedName(
+                first,
+                f.newSimpleName("util"));
+        QualifiedName name = f.newQualifiedName(qualifier, f.newSimpleName("List"));
+        assertThat(name.toNameString(), is("java.util.List"));
+        assertThat(name.toNameList().get(0).getToken(), is("java"));
+
+        first.setToken("javax");
+        assertThat(name.toNameString(), is("javax.util.List"));
+        assertThat(name.toNameList().get(0).getToken(), is("javax"));
+
+        qualifier.setSimpleName(f.newSimpleName("swing"));
+        assertThat(name.toNameString(), is("javax.swing.List"));
+        assertThat(name.toNameList().get(1).getToken(), is("swing"));
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2011 @ashigeru.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package com.ashigeru.lang.java.internal.model.util;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+
+/**
+ * {@link IdentifierTable}のテスト。
+ */
+public class IdentifierTableTest {
+
+    /**
+     * 等しい識別子に対して同一のインスタンスを返す。
+     */
+    @Test
+    public void intern() {
+        String a = IdentifierTable.intern(new String("identifierTableTest_intern"));
+        String b = IdentifierTable.intern(new String("identifierTableTest_intern"));
+        assertThat(a, is("identifierTableTest_intern"));
+        assertThat(b, sameInstance(a));
+
+        String c = IdentifierTable.intern(new String("identifierTableTest_other"));
+        assertThat(c, is("identifierTableTest_other"));
+        assertThat(c, not(sameInstance(a)));
+    }
+
+    /**
+     * 参照されなくなった識別子は表に保持されない。
+     */
+    @Test
+    public void collect() {
+        WeakReference<String> ref = new WeakReference<String>(
+                IdentifierTable.intern(new String("identifierTableTest_collect")));
+        for (int i = 0; i < 100 && ref.get() != null; i++) {
+            System.gc();
+        }
+        assertThat(ref.get(), is(nullValue()));
+
+        String next = IdentifierTable.intern(new String("identifierTableTest_collect"));
+        assertThat(next, is("identifierTableTest_collect"));
+        assertThat(IdentifierTable.intern(new String(next)), sameInstance(next));
+    }
+
+    /**
+     * 回収された識別子の項目は表から取り除かれる。
+     */
+    @Test
+    public void expunge() {
+        int base = IdentifierTable.size();
+        List<WeakReference<String>> refs = new ArrayList<WeakReference<String>>();
+        for (int i = 0; i < 1000; i++) {
+            refs.add(new WeakReference<String>(IdentifierTable.intern("identifierTableTest_expunge" + i)));
+        }
+        for (int i = 0; i < 100 && refs.get(refs.size() - 1).get() != null; i++) {
+            System.gc();
+        }
+        for (int i = 0; i < 100 && IdentifierTable.size() >= base + 1000; i++) {
+            System.gc();
+        }
+        assertThat(IdentifierTable.size(), lessThan(base + 1000));
+    }
+
+    /**
+     * 多数の識別子を登録しても共有が停止しない。
+     */
+    @Test
+    public void many() {
+        List<String> keep = new ArrayList<String>();
+        for (int i = 0; i < 100000; i++) {
+            keep.add(IdentifierTable.intern("identifierTableTest_many" + i));
+        }
+        String last = IdentifierTable.intern(new String("identifierTableTest_last"));
+        assertThat(IdentifierTable.intern(new String("identifierTableTest_last")), sameInstance(last));
+        for (int i = 0; i < keep.size(); i += 997) {
+            assertThat(IdentifierTable.intern("identifierTableTest_many" + i), sameInstance(keep.get(i)));
+        }
+    }
+
+    /**
+     * 複数のスレッドから同時に登録しても、同一のインスタンスを共有する。
+     * @throws Exception if failed
+     */
+    @Test
+    public void concurrent() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<String[]>> futures = new ArrayList<Future<String[]>>();
+            for (int t = 0; t < 4; t++) {
+                futures.add(executor.submit(new Callable<String[]>() {
+                    @Override
+                    public String[] call() {
+                        String[] results = new String[1000];
+                        for (int i = 0; i < results.length; i++) {
+                            results[i] = IdentifierTable.intern("identifierTableTest_concurrent" + i);
+                        }
+                        return results;
+                    }
+                }));
+            }
+            String[] first = futures.get(0).get();
+            for (Future<String[]> future : futures) {
+                String[] results = future.get();
+                for (int i = 0; i < results.length; i++) {
+                    assertThat(results[i], sameInstance(first[i]));
+                }
+            }
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * {@code null}を指定した場合。
+     */
+    @Test
+    public void intern_null() {
+        try {
+            IdentifierTable.intern(null);
+            fail();
+        }
+        catch (IllegalArgumentException e) {
+            // ok.
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2011 @ashigeru.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package com.ashigeru.lang.java.internal.model.util;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+/**
+ * {@link LiteralAnalyzer}のテスト。
+ */
+public class LiteralAnalyzerTest {
+
+    /**
+     * {@code int}型の境界値。
+     */
+    @Test
+    public void intValueOf() {
+        assertThat(LiteralAnalyzer.intValueOf("0"), is(0));
+        assertThat(LiteralAnalyzer.intValueOf("2147483647"), is(Integer.MAX_VALUE));
+        assertThat(LiteralAnalyzer.intValueOf("-2147483648"), is(Integer.MIN_VALUE));
+        assertThat(LiteralAnalyzer.intValueOf("2147483648"), is(Integer.MIN_VALUE));
+        assertThat(LiteralAnalyzer.intValueOf("0xffffffff"), is(-1));
+        assertThat(LiteralAnalyzer.intValueOf("037777777777"), is(-1));
+        assertThat(LiteralAnalyzer.intValueOf("0x00000000000000000001"), is(1));
+        assertInvalidInt("2147483649");
+        assertInvalidInt("0x100000000");
+        assertInvalidInt("040000000000");
+        assertInvalidInt("99999999999999999999");
+    }
+
+    /**
+     * {@code long}型の境界値。
+     */
+    @Test
+    public void longValueOf() {
+        assertThat(LiteralAnalyzer.longValueOf("0L"), is(0L));
+        assertThat(LiteralAnalyzer.longValueOf("123456789012345678L"), is(123456789012345678L));
+        assertThat(LiteralAnalyzer.longValueOf("9223372036854775807L"), is(Long.MAX_VALUE));
+        assertThat(LiteralAnalyzer.longValueOf("-9223372036854775808L"), is(Long.MIN_VALUE));
+        assertThat(LiteralAnalyzer.longValueOf("0xffffffffffffffffL"), is(-1L));
+        assertThat(LiteralAnalyzer.longValueOf("0xfffffffffffffffL"), is(0xfffffffffffffffL));
+        try {
+            LiteralAnalyzer.longValueOf("0x10000000000000000L");
+            fail();
+        }
+        catch (NumberFormatException e) {
+            // ok.
+        }
+    }
+
+    private void assertInvalidInt(String literal) {
+        try {
+            LiteralAnalyzer.intValueOf(literal);
+            fail(literal);
+        }
+        catch (NumberFormatException e) {
+            // ok.
+        }
+    }
+}
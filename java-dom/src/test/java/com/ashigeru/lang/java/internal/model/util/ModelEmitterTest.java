@@ -19,7 +19,9 @@ import static org.hamcrest.Matchers.*;
 import static org.junit.Assert.*;
 
 import java.io.IOException;
+import java.io.PrintWriter;
 import java.io.Serializable;
+import java.io.StringWriter;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.reflect.Constructor;
@@ -2190,6 +2192,31 @@ public class ModelEmitterTest {
             "100");
     }
 
+    /**
+     * 非常に深い式を出力する。
+     */
+    @Test
+    public void deep() {
+        Expression expr = Models.toLiteral(f, 0);
+        StringBuilder expected = new StringBuilder("0");
+        for (int i = 1; i < 100000; i++) {
+            expr = f.newInfixExpression(expr, InfixOperator.PLUS, Models.toLiteral(f, i));
+            expected.append(" + ");
+            expected.append(i);
+        }
+        assertThat(unwrap(expr.toString()), is(expected.toString()));
+
+        StringWriter buffer = new StringWriter();
+        PrintWriter writer = new PrintWriter(buffer);
+        Models.emit(expr, writer);
+        writer.flush();
+        assertThat(unwrap(buffer.toString()), is(expected.toString()));
+    }
+
+    private String unwrap(String emitted) {
+        return emitted.trim().replaceAll("\\s*\\n\\s*", " ");
+    }
+
     private LocalVariableDeclaration var(Type type, String name, Expression init) {
         return f.newLocalVariableDeclaration(
             Arrays.asList(new Attribute[] {}),
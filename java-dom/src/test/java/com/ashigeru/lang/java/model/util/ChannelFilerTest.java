@@ -0,0 +1,191 @@
+/*
+ * Copyright 2011 @ashigeru.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package com.ashigeru.lang.java.model.util;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+
+import org.junit.Assume;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Test for {@link ChannelFiler}.
+ */
+public class ChannelFilerTest {
+
+    /**
+     * テンポラリフォルダ。
+     */
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    /**
+     * ASCIIの範囲の文字のみを書き出す。
+     * @throws Exception if occur
+     */
+    @Test
+    public void ascii() throws Exception {
+        StringBuilder buf = new StringBuilder();
+        for (int i = 0; buf.length() < ChannelFiler.BYTE_BUFFER_SIZE * 2; i++) {
+            buf.append("public class Hello").append(i).append(" {}\n");
+        }
+        check(Charset.forName("UTF-8"), buf.toString());
+    }
+
+    /**
+     * ASCIIの範囲外の文字をバッファの境界をまたいで書き出す。
+     * @throws Exception if occur
+     */
+    @Test
+    public void multibyte() throws Exception {
+        StringBuilder buf = new StringBuilder();
+        for (int i = 0; i < ChannelFiler.CHAR_BUFFER_SIZE - 1; i++) {
+            buf.append('a');
+        }
+        buf.append("𠮷"); // surrogate pair across the buffer boundary
+        for (int i = 0; i < ChannelFiler.CHAR_BUFFER_SIZE; i++) {
+            buf.append('あ');
+        }
+        check(Charset.forName("UTF-8"), buf.toString());
+        check(Charset.forName("UTF-16"), buf.toString());
+    }
+
+    /**
+     * 同じスレッドで複数のファイルを同時に書き出す。
+     * @throws Exception if occur
+     */
+    @Test
+    public void nested() throws Exception {
+        StringBuilder buf = new StringBuilder();
+        for (int i = 0; i < ChannelFiler.NESTED_CHAR_BUFFER_SIZE - 1; i++) {
+            buf.append('a');
+        }
+        buf.append("𠮷");
+        for (int i = 0; i < ChannelFiler.NESTED_CHAR_BUFFER_SIZE * 4; i++) {
+            buf.append('あ');
+        }
+        String contents = buf.toString();
+        Charset encoding = Charset.forName("UTF-8");
+        ChannelFiler filer = new ChannelFiler(folder.getRoot(), encoding);
+        PrintWriter outer = filer.openFor(null, "Outer.java");
+        try {
+            PrintWriter inner = filer.openFor(null, "Inner.java");
+            try {
+                outer.print(contents);
+                inner.print(contents);
+            }
+            finally {
+                inner.close();
+            }
+            assertThat(inner.checkError(), is(false));
+        }
+        finally {
+            outer.close();
+        }
+        assertThat(outer.checkError(), is(false));
+        assertThat(read(new File(folder.getRoot(), "Outer.java")), is(contents.getBytes(encoding)));
+        assertThat(read(new File(folder.getRoot(), "Inner.java")), is(contents.getBytes(encoding)));
+    }
+
+    /**
+     * 書き出しに失敗したライターを閉じずに破棄しても、共有のバッファは解放される。
+     * @throws Exception if occur
+     */
+    @Test
+    public void failure() throws Exception {
+        File full = new File("/dev/full");
+        Assume.assumeTrue(full.exists() && full.canWrite());
+        ChannelFiler failing = new ChannelFiler(full.getParentFile(), Charset.forName("UTF-8"));
+        PrintWriter writer = failing.openFor(null, full.getName());
+        assertThat(ChannelFiler.isSharedBufferInUse(), is(true));
+        writer.print("public class Hello {}");
+        writer.flush();
+        assertThat(writer.checkError(), is(true));
+        assertThat(ChannelFiler.isSharedBufferInUse(), is(false));
+
+        writer.print("more");
+        writer.close();
+        assertThat(ChannelFiler.isSharedBufferInUse(), is(false));
+
+        ChannelFiler filer = new ChannelFiler(folder.getRoot(), Charset.forName("UTF-8"));
+        PrintWriter next = filer.openFor(null, "Hello.java");
+        try {
+            assertThat(ChannelFiler.isSharedBufferInUse(), is(true));
+            next.print("public class Hello {}");
+        }
+        finally {
+            next.close();
+        }
+        assertThat(next.checkError(), is(false));
+        assertThat(ChannelFiler.isSharedBufferInUse(), is(false));
+        assertThat(new String(read(new File(folder.getRoot(), "Hello.java")), "UTF-8"),
+                is("public class Hello {}"));
+    }
+
+    /**
+     * エンコーディングとASCIIの互換性。
+     */
+    @Test
+    public void isAsciiCompatible() {
+        assertThat(ChannelFiler.isAsciiCompatible(Charset.forName("UTF-8")), is(true));
+        assertThat(ChannelFiler.isAsciiCompatible(Charset.forName("ISO-8859-1")), is(true));
+        assertThat(ChannelFiler.isAsciiCompatible(Charset.forName("UTF-16")), is(false));
+    }
+
+    private void check(Charset encoding, String contents) throws IOException {
+        ChannelFiler filer = new ChannelFiler(folder.getRoot(), encoding);
+        PrintWriter writer = filer.openFor(null, "Hello.java");
+        try {
+            writer.print(contents);
+        }
+        finally {
+            writer.close();
+        }
+        assertThat(writer.checkError(), is(false));
+        byte[] actual = read(new File(folder.getRoot(), "Hello.java"));
+        assertThat(new String(actual, encoding), is(contents));
+        assertThat(actual, is(contents.getBytes(encoding)));
+    }
+
+    private byte[] read(File file) throws IOException {
+        InputStream input = new FileInputStream(file);
+        try {
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            byte[] buf = new byte[1024];
+            while (true) {
+                int read = input.read(buf);
+                if (read < 0) {
+                    break;
+                }
+                output.write(buf, 0, read);
+            }
+            return output.toByteArray();
+        }
+        finally {
+            input.close();
+        }
+    }
+}
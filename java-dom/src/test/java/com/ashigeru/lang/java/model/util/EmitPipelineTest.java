@@ -0,0 +1,175 @@
+/*
+ * Copyright 2011 @ashigeru.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package com.ashigeru.lang.java.model.util;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.ashigeru.lang.java.model.syntax.Comment;
+import com.ashigeru.lang.java.model.syntax.CompilationUnit;
+import com.ashigeru.lang.java.model.syntax.ImportDeclaration;
+import com.ashigeru.lang.java.model.syntax.ModelFactory;
+import com.ashigeru.lang.java.model.syntax.ModifierKind;
+import com.ashigeru.lang.java.model.syntax.PackageDeclaration;
+import com.ashigeru.lang.java.model.syntax.Type;
+import com.ashigeru.lang.java.model.syntax.TypeBodyDeclaration;
+import com.ashigeru.lang.java.model.syntax.TypeDeclaration;
+
+/**
+ * Test for {@link EmitPipeline}.
+ */
+public class EmitPipelineTest {
+
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    ModelFactory f = Models.getModelFactory();
+
+    Map<String, StringWriter> outputs = Collections.synchronizedMap(new TreeMap<String, StringWriter>());
+
+    Emitter emitter = new Emitter() {
+        @Override
+        public PrintWriter openFor(PackageDeclaration packageDeclOrNull, String subPath) {
+            StringWriter buffer = new StringWriter();
+            assertThat(outputs.put(subPath, buffer), is(nullValue()));
+            return new PrintWriter(buffer);
+        }
+    };
+
+    /**
+     * Cleans up the executor.
+     */
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * すべての入力を書き出す。
+     * @throws Exception if occur
+     */
+    @Test
+    public void emit() throws Exception {
+        List<Integer> sources = new ArrayList<Integer>();
+        for (int i = 0; i < 100; i++) {
+            sources.add(i);
+        }
+        EmitPipeline pipeline = new EmitPipeline(executor, emitter, 3, 2);
+        int written = pipeline.emit(sources, new EmitPipeline.Generator<Integer>() {
+            @Override
+            public CompilationUnit generate(Integer source) {
+                if (source % 10 == 9) {
+                    return null;
+                }
+                return unit("C" + source);
+            }
+        });
+        assertThat(written, is(90));
+        assertThat(outputs.size(), is(90));
+        assertThat(outputs.get("C0.java").toString(), containsString("class C0"));
+        assertThat(outputs.containsKey("C9.java"), is(false));
+    }
+
+    /**
+     * 入力の処理に失敗した場合は例外を再スローする。
+     * @throws Exception if occur
+     */
+    @Test(expected = IOException.class)
+    public void emit_failure() throws Exception {
+        EmitPipeline pipeline = new EmitPipeline(executor, emitter, 3, 2);
+        pipeline.emit(Collections.nCopies(10, "C"), new EmitPipeline.Generator<String>() {
+            @Override
+            public CompilationUnit generate(String source) throws IOException {
+                throw new IOException();
+            }
+        });
+    }
+
+    /**
+     * 呼び出し元が割り込まれた場合は実行中のタスクを取り消す。
+     * @throws Exception if occur
+     */
+    @Test
+    public void emit_interrupted() throws Exception {
+        final CountDownLatch started = new CountDownLatch(3);
+        final CountDownLatch cancelled = new CountDownLatch(3);
+        final EmitPipeline pipeline = new EmitPipeline(executor, emitter, 3, 2);
+        final AtomicReference<Throwable> result = new AtomicReference<Throwable>();
+        Thread caller = new Thread() {
+            @Override
+            public void run() {
+                try {
+                    pipeline.emit(Collections.nCopies(10, "C"), new EmitPipeline.Generator<String>() {
+                        @Override
+                        public CompilationUnit generate(String source) throws IOException {
+                            started.countDown();
+                            try {
+                                Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+                            }
+                            catch (InterruptedException e) {
+                                cancelled.countDown();
+                                throw new InterruptedIOException();
+                            }
+                            return unit(source);
+                        }
+                    });
+                }
+                catch (Throwable e) {
+                    result.set(e);
+                }
+            }
+        };
+        caller.start();
+        assertThat(started.await(10, TimeUnit.SECONDS), is(true));
+        caller.interrupt();
+        caller.join(TimeUnit.SECONDS.toMillis(10));
+        assertThat(result.get(), instanceOf(InterruptedException.class));
+        assertThat(cancelled.await(10, TimeUnit.SECONDS), is(true));
+        assertThat(outputs.size(), is(0));
+    }
+
+    CompilationUnit unit(String name) {
+        TypeDeclaration type = f.newClassDeclaration(
+                null,
+                Collections.singletonList(f.newModifier(ModifierKind.PUBLIC)),
+                f.newSimpleName(name),
+                null,
+                Collections.<Type>emptyList(),
+                Collections.<TypeBodyDeclaration>emptyList());
+        return f.newCompilationUnit(
+                f.newPackageDeclaration(Models.toName(f, "com.example")),
+                Collections.<ImportDeclaration>emptyList(),
+                Collections.singletonList(type),
+                Collections.<Comment>emptyList());
+    }
+}
@@ -197,6 +197,22 @@ public class ImportBuilderTest {
         assertImported(importer);
     }
 
+    /**
+     * 非常に深い入れ子の型。
+     */
+    @Test
+    public void deep() {
+        ImportBuilder importer = new ImportBuilder(f, null, Strategy.TOP_LEVEL);
+        Type type = type(Date.class);
+        Type expected = type("Date");
+        for (int i = 0; i < 100000; i++) {
+            type = f.newParameterizedType(type(List.class), Collections.singletonList(type));
+            expected = f.newParameterizedType(type("List"), Collections.singletonList(expected));
+        }
+        assertThat(importer.resolve(type).equals(expected), is(true));
+        assertImported(importer, List.class, Date.class);
+    }
+
     private Type type(
             java.lang.reflect.Type type,
             java.lang.reflect.Type... arguments) {
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2011 @ashigeru.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package com.ashigeru.lang.java.model.util;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.ashigeru.lang.java.model.syntax.ModelFactory;
+import com.ashigeru.lang.java.model.syntax.PackageDeclaration;
+
+/**
+ * Test for {@link IncrementalFiler}.
+ */
+public class IncrementalFilerTest {
+
+    static final Charset ENCODING = Charset.forName("UTF-8");
+
+    /**
+     * テンポラリフォルダ。
+     */
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    ModelFactory f = Models.getModelFactory();
+
+    PackageDeclaration pkg = f.newPackageDeclaration(Models.toName(f, "com.example"));
+
+    /**
+     * 内容が変化しないファイルは書き出さない。
+     * @throws Exception if occur
+     */
+    @Test
+    public void skip_unchanged() throws Exception {
+        File output = folder.newFolder("output");
+        IncrementalFiler first = new IncrementalFiler(output, ENCODING);
+        write(first, "A.java", "a");
+        write(first, "B.java", "b");
+        assertThat(first.getWrittenCount(), is(2));
+
+        File a = new File(first.getFolderFor(pkg), "A.java");
+        assertThat(a.setLastModified(1000L), is(true));
+        long lastModified = a.lastModified();
+
+        IncrementalFiler second = new IncrementalFiler(output, ENCODING);
+        write(second, "A.java", "a");
+        write(second, "B.java", "c");
+        assertThat(second.getWrittenCount(), is(1));
+        assertThat(second.getSkippedCount(), is(1));
+        assertThat(a.lastModified(), is(lastModified));
+        assertThat(second.finish(true).size(), is(0));
+    }
+
+    /**
+     * マニフェストを利用して、前回の出力のうち今回出力しなかったファイルを削除する。
+     * @throws Exception if occur
+     */
+    @Test
+    public void manifest() throws Exception {
+        File output = folder.newFolder("output");
+        File manifest = new File(folder.getRoot(), "manifest.txt");
+        IncrementalFiler first = new IncrementalFiler(output, ENCODING, manifest);
+        write(first, "A.java", "a");
+        write(first, "B.java", "b");
+        first.finish(true);
+
+        IncrementalFiler second = new IncrementalFiler(output, ENCODING, manifest);
+        write(second, "A.java", "a");
+        List<File> deleted = second.finish(true);
+        assertThat(second.getSkippedCount(), is(1));
+        assertThat(deleted.size(), is(1));
+        assertThat(deleted.get(0).getName(), is("B.java"));
+        assertThat(deleted.get(0).exists(), is(false));
+        assertThat(new File(second.getFolderFor(pkg), "A.java").exists(), is(true));
+
+        IncrementalFiler third = new IncrementalFiler(output, ENCODING, manifest);
+        write(third, "A.java", "changed");
+        assertThat(third.finish(true).size(), is(0));
+        assertThat(third.getWrittenCount(), is(1));
+    }
+
+    /**
+     * すでに存在しない孤立したファイルは削除したファイルの一覧に含めない。
+     * @throws Exception if occur
+     */
+    @Test
+    public void manifest_missingOrphan() throws Exception {
+        File output = folder.newFolder("output");
+        File manifest = new File(folder.getRoot(), "manifest.txt");
+        IncrementalFiler first = new IncrementalFiler(output, ENCODING, manifest);
+        write(first, "A.java", "a");
+        write(first, "B.java", "b");
+        write(first, "C.java", "c");
+        first.finish(true);
+        assertThat(new File(first.getFolderFor(pkg), "B.java").delete(), is(true));
+
+        IncrementalFiler second = new IncrementalFiler(output, ENCODING, manifest);
+        write(second, "A.java", "a");
+        List<File> deleted = second.finish(true);
+        assertThat(deleted.size(), is(1));
+        assertThat(deleted.get(0).getName(), is("C.java"));
+        assertThat(deleted.get(0).exists(), is(false));
+    }
+
+    private void write(IncrementalFiler filer, String name, String contents) throws IOException {
+        PrintWriter writer = filer.openFor(pkg, name);
+        try {
+            writer.print(contents);
+        }
+        finally {
+            writer.close();
+        }
+        assertThat(writer.checkError(), is(false));
+    }
+}
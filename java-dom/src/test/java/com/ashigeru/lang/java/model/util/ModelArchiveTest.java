@@ -0,0 +1,350 @@
+/*
+ * Copyright 2011 @ashigeru.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package com.ashigeru.lang.java.model.util;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import com.ashigeru.lang.java.model.syntax.ClassDeclaration;
+import com.ashigeru.lang.java.model.syntax.Comment;
+import com.ashigeru.lang.java.model.syntax.CompilationUnit;
+import com.ashigeru.lang.java.model.syntax.DocElement;
+import com.ashigeru.lang.java.model.syntax.Expression;
+import com.ashigeru.lang.java.model.syntax.FieldDeclaration;
+import com.ashigeru.lang.java.model.syntax.FormalParameterDeclaration;
+import com.ashigeru.lang.java.model.syntax.ImportDeclaration;
+import com.ashigeru.lang.java.model.syntax.InfixExpression;
+import com.ashigeru.lang.java.model.syntax.InfixOperator;
+import com.ashigeru.lang.java.model.syntax.Literal;
+import com.ashigeru.lang.java.model.syntax.LiteralKind;
+import com.ashigeru.lang.java.model.syntax.MethodDeclaration;
+import com.ashigeru.lang.java.model.syntax.Model;
+import com.ashigeru.lang.java.model.syntax.ModelFactory;
+import com.ashigeru.lang.java.model.syntax.ModelKind;
+import com.ashigeru.lang.java.model.syntax.ModifierKind;
+import com.ashigeru.lang.java.model.syntax.Name;
+import com.ashigeru.lang.java.model.syntax.PropertyKind;
+import com.ashigeru.lang.java.model.syntax.SimpleName;
+import com.ashigeru.lang.java.model.syntax.Type;
+import com.ashigeru.lang.java.model.syntax.TypeParameterDeclaration;
+
+/**
+ * Test for {@link ModelArchive} and {@link ModelArchiveWriter}.
+ */
+public class ModelArchiveTest {
+
+    ModelFactory f = Models.getModelFactory();
+
+    /**
+     * アーカイブ上のモデルを参照する。
+     * @throws Exception if occur
+     */
+    @Test
+    public void simple() throws Exception {
+        Model model = unit();
+        ModelArchive archive = archive(model);
+        assertThat(archive.size(), is(1));
+
+        Model view = archive.get(0);
+        assertThat(view, instanceOf(CompilationUnit.class));
+        assertThat(view.getModelKind(), is(ModelKind.COMPILATION_UNIT));
+        assertThat(view, is(model));
+        assertThat(model, is(view));
+        assertThat(view.hashCode(), is(model.hashCode()));
+        assertThat(view.toString(), is(model.toString()));
+    }
+
+    /**
+     * 子要素を遅延して取り出す。
+     * @throws Exception if occur
+     */
+    @Test
+    public void properties() throws Exception {
+        ModelArchive archive = archive(unit());
+        CompilationUnit unit = (CompilationUnit) archive.get(0);
+        assertThat(unit.getPackageDeclaration().getName(),
+                is(Models.toName(f, "com.example")));
+        assertThat(unit.getImportDeclarations().size(), is(0));
+        ClassDeclaration type = (ClassDeclaration) unit.getTypeDeclarations().get(0);
+        assertThat(type.getName().getToken(), is("Hello"));
+        assertThat(type.getJavadoc(), is(nullValue()));
+        assertThat(type.getSuperClass(), is(nullValue()));
+        assertThat(type.getSuperInterfaceTypes().isEmpty(), is(true));
+
+        FieldDeclaration field = (FieldDeclaration) type.getBodyDeclarations().get(0);
+        assertThat(field.getVariableDeclarators().get(0).getInitializer(), is(nullValue()));
+
+        MethodDeclaration getter = (MethodDeclaration) type.getBodyDeclarations().get(1);
+        assertThat(getter.getJavadoc().getBlocks().get(0).getTag(), is(""));
+        assertThat(getter.getJavadoc().getBlocks().get(0).getElements().isEmpty(), is(true));
+        assertThat(getter.getJavadoc().getBlocks().get(1).getTag(), is("@author"));
+        assertThat(getter.getJavadoc().getBlocks().get(1).getElements().get(0),
+                is((Object) f.newDocText("あ")));
+        assertThat(getter.getFormalParameters().isEmpty(), is(true));
+
+        MethodDeclaration setter = (MethodDeclaration) type.getBodyDeclarations().get(2);
+        assertThat(setter.getBody(), is(nullValue()));
+    }
+
+    /**
+     * 同一の部分木を複数の箇所から参照するモデル。
+     * @throws Exception if occur
+     */
+    @Test
+    public void shared() throws Exception {
+        ClassDeclaration type = (ClassDeclaration) ((CompilationUnit) archive(unit()).get(0))
+                .getTypeDeclarations().get(0);
+        FieldDeclaration field = (FieldDeclaration) type.getBodyDeclarations().get(0);
+        MethodDeclaration getter = (MethodDeclaration) type.getBodyDeclarations().get(1);
+        MethodDeclaration setter = (MethodDeclaration) type.getBodyDeclarations().get(2);
+
+        Type fieldType = field.getType();
+        assertThat(getter.getReturnType(), is((Object) fieldType));
+        assertThat(getter.getReturnType().hashCode(), is(fieldType.hashCode()));
+        assertThat(setter.getFormalParameters().get(0).getType(), is((Object) fieldType));
+        assertThat(fieldType, is((Object) Models.toType(f, String.class)));
+
+        SimpleName name = field.getVariableDeclarators().get(0).getName();
+        assertThat(setter.getFormalParameters().get(0).getName(), is((Object) name));
+    }
+
+    /**
+     * 複数のモデル。
+     * @throws Exception if occur
+     */
+    @Test
+    public void multiple() throws Exception {
+        Model first = unit();
+        Model second = Models.toName(f, "com.example.Hello");
+        ModelArchive archive = archive(first, second, first);
+        assertThat(archive.size(), is(3));
+        assertThat(archive.get(0), is(first));
+        assertThat(archive.get(1), is(second));
+        assertThat(archive.get(2), is(first));
+        assertThat(((Name) archive.get(1)).toNameString(), is("com.example.Hello"));
+    }
+
+    /**
+     * ファイルをメモリマップして開く。
+     * @throws Exception if occur
+     */
+    @Test
+    public void file() throws Exception {
+        Model model = unit();
+        File file = File.createTempFile("archive", ".bin");
+        try {
+            ModelArchiveWriter writer = new ModelArchiveWriter(
+                    new FileOutputStream(file).getChannel());
+            writer.write(model);
+            writer.close();
+
+            ModelArchive archive = ModelArchive.open(file);
+            assertThat(archive.size(), is(1));
+            assertThat(archive.get(0), is(model));
+        }
+        finally {
+            file.delete();
+        }
+    }
+
+    /**
+     * 壊れたアーカイブ。
+     * @throws Exception if occur
+     */
+    @Test(expected = IOException.class)
+    public void broken() throws Exception {
+        new ModelArchive(ByteBuffer.wrap(new byte[32]));
+    }
+
+    /**
+     * ビューにはトレイトを登録できない。
+     * @throws Exception if occur
+     */
+    @Test(expected = UnsupportedOperationException.class)
+    public void trait() throws Exception {
+        Model view = archive(unit()).get(0);
+        assertThat(view.findModelTrait(String.class), is(nullValue()));
+        view.putModelTrait(String.class, "trait");
+    }
+
+    /**
+     * モデルの種類に固有のメソッド。
+     * @throws Exception if occur
+     */
+    @Test
+    public void specific() throws Exception {
+        ModelArchive archive = archive(
+                Models.toLiteral(f, 1L),
+                Models.toLiteral(f, "hello"),
+                Models.toName(f, "com.example.Hello"),
+                f.newSimpleName("Hello"));
+        assertThat(((Literal) archive.get(0)).getLiteralKind(), is(LiteralKind.LONG));
+        assertThat(((Literal) archive.get(1)).getLiteralKind(), is(LiteralKind.STRING));
+
+        Name qualified = (Name) archive.get(2);
+        assertThat(qualified.getLastSegment(), is(f.newSimpleName("Hello")));
+        assertThat(qualified.toNameList(), is(Models.toName(f, "com.example.Hello").toNameList()));
+        assertThat(qualified.toNameString(), is("com.example.Hello"));
+
+        Name simple = (Name) archive.get(3);
+        assertThat(simple.getLastSegment(), sameInstance(simple));
+        assertThat(simple.toNameList(), is(Arrays.asList((SimpleName) simple)));
+        assertThat(simple.toNameString(), is("Hello"));
+    }
+
+    /**
+     * 同じビューから同じ子要素を取得する。
+     * @throws Exception if occur
+     */
+    @Test
+    public void identity() throws Exception {
+        CompilationUnit unit = (CompilationUnit) archive(unit()).get(0);
+        assertThat(unit.getPackageDeclaration(), sameInstance(unit.getPackageDeclaration()));
+        assertThat(unit.getTypeDeclarations().get(0), sameInstance(unit.getTypeDeclarations().get(0)));
+        assertThat(unit.getProperty(PropertyKind.COMPILATION_UNIT_PACKAGE_DECLARATION),
+                sameInstance((Object) unit.getPackageDeclaration()));
+        assertThat(unit.isFrozen(), is(true));
+    }
+
+    /**
+     * ビューの一部のプロパティを変更したコピーを作成する。
+     * @throws Exception if occur
+     */
+    @Test
+    public void with() throws Exception {
+        ModelArchive archive = archive(
+                f.newSimpleName("Hello"),
+                f.newInfixExpression(
+                        f.newInfixExpression(f.newSimpleName("x"), InfixOperator.PLUS, f.newSimpleName("y")),
+                        InfixOperator.PLUS,
+                        f.newSimpleName("z")));
+        SimpleName name = (SimpleName) archive.get(0);
+        SimpleName renamed = name.withToken("World");
+        assertThat(renamed.getToken(), is("World"));
+        assertThat(renamed.isFrozen(), is(false));
+        assertThat(name.getToken(), is("Hello"));
+
+        InfixExpression infix = (InfixExpression) archive.get(1);
+        InfixExpression copy = infix.withOperator(InfixOperator.TIMES);
+        assertThat(copy.getOperator(), is(InfixOperator.TIMES));
+        assertThat(copy.getRightOperand(), sameInstance(infix.getRightOperand()));
+        assertThat(copy.toString().trim(), is("(x + y) * z"));
+        assertThat(infix.getOperator(), is(InfixOperator.PLUS));
+        assertThat(infix.withLeftOperand(infix.getLeftOperand()), is((Object) infix));
+        try {
+            infix.withLeftOperand(null);
+            fail();
+        }
+        catch (IllegalArgumentException e) {
+            // ok.
+        }
+    }
+
+    /**
+     * 非常に深い木。
+     * @throws Exception if occur
+     */
+    @Test
+    public void deep() throws Exception {
+        Expression expr = Models.toLiteral(f, 0);
+        for (int i = 1; i < 100000; i++) {
+            expr = f.newInfixExpression(expr, InfixOperator.PLUS, Models.toLiteral(f, i));
+        }
+        Model view = archive(expr).get(0);
+        assertThat(view.hashCode(), is(expr.hashCode()));
+        int count = 0;
+        ModelWalker walker = new ModelWalker(view);
+        for (ModelWalker.Event event = walker.next(); event != null; event = walker.next()) {
+            if (event == ModelWalker.Event.ENTER) {
+                count++;
+            }
+        }
+        assertThat(count, is(100000 * 2 - 1));
+    }
+
+    /**
+     * アーカイブに固有の状況を含むコンパイル単位を返す。
+     * <ul>
+     *   <li> 同一の部分木 (フィールドの型と名前) を複数の箇所から参照する </li>
+     *   <li> {@code null}のスロット (Javadoc、親クラス、初期化子、メソッド本体) を含む </li>
+     *   <li> 空のリストと空文字列、およびASCIIの範囲外の文字列を含む </li>
+     * </ul>
+     * @return 生成したコンパイル単位
+     */
+    private CompilationUnit unit() {
+        Type type = Models.toType(f, String.class);
+        SimpleName value = f.newSimpleName("value");
+        FieldDeclaration field = f.newFieldDeclaration(
+                null,
+                Arrays.asList(f.newModifier(ModifierKind.PRIVATE)),
+                type,
+                value,
+                null);
+        MethodDeclaration getter = f.newMethodDeclaration(
+                f.newJavadoc(Arrays.asList(
+                        f.newDocBlock("", Collections.<DocElement>emptyList()),
+                        f.newDocBlock("@author", Arrays.asList(f.newDocText("あ"))))),
+                Arrays.asList(f.newModifier(ModifierKind.PUBLIC)),
+                type,
+                f.newSimpleName("getValue"),
+                Collections.<FormalParameterDeclaration>emptyList(),
+                Arrays.asList(f.newReturnStatement(f.newFieldAccessExpression(f.newThis(), value))));
+        MethodDeclaration setter = f.newMethodDeclaration(
+                null,
+                Arrays.asList(f.newModifier(ModifierKind.ABSTRACT)),
+                Collections.<TypeParameterDeclaration>emptyList(),
+                Models.toType(f, void.class),
+                f.newSimpleName("setValue"),
+                Arrays.asList(f.newFormalParameterDeclaration(type, value)),
+                0,
+                Collections.<Type>emptyList(),
+                null);
+        return f.newCompilationUnit(
+                f.newPackageDeclaration(Models.toName(f, "com.example")),
+                Collections.<ImportDeclaration>emptyList(),
+                Arrays.asList(f.newClassDeclaration(
+                        null,
+                        Arrays.asList(
+                                f.newModifier(ModifierKind.PUBLIC),
+                                f.newModifier(ModifierKind.ABSTRACT)),
+                        f.newSimpleName("Hello"),
+                        null,
+                        Collections.<Type>emptyList(),
+                        Arrays.asList(field, getter, setter))),
+                Collections.<Comment>emptyList());
+    }
+
+    private ModelArchive archive(Model... models) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ModelArchiveWriter writer = new ModelArchiveWriter(Channels.newChannel(output), 64);
+        for (Model model : models) {
+            writer.write(model);
+        }
+        writer.close();
+        return new ModelArchive(ByteBuffer.wrap(output.toByteArray()));
+    }
+}
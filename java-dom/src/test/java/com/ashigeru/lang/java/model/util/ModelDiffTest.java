@@ -0,0 +1,146 @@
+/*
+ * Copyright 2011 @ashigeru.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package com.ashigeru.lang.java.model.util;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.ashigeru.lang.java.model.syntax.Block;
+import com.ashigeru.lang.java.model.syntax.Expression;
+import com.ashigeru.lang.java.model.syntax.InfixOperator;
+import com.ashigeru.lang.java.model.syntax.ModelFactory;
+import com.ashigeru.lang.java.model.syntax.PropertyKind;
+import com.ashigeru.lang.java.model.syntax.Statement;
+import com.ashigeru.lang.java.model.util.ModelDiff.Edit;
+import com.ashigeru.lang.java.model.util.ModelDiff.EditKind;
+
+/**
+ * Test for {@link ModelDiff}.
+ */
+public class ModelDiffTest {
+
+    ModelFactory f = Models.getModelFactory();
+
+    /**
+     * 同じ構造の木の差分は空になる。
+     */
+    @Test
+    public void same() {
+        List<Edit> edits = ModelDiff.compute(block(1, 2, 3), block(1, 2, 3));
+        assertThat(edits.size(), is(0));
+    }
+
+    /**
+     * 変更された要素の内側のみが編集される。
+     */
+    @Test
+    public void replace() {
+        Block before = block(1, 2, 3);
+        Block after = block(1, 5, 3);
+        List<Edit> edits = ModelDiff.compute(before, after);
+        assertThat(edits.toString(), edits.size(), is(1));
+        Edit edit = edits.get(0);
+        assertThat(edit.getKind(), is(EditKind.REPLACE));
+        assertThat(edit.getProperty(), is(PropertyKind.LITERAL_TOKEN));
+        assertThat(edit.getBefore(), is((Object) "2"));
+        assertThat(edit.getAfter(), is((Object) "5"));
+        assertThat(edit.getBeforeParent(), is((Object) Models.toLiteral(f, 2)));
+    }
+
+    /**
+     * リストへの挿入と削除。
+     */
+    @Test
+    public void insert_delete() {
+        List<Edit> inserts = ModelDiff.compute(block(1, 2, 3), block(1, 2, 4, 3));
+        assertThat(inserts.toString(), inserts.size(), is(1));
+        assertThat(inserts.get(0).getKind(), is(EditKind.INSERT));
+        assertThat(inserts.get(0).getProperty(), is(PropertyKind.BLOCK_STATEMENTS));
+        assertThat(inserts.get(0).getIndex(), is(2));
+
+        List<Edit> deletes = ModelDiff.compute(block(1, 2, 3, 4), block(2, 4));
+        assertThat(deletes.toString(), deletes.size(), is(2));
+        assertThat(deletes.get(0).getKind(), is(EditKind.DELETE));
+        assertThat(deletes.get(0).getIndex(), is(0));
+        assertThat(deletes.get(1).getKind(), is(EditKind.DELETE));
+        assertThat(deletes.get(1).getIndex(), is(2));
+    }
+
+    /**
+     * 種類の異なるモデルは部分木ごと置き換えられる。
+     */
+    @Test
+    public void replace_kind() {
+        Block before = block(1);
+        Block after = f.newBlock(f.newReturnStatement(null));
+        List<Edit> edits = ModelDiff.compute(before, after);
+        assertThat(edits.toString(), edits.size(), is(1));
+        assertThat(edits.get(0).getKind(), is(EditKind.REPLACE));
+        assertThat(edits.get(0).getIndex(), is(0));
+        assertThat(edits.get(0).getAfter(), is((Object) after.getStatements().get(0)));
+
+        List<Edit> root = ModelDiff.compute(before, Models.toLiteral(f, 1));
+        assertThat(root.size(), is(1));
+        assertThat(root.get(0).getProperty(), is(nullValue()));
+    }
+
+    /**
+     * 凍結されていない非常に深い木の、最も内側の変更。
+     */
+    @Test
+    public void deep() {
+        List<Edit> edits = ModelDiff.compute(chain(0, 100000), chain(1, 100000));
+        assertThat(edits.toString(), edits.size(), is(1));
+        assertThat(edits.get(0).getKind(), is(EditKind.REPLACE));
+        assertThat(edits.get(0).getBefore(), is((Object) "0"));
+        assertThat(edits.get(0).getAfter(), is((Object) "1"));
+    }
+
+    /**
+     * 構造の等しい要素を多数含むリスト。
+     */
+    @Test
+    public void duplicates() {
+        int[] before = new int[2000];
+        int[] after = new int[before.length + 1];
+        after[before.length / 2] = 1;
+        List<Edit> edits = ModelDiff.compute(block(before), block(after));
+        assertThat(edits.toString(), edits.size(), is(1));
+        assertThat(edits.get(0).getKind(), is(EditKind.INSERT));
+        assertThat(edits.get(0).getAfter(), is((Object) f.newExpressionStatement(Models.toLiteral(f, 1))));
+    }
+
+    private Expression chain(int first, int depth) {
+        Expression current = Models.toLiteral(f, first);
+        for (int i = 1; i < depth; i++) {
+            current = f.newInfixExpression(current, InfixOperator.PLUS, Models.toLiteral(f, i));
+        }
+        return current;
+    }
+
+    private Block block(int... values) {
+        List<Statement> statements = new ArrayList<Statement>();
+        for (int value : values) {
+            statements.add(f.newExpressionStatement(Models.toLiteral(f, value)));
+        }
+        return f.newBlock(statements);
+    }
+}
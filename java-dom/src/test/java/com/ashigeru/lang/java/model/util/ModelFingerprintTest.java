@@ -0,0 +1,127 @@
+/*
+ * Copyright 2011 @ashigeru.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package com.ashigeru.lang.java.model.util;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.security.MessageDigest;
+
+import org.junit.Test;
+
+import com.ashigeru.lang.java.internal.model.syntax.SimpleNameImpl;
+import com.ashigeru.lang.java.model.syntax.Expression;
+import com.ashigeru.lang.java.model.syntax.ModelFactory;
+import com.ashigeru.lang.java.model.syntax.SimpleName;
+
+/**
+ * Test for {@link ModelFingerprint}.
+ */
+public class ModelFingerprintTest {
+
+    ModelFactory f = Models.getModelFactory();
+
+    /**
+     * 文書化された正準形式のダイジェストと一致する。
+     * @throws Exception if occur
+     */
+    @Test
+    public void canonical() throws Exception {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        DataOutputStream output = new DataOutputStream(buffer);
+        output.writeInt(11);
+        output.writeBytes("SIMPLE_NAME");
+        output.writeByte(0x03);
+        output.writeInt(5);
+        output.writeBytes("hello");
+        output.close();
+        byte[] expected = MessageDigest.getInstance("MD5").digest(buffer.toByteArray());
+
+        SimpleName name = f.newSimpleName("hello");
+        assertThat(ModelFingerprint.of(name).toByteArray(), is(expected));
+    }
+
+    /**
+     * 同じ構造のモデルは生成方法によらず同じ指紋を持つ。
+     */
+    @Test
+    public void structural() {
+        ModelFactory interning = Models.getInterningModelFactory();
+        Expression a = expression(f, "a", 1);
+        Expression b = expression(interning, "a", 1);
+        Expression c = expression(f, "a", 2);
+        Expression d = expression(f, "b", 1);
+
+        assertThat(ModelFingerprint.of(a), is(ModelFingerprint.of(b)));
+        assertThat(ModelFingerprint.of(a), not(ModelFingerprint.of(c)));
+        assertThat(ModelFingerprint.of(a), not(ModelFingerprint.of(d)));
+        assertThat(ModelFingerprint.of(c), not(ModelFingerprint.of(d)));
+    }
+
+    /**
+     * 文字列やバイト列を経由して指紋を復元する。
+     */
+    @Test
+    public void valueOf() {
+        ModelFingerprint fingerprint = ModelFingerprint.of(expression(f, "a", 1));
+        String string = fingerprint.toString();
+        assertThat(string.length(), is(32));
+        assertThat(ModelFingerprint.valueOf(string), is(fingerprint));
+        assertThat(ModelFingerprint.valueOf(fingerprint.toByteArray()), is(fingerprint));
+        assertThat(new ModelFingerprint(0x0123456789abcdefL, 1L).toString(),
+                is("0123456789abcdef0000000000000001"));
+    }
+
+    /**
+     * 凍結されていないモデルの子孫を変更すると指紋も変化する。
+     */
+    @Test
+    public void descendantModified() {
+        SimpleNameImpl name = (SimpleNameImpl) f.newSimpleName("a");
+        Expression expr = f.newMethodInvocationExpression(
+                null,
+                name,
+                Models.toLiteral(f, 1));
+        ModelFingerprint before = ModelFingerprint.of(expr);
+        assertThat(ModelFingerprint.of(expr), is(before));
+
+        name.setToken("b");
+        ModelFingerprint after = ModelFingerprint.of(expr);
+        assertThat(after, not(before));
+        assertThat(after, is(ModelFingerprint.of(expression(f, "b", 1))));
+    }
+
+    /**
+     * 凍結されたモデルは指紋をキャッシュする。
+     */
+    @Test
+    public void frozen() {
+        Expression expr = expression(f, "a", 1);
+        expr.freeze();
+        ModelFingerprint fingerprint = ModelFingerprint.of(expr);
+        assertThat(ModelFingerprint.of(expr), sameInstance(fingerprint));
+        assertThat(fingerprint, is(ModelFingerprint.of(expression(f, "a", 1))));
+    }
+
+    private Expression expression(ModelFactory factory, String name, int value) {
+        return factory.newMethodInvocationExpression(
+                null,
+                factory.newSimpleName(name),
+                Models.toLiteral(factory, value));
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2011 @ashigeru.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package com.ashigeru.lang.java.model.util;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import com.ashigeru.lang.java.model.syntax.Attribute;
+import com.ashigeru.lang.java.model.syntax.ClassDeclaration;
+import com.ashigeru.lang.java.model.syntax.Comment;
+import com.ashigeru.lang.java.model.syntax.CompilationUnit;
+import com.ashigeru.lang.java.model.syntax.Expression;
+import com.ashigeru.lang.java.model.syntax.FormalParameterDeclaration;
+import com.ashigeru.lang.java.model.syntax.ImportDeclaration;
+import com.ashigeru.lang.java.model.syntax.MethodDeclaration;
+import com.ashigeru.lang.java.model.syntax.Model;
+import com.ashigeru.lang.java.model.syntax.ModelFactory;
+import com.ashigeru.lang.java.model.syntax.ModelKind;
+import com.ashigeru.lang.java.model.syntax.PropertyKind;
+import com.ashigeru.lang.java.model.syntax.SimpleName;
+import com.ashigeru.lang.java.model.syntax.Type;
+import com.ashigeru.lang.java.model.syntax.TypeParameterDeclaration;
+
+/**
+ * Test for {@link ModelIndex}.
+ */
+public class ModelIndexTest {
+
+    ModelFactory f = Models.getModelFactory();
+
+    /**
+     * 親と祖先を検索する。
+     */
+    @Test
+    public void ancestors() {
+        Expression value = Models.toLiteral(f, 100);
+        CompilationUnit unit = unit(value);
+        ModelIndex index = ModelIndex.build(unit);
+
+        assertThat(index.getRoot(), is((Model) unit));
+        assertThat(index.getParent(unit), is(nullValue()));
+        Model parent = index.getParent(value);
+        assertThat(parent.getModelKind(), is(ModelKind.RETURN_STATEMENT));
+        assertThat(index.getProperty(index.getPosition(value)),
+                is(PropertyKind.RETURN_STATEMENT_EXPRESSION));
+
+        MethodDeclaration method = index.findAncestor(value, MethodDeclaration.class);
+        assertThat(method.getName().getToken(), is("method"));
+        ClassDeclaration type = index.findAncestor(value, ClassDeclaration.class);
+        assertThat(type.getName().getToken(), is("Hello"));
+        assertThat(index.findAncestor(unit, ClassDeclaration.class), is(nullValue()));
+
+        assertThat(index.isAncestor(index.getPosition(method), index.getPosition(value)), is(true));
+        assertThat(index.isAncestor(index.getPosition(value), index.getPosition(method)), is(false));
+        assertThat(index.getPosition(f.newSimpleName("unknown")), is(-1));
+    }
+
+    /**
+     * 種類ごとに列挙する。
+     */
+    @Test
+    public void kinds() {
+        CompilationUnit unit = unit(Models.toLiteral(f, 100));
+        ModelIndex index = ModelIndex.build(unit);
+        assertThat(index.getModels(ModelKind.METHOD_DECLARATION).size(), is(1));
+        assertThat(index.getModels(ModelKind.LITERAL).size(), is(1));
+        assertThat(index.getModels(ModelKind.WHILE_STATEMENT).size(), is(0));
+    }
+
+    /**
+     * 単純名を検索する。
+     */
+    @Test
+    public void names() {
+        CompilationUnit unit = unit(f.newSimpleName("p"));
+        ModelIndex index = ModelIndex.build(unit);
+        assertThat(index.findSimpleNames("p").size(), is(2));
+        assertThat(index.findSimpleNames("Hello").size(), is(1));
+        assertThat(index.findSimpleNames("missing").size(), is(0));
+        for (SimpleName name : index.findSimpleNames("p")) {
+            assertThat(name.getToken(), is("p"));
+        }
+    }
+
+    private CompilationUnit unit(Expression value) {
+        FormalParameterDeclaration parameter = f.newFormalParameterDeclaration(
+                Models.toType(f, int.class),
+                f.newSimpleName("p"));
+        MethodDeclaration method = f.newMethodDeclaration(
+                null,
+                Collections.<Attribute>emptyList(),
+                Models.toType(f, int.class),
+                f.newSimpleName("method"),
+                Arrays.asList(parameter),
+                Arrays.asList(f.newReturnStatement(value)));
+        ClassDeclaration type = f.newClassDeclaration(
+                null,
+                Collections.<Attribute>emptyList(),
+                f.newSimpleName("Hello"),
+                Collections.<TypeParameterDeclaration>emptyList(),
+                null,
+                Collections.<Type>emptyList(),
+                Arrays.asList(method));
+        return f.newCompilationUnit(
+                null,
+                Collections.<ImportDeclaration>emptyList(),
+                Arrays.asList(type),
+                Collections.<Comment>emptyList());
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2011 @ashigeru.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package com.ashigeru.lang.java.model.util;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.ashigeru.lang.java.model.syntax.Attribute;
+import com.ashigeru.lang.java.model.syntax.Comment;
+import com.ashigeru.lang.java.model.syntax.CompilationUnit;
+import com.ashigeru.lang.java.model.syntax.FormalParameterDeclaration;
+import com.ashigeru.lang.java.model.syntax.ImportDeclaration;
+import com.ashigeru.lang.java.model.syntax.MethodDeclaration;
+import com.ashigeru.lang.java.model.syntax.MethodInvocationExpression;
+import com.ashigeru.lang.java.model.syntax.Model;
+import com.ashigeru.lang.java.model.syntax.ModelFactory;
+import com.ashigeru.lang.java.model.syntax.ModifierKind;
+import com.ashigeru.lang.java.model.syntax.Type;
+import com.ashigeru.lang.java.model.syntax.TypeBodyDeclaration;
+import com.ashigeru.lang.java.model.syntax.TypeParameterDeclaration;
+
+/**
+ * Test for {@link ModelQuery}.
+ */
+public class ModelQueryTest {
+
+    ModelFactory f = Models.getModelFactory();
+
+    /**
+     * 種類のみの問い合わせ。
+     */
+    @Test
+    public void kind() {
+        List<Model> results = ModelQuery.compile("METHOD_DECLARATION").findAll(unit());
+        assertThat(results.size(), is(3));
+    }
+
+    /**
+     * 条件付きの子孫の問い合わせ。
+     */
+    @Test
+    public void descendant() {
+        ModelQuery query = ModelQuery.compile(
+                "METHOD_DECLARATION[modifiers contains STATIC]//METHOD_INVOCATION_EXPRESSION[name='x']");
+        List<Model> results = query.findAll(unit());
+        assertThat(results.size(), is(1));
+        MethodInvocationExpression invocation = (MethodInvocationExpression) results.get(0);
+        assertThat(invocation.getArguments().size(), is(1));
+    }
+
+    /**
+     * 子の問い合わせ。
+     */
+    @Test
+    public void child() {
+        CompilationUnit unit = unit();
+        assertThat(ModelQuery.compile("/COMPILATION_UNIT/CLASS_DECLARATION").findAll(unit).size(), is(1));
+        assertThat(ModelQuery.compile("/CLASS_DECLARATION").findAll(unit).size(), is(0));
+        assertThat(ModelQuery.compile("CLASS_DECLARATION/METHOD_DECLARATION[name = b]")
+                .findAll(unit).size(), is(1));
+        assertThat(ModelQuery.compile("CLASS_DECLARATION/SIMPLE_NAME").findAll(unit).size(), is(1));
+    }
+
+    /**
+     * 様々な条件。
+     */
+    @Test
+    public void predicates() {
+        CompilationUnit unit = unit();
+        assertThat(ModelQuery.compile("METHOD_DECLARATION[name != a]").findAll(unit).size(), is(2));
+        assertThat(ModelQuery.compile("METHOD_DECLARATION[formalParameters]").findAll(unit).size(), is(1));
+        assertThat(ModelQuery.compile("*[name = 'x']").findAll(unit).size(), is(2));
+        assertThat(ModelQuery.compile("PACKAGE_DECLARATION[name = 'com.example']").findAll(unit).size(), is(1));
+        assertThat(ModelQuery.compile("PACKAGE_DECLARATION[name = 'example']").findAll(unit).size(), is(0));
+        assertThat(ModelQuery.compile("LITERAL[token = 100]").findAll(unit).size(), is(1));
+        assertThat(ModelQuery.compile("METHOD_DECLARATION[returnType = INT]").findAll(unit).size(), is(3));
+    }
+
+    /**
+     * 最初の一つを検索する。
+     */
+    @Test
+    public void findFirst() {
+        Model found = ModelQuery.compile("METHOD_DECLARATION").findFirst(unit());
+        assertThat(((MethodDeclaration) found).getName().getToken(), is("a"));
+        assertThat(ModelQuery.compile("WHILE_STATEMENT").findFirst(unit()), is(nullValue()));
+    }
+
+    /**
+     * 不正な問い合わせ。
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void invalid_kind() {
+        ModelQuery.compile("UNKNOWN_KIND");
+    }
+
+    /**
+     * 不正な問い合わせ。
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void invalid_property() {
+        ModelQuery.compile("METHOD_DECLARATION[unknown]");
+    }
+
+    /**
+     * 不正な問い合わせ。
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void invalid_syntax() {
+        ModelQuery.compile("METHOD_DECLARATION[name = ");
+    }
+
+    private CompilationUnit unit() {
+        List<TypeBodyDeclaration> members = Arrays.<TypeBodyDeclaration>asList(
+                method("a", true, f.newMethodInvocationExpression(
+                        null,
+                        f.newSimpleName("x"),
+                        Models.toLiteral(f, 100))),
+                method("b", false, f.newMethodInvocationExpression(
+                        null,
+                        f.newSimpleName("x"))),
+                method("c", true, f.newMethodInvocationExpression(
+                        null,
+                        f.newSimpleName("y"))));
+        return f.newCompilationUnit(
+                f.newPackageDeclaration(Models.toName(f, "com.example")),
+                Collections.<ImportDeclaration>emptyList(),
+                Arrays.asList(f.newClassDeclaration(
+                        null,
+                        Collections.<Attribute>emptyList(),
+                        f.newSimpleName("Hello"),
+                        Collections.<TypeParameterDeclaration>emptyList(),
+                        null,
+                        Collections.<Type>emptyList(),
+                        members)),
+                Collections.<Comment>emptyList());
+    }
+
+    private MethodDeclaration method(String name, boolean isStatic, MethodInvocationExpression body) {
+        List<Attribute> modifiers = isStatic
+            ? Arrays.<Attribute>asList(f.newModifier(ModifierKind.STATIC))
+            : Collections.<Attribute>emptyList();
+        List<FormalParameterDeclaration> parameters = name.equals("b")
+            ? Arrays.asList(f.newFormalParameterDeclaration(Models.toType(f, int.class), f.newSimpleName("p")))
+            : Collections.<FormalParameterDeclaration>emptyList();
+        return f.newMethodDeclaration(
+                null,
+                modifiers,
+                Models.toType(f, int.class),
+                f.newSimpleName(name),
+                parameters,
+                Arrays.asList(f.newExpressionStatement(body)));
+    }
+}
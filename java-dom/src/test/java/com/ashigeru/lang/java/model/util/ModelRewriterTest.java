@@ -0,0 +1,126 @@
+/*
+ * Copyright 2011 @ashigeru.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package com.ashigeru.lang.java.model.util;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import com.ashigeru.lang.java.model.syntax.Expression;
+import com.ashigeru.lang.java.model.syntax.InfixExpression;
+import com.ashigeru.lang.java.model.syntax.InfixOperator;
+import com.ashigeru.lang.java.model.syntax.Literal;
+import com.ashigeru.lang.java.model.syntax.Model;
+import com.ashigeru.lang.java.model.syntax.ModelFactory;
+import com.ashigeru.lang.java.model.syntax.ModelKind;
+import com.ashigeru.lang.java.model.syntax.Name;
+import com.ashigeru.lang.java.model.syntax.QualifiedName;
+import com.ashigeru.lang.java.model.syntax.SimpleName;
+import com.ashigeru.lang.java.model.util.ModelRewriter.Rule;
+
+/**
+ * Test for {@link ModelRewriter}.
+ */
+public class ModelRewriterTest {
+
+    ModelFactory f = Models.getModelFactory();
+
+    /**
+     * 何も書き換えない。
+     */
+    @Test
+    public void unchanged() {
+        Name name = Models.toName(f, "a.b.c");
+        Name result = new ModelRewriter(f, new Rename("x", "y")).rewrite(name);
+        assertThat(result, sameInstance(name));
+    }
+
+    /**
+     * 変更された経路のみを再構築する。
+     */
+    @Test
+    public void spine() {
+        QualifiedName name = (QualifiedName) Models.toName(f, "a.b.c");
+        QualifiedName result = new ModelRewriter(f, new Rename("c", "d")).rewrite(name);
+        assertThat(result, is(Models.toName(f, "a.b.d")));
+        assertThat(result.getQualifier(), sameInstance(name.getQualifier()));
+    }
+
+    /**
+     * 複数の規則を順に適用する。
+     */
+    @Test
+    public void compose() {
+        Name name = Models.toName(f, "a.b.c");
+        Name result = new ModelRewriter(f, new Rename("a", "x"), new Rename("x", "y")).rewrite(name);
+        assertThat(result, is(Models.toName(f, "y.b.c")));
+    }
+
+    /**
+     * 書き換えた子を利用してさらに親を書き換える。
+     */
+    @Test
+    public void expression() {
+        Expression expr = f.newInfixExpression(
+                f.newInfixExpression(
+                        Models.toLiteral(f, 1),
+                        InfixOperator.PLUS,
+                        Models.toLiteral(f, 2)),
+                InfixOperator.PLUS,
+                Models.toLiteral(f, 3));
+        Rule fold = new Rule() {
+            @Override
+            public Model rewrite(Model model) {
+                if (model.getModelKind() != ModelKind.INFIX_EXPRESSION) {
+                    return model;
+                }
+                InfixExpression infix = (InfixExpression) model;
+                if (infix.getOperator() != InfixOperator.PLUS
+                        || (infix.getLeftOperand() instanceof Literal) == false
+                        || (infix.getRightOperand() instanceof Literal) == false) {
+                    return model;
+                }
+                int left = Integer.parseInt(((Literal) infix.getLeftOperand()).getToken());
+                int right = Integer.parseInt(((Literal) infix.getRightOperand()).getToken());
+                return Models.toLiteral(f, left + right);
+            }
+        };
+        Expression result = new ModelRewriter(f, fold).rewrite(expr);
+        assertThat(result, is((Expression) Models.toLiteral(f, 6)));
+    }
+
+    private class Rename extends Rule {
+
+        private final String from;
+
+        private final String to;
+
+        Rename(String from, String to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public Model rewrite(Model model) {
+            if (model.getModelKind() == ModelKind.SIMPLE_NAME
+                    && ((SimpleName) model).getToken().equals(from)) {
+                return f.newSimpleName(to);
+            }
+            return model;
+        }
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2011 @ashigeru.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package com.ashigeru.lang.java.model.util;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.ashigeru.lang.java.model.syntax.Attribute;
+import com.ashigeru.lang.java.model.syntax.BasicTypeKind;
+import com.ashigeru.lang.java.model.syntax.Comment;
+import com.ashigeru.lang.java.model.syntax.CompilationUnit;
+import com.ashigeru.lang.java.model.syntax.Expression;
+import com.ashigeru.lang.java.model.syntax.FormalParameterDeclaration;
+import com.ashigeru.lang.java.model.syntax.ImportDeclaration;
+import com.ashigeru.lang.java.model.syntax.ModelFactory;
+import com.ashigeru.lang.java.model.syntax.Statement;
+import com.ashigeru.lang.java.model.syntax.Type;
+import com.ashigeru.lang.java.model.syntax.TypeBodyDeclaration;
+import com.ashigeru.lang.java.model.syntax.TypeDeclaration;
+import com.ashigeru.lang.java.model.syntax.TypeParameterDeclaration;
+
+/**
+ * Test for {@link ModelValidator}.
+ */
+public class ModelValidatorTest {
+
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    /**
+     * Cleans up the executor.
+     */
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 検査を省略したファクトリで、通常のファクトリと同じ構造のモデルを生成する。
+     * @throws Exception if occur
+     */
+    @Test
+    public void trusted() throws Exception {
+        CompilationUnit unit = unit(Models.getTrustedModelFactory(), "a");
+        assertThat(unit, is(unit(Models.getModelFactory(), "a")));
+        ModelValidator.validate(unit);
+        ModelValidator.validate(unit, executor);
+    }
+
+    /**
+     * 必須のプロパティが{@code null}であるモデルを検出する。
+     */
+    @Test
+    public void validate_null() {
+        ModelFactory f = Models.getTrustedModelFactory();
+        Statement statement = f.newExpressionStatement(null);
+        try {
+            ModelValidator.validate(f.newBlock(statement));
+            fail();
+        }
+        catch (IllegalArgumentException e) {
+            // ok.
+        }
+    }
+
+    /**
+     * {@code null}を含むリストや空のリストを検出する。
+     */
+    @Test
+    public void validate_list() {
+        ModelFactory f = Models.getTrustedModelFactory();
+        try {
+            ModelValidator.validate(f.newBlock(Arrays.asList((Statement) null)));
+            fail();
+        }
+        catch (IllegalArgumentException e) {
+            // ok.
+        }
+        try {
+            ModelValidator.validate(f.newStatementExpressionList(Collections.<Expression>emptyList()));
+            fail();
+        }
+        catch (IllegalArgumentException e) {
+            // ok.
+        }
+    }
+
+    /**
+     * 不正な字句を検出する。
+     * @throws Exception if occur
+     */
+    @Test
+    public void validate_token() throws Exception {
+        CompilationUnit unit = unit(Models.getTrustedModelFactory(), "class");
+        try {
+            ModelValidator.validate(unit);
+            fail();
+        }
+        catch (IllegalArgumentException e) {
+            // ok.
+        }
+        try {
+            ModelValidator.validate(unit, executor);
+            fail();
+        }
+        catch (IllegalArgumentException e) {
+            assertThat(e.getMessage(), containsString("class"));
+        }
+    }
+
+    private CompilationUnit unit(ModelFactory f, String name) {
+        List<TypeBodyDeclaration> members = new ArrayList<TypeBodyDeclaration>();
+        for (int i = 0; i < 100; i++) {
+            members.add(f.newMethodDeclaration(
+                    null,
+                    Collections.<Attribute>emptyList(),
+                    Collections.<TypeParameterDeclaration>emptyList(),
+                    f.newBasicType(BasicTypeKind.VOID),
+                    f.newSimpleName(i == 50 ? name : "m" + i),
+                    Collections.<FormalParameterDeclaration>emptyList(),
+                    0,
+                    Collections.<Type>emptyList(),
+                    f.newBlock(f.newReturnStatement(f.newLiteral("1")))));
+        }
+        return f.newCompilationUnit(
+                null,
+                Collections.<ImportDeclaration>emptyList(),
+                Collections.<TypeDeclaration>singletonList(f.newClassDeclaration(
+                        null,
+                        Collections.<Attribute>emptyList(),
+                        f.newSimpleName("Hello"),
+                        Collections.<TypeParameterDeclaration>emptyList(),
+                        null,
+                        Collections.<Type>emptyList(),
+                        members)),
+                Collections.<Comment>emptyList());
+    }
+}
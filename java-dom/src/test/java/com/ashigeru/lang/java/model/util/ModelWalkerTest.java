@@ -0,0 +1,148 @@
+/*
+ * Copyright 2011 @ashigeru.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package com.ashigeru.lang.java.model.util;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.ashigeru.lang.java.model.syntax.Expression;
+import com.ashigeru.lang.java.model.syntax.InfixOperator;
+import com.ashigeru.lang.java.model.syntax.Model;
+import com.ashigeru.lang.java.model.syntax.ModelFactory;
+import com.ashigeru.lang.java.model.syntax.PropertyKind;
+import com.ashigeru.lang.java.model.util.ModelWalker.Callback;
+import com.ashigeru.lang.java.model.util.ModelWalker.Control;
+import com.ashigeru.lang.java.model.util.ModelWalker.Event;
+
+/**
+ * Test for {@link ModelWalker}.
+ */
+public class ModelWalkerTest {
+
+    ModelFactory f = Models.getModelFactory();
+
+    /**
+     * 単純な走査。
+     */
+    @Test
+    public void simple() {
+        Model name = Models.toName(f, "a.b");
+        ModelWalker walker = new ModelWalker(name);
+        List<String> events = new ArrayList<String>();
+        for (Event event = walker.next(); event != null; event = walker.next()) {
+            events.add(event + ":" + walker.getModel() + ":" + walker.getDepth());
+        }
+        assertThat(events, is(list(
+                "ENTER:a.b:0",
+                "ENTER:a:1",
+                "EXIT:a:1",
+                "ENTER:b:1",
+                "EXIT:b:1",
+                "EXIT:a.b:0")));
+    }
+
+    /**
+     * 親とプロパティ。
+     */
+    @Test
+    public void parent() {
+        Model name = Models.toName(f, "a.b");
+        ModelWalker walker = new ModelWalker(name);
+        assertThat(walker.next(), is(Event.ENTER));
+        assertThat(walker.getParent(), is(nullValue()));
+        assertThat(walker.getProperty(), is(nullValue()));
+        assertThat(walker.next(), is(Event.ENTER));
+        assertThat(walker.getParent(), is(name));
+        assertThat(walker.getProperty(), is(PropertyKind.QUALIFIED_NAME_QUALIFIER));
+    }
+
+    /**
+     * 子要素の走査を省略する。
+     */
+    @Test
+    public void skip() {
+        Model name = Models.toName(f, "a.b.c");
+        final List<Model> entered = new ArrayList<Model>();
+        boolean completed = ModelWalker.walk(name, new Callback<NoThrow>() {
+            @Override
+            public Control enter(Model model, ModelWalker walker) {
+                entered.add(model);
+                return walker.getDepth() == 1 ? Control.SKIP : Control.CONTINUE;
+            }
+        });
+        assertThat(completed, is(true));
+        assertThat(entered, is(list(name, Models.toName(f, "a.b"), f.newSimpleName("c"))));
+    }
+
+    /**
+     * 走査を中断する。
+     */
+    @Test
+    public void abort() {
+        Model name = Models.toName(f, "a.b.c");
+        final List<Model> entered = new ArrayList<Model>();
+        boolean completed = ModelWalker.walk(name, new Callback<NoThrow>() {
+            @Override
+            public Control enter(Model model, ModelWalker walker) {
+                entered.add(model);
+                return entered.size() == 3 ? Control.ABORT : Control.CONTINUE;
+            }
+        });
+        assertThat(completed, is(false));
+        assertThat(entered.size(), is(3));
+    }
+
+    /**
+     * 非常に深い木を走査する。
+     */
+    @Test
+    public void deep() {
+        Expression a = chain(100000);
+        Expression b = chain(100000);
+        int count = 0;
+        ModelWalker walker = new ModelWalker(a);
+        for (Event event = walker.next(); event != null; event = walker.next()) {
+            if (event == Event.ENTER) {
+                count++;
+            }
+        }
+        assertThat(count, is(100000 * 2 + 1));
+        assertThat(a.hashCode(), is(b.hashCode()));
+        assertThat(a.equals(b), is(true));
+        assertThat(a.equals(chain(99999)), is(false));
+    }
+
+    private Expression chain(int depth) {
+        Expression current = Models.toLiteral(f, 0);
+        for (int i = 0; i < depth; i++) {
+            current = f.newInfixExpression(current, InfixOperator.PLUS, Models.toLiteral(f, "x"));
+        }
+        return current;
+    }
+
+    private static <T> List<T> list(T... values) {
+        List<T> results = new ArrayList<T>();
+        for (T value : values) {
+            results.add(value);
+        }
+        return results;
+    }
+}
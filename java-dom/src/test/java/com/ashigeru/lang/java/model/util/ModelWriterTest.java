@@ -0,0 +1,273 @@
+/*
+ * Copyright 2011 @ashigeru.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package com.ashigeru.lang.java.model.util;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.ashigeru.lang.java.model.syntax.Comment;
+import com.ashigeru.lang.java.model.syntax.CompilationUnit;
+import com.ashigeru.lang.java.model.syntax.Expression;
+import com.ashigeru.lang.java.model.syntax.FormalParameterDeclaration;
+import com.ashigeru.lang.java.model.syntax.ImportDeclaration;
+import com.ashigeru.lang.java.model.syntax.InfixOperator;
+import com.ashigeru.lang.java.model.syntax.Model;
+import com.ashigeru.lang.java.model.syntax.ModelFactory;
+import com.ashigeru.lang.java.model.syntax.ModelKind;
+import com.ashigeru.lang.java.model.syntax.ModifierKind;
+import com.ashigeru.lang.java.model.syntax.PropertyKind;
+import com.ashigeru.lang.java.model.syntax.Statement;
+import com.ashigeru.lang.java.model.syntax.Type;
+import com.ashigeru.lang.java.model.syntax.TypeParameterDeclaration;
+
+/**
+ * Test for {@link ModelWriter} and {@link ModelReader}.
+ */
+public class ModelWriterTest {
+
+    ModelFactory f = Models.getModelFactory();
+
+    /**
+     * 単純なモデル。
+     * @throws Exception if occur
+     */
+    @Test
+    public void simple() throws Exception {
+        Model model = Models.toName(f, "com.example.Hello");
+        assertThat(restore(model), is(Arrays.asList(model)));
+    }
+
+    /**
+     * 様々な種類のプロパティを含むモデル。
+     * @throws Exception if occur
+     */
+    @Test
+    public void compilationUnit() throws Exception {
+        Model model = unit();
+        assertThat(restore(model), is(Arrays.asList(model)));
+    }
+
+    /**
+     * 複数のモデルを続けて書き出す。
+     * @throws Exception if occur
+     */
+    @Test
+    public void multiple() throws Exception {
+        Model first = unit();
+        Model second = Models.toName(f, "com.example.Hello");
+        Model third = f.newSimpleName("Hello");
+        assertThat(restore(first, second, third),
+                is(Arrays.asList(first, second, third)));
+    }
+
+    /**
+     * 何も書き出さない場合。
+     * @throws Exception if occur
+     */
+    @Test
+    public void empty() throws Exception {
+        assertThat(restore(), is(Collections.<Model>emptyList()));
+    }
+
+    /**
+     * 小さなバッファでバッファ境界をまたぐ。
+     * @throws Exception if occur
+     */
+    @Test
+    public void smallBuffer() throws Exception {
+        Model model = unit();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ModelWriter writer = new ModelWriter(Channels.newChannel(output), 32);
+        writer.write(model);
+        writer.write(model);
+        writer.close();
+
+        ModelReader reader = new ModelReader(
+                f,
+                Channels.newChannel(new ByteArrayInputStream(output.toByteArray())),
+                32);
+        assertThat(reader.read(), is(model));
+        assertThat(reader.read(), is(model));
+        assertThat(reader.read(), is(nullValue()));
+        reader.close();
+    }
+
+    /**
+     * 壊れた入力。
+     * @throws Exception if occur
+     */
+    @Test(expected = IOException.class)
+    public void broken() throws Exception {
+        ModelReader reader = new ModelReader(
+                f,
+                Channels.newChannel(new ByteArrayInputStream(new byte[] { 1, 2, 3, 4, 5 })));
+        reader.read();
+    }
+
+    /**
+     * 非常に深い木を書き出して読み出す。
+     * @throws Exception if occur
+     */
+    @Test
+    public void deep() throws Exception {
+        Expression expr = Models.toLiteral(f, 0);
+        for (int i = 1; i < 100000; i++) {
+            expr = f.newInfixExpression(expr, InfixOperator.PLUS, Models.toLiteral(f, i));
+        }
+        List<Model> restored = restore(expr);
+        assertThat(restored.size(), is(1));
+        assertTrue(restored.get(0).equals(expr));
+    }
+
+    /**
+     * モデルの定義が異なる入力。
+     * @throws Exception if occur
+     */
+    @Test(expected = IOException.class)
+    public void incompatible() throws Exception {
+        ByteBuffer buf = header();
+        buf.putInt(buf.position() - 4, ModelCodec.SCHEMA_HASH + 1);
+        putVarint(buf, ModelKind.SIMPLE_NAME.ordinal() + 1);
+        putVarint(buf, 0);
+        read(buf);
+    }
+
+    /**
+     * 実際の入力より大きなリストの要素数が指定された場合。
+     * @throws Exception if occur
+     */
+    @Test(expected = EOFException.class)
+    public void hugeList() throws Exception {
+        ByteBuffer buf = header();
+        putVarint(buf, ModelKind.BLOCK.ordinal() + 1);
+        putVarint(buf, Integer.MAX_VALUE);
+        read(buf);
+    }
+
+    /**
+     * 実際の入力より長い文字列の長さが指定された場合。
+     * @throws Exception if occur
+     */
+    @Test(expected = EOFException.class)
+    public void hugeString() throws Exception {
+        ByteBuffer buf = header();
+        putVarint(buf, ModelKind.SIMPLE_NAME.ordinal() + 1);
+        putVarint(buf, Integer.MAX_VALUE);
+        buf.put(new byte[100]);
+        read(buf);
+    }
+
+    private ByteBuffer header() {
+        ByteBuffer buf = ByteBuffer.allocate(256);
+        buf.putInt(ModelCodec.MAGIC);
+        putVarint(buf, ModelCodec.VERSION);
+        putVarint(buf, ModelKind.values().length);
+        putVarint(buf, PropertyKind.values().length);
+        buf.putInt(ModelCodec.SCHEMA_HASH);
+        return buf;
+    }
+
+    private void putVarint(ByteBuffer buf, int value) {
+        int rest = value;
+        while ((rest & ~0x7f) != 0) {
+            buf.put((byte) ((rest & 0x7f) | 0x80));
+            rest >>>= 7;
+        }
+        buf.put((byte) rest);
+    }
+
+    private Model read(ByteBuffer buf) throws IOException {
+        ModelReader reader = new ModelReader(
+                f,
+                Channels.newChannel(new ByteArrayInputStream(buf.array(), 0, buf.position())));
+        try {
+            return reader.read();
+        }
+        finally {
+            reader.close();
+        }
+    }
+
+    private Model unit() {
+        FormalParameterDeclaration parameter = f.newFormalParameterDeclaration(
+                Arrays.asList(f.newModifier(ModifierKind.FINAL)),
+                Models.toType(f, int.class),
+                true,
+                f.newSimpleName("values"),
+                2);
+        Statement body = f.newReturnStatement(f.newInfixExpression(
+                Models.toLiteral(f, 1),
+                InfixOperator.PLUS,
+                Models.toLiteral(f, "あ")));
+        CompilationUnit unit = f.newCompilationUnit(
+                f.newPackageDeclaration(Models.toName(f, "com.example")),
+                Collections.<ImportDeclaration>emptyList(),
+                Arrays.asList(f.newClassDeclaration(
+                        f.newJavadoc(Arrays.asList(
+                                f.newDocBlock("", Arrays.asList(f.newDocText("Hello"))),
+                                f.newDocBlock("@author", Arrays.asList(f.newDocText("Hello"))))),
+                        Arrays.asList(f.newModifier(ModifierKind.PUBLIC)),
+                        f.newSimpleName("Hello"),
+                        Collections.<TypeParameterDeclaration>emptyList(),
+                        null,
+                        Collections.<Type>emptyList(),
+                        Arrays.asList(f.newMethodDeclaration(
+                                null,
+                                Arrays.asList(f.newModifier(ModifierKind.PUBLIC)),
+                                Models.toType(f, String.class),
+                                f.newSimpleName("hello"),
+                                Arrays.asList(parameter),
+                                Arrays.asList(body))))),
+                Collections.<Comment>emptyList());
+        return unit;
+    }
+
+    private List<Model> restore(Model... models) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ModelWriter writer = new ModelWriter(Channels.newChannel(output));
+        for (Model model : models) {
+            writer.write(model);
+        }
+        writer.close();
+
+        ModelReader reader = new ModelReader(
+                f,
+                Channels.newChannel(new ByteArrayInputStream(output.toByteArray())));
+        List<Model> results = new ArrayList<Model>();
+        while (true) {
+            Model model = reader.read();
+            if (model == null) {
+                break;
+            }
+            results.add(model);
+        }
+        reader.close();
+        return results;
+    }
+}
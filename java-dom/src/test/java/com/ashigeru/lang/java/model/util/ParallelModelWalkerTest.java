@@ -0,0 +1,188 @@
+/*
+ * Copyright 2011 @ashigeru.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package com.ashigeru.lang.java.model.util;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.ashigeru.lang.java.model.syntax.Attribute;
+import com.ashigeru.lang.java.model.syntax.Comment;
+import com.ashigeru.lang.java.model.syntax.FormalParameterDeclaration;
+import com.ashigeru.lang.java.model.syntax.ImportDeclaration;
+import com.ashigeru.lang.java.model.syntax.Model;
+import com.ashigeru.lang.java.model.syntax.ModelFactory;
+import com.ashigeru.lang.java.model.syntax.SimpleName;
+import com.ashigeru.lang.java.model.syntax.TypeBodyDeclaration;
+import com.ashigeru.lang.java.model.syntax.TypeDeclaration;
+import com.ashigeru.lang.java.model.syntax.Type;
+import com.ashigeru.lang.java.model.syntax.TypeParameterDeclaration;
+import com.ashigeru.lang.java.model.util.ModelWalker.Event;
+import com.ashigeru.lang.java.model.util.ParallelModelWalker.Reduction;
+
+/**
+ * Test for {@link ParallelModelWalker}.
+ */
+public class ParallelModelWalkerTest {
+
+    ModelFactory f = Models.getModelFactory();
+
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    /**
+     * Cleans up the executor.
+     */
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * モデルの個数を数える。
+     * @throws Exception if occur
+     */
+    @Test
+    public void count() throws Exception {
+        Model unit = unit(10, 20);
+        for (int threshold : new int[] { 1, 10, 100, Integer.MAX_VALUE }) {
+            ParallelModelWalker walker = new ParallelModelWalker(executor, threshold);
+            assertThat(walker.walk(unit, new Counter()), is(count(unit)));
+        }
+    }
+
+    /**
+     * 名前を収集する。
+     * @throws Exception if occur
+     */
+    @Test
+    public void collect() throws Exception {
+        Model unit = unit(3, 4);
+        ParallelModelWalker walker = new ParallelModelWalker(executor, 1);
+        Set<String> names = walker.walk(unit, new Reduction<Set<String>>() {
+            @Override
+            public Set<String> newResult() {
+                return new HashSet<String>();
+            }
+            @Override
+            public Set<String> accumulate(Set<String> result, Model model) {
+                if (model instanceof SimpleName) {
+                    result.add(((SimpleName) model).getToken());
+                }
+                return result;
+            }
+            @Override
+            public Set<String> combine(Set<String> left, Set<String> right) {
+                left.addAll(right);
+                return left;
+            }
+        });
+        assertThat(names.contains("C0"), is(true));
+        assertThat(names.contains("C2"), is(true));
+        assertThat(names.contains("m3"), is(true));
+        assertThat(names.contains("p"), is(true));
+    }
+
+    /**
+     * 処理中の例外。
+     * @throws Exception if occur
+     */
+    @Test(expected = UnsupportedOperationException.class)
+    public void exception() throws Exception {
+        Model unit = unit(3, 4);
+        ParallelModelWalker walker = new ParallelModelWalker(executor, 1);
+        walker.walk(unit, new Counter() {
+            @Override
+            public Integer accumulate(Integer result, Model model) {
+                if (model instanceof TypeBodyDeclaration) {
+                    throw new UnsupportedOperationException();
+                }
+                return super.accumulate(result, model);
+            }
+        });
+    }
+
+    private int count(Model model) {
+        int count = 0;
+        ModelWalker walker = new ModelWalker(model);
+        for (Event event = walker.next(); event != null; event = walker.next()) {
+            if (event == Event.ENTER) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private Model unit(int types, int methods) {
+        List<TypeDeclaration> decls = new ArrayList<TypeDeclaration>();
+        for (int i = 0; i < types; i++) {
+            List<TypeBodyDeclaration> members = new ArrayList<TypeBodyDeclaration>();
+            for (int j = 0; j < methods; j++) {
+                FormalParameterDeclaration parameter = f.newFormalParameterDeclaration(
+                        Models.toType(f, int.class),
+                        f.newSimpleName("p"));
+                members.add(f.newMethodDeclaration(
+                        null,
+                        Collections.<Attribute>emptyList(),
+                        Models.toType(f, int.class),
+                        f.newSimpleName("m" + j),
+                        Collections.singletonList(parameter),
+                        Collections.singletonList(f.newReturnStatement(
+                                Models.toLiteral(f, j)))));
+            }
+            decls.add(f.newClassDeclaration(
+                    null,
+                    Collections.<Attribute>emptyList(),
+                    f.newSimpleName("C" + i),
+                    Collections.<TypeParameterDeclaration>emptyList(),
+                    null,
+                    Collections.<Type>emptyList(),
+                    members));
+        }
+        return f.newCompilationUnit(
+                f.newPackageDeclaration(Models.toName(f, "com.example")),
+                Collections.<ImportDeclaration>emptyList(),
+                decls,
+                Collections.<Comment>emptyList());
+    }
+
+    private static class Counter extends Reduction<Integer> {
+
+        @Override
+        public Integer newResult() {
+            return 0;
+        }
+
+        @Override
+        public Integer accumulate(Integer result, Model model) {
+            return result + 1;
+        }
+
+        @Override
+        public Integer combine(Integer left, Integer right) {
+            return left + right;
+        }
+    }
+}
@@ -19,6 +19,8 @@ import java.text.MessageFormat;
 import java.util.Collections;
 import java.util.List;
 
+import com.ashigeru.lang.java.internal.model.util.IdentifierTable;
+
 /**
  * 単純名を表す。
  * @author Suguru ARAKAWA (Gluegent, Inc.)
@@ -83,7 +85,7 @@ public final class IrDocSimpleName extends IrDocName {
                     id.charAt(0)));
             }
         }
-        this.identifier = id;
+        this.identifier = IdentifierTable.intern(id);
     }
 
     @Override